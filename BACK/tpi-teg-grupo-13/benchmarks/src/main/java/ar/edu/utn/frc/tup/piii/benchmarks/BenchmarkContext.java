@@ -0,0 +1,225 @@
+package ar.edu.utn.frc.tup.piii.benchmarks;
+
+import ar.edu.utn.frc.tup.piii.Application;
+import ar.edu.utn.frc.tup.piii.dtos.bot.AddBotsDto;
+import ar.edu.utn.frc.tup.piii.entities.BotProfileEntity;
+import ar.edu.utn.frc.tup.piii.entities.CountryEntity;
+import ar.edu.utn.frc.tup.piii.entities.GameEntity;
+import ar.edu.utn.frc.tup.piii.entities.GameTerritoryEntity;
+import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
+import ar.edu.utn.frc.tup.piii.entities.UserEntity;
+import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
+import ar.edu.utn.frc.tup.piii.model.Continent;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.enums.BotLevel;
+import ar.edu.utn.frc.tup.piii.model.enums.BotStrategy;
+import ar.edu.utn.frc.tup.piii.model.enums.GameFetchPlan;
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
+import ar.edu.utn.frc.tup.piii.repository.CountryRepository;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
+import ar.edu.utn.frc.tup.piii.repository.PlayerRepository;
+import ar.edu.utn.frc.tup.piii.repository.UserRepository;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.ReinforcementService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Backend completo levantado una vez por fork de JMH, sobre H2 en memoria con el mapa real
+ * de data.sql (perfil {@code bench}). Arma partidas de 2 a 6 jugadores por los mismos servicios
+ * que usa la API (lobby, bots, inicio) y las lleva a mitad de partida con ejércitos sembrados.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkContext {
+
+    /** Semilla de los ejércitos sembrados: las corridas de distintos commits usan el mismo tablero. */
+    private static final long ARMIES_SEED = 42L;
+    private static final int MID_GAME_TURN = 3;
+
+    private final AtomicInteger hosts = new AtomicInteger();
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void start() {
+        boot();
+    }
+
+    /**
+     * Levanta el backend; las propiedades ({@code clave=valor}) pisan las del perfil {@code bench}.
+     */
+    public void boot(String... properties) {
+        String[] args = Arrays.stream(properties).map(property -> "--" + property).toArray(String[]::new);
+        context = new SpringApplicationBuilder(Application.class)
+                .profiles("bench")
+                .run(args);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public TransactionTemplate transactions() {
+        return transactionTemplate;
+    }
+
+    /**
+     * Crea y arranca una partida con un anfitrión humano y {@code players - 1} bots del nivel
+     * indicado, y la deja en NORMAL_PLAY, fase de refuerzo, con el turno del primer bot y sus
+     * refuerzos base por colocar.
+     *
+     * @return el código de la partida
+     */
+    public String createMidGame(int players, BotLevel botLevel) {
+        GameService gameService = bean(GameService.class);
+        Long hostId = createHost();
+
+        Game lobby = gameService.createLobbyWithDefaults(hostId);
+        gameService.addBotsToGame(new AddBotsDto(lobby.getGameCode(), players - 1, botLevel,
+                BotStrategy.AGGRESSIVE, hostId));
+        gameService.startGame(lobby.getGameCode());
+
+        transactionTemplate.executeWithoutResult(status -> toMidGame(lobby.getGameCode()));
+        return lobby.getGameCode();
+    }
+
+    /**
+     * Crea y arranca una partida solo de bots del nivel indicado: el anfitrión deja la sala
+     * antes de empezar. La partida queda en el estado inicial (REINFORCEMENT_5).
+     *
+     * @return el código de la partida
+     */
+    public String createBotGame(int bots, BotLevel botLevel) {
+        GameService gameService = bean(GameService.class);
+        Long hostId = createHost();
+
+        Game lobby = gameService.createLobbyWithDefaults(hostId);
+        gameService.addBotsToGame(new AddBotsDto(lobby.getGameCode(), bots, botLevel,
+                BotStrategy.AGGRESSIVE, hostId));
+        transactionTemplate.executeWithoutResult(status -> removeHumans(lobby.getGameCode()));
+        gameService.startGame(lobby.getGameCode());
+        return lobby.getGameCode();
+    }
+
+    /**
+     * Crea y arranca una partida solo de bots con un bot por perfil, sentados en el orden de la
+     * lista (el primero juega primero). La partida queda en el estado inicial (REINFORCEMENT_5).
+     *
+     * @return el código de la partida
+     */
+    public String createMatch(List<BotProfileEntity> seats) {
+        GameService gameService = bean(GameService.class);
+        Long hostId = createHost();
+
+        Game lobby = gameService.createLobbyWithDefaults(hostId);
+        for (BotProfileEntity profile : seats) {
+            gameService.addBotsToGame(new AddBotsDto(lobby.getGameCode(), 1, profile.getLevel(),
+                    profile.getStrategy(), hostId));
+        }
+        transactionTemplate.executeWithoutResult(status -> removeHumans(lobby.getGameCode()));
+        gameService.startGame(lobby.getGameCode());
+        return lobby.getGameCode();
+    }
+
+    /**
+     * Partida con todas las colecciones cargadas y desligada del contexto de persistencia,
+     * lista para mapear sin consultas.
+     */
+    public GameEntity loadDetached(String gameCode) {
+        return transactionTemplate.execute(status -> {
+            GameEntity entity = bean(GameRepository.class).findByGameCode(gameCode, GameFetchPlan.FULL)
+                    .orElseThrow();
+            // Inicializa lo que toModel recorre (dueños, continentes, perfiles de bot)
+            bean(GameMapper.class).toModel(entity);
+            return entity;
+        });
+    }
+
+    /**
+     * Continentes del mapa con sus países, como los espera el cálculo de bonus de refuerzo.
+     */
+    public List<Continent> continents() {
+        return transactionTemplate.execute(status -> {
+            Map<Long, Continent> continents = new LinkedHashMap<>();
+            for (CountryEntity country : bean(CountryRepository.class).findAll()) {
+                continents.computeIfAbsent(country.getContinent().getId(), id -> Continent.builder()
+                                .id(id)
+                                .name(country.getContinent().getName())
+                                .bonusArmies(country.getContinent().getBonusArmies())
+                                .countryIds(new ArrayList<>())
+                                .build())
+                        .getCountryIds().add(country.getId());
+            }
+            return new ArrayList<>(continents.values());
+        });
+    }
+
+    private Long createHost() {
+        int number = hosts.incrementAndGet();
+        UserEntity user = new UserEntity();
+        user.setUsername("bench" + number);
+        user.setEmail("bench" + number + "@teg.local");
+        user.setPasswordHash("bench");
+        user.setCreatedAt(LocalDateTime.now());
+        return bean(UserRepository.class).save(user).getId();
+    }
+
+    private void removeHumans(String gameCode) {
+        GameEntity game = bean(GameRepository.class).findByGameCode(gameCode, GameFetchPlan.LOBBY).orElseThrow();
+        List<PlayerEntity> humans = game.getPlayers().stream()
+                .filter(player -> player.getBotProfile() == null)
+                .toList();
+        game.getPlayers().removeAll(humans);
+        bean(PlayerRepository.class).deleteAll(humans);
+    }
+
+    private void toMidGame(String gameCode) {
+        GameEntity game = bean(GameRepository.class).findByGameCode(gameCode, GameFetchPlan.FULL).orElseThrow();
+        game.setStatus(GameState.NORMAL_PLAY);
+        game.setCurrentPhase(TurnPhase.REINFORCEMENT);
+        game.setCurrentTurn(MID_GAME_TURN);
+
+        Random random = new Random(ARMIES_SEED);
+        for (GameTerritoryEntity territory : game.getTerritories()) {
+            territory.setArmies(1 + random.nextInt(6));
+        }
+
+        List<PlayerEntity> players = game.getPlayers();
+        players.forEach(player -> player.setArmiesToPlace(0));
+        for (int i = 0; i < players.size(); i++) {
+            PlayerEntity player = players.get(i);
+            if (player.getBotProfile() != null) {
+                game.setCurrentPlayerIndex(i);
+                player.setArmiesToPlace(bean(ReinforcementService.class)
+                        .calculateBaseArmies(player.getTerritories().size()));
+                break;
+            }
+        }
+    }
+}
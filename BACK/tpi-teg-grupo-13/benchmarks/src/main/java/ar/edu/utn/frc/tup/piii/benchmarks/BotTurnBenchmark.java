@@ -0,0 +1,71 @@
+package ar.edu.utn.frc.tup.piii.benchmarks;
+
+import ar.edu.utn.frc.tup.piii.FactoryBots.BotStrategyExecutor;
+import ar.edu.utn.frc.tup.piii.FactoryBots.BotStrategyFactory;
+import ar.edu.utn.frc.tup.piii.entities.GameEntity;
+import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
+import ar.edu.utn.frc.tup.piii.model.enums.BotLevel;
+import ar.edu.utn.frc.tup.piii.model.enums.GameFetchPlan;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un turno completo de bot (refuerzo, ataque y reagrupe) por cada {@link BotStrategyExecutor},
+ * siempre sobre una partida nueva en el mismo punto de partida. Incluye las consultas y escrituras
+ * del turno, pero no el commit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 15)
+@Fork(1)
+public class BotTurnBenchmark {
+
+    @Param({"NOVICE", "BALANCED", "EXPERT"})
+    private BotLevel level;
+
+    @Param({"4"})
+    private int players;
+
+    private BenchmarkContext context;
+    private BotStrategyFactory botStrategyFactory;
+    private String gameCode;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkContext context) {
+        this.context = context;
+        botStrategyFactory = context.bean(BotStrategyFactory.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void newGame() {
+        gameCode = context.createMidGame(players, level);
+    }
+
+    @Benchmark
+    public void executeTurn() {
+        context.transactions().executeWithoutResult(status -> {
+            GameEntity game = context.bean(GameRepository.class).findByGameCode(gameCode, GameFetchPlan.FULL)
+                    .orElseThrow();
+            PlayerEntity bot = game.getPlayers().get(game.getCurrentPlayerIndex());
+            botStrategyFactory.getExecutor(bot.getBotProfile()).executeTurn(bot, game);
+            // Los ejecutores atrapan los errores de los servicios que llaman y siguen con el turno;
+            // como cada partida se usa una sola vez, se revierte siempre en vez de confirmar
+            status.setRollbackOnly();
+        });
+    }
+}
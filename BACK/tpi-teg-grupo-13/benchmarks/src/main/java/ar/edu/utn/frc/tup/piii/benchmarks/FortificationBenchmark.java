@@ -0,0 +1,79 @@
+package ar.edu.utn.frc.tup.piii.benchmarks;
+
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.Player;
+import ar.edu.utn.frc.tup.piii.model.enums.BotLevel;
+import ar.edu.utn.frc.tup.piii.service.interfaces.FortificationService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Búsqueda de camino entre países propios para reagrupar: la consulta completa del servicio
+ * (carga de la partida + búsqueda) y la búsqueda sola sobre el mapa en memoria.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FortificationBenchmark {
+
+    @Param({"2", "6"})
+    private int players;
+
+    private BenchmarkContext context;
+    private FortificationService fortificationService;
+    private WorldMap worldMap;
+    private String gameCode;
+    private Long playerId;
+    private Long fromId;
+    private Long toId;
+    private Set<Long> ownedIds;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkContext context) {
+        this.context = context;
+        fortificationService = context.bean(FortificationService.class);
+        worldMap = context.bean(WorldMap.class);
+        gameCode = context.createMidGame(players, BotLevel.BALANCED);
+
+        Game game = context.transactions().execute(status -> context.bean(GameService.class).findByGameCode(gameCode));
+        Player player = game.getCurrentPlayer();
+        List<Long> territoryIds = player.getTerritoryIds();
+        playerId = player.getId();
+        ownedIds = new HashSet<>(territoryIds);
+        // Extremos del listado de países propios: la búsqueda recorre todo lo alcanzable
+        fromId = territoryIds.get(0);
+        toId = territoryIds.get(territoryIds.size() - 1);
+    }
+
+    @Benchmark
+    public boolean connectedByPlayer() {
+        // Dentro de una transacción, como en un request con la sesión abierta
+        return context.transactions().execute(status ->
+                fortificationService.areTerritoriesConnectedByPlayer(gameCode, fromId, toId, playerId));
+    }
+
+    @Benchmark
+    public boolean pathSearch() {
+        return worldMap.isConnectedThrough(fromId, toId, ownedIds);
+    }
+}
@@ -0,0 +1,57 @@
+package ar.edu.utn.frc.tup.piii.benchmarks;
+
+import ar.edu.utn.frc.tup.piii.dtos.game.GameResponseDto;
+import ar.edu.utn.frc.tup.piii.entities.GameEntity;
+import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.enums.BotLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeo de una partida cargada (sin consultas) a modelo y del modelo al DTO de respuesta.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameMapperBenchmark {
+
+    @Param({"2", "3", "4", "5", "6"})
+    private int players;
+
+    private GameMapper gameMapper;
+    private GameEntity entity;
+    private Game model;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkContext context) {
+        gameMapper = context.bean(GameMapper.class);
+        entity = context.loadDetached(context.createMidGame(players, BotLevel.BALANCED));
+        model = gameMapper.toModel(entity);
+    }
+
+    @Benchmark
+    public Game toModel() {
+        return gameMapper.toModel(entity);
+    }
+
+    @Benchmark
+    public GameResponseDto toResponseDto() {
+        return gameMapper.toResponseDto(model);
+    }
+}
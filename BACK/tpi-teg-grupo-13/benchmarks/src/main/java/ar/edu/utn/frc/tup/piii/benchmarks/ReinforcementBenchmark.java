@@ -0,0 +1,54 @@
+package ar.edu.utn.frc.tup.piii.benchmarks;
+
+import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.Player;
+import ar.edu.utn.frc.tup.piii.model.enums.BotLevel;
+import ar.edu.utn.frc.tup.piii.service.interfaces.ReinforcementService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cálculo de ejércitos de refuerzo (base + bonus de continentes) del jugador en turno.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReinforcementBenchmark {
+
+    @Param({"2", "6"})
+    private int players;
+
+    private ReinforcementService reinforcementService;
+    private Game game;
+    private Player player;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkContext context) {
+        reinforcementService = context.bean(ReinforcementService.class);
+        String gameCode = context.createMidGame(players, BotLevel.BALANCED);
+        game = context.bean(GameMapper.class).toModel(context.loadDetached(gameCode));
+        game.setContinents(context.continents());
+        player = game.getCurrentPlayer();
+    }
+
+    @Benchmark
+    public int calculateReinforcementArmies() {
+        return reinforcementService.calculateReinforcementArmies(game, player);
+    }
+}
@@ -0,0 +1,25 @@
+package ar.edu.utn.frc.tup.piii.benchmarks.simulation;
+
+import ar.edu.utn.frc.tup.piii.model.enums.BotLevel;
+
+/**
+ * Resultado de una partida simulada: semilla, duración de cada turno jugado, consultas totales y
+ * huella del tablero al terminar. {@code error} queda en null salvo que la partida se haya cortado
+ * por una excepción.
+ */
+record GameResult(BotLevel level, long seed, boolean finished, long[] turnNanos, long queries, String board,
+                  String error) {
+
+    static GameResult finished(BotLevel level, long seed, long[] turnNanos, long queries, String board) {
+        return new GameResult(level, seed, true, turnNanos, queries, board, null);
+    }
+
+    static GameResult unfinished(BotLevel level, long seed, long[] turnNanos, long queries, String board,
+                                 String error) {
+        return new GameResult(level, seed, false, turnNanos, queries, board, error);
+    }
+
+    int turns() {
+        return turnNanos.length;
+    }
+}
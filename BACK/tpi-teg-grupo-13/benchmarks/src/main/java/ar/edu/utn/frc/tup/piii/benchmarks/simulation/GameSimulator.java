@@ -0,0 +1,198 @@
+package ar.edu.utn.frc.tup.piii.benchmarks.simulation;
+
+import ar.edu.utn.frc.tup.piii.benchmarks.BenchmarkContext;
+import ar.edu.utn.frc.tup.piii.engine.GameCommandExecutor;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.Player;
+import ar.edu.utn.frc.tup.piii.model.Territory;
+import ar.edu.utn.frc.tup.piii.model.enums.BotLevel;
+import ar.edu.utn.frc.tup.piii.service.interfaces.BotService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.ObjectiveService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Simulador de partidas completas sin front ni HTTP, para planificar capacidad. Juega
+ * partidas solo de bots (N bots de cada {@link BotLevel}) en paralelo sobre H2 en memoria:
+ * las arranca con la inicialización normal y avanza turno a turno por el mismo camino que el
+ * endpoint de bots ({@code executeTurn} del ejecutor + {@code nextTurn}) hasta que
+ * {@link ObjectiveService#findWinner} encuentra un ganador o se alcanza el máximo de turnos.
+ * <p>
+ * Informa partidas/s, turnos/s, latencia p50/p99 por turno y consultas SQL por turno, en
+ * consola y en JSON.
+ * <p>
+ * Con {@code --seed} las partidas se crean de a una antes de jugarlas, así cada una recibe
+ * siempre la misma semilla ({@code game.random.seed}); el JSON guarda la semilla y una huella del
+ * tablero final de cada partida para comparar dos corridas.
+ * <pre>
+ * mvn package exec:exec -Dbench.main=ar.edu.utn.frc.tup.piii.benchmarks.simulation.GameSimulator \
+ *     -Dbench.args="--games=60 --bots=4 --threads=4 --seed=42"
+ * </pre>
+ */
+public final class GameSimulator {
+
+    private final BenchmarkContext context;
+    private final Options options;
+
+    private GameSimulator(BenchmarkContext context, Options options) {
+        this.context = context;
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        BenchmarkContext context = new BenchmarkContext();
+        context.boot("spring.jpa.properties.hibernate.session_factory.statement_inspector=" + QueryCounter.class.getName(),
+                "logging.level.ar.edu.utn.frc.tup.piii=OFF",
+                "game.random.seed=" + options.seed());
+        try {
+            SimulationReport report = new GameSimulator(context, options).run();
+            report.print(System.out);
+            writeJson(report, options.out());
+        } finally {
+            context.stop();
+        }
+    }
+
+    private SimulationReport run() throws InterruptedException, ExecutionException {
+        ExecutorService threads = Executors.newFixedThreadPool(options.threads());
+        List<Future<GameResult>> games = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            // Se crean en orden para que las semillas no dependan de los hilos
+            List<String> gameCodes = new ArrayList<>();
+            for (int i = 0; i < options.games(); i++) {
+                BotLevel level = options.levels().get(i % options.levels().size());
+                gameCodes.add(context.createBotGame(options.bots(), level));
+            }
+            for (int i = 0; i < options.games(); i++) {
+                BotLevel level = options.levels().get(i % options.levels().size());
+                String gameCode = gameCodes.get(i);
+                games.add(threads.submit(() -> play(gameCode, level)));
+            }
+            List<GameResult> results = new ArrayList<>();
+            for (Future<GameResult> game : games) {
+                results.add(game.get());
+            }
+            return SimulationReport.of(options.bots(), options.threads(), System.nanoTime() - start, results);
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    /**
+     * Juega una partida ya iniciada hasta el final en el hilo actual.
+     */
+    private GameResult play(String gameCode, BotLevel level) {
+        GameService gameService = context.bean(GameService.class);
+        BotService botService = context.bean(BotService.class);
+        ObjectiveService objectiveService = context.bean(ObjectiveService.class);
+        GameCommandExecutor commandExecutor = context.bean(GameCommandExecutor.class);
+
+        Game game = context.transactions().execute(status -> gameService.findByGameCode(gameCode));
+        long seed = game.getRandomSeed();
+        long[] turnNanos = new long[options.maxTurns()];
+        long queries = 0;
+        int turns = 0;
+        Long botId = game.getCurrentPlayer().getId();
+        try {
+            while (turns < options.maxTurns()) {
+                Long currentBotId = botId;
+                long queriesBefore = QueryCounter.current();
+                long turnStart = System.nanoTime();
+                commandExecutor.run(gameCode, () -> botService.executeBotTurnComplete(gameCode, currentBotId));
+                turnNanos[turns++] = System.nanoTime() - turnStart;
+                queries += QueryCounter.current() - queriesBefore;
+
+                // Fuera de la medición: chequeo de ganador y próximo jugador con la partida actualizada
+                game = context.transactions().execute(status -> gameService.findByGameCode(gameCode));
+                if (objectiveService.findWinner(game).isPresent()) {
+                    return GameResult.finished(level, seed, Arrays.copyOf(turnNanos, turns), queries, board(game));
+                }
+                botId = game.getCurrentPlayer().getId();
+            }
+            return GameResult.unfinished(level, seed, turnNanos, queries, board(game), null);
+        } catch (RuntimeException e) {
+            return GameResult.unfinished(level, seed, Arrays.copyOf(turnNanos, turns), queries, board(game),
+                    gameCode + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Huella del tablero: dueño (por lugar en la mesa) y ejércitos de cada país, en orden de país.
+     * No usa ids de jugador ni código de partida, que cambian de una corrida a otra.
+     */
+    private static String board(Game game) {
+        Map<Long, Integer> seats = game.getPlayers().stream()
+                .collect(Collectors.toMap(Player::getId, Player::getSeatOrder));
+        String board = game.getTerritories().values().stream()
+                .sorted(Comparator.comparing(Territory::getId))
+                .map(territory -> seats.get(territory.getOwnerId()) + ":" + territory.getArmies())
+                .collect(Collectors.joining(","));
+        return String.format("%08x", board.hashCode());
+    }
+
+    private static void writeJson(SimulationReport report, Path out) throws IOException {
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out.toFile(), report);
+        System.out.println("Simulation result is saved to " + out);
+    }
+
+    /**
+     * Opciones de línea de comandos, con la forma {@code --nombre=valor}.
+     */
+    record Options(int games, int bots, int threads, int maxTurns, List<BotLevel> levels, long seed, Path out) {
+
+        static Options parse(String[] args) {
+            int games = 12;
+            int bots = 4;
+            int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+            int maxTurns = 1000;
+            List<BotLevel> levels = List.of(BotLevel.values());
+            // 0: semillas al azar
+            long seed = 0;
+            Path out = Path.of("target", "simulation-result.json");
+
+            for (String arg : args) {
+                String[] option = arg.replaceFirst("^--", "").split("=", 2);
+                if (option.length != 2) {
+                    throw new IllegalArgumentException("Opción inválida: " + arg + " (se espera --nombre=valor)");
+                }
+                switch (option[0]) {
+                    case "games" -> games = Integer.parseInt(option[1]);
+                    case "bots" -> bots = Integer.parseInt(option[1]);
+                    case "threads" -> threads = Integer.parseInt(option[1]);
+                    case "max-turns" -> maxTurns = Integer.parseInt(option[1]);
+                    case "levels" -> levels = Arrays.stream(option[1].split(","))
+                            .map(level -> BotLevel.valueOf(level.trim().toUpperCase()))
+                            .toList();
+                    case "seed" -> seed = Long.parseLong(option[1]);
+                    case "out" -> out = Path.of(option[1]);
+                    default -> throw new IllegalArgumentException("Opción desconocida: " + option[0]);
+                }
+            }
+            // El anfitrión ocupa un lugar mientras se agregan los bots
+            if (bots < 2 || bots > 5) {
+                throw new IllegalArgumentException("La partida necesita entre 2 y 5 bots");
+            }
+            return new Options(games, bots, threads, maxTurns, levels, seed, out);
+        }
+    }
+}
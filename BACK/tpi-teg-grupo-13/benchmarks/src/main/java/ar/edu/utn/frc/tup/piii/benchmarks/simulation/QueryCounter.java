@@ -0,0 +1,23 @@
+package ar.edu.utn.frc.tup.piii.benchmarks.simulation;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Cuenta las sentencias SQL que Hibernate prepara en cada hilo. Como cada partida simulada
+ * corre entera en un hilo, la diferencia antes y después de un turno son las consultas de ese
+ * turno, aunque haya otras partidas en paralelo.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static long current() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,90 @@
+package ar.edu.utn.frc.tup.piii.benchmarks.simulation;
+
+import ar.edu.utn.frc.tup.piii.model.enums.BotLevel;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Métricas de una corrida del simulador, en total y por nivel de bot.
+ */
+public record SimulationReport(int botsPerGame, int threads, double elapsedSeconds,
+                               Metrics total, Map<BotLevel, Metrics> byLevel, List<GameSummary> games,
+                               List<String> errors) {
+
+    static SimulationReport of(int botsPerGame, int threads, long elapsedNanos, List<GameResult> results) {
+        double elapsedSeconds = elapsedNanos / 1e9;
+        Map<BotLevel, Metrics> byLevel = new EnumMap<>(BotLevel.class);
+        results.stream()
+                .collect(Collectors.groupingBy(GameResult::level, () -> new EnumMap<>(BotLevel.class), Collectors.toList()))
+                .forEach((level, games) -> byLevel.put(level, Metrics.of(games, elapsedSeconds)));
+        List<String> errors = results.stream()
+                .map(GameResult::error)
+                .filter(error -> error != null)
+                .toList();
+        List<GameSummary> games = results.stream()
+                .map(result -> new GameSummary(result.level(), result.seed(), result.turns(), result.finished(),
+                        result.board()))
+                .toList();
+        return new SimulationReport(botsPerGame, threads, elapsedSeconds, Metrics.of(results, elapsedSeconds),
+                byLevel, games, errors);
+    }
+
+    void print(PrintStream out) {
+        out.printf("Simulated %d games with %d bots each on %d threads in %.1f s%n",
+                total.games(), botsPerGame, threads, elapsedSeconds);
+        out.printf("%-10s %6s %8s %6s %8s %10s %10s %10s %10s %12s%n", "level", "games", "finished", "failed",
+                "turns", "games/s", "turns/s", "p50 ms", "p99 ms", "queries/turn");
+        byLevel.forEach((level, metrics) -> metrics.print(out, level.name()));
+        total.print(out, "TOTAL");
+        errors.forEach(error -> out.println("  error: " + error));
+    }
+
+    /**
+     * Una partida de la corrida, en el orden en que se crearon. Con la misma semilla y las mismas
+     * opciones, {@code board} tiene que repetirse.
+     */
+    public record GameSummary(BotLevel level, long seed, int turns, boolean finished, String board) {
+    }
+
+    /**
+     * Métricas de un grupo de partidas. Las tasas se calculan sobre el tiempo total de la corrida.
+     */
+    public record Metrics(int games, int finishedGames, int failedGames, long turns, double gamesPerSecond,
+                          double turnsPerSecond, double p50TurnMillis, double p99TurnMillis, double queriesPerTurn) {
+
+        static Metrics of(List<GameResult> results, double elapsedSeconds) {
+            long[] turnNanos = results.stream()
+                    .flatMapToLong(result -> Arrays.stream(result.turnNanos()))
+                    .sorted()
+                    .toArray();
+            long queries = results.stream().mapToLong(GameResult::queries).sum();
+            int finished = (int) results.stream().filter(GameResult::finished).count();
+            int failed = (int) results.stream().filter(result -> result.error() != null).count();
+            long turns = turnNanos.length;
+            return new Metrics(results.size(), finished, failed, turns,
+                    finished / elapsedSeconds,
+                    turns / elapsedSeconds,
+                    percentile(turnNanos, 0.50) / 1e6,
+                    percentile(turnNanos, 0.99) / 1e6,
+                    turns == 0 ? 0 : (double) queries / turns);
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        void print(PrintStream out, String label) {
+            out.printf("%-10s %6d %8d %6d %8d %10.2f %10.2f %10.2f %10.2f %12.1f%n", label, games, finishedGames,
+                    failedGames, turns, gamesPerSecond, turnsPerSecond, p50TurnMillis, p99TurnMillis, queriesPerTurn);
+        }
+    }
+}
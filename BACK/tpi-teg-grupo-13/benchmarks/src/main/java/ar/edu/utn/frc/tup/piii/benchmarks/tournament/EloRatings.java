@@ -0,0 +1,44 @@
+package ar.edu.utn.frc.tup.piii.benchmarks.tournament;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rating Elo por perfil de bot. Todos arrancan en {@link #INITIAL_RATING}; cada partida mano a
+ * mano mueve los dos ratings en {@code k * (resultado - esperado)}, con empate = 0.5.
+ */
+final class EloRatings {
+
+    static final double INITIAL_RATING = 1500;
+
+    private final double k;
+    private final Map<Long, Double> ratings = new LinkedHashMap<>();
+
+    EloRatings(double k) {
+        this.k = k;
+    }
+
+    /**
+     * Probabilidad esperada de que gane el primero.
+     */
+    static double expectedScore(double rating, double opponentRating) {
+        return 1 / (1 + Math.pow(10, (opponentRating - rating) / 400));
+    }
+
+    /**
+     * Registra una partida entre dos perfiles.
+     *
+     * @param score 1 si ganó {@code first}, 0 si ganó {@code second}, 0.5 si no hubo ganador
+     */
+    void record(Long first, Long second, double score) {
+        double firstRating = rating(first);
+        double secondRating = rating(second);
+        double delta = k * (score - expectedScore(firstRating, secondRating));
+        ratings.put(first, firstRating + delta);
+        ratings.put(second, secondRating - delta);
+    }
+
+    double rating(Long profileId) {
+        return ratings.getOrDefault(profileId, INITIAL_RATING);
+    }
+}
@@ -0,0 +1,19 @@
+package ar.edu.utn.frc.tup.piii.benchmarks.tournament;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado de una partida del torneo. {@code seats} son los perfiles en orden de juego;
+ * {@code winnerProfileId} queda en null si se alcanzó el máximo de turnos o la partida se cortó
+ * por una excepción ({@code error}). {@code turnsByProfile}, {@code cpuNanosByProfile} y
+ * {@code wallNanosByProfile} acumulan los turnos jugados por cada perfil y lo que costaron.
+ */
+public record MatchResult(int number, long seed, List<Long> seats, Long winnerProfileId, int turns,
+                          Map<Long, Integer> turnsByProfile, Map<Long, Long> cpuNanosByProfile,
+                          Map<Long, Long> wallNanosByProfile, String error) {
+
+    boolean finished() {
+        return winnerProfileId != null;
+    }
+}
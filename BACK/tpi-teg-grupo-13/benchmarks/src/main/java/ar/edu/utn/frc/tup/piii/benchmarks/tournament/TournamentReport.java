@@ -0,0 +1,107 @@
+package ar.edu.utn.frc.tup.piii.benchmarks.tournament;
+
+import ar.edu.utn.frc.tup.piii.entities.BotProfileEntity;
+
+import java.io.PrintStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Tabla final del torneo: una fila por perfil ordenada por rating, más el detalle de cada partida
+ * en el orden en que se programaron.
+ */
+public record TournamentReport(int gamesPerPair, int threads, double elapsedSeconds, double k,
+                               List<Standing> standings, List<MatchResult> matches, List<String> errors) {
+
+    /**
+     * Arma la tabla aplicando el Elo en el orden de las partidas (no en el que terminaron), así dos
+     * corridas con la misma semilla dan los mismos ratings.
+     */
+    static TournamentReport of(List<BotProfileEntity> profiles, int gamesPerPair, int threads, double k,
+                               long elapsedNanos, List<MatchResult> matches) {
+        EloRatings elo = new EloRatings(k);
+        for (MatchResult match : matches) {
+            if (match.error() != null) {
+                continue;
+            }
+            Long first = match.seats().get(0);
+            Long second = match.seats().get(1);
+            double score = match.winnerProfileId() == null ? 0.5 : Objects.equals(match.winnerProfileId(), first) ? 1 : 0;
+            elo.record(first, second, score);
+        }
+
+        List<Standing> standings = profiles.stream()
+                .map(profile -> Standing.of(profile, elo.rating(profile.getId()), matches))
+                .sorted(Comparator.comparingDouble(Standing::rating).reversed())
+                .toList();
+        List<String> errors = matches.stream()
+                .map(MatchResult::error)
+                .filter(Objects::nonNull)
+                .toList();
+        return new TournamentReport(gamesPerPair, threads, elapsedNanos / 1e9, k, standings, matches, errors);
+    }
+
+    void print(PrintStream out) {
+        out.printf("Played %d games (%d per pair) on %d threads in %.1f s%n",
+                matches.size(), gamesPerPair, threads, elapsedSeconds);
+        out.printf("%-4s %-28s %8s %6s %5s %6s %6s %9s %12s %12s %12s%n", "id", "profile", "rating", "games",
+                "wins", "losses", "draws", "win rate", "avg turns", "cpu ms/turn", "wall ms/turn");
+        standings.forEach(standing -> standing.print(out));
+        errors.forEach(error -> out.println("  error: " + error));
+    }
+
+    /**
+     * Resultados de un perfil. {@code averageGameTurns} promedia las partidas con ganador;
+     * {@code cpuMillisPerTurn} es el tiempo de CPU del hilo que jugó el turno (las simulaciones
+     * del bot MASTER corren en su propio pool, por eso se informa también el tiempo de reloj).
+     */
+    public record Standing(Long profileId, String botName, String level, String strategy, double rating,
+                           int games, int wins, int losses, int draws, double winRate, double averageGameTurns,
+                           long turns, double cpuMillisPerTurn, double wallMillisPerTurn) {
+
+        static Standing of(BotProfileEntity profile, double rating, List<MatchResult> matches) {
+            Long id = profile.getId();
+            int games = 0;
+            int wins = 0;
+            int losses = 0;
+            int draws = 0;
+            long finishedTurns = 0;
+            long turns = 0;
+            long cpuNanos = 0;
+            long wallNanos = 0;
+            for (MatchResult match : matches) {
+                if (!match.seats().contains(id) || match.error() != null) {
+                    continue;
+                }
+                games++;
+                if (!match.finished()) {
+                    draws++;
+                } else {
+                    finishedTurns += match.turns();
+                    if (Objects.equals(match.winnerProfileId(), id)) {
+                        wins++;
+                    } else {
+                        losses++;
+                    }
+                }
+                turns += match.turnsByProfile().getOrDefault(id, 0);
+                cpuNanos += match.cpuNanosByProfile().getOrDefault(id, 0L);
+                wallNanos += match.wallNanosByProfile().getOrDefault(id, 0L);
+            }
+            int finished = wins + losses;
+            return new Standing(id, profile.getBotName(), profile.getLevel().name(), profile.getStrategy().name(),
+                    rating, games, wins, losses, draws,
+                    games == 0 ? 0 : (double) wins / games,
+                    finished == 0 ? 0 : (double) finishedTurns / finished,
+                    turns,
+                    turns == 0 ? 0 : cpuNanos / 1e6 / turns,
+                    turns == 0 ? 0 : wallNanos / 1e6 / turns);
+        }
+
+        void print(PrintStream out) {
+            out.printf("%-4d %-28s %8.1f %6d %5d %6d %6d %8.1f%% %12.1f %12.2f %12.2f%n", profileId, botName, rating,
+                    games, wins, losses, draws, winRate * 100, averageGameTurns, cpuMillisPerTurn, wallMillisPerTurn);
+        }
+    }
+}
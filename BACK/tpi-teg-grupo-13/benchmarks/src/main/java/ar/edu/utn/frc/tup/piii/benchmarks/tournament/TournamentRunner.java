@@ -0,0 +1,239 @@
+package ar.edu.utn.frc.tup.piii.benchmarks.tournament;
+
+import ar.edu.utn.frc.tup.piii.FactoryBots.BotStrategyFactory;
+import ar.edu.utn.frc.tup.piii.benchmarks.BenchmarkContext;
+import ar.edu.utn.frc.tup.piii.engine.GameCommandExecutor;
+import ar.edu.utn.frc.tup.piii.entities.BotProfileEntity;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.Player;
+import ar.edu.utn.frc.tup.piii.repository.BotProfileRepository;
+import ar.edu.utn.frc.tup.piii.service.interfaces.BotService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.ObjectiveService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Torneo todos contra todos entre perfiles de bot ({@link BotProfileEntity}) para comparar
+ * estrategias. Cada par de perfiles juega {@code --games-per-pair} partidas mano a mano,
+ * alternando quién empieza, por el mismo camino que {@code GameSimulator}: partidas solo de bots
+ * sobre H2 en memoria, jugadas en paralelo en {@code --threads} hilos.
+ * <p>
+ * Al final calcula un rating Elo por perfil y, para cada uno, porcentaje de victorias, duración
+ * promedio de las partidas y tiempo de CPU y de reloj por turno de bot. Una partida que llega a
+ * {@code --max-turns} sin ganador cuenta como empate. Entran los perfiles que tienen executor en
+ * {@link BotStrategyFactory}, o los de {@code --profiles} (ids separados por coma).
+ * <p>
+ * Con {@code --seed} las partidas se crean de a una en el orden del fixture, así cada una recibe
+ * siempre la misma semilla y dos corridas dan la misma tabla. Las simulaciones del bot MASTER
+ * corren con un solo hilo por partida para no competir con las otras partidas del torneo.
+ * <pre>
+ * mvn package exec:exec -Dbench.main=ar.edu.utn.frc.tup.piii.benchmarks.tournament.TournamentRunner \
+ *     -Dbench.args="--games-per-pair=10 --threads=8 --seed=42"
+ * </pre>
+ */
+public final class TournamentRunner {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final BenchmarkContext context;
+    private final Options options;
+
+    private TournamentRunner(BenchmarkContext context, Options options) {
+        this.context = context;
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        BenchmarkContext context = new BenchmarkContext();
+        context.boot("logging.level.ar.edu.utn.frc.tup.piii=OFF",
+                "game.random.seed=" + options.seed(),
+                "game.bots.monte-carlo.parallelism=1");
+        try {
+            TournamentReport report = new TournamentRunner(context, options).run();
+            report.print(System.out);
+            writeJson(report, options.out());
+        } finally {
+            context.stop();
+        }
+    }
+
+    private TournamentReport run() throws InterruptedException, ExecutionException {
+        List<BotProfileEntity> profiles = profiles();
+        if (profiles.size() < 2) {
+            throw new IllegalArgumentException("El torneo necesita al menos 2 perfiles de bot con executor");
+        }
+        List<List<BotProfileEntity>> fixture = fixture(profiles);
+
+        ExecutorService threads = Executors.newFixedThreadPool(options.threads());
+        List<Future<MatchResult>> matches = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            // Se crean en orden para que las semillas no dependan de los hilos
+            List<String> gameCodes = new ArrayList<>();
+            for (List<BotProfileEntity> seats : fixture) {
+                gameCodes.add(context.createMatch(seats));
+            }
+            for (int i = 0; i < fixture.size(); i++) {
+                int number = i + 1;
+                String gameCode = gameCodes.get(i);
+                matches.add(threads.submit(() -> play(number, gameCode)));
+            }
+            List<MatchResult> results = new ArrayList<>();
+            for (Future<MatchResult> match : matches) {
+                results.add(match.get());
+            }
+            return TournamentReport.of(profiles, options.gamesPerPair(), options.threads(), options.k(),
+                    System.nanoTime() - start, results);
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private List<BotProfileEntity> profiles() {
+        BotStrategyFactory factory = context.bean(BotStrategyFactory.class);
+        return context.bean(BotProfileRepository.class).findAll().stream()
+                .filter(factory::supports)
+                .filter(profile -> options.profileIds().isEmpty() || options.profileIds().contains(profile.getId()))
+                .sorted(Comparator.comparing(BotProfileEntity::getId))
+                .toList();
+    }
+
+    /**
+     * Todos contra todos: cada par juega {@code gamesPerPair} partidas, alternando quién empieza.
+     */
+    private List<List<BotProfileEntity>> fixture(List<BotProfileEntity> profiles) {
+        List<List<BotProfileEntity>> fixture = new ArrayList<>();
+        for (int i = 0; i < profiles.size(); i++) {
+            for (int j = i + 1; j < profiles.size(); j++) {
+                for (int game = 0; game < options.gamesPerPair(); game++) {
+                    fixture.add(game % 2 == 0
+                            ? List.of(profiles.get(i), profiles.get(j))
+                            : List.of(profiles.get(j), profiles.get(i)));
+                }
+            }
+        }
+        return fixture;
+    }
+
+    /**
+     * Juega una partida ya iniciada hasta el final en el hilo actual.
+     */
+    private MatchResult play(int number, String gameCode) {
+        GameService gameService = context.bean(GameService.class);
+        BotService botService = context.bean(BotService.class);
+        ObjectiveService objectiveService = context.bean(ObjectiveService.class);
+        GameCommandExecutor commandExecutor = context.bean(GameCommandExecutor.class);
+
+        Game game = context.transactions().execute(status -> gameService.findByGameCode(gameCode));
+        long seed = game.getRandomSeed();
+        List<Long> seats = game.getPlayers().stream()
+                .sorted(Comparator.comparing(Player::getSeatOrder))
+                .map(player -> player.getBotProfile().getId())
+                .toList();
+        Map<Long, Long> profileByPlayer = game.getPlayers().stream()
+                .collect(Collectors.toMap(Player::getId, player -> player.getBotProfile().getId()));
+        Map<Long, Integer> turnsByProfile = new HashMap<>();
+        Map<Long, Long> cpuNanosByProfile = new HashMap<>();
+        Map<Long, Long> wallNanosByProfile = new HashMap<>();
+
+        int turns = 0;
+        Long botId = game.getCurrentPlayer().getId();
+        try {
+            while (turns < options.maxTurns()) {
+                Long currentBotId = botId;
+                long cpuStart = THREADS.getCurrentThreadCpuTime();
+                long wallStart = System.nanoTime();
+                commandExecutor.run(gameCode, () -> botService.executeBotTurnComplete(gameCode, currentBotId));
+                Long profileId = profileByPlayer.get(currentBotId);
+                wallNanosByProfile.merge(profileId, System.nanoTime() - wallStart, Long::sum);
+                cpuNanosByProfile.merge(profileId, THREADS.getCurrentThreadCpuTime() - cpuStart, Long::sum);
+                turnsByProfile.merge(profileId, 1, Integer::sum);
+                turns++;
+
+                // Fuera de la medición: chequeo de ganador y próximo jugador con la partida actualizada
+                game = context.transactions().execute(status -> gameService.findByGameCode(gameCode));
+                Optional<Player> winner = objectiveService.findWinner(game);
+                if (winner.isPresent()) {
+                    return new MatchResult(number, seed, seats, profileByPlayer.get(winner.get().getId()), turns,
+                            turnsByProfile, cpuNanosByProfile, wallNanosByProfile, null);
+                }
+                botId = game.getCurrentPlayer().getId();
+            }
+            return new MatchResult(number, seed, seats, null, turns, turnsByProfile, cpuNanosByProfile,
+                    wallNanosByProfile, null);
+        } catch (RuntimeException e) {
+            return new MatchResult(number, seed, seats, null, turns, turnsByProfile, cpuNanosByProfile,
+                    wallNanosByProfile, gameCode + ": " + e.getMessage());
+        }
+    }
+
+    private static void writeJson(TournamentReport report, Path out) throws IOException {
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out.toFile(), report);
+        System.out.println("Tournament result is saved to " + out);
+    }
+
+    /**
+     * Opciones de línea de comandos, con la forma {@code --nombre=valor}.
+     */
+    record Options(int gamesPerPair, int threads, int maxTurns, List<Long> profileIds, double k, long seed,
+                   Path out) {
+
+        static Options parse(String[] args) {
+            int gamesPerPair = 4;
+            int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+            int maxTurns = 1000;
+            // Vacío: todos los perfiles con executor
+            List<Long> profileIds = List.of();
+            double k = 32;
+            // 0: semillas al azar
+            long seed = 0;
+            Path out = Path.of("target", "tournament-result.json");
+
+            for (String arg : args) {
+                String[] option = arg.replaceFirst("^--", "").split("=", 2);
+                if (option.length != 2) {
+                    throw new IllegalArgumentException("Opción inválida: " + arg + " (se espera --nombre=valor)");
+                }
+                switch (option[0]) {
+                    case "games-per-pair" -> gamesPerPair = Integer.parseInt(option[1]);
+                    case "threads" -> threads = Integer.parseInt(option[1]);
+                    case "max-turns" -> maxTurns = Integer.parseInt(option[1]);
+                    case "profiles" -> profileIds = Arrays.stream(option[1].split(","))
+                            .map(id -> Long.parseLong(id.trim()))
+                            .toList();
+                    case "k" -> k = Double.parseDouble(option[1]);
+                    case "seed" -> seed = Long.parseLong(option[1]);
+                    case "out" -> out = Path.of(option[1]);
+                    default -> throw new IllegalArgumentException("Opción desconocida: " + option[0]);
+                }
+            }
+            if (gamesPerPair < 1) {
+                throw new IllegalArgumentException("Cada par tiene que jugar al menos una partida");
+            }
+            return new Options(gamesPerPair, threads, maxTurns, profileIds, k, seed, out);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package ar.edu.utn.frc.tup.piii.service.impl;
+
+import ar.edu.utn.frc.tup.piii.engine.DiceOdds;
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tirada y resolución de dados de un ataque en {@link CombatServiceImpl}, y consulta de las
+ * probabilidades precalculadas de {@link DiceOdds} que usan los bots. No necesita el contexto
+ * de Spring: el servicio usa un {@link GameRandom} con la semilla de una partida fija.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombatDiceBenchmark {
+
+    @Param({"1", "2", "3"})
+    private int attackerDice;
+
+    @Param({"1", "2", "3"})
+    private int defenderDice;
+
+    private static final Long GAME_ID = 1L;
+
+    private final CombatServiceImpl combatService = new CombatServiceImpl();
+    private final DiceOdds diceOdds = new DiceOdds();
+
+    @Setup
+    public void setUp() {
+        GameRandom gameRandom = new GameRandom();
+        gameRandom.seed(GAME_ID, 42L);
+        Field field = ReflectionUtils.findField(CombatServiceImpl.class, "gameRandom");
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, combatService, gameRandom);
+    }
+
+    @Benchmark
+    public int[] rollDice() {
+        return combatService.rollDice(GAME_ID, attackerDice);
+    }
+
+    @Benchmark
+    public Object rollAndResolve() {
+        return combatService.resolveCombat(combatService.rollDice(GAME_ID, attackerDice),
+                combatService.rollDice(GAME_ID, defenderDice));
+    }
+
+    // Batalla completa con la cantidad de ejércitos que corresponde a esos dados
+    @Benchmark
+    public double winProbability() {
+        return diceOdds.winProbability(attackerDice + 1, defenderDice);
+    }
+}
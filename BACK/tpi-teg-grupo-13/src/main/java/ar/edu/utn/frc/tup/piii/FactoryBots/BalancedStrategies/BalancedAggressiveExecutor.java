@@ -1,10 +1,13 @@
 package ar.edu.utn.frc.tup.piii.FactoryBots.BalancedStrategies;
 
+import ar.edu.utn.frc.tup.piii.FactoryBots.BoardView;
 import ar.edu.utn.frc.tup.piii.FactoryBots.BotStrategyExecutor;
-import ar.edu.utn.frc.tup.piii.dtos.game.AttackDto;
-import ar.edu.utn.frc.tup.piii.dtos.game.CombatResultDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzAttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzResultDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.FortifyDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.ReinforcementStatusDto;
+import ar.edu.utn.frc.tup.piii.engine.DiceOdds;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
 import ar.edu.utn.frc.tup.piii.entities.CountryEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
@@ -24,7 +27,6 @@ import org.springframework.stereotype.Component;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 
 @Component
 @Slf4j
@@ -61,7 +63,11 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
     @Autowired
     private IGameEventService gameEventService;
 
-    private final Random random = new Random();
+    @Autowired
+    private DiceOdds diceOdds;
+
+    @Autowired
+    private WorldMap worldMap;
 
     @Override
     public BotLevel getLevel() {
@@ -123,8 +129,8 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
         log.info("Bot BALANCED realizando colocación inicial de {} ejércitos", armiesToPlace);
 
         try {
-            List<Territory> playerTerritories = gameTerritoryService.getTerritoriesByOwner(
-                    game.getId(), botPlayer.getId());
+            BoardView board = board(game);
+            List<Territory> playerTerritories = board.territoriesOf(botPlayer.getId());
 
             if (playerTerritories.isEmpty()) {
                 log.warn("Bot balanceado no tiene territorios para colocación inicial");
@@ -133,7 +139,7 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
 
             // Estrategia balanceada: priorizar territorios fronterizos más estratégicos
             Map<Long, Integer> armiesDistribution = distributeInitialArmiesBalanced(
-                    playerTerritories, game, botPlayer.getId(), armiesToPlace);
+                    playerTerritories, board, botPlayer.getId(), armiesToPlace);
 
             // Usar el servicio de colocación inicial
             initialPlacementService.placeInitialArmies(
@@ -168,20 +174,15 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
      * Distribuye los ejércitos iniciales de forma más inteligente que el novato
      */
     private Map<Long, Integer> distributeInitialArmiesBalanced(List<Territory> territories,
-                                                               GameEntity game, Long playerId, int totalArmies) {
+                                                               BoardView board, Long playerId, int totalArmies) {
         Map<Long, Integer> distribution = new HashMap<>();
 
         // Encontrar territorios fronterizos y calcular su prioridad
         List<Territory> prioritizedTerritories = territories.stream()
-                .filter(territory -> {
-                    List<Territory> neighbors = gameTerritoryService.getNeighborTerritories(
-                            game.getId(), territory.getId());
-                    return neighbors.stream()
-                            .anyMatch(neighbor -> !neighbor.getOwnerId().equals(playerId));
-                })
+                .filter(territory -> board.isBorder(territory.getId()))
                 .sorted((t1, t2) -> {
-                    int t1Priority = calculateTerritoryPriority(t1, game, playerId);
-                    int t2Priority = calculateTerritoryPriority(t2, game, playerId);
+                    int t1Priority = calculateTerritoryPriority(t1, board, playerId);
+                    int t2Priority = calculateTerritoryPriority(t2, board, playerId);
                     return Integer.compare(t2Priority, t1Priority); // Mayor prioridad primero
                 })
                 .toList();
@@ -265,8 +266,8 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
                 return;
             }
 
-            List<Territory> playerTerritories = gameTerritoryService.getTerritoriesByOwner(
-                    game.getId(), botPlayer.getId());
+            BoardView board = board(game);
+            List<Territory> playerTerritories = board.territoriesOf(botPlayer.getId());
 
             if (playerTerritories.isEmpty()) {
                 log.warn("Bot no tiene territorios para reforzar");
@@ -275,7 +276,7 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
 
             // Estrategia BALANCED-AGGRESSIVE: distribuir de forma más inteligente
             Map<Long, Integer> reinforcements = distributeReinforcementsBalanced(
-                    playerTerritories, game, botPlayer.getId(), availableReinforcements);
+                    playerTerritories, board, botPlayer.getId(), availableReinforcements);
 
             // Usar el servicio oficial de refuerzos
             reinforcementService.placeReinforcementArmies(
@@ -314,20 +315,15 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
      * Distribuye refuerzos de forma balanceada entre territorios prioritarios
      */
     private Map<Long, Integer> distributeReinforcementsBalanced(List<Territory> territories,
-                                                                GameEntity game, Long playerId, int totalReinforcements) {
+                                                                BoardView board, Long playerId, int totalReinforcements) {
         Map<Long, Integer> distribution = new HashMap<>();
 
         // Encontrar territorios fronterizos y priorizarlos
         List<Territory> borderTerritories = territories.stream()
-                .filter(territory -> {
-                    List<Territory> neighbors = gameTerritoryService.getNeighborTerritories(
-                            game.getId(), territory.getId());
-                    return neighbors.stream()
-                            .anyMatch(neighbor -> !neighbor.getOwnerId().equals(playerId));
-                })
+                .filter(territory -> board.isBorder(territory.getId()))
                 .sorted((t1, t2) -> {
-                    int t1Priority = calculateTerritoryPriority(t1, game, playerId);
-                    int t2Priority = calculateTerritoryPriority(t2, game, playerId);
+                    int t1Priority = calculateTerritoryPriority(t1, board, playerId);
+                    int t2Priority = calculateTerritoryPriority(t2, board, playerId);
                     return Integer.compare(t2Priority, t1Priority);
                 })
                 .toList();
@@ -395,8 +391,8 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
             // - Ataca solo cuando tiene ventaja significativa
             // - Puede realizar más ataques que NOVICE pero de forma más calculada
 
-            List<Territory> attackableTerritories = combatService.getAttackableTerritoriesForPlayer(
-                    game.getGameCode(), botPlayer.getId());
+            BoardView board = board(game);
+            List<Territory> attackableTerritories = board.attackableTerritoriesOf(botPlayer.getId());
 
             if (attackableTerritories.isEmpty()) {
                 log.info("Bot no tiene territorios desde donde atacar");
@@ -410,8 +406,7 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
             for (Territory attackerTerritory : attackableTerritories) {
                 if (attackCount >= maxAttacks) break;
 
-                List<Territory> targets = combatService.getTargetsForTerritory(
-                        game.getGameCode(), attackerTerritory.getId(), botPlayer.getId());
+                List<Territory> targets = board.targetsOf(attackerTerritory.getId());
 
                 if (targets.isEmpty()) continue;
 
@@ -435,14 +430,16 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
                             attackerTerritory.getArmies(), bestTarget.getArmies());
 
                     if (attackingArmies > 0) {
-                        AttackDto attackDto = AttackDto.builder()
+                        // Tira hasta conquistar o hasta haber arriesgado los ejércitos calculados
+                        BlitzAttackDto blitzDto = BlitzAttackDto.builder()
                                 .playerId(botPlayer.getId())
                                 .attackerCountryId(attackerTerritory.getId())
                                 .defenderCountryId(bestTarget.getId())
-                                .attackingArmies(attackingArmies)
+                                .stopAtArmies(attackerTerritory.getArmies() - attackingArmies)
                                 .build();
 
-                        CombatResultDto result = combatService.performCombat(game.getGameCode(), attackDto);
+                        BlitzResultDto result = combatService.performBlitz(game.getGameCode(), blitzDto);
+                        board.recordBlitz(result);
 
                         // Registrar el ataque en el historial
                         gameEventService.recordAttack(
@@ -454,27 +451,6 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
                                 result.getTerritoryConquered()
                         );
 
-                        // Si conquistó el territorio, registrar la conquista también
-                        if (result.getTerritoryConquered()) {
-                            // Obtener el nombre del jugador anterior (defensor)
-                            String fromPlayerName = "Jugador desconocido"; // Fallback
-                            try {
-                                // Aquí podrías obtener el nombre del jugador defensor si tienes acceso
-                                // Por ahora dejamos un placeholder
-                                fromPlayerName = "Oponente";
-                            } catch (Exception e) {
-                                log.warn("No se pudo obtener el nombre del jugador defensor");
-                            }
-
-                            gameEventService.recordTerritoryConquest(
-                                    game.getId(),
-                                    botPlayer.getId(),
-                                    bestTarget.getName(),
-                                    fromPlayerName,
-                                    game.getCurrentTurn()
-                            );
-                        }
-
                         log.info("Bot atacó desde {} hacia {} con probabilidad {}: Conquistado={}",
                                 attackerTerritory.getName(), bestTarget.getName(),
                                 String.format("%.2f", bestProbability), result.getTerritoryConquered());
@@ -498,8 +474,8 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
             // - Identifica territorios vulnerables y los refuerza
             // - Balancea entre defensa y preparación para ataques futuros
 
-            List<Territory> fortifiableTerritories = fortificationService.getFortifiableTerritoriesForPlayer(
-                    game.getGameCode(), botPlayer.getId());
+            BoardView board = board(game);
+            List<Territory> fortifiableTerritories = board.fortifiableTerritoriesOf(botPlayer.getId());
 
             if (fortifiableTerritories.isEmpty()) {
                 log.info("Bot no tiene territorios desde donde fortificar");
@@ -512,11 +488,11 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
             int bestScore = 0;
 
             for (Territory source : fortifiableTerritories) {
-                List<Territory> possibleTargets = fortificationService.getFortificationTargetsForTerritory(
-                        game.getGameCode(), source.getId(), botPlayer.getId());
+                List<Territory> possibleTargets = board.fortificationTargetsOf(
+                        source.getId(), game.getStatus() != GameState.HOSTILITY_ONLY);
 
                 for (Territory target : possibleTargets) {
-                    int score = calculateFortificationScore(source, target, game, botPlayer.getId());
+                    int score = calculateFortificationScore(source, target, board, botPlayer.getId());
                     if (score > bestScore) {
                         bestScore = score;
                         bestSource = source;
@@ -526,8 +502,7 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
             }
 
             if (bestSource != null && bestTarget != null) {
-                int maxMovableArmies = fortificationService.getMaxMovableArmies(
-                        game.getGameCode(), bestSource.getId());
+                int maxMovableArmies = board.armiesOf(bestSource.getId()) - 1;
 
                 if (maxMovableArmies > 0) {
                     // Calcular cuántos ejércitos mover (más estratégico que NOVICE)
@@ -569,6 +544,13 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
         }
     }
 
+    /**
+     * Foto del tablero para planificar la fase sin consultar servicios
+     */
+    private BoardView board(GameEntity game) {
+        return BoardView.of(worldMap, gameTerritoryService.getAllTerritoriesInGame(game.getId()));
+    }
+
     /**
      * Avanza a la siguiente fase del turno o termina el turno
      */
@@ -602,27 +584,9 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
 
     @Override
     public double evaluateAttackProbability(PlayerEntity botPlayer, int attackerArmies, int defenderArmies) {
-        // Evaluación más sofisticada que NOVICE
+        // Probabilidad exacta de conquistar atacando hasta el final, de la tabla precalculada
         if (attackerArmies <= 1) return 0.0;
-
-        // Fórmula mejorada considerando ventaja numérica
-        double ratio = (double) attackerArmies / defenderArmies;
-
-        // Probabilidad base según ratio
-        double probability;
-        if (ratio >= 3.0) {
-            probability = 0.9; // Muy alta probabilidad si tengo 3x más ejércitos
-        } else if (ratio >= 2.0) {
-            probability = 0.75; // Alta probabilidad si tengo 2x más
-        } else if (ratio >= 1.5) {
-            probability = 0.6; // Moderada si tengo 1.5x más
-        } else if (ratio >= 1.2) {
-            probability = 0.4; // Baja si tengo solo 1.2x más
-        } else {
-            probability = 0.2; // Muy baja si tengo menos o similar
-        }
-
-        return probability;
+        return diceOdds.winProbability(attackerArmies, defenderArmies);
     }
 
     @Override
@@ -639,10 +603,9 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
 
     // Métodos auxiliares para cálculos estratégicos
 
-    private int calculateTerritoryPriority(Territory territory, GameEntity game, Long playerId) {
+    private int calculateTerritoryPriority(Territory territory, BoardView board, Long playerId) {
         // Calcula prioridad basada en vulnerabilidad y potencial ofensivo
-        List<Territory> neighbors = gameTerritoryService.getNeighborTerritories(
-                game.getId(), territory.getId());
+        List<Territory> neighbors = board.neighborsOf(territory.getId());
 
         int enemyNeighbors = 0;
         int weakEnemyNeighbors = 0;
@@ -674,12 +637,10 @@ public class BalancedAggressiveExecutor implements BotStrategyExecutor {
         }
     }
 
-    private int calculateFortificationScore(Territory source, Territory target, GameEntity game, Long playerId) {
+    private int calculateFortificationScore(Territory source, Territory target, BoardView board, Long playerId) {
         // Calcula score para movimiento de fortificación
-        List<Territory> targetNeighbors = gameTerritoryService.getNeighborTerritories(
-                game.getId(), target.getId());
-        List<Territory> sourceNeighbors = gameTerritoryService.getNeighborTerritories(
-                game.getId(), source.getId());
+        List<Territory> targetNeighbors = board.neighborsOf(target.getId());
+        List<Territory> sourceNeighbors = board.neighborsOf(source.getId());
 
         int targetEnemyNeighbors = (int) targetNeighbors.stream()
                 .filter(n -> !n.getOwnerId().equals(playerId))
@@ -0,0 +1,237 @@
+package ar.edu.utn.frc.tup.piii.FactoryBots;
+
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzResultDto;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
+import ar.edu.utn.frc.tup.piii.model.Territory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Foto del tablero sobre la que planifican los bots: dueño y ejércitos de cada país en arreglos
+ * indexados como {@link WorldMap}, con la adyacencia del mapa en memoria. Se arma con una sola
+ * lectura de los territorios de la partida y todas las consultas de planificación (fronteras,
+ * objetivos de ataque, destinos de fortificación) se resuelven sin volver a la base.
+ * <p>
+ * Solo las acciones elegidas pasan por los servicios. Con los métodos {@code record*} el bot
+ * refleja en la foto el resultado confirmado de cada acción (una conquista, ejércitos movidos)
+ * para seguir planificando el resto de la fase sin releer el tablero.
+ */
+public final class BoardView {
+
+    private final WorldMap worldMap;
+    // Datos fijos de cada país en juego (null si el país no está en la partida)
+    private final Territory[] countries;
+    private final Long[] owner;
+    private final int[] armies;
+
+    private BoardView(WorldMap worldMap, Territory[] countries, Long[] owner, int[] armies) {
+        this.worldMap = worldMap;
+        this.countries = countries;
+        this.owner = owner;
+        this.armies = armies;
+    }
+
+    public static BoardView of(WorldMap worldMap, Collection<Territory> territories) {
+        int size = worldMap.size();
+        Territory[] countries = new Territory[size];
+        Long[] owner = new Long[size];
+        int[] armies = new int[size];
+        for (Territory territory : territories) {
+            int index = worldMap.indexOf(territory.getId());
+            if (index < 0) {
+                continue;
+            }
+            countries[index] = territory;
+            owner[index] = territory.getOwnerId();
+            armies[index] = territory.getArmies() != null ? territory.getArmies() : 0;
+        }
+        return new BoardView(worldMap, countries, owner, armies);
+    }
+
+    /**
+     * Territorio con el dueño y los ejércitos actuales de la foto, o null si no está en la partida.
+     */
+    public Territory territory(Long countryId) {
+        int index = worldMap.indexOf(countryId);
+        return index >= 0 ? territoryAt(index) : null;
+    }
+
+    public List<Territory> territories() {
+        List<Territory> result = new ArrayList<>();
+        for (int i = 0; i < countries.length; i++) {
+            if (countries[i] != null) {
+                result.add(territoryAt(i));
+            }
+        }
+        return result;
+    }
+
+    public List<Territory> territoriesOf(Long playerId) {
+        List<Territory> result = new ArrayList<>();
+        for (int i = 0; i < countries.length; i++) {
+            if (countries[i] != null && Objects.equals(owner[i], playerId)) {
+                result.add(territoryAt(i));
+            }
+        }
+        return result;
+    }
+
+    public List<Territory> neighborsOf(Long countryId) {
+        int index = worldMap.indexOf(countryId);
+        List<Territory> result = new ArrayList<>();
+        if (index < 0) {
+            return result;
+        }
+        for (int neighbor : worldMap.neighborsOf(index)) {
+            if (countries[neighbor] != null) {
+                result.add(territoryAt(neighbor));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Si el país tiene algún vecino de otro jugador.
+     */
+    public boolean isBorder(Long countryId) {
+        int index = worldMap.indexOf(countryId);
+        if (index < 0) {
+            return false;
+        }
+        for (int neighbor : worldMap.neighborsOf(index)) {
+            if (countries[neighbor] != null && !Objects.equals(owner[neighbor], owner[index])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Países desde los que el jugador puede atacar (más de un ejército), como
+     * {@code CombatService.getAttackableTerritoriesForPlayer}.
+     */
+    public List<Territory> attackableTerritoriesOf(Long playerId) {
+        return territoriesOf(playerId).stream()
+                .filter(territory -> territory.getArmies() > 1)
+                .toList();
+    }
+
+    /**
+     * Vecinos de otros jugadores, como {@code CombatService.getTargetsForTerritory}.
+     */
+    public List<Territory> targetsOf(Long countryId) {
+        Long attacker = ownerOf(countryId);
+        return neighborsOf(countryId).stream()
+                .filter(neighbor -> !Objects.equals(neighbor.getOwnerId(), attacker))
+                .toList();
+    }
+
+    /**
+     * Países desde los que el jugador puede mover ejércitos (más de uno).
+     */
+    public List<Territory> fortifiableTerritoriesOf(Long playerId) {
+        return attackableTerritoriesOf(playerId);
+    }
+
+    /**
+     * Destinos de fortificación desde el país, como {@code FortificationService.getFortificationTargetsForTerritory}:
+     * los vecinos propios, o con {@code throughOwnTerritories} todos los propios conectados por una
+     * cadena de países del mismo dueño (NORMAL_PLAY).
+     */
+    public List<Territory> fortificationTargetsOf(Long countryId, boolean throughOwnTerritories) {
+        int from = worldMap.indexOf(countryId);
+        List<Territory> result = new ArrayList<>();
+        if (from < 0 || countries[from] == null || armies[from] <= 1) {
+            return result;
+        }
+
+        boolean[] visited = new boolean[countries.length];
+        visited[from] = true;
+        Deque<Integer> pending = new ArrayDeque<>();
+        pending.add(from);
+        while (!pending.isEmpty()) {
+            int current = pending.poll();
+            for (int neighbor : worldMap.neighborsOf(current)) {
+                if (visited[neighbor] || countries[neighbor] == null || !Objects.equals(owner[neighbor], owner[from])) {
+                    continue;
+                }
+                visited[neighbor] = true;
+                result.add(territoryAt(neighbor));
+                if (throughOwnTerritories) {
+                    pending.add(neighbor);
+                }
+            }
+        }
+        return result;
+    }
+
+    public Long ownerOf(Long countryId) {
+        int index = worldMap.indexOf(countryId);
+        return index >= 0 ? owner[index] : null;
+    }
+
+    public int armiesOf(Long countryId) {
+        int index = worldMap.indexOf(countryId);
+        return index >= 0 ? armies[index] : 0;
+    }
+
+    /**
+     * Refleja un ataque confirmado por {@code CombatService.performBlitz}.
+     */
+    public void recordBlitz(BlitzResultDto result) {
+        int from = worldMap.indexOf(result.getAttackerCountryId());
+        int to = worldMap.indexOf(result.getDefenderCountryId());
+        if (from < 0 || to < 0) {
+            return;
+        }
+        if (Boolean.TRUE.equals(result.getTerritoryConquered())) {
+            owner[to] = owner[from];
+        }
+        if (result.getAttackerRemainingArmies() != null) {
+            armies[from] = result.getAttackerRemainingArmies();
+        }
+        if (result.getDefenderRemainingArmies() != null) {
+            armies[to] = result.getDefenderRemainingArmies();
+        }
+    }
+
+    public void recordPlacement(Map<Long, Integer> placement) {
+        placement.forEach((countryId, count) -> {
+            int index = worldMap.indexOf(countryId);
+            if (index >= 0) {
+                armies[index] += count;
+            }
+        });
+    }
+
+    public void recordFortification(Long fromCountryId, Long toCountryId, int movedArmies) {
+        int from = worldMap.indexOf(fromCountryId);
+        int to = worldMap.indexOf(toCountryId);
+        if (from >= 0 && to >= 0) {
+            armies[from] -= movedArmies;
+            armies[to] += movedArmies;
+        }
+    }
+
+    private Territory territoryAt(int index) {
+        Territory country = countries[index];
+        return Territory.builder()
+                .id(country.getId())
+                .name(country.getName())
+                .continentName(country.getContinentName())
+                .ownerId(owner[index])
+                .ownerName(Objects.equals(owner[index], country.getOwnerId()) ? country.getOwnerName() : null)
+                .armies(armies[index])
+                .lastConqueredTurn(country.getLastConqueredTurn())
+                .positionX(country.getPositionX())
+                .positionY(country.getPositionY())
+                .neighborIds(country.getNeighborIds())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package ar.edu.utn.frc.tup.piii.FactoryBots;
 import ar.edu.utn.frc.tup.piii.FactoryBots.BalancedStrategies.BalancedAggressiveExecutor;
 import ar.edu.utn.frc.tup.piii.FactoryBots.ExpertStrategies.ExpertAggressiveExecutor;
+import ar.edu.utn.frc.tup.piii.FactoryBots.MasterStrategies.MasterAggressiveExecutor;
 import ar.edu.utn.frc.tup.piii.FactoryBots.NoviceStrategies.NoviceAggressiveExecutor;
 import ar.edu.utn.frc.tup.piii.entities.BotProfileEntity;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,13 +23,17 @@ public class BotStrategyFactory {
 
             BalancedAggressiveExecutor balancedAggressive,  //3 bots
 
-            ExpertAggressiveExecutor expertAggressive
+            ExpertAggressiveExecutor expertAggressive,
+
+            MasterAggressiveExecutor masterAggressive
     ) {
         executorMap.put(key(BotLevel.NOVICE, BotStrategy.AGGRESSIVE), noviceAggressive);
 
         executorMap.put(key(BotLevel.BALANCED, BotStrategy.AGGRESSIVE), balancedAggressive);
 
         executorMap.put(key(BotLevel.EXPERT, BotStrategy.AGGRESSIVE), expertAggressive);
+
+        executorMap.put(key(BotLevel.MASTER, BotStrategy.AGGRESSIVE), masterAggressive);
     }
 
     public BotStrategyExecutor getExecutor(BotProfileEntity profile) {
@@ -47,6 +52,14 @@ public class BotStrategyFactory {
         return executor;
     }
 
+    /**
+     * Si hay un executor para el nivel y la estrategia del perfil.
+     */
+    public boolean supports(BotProfileEntity profile) {
+        return profile != null && profile.getLevel() != null && profile.getStrategy() != null
+                && executorMap.containsKey(key(profile.getLevel(), profile.getStrategy()));
+    }
+
     private String key(BotLevel level, BotStrategy strategy) {
         return level.name() + "_" + strategy.name();
     }
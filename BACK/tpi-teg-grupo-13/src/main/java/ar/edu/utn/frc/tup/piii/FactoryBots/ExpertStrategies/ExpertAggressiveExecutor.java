@@ -1,10 +1,13 @@
 package ar.edu.utn.frc.tup.piii.FactoryBots.ExpertStrategies;
 
+import ar.edu.utn.frc.tup.piii.FactoryBots.BoardView;
 import ar.edu.utn.frc.tup.piii.FactoryBots.BotStrategyExecutor;
-import ar.edu.utn.frc.tup.piii.dtos.game.AttackDto;
-import ar.edu.utn.frc.tup.piii.dtos.game.CombatResultDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzAttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzResultDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.FortifyDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.ReinforcementStatusDto;
+import ar.edu.utn.frc.tup.piii.engine.DiceOdds;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
 import ar.edu.utn.frc.tup.piii.entities.CountryEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.ObjectiveEntity;
@@ -55,7 +58,11 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
     @Autowired
     private GameMapper gameMapper;
 
-    private final Random random = new Random();
+    @Autowired
+    private DiceOdds diceOdds;
+
+    @Autowired
+    private WorldMap worldMap;
 
     // Estructura simplificada para objetivos estratégicos
     private static class StrategicTarget {
@@ -147,8 +154,8 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
         log.info("Bot EXPERT realizando colocación inicial de {} ejércitos", armiesToPlace);
 
         try {
-            List<Territory> playerTerritories = gameTerritoryService.getTerritoriesByOwner(
-                    game.getId(), botPlayer.getId());
+            BoardView board = board(game);
+            List<Territory> playerTerritories = board.territoriesOf(botPlayer.getId());
 
             if (playerTerritories.isEmpty()) {
                 log.warn("Bot experto no tiene territorios para colocación inicial");
@@ -160,7 +167,7 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
             String objectiveType = (objective != null) ? objective.getType().name() : "GENERAL";
 
             Map<Long, Integer> armiesDistribution = distributeInitialArmiesExpert(
-                    playerTerritories, game, botPlayer, armiesToPlace, objectiveType);
+                    playerTerritories, board, botPlayer, armiesToPlace, objectiveType);
 
             initialPlacementService.placeInitialArmies(
                     game.getGameCode(), botPlayer.getId(), armiesDistribution);
@@ -195,21 +202,21 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
      * Distribución experta de ejércitos iniciales basada en objetivos
      */
     private Map<Long, Integer> distributeInitialArmiesExpert(List<Territory> territories,
-                                                             GameEntity game, PlayerEntity botPlayer,
+                                                             BoardView board, PlayerEntity botPlayer,
                                                              int totalArmies, String objectiveType) {
         Map<Long, Integer> distribution = new HashMap<>();
 
         // Identificar objetivos estratégicos
-        List<StrategicTarget> strategicTargets = identifyStrategicTargets(game, botPlayer, objectiveType);
+        List<StrategicTarget> strategicTargets = identifyStrategicTargets(board, botPlayer, objectiveType);
 
         // Encontrar territorios que coinciden con objetivos estratégicos
         List<Territory> priorityTerritories = territories.stream()
                 .filter(t -> strategicTargets.stream()
-                        .anyMatch(st -> isStrategicallyRelevant(t, st, game, botPlayer.getId())))
+                        .anyMatch(st -> isStrategicallyRelevant(t, st, board, botPlayer.getId())))
                 .collect(Collectors.toList());
 
         if (priorityTerritories.isEmpty()) {
-            priorityTerritories = findBorderTerritories(territories, game, botPlayer.getId());
+            priorityTerritories = findBorderTerritories(territories, board, botPlayer.getId());
         }
 
         // Distribución según objetivo
@@ -275,8 +282,8 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
                 return;
             }
 
-            List<Territory> playerTerritories = gameTerritoryService.getTerritoriesByOwner(
-                    game.getId(), botPlayer.getId());
+            BoardView board = board(game);
+            List<Territory> playerTerritories = board.territoriesOf(botPlayer.getId());
 
             if (playerTerritories.isEmpty()) {
                 log.warn("Bot EXPERT no tiene territorios para reforzar");
@@ -287,11 +294,11 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
             ObjectiveEntity objective = botPlayer.getObjective();
             String objectiveType = (objective != null) ? objective.getType().name() : "GENERAL";
 
-            List<StrategicTarget> strategicTargets = identifyStrategicTargets(game, botPlayer, objectiveType);
+            List<StrategicTarget> strategicTargets = identifyStrategicTargets(board, botPlayer, objectiveType);
 
             // Planificar distribución de refuerzos según objetivo
             Map<Long, Integer> reinforcementPlan = planExpertReinforcements(
-                    playerTerritories, strategicTargets, availableReinforcements, objectiveType, game, botPlayer.getId());
+                    playerTerritories, strategicTargets, availableReinforcements, objectiveType, board, botPlayer.getId());
 
             reinforcementService.placeReinforcementArmies(
                     game.getGameCode(),
@@ -330,8 +337,8 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
         log.info("Bot EXPERT-AGGRESSIVE ejecutando ataques para jugador: {}", botPlayer.getId());
 
         try {
-            List<Territory> attackableTerritories = combatService.getAttackableTerritoriesForPlayer(
-                    game.getGameCode(), botPlayer.getId());
+            BoardView board = board(game);
+            List<Territory> attackableTerritories = board.attackableTerritoriesOf(botPlayer.getId());
 
             if (attackableTerritories.isEmpty()) {
                 log.info("Bot EXPERT no tiene territorios desde donde atacar");
@@ -341,7 +348,7 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
             ObjectiveEntity objective = botPlayer.getObjective();
             String objectiveType = (objective != null) ? objective.getType().name() : "GENERAL";
 
-            List<StrategicTarget> strategicTargets = identifyStrategicTargets(game, botPlayer, objectiveType);
+            List<StrategicTarget> strategicTargets = identifyStrategicTargets(board, botPlayer, objectiveType);
 
             // Realizar ataques estratégicos (máximo 8 para nivel expert)
             int maxAttacks = getMaxAttacksForObjective(objectiveType);
@@ -353,8 +360,7 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
             for (Territory attackerTerritory : prioritizedAttackers) {
                 if (attackCount >= maxAttacks) break;
 
-                List<Territory> targets = combatService.getTargetsForTerritory(
-                        game.getGameCode(), attackerTerritory.getId(), botPlayer.getId());
+                List<Territory> targets = board.targetsOf(attackerTerritory.getId());
 
                 if (targets.isEmpty()) continue;
 
@@ -366,14 +372,16 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
                             attackerTerritory.getArmies(), bestTarget.getArmies(), objectiveType);
 
                     if (attackingArmies > 0) {
-                        AttackDto attackDto = AttackDto.builder()
+                        // Tira hasta conquistar o hasta haber arriesgado los ejércitos calculados
+                        BlitzAttackDto blitzDto = BlitzAttackDto.builder()
                                 .playerId(botPlayer.getId())
                                 .attackerCountryId(attackerTerritory.getId())
                                 .defenderCountryId(bestTarget.getId())
-                                .attackingArmies(attackingArmies)
+                                .stopAtArmies(attackerTerritory.getArmies() - attackingArmies)
                                 .build();
 
-                        CombatResultDto result = combatService.performCombat(game.getGameCode(), attackDto);
+                        BlitzResultDto result = combatService.performBlitz(game.getGameCode(), blitzDto);
+                        board.recordBlitz(result);
 
                         // Registrar el ataque en el historial
                         gameEventService.recordAttack(
@@ -385,18 +393,6 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
                                 result.getTerritoryConquered()
                         );
 
-                        // Si conquistó el territorio, registrar la conquista
-                        if (result.getTerritoryConquered()) {
-                            String formerOwnerName = getPlayerName(bestTarget.getOwnerId());
-                            gameEventService.recordTerritoryConquest(
-                                    game.getId(),
-                                    botPlayer.getId(),
-                                    bestTarget.getName(),
-                                    formerOwnerName,
-                                    game.getCurrentTurn()
-                            );
-                        }
-
                         log.info("Bot EXPERT atacó desde {} hacia {}: Conquistado={} (Estrategia: {})",
                                 attackerTerritory.getName(), bestTarget.getName(),
                                 result.getTerritoryConquered(), objectiveType);
@@ -416,8 +412,8 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
         log.info("Bot EXPERT-AGGRESSIVE realizando fortificación para jugador: {}", botPlayer.getId());
 
         try {
-            List<Territory> fortifiableTerritories = fortificationService.getFortifiableTerritoriesForPlayer(
-                    game.getGameCode(), botPlayer.getId());
+            BoardView board = board(game);
+            List<Territory> fortifiableTerritories = board.fortifiableTerritoriesOf(botPlayer.getId());
 
             if (fortifiableTerritories.isEmpty()) {
                 log.info("Bot EXPERT no tiene territorios desde donde fortificar");
@@ -429,7 +425,7 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
 
             // Encontrar el mejor movimiento de fortificación estratégico
             Optional<FortificationMove> bestMove = findBestExpertFortificationMove(
-                    fortifiableTerritories, game, botPlayer.getId(), objectiveType);
+                    fortifiableTerritories, board, game, botPlayer.getId(), objectiveType);
 
             if (bestMove.isPresent()) {
                 FortificationMove move = bestMove.get();
@@ -466,11 +462,11 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
 
     // Métodos auxiliares simplificados
 
-    private List<StrategicTarget> identifyStrategicTargets(GameEntity game, PlayerEntity botPlayer, String objectiveType) {
+    private List<StrategicTarget> identifyStrategicTargets(BoardView board, PlayerEntity botPlayer, String objectiveType) {
         List<StrategicTarget> targets = new ArrayList<>();
 
         try {
-            List<Territory> allTerritories = gameTerritoryService.getAllAvailableTerritories();
+            List<Territory> allTerritories = board.territories();
             List<Territory> enemyTerritories = allTerritories.stream()
                     .filter(t -> !t.getOwnerId().equals(botPlayer.getId()))
                     .collect(Collectors.toList());
@@ -541,14 +537,14 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
                                                         List<StrategicTarget> strategicTargets,
                                                         int availableReinforcements,
                                                         String objectiveType,
-                                                        GameEntity game,
+                                                        BoardView board,
                                                         Long playerId) {
         Map<Long, Integer> plan = new HashMap<>();
 
         switch (objectiveType.toUpperCase()) {
             case "DESTRUCTION":
                 // Concentrar en el territorio más fuerte en frontera
-                Territory strongestBorder = findStrongestBorderTerritory(playerTerritories, game, playerId);
+                Territory strongestBorder = findStrongestBorderTerritory(playerTerritories, board, playerId);
                 if (strongestBorder != null) {
                     plan.put(strongestBorder.getId(), availableReinforcements);
                 }
@@ -561,7 +557,7 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
 
             default:
                 // Distribución equilibrada en fronteras
-                List<Territory> borderTerritories = findBorderTerritories(playerTerritories, game, playerId);
+                List<Territory> borderTerritories = findBorderTerritories(playerTerritories, board, playerId);
                 distributeBalanced(plan, borderTerritories.isEmpty() ? playerTerritories : borderTerritories,
                         availableReinforcements);
         }
@@ -569,17 +565,15 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
         return plan;
     }
 
-    private List<Territory> findBorderTerritories(List<Territory> territories, GameEntity game, Long playerId) {
+    private List<Territory> findBorderTerritories(List<Territory> territories, BoardView board, Long playerId) {
         return territories.stream()
-                .filter(territory -> {
-                    List<Territory> neighbors = gameTerritoryService.getNeighborTerritories(game.getId(), territory.getId());
-                    return neighbors.stream().anyMatch(neighbor -> !neighbor.getOwnerId().equals(playerId));
-                })
+                .filter(territory -> board.neighborsOf(territory.getId()).stream()
+                        .anyMatch(neighbor -> !neighbor.getOwnerId().equals(playerId)))
                 .collect(Collectors.toList());
     }
 
-    private Territory findStrongestBorderTerritory(List<Territory> territories, GameEntity game, Long playerId) {
-        return findBorderTerritories(territories, game, playerId).stream()
+    private Territory findStrongestBorderTerritory(List<Territory> territories, BoardView board, Long playerId) {
+        return findBorderTerritories(territories, board, playerId).stream()
                 .max(Comparator.comparingInt(Territory::getArmies))
                 .orElse(territories.get(0));
     }
@@ -611,9 +605,9 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
         }
     }
 
-    private boolean isStrategicallyRelevant(Territory territory, StrategicTarget target, GameEntity game, Long playerId) {
+    private boolean isStrategicallyRelevant(Territory territory, StrategicTarget target, BoardView board, Long playerId) {
         // Verificar si el territorio está cerca de objetivos estratégicos
-        List<Territory> neighbors = gameTerritoryService.getNeighborTerritories(game.getId(), territory.getId());
+        List<Territory> neighbors = board.neighborsOf(territory.getId());
         return neighbors.stream().anyMatch(n -> n.getId().equals(target.territoryId));
     }
 
@@ -687,16 +681,16 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
     }
 
     private Optional<FortificationMove> findBestExpertFortificationMove(List<Territory> fortifiableTerritories,
-                                                                        GameEntity game, Long playerId,
-                                                                        String objectiveType) {
+                                                                        BoardView board, GameEntity game,
+                                                                        Long playerId, String objectiveType) {
         for (Territory source : fortifiableTerritories) {
             if (source.getArmies() <= 2) continue;
 
-            List<Territory> targets = fortificationService.getFortificationTargetsForTerritory(
-                    game.getGameCode(), source.getId(), playerId);
+            List<Territory> targets = board.fortificationTargetsOf(
+                    source.getId(), game.getStatus() != GameState.HOSTILITY_ONLY);
 
             for (Territory target : targets) {
-                if (shouldFortifyExpert(source, target, objectiveType, game, playerId)) {
+                if (shouldFortifyExpert(source, target, objectiveType, board, playerId)) {
                     int armiesToMove = calculateExpertFortificationArmies(source.getArmies(), objectiveType);
 
                     return Optional.of(new FortificationMove(
@@ -711,9 +705,9 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
     }
 
     private boolean shouldFortifyExpert(Territory source, Territory target, String objectiveType,
-                                        GameEntity game, Long playerId) {
-        List<Territory> targetNeighbors = gameTerritoryService.getNeighborTerritories(game.getId(), target.getId());
-        List<Territory> sourceNeighbors = gameTerritoryService.getNeighborTerritories(game.getId(), source.getId());
+                                        BoardView board, Long playerId) {
+        List<Territory> targetNeighbors = board.neighborsOf(target.getId());
+        List<Territory> sourceNeighbors = board.neighborsOf(source.getId());
 
         boolean targetIsBorder = targetNeighbors.stream().anyMatch(n -> !n.getOwnerId().equals(playerId));
         boolean sourceIsSafe = sourceNeighbors.stream().allMatch(n -> n.getOwnerId().equals(playerId));
@@ -734,6 +728,13 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
         }
     }
 
+    /**
+     * Foto del tablero para planificar la fase sin consultar servicios
+     */
+    private BoardView board(GameEntity game) {
+        return BoardView.of(worldMap, gameTerritoryService.getAllTerritoriesInGame(game.getId()));
+    }
+
     /**
      * Avanza a la siguiente fase del turno
      */
@@ -765,23 +766,15 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
         }
     }
 
-    // Métodos no implementados pero requeridos por la interfaz
+    // Probabilidad exacta de conquistar atacando hasta el final, de la tabla precalculada
     @Override
     public double evaluateAttackProbability(PlayerEntity botPlayer, int attackerArmies, int defenderArmies) {
-        // Cálculo más sofisticado para bot experto
         if (attackerArmies <= 0 || defenderArmies <= 0) return 0.0;
-
-        // Fórmula mejorada considerando ventaja del atacante
-        double ratio = (double) attackerArmies / defenderArmies;
-        double baseProbability = Math.min(0.95, ratio * 0.6);
-
-        // Ajuste por número de dados
-        if (attackerArmies >= 3) baseProbability += 0.1;
-        if (defenderArmies == 1) baseProbability += 0.15;
-
-        return Math.max(0.05, baseProbability);
+        return diceOdds.winProbability(attackerArmies, defenderArmies);
     }
 
+    // Métodos no implementados pero requeridos por la interfaz
+
     @Override
     public List<CountryEntity> getBestAttackTargets(PlayerEntity botPlayer, GameEntity game) {
         // Implementación vacía - la lógica está en selectBestTarget
@@ -793,25 +786,4 @@ public class ExpertAggressiveExecutor implements BotStrategyExecutor {
         // Implementación vacía - la lógica está en los métodos de fortificación
         return List.of();
     }
-
-    /**
-     * Obtiene el nombre de un jugador por su ID
-     */
-    private String getPlayerName(Long playerId) {
-        try {
-            return playerService.findById(playerId)
-                    .map(player -> {
-                        if (player.getDisplayName() != null) {
-                            return player.getDisplayName();
-                        } else if (player.getBotProfile() != null && player.getBotProfile().getBotName() != null) {
-                            return player.getBotProfile().getBotName();
-                        }
-                        return "Jugador Desconocido";
-                    })
-                    .orElse("Jugador Desconocido");
-        } catch (Exception e) {
-            log.warn("Error obteniendo nombre del jugador {}: {}", playerId, e.getMessage());
-            return "Jugador Desconocido";
-        }
-    }
 }
\ No newline at end of file
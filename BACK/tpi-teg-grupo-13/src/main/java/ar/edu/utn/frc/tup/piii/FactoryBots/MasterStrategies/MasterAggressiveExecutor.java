@@ -0,0 +1,382 @@
+package ar.edu.utn.frc.tup.piii.FactoryBots.MasterStrategies;
+
+import ar.edu.utn.frc.tup.piii.FactoryBots.BotStrategyExecutor;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzAttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzResultDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.FortifyDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.ReinforcementStatusDto;
+import ar.edu.utn.frc.tup.piii.engine.DiceOdds;
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
+import ar.edu.utn.frc.tup.piii.entities.CountryEntity;
+import ar.edu.utn.frc.tup.piii.entities.GameEntity;
+import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
+import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.Objective;
+import ar.edu.utn.frc.tup.piii.model.Player;
+import ar.edu.utn.frc.tup.piii.model.enums.BotLevel;
+import ar.edu.utn.frc.tup.piii.model.enums.BotStrategy;
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
+import ar.edu.utn.frc.tup.piii.service.interfaces.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bot MASTER: en lugar de reglas fijas, cada turno elige el plan (refuerzos, riesgo de los
+ * ataques y fortificación) con {@link MonteCarloPlanner} y lo ejecuta con los mismos servicios
+ * que los demás bots. Ataques y fortificación siguen las reglas de {@link PlanBoard}, aplicadas
+ * sobre el tablero real que se va actualizando con el resultado de cada blitz.
+ */
+@Component
+@Slf4j
+public class MasterAggressiveExecutor implements BotStrategyExecutor {
+
+    @Autowired
+    private CombatService combatService;
+
+    @Autowired
+    private FortificationService fortificationService;
+
+    @Autowired
+    private ReinforcementService reinforcementService;
+
+    @Autowired
+    private GameTerritoryService gameTerritoryService;
+
+    @Autowired
+    private GameStateService gameStateService;
+
+    @Autowired
+    private InitialPlacementService initialPlacementService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private IGameEventService gameEventService;
+
+    @Autowired
+    private GameMapper gameMapper;
+
+    @Autowired
+    private WorldMap worldMap;
+
+    @Autowired
+    private DiceOdds diceOdds;
+
+    @Autowired
+    private GameRandom gameRandom;
+
+    @Autowired
+    private MonteCarloPlanner planner;
+
+    @Override
+    public BotLevel getLevel() {
+        return BotLevel.MASTER;
+    }
+
+    @Override
+    public BotStrategy getStrategy() {
+        return BotStrategy.AGGRESSIVE;
+    }
+
+    @Override
+    public void executeTurn(PlayerEntity botPlayer, GameEntity game) {
+        log.info("Ejecutando turno MASTER-AGGRESSIVE para bot: {}", botPlayer.getBotProfile().getBotName());
+
+        GameState currentState = game.getStatus();
+        gameEventService.recordTurnStart(game.getId(), botPlayer.getId(), game.getCurrentTurn());
+
+        switch (currentState) {
+            case REINFORCEMENT_5:
+                performInitialPlacement(botPlayer, game, 5);
+                break;
+            case REINFORCEMENT_3:
+                performInitialPlacement(botPlayer, game, 3);
+                advanceToNextPhase(game);
+                break;
+            case HOSTILITY_ONLY: {
+                // Un solo plan para todo el turno
+                TurnPlan plan = planTurn(botPlayer, game, 0, true, true);
+                attack(botPlayer, game, plan);
+                advanceToNextPhase(game);
+                fortify(botPlayer, game, plan);
+                advanceToNextPhase(game);
+                break;
+            }
+            case NORMAL_PLAY: {
+                int reinforcements = availableReinforcements(botPlayer, game);
+                TurnPlan plan = planTurn(botPlayer, game, reinforcements, true, true);
+                reinforce(botPlayer, game, plan, reinforcements);
+                advanceToNextPhase(game);
+                attack(botPlayer, game, plan);
+                advanceToNextPhase(game);
+                fortify(botPlayer, game, plan);
+                advanceToNextPhase(game);
+                break;
+            }
+            default:
+                log.warn("Estado de juego no manejado por el bot: {}", currentState);
+        }
+        gameEventService.recordTurnEnd(game.getId(), botPlayer.getId(), game.getCurrentTurn());
+    }
+
+    @Override
+    public void performBotReinforcement(PlayerEntity botPlayer, GameEntity game) {
+        int reinforcements = availableReinforcements(botPlayer, game);
+        if (reinforcements > 0) {
+            reinforce(botPlayer, game, planTurn(botPlayer, game, reinforcements, true, true), reinforcements);
+        }
+    }
+
+    @Override
+    public void performBotAttack(PlayerEntity botPlayer, GameEntity game) {
+        attack(botPlayer, game, planTurn(botPlayer, game, 0, true, true));
+    }
+
+    @Override
+    public void performBotFortify(PlayerEntity botPlayer, GameEntity game) {
+        fortify(botPlayer, game, planTurn(botPlayer, game, 0, false, true));
+    }
+
+    /**
+     * Colocación inicial: se planifica solo dónde poner los ejércitos, contra la vuelta de los rivales.
+     */
+    private void performInitialPlacement(PlayerEntity botPlayer, GameEntity game, int armiesToPlace) {
+        log.info("Bot MASTER realizando colocación inicial de {} ejércitos", armiesToPlace);
+
+        try {
+            TurnPlan plan = planTurn(botPlayer, game, armiesToPlace, false, false);
+            Map<Long, Integer> placement = toCountryIds(plan.reinforcements(), botPlayer, game, armiesToPlace);
+            if (placement.isEmpty()) {
+                log.warn("Bot MASTER no tiene territorios para colocación inicial");
+                return;
+            }
+
+            initialPlacementService.placeInitialArmies(game.getGameCode(), botPlayer.getId(), placement);
+            recordPlacement(botPlayer, game, placement);
+        } catch (Exception e) {
+            log.error("Error en colocación inicial del bot MASTER: {}", e.getMessage());
+        }
+    }
+
+    private int availableReinforcements(PlayerEntity botPlayer, GameEntity game) {
+        try {
+            Player player = playerService.findById(botPlayer.getId())
+                    .orElseThrow(() -> new RuntimeException("Player not found"));
+            if (!reinforcementService.canPerformReinforcement(gameMapper.toModel(game), player)) {
+                log.info("Bot MASTER no puede realizar refuerzos en este momento");
+                return 0;
+            }
+            ReinforcementStatusDto status = reinforcementService.getReinforcementStatus(
+                    game.getGameCode(), botPlayer.getId());
+            return status.getArmiesToPlace();
+        } catch (Exception e) {
+            log.error("Error consultando refuerzos del bot MASTER: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private void reinforce(PlayerEntity botPlayer, GameEntity game, TurnPlan plan, int reinforcements) {
+        if (reinforcements <= 0) {
+            log.info("Bot MASTER no tiene refuerzos disponibles");
+            return;
+        }
+
+        try {
+            Map<Long, Integer> placement = toCountryIds(plan.reinforcements(), botPlayer, game, reinforcements);
+            if (placement.isEmpty()) {
+                log.warn("Bot MASTER no tiene territorios para reforzar");
+                return;
+            }
+
+            reinforcementService.placeReinforcementArmies(game.getGameCode(), botPlayer.getId(), placement);
+            recordPlacement(botPlayer, game, placement);
+            log.info("Bot MASTER distribuyó {} refuerzos", reinforcements);
+        } catch (Exception e) {
+            log.error("Error en refuerzos del bot MASTER-AGGRESSIVE: {}", e.getMessage());
+        }
+    }
+
+    private void attack(PlayerEntity botPlayer, GameEntity game, TurnPlan plan) {
+        if (!plan.attacks()) {
+            log.info("Bot MASTER decidió no atacar este turno");
+            return;
+        }
+
+        try {
+            PlanBoard board = board(botPlayer, game);
+            int bot = board.bot();
+            for (int i = 0; i < MonteCarloPlanner.MAX_BOT_ATTACKS; i++) {
+                int move = board.nextAttack(bot, plan.minAttackProbability());
+                if (move == PlanBoard.NO_MOVE) {
+                    break;
+                }
+                int from = move / board.size();
+                int to = move % board.size();
+
+                BlitzAttackDto blitzDto = BlitzAttackDto.builder()
+                        .playerId(botPlayer.getId())
+                        .attackerCountryId(worldMap.countryIdAt(from))
+                        .defenderCountryId(worldMap.countryIdAt(to))
+                        .build();
+                BlitzResultDto result = combatService.performBlitz(game.getGameCode(), blitzDto);
+                board.applyBlitz(from, to, Boolean.TRUE.equals(result.getTerritoryConquered()),
+                        result.getAttackerRemainingArmies(), result.getDefenderRemainingArmies());
+
+                gameEventService.recordAttack(
+                        game.getId(),
+                        botPlayer.getId(),
+                        result.getAttackerCountryName(),
+                        result.getDefenderCountryName(),
+                        game.getCurrentTurn(),
+                        result.getTerritoryConquered()
+                );
+                log.info("Bot MASTER atacó desde {} hacia {}: Conquistado={}",
+                        result.getAttackerCountryName(), result.getDefenderCountryName(),
+                        result.getTerritoryConquered());
+            }
+        } catch (Exception e) {
+            log.error("Error en ataques del bot MASTER-AGGRESSIVE: {}", e.getMessage());
+        }
+    }
+
+    private void fortify(PlayerEntity botPlayer, GameEntity game, TurnPlan plan) {
+        if (!plan.fortify()) {
+            log.info("Bot MASTER decidió no fortificar este turno");
+            return;
+        }
+
+        try {
+            PlanBoard board = board(botPlayer, game);
+            int move = board.fortifyMove(board.bot());
+            if (move == PlanBoard.NO_MOVE) {
+                log.info("Bot MASTER no encontró movimientos de fortificación");
+                return;
+            }
+            int from = move / board.size();
+            int to = move % board.size();
+
+            FortifyDto fortifyDto = new FortifyDto();
+            fortifyDto.setPlayerId(botPlayer.getId());
+            fortifyDto.setFromCountryId(worldMap.countryIdAt(from));
+            fortifyDto.setToCountryId(worldMap.countryIdAt(to));
+            fortifyDto.setArmies(board.armiesAt(from) - 1);
+
+            if (fortificationService.performFortification(game.getGameCode(), fortifyDto)) {
+                gameEventService.recordFortification(
+                        game.getId(),
+                        botPlayer.getId(),
+                        worldMap.countryNameAt(from),
+                        worldMap.countryNameAt(to),
+                        fortifyDto.getArmies(),
+                        game.getCurrentTurn()
+                );
+                log.info("Bot MASTER fortificó: {} -> {} ({} ejércitos)",
+                        worldMap.countryNameAt(from), worldMap.countryNameAt(to), fortifyDto.getArmies());
+            }
+        } catch (Exception e) {
+            log.error("Error en fortificación del bot MASTER-AGGRESSIVE: {}", e.getMessage());
+        }
+    }
+
+    private TurnPlan planTurn(PlayerEntity botPlayer, GameEntity game, int reinforcements,
+                              boolean attacks, boolean fortify) {
+        long seed = gameRandom.nextInt(game.getId(), GameRandom.Stream.BOTS, Integer.MAX_VALUE);
+        return planner.plan(board(botPlayer, game), reinforcements, attacks, fortify, seed);
+    }
+
+    /**
+     * Tablero actual (con los ejércitos en memoria si la partida está caliente) desde el punto de vista del bot.
+     */
+    private PlanBoard board(PlayerEntity botPlayer, GameEntity game) {
+        Game gameModel = gameMapper.toModel(game);
+        Objective objective = gameModel.getPlayers().stream()
+                .filter(player -> player.getId().equals(botPlayer.getId()))
+                .findFirst()
+                .map(Player::getObjective)
+                .orElse(null);
+        return PlanBoard.of(worldMap, diceOdds, gameTerritoryService.getAllTerritoriesInGame(game.getId()),
+                gameModel.getPlayers(), botPlayer.getId(),
+                objective != null ? objective.getTargetContinents() : List.of(),
+                objective != null ? objective.getTargetColor() : null);
+    }
+
+    // Si el plan no tiene dónde reforzar (sin fronteras), todo va al primer país propio
+    private Map<Long, Integer> toCountryIds(Map<Integer, Integer> plan, PlayerEntity botPlayer, GameEntity game,
+                                            int armies) {
+        Map<Long, Integer> placement = new LinkedHashMap<>();
+        plan.forEach((country, count) -> placement.put(worldMap.countryIdAt(country), count));
+        if (placement.isEmpty()) {
+            gameTerritoryService.getTerritoriesByOwner(game.getId(), botPlayer.getId()).stream()
+                    .findFirst()
+                    .ifPresent(territory -> placement.put(territory.getId(), armies));
+        }
+        return placement;
+    }
+
+    private void recordPlacement(PlayerEntity botPlayer, GameEntity game, Map<Long, Integer> placement) {
+        placement.forEach((countryId, armies) -> gameEventService.recordReinforcementsPlaced(
+                game.getId(),
+                botPlayer.getId(),
+                worldMap.countryNameAt(worldMap.indexOf(countryId)),
+                armies,
+                game.getCurrentTurn()
+        ));
+    }
+
+    private void advanceToNextPhase(GameEntity game) {
+        try {
+            TurnPhase currentPhase = game.getCurrentPhase();
+
+            switch (currentPhase) {
+                case REINFORCEMENT:
+                    gameStateService.changeTurnPhase(gameMapper.toModel(game), TurnPhase.ATTACK);
+                    break;
+                case ATTACK:
+                    gameStateService.changeTurnPhase(gameMapper.toModel(game), TurnPhase.FORTIFY);
+                    break;
+                case FORTIFY:
+                    gameStateService.changeTurnPhase(gameMapper.toModel(game), TurnPhase.END_TURN);
+                    break;
+                case END_TURN:
+                    gameStateService.changeTurnPhase(gameMapper.toModel(game), TurnPhase.REINFORCEMENT);
+                    break;
+                default:
+                    log.warn("Fase no manejada para avance: {}", currentPhase);
+            }
+
+            log.info("Bot MASTER avanzó de fase {} a {}", currentPhase, game.getCurrentPhase());
+
+        } catch (Exception e) {
+            log.error("Error al avanzar fase del bot MASTER: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public double evaluateAttackProbability(PlayerEntity botPlayer, int attackerArmies, int defenderArmies) {
+        if (attackerArmies <= 0 || defenderArmies <= 0) return 0.0;
+        return diceOdds.winProbability(attackerArmies, defenderArmies);
+    }
+
+    // Métodos no implementados pero requeridos por la interfaz
+
+    @Override
+    public List<CountryEntity> getBestAttackTargets(PlayerEntity botPlayer, GameEntity game) {
+        // La elección de ataques está en PlanBoard#nextAttack
+        return List.of();
+    }
+
+    @Override
+    public List<CountryEntity> getBestDefensePositions(PlayerEntity botPlayer, GameEntity game) {
+        // La elección de fortificación está en PlanBoard#fortifyMove
+        return List.of();
+    }
+}
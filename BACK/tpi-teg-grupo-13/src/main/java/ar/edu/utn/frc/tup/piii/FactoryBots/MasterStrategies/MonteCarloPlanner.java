@@ -0,0 +1,194 @@
+package ar.edu.utn.frc.tup.piii.FactoryBots.MasterStrategies;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Elige el plan de turno del bot MASTER por Monte Carlo: arma los planes candidatos (dónde
+ * reforzar, qué tan arriesgado atacar, si fortificar), y para cada uno juega simulaciones sobre
+ * una copia de {@link PlanBoard}: el turno del bot con el plan, una vuelta de los rivales y el
+ * puntaje del tablero resultante. Gana el plan con mejor puntaje promedio.
+ * <p>
+ * Las simulaciones corren en paralelo en un fork-join propio de {@code game.bots.monte-carlo.parallelism}
+ * hilos hasta que se cumple {@code game.bots.monte-carlo.budget-ms} o cada plan llegó a
+ * {@code game.bots.monte-carlo.max-rollouts}; el hilo que pide el plan espera a lo sumo ese tiempo.
+ * Cada simulación usa su propio generador derivado de la semilla y de su número, así que su
+ * resultado no depende del hilo que la corre.
+ */
+@Component
+@Slf4j
+public class MonteCarloPlanner {
+
+    // Probabilidades mínimas de conquista que se prueban; la primera es la del plan por defecto
+    private static final double[] ATTACK_THRESHOLDS = {0.5, 0.35, 0.65, 0.8, TurnPlan.NO_ATTACKS};
+    private static final int REINFORCE_FOR_ATTACK = 3;
+    private static final int REINFORCE_FOR_DEFENSE = 2;
+    private static final int SPLIT_TARGETS = 3;
+
+    static final int MAX_BOT_ATTACKS = 12;
+    private static final int MAX_OPPONENT_ATTACKS = 6;
+    private static final double OPPONENT_ATTACK_PROBABILITY = 0.6;
+
+    @Value("${game.bots.monte-carlo.budget-ms:200}")
+    private long budgetMs;
+
+    @Value("${game.bots.monte-carlo.parallelism:0}")
+    private int parallelism;
+
+    @Value("${game.bots.monte-carlo.max-rollouts:2000}")
+    private int maxRollouts;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void start() {
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Mejor plan encontrado dentro del presupuesto de tiempo.
+     *
+     * @param reinforcements ejércitos a colocar este turno (0 si no hay fase de refuerzo)
+     * @param attacks si el turno tiene fase de ataque
+     * @param fortify si el turno tiene fase de fortificación
+     */
+    public TurnPlan plan(PlanBoard board, int reinforcements, boolean attacks, boolean fortify, long seed) {
+        List<TurnPlan> candidates = candidates(board, reinforcements, attacks, fortify);
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        int size = candidates.size();
+        DoubleAdder[] scores = new DoubleAdder[size];
+        LongAdder[] rollouts = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            scores[i] = new DoubleAdder();
+            rollouts[i] = new LongAdder();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        long totalRollouts = (long) maxRollouts * size;
+        AtomicLong next = new AtomicLong();
+
+        List<Callable<Void>> workers = new ArrayList<>(parallelism);
+        for (int w = 0; w < parallelism; w++) {
+            workers.add(() -> {
+                long n;
+                // El plazo se mira antes de tomar una simulación: las tomadas siempre terminan
+                while (System.nanoTime() < deadline && (n = next.getAndIncrement()) < totalRollouts) {
+                    int candidate = (int) (n % size);
+                    scores[candidate].add(rollout(board, candidates.get(candidate), new SplittableRandom(mix(seed, n))));
+                    rollouts[candidate].increment();
+                }
+                return null;
+            });
+        }
+        try {
+            pool.invokeAll(workers, budgetMs * 2 + 100, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int best = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            long count = rollouts[i].sum();
+            total += count;
+            if (count > 0 && scores[i].sum() / count > bestScore) {
+                bestScore = scores[i].sum() / count;
+                best = i;
+            }
+        }
+        log.debug("Monte Carlo plan chosen from {} candidates after {} rollouts: {}", size, total, candidates.get(best));
+        return candidates.get(best);
+    }
+
+    /**
+     * Simula el turno del bot con el plan y una vuelta de los rivales, y puntúa el tablero.
+     */
+    double rollout(PlanBoard base, TurnPlan plan, SplittableRandom random) {
+        PlanBoard board = base.copy();
+        int bot = board.bot();
+        plan.reinforcements().forEach(board::addArmies);
+        if (plan.attacks()) {
+            board.playAttacks(bot, plan.minAttackProbability(), MAX_BOT_ATTACKS, random);
+        }
+        if (plan.fortify()) {
+            int move = board.fortifyMove(bot);
+            if (move != PlanBoard.NO_MOVE) {
+                board.fortify(move);
+            }
+        }
+        for (int i = 1; i < board.players(); i++) {
+            board.playOpponentTurn((bot + i) % board.players(), OPPONENT_ATTACK_PROBABILITY, MAX_OPPONENT_ATTACKS, random);
+        }
+        return board.score();
+    }
+
+    List<TurnPlan> candidates(PlanBoard board, int reinforcements, boolean attacks, boolean fortify) {
+        List<Map<Integer, Integer>> placements = new ArrayList<>();
+        if (reinforcements > 0) {
+            List<Integer> targets = board.reinforcementCandidates(board.bot(), reinforcements,
+                    REINFORCE_FOR_ATTACK, REINFORCE_FOR_DEFENSE);
+            for (int target : targets) {
+                placements.add(Map.of(target, reinforcements));
+            }
+            int split = Math.min(SPLIT_TARGETS, Math.min(targets.size(), reinforcements));
+            if (split > 1) {
+                Map<Integer, Integer> spread = new LinkedHashMap<>();
+                for (int i = 0; i < split; i++) {
+                    spread.put(targets.get(i), reinforcements / split + (i < reinforcements % split ? 1 : 0));
+                }
+                placements.add(spread);
+            }
+        }
+        if (placements.isEmpty()) {
+            placements.add(Map.of());
+        }
+
+        double[] thresholds = attacks ? ATTACK_THRESHOLDS : new double[]{TurnPlan.NO_ATTACKS};
+        boolean[] fortifyOptions = fortify ? new boolean[]{true, false} : new boolean[]{false};
+        List<TurnPlan> candidates = new ArrayList<>();
+        for (Map<Integer, Integer> placement : placements) {
+            for (double threshold : thresholds) {
+                for (boolean fortifyOption : fortifyOptions) {
+                    candidates.add(new TurnPlan(placement, threshold, fortifyOption));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    // Mezcla de SplitMix64: semillas cercanas dan generadores independientes
+    private static long mix(long seed, long n) {
+        long z = seed + (n + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
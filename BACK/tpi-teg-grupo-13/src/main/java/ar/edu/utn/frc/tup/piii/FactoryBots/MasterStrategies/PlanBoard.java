@@ -0,0 +1,460 @@
+package ar.edu.utn.frc.tup.piii.FactoryBots.MasterStrategies;
+
+import ar.edu.utn.frc.tup.piii.engine.DiceOdds;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
+import ar.edu.utn.frc.tup.piii.model.Player;
+import ar.edu.utn.frc.tup.piii.model.Territory;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerColor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Copia compacta del tablero para simular turnos: dueño y ejércitos de cada país en arrays
+ * indexados por el índice denso de {@link WorldMap}, y los jugadores como posiciones 0..n-1
+ * en orden de mesa. Copiarla es clonar dos arrays; el mapa (vecinos, continentes) y el valor de
+ * cada país para el bot se comparten entre copias y no cambian.
+ * <p>
+ * Además del estado, tiene las reglas con las que juegan las simulaciones, que son las mismas
+ * que usa el bot MASTER al ejecutar el plan elegido: a quién atacar, a dónde fortificar y
+ * cómo puntuar el tablero.
+ */
+public class PlanBoard {
+
+    public static final int NO_MOVE = -1;
+
+    // Un país propio cuenta más si está en un continente del objetivo
+    private static final double OBJECTIVE_COUNTRY_VALUE = 1.5;
+    private static final double CONTINENT_BONUS_WEIGHT = 1.5;
+    private static final double ARMY_WEIGHT = 0.05;
+    private static final double EXPOSURE_WEIGHT = 0.5;
+    private static final double TARGET_PLAYER_WEIGHT = 0.5;
+    private static final double TARGET_ELIMINATED_SCORE = 10.0;
+    private static final double ELIMINATED_SCORE = -1000.0;
+
+    private final int[][] neighbors;
+    private final int[] continentOf;
+    private final int[] continentBonus;
+    private final int[] continentSize;
+    private final double[] value;
+    private final DiceOdds diceOdds;
+    private final int players;
+    private final int bot;
+    private final int targetPlayer;
+
+    private final int[] owner;
+    private final int[] armies;
+
+    public PlanBoard(int[][] neighbors, int[] continentOf, int[] continentBonus, double[] value, DiceOdds diceOdds,
+                     int players, int bot, int targetPlayer, int[] owner, int[] armies) {
+        this.neighbors = neighbors;
+        this.continentOf = continentOf;
+        this.continentBonus = continentBonus;
+        this.continentSize = new int[continentBonus.length];
+        for (int continent : continentOf) {
+            if (continent >= 0) {
+                continentSize[continent]++;
+            }
+        }
+        this.value = value;
+        this.diceOdds = diceOdds;
+        this.players = players;
+        this.bot = bot;
+        this.targetPlayer = targetPlayer;
+        this.owner = owner;
+        this.armies = armies;
+    }
+
+    private PlanBoard(PlanBoard other) {
+        this.neighbors = other.neighbors;
+        this.continentOf = other.continentOf;
+        this.continentBonus = other.continentBonus;
+        this.continentSize = other.continentSize;
+        this.value = other.value;
+        this.diceOdds = other.diceOdds;
+        this.players = other.players;
+        this.bot = other.bot;
+        this.targetPlayer = other.targetPlayer;
+        this.owner = other.owner.clone();
+        this.armies = other.armies.clone();
+    }
+
+    /**
+     * Arma el tablero de la partida desde el punto de vista de {@code botId}.
+     *
+     * @param players jugadores de la partida; se ordenan por lugar en la mesa
+     * @param targetContinents continentes del objetivo de ocupación del bot (puede estar vacío)
+     * @param targetColor color a destruir del objetivo del bot, o null
+     */
+    public static PlanBoard of(WorldMap worldMap, DiceOdds diceOdds, Collection<Territory> territories,
+                               List<Player> players, Long botId, Collection<String> targetContinents,
+                               PlayerColor targetColor) {
+        List<Player> seats = new ArrayList<>(players);
+        seats.sort(Comparator.comparing(Player::getSeatOrder, Comparator.nullsLast(Comparator.naturalOrder())));
+        Map<Long, Integer> slots = new HashMap<>();
+        int bot = NO_MOVE;
+        int targetPlayer = NO_MOVE;
+        for (int i = 0; i < seats.size(); i++) {
+            Player player = seats.get(i);
+            slots.put(player.getId(), i);
+            if (player.getId().equals(botId)) {
+                bot = i;
+            } else if (targetColor != null && player.getColor() == targetColor) {
+                targetPlayer = i;
+            }
+        }
+
+        int size = worldMap.size();
+        int[][] neighbors = new int[size][];
+        int[] continentOf = new int[size];
+        double[] value = new double[size];
+        for (int i = 0; i < size; i++) {
+            neighbors[i] = worldMap.neighborsOf(i);
+            continentOf[i] = worldMap.continentOf(i);
+            value[i] = 1.0;
+        }
+        int[] continentBonus = new int[worldMap.continentCount()];
+        for (int c = 0; c < continentBonus.length; c++) {
+            continentBonus[c] = worldMap.continentBonusAt(c);
+        }
+        for (String continentName : targetContinents) {
+            int continent = worldMap.continentIndexOf(continentName.trim());
+            for (int i = 0; continent >= 0 && i < size; i++) {
+                if (continentOf[i] == continent) {
+                    value[i] = OBJECTIVE_COUNTRY_VALUE;
+                }
+            }
+        }
+
+        int[] owner = new int[size];
+        int[] armies = new int[size];
+        Arrays.fill(owner, NO_MOVE);
+        for (Territory territory : territories) {
+            int index = worldMap.indexOf(territory.getId());
+            if (index < 0) {
+                continue;
+            }
+            Integer slot = slots.get(territory.getOwnerId());
+            owner[index] = slot != null ? slot : NO_MOVE;
+            armies[index] = territory.getArmies() != null ? territory.getArmies() : 0;
+        }
+        return new PlanBoard(neighbors, continentOf, continentBonus, value, diceOdds, seats.size(), bot,
+                targetPlayer, owner, armies);
+    }
+
+    public PlanBoard copy() {
+        return new PlanBoard(this);
+    }
+
+    public int size() {
+        return owner.length;
+    }
+
+    public int players() {
+        return players;
+    }
+
+    public int bot() {
+        return bot;
+    }
+
+    public int ownerAt(int country) {
+        return owner[country];
+    }
+
+    public int armiesAt(int country) {
+        return armies[country];
+    }
+
+    public int territoriesOf(int player) {
+        int count = 0;
+        for (int o : owner) {
+            if (o == player) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Refuerzos del turno como los calcula el servicio: la mitad de los países (mínimo 3) más los
+     * bonus de los continentes completos.
+     */
+    public int reinforcementsFor(int player) {
+        int armiesToPlace = Math.max(3, territoriesOf(player) / 2);
+        for (int c = 0; c < continentBonus.length; c++) {
+            if (controls(player, c)) {
+                armiesToPlace += continentBonus[c];
+            }
+        }
+        return armiesToPlace;
+    }
+
+    public void addArmies(int country, int count) {
+        armies[country] += count;
+    }
+
+    public boolean isBorder(int country) {
+        for (int neighbor : neighbors[country]) {
+            if (owner[neighbor] != owner[country]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ejércitos del vecino enemigo más fuerte.
+     */
+    public int strongestEnemyNeighbor(int country) {
+        int strongest = 0;
+        for (int neighbor : neighbors[country]) {
+            if (owner[neighbor] != owner[country]) {
+                strongest = Math.max(strongest, armies[neighbor]);
+            }
+        }
+        return strongest;
+    }
+
+    /**
+     * Países propios de frontera donde conviene reforzar con {@code reinforcements} ejércitos:
+     * los que mejor atacan a un vecino (probabilidad por valor) y los más amenazados, sin repetir.
+     */
+    public List<Integer> reinforcementCandidates(int player, int reinforcements, int attackers, int defenders) {
+        List<Integer> borders = new ArrayList<>();
+        for (int c = 0; c < owner.length; c++) {
+            if (owner[c] == player && isBorder(c)) {
+                borders.add(c);
+            }
+        }
+        List<Integer> byAttack = new ArrayList<>(borders);
+        byAttack.sort(Comparator.comparingDouble((Integer c) -> -bestAttackValue(player, c, armies[c] + reinforcements))
+                .thenComparingInt(c -> c));
+        List<Integer> byThreat = new ArrayList<>(borders);
+        byThreat.sort(Comparator.comparingInt((Integer c) -> armies[c] - strongestEnemyNeighbor(c))
+                .thenComparingInt(c -> c));
+
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < Math.min(attackers, byAttack.size()); i++) {
+            candidates.add(byAttack.get(i));
+        }
+        for (int i = 0, added = 0; i < byThreat.size() && added < defenders; i++) {
+            if (!candidates.contains(byThreat.get(i))) {
+                candidates.add(byThreat.get(i));
+                added++;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Mejor ataque disponible para el jugador con probabilidad de conquista de al menos
+     * {@code minProbability}, como {@code origen * size() + destino}, o {@link #NO_MOVE}.
+     */
+    public int nextAttack(int player, double minProbability) {
+        int best = NO_MOVE;
+        double bestValue = 0;
+        for (int from = 0; from < owner.length; from++) {
+            if (owner[from] != player || armies[from] < 2) {
+                continue;
+            }
+            for (int to : neighbors[from]) {
+                if (owner[to] == player) {
+                    continue;
+                }
+                double probability = diceOdds.winProbability(armies[from], armies[to]);
+                if (probability < minProbability) {
+                    continue;
+                }
+                double attackValue = probability * targetValue(player, to);
+                if (attackValue > bestValue) {
+                    bestValue = attackValue;
+                    best = from * owner.length + to;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Ataca hasta conquistar o quedarse con 1 ejército, sorteando cada tirada con las
+     * probabilidades exactas de {@link DiceOdds}. Al conquistar pasa 1 ejército, como el blitz real.
+     */
+    public boolean blitz(int from, int to, SplittableRandom random) {
+        int attacker = armies[from];
+        int defender = armies[to];
+        while (defender > 0 && attacker > 1) {
+            int attackerDice = Math.min(DiceOdds.MAX_DICE, attacker - 1);
+            int defenderDice = Math.min(DiceOdds.MAX_DICE, defender);
+            int comparisons = Math.min(attackerDice, defenderDice);
+            double roll = random.nextDouble();
+            int attackerLosses = comparisons;
+            for (int k = 0; k < comparisons; k++) {
+                roll -= diceOdds.rollProbability(attackerDice, defenderDice, k);
+                if (roll < 0) {
+                    attackerLosses = k;
+                    break;
+                }
+            }
+            attacker -= attackerLosses;
+            defender -= comparisons - attackerLosses;
+        }
+        if (defender <= 0) {
+            owner[to] = owner[from];
+            armies[to] = 1;
+            armies[from] = attacker - 1;
+            return true;
+        }
+        armies[from] = attacker;
+        armies[to] = defender;
+        return false;
+    }
+
+    /**
+     * Aplica el resultado de un blitz real.
+     */
+    public void applyBlitz(int from, int to, boolean conquered, int attackerArmies, int defenderArmies) {
+        if (conquered) {
+            owner[to] = owner[from];
+        }
+        armies[from] = attackerArmies;
+        armies[to] = defenderArmies;
+    }
+
+    public void playAttacks(int player, double minProbability, int maxAttacks, SplittableRandom random) {
+        for (int i = 0; i < maxAttacks; i++) {
+            int attack = nextAttack(player, minProbability);
+            if (attack == NO_MOVE) {
+                return;
+            }
+            blitz(attack / owner.length, attack % owner.length, random);
+        }
+    }
+
+    /**
+     * Fortificación entre vecinos (válida en cualquier fase): todo lo que sobra en el país interior
+     * más poblado pasa al país de frontera vecino más expuesto. Devuelve
+     * {@code origen * size() + destino}, o {@link #NO_MOVE}; se mueven {@code armiesAt(origen) - 1}.
+     */
+    public int fortifyMove(int player) {
+        int best = NO_MOVE;
+        int bestArmies = 1;
+        for (int from = 0; from < owner.length; from++) {
+            if (owner[from] != player || armies[from] <= bestArmies || isBorder(from)) {
+                continue;
+            }
+            int target = NO_MOVE;
+            int targetGap = Integer.MIN_VALUE;
+            for (int to : neighbors[from]) {
+                if (owner[to] == player && isBorder(to)) {
+                    int gap = strongestEnemyNeighbor(to) - armies[to];
+                    if (gap > targetGap) {
+                        targetGap = gap;
+                        target = to;
+                    }
+                }
+            }
+            if (target != NO_MOVE) {
+                best = from * owner.length + target;
+                bestArmies = armies[from];
+            }
+        }
+        return best;
+    }
+
+    public void fortify(int move) {
+        int from = move / owner.length;
+        int to = move % owner.length;
+        armies[to] += armies[from] - 1;
+        armies[from] = 1;
+    }
+
+    /**
+     * Turno simplificado de un rival: todos los refuerzos a su frontera más fuerte y ataques
+     * con buena probabilidad.
+     */
+    public void playOpponentTurn(int player, double minProbability, int maxAttacks, SplittableRandom random) {
+        if (territoriesOf(player) == 0) {
+            return;
+        }
+        int strongest = NO_MOVE;
+        for (int c = 0; c < owner.length; c++) {
+            if (owner[c] == player && isBorder(c) && (strongest == NO_MOVE || armies[c] > armies[strongest])) {
+                strongest = c;
+            }
+        }
+        if (strongest != NO_MOVE) {
+            armies[strongest] += reinforcementsFor(player);
+        }
+        playAttacks(player, minProbability, maxAttacks, random);
+    }
+
+    /**
+     * Puntaje del tablero para el bot: países (más los del objetivo), continentes completos y
+     * ejércitos, menos lo que se espera perder ante el vecino enemigo más fuerte de cada frontera.
+     */
+    public double score() {
+        double score = 0;
+        int owned = 0;
+        for (int c = 0; c < owner.length; c++) {
+            if (owner[c] != bot) {
+                continue;
+            }
+            owned++;
+            score += value[c] + ARMY_WEIGHT * armies[c];
+            int enemy = strongestEnemyNeighbor(c);
+            if (enemy > 1) {
+                score -= EXPOSURE_WEIGHT * value[c] * diceOdds.winProbability(enemy, armies[c]);
+            }
+        }
+        if (owned == 0) {
+            return ELIMINATED_SCORE;
+        }
+        for (int c = 0; c < continentBonus.length; c++) {
+            if (controls(bot, c)) {
+                score += CONTINENT_BONUS_WEIGHT * continentBonus[c];
+            }
+        }
+        if (targetPlayer != NO_MOVE) {
+            int targetTerritories = territoriesOf(targetPlayer);
+            score += targetTerritories == 0 ? TARGET_ELIMINATED_SCORE : -TARGET_PLAYER_WEIGHT * targetTerritories;
+        }
+        return score;
+    }
+
+    private boolean controls(int player, int continent) {
+        if (continentSize[continent] == 0) {
+            return false;
+        }
+        for (int c = 0; c < owner.length; c++) {
+            if (continentOf[c] == continent && owner[c] != player) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private double bestAttackValue(int player, int from, int attackerArmies) {
+        double best = 0;
+        for (int to : neighbors[from]) {
+            if (owner[to] != player) {
+                best = Math.max(best, diceOdds.winProbability(attackerArmies, armies[to]) * targetValue(player, to));
+            }
+        }
+        return best;
+    }
+
+    // Los rivales se simulan sin objetivo: todos los países valen lo mismo
+    private double targetValue(int player, int country) {
+        if (player != bot) {
+            return 1.0;
+        }
+        return value[country] + (owner[country] == targetPlayer && targetPlayer != NO_MOVE ? TARGET_PLAYER_WEIGHT : 0);
+    }
+}
@@ -0,0 +1,19 @@
+package ar.edu.utn.frc.tup.piii.FactoryBots.MasterStrategies;
+
+import java.util.Map;
+
+/**
+ * Plan de un turno del bot MASTER.
+ *
+ * @param reinforcements ejércitos a colocar por índice de país (vacío si no hay refuerzos)
+ * @param minAttackProbability probabilidad mínima de conquista para atacar; mayor a 1 es no atacar
+ * @param fortify si al final del turno se fortifica
+ */
+public record TurnPlan(Map<Integer, Integer> reinforcements, double minAttackProbability, boolean fortify) {
+
+    public static final double NO_ATTACKS = 2.0;
+
+    public boolean attacks() {
+        return minAttackProbability <= 1.0;
+    }
+}
@@ -1,10 +1,14 @@
 package ar.edu.utn.frc.tup.piii.FactoryBots.NoviceStrategies;
 
+import ar.edu.utn.frc.tup.piii.FactoryBots.BoardView;
 import ar.edu.utn.frc.tup.piii.FactoryBots.BotStrategyExecutor;
-import ar.edu.utn.frc.tup.piii.dtos.game.AttackDto;
-import ar.edu.utn.frc.tup.piii.dtos.game.CombatResultDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzAttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzResultDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.FortifyDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.ReinforcementStatusDto;
+import ar.edu.utn.frc.tup.piii.engine.DiceOdds;
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
 import ar.edu.utn.frc.tup.piii.entities.CountryEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
@@ -25,7 +29,6 @@ import org.springframework.stereotype.Component;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 
 @Component
 @Slf4j
@@ -52,7 +55,9 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
     @Autowired
     private IGameEventService gameEventService;
 
-    private final Random random = new Random();
+    @Autowired
+    private GameRandom gameRandom;
+
     @Autowired
     private GameMapper gameMapper;
     @Autowired
@@ -60,6 +65,12 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
     @Autowired
     private ReinforcementService reinforcementService;
 
+    @Autowired
+    private DiceOdds diceOdds;
+
+    @Autowired
+    private WorldMap worldMap;
+
     @Override
     public BotLevel getLevel() {
         return BotLevel.NOVICE;
@@ -129,8 +140,8 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
         log.info("Bot realizando colocación inicial de {} ejércitos", armiesToPlace);
 
         try {
-            List<Territory> playerTerritories = gameTerritoryService.getTerritoriesByOwner(
-                    game.getId(), botPlayer.getId());
+            BoardView board = board(game);
+            List<Territory> playerTerritories = board.territoriesOf(botPlayer.getId());
 
             if (playerTerritories.isEmpty()) {
                 log.warn("Bot novato no tiene territorios para colocación inicial");
@@ -139,7 +150,7 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
 
             // Estrategia: distribuir ejércitos en territorios fronterizos
             Map<Long, Integer> armiesDistribution = distributeInitialArmies(
-                    playerTerritories, game, botPlayer.getId(), armiesToPlace);
+                    playerTerritories, board, armiesToPlace);
 
             // Usar el servicio de colocación inicial
             initialPlacementService.placeInitialArmies(
@@ -174,17 +185,12 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
      * Distribuye los ejércitos iniciales priorizando territorios fronterizos
      */
     private Map<Long, Integer> distributeInitialArmies(List<Territory> territories,
-                                                       GameEntity game, Long playerId, int totalArmies) {
+                                                       BoardView board, int totalArmies) {
         Map<Long, Integer> distribution = new HashMap<>();
 
         // Encontrar territorios fronterizos
         List<Territory> borderTerritories = territories.stream()
-                .filter(territory -> {
-                    List<Territory> neighbors = gameTerritoryService.getNeighborTerritories(
-                            game.getId(), territory.getId());
-                    return neighbors.stream()
-                            .anyMatch(neighbor -> !neighbor.getOwnerId().equals(playerId));
-                })
+                .filter(territory -> board.isBorder(territory.getId()))
                 .toList();
 
         List<Territory> targetTerritories = borderTerritories.isEmpty() ? territories : borderTerritories;
@@ -231,8 +237,8 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
                 return;
             }
 
-            List<Territory> playerTerritories = gameTerritoryService.getTerritoriesByOwner(
-                    game.getId(), botPlayer.getId());
+            BoardView board = board(game);
+            List<Territory> playerTerritories = board.territoriesOf(botPlayer.getId());
 
             if (playerTerritories.isEmpty()) {
                 log.warn("Bot no tiene territorios para reforzar");
@@ -241,12 +247,7 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
 
             // Encontrar territorios fronterizos (prioritarios para estrategia agresiva)
             List<Territory> borderTerritories = playerTerritories.stream()
-                    .filter(territory -> {
-                        List<Territory> neighbors = gameTerritoryService.getNeighborTerritories(
-                                game.getId(), territory.getId());
-                        return neighbors.stream()
-                                .anyMatch(neighbor -> !neighbor.getOwnerId().equals(botPlayer.getId()));
-                    })
+                    .filter(territory -> board.isBorder(territory.getId()))
                     .toList();
 
             List<Territory> targetTerritories = borderTerritories.isEmpty() ?
@@ -290,8 +291,8 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
         log.info("Bot NOVICE-AGGRESSIVE realizando ataques para jugador: {}", botPlayer.getId());
 
         try {
-            List<Territory> attackableTerritories = combatService.getAttackableTerritoriesForPlayer(
-                    game.getGameCode(), botPlayer.getId());
+            BoardView board = board(game);
+            List<Territory> attackableTerritories = board.attackableTerritoriesOf(botPlayer.getId());
 
             if (attackableTerritories.isEmpty()) {
                 log.info("Bot no tiene territorios desde donde atacar");
@@ -305,8 +306,7 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
             for (Territory attackerTerritory : attackableTerritories) {
                 if (attackCount >= maxAttacks) break;
 
-                List<Territory> targets = combatService.getTargetsForTerritory(
-                        game.getGameCode(), attackerTerritory.getId(), botPlayer.getId());
+                List<Territory> targets = board.targetsOf(attackerTerritory.getId());
 
                 if (targets.isEmpty()) continue;
 
@@ -322,14 +322,16 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
                 );
 
                 if (attackingArmies > 0) {
-                    AttackDto attackDto = AttackDto.builder()
+                    // Tira hasta conquistar o hasta haber arriesgado los ejércitos calculados
+                    BlitzAttackDto blitzDto = BlitzAttackDto.builder()
                             .playerId(botPlayer.getId())
                             .attackerCountryId(attackerTerritory.getId())
                             .defenderCountryId(weakestTarget.getId())
-                            .attackingArmies(attackingArmies)
+                            .stopAtArmies(attackerTerritory.getArmies() - attackingArmies)
                             .build();
 
-                    CombatResultDto result = combatService.performCombat(game.getGameCode(), attackDto);
+                    BlitzResultDto result = combatService.performBlitz(game.getGameCode(), blitzDto);
+                    board.recordBlitz(result);
 
                     // Registrar el ataque en el historial
                     gameEventService.recordAttack(
@@ -341,20 +343,6 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
                             result.getTerritoryConquered()
                     );
 
-                    // Si conquistó el territorio, registrar la conquista
-                    if (result.getTerritoryConquered()) {
-                        // Obtener el nombre del jugador que perdió el territorio
-                        String formerOwnerName = getPlayerName(weakestTarget.getOwnerId());
-
-                        gameEventService.recordTerritoryConquest(
-                                game.getId(),
-                                botPlayer.getId(),
-                                weakestTarget.getName(),
-                                formerOwnerName,
-                                game.getCurrentTurn()
-                        );
-                    }
-
                     log.info("Bot atacó desde {} hacia {}: Conquistado={}",
                             attackerTerritory.getName(), weakestTarget.getName(),
                             result.getTerritoryConquered());
@@ -373,8 +361,8 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
         log.info("Bot NOVICE-AGGRESSIVE realizando fortificación para jugador: {}", botPlayer.getId());
 
         try {
-            List<Territory> fortifiableTerritories = fortificationService.getFortifiableTerritoriesForPlayer(
-                    game.getGameCode(), botPlayer.getId());
+            BoardView board = board(game);
+            List<Territory> fortifiableTerritories = board.fortifiableTerritoriesOf(botPlayer.getId());
 
             if (fortifiableTerritories.isEmpty()) {
                 log.info("Bot no tiene territorios desde donde fortificar");
@@ -383,12 +371,7 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
 
             // Buscar territorio seguro para mover ejércitos
             Territory safeTerritory = fortifiableTerritories.stream()
-                    .filter(territory -> {
-                        List<Territory> neighbors = gameTerritoryService.getNeighborTerritories(
-                                game.getId(), territory.getId());
-                        return neighbors.stream()
-                                .allMatch(neighbor -> neighbor.getOwnerId().equals(botPlayer.getId()));
-                    })
+                    .filter(territory -> !board.isBorder(territory.getId()))
                     .findFirst()
                     .orElse(null);
 
@@ -397,8 +380,8 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
                 return;
             }
 
-            List<Territory> possibleTargets = fortificationService.getFortificationTargetsForTerritory(
-                    game.getGameCode(), safeTerritory.getId(), botPlayer.getId());
+            List<Territory> possibleTargets = board.fortificationTargetsOf(
+                    safeTerritory.getId(), game.getStatus() != GameState.HOSTILITY_ONLY);
 
             if (possibleTargets.isEmpty()) {
                 log.info("No hay objetivos válidos para fortificación");
@@ -406,10 +389,10 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
             }
 
             // Elegir objetivo fronterizo al azar
-            Territory targetTerritory = possibleTargets.get(random.nextInt(possibleTargets.size()));
+            Territory targetTerritory = possibleTargets.get(
+                    gameRandom.nextInt(game.getId(), GameRandom.Stream.BOTS, possibleTargets.size()));
 
-            int maxMovableArmies = fortificationService.getMaxMovableArmies(
-                    game.getGameCode(), safeTerritory.getId());
+            int maxMovableArmies = board.armiesOf(safeTerritory.getId()) - 1;
 
             if (maxMovableArmies > 0) {
                 int armiesToMove = Math.max(1, maxMovableArmies / 2);
@@ -465,6 +448,13 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
         }
     }
 
+    /**
+     * Foto del tablero para planificar la fase sin consultar servicios
+     */
+    private BoardView board(GameEntity game) {
+        return BoardView.of(worldMap, gameTerritoryService.getAllTerritoriesInGame(game.getId()));
+    }
+
     /**
      * Avanza a la siguiente fase del turno o termina el turno
      */
@@ -496,12 +486,15 @@ public class NoviceAggressiveExecutor implements BotStrategyExecutor {
         }
     }
 
-    // Métodos no implementados pero requeridos por la interfaz
+    // El bot novato no la usa para decidir, pero la informa igual que los demás niveles
     @Override
     public double evaluateAttackProbability(PlayerEntity botPlayer, int attackerArmies, int defenderArmies) {
-        return 0;
+        if (attackerArmies <= 1 || defenderArmies <= 0) return 0.0;
+        return diceOdds.winProbability(attackerArmies, defenderArmies);
     }
 
+    // Métodos no implementados pero requeridos por la interfaz
+
     @Override
     public List<CountryEntity> getBestAttackTargets(PlayerEntity botPlayer, GameEntity game) {
         return List.of();
@@ -1,6 +1,7 @@
 package ar.edu.utn.frc.tup.piii.controllers;
 
 import ar.edu.utn.frc.tup.piii.dtos.game.GameResponseDto;
+import ar.edu.utn.frc.tup.piii.engine.GameCommandExecutor;
 import ar.edu.utn.frc.tup.piii.entities.BotProfileEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
@@ -49,20 +50,22 @@ public class BotController {
     private final GameStateService gameStateService;
     private final GameMapper gameMapper;
     private final PlayerMapper playerMapper;
+    private final GameCommandExecutor gameCommandExecutor;
 
     private static final Logger logger = LoggerFactory.getLogger(BotController.class);
 
 
     @Autowired
     public BotController(BotService botService, GameService gameService, PlayerService playerService,
-                         GameStateService gameStateService, GameMapper gameMapper, PlayerMapper playerMapper
-                         ) {
+                         GameStateService gameStateService, GameMapper gameMapper, PlayerMapper playerMapper,
+                         GameCommandExecutor gameCommandExecutor) {
         this.botService = botService;
         this.gameService = gameService;
         this.playerService = playerService;
         this.gameStateService = gameStateService;
         this.gameMapper = gameMapper;
         this.playerMapper = playerMapper;
+        this.gameCommandExecutor = gameCommandExecutor;
     }
 
     /**
@@ -119,44 +122,29 @@ public class BotController {
             @PathVariable String gameCode,
             @PathVariable Long botId,
             HttpServletRequest request) {
-        // LOGS MÚLTIPLES PARA ASEGURAR VISIBILIDAD
-        System.out.println("=".repeat(80));
-        System.out.println("🚨 EJECUTANDO TURNO DEL BOT");
-        System.out.println("🎯 GameCode: " + gameCode);
-        System.out.println("🤖 BotId: " + botId);
-        System.out.println("📡 URL: " + request.getRequestURL());
-        System.out.println("🔧 Method: " + request.getMethod());
-        System.out.println("=".repeat(80));
-        // También usar logger
-        log.info("🚨 EJECUTANDO TURNO DEL BOT - gameCode: {}, botId: {}", gameCode, botId);
+        log.debug("Executing bot turn - gameCode: {}, botId: {}, {} {}",
+                gameCode, botId, request.getMethod(), request.getRequestURL());
 
-        try {
-            // Validaciones paso a paso con logs
-            System.out.println("1️⃣ Validando parámetros...");
-            if (gameCode == null || gameCode.trim().isEmpty()) {
-                System.out.println("❌ GameCode inválido: " + gameCode);
-                return ResponseEntity.badRequest().body("GameCode inválido");
-            }
-            System.out.println("4️⃣ Llamando al servicio...");
+        return gameCommandExecutor.execute(gameCode, () -> {
+            try {
+                if (gameCode == null || gameCode.trim().isEmpty()) {
+                    log.debug("Rejecting bot turn with invalid gameCode: '{}'", gameCode);
+                    return ResponseEntity.badRequest().body("GameCode inválido");
+                }
 
-            GameResponseDto result = botService.executeBotTurnComplete(gameCode, botId);
-
-            log.info("✅ Turno del bot ejecutado correctamente para botId={} en juego={}", botId, gameCode);
-            return ResponseEntity.ok(result);
-        } catch (IllegalArgumentException e) {
-            System.out.println("❌ IllegalArgumentException: " + e.getMessage());
-            log.warn("❌ IllegalArgumentException en executeBotTurn para botId={}, gameCode={}: {}", botId, gameCode, e.getMessage());
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (IllegalStateException e) {
-            log.warn("❌ IllegalStateException en executeBotTurn para botId={}, gameCode={}: {}", botId, gameCode, e.getMessage());
-            System.out.println("❌EEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEE IllegalStateException: " + e.getMessage());
-            return ResponseEntity.badRequest().body(e.getMessage());
-        }catch (Exception e) {
-            log.error("❌ Error inesperado ejecutando turno del bot - botId={}, gameCode={}", botId, gameCode, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Ocurrió un error inesperado");
-        }
+                GameResponseDto result = botService.executeBotTurnComplete(gameCode, botId);
 
+                log.info("Bot turn executed for botId={} in game={}", botId, gameCode);
+                return ResponseEntity.ok(result);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                log.warn("Bot turn rejected for botId={}, gameCode={}: {}", botId, gameCode, e.getMessage());
+                return ResponseEntity.badRequest().body(e.getMessage());
+            } catch (Exception e) {
+                log.error("Unexpected error executing bot turn - botId={}, gameCode={}", botId, gameCode, e);
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body("Ocurrió un error inesperado");
+            }
+        });
     }
 
     /**
@@ -1,7 +1,10 @@
 package ar.edu.utn.frc.tup.piii.controllers;
 
 import ar.edu.utn.frc.tup.piii.dtos.game.AttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzAttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzResultDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.CombatResultDto;
+import ar.edu.utn.frc.tup.piii.engine.GameCommandExecutor;
 import ar.edu.utn.frc.tup.piii.model.Territory;
 import ar.edu.utn.frc.tup.piii.service.interfaces.CombatService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameStateService;
@@ -36,6 +39,9 @@ public class CombatController {
     @Autowired
     private GameStateService gameStateService;
 
+    @Autowired
+    private GameCommandExecutor gameCommandExecutor;
+
     /**
      * Ejecuta un ataque entre dos territorios.
      *
@@ -53,24 +59,66 @@ public class CombatController {
         log.info("Attack requested in game {} by player {} from territory {} to territory {}",
                 gameCode, attackDto.getPlayerId(), attackDto.getAttackerCountryId(), attackDto.getDefenderCountryId());
 
-        try {
-            // Validar que el juego permite ataques
-            Game game = gameService.findByGameCode(gameCode);
-            validateGameStateForCombat(game);
-            validatePlayerTurn(game, attackDto.getPlayerId());
+        return gameCommandExecutor.execute(gameCode, () -> {
+            try {
+                // Validar que el juego permite ataques
+                Game game = gameService.findByGameCode(gameCode);
+                validateGameStateForCombat(game);
+                validatePlayerTurn(game, attackDto.getPlayerId());
 
-            // Ejecutar el combate
-            CombatResultDto result = combatService.performCombat(gameCode, attackDto);
+                // Ejecutar el combate
+                CombatResultDto result = combatService.performCombat(gameCode, attackDto);
 
-            log.info("Attack completed. Territory conquered: {}, Attacker losses: {}, Defender losses: {}",
-                    result.getTerritoryConquered(), result.getAttackerLosses(), result.getDefenderLosses());
+                log.info("Attack completed. Territory conquered: {}, Attacker losses: {}, Defender losses: {}",
+                        result.getTerritoryConquered(), result.getAttackerLosses(), result.getDefenderLosses());
 
-            return ResponseEntity.ok(result);
+                return ResponseEntity.ok(result);
 
-        } catch (Exception e) {
-            log.error("Error during attack in game {}: {}", gameCode, e.getMessage());
-            return ResponseEntity.badRequest().build();
-        }
+            } catch (Exception e) {
+                log.error("Error during attack in game {}: {}", gameCode, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+        });
+    }
+
+    /**
+     * Ataca hasta resolver la batalla: tira los dados en el servidor hasta conquistar el
+     * territorio, llegar al umbral de ejércitos indicado o no poder seguir atacando.
+     *
+     * @param gameCode Código del juego
+     * @param blitzDto Datos del ataque (atacante, defensor, umbral para detenerse)
+     * @return Todas las tiradas, pérdidas totales y si hubo conquista
+     */
+    @PostMapping("/blitz")
+    @Operation(summary = "Ejecutar ataque hasta resolver",
+            description = "Repite las tiradas de un ataque en una sola llamada y devuelve el historial de dados")
+    public ResponseEntity<BlitzResultDto> blitz(
+            @PathVariable String gameCode,
+            @Valid @RequestBody BlitzAttackDto blitzDto) {
+
+        log.info("Blitz requested in game {} by player {} from territory {} to territory {} (stop at {})",
+                gameCode, blitzDto.getPlayerId(), blitzDto.getAttackerCountryId(),
+                blitzDto.getDefenderCountryId(), blitzDto.getStopAtArmies());
+
+        return gameCommandExecutor.execute(gameCode, () -> {
+            try {
+                Game game = gameService.findByGameCode(gameCode);
+                validateGameStateForCombat(game);
+                validatePlayerTurn(game, blitzDto.getPlayerId());
+
+                BlitzResultDto result = combatService.performBlitz(gameCode, blitzDto);
+
+                log.info("Blitz completed after {} rolls. Territory conquered: {}, Attacker losses: {}, Defender losses: {}",
+                        result.getRolls().size(), result.getTerritoryConquered(),
+                        result.getAttackerLosses(), result.getDefenderLosses());
+
+                return ResponseEntity.ok(result);
+
+            } catch (Exception e) {
+                log.error("Error during blitz in game {}: {}", gameCode, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
 
     /**
@@ -3,6 +3,7 @@ package ar.edu.utn.frc.tup.piii.controllers;
 import ar.edu.utn.frc.tup.piii.dtos.game.FortificationResponseDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.FortifyDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.GameResponseDto;
+import ar.edu.utn.frc.tup.piii.engine.GameCommandExecutor;
 import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
 import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.Territory;
@@ -48,6 +49,9 @@ public class FortificationController {
     @Autowired
     private GameTerritoryService gameTerritoryService;
 
+    @Autowired
+    private GameCommandExecutor gameCommandExecutor;
+
     /**
      * Ejecuta una fortificación moviendo ejércitos entre territorios propios.
      *
@@ -85,82 +89,84 @@ public class FortificationController {
                 gameCode, fortifyDto.getPlayerId(), fortifyDto.getArmies(),
                 fortifyDto.getFromCountryId(), fortifyDto.getToCountryId());
 
-        try {
-            // Validar que el juego permite fortificación
-            Game game = gameService.findByGameCode(gameCode);
-            validateGameStateForFortification(game);
-            validatePlayerTurn(game, fortifyDto.getPlayerId());
+        return gameCommandExecutor.execute(gameCode, () -> {
+            try {
+                // Validar que el juego permite fortificación
+                Game game = gameService.findByGameCode(gameCode);
+                validateGameStateForFortification(game);
+                validatePlayerTurn(game, fortifyDto.getPlayerId());
 
-            // Obtener información de territorios antes de la fortificación
-            Territory fromTerritoryBefore = gameTerritoryService.getTerritoryByGameAndCountry(
-                    game.getId(), fortifyDto.getFromCountryId());
-            Territory toTerritoryBefore = gameTerritoryService.getTerritoryByGameAndCountry(
-                    game.getId(), fortifyDto.getToCountryId());
-
-            // Validar la fortificación antes de ejecutarla
-            if (!fortificationService.isValidFortification(gameCode, fortifyDto)) {
-                log.warn("Invalid fortification attempt in game {}", gameCode);
-
-                // Proporcionar mensaje específico si se intenta dejar territorio sin ejércitos
-                Territory fromTerritory = gameTerritoryService.getTerritoryByGameAndCountry(
+                // Obtener información de territorios antes de la fortificación
+                Territory fromTerritoryBefore = gameTerritoryService.getTerritoryByGameAndCountry(
                         game.getId(), fortifyDto.getFromCountryId());
+                Territory toTerritoryBefore = gameTerritoryService.getTerritoryByGameAndCountry(
+                        game.getId(), fortifyDto.getToCountryId());
+
+                // Validar la fortificación antes de ejecutarla
+                if (!fortificationService.isValidFortification(gameCode, fortifyDto)) {
+                    log.warn("Invalid fortification attempt in game {}", gameCode);
+
+                    // Proporcionar mensaje específico si se intenta dejar territorio sin ejércitos
+                    Territory fromTerritory = gameTerritoryService.getTerritoryByGameAndCountry(
+                            game.getId(), fortifyDto.getFromCountryId());
+
+                    String errorMessage = "Invalid fortification";
+                    if (fromTerritory != null && fromTerritory.getArmies() - fortifyDto.getArmies() < 1) {
+                        errorMessage = String.format("Cannot leave territory without armies. Territory has %d armies, you're trying to move %d. Must leave at least 1 army.",
+                                fromTerritory.getArmies(), fortifyDto.getArmies());
+                    }
+
+                    FortificationResponseDto errorResponse = FortificationResponseDto.builder()
+                            .success(false)
+                            .message(errorMessage)
+                            .build();
+                    return ResponseEntity.badRequest().body(errorResponse);
+                }
+
+                // Ejecutar la fortificación
+                boolean success = fortificationService.performFortification(gameCode, fortifyDto);
 
-                String errorMessage = "Invalid fortification";
-                if (fromTerritory != null && fromTerritory.getArmies() - fortifyDto.getArmies() < 1) {
-                    errorMessage = String.format("Cannot leave territory without armies. Territory has %d armies, you're trying to move %d. Must leave at least 1 army.",
-                            fromTerritory.getArmies(), fortifyDto.getArmies());
+                if (!success) {
+                    log.warn("Fortification failed in game {}", gameCode);
+                    FortificationResponseDto errorResponse = FortificationResponseDto.builder()
+                            .success(false)
+                            .message("Fortification failed - operation could not be completed")
+                            .build();
+                    return ResponseEntity.badRequest().body(errorResponse);
                 }
 
-                FortificationResponseDto errorResponse = FortificationResponseDto.builder()
-                        .success(false)
-                        .message(errorMessage)
+                // Obtener información actualizada de territorios
+                Territory fromTerritoryAfter = gameTerritoryService.getTerritoryByGameAndCountry(
+                        game.getId(), fortifyDto.getFromCountryId());
+                Territory toTerritoryAfter = gameTerritoryService.getTerritoryByGameAndCountry(
+                        game.getId(), fortifyDto.getToCountryId());
+
+                // Construir respuesta detallada
+                FortificationResponseDto response = FortificationResponseDto.builder()
+                        .fromCountryId(fortifyDto.getFromCountryId())
+                        .fromCountryName(fromTerritoryBefore.getName())
+                        .toCountryId(fortifyDto.getToCountryId())
+                        .toCountryName(toTerritoryBefore.getName())
+                        .playerName(fromTerritoryBefore.getOwnerName())
+                        .armiesMoved(fortifyDto.getArmies())
+                        .fromCountryRemainingArmies(fromTerritoryAfter.getArmies())
+                        .toCountryFinalArmies(toTerritoryAfter.getArmies())
+                        .success(true)
+                        .message("Fortification completed successfully")
                         .build();
-                return ResponseEntity.badRequest().body(errorResponse);
-            }
 
-            // Ejecutar la fortificación
-            boolean success = fortificationService.performFortification(gameCode, fortifyDto);
+                log.info("Fortification completed successfully in game {}", gameCode);
+                return ResponseEntity.ok(response);
 
-            if (!success) {
-                log.warn("Fortification failed in game {}", gameCode);
+            } catch (Exception e) {
+                log.error("Error during fortification in game {}: {}", gameCode, e.getMessage());
                 FortificationResponseDto errorResponse = FortificationResponseDto.builder()
                         .success(false)
-                        .message("Fortification failed - operation could not be completed")
+                        .message("Error during fortification: " + e.getMessage())
                         .build();
                 return ResponseEntity.badRequest().body(errorResponse);
             }
-
-            // Obtener información actualizada de territorios
-            Territory fromTerritoryAfter = gameTerritoryService.getTerritoryByGameAndCountry(
-                    game.getId(), fortifyDto.getFromCountryId());
-            Territory toTerritoryAfter = gameTerritoryService.getTerritoryByGameAndCountry(
-                    game.getId(), fortifyDto.getToCountryId());
-
-            // Construir respuesta detallada
-            FortificationResponseDto response = FortificationResponseDto.builder()
-                    .fromCountryId(fortifyDto.getFromCountryId())
-                    .fromCountryName(fromTerritoryBefore.getName())
-                    .toCountryId(fortifyDto.getToCountryId())
-                    .toCountryName(toTerritoryBefore.getName())
-                    .playerName(fromTerritoryBefore.getOwnerName())
-                    .armiesMoved(fortifyDto.getArmies())
-                    .fromCountryRemainingArmies(fromTerritoryAfter.getArmies())
-                    .toCountryFinalArmies(toTerritoryAfter.getArmies())
-                    .success(true)
-                    .message("Fortification completed successfully")
-                    .build();
-
-            log.info("Fortification completed successfully in game {}", gameCode);
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            log.error("Error during fortification in game {}: {}", gameCode, e.getMessage());
-            FortificationResponseDto errorResponse = FortificationResponseDto.builder()
-                    .success(false)
-                    .message("Error during fortification: " + e.getMessage())
-                    .build();
-            return ResponseEntity.badRequest().body(errorResponse);
-        }
+        });
     }
 
     /**
@@ -9,6 +9,7 @@ import ar.edu.utn.frc.tup.piii.service.impl.GameServiceImpl;
 import ar.edu.utn.frc.tup.piii.service.impl.InitialPlacementServiceImpl;
 import ar.edu.utn.frc.tup.piii.service.interfaces.CombatService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStreamService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.InitialPlacementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,8 +19,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Objects;
@@ -40,6 +43,9 @@ public class GameController {
     @Autowired
     private CombatService combatService;
 
+    @Autowired
+    private GameStreamService gameStreamService;
+
     @PostMapping("/create-lobby")
     @Operation(
             summary = "Crear nuevo lobby",
@@ -94,6 +100,55 @@ public class GameController {
         }
     }
 
+    @GetMapping(value = "/{gameCode}", params = "sinceVersion")
+    @Operation(
+            summary = "Obtener cambios de la partida",
+            description = "Devuelve solo los territorios, jugadores y campos de fase que cambiaron desde la versión indicada. " +
+                    "Si la versión es demasiado vieja devuelve el estado completo (fullState = true)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Cambios de la partida",
+                    content = @Content(schema = @Schema(implementation = GameDeltaDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Partida no encontrada"
+            )
+    })
+    public ResponseEntity<GameDeltaDto> getGameDelta(@PathVariable String gameCode, @RequestParam long sinceVersion) {
+        try {
+            return ResponseEntity.ok(gameService.getGameDelta(gameCode, sinceVersion));
+        } catch (GameNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping(value = "/{gameCode}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream de eventos de la partida",
+            description = "Abre un stream Server-Sent Events con los cambios de la partida (fase, combate, refuerzos, conquistas, eliminaciones y turnos)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Stream abierto",
+                    content = @Content(schema = @Schema(implementation = GameStreamEventDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Partida no encontrada"
+            )
+    })
+    public ResponseEntity<SseEmitter> streamGame(@PathVariable String gameCode) {
+        try {
+            return ResponseEntity.ok(gameStreamService.subscribe(gameCode));
+        } catch (GameNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @PostMapping("/join")
     @Operation(
             summary = "Unirse a partida",
@@ -1,7 +1,18 @@
 package ar.edu.utn.frc.tup.piii.controllers;
-import ar.edu.utn.frc.tup.piii.dtos.event.GameEventDto;
+import ar.edu.utn.frc.tup.piii.dtos.event.GameEventFilterDto;
+import ar.edu.utn.frc.tup.piii.dtos.event.GameEventPageDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.GameStateDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.GameStatisticsDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.PlayerStatisticsDto;
+import ar.edu.utn.frc.tup.piii.engine.GameEventWriter;
+import ar.edu.utn.frc.tup.piii.engine.GameReplayer;
 import ar.edu.utn.frc.tup.piii.entities.GameEventEntity;
+import ar.edu.utn.frc.tup.piii.exceptions.GameNotFoundException;
+import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
+import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
+import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.enums.EventType;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStatisticsService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.IGameEventService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -19,56 +30,73 @@ import java.util.Optional;
 public class GameEventController {
 
     private final IGameEventService gameEventService;
-
-    public GameEventController(IGameEventService gameEventService) {
+    private final GameReplayer gameReplayer;
+    private final GameStatisticsService gameStatisticsService;
+    private final GameMapper gameMapper;
+    private final GameEventWriter gameEventWriter;
+
+    public GameEventController(IGameEventService gameEventService, GameReplayer gameReplayer,
+                               GameStatisticsService gameStatisticsService, GameMapper gameMapper,
+                               GameEventWriter gameEventWriter) {
         this.gameEventService = gameEventService;
+        this.gameReplayer = gameReplayer;
+        this.gameStatisticsService = gameStatisticsService;
+        this.gameMapper = gameMapper;
+        this.gameEventWriter = gameEventWriter;
     }
 
+    // Las lecturas esperan a que lo encolado esté escrito antes de abrir su transacción
+
     /**
-     * Obtiene el historial completo de eventos de una partida
-     * GET /api/games/{gameId}/events
+     * Obtiene el historial de eventos de una partida por páginas, del más nuevo al más viejo.
+     * Para la página siguiente se envía el {@code nextCursor} de la respuesta como {@code cursor}.
+     * GET /api/games/{gameId}/events?cursor=120&limit=50&type=ATTACK_PERFORMED&actorId=2&fromTurn=3&toTurn=5
      */
     @GetMapping
-    public ResponseEntity<List<GameEventDto>> getGameHistory(@PathVariable Long gameId) {
-        try {
-            List<GameEventDto> events = gameEventService.getFormattedGameHistory(gameId);
-            return ResponseEntity.ok(events);
-        } catch (Exception e) {
-            log.error("Error getting game history for game {}: {}", gameId, e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<GameEventPageDto> getGameHistory(
+            @PathVariable Long gameId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            GameEventFilterDto filter) {
+        return getHistoryPage(gameId, cursor, limit, filter);
     }
 
     /**
-     * Obtiene eventos de un jugador específico en una partida
-     * GET /api/games/{gameId}/events/player/{playerId}
+     * Obtiene eventos de un jugador específico en una partida, por páginas
+     * GET /api/games/{gameId}/events/player/{playerId}?cursor=120&limit=50
      */
     @GetMapping("/player/{playerId}")
-    public ResponseEntity<List<GameEventEntity>> getPlayerEvents(
+    public ResponseEntity<GameEventPageDto> getPlayerEvents(
             @PathVariable Long gameId,
-            @PathVariable Long playerId) {
-        try {
-            List<GameEventEntity> events = gameEventService.getPlayerEventsInGame(gameId, playerId);
-            return ResponseEntity.ok(events);
-        } catch (Exception e) {
-            log.error("Error getting player events for game {} and player {}: {}", gameId, playerId, e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+            @PathVariable Long playerId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return getHistoryPage(gameId, cursor, limit, GameEventFilterDto.builder().actorId(playerId).build());
     }
 
     /**
-     * Obtiene eventos filtrados por tipo
-     * GET /api/games/{gameId}/events/type/{eventType}
+     * Obtiene eventos filtrados por tipo, por páginas
+     * GET /api/games/{gameId}/events/type/{eventType}?cursor=120&limit=50
      */
     @GetMapping("/type/{eventType}")
-    public ResponseEntity<List<GameEventEntity>> getEventsByType(
+    public ResponseEntity<GameEventPageDto> getEventsByType(
             @PathVariable Long gameId,
-            @PathVariable EventType eventType) {
+            @PathVariable EventType eventType,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return getHistoryPage(gameId, cursor, limit, GameEventFilterDto.builder().type(eventType).build());
+    }
+
+    private ResponseEntity<GameEventPageDto> getHistoryPage(Long gameId, Long cursor, int limit,
+                                                            GameEventFilterDto filter) {
         try {
-            List<GameEventEntity> events = gameEventService.getEventsByType(gameId, eventType);
-            return ResponseEntity.ok(events);
+            gameEventWriter.flush();
+            return ResponseEntity.ok(gameEventService.getGameHistoryPage(gameId, cursor, limit, filter));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid event history request for game {}: {}", gameId, e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
-            log.error("Error getting events by type {} for game {}: {}", eventType, gameId, e.getMessage());
+            log.error("Error getting game history for game {}: {}", gameId, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -82,6 +110,7 @@ public class GameEventController {
             @PathVariable Long gameId,
             @PathVariable Integer turnNumber) {
         try {
+            gameEventWriter.flush();
             List<GameEventEntity> events = gameEventService.getEventsByTurn(gameId, turnNumber);
             return ResponseEntity.ok(events);
         } catch (Exception e) {
@@ -99,6 +128,7 @@ public class GameEventController {
             @PathVariable Long gameId,
             @RequestParam(defaultValue = "24") int hours) {
         try {
+            gameEventWriter.flush();
             List<GameEventEntity> events = gameEventService.getRecentGameEvents(gameId, hours);
             return ResponseEntity.ok(events);
         } catch (Exception e) {
@@ -114,6 +144,7 @@ public class GameEventController {
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getGameEventStats(@PathVariable Long gameId) {
         try {
+            gameEventWriter.flush();
             Map<String, Object> stats = gameEventService.getGameEventStats(gameId);
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
@@ -122,6 +153,68 @@ public class GameEventController {
         }
     }
 
+    /**
+     * Obtiene las estadísticas de la partida y de cada jugador
+     * GET /api/games/{gameId}/events/statistics
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<GameStatisticsDto> getGameStatistics(@PathVariable Long gameId) {
+        try {
+            gameEventWriter.flush();
+            return ResponseEntity.ok(gameStatisticsService.getGameStatistics(gameId));
+        } catch (Exception e) {
+            log.error("Error getting statistics for game {}: {}", gameId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Obtiene las estadísticas de cada jugador en un turno
+     * GET /api/games/{gameId}/events/turn/{turnNumber}/statistics
+     */
+    @GetMapping("/turn/{turnNumber}/statistics")
+    public ResponseEntity<List<PlayerStatisticsDto>> getTurnStatistics(
+            @PathVariable Long gameId,
+            @PathVariable Integer turnNumber) {
+        try {
+            gameEventWriter.flush();
+            return ResponseEntity.ok(gameStatisticsService.getTurnStatistics(gameId, turnNumber));
+        } catch (Exception e) {
+            log.error("Error getting statistics for game {} turn {}: {}", gameId, turnNumber, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Reconstruye la partida desde el log de cambios: después del cambio {@code sequence}, al
+     * terminar el turno {@code turn}, o con todo el log si no se indica ninguno.
+     * GET /api/games/{gameId}/events/replay?sequence=120
+     * GET /api/games/{gameId}/events/replay?turn=4
+     */
+    @GetMapping("/replay")
+    public ResponseEntity<GameStateDto> replayGame(
+            @PathVariable Long gameId,
+            @RequestParam(required = false) Long sequence,
+            @RequestParam(required = false) Integer turn) {
+        try {
+            Game game;
+            if (sequence != null) {
+                game = gameReplayer.replay(gameId, sequence);
+            } else if (turn != null) {
+                game = gameReplayer.replayToTurn(gameId, turn);
+            } else {
+                game = gameReplayer.replayLatest(gameId);
+            }
+            return ResponseEntity.ok(gameMapper.toStateDto(game));
+        } catch (InvalidGameStateException e) {
+            log.warn("Cannot replay game {}: {}", gameId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            log.error("Error replaying game {}: {}", gameId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * Obtiene el último evento de un tipo específico
      * GET /api/games/{gameId}/events/last/{eventType}
@@ -131,6 +224,7 @@ public class GameEventController {
             @PathVariable Long gameId,
             @PathVariable EventType eventType) {
         try {
+            gameEventWriter.flush();
             Optional<GameEventEntity> event = gameEventService.getLastEventByType(gameId, eventType);
             if (event.isPresent()) {
                 return ResponseEntity.ok(event.get());
@@ -152,6 +246,7 @@ public class GameEventController {
             @PathVariable Long gameId,
             @PathVariable EventType eventType) {
         try {
+            gameEventWriter.flush();
             Long count = gameEventService.countEventsByType(gameId, eventType);
             return ResponseEntity.ok(count);
         } catch (Exception e) {
@@ -169,6 +264,7 @@ public class GameEventController {
             @PathVariable Long gameId,
             @PathVariable Long playerId) {
         try {
+            gameEventWriter.flush();
             List<GameEventEntity> attacks = gameEventService.getPlayerAttacks(gameId, playerId);
             return ResponseEntity.ok(attacks);
         } catch (Exception e) {
@@ -186,6 +282,7 @@ public class GameEventController {
             @PathVariable Long gameId,
             @PathVariable Long playerId) {
         try {
+            gameEventWriter.flush();
             List<GameEventEntity> conquests = gameEventService.getPlayerConquests(gameId, playerId);
             return ResponseEntity.ok(conquests);
         } catch (Exception e) {
@@ -195,24 +292,27 @@ public class GameEventController {
     }
 
     // ===== ENDPOINTS PARA REGISTRAR EVENTOS =====
+    // Responden 202: el evento queda aceptado y se escribe en el próximo lote (las conquistas, en el momento)
 
     /**
      * Registra una conquista de territorio
      * POST /api/games/{gameId}/events/territory-conquest
      */
     @PostMapping("/territory-conquest")
-    public ResponseEntity<GameEventEntity> recordTerritoryConquest(
+    public ResponseEntity<Void> recordTerritoryConquest(
             @PathVariable Long gameId,
             @RequestBody TerritoryConquestRequest request) {
         try {
-            GameEventEntity event = gameEventService.recordTerritoryConquest(
+            gameEventService.recordTerritoryConquest(
                     gameId,
                     request.getConquererPlayerId(),
                     request.getConqueredTerritory(),
                     request.getFromPlayer(),
                     request.getTurnNumber()
             );
-            return ResponseEntity.status(HttpStatus.CREATED).body(event);
+            return ResponseEntity.accepted().build();
+        } catch (GameNotFoundException e) {
+            return ResponseEntity.notFound().build();
         } catch (Exception e) {
             log.error("Error recording territory conquest for game {}: {}", gameId, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -224,11 +324,11 @@ public class GameEventController {
      * POST /api/games/{gameId}/events/attack
      */
     @PostMapping("/attack")
-    public ResponseEntity<GameEventEntity> recordAttack(
+    public ResponseEntity<Void> recordAttack(
             @PathVariable Long gameId,
             @RequestBody AttackRequest request) {
         try {
-            GameEventEntity event = gameEventService.recordAttack(
+            gameEventService.recordAttack(
                     gameId,
                     request.getAttackerPlayerId(),
                     request.getFromTerritory(),
@@ -236,7 +336,9 @@ public class GameEventController {
                     request.getTurnNumber(),
                     request.isSuccessful()
             );
-            return ResponseEntity.status(HttpStatus.CREATED).body(event);
+            return ResponseEntity.accepted().build();
+        } catch (GameNotFoundException e) {
+            return ResponseEntity.notFound().build();
         } catch (Exception e) {
             log.error("Error recording attack for game {}: {}", gameId, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -248,16 +350,18 @@ public class GameEventController {
      * POST /api/games/{gameId}/events/turn-start
      */
     @PostMapping("/turn-start")
-    public ResponseEntity<GameEventEntity> recordTurnStart(
+    public ResponseEntity<Void> recordTurnStart(
             @PathVariable Long gameId,
             @RequestBody TurnEventRequest request) {
         try {
-            GameEventEntity event = gameEventService.recordTurnStart(
+            gameEventService.recordTurnStart(
                     gameId,
                     request.getPlayerId(),
                     request.getTurnNumber()
             );
-            return ResponseEntity.status(HttpStatus.CREATED).body(event);
+            return ResponseEntity.accepted().build();
+        } catch (GameNotFoundException e) {
+            return ResponseEntity.notFound().build();
         } catch (Exception e) {
             log.error("Error recording turn start for game {}: {}", gameId, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -269,16 +373,18 @@ public class GameEventController {
      * POST /api/games/{gameId}/events/turn-end
      */
     @PostMapping("/turn-end")
-    public ResponseEntity<GameEventEntity> recordTurnEnd(
+    public ResponseEntity<Void> recordTurnEnd(
             @PathVariable Long gameId,
             @RequestBody TurnEventRequest request) {
         try {
-            GameEventEntity event = gameEventService.recordTurnEnd(
+            gameEventService.recordTurnEnd(
                     gameId,
                     request.getPlayerId(),
                     request.getTurnNumber()
             );
-            return ResponseEntity.status(HttpStatus.CREATED).body(event);
+            return ResponseEntity.accepted().build();
+        } catch (GameNotFoundException e) {
+            return ResponseEntity.notFound().build();
         } catch (Exception e) {
             log.error("Error recording turn end for game {}: {}", gameId, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -290,18 +396,20 @@ public class GameEventController {
      * POST /api/games/{gameId}/events/reinforcements
      */
     @PostMapping("/reinforcements")
-    public ResponseEntity<GameEventEntity> recordReinforcementsPlaced(
+    public ResponseEntity<Void> recordReinforcementsPlaced(
             @PathVariable Long gameId,
             @RequestBody ReinforcementsRequest request) {
         try {
-            GameEventEntity event = gameEventService.recordReinforcementsPlaced(
+            gameEventService.recordReinforcementsPlaced(
                     gameId,
                     request.getPlayerId(),
                     request.getTerritory(),
                     request.getReinforcements(),
                     request.getTurnNumber()
             );
-            return ResponseEntity.status(HttpStatus.CREATED).body(event);
+            return ResponseEntity.accepted().build();
+        } catch (GameNotFoundException e) {
+            return ResponseEntity.notFound().build();
         } catch (Exception e) {
             log.error("Error recording reinforcements for game {}: {}", gameId, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -313,11 +421,11 @@ public class GameEventController {
      * POST /api/games/{gameId}/events/fortification
      */
     @PostMapping("/fortification")
-    public ResponseEntity<GameEventEntity> recordFortification(
+    public ResponseEntity<Void> recordFortification(
             @PathVariable Long gameId,
             @RequestBody FortificationRequest request) {
         try {
-            GameEventEntity event = gameEventService.recordFortification(
+            gameEventService.recordFortification(
                     gameId,
                     request.getPlayerId(),
                     request.getFromTerritory(),
@@ -325,7 +433,9 @@ public class GameEventController {
                     request.getArmies(),
                     request.getTurnNumber()
             );
-            return ResponseEntity.status(HttpStatus.CREATED).body(event);
+            return ResponseEntity.accepted().build();
+        } catch (GameNotFoundException e) {
+            return ResponseEntity.notFound().build();
         } catch (Exception e) {
             log.error("Error recording fortification for game {}: {}", gameId, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -113,6 +113,18 @@ public class GlobalExceptionHandler {
     }
 
 
+    @ExceptionHandler(GameBusyException.class)
+    public ResponseEntity<ErrorApi> handleGameBusy(GameBusyException ex) {
+        ErrorApi errorApi = ErrorApi.builder()
+                .timestamp(String.valueOf(System.currentTimeMillis()))
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())  // 429
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message(ex.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(errorApi);
+    }
+
+
     @ExceptionHandler(PlayerNotFoundException.class)
     public ResponseEntity<String> handlePlayerNotFound(PlayerNotFoundException ex) {
             return ResponseEntity.notFound().build();
@@ -5,11 +5,11 @@ import ar.edu.utn.frc.tup.piii.dtos.game.InitialArmyPlacementDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.InitialPlacementSummaryDto;
 import ar.edu.utn.frc.tup.piii.dtos.player.PlayerInitialInfoDto;
 import ar.edu.utn.frc.tup.piii.dtos.player.PlayerTerritoriesDto;
+import ar.edu.utn.frc.tup.piii.engine.GameCommandExecutor;
 import ar.edu.utn.frc.tup.piii.exceptions.GameNotFoundException;
 import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
 import ar.edu.utn.frc.tup.piii.exceptions.PlayerNotFoundException;
 import ar.edu.utn.frc.tup.piii.mappers.CountryMapper;
-import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
 import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.Territory;
 import ar.edu.utn.frc.tup.piii.model.enums.PlayerStatus;
@@ -44,9 +44,9 @@ public class InitialPlacementController {
     @Autowired
     private GameService gameService;
     @Autowired
-    private GameMapper gameMapper;
-    @Autowired
     private CountryMapper countryMapper;
+    @Autowired
+    private GameCommandExecutor gameCommandExecutor;
 
     /**
      * Permite a un jugador colocar sus ejércitos iniciales.
@@ -89,32 +89,33 @@ public class InitialPlacementController {
             @PathVariable String gameCode,
             @Valid @RequestBody InitialArmyPlacementDto dto) {
 
-        try {
-            // Validar que el DTO tenga los datos necesarios
-            if (dto.getPlayerId() == null) {
-                return ResponseEntity.badRequest().build();
-            }
+        return gameCommandExecutor.execute(gameCode, () -> {
+            try {
+                // Validar que el DTO tenga los datos necesarios
+                if (dto.getPlayerId() == null) {
+                    return ResponseEntity.badRequest().build();
+                }
 
-            if (dto.getArmiesByCountry() == null || dto.getArmiesByCountry().isEmpty()) {
-                return ResponseEntity.badRequest().build();
-            }
+                if (dto.getArmiesByCountry() == null || dto.getArmiesByCountry().isEmpty()) {
+                    return ResponseEntity.badRequest().build();
+                }
 
-            // Procesar la colocación a través del servicio especializado
-            initialPlacementService.placeInitialArmies(gameCode, dto.getPlayerId(), dto.getArmiesByCountry());
+                // Procesar la colocación a través del servicio especializado
+                initialPlacementService.placeInitialArmies(gameCode, dto.getPlayerId(), dto.getArmiesByCountry());
 
-            // Obtener el estado actualizado del juego
-            Game updatedGame = gameService.findByGameCode(gameCode);
-            GameResponseDto response = gameMapper.toResponseDto(updatedGame);
+                // Obtener el estado actualizado del juego, completo (con eventos y chat recientes)
+                GameResponseDto response = gameService.getGameByCode(gameCode);
 
-            return ResponseEntity.ok(response);
+                return ResponseEntity.ok(response);
 
-        } catch (GameNotFoundException | PlayerNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
-        } catch (IllegalArgumentException | InvalidGameStateException e) {
-            return ResponseEntity.badRequest().build();
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+            } catch (GameNotFoundException | PlayerNotFoundException e) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            } catch (IllegalArgumentException | InvalidGameStateException e) {
+                return ResponseEntity.badRequest().build();
+            } catch (Exception e) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            }
+        });
     }
 
     /**
@@ -3,10 +3,10 @@ package ar.edu.utn.frc.tup.piii.controllers;
 import ar.edu.utn.frc.tup.piii.dtos.game.GameResponseDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.ReinforcementRequestDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.ReinforcementStatusDto;
+import ar.edu.utn.frc.tup.piii.engine.GameCommandExecutor;
 import ar.edu.utn.frc.tup.piii.exceptions.GameNotFoundException;
 import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
 import ar.edu.utn.frc.tup.piii.exceptions.PlayerNotFoundException;
-import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
 import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.ReinforcementService;
@@ -42,7 +42,7 @@ public class ReinforcementController {
     private GameService gameService;
 
     @Autowired
-    private GameMapper gameMapper;
+    private GameCommandExecutor gameCommandExecutor;
 
     /**
      * Permite a un jugador colocar sus ejércitos de refuerzo en sus territorios.
@@ -87,45 +87,46 @@ public class ReinforcementController {
 
         log.info("Reinforcement request for game {} by player {}", gameCode, dto.getPlayerId());
 
-        try {
-            // Validar datos básicos del DTO
-            if (dto.getPlayerId() == null) {
-                log.warn("Player ID is null in reinforcement request");
-                return ResponseEntity.badRequest().build();
-            }
+        return gameCommandExecutor.execute(gameCode, () -> {
+            try {
+                // Validar datos básicos del DTO
+                if (dto.getPlayerId() == null) {
+                    log.warn("Player ID is null in reinforcement request");
+                    return ResponseEntity.badRequest().build();
+                }
 
-            if (dto.getArmiesByCountry() == null || dto.getArmiesByCountry().isEmpty()) {
-                log.warn("No army placements provided in reinforcement request");
-                return ResponseEntity.badRequest().build();
-            }
+                if (dto.getArmiesByCountry() == null || dto.getArmiesByCountry().isEmpty()) {
+                    log.warn("No army placements provided in reinforcement request");
+                    return ResponseEntity.badRequest().build();
+                }
 
-            // Procesar la colocación de refuerzos
-            reinforcementService.placeReinforcementArmies(gameCode, dto.getPlayerId(), dto.getArmiesByCountry());
+                // Procesar la colocación de refuerzos
+                reinforcementService.placeReinforcementArmies(gameCode, dto.getPlayerId(), dto.getArmiesByCountry());
 
-            // Obtener el estado actualizado del juego
-            Game updatedGame = gameService.findByGameCode(gameCode);
-            GameResponseDto response = gameMapper.toResponseDto(updatedGame);
+                // Obtener el estado actualizado del juego, completo (con eventos y chat recientes)
+                GameResponseDto response = gameService.getGameByCode(gameCode);
 
-            log.info("Reinforcement completed successfully for player {} in game {}",
-                    dto.getPlayerId(), gameCode);
-            return ResponseEntity.ok(response);
+                log.info("Reinforcement completed successfully for player {} in game {}",
+                        dto.getPlayerId(), gameCode);
+                return ResponseEntity.ok(response);
 
-        } catch (GameNotFoundException e) {
-            log.error("Game not found: {}", gameCode);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
-        } catch (PlayerNotFoundException e) {
-            log.error("Player not found: {}", dto.getPlayerId());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
-        } catch (IllegalArgumentException e) {
-            log.error("Invalid reinforcement placement: {}", e.getMessage());
-            return ResponseEntity.badRequest().build();
-        } catch (InvalidGameStateException e) {
-            log.error("Invalid game state for reinforcement: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-        } catch (Exception e) {
-            log.error("Unexpected error during reinforcement: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+            } catch (GameNotFoundException e) {
+                log.error("Game not found: {}", gameCode);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            } catch (PlayerNotFoundException e) {
+                log.error("Player not found: {}", dto.getPlayerId());
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            } catch (IllegalArgumentException e) {
+                log.error("Invalid reinforcement placement: {}", e.getMessage());
+                return ResponseEntity.badRequest().build();
+            } catch (InvalidGameStateException e) {
+                log.error("Invalid game state for reinforcement: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            } catch (Exception e) {
+                log.error("Unexpected error during reinforcement: {}", e.getMessage(), e);
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            }
+        });
     }
 
     /**
@@ -2,6 +2,7 @@ package ar.edu.utn.frc.tup.piii.controllers;
 
 import ar.edu.utn.frc.tup.piii.dtos.game.GameResponseDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.TurnActionDto;
+import ar.edu.utn.frc.tup.piii.engine.GameCommandExecutor;
 import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
 import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
@@ -34,6 +35,9 @@ public class TurnManagementController {
     @Autowired
     private GameMapper gameMapper;
 
+    @Autowired
+    private GameCommandExecutor gameCommandExecutor;
+
     /**
      * Permite al jugador saltear la fase de ataque y pasar directamente a fortificación.
      *
@@ -50,36 +54,38 @@ public class TurnManagementController {
 
         log.info("Player {} requested to skip attack phase in game {}", playerId, gameCode);
 
-        try {
-            Game game = gameService.findByGameCode(gameCode);
+        return gameCommandExecutor.execute(gameCode, () -> {
+            try {
+                Game game = gameService.findByGameCode(gameCode);
 
-            // Validar que es el turno del jugador
-            validatePlayerTurn(game, playerId);
+                // Validar que es el turno del jugador
+                validatePlayerTurn(game, playerId);
 
-            // Validar que está en fase de ataque
-            if (game.getCurrentPhase() != TurnPhase.ATTACK) {
-                log.warn("Player {} tried to skip attack but current phase is {}", playerId, game.getCurrentPhase());
-                return ResponseEntity.badRequest().build();
-            }
+                // Validar que está en fase de ataque
+                if (game.getCurrentPhase() != TurnPhase.ATTACK) {
+                    log.warn("Player {} tried to skip attack but current phase is {}", playerId, game.getCurrentPhase());
+                    return ResponseEntity.badRequest().build();
+                }
 
-            // Cambiar a fase de fortificación
-            boolean success = gameStateService.changeTurnPhase(game, TurnPhase.FORTIFY);
-            if (!success) {
-                log.warn("Failed to change phase to FORTIFY for player {} in game {}", playerId, gameCode);
-                return ResponseEntity.badRequest().build();
-            }
+                // Cambiar a fase de fortificación
+                boolean success = gameStateService.changeTurnPhase(game, TurnPhase.FORTIFY);
+                if (!success) {
+                    log.warn("Failed to change phase to FORTIFY for player {} in game {}", playerId, gameCode);
+                    return ResponseEntity.badRequest().build();
+                }
 
-            // Guardar cambios
-            Game savedGame = gameService.save(game);
-            GameResponseDto response = gameMapper.toResponseDto(savedGame);
+                // Guardar cambios
+                Game savedGame = gameService.save(game);
+                GameResponseDto response = gameMapper.toResponseDto(savedGame);
 
-            log.info("Player {} successfully skipped attack phase in game {}", playerId, gameCode);
-            return ResponseEntity.ok(response);
+                log.info("Player {} successfully skipped attack phase in game {}", playerId, gameCode);
+                return ResponseEntity.ok(response);
 
-        } catch (Exception e) {
-            log.error("Error skipping attack phase for player {} in game {}: {}", playerId, gameCode, e.getMessage());
-            return ResponseEntity.badRequest().build();
-        }
+            } catch (Exception e) {
+                log.error("Error skipping attack phase for player {} in game {}: {}", playerId, gameCode, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
 
     /**
@@ -98,36 +104,38 @@ public class TurnManagementController {
 
         log.info("Player {} requested to skip fortify phase in game {}", playerId, gameCode);
 
-        try {
-            Game game = gameService.findByGameCode(gameCode);
+        return gameCommandExecutor.execute(gameCode, () -> {
+            try {
+                Game game = gameService.findByGameCode(gameCode);
 
-            // Validar que es el turno del jugador
-            validatePlayerTurn(game, playerId);
+                // Validar que es el turno del jugador
+                validatePlayerTurn(game, playerId);
 
-            // Validar que está en fase de fortificación
-            if (game.getCurrentPhase() != TurnPhase.FORTIFY) {
-                log.warn("Player {} tried to skip fortify but current phase is {}", playerId, game.getCurrentPhase());
-                return ResponseEntity.badRequest().build();
-            }
+                // Validar que está en fase de fortificación
+                if (game.getCurrentPhase() != TurnPhase.FORTIFY) {
+                    log.warn("Player {} tried to skip fortify but current phase is {}", playerId, game.getCurrentPhase());
+                    return ResponseEntity.badRequest().build();
+                }
 
-            // Cambiar a fase de fin de turno
-            boolean success = gameStateService.changeTurnPhase(game, TurnPhase.END_TURN);
-            if (!success) {
-                log.warn("Failed to change phase to END_TURN for player {} in game {}", playerId, gameCode);
-                return ResponseEntity.badRequest().build();
-            }
+                // Cambiar a fase de fin de turno
+                boolean success = gameStateService.changeTurnPhase(game, TurnPhase.END_TURN);
+                if (!success) {
+                    log.warn("Failed to change phase to END_TURN for player {} in game {}", playerId, gameCode);
+                    return ResponseEntity.badRequest().build();
+                }
 
-            // Guardar cambios
-            Game savedGame = gameService.save(game);
-            GameResponseDto response = gameMapper.toResponseDto(savedGame);
+                // Guardar cambios
+                Game savedGame = gameService.save(game);
+                GameResponseDto response = gameMapper.toResponseDto(savedGame);
 
-            log.info("Player {} successfully skipped fortify phase in game {}", playerId, gameCode);
-            return ResponseEntity.ok(response);
+                log.info("Player {} successfully skipped fortify phase in game {}", playerId, gameCode);
+                return ResponseEntity.ok(response);
 
-        } catch (Exception e) {
-            log.error("Error skipping fortify phase for player {} in game {}: {}", playerId, gameCode, e.getMessage());
-            return ResponseEntity.badRequest().build();
-        }
+            } catch (Exception e) {
+                log.error("Error skipping fortify phase for player {} in game {}: {}", playerId, gameCode, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
 
     /**
@@ -146,33 +154,35 @@ public class TurnManagementController {
 
         log.info("Player {} requested to end turn in game {}", playerId, gameCode);
 
-        try {
-            Game game = gameService.findByGameCode(gameCode);
+        return gameCommandExecutor.execute(gameCode, () -> {
+            try {
+                Game game = gameService.findByGameCode(gameCode);
 
-            // Validar que es el turno del jugador
-            validatePlayerTurn(game, playerId);
+                // Validar que es el turno del jugador
+                validatePlayerTurn(game, playerId);
 
-            // Validar que está en fase de fin de turno
-            if (game.getCurrentPhase() == TurnPhase.END_TURN) {
-                log.warn("Player {} tried to end turn but current phase is {}", playerId, game.getCurrentPhase());
-                return ResponseEntity.badRequest().build();
-            }
+                // Validar que está en fase de fin de turno
+                if (game.getCurrentPhase() == TurnPhase.END_TURN) {
+                    log.warn("Player {} tried to end turn but current phase is {}", playerId, game.getCurrentPhase());
+                    return ResponseEntity.badRequest().build();
+                }
 
-            // Avanzar al siguiente turno
-            gameStateService.nextTurn(game);
+                // Avanzar al siguiente turno
+                gameStateService.nextTurn(game);
 
-            // Guardar cambios
-            Game savedGame = gameService.save(game);
-            GameResponseDto response = gameMapper.toResponseDto(savedGame);
+                // Guardar cambios
+                Game savedGame = gameService.save(game);
+                GameResponseDto response = gameMapper.toResponseDto(savedGame);
 
-            log.info("Turn ended for player {} in game {}, next player: {}",
-                    playerId, gameCode, savedGame.getCurrentPlayerIndex());
-            return ResponseEntity.ok(response);
+                log.info("Turn ended for player {} in game {}, next player: {}",
+                        playerId, gameCode, savedGame.getCurrentPlayerIndex());
+                return ResponseEntity.ok(response);
 
-        } catch (Exception e) {
-            log.error("Error ending turn for player {} in game {}: {}", playerId, gameCode, e.getMessage());
-            return ResponseEntity.badRequest().build();
-        }
+            } catch (Exception e) {
+                log.error("Error ending turn for player {} in game {}: {}", playerId, gameCode, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
 
     /**
@@ -192,36 +202,38 @@ public class TurnManagementController {
 
         log.info("Player {} requested to proceed to fortify phase in game {}", playerId, gameCode);
 
-        try {
-            Game game = gameService.findByGameCode(gameCode);
+        return gameCommandExecutor.execute(gameCode, () -> {
+            try {
+                Game game = gameService.findByGameCode(gameCode);
 
-            // Validar que es el turno del jugador
-            validatePlayerTurn(game, playerId);
+                // Validar que es el turno del jugador
+                validatePlayerTurn(game, playerId);
 
-            // Validar que está en fase de ataque
-            if (game.getCurrentPhase() != TurnPhase.ATTACK) {
-                log.warn("Player {} tried to proceed to fortify but current phase is {}", playerId, game.getCurrentPhase());
-                return ResponseEntity.badRequest().build();
-            }
+                // Validar que está en fase de ataque
+                if (game.getCurrentPhase() != TurnPhase.ATTACK) {
+                    log.warn("Player {} tried to proceed to fortify but current phase is {}", playerId, game.getCurrentPhase());
+                    return ResponseEntity.badRequest().build();
+                }
 
-            // Cambiar a fase de fortificación
-            boolean success = gameStateService.changeTurnPhase(game, TurnPhase.FORTIFY);
-            if (!success) {
-                log.warn("Failed to change phase to FORTIFY for player {} in game {}", playerId, gameCode);
-                return ResponseEntity.badRequest().build();
-            }
+                // Cambiar a fase de fortificación
+                boolean success = gameStateService.changeTurnPhase(game, TurnPhase.FORTIFY);
+                if (!success) {
+                    log.warn("Failed to change phase to FORTIFY for player {} in game {}", playerId, gameCode);
+                    return ResponseEntity.badRequest().build();
+                }
 
-            // Guardar cambios
-            Game savedGame = gameService.save(game);
-            GameResponseDto response = gameMapper.toResponseDto(savedGame);
+                // Guardar cambios
+                Game savedGame = gameService.save(game);
+                GameResponseDto response = gameMapper.toResponseDto(savedGame);
 
-            log.info("Player {} successfully proceeded to fortify phase in game {}", playerId, gameCode);
-            return ResponseEntity.ok(response);
+                log.info("Player {} successfully proceeded to fortify phase in game {}", playerId, gameCode);
+                return ResponseEntity.ok(response);
 
-        } catch (Exception e) {
-            log.error("Error proceeding to fortify for player {} in game {}: {}", playerId, gameCode, e.getMessage());
-            return ResponseEntity.badRequest().build();
-        }
+            } catch (Exception e) {
+                log.error("Error proceeding to fortify for player {} in game {}: {}", playerId, gameCode, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
 
     /**
@@ -240,42 +252,44 @@ public class TurnManagementController {
 
         log.info("Player {} requested to proceed to claim card phase in game {}", playerId, gameCode);
 
-        try {
-            Game game = gameService.findByGameCode(gameCode);
+        return gameCommandExecutor.execute(gameCode, () -> {
+            try {
+                Game game = gameService.findByGameCode(gameCode);
 
-            // Validar que es el turno del jugador
-            validatePlayerTurn(game, playerId);
+                // Validar que es el turno del jugador
+                validatePlayerTurn(game, playerId);
 
-            // Validar que está en fase de fortificación
-            if (game.getCurrentPhase() != TurnPhase.FORTIFY) {
-                log.warn("Player {} tried to proceed to claim card but current phase is {}", playerId, game.getCurrentPhase());
-                return ResponseEntity.badRequest().build();
-            }
+                // Validar que está en fase de fortificación
+                if (game.getCurrentPhase() != TurnPhase.FORTIFY) {
+                    log.warn("Player {} tried to proceed to claim card but current phase is {}", playerId, game.getCurrentPhase());
+                    return ResponseEntity.badRequest().build();
+                }
 
-            // Validar que puede reclamar carta
-            if (!gameStateService.canPerformAction(game, "claim_card")) {
-                log.warn("Player {} cannot claim card in current game state", playerId);
-                return ResponseEntity.badRequest().build();
-            }
+                // Validar que puede reclamar carta
+                if (!gameStateService.canPerformAction(game, "claim_card")) {
+                    log.warn("Player {} cannot claim card in current game state", playerId);
+                    return ResponseEntity.badRequest().build();
+                }
 
-            // Cambiar a fase de reclamación de carta
-            boolean success = gameStateService.changeTurnPhase(game, TurnPhase.CLAIM_CARD);
-            if (!success) {
-                log.warn("Failed to change phase to CLAIM_CARD for player {} in game {}", playerId, gameCode);
-                return ResponseEntity.badRequest().build();
-            }
+                // Cambiar a fase de reclamación de carta
+                boolean success = gameStateService.changeTurnPhase(game, TurnPhase.CLAIM_CARD);
+                if (!success) {
+                    log.warn("Failed to change phase to CLAIM_CARD for player {} in game {}", playerId, gameCode);
+                    return ResponseEntity.badRequest().build();
+                }
 
-            // Guardar cambios
-            Game savedGame = gameService.save(game);
-            GameResponseDto response = gameMapper.toResponseDto(savedGame);
+                // Guardar cambios
+                Game savedGame = gameService.save(game);
+                GameResponseDto response = gameMapper.toResponseDto(savedGame);
 
-            log.info("Player {} successfully proceeded to claim card phase in game {}", playerId, gameCode);
-            return ResponseEntity.ok(response);
+                log.info("Player {} successfully proceeded to claim card phase in game {}", playerId, gameCode);
+                return ResponseEntity.ok(response);
 
-        } catch (Exception e) {
-            log.error("Error proceeding to claim card for player {} in game {}: {}", playerId, gameCode, e.getMessage());
-            return ResponseEntity.badRequest().build();
-        }
+            } catch (Exception e) {
+                log.error("Error proceeding to claim card for player {} in game {}: {}", playerId, gameCode, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
 
     /**
@@ -294,36 +308,38 @@ public class TurnManagementController {
 
         log.info("Player {} requested to skip claim card phase in game {}", playerId, gameCode);
 
-        try {
-            Game game = gameService.findByGameCode(gameCode);
+        return gameCommandExecutor.execute(gameCode, () -> {
+            try {
+                Game game = gameService.findByGameCode(gameCode);
 
-            // Validar que es el turno del jugador
-            validatePlayerTurn(game, playerId);
+                // Validar que es el turno del jugador
+                validatePlayerTurn(game, playerId);
 
-            // Validar que está en fase de reclamación de carta
-            if (game.getCurrentPhase() != TurnPhase.CLAIM_CARD) {
-                log.warn("Player {} tried to skip claim card but current phase is {}", playerId, game.getCurrentPhase());
-                return ResponseEntity.badRequest().build();
-            }
+                // Validar que está en fase de reclamación de carta
+                if (game.getCurrentPhase() != TurnPhase.CLAIM_CARD) {
+                    log.warn("Player {} tried to skip claim card but current phase is {}", playerId, game.getCurrentPhase());
+                    return ResponseEntity.badRequest().build();
+                }
 
-            // Cambiar a fase de fin de turno
-            boolean success = gameStateService.changeTurnPhase(game, TurnPhase.END_TURN);
-            if (!success) {
-                log.warn("Failed to change phase to END_TURN for player {} in game {}", playerId, gameCode);
-                return ResponseEntity.badRequest().build();
-            }
+                // Cambiar a fase de fin de turno
+                boolean success = gameStateService.changeTurnPhase(game, TurnPhase.END_TURN);
+                if (!success) {
+                    log.warn("Failed to change phase to END_TURN for player {} in game {}", playerId, gameCode);
+                    return ResponseEntity.badRequest().build();
+                }
 
-            // Guardar cambios
-            Game savedGame = gameService.save(game);
-            GameResponseDto response = gameMapper.toResponseDto(savedGame);
+                // Guardar cambios
+                Game savedGame = gameService.save(game);
+                GameResponseDto response = gameMapper.toResponseDto(savedGame);
 
-            log.info("Player {} successfully skipped claim card phase in game {}", playerId, gameCode);
-            return ResponseEntity.ok(response);
+                log.info("Player {} successfully skipped claim card phase in game {}", playerId, gameCode);
+                return ResponseEntity.ok(response);
 
-        } catch (Exception e) {
-            log.error("Error skipping claim card for player {} in game {}: {}", playerId, gameCode, e.getMessage());
-            return ResponseEntity.badRequest().build();
-        }
+            } catch (Exception e) {
+                log.error("Error skipping claim card for player {} in game {}: {}", playerId, gameCode, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
 
     /**
@@ -343,33 +359,35 @@ public class TurnManagementController {
         log.info("Player {} requested action '{}' in game {}",
                 actionDto.getPlayerId(), actionDto.getAction(), gameCode);
 
-        try {
-            Game game = gameService.findByGameCode(gameCode);
+        return gameCommandExecutor.execute(gameCode, () -> {
+            try {
+                Game game = gameService.findByGameCode(gameCode);
 
-            // Validar que es el turno del jugador
-            validatePlayerTurn(game, actionDto.getPlayerId());
+                // Validar que es el turno del jugador
+                validatePlayerTurn(game, actionDto.getPlayerId());
 
-            // Procesar la acción específica
-            boolean success = processAction(game, actionDto.getAction());
-            if (!success) {
-                log.warn("Failed to process action '{}' for player {} in game {}",
-                        actionDto.getAction(), actionDto.getPlayerId(), gameCode);
-                return ResponseEntity.badRequest().build();
-            }
+                // Procesar la acción específica
+                boolean success = processAction(game, actionDto.getAction());
+                if (!success) {
+                    log.warn("Failed to process action '{}' for player {} in game {}",
+                            actionDto.getAction(), actionDto.getPlayerId(), gameCode);
+                    return ResponseEntity.badRequest().build();
+                }
 
-            // Guardar cambios
-            Game savedGame = gameService.save(game);
-            GameResponseDto response = gameMapper.toResponseDto(savedGame);
+                // Guardar cambios
+                Game savedGame = gameService.save(game);
+                GameResponseDto response = gameMapper.toResponseDto(savedGame);
 
-            log.info("Action '{}' executed successfully for player {} in game {}",
-                    actionDto.getAction(), actionDto.getPlayerId(), gameCode);
-            return ResponseEntity.ok(response);
+                log.info("Action '{}' executed successfully for player {} in game {}",
+                        actionDto.getAction(), actionDto.getPlayerId(), gameCode);
+                return ResponseEntity.ok(response);
 
-        } catch (Exception e) {
-            log.error("Error executing action '{}' for player {} in game {}: {}",
-                    actionDto.getAction(), actionDto.getPlayerId(), gameCode, e.getMessage());
-            return ResponseEntity.badRequest().build();
-        }
+            } catch (Exception e) {
+                log.error("Error executing action '{}' for player {} in game {}: {}",
+                        actionDto.getAction(), actionDto.getPlayerId(), gameCode, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
 
     /**
@@ -1,9 +1,12 @@
 package ar.edu.utn.frc.tup.piii.controllers;
 
 import ar.edu.utn.frc.tup.piii.dtos.user.PasswordChangeDto;
+import ar.edu.utn.frc.tup.piii.dtos.user.UserStatsDto;
 import ar.edu.utn.frc.tup.piii.dtos.user.UserUpdateDto;
+import ar.edu.utn.frc.tup.piii.engine.GameEventWriter;
 import ar.edu.utn.frc.tup.piii.entities.UserEntity;
 import ar.edu.utn.frc.tup.piii.model.User;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStatisticsService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -25,6 +28,12 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private GameStatisticsService gameStatisticsService;
+
+    @Autowired
+    private GameEventWriter gameEventWriter;
+
     @GetMapping
     @Operation(
             summary = "Listar todos los usuarios",
@@ -69,6 +78,24 @@ public class UserController {
         return ResponseEntity.ok(userService.getUserById(id));
     }
 
+    @GetMapping("/{id}/stats")
+    @Operation(
+            summary = "Obtener estadísticas de un usuario",
+            description = "Partidas jugadas y ganadas, ataques, conquistas y eliminaciones sumadas de todas las partidas terminadas"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Estadísticas obtenidas exitosamente",
+                    content = @Content(schema = @Schema(implementation = UserStatsDto.class))
+            )
+    })
+    public ResponseEntity<UserStatsDto> getUserStats(@PathVariable Long id) {
+        // Las partidas recién terminadas pueden tener eventos todavía en la cola
+        gameEventWriter.flush();
+        return ResponseEntity.ok(gameStatisticsService.getUserStats(id));
+    }
+
     @PutMapping("/{id}")
     @Operation(
             summary = "Actualizar perfil de usuario",
@@ -0,0 +1,21 @@
+package ar.edu.utn.frc.tup.piii.dtos.event;
+
+import ar.edu.utn.frc.tup.piii.model.enums.EventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filtros opcionales del historial de eventos; los que quedan en null no filtran.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameEventFilterDto {
+    private EventType type;
+    private Long actorId;
+    private Integer fromTurn;
+    private Integer toTurn;
+}
@@ -0,0 +1,22 @@
+package ar.edu.utn.frc.tup.piii.dtos.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página del historial de eventos, del más nuevo al más viejo. Para la siguiente página se
+ * envía {@code nextCursor} como {@code cursor}; es null cuando no hay más eventos.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameEventPageDto {
+    private List<GameEventDto> events;
+    private Long nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,27 @@
+package ar.edu.utn.frc.tup.piii.dtos.game;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlitzAttackDto {
+    @NotNull(message = "Player ID is required")
+    private Long playerId;
+
+    @NotNull(message = "Attacker country ID is required")
+    private Long attackerCountryId;
+
+    @NotNull(message = "Defender country ID is required")
+    private Long defenderCountryId;
+
+    //se deja de tirar cuando al pais atacante le quedan estos ejercitos o menos (si no viene, 1)
+    @Min(value = 1, message = "Stop threshold must be at least 1 army")
+    private Integer stopAtArmies;
+}
@@ -0,0 +1,30 @@
+package ar.edu.utn.frc.tup.piii.dtos.game;
+
+import ar.edu.utn.frc.tup.piii.model.enums.BlitzStopReason;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlitzResultDto {
+    private Long attackerCountryId;
+    private String attackerCountryName;
+    private Long defenderCountryId;
+    private String defenderCountryName;
+    private String attackerPlayerName;
+    private String defenderPlayerName;
+    //todas las tiradas, en orden
+    private List<CombatRollDto> rolls;
+    private Integer attackerLosses;
+    private Integer defenderLosses;
+    private Boolean territoryConquered;
+    private BlitzStopReason stopReason;
+    private Integer attackerRemainingArmies;
+    private Integer defenderRemainingArmies;
+}
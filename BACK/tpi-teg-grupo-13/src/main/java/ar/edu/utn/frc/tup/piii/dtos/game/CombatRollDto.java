@@ -0,0 +1,22 @@
+package ar.edu.utn.frc.tup.piii.dtos.game;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CombatRollDto {
+    private List<Integer> attackerDice;
+    private List<Integer> defenderDice;
+    private Integer attackerLosses;
+    private Integer defenderLosses;
+    //ejercitos que quedan en cada pais despues de esta tirada
+    private Integer attackerArmies;
+    private Integer defenderArmies;
+}
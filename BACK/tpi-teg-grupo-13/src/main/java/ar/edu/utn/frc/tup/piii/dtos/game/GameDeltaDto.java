@@ -0,0 +1,54 @@
+package ar.edu.utn.frc.tup.piii.dtos.game;
+
+import ar.edu.utn.frc.tup.piii.dtos.country.CountryResponseDto;
+import ar.edu.utn.frc.tup.piii.dtos.player.PlayerResponseDto;
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cambios de la partida desde la versión que ya tiene el cliente.
+ * Si {@code fullState} es true el historial no alcanzaba y {@code game} trae el estado completo;
+ * si no, solo vienen los territorios y jugadores que cambiaron. Los campos de fase siempre van.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GameDeltaDto {
+    private Long id;
+    private String gameCode;
+    private Long fromVersion;
+    private Long version;
+    private Boolean fullState;
+
+    private GameState state;
+    private TurnPhase currentPhase;
+    private Integer currentTurn;
+    private Integer currentPlayerIndex;
+    private Boolean isGameOver;
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Map<Long, CountryResponseDto> territories;
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<PlayerResponseDto> players;
+
+    /**
+     * True si {@code players} trae la lista completa y reemplaza a la del cliente.
+     */
+    private Boolean playersComplete;
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<Long> removedPlayerIds;
+
+    private GameResponseDto game;
+}
@@ -27,6 +27,11 @@ import java.util.Map;
 public class GameResponseDto {
     private Long id;
     private String gameCode;
+    /**
+     * Versión del estado (ver {@code sinceVersion} en GET /api/games/{gameCode}).
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;
     private String createdByUsername;
     private GameState state;
     private TurnPhase currentPhase;
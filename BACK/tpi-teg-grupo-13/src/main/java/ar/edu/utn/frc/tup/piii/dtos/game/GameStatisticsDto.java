@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 @Data
@@ -21,4 +22,5 @@ public class GameStatisticsDto {
     private Integer territoriesConquered;
     private String mostAggressivePlayer;
     private String mostDefensivePlayer;
+    private List<PlayerStatisticsDto> players;
 }
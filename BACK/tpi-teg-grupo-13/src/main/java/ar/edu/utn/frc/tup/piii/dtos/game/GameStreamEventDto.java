@@ -0,0 +1,27 @@
+package ar.edu.utn.frc.tup.piii.dtos.game;
+
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.GameStreamEventType;
+import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameStreamEventDto {
+    private GameStreamEventType type;
+    private Long gameId;
+    private Long playerId;
+    private GameState state;
+    private TurnPhase phase;
+    private Integer currentTurn;
+    private Integer currentPlayerIndex;
+    private Object payload;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,25 @@
+package ar.edu.utn.frc.tup.piii.dtos.game;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlayerStatisticsDto {
+    private Long playerId;
+    private String playerName;
+    private Integer turnNumber; // null en las estadísticas de toda la partida
+    private Integer attacks;
+    private Integer successfulAttacks;
+    private Integer conquests;
+    private Integer armiesPlaced;
+    private Integer fortifications;
+    private Integer cardsTraded;
+    private Integer turnsPlayed;
+    private Integer eliminations;
+    private Boolean eliminated;
+}
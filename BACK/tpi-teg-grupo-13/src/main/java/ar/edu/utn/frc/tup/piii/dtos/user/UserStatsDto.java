@@ -1,4 +1,25 @@
 package ar.edu.utn.frc.tup.piii.dtos.user;
 
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
 public class UserStatsDto {
+    private Long userId;
+    private Integer gamesPlayed;
+    private Integer gamesWon;
+    private Double winRate;
+    private Integer attacks;
+    private Integer successfulAttacks;
+    private Integer conquests;
+    private Integer eliminations;
+    private Integer turnsPlayed;
+    private LocalDateTime lastGameAt;
 }
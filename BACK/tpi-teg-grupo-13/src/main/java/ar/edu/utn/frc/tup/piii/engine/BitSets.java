@@ -0,0 +1,81 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+/**
+ * Operaciones sobre bitsets representados como long[] (un bit por índice denso de país).
+ * Se usan arrays primitivos en lugar de java.util.BitSet para poder compartir máscaras
+ * de tamaño fijo y operar palabra a palabra sin crear objetos.
+ */
+public final class BitSets {
+
+    private BitSets() {
+    }
+
+    public static int wordsFor(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    public static boolean get(long[] words, int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public static void set(long[] words, int index) {
+        words[index >>> 6] |= 1L << index;
+    }
+
+    public static void clear(long[] words, int index) {
+        words[index >>> 6] &= ~(1L << index);
+    }
+
+    public static int cardinality(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Indica si todos los bits de {@code mask} están presentes en {@code words}.
+     */
+    public static boolean containsAll(long[] words, long[] mask) {
+        for (int i = 0; i < mask.length; i++) {
+            if ((words[i] & mask[i]) != mask[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cantidad de bits en común entre {@code words} y {@code mask}.
+     */
+    public static int intersectionCount(long[] words, long[] mask) {
+        int count = 0;
+        for (int i = 0; i < mask.length; i++) {
+            count += Long.bitCount(words[i] & mask[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Agrega a {@code words} los bits de {@code mask} (unión en el lugar).
+     */
+    public static void or(long[] words, long[] mask) {
+        for (int i = 0; i < mask.length; i++) {
+            words[i] |= mask[i];
+        }
+    }
+
+    public static int[] toIndexArray(long[] words) {
+        int[] indexes = new int[cardinality(words)];
+        int k = 0;
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                indexes[k++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,175 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
+import ar.edu.utn.frc.tup.piii.model.Card;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.Player;
+import ar.edu.utn.frc.tup.piii.model.Territory;
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerColor;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerStatus;
+import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Estado mínimo de una partida que guardan las instantáneas y sobre el que se aplican los
+ * {@link GameChange} del log: fase y turno, ejércitos y dueño de cada país, y lo que cada
+ * jugador acumula entre turnos (ejércitos por colocar, canjes, estado, cartas y objetivo).
+ * Lo demás (mapa, nombres de continentes, vecinos) sale de {@link WorldMap} al armar el
+ * {@link Game}.
+ */
+@Data
+@NoArgsConstructor
+public class BoardState {
+
+    private Long gameId;
+    private String gameCode;
+    private GameState state;
+    private TurnPhase phase;
+    private Integer turn;
+    private Integer currentPlayerIndex;
+
+    // Ordenados por id de país y por asiento, así dos capturas del mismo estado serializan igual
+    private Map<Long, TerritoryState> territories = new LinkedHashMap<>();
+    private List<PlayerState> players = new ArrayList<>();
+
+    /**
+     * Toma el estado de un {@link Game} ya cargado con sus países y jugadores.
+     */
+    public static BoardState of(Game game) {
+        BoardState board = new BoardState();
+        board.setGameId(game.getId());
+        board.setGameCode(game.getGameCode());
+        board.setState(game.getState());
+        board.setPhase(game.getCurrentPhase());
+        board.setTurn(game.getCurrentTurn());
+        board.setCurrentPlayerIndex(game.getCurrentPlayerIndex());
+        game.getTerritories().values().stream()
+                .sorted(Comparator.comparing(Territory::getId))
+                .forEach(territory -> board.getTerritories().put(territory.getId(), new TerritoryState(
+                        territory.getId(), territory.getName(), territory.getOwnerId(),
+                        territory.getArmies() != null ? territory.getArmies() : 0)));
+        game.getPlayers().stream()
+                .sorted(Comparator.comparing(Player::getSeatOrder, Comparator.nullsLast(Comparator.naturalOrder())))
+                .forEach(player -> board.getPlayers().add(new PlayerState(
+                        player.getId(), player.getDisplayName(), Boolean.TRUE.equals(player.getIsBot()),
+                        player.getColor(), player.getStatus(), player.getSeatOrder(),
+                        player.getArmiesToPlace() != null ? player.getArmiesToPlace() : 0,
+                        player.getTradeCount() != null ? player.getTradeCount() : 0,
+                        player.getObjective() != null ? player.getObjective().getId() : null,
+                        player.getHand() != null
+                                ? player.getHand().stream().map(Card::getId).sorted().collect(Collectors.toCollection(ArrayList::new))
+                                : new ArrayList<>())));
+        return board;
+    }
+
+    public TerritoryState territory(Long countryId) {
+        TerritoryState territory = territories.get(countryId);
+        if (territory == null) {
+            throw new InvalidGameStateException("Country " + countryId + " is not part of game " + gameId);
+        }
+        return territory;
+    }
+
+    public PlayerState player(Long playerId) {
+        return players.stream()
+                .filter(player -> player.getId().equals(playerId))
+                .findFirst()
+                .orElseThrow(() -> new InvalidGameStateException("Player " + playerId + " is not part of game " + gameId));
+    }
+
+    /**
+     * Arma el {@link Game} de este estado, con vecinos y continentes tomados del mapa.
+     * El objetivo y la mano de cada jugador no se copian: son secretos y este modelo se
+     * devuelve tal cual en la repetición de la partida. Solo los usa la restauración, que lee
+     * el {@link BoardState} directamente.
+     */
+    public Game toGame(WorldMap worldMap) {
+        Map<Long, String> ownerNames = new LinkedHashMap<>();
+        for (PlayerState player : players) {
+            ownerNames.put(player.getId(), player.getName());
+        }
+
+        Map<Long, Territory> gameTerritories = new LinkedHashMap<>();
+        Map<Long, List<Long>> territoriesByOwner = new LinkedHashMap<>();
+        for (TerritoryState territory : territories.values()) {
+            int index = worldMap.indexOf(territory.getCountryId());
+            gameTerritories.put(territory.getCountryId(), Territory.builder()
+                    .id(territory.getCountryId())
+                    .name(territory.getName())
+                    .continentName(index >= 0 ? worldMap.continentNameAt(worldMap.continentOf(index)) : null)
+                    .ownerId(territory.getOwnerId())
+                    .ownerName(ownerNames.get(territory.getOwnerId()))
+                    .armies(territory.getArmies())
+                    .neighborIds(worldMap.neighborIdsOf(territory.getCountryId()))
+                    .build());
+            territoriesByOwner.computeIfAbsent(territory.getOwnerId(), owner -> new ArrayList<>())
+                    .add(territory.getCountryId());
+        }
+
+        List<Player> gamePlayers = new ArrayList<>();
+        for (PlayerState player : players) {
+            gamePlayers.add(Player.builder()
+                    .id(player.getId())
+                    .displayName(player.getName())
+                    .isBot(player.isBot())
+                    .color(player.getColor())
+                    .status(player.getStatus())
+                    .seatOrder(player.getSeatOrder())
+                    .armiesToPlace(player.getArmiesToPlace())
+                    .tradeCount(player.getTradeCount())
+                    .territoryIds(territoriesByOwner.getOrDefault(player.getId(), new ArrayList<>()))
+                    .build());
+        }
+
+        return Game.builder()
+                .id(gameId)
+                .gameCode(gameCode)
+                .state(state)
+                .currentPhase(phase)
+                .currentTurn(turn)
+                .currentPlayerIndex(currentPlayerIndex)
+                .players(gamePlayers)
+                .territories(gameTerritories)
+                .build();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TerritoryState {
+        private Long countryId;
+        private String name;
+        private Long ownerId;
+        private int armies;
+
+        public void addArmies(int delta) {
+            armies += delta;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PlayerState {
+        private Long id;
+        private String name;
+        private boolean bot;
+        private PlayerColor color;
+        private PlayerStatus status;
+        private Integer seatOrder;
+        private int armiesToPlace;
+        private int tradeCount;
+        private Long objectiveId;
+        private List<Long> cardIds = new ArrayList<>();
+    }
+}
@@ -0,0 +1,246 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.dtos.game.GameResponseDto;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.Player;
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.GameStreamEventType;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
+import ar.edu.utn.frc.tup.piii.service.interfaces.BotService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStreamService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Juega los turnos de los bots en el servidor, sin esperar a que un cliente llame a
+ * {@code POST /api/bots/games/{gameCode}/{botId}/execute-turn}. Cuando una partida pasa al turno
+ * de un bot ({@link TurnAdvancedEvent}, después del commit) el turno se encola en un pool propio
+ * de {@code game.bots.scheduler.threads} hilos con una cola de {@code game.bots.scheduler.queue-capacity}
+ * partidas. Además, cada {@code game.bots.scheduler.poll-interval-ms} se barren las partidas en
+ * curso con bots, para retomar las que quedaron esperando (reinicio, cola llena, turno fallido).
+ * <p>
+ * Cada partida tiene a lo sumo una tarea encolada o en curso: si llega otro aviso mientras
+ * tanto, la tarea se vuelve a encolar al terminar. El turno corre dentro de la cola de comandos
+ * de la partida ({@link GameCommandExecutor}), así no se pisa con acciones de los jugadores ni
+ * con el endpoint manual. Al terminar se publica {@link GameStreamEventType#BOT_TURN_COMPLETED}
+ * con el estado de la partida; los eventos de cada fase ya los publican los servicios.
+ * <p>
+ * Métricas: {@code game.bots.queue.depth} (partidas esperando un hilo), {@code game.bots.active}
+ * (turnos en curso), {@code game.bots.turn.duration} (por {@code outcome}) y
+ * {@code game.bots.turns.rejected} (cola llena).
+ */
+@Component
+@Slf4j
+public class BotTurnScheduler {
+
+    static final List<GameState> PLAYING_STATES = List.of(GameState.REINFORCEMENT_5, GameState.REINFORCEMENT_3,
+            GameState.HOSTILITY_ONLY, GameState.NORMAL_PLAY);
+
+    @Autowired
+    private BotService botService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameCommandExecutor gameCommandExecutor;
+
+    @Autowired
+    private GameStreamService gameStreamService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${game.bots.scheduler.enabled:true}")
+    private boolean enabled;
+
+    @Value("${game.bots.scheduler.threads:2}")
+    private int threads;
+
+    @Value("${game.bots.scheduler.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${game.bots.scheduler.poll-interval-ms:5000}")
+    private long pollIntervalMs;
+
+    // Partidas con una tarea encolada o en curso; TRUE si hay que volver a mirarlas al terminar
+    private final Map<String, Boolean> scheduled = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor workers;
+    private ScheduledExecutorService poller;
+    private Counter rejected;
+
+    @PostConstruct
+    public void start() {
+        workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), daemonThreads("bot-turn-worker"));
+        Gauge.builder("game.bots.queue.depth", workers, pool -> pool.getQueue().size())
+                .description("Games waiting for a bot turn worker")
+                .register(meterRegistry);
+        Gauge.builder("game.bots.active", workers, ThreadPoolExecutor::getActiveCount)
+                .description("Bot turns being played")
+                .register(meterRegistry);
+        rejected = Counter.builder("game.bots.turns.rejected")
+                .description("Bot turns not queued because the queue was full")
+                .register(meterRegistry);
+
+        if (enabled && pollIntervalMs > 0) {
+            poller = Executors.newSingleThreadScheduledExecutor(daemonThreads("bot-turn-poller"));
+            poller.scheduleWithFixedDelay(this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+        if (workers != null) {
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+                    workers.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                workers.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTurnAdvanced(TurnAdvancedEvent event) {
+        if (event.botTurn()) {
+            schedule(event.gameCode());
+        }
+    }
+
+    /**
+     * Encola el turno del bot de la partida, si no hay ya una tarea para ella.
+     *
+     * @return true si se encoló una tarea nueva
+     */
+    public boolean schedule(String gameCode) {
+        if (!enabled || gameCode == null) {
+            return false;
+        }
+        boolean[] submit = new boolean[1];
+        scheduled.compute(gameCode, (code, rerun) -> {
+            submit[0] = rerun == null;
+            return !submit[0];
+        });
+        return submit[0] && submit(gameCode);
+    }
+
+    /**
+     * Partidas esperando un hilo libre.
+     */
+    public int queueDepth() {
+        return workers != null ? workers.getQueue().size() : 0;
+    }
+
+    /**
+     * Barre las partidas en curso con bots y encola las que no tienen tarea.
+     */
+    void poll() {
+        try {
+            for (String gameCode : gameRepository.findGameCodesWithBotsByStatusIn(PLAYING_STATES)) {
+                schedule(gameCode);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not look for pending bot turns: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Juega el turno si la partida está en curso y el jugador actual es un bot.
+     *
+     * @return true si se jugó un turno
+     */
+    boolean playCurrentBotTurn(String gameCode) {
+        return gameCommandExecutor.execute(gameCode, () -> {
+            Game game = gameService.findByGameCode(gameCode);
+            Player current = game.getCurrentPlayer();
+            if (!PLAYING_STATES.contains(game.getState()) || current == null
+                    || !Boolean.TRUE.equals(current.getIsBot())) {
+                return false;
+            }
+
+            long start = System.nanoTime();
+            String outcome = "error";
+            try {
+                GameResponseDto result = botService.executeBotTurnComplete(gameCode, current.getId());
+                outcome = "ok";
+                gameStreamService.publish(game.getId(), GameStreamEventType.BOT_TURN_COMPLETED, current.getId(), result);
+                return true;
+            } finally {
+                Timer.builder("game.bots.turn.duration")
+                        .description("Time to play a complete bot turn")
+                        .tag("outcome", outcome)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    private boolean submit(String gameCode) {
+        try {
+            workers.execute(() -> run(gameCode));
+            return true;
+        } catch (RejectedExecutionException e) {
+            scheduled.remove(gameCode);
+            rejected.increment();
+            log.warn("Bot turn queue is full ({} games), game {} will be retried on the next poll",
+                    queueCapacity, gameCode);
+            return false;
+        }
+    }
+
+    private void run(String gameCode) {
+        try {
+            playCurrentBotTurn(gameCode);
+        } catch (RuntimeException e) {
+            log.error("Bot turn failed in game {}: {}", gameCode, e.getMessage());
+        } finally {
+            // Si llegó otro aviso mientras se jugaba (p. ej. el siguiente jugador también es bot), se sigue
+            Boolean rerun = scheduled.computeIfPresent(gameCode, (code, again) -> again ? Boolean.FALSE : null);
+            if (rerun != null) {
+                submit(gameCode);
+            }
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,245 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.dtos.chat.ChatMessageResponseDto;
+import ar.edu.utn.frc.tup.piii.repository.ChatMessageRepository;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
+import ar.edu.utn.frc.tup.piii.repository.PlayerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Últimos {@code chat.history.limit} mensajes de chat de cada partida en memoria, en un buffer
+ * circular por partida. Los mensajes nuevos entran acá con su id ya asignado y se guardan en
+ * la base en segundo plano con {@link ChatMessageWriter}, así enviar y leer el chat no toca el
+ * tablero ni la entidad de la partida.
+ * <p>
+ * La sala de una partida se arma la primera vez que se usa, con sus últimos mensajes y los
+ * nombres de sus jugadores. Los ids salen de {@link ChatMessageIdAllocator}, un contador en la
+ * base compartido por todos los servidores. Si un cliente pide mensajes
+ * más viejos que los que quedan en el buffer, {@link #since} devuelve vacío y la lectura va a
+ * la base.
+ */
+@Component
+@Slf4j
+public class ChatBuffer {
+
+    static final String SYSTEM_SENDER = "Sistema";
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatMessageWriter chatMessageWriter;
+
+    @Autowired
+    private ChatMessageIdAllocator chatMessageIdAllocator;
+
+    @Value("${chat.history.limit:100}")
+    private int historyLimit;
+
+    private final Map<String, Room> rooms = new ConcurrentHashMap<>();
+
+    /**
+     * ID de la partida, desde la sala si ya está armada.
+     */
+    public Long gameId(String gameCode) {
+        return room(gameCode).gameId;
+    }
+
+    /**
+     * Agrega un mensaje al chat de la partida, lo encola para guardarlo y lo devuelve con su id.
+     */
+    public ChatMessageResponseDto append(String gameCode, Long senderId, String content) {
+        Room room = room(gameCode);
+        String senderName = room.senderName(senderId);
+        if (senderName == null) {
+            // El jugador pudo haberse unido después de armar la sala
+            room.loadSenderNames(playerRepository.findChatNamesByGameId(room.gameId));
+            senderName = room.senderName(senderId);
+        }
+        if (senderName == null) {
+            throw new IllegalArgumentException("Sender not found with id: " + senderId);
+        }
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        ChatMessageResponseDto message;
+        synchronized (room) {
+            // El id se asigna dentro del lock para que el buffer quede ordenado
+            message = ChatMessageResponseDto.builder()
+                    .id(chatMessageIdAllocator.nextId())
+                    .senderName(senderName)
+                    .content(content)
+                    .sentAt(sentAt)
+                    .isSystemMessage(false)
+                    .build();
+            room.add(message);
+        }
+        chatMessageWriter.append(new ChatMessageWriter.PendingMessage(message.getId(), room.gameId, senderId,
+                content, sentAt, false));
+        return message;
+    }
+
+    /**
+     * Mensajes con id mayor a {@code sinceMessageId} (todos si es null), del más viejo al más nuevo.
+     * Vacío si el buffer no alcanza a cubrir el pedido y hay que leer la base.
+     */
+    public Optional<List<ChatMessageResponseDto>> since(String gameCode, Long sinceMessageId) {
+        return room(gameCode).since(sinceMessageId);
+    }
+
+    /**
+     * Descarta la sala de la partida. Antes escribe lo encolado, para que no quede pendiente
+     * un mensaje de una partida que se está por borrar.
+     */
+    public void evict(Long gameId) {
+        chatMessageWriter.flush();
+        rooms.values().removeIf(room -> room.gameId.equals(gameId));
+    }
+
+    public int cachedRooms() {
+        return rooms.size();
+    }
+
+    private Room room(String gameCode) {
+        Room room = rooms.get(gameCode);
+        if (room != null) {
+            return room;
+        }
+        Long gameId = gameRepository.findIdByGameCode(gameCode)
+                .orElseThrow(() -> new IllegalArgumentException("Game not found with code: " + gameCode));
+        // Se carga fuera del mapa: las consultas no bloquean a las demás salas. Si otro hilo la
+        // armó mientras tanto, se usa la suya
+        Room loaded = load(gameId);
+        Room existing = rooms.putIfAbsent(gameCode, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private Room load(Long gameId) {
+        // Lo encolado de una sala descartada tiene que estar en la base antes de leerla
+        chatMessageWriter.flush();
+        Room room = new Room(gameId, historyLimit);
+        room.loadSenderNames(playerRepository.findChatNamesByGameId(gameId));
+        List<Object[]> rows = chatMessageRepository.findRecentRowsByGameId(gameId, PageRequest.of(0, historyLimit));
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            Object[] row = rows.get(i);
+            boolean systemMessage = Boolean.TRUE.equals(row[4]);
+            room.add(ChatMessageResponseDto.builder()
+                    .id((Long) row[0])
+                    .senderName(systemMessage ? SYSTEM_SENDER : room.senderNameOrSystem((Long) row[1]))
+                    .content((String) row[2])
+                    .sentAt((LocalDateTime) row[3])
+                    .isSystemMessage(systemMessage)
+                    .build());
+        }
+        // Con menos filas que el límite la sala tiene todo el historial de la partida
+        room.complete = rows.size() < historyLimit;
+        log.debug("Loaded chat room of game {} with {} messages", gameId, rows.size());
+        return room;
+    }
+
+    /**
+     * Buffer circular de una partida. {@code complete} indica que no hay mensajes de la partida
+     * más viejos que los del buffer; se pierde cuando el buffer empieza a pisar mensajes.
+     */
+    static final class Room {
+
+        final Long gameId;
+        private final ChatMessageResponseDto[] messages;
+        private final Map<Long, String> senderNames = new ConcurrentHashMap<>();
+        private int start;
+        private int size;
+        private boolean complete;
+
+        Room(Long gameId, int capacity) {
+            this.gameId = gameId;
+            this.messages = new ChatMessageResponseDto[Math.max(1, capacity)];
+        }
+
+        void loadSenderNames(List<Object[]> rows) {
+            for (Object[] row : rows) {
+                String name = row[1] != null ? (String) row[1] : row[2] != null ? (String) row[2] : SYSTEM_SENDER;
+                senderNames.put((Long) row[0], name);
+            }
+        }
+
+        String senderName(Long senderId) {
+            return senderId != null ? senderNames.get(senderId) : null;
+        }
+
+        String senderNameOrSystem(Long senderId) {
+            String name = senderName(senderId);
+            return name != null ? name : SYSTEM_SENDER;
+        }
+
+        synchronized void add(ChatMessageResponseDto message) {
+            if (size == messages.length) {
+                messages[start] = message;
+                start = (start + 1) % messages.length;
+                complete = false;
+            } else {
+                messages[(start + size) % messages.length] = message;
+                size++;
+            }
+        }
+
+        synchronized Optional<List<ChatMessageResponseDto>> since(Long sinceMessageId) {
+            if (size == 0) {
+                return complete ? Optional.of(Collections.emptyList()) : Optional.empty();
+            }
+            if (sinceMessageId == null || sinceMessageId < at(0).getId()) {
+                // Pueden faltar mensajes entre sinceMessageId y el más viejo del buffer
+                if (!complete) {
+                    return Optional.empty();
+                }
+                return Optional.of(copy(0));
+            }
+            return Optional.of(copy(firstAfter(sinceMessageId)));
+        }
+
+        private ChatMessageResponseDto at(int index) {
+            return messages[(start + index) % messages.length];
+        }
+
+        /**
+         * Posición del primer mensaje con id mayor a {@code messageId}; los ids crecen con la posición.
+         */
+        private int firstAfter(long messageId) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (at(mid).getId() <= messageId) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private List<ChatMessageResponseDto> copy(int from) {
+            List<ChatMessageResponseDto> result = new ArrayList<>(size - from);
+            for (int i = from; i < size; i++) {
+                result.add(at(i));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * IDs de chat_messages. {@link ChatBuffer} asigna el id al aceptar el mensaje, antes de que
+ * {@link ChatMessageWriter} lo inserte, así que los ids salen de un contador en la tabla
+ * id_generators (el mismo que usa el {@code @TableGenerator} de
+ * {@link ar.edu.utn.frc.tup.piii.entities.ChatMessageEntity}) y no de la columna.
+ * <p>
+ * Se reservan bloques de {@code chat.id-block-size} ids en una transacción propia: la fila
+ * queda bloqueada mientras se actualiza, así que dos servidores nunca reciben el mismo bloque.
+ * Los ids de un bloque que no se llegan a usar (por ejemplo al reiniciar) se pierden; solo
+ * importa que crezcan.
+ */
+@Component
+@Slf4j
+public class ChatMessageIdAllocator {
+
+    static final String GENERATOR_TABLE = "id_generators";
+    static final String CHAT_MESSAGES = "chat_messages";
+
+    static final String RESERVE_SQL = "UPDATE " + GENERATOR_TABLE + " SET next_id = next_id + ? WHERE generator_name = ?";
+    static final String SELECT_SQL = "SELECT next_id FROM " + GENERATOR_TABLE + " WHERE generator_name = ?";
+    static final String INSERT_SQL = "INSERT INTO " + GENERATOR_TABLE + " (generator_name, next_id) VALUES (?, ?)";
+    static final String MAX_ID_SQL = "SELECT MAX(id) FROM " + CHAT_MESSAGES;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${chat.id-block-size:50}")
+    private int blockSize;
+
+    private TransactionTemplate blockTransaction;
+
+    // Próximo id a entregar y fin (excluido) del bloque reservado
+    private long next;
+    private long limit;
+
+    @PostConstruct
+    public void start() {
+        blockTransaction = new TransactionTemplate(transactionManager);
+        blockTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public synchronized long nextId() {
+        if (next >= limit) {
+            reserveBlock();
+        }
+        return next++;
+    }
+
+    private void reserveBlock() {
+        Long end;
+        try {
+            end = blockTransaction.execute(status -> reserve());
+        } catch (DuplicateKeyException e) {
+            // Otro servidor creó el contador al mismo tiempo: ya existe, se reserva sobre el suyo
+            end = blockTransaction.execute(status -> reserve());
+        }
+        limit = end;
+        next = end - blockSize;
+        log.debug("Reserved chat message ids {} to {}", next, limit - 1);
+    }
+
+    private Long reserve() {
+        if (jdbcTemplate.update(RESERVE_SQL, blockSize, CHAT_MESSAGES) == 0) {
+            // Primera reserva: el contador arranca después del mayor id que ya esté en la tabla
+            Long maxId = jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class);
+            jdbcTemplate.update(INSERT_SQL, CHAT_MESSAGES, (maxId != null ? maxId : 0L) + 1 + blockSize);
+        }
+        return jdbcTemplate.queryForObject(SELECT_SQL, Long.class, CHAT_MESSAGES);
+    }
+}
@@ -0,0 +1,206 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Escritura diferida de los mensajes de chat (chat_messages), como {@link GameEventWriter} con el
+ * historial: el mensaje ya tiene su id y ya está en {@link ChatBuffer} cuando se encola, y un hilo
+ * de fondo lo inserta en lotes JDBC cada {@code chat.writer.flush-interval-ms} o apenas se juntan
+ * {@code chat.writer.batch-size} mensajes.
+ * <p>
+ * La cola admite {@code chat.writer.buffer-capacity} mensajes; si se llena, el hilo que encola
+ * escribe lo pendiente. {@link #flush()} es la barrera sincrónica antes de leer el chat de la base.
+ * <p>
+ * Si un mensaje no se puede insertar por un error pasajero (conexión, bloqueo) queda para el
+ * próximo flush en lugar de perderse. Solo se descarta si la base lo rechaza por integridad (la
+ * partida o el jugador ya no existen), porque reintentarlo no cambiaría nada; si ya estaba
+ * insertado se da por escrito.
+ */
+@Component
+@Slf4j
+public class ChatMessageWriter {
+
+    static final String INSERT_SQL = "INSERT INTO chat_messages (id, game_id, sender_id, content, sent_at, is_system_message) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${chat.writer.buffer-capacity:2048}")
+    private int bufferCapacity;
+
+    @Value("${chat.writer.batch-size:50}")
+    private int batchSize;
+
+    @Value("${chat.writer.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Object signal = new Object();
+
+    private BlockingQueue<PendingMessage> queue;
+    // Mensajes que fallaron por un error pasajero; se usan solo con writeLock tomado
+    private final List<PendingMessage> retries = new ArrayList<>();
+    private TransactionTemplate batchTransaction;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new LinkedBlockingQueue<>(bufferCapacity);
+        batchTransaction = new TransactionTemplate(transactionManager);
+        batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        running = true;
+        writer = new Thread(this::writeLoop, "chat-message-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            try {
+                writer.join(flushIntervalMs * 10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    public void append(PendingMessage message) {
+        while (!queue.offer(message)) {
+            log.warn("Chat message buffer is full ({} messages), writing them on the caller thread", bufferCapacity);
+            flush();
+        }
+        if (queue.size() >= batchSize) {
+            synchronized (signal) {
+                signal.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Escribe en el hilo actual todo lo encolado, en lotes de {@code chat.writer.batch-size}.
+     */
+    public void flush() {
+        if (queue == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            List<PendingMessage> failed = new ArrayList<>();
+            if (!retries.isEmpty()) {
+                List<PendingMessage> retrying = new ArrayList<>(retries);
+                retries.clear();
+                for (int from = 0; from < retrying.size(); from += batchSize) {
+                    write(retrying.subList(from, Math.min(from + batchSize, retrying.size())), failed);
+                }
+            }
+            List<PendingMessage> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                write(batch, failed);
+                batch.clear();
+            }
+            // Se reintentan en el próximo flush, no en este: si la base está caída no se insiste en un ciclo
+            retries.addAll(failed);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int pendingMessages() {
+        writeLock.lock();
+        try {
+            return (queue != null ? queue.size() : 0) + retries.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void writeLoop() {
+        while (running) {
+            try {
+                synchronized (signal) {
+                    if (queue.size() < batchSize) {
+                        signal.wait(flushIntervalMs);
+                    }
+                }
+                flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Could not write pending chat messages", e);
+            }
+        }
+    }
+
+    private void write(List<PendingMessage> batch, List<PendingMessage> failed) {
+        try {
+            batchTransaction.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), ChatMessageWriter::bind));
+            log.debug("Wrote {} chat messages", batch.size());
+        } catch (DataAccessException e) {
+            log.warn("Chat message batch of {} failed, writing one by one: {}", batch.size(), e.getMessage());
+            for (PendingMessage message : batch) {
+                try {
+                    batchTransaction.executeWithoutResult(status ->
+                            jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, message)));
+                } catch (DuplicateKeyException alreadyWritten) {
+                    log.debug("Chat message {} was already written", message.id());
+                } catch (DataIntegrityViolationException rejected) {
+                    log.error("Dropping chat message {} of game {}: {}", message.id(), message.gameId(),
+                            rejected.getMessage());
+                } catch (DataAccessException rowError) {
+                    log.warn("Chat message {} of game {} will be retried: {}", message.id(), message.gameId(),
+                            rowError.getMessage());
+                    failed.add(message);
+                }
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, PendingMessage message) throws SQLException {
+        ps.setLong(1, message.id());
+        ps.setLong(2, message.gameId());
+        ps.setLong(3, message.senderId());
+        ps.setString(4, message.content());
+        ps.setTimestamp(5, Timestamp.valueOf(message.sentAt()));
+        ps.setBoolean(6, message.systemMessage());
+    }
+
+    /**
+     * Mensaje listo para insertar, con el id ya asignado por {@link ChatBuffer}.
+     */
+    public record PendingMessage(Long id, Long gameId, Long senderId, String content, LocalDateTime sentAt,
+                                 boolean systemMessage) {
+    }
+}
@@ -0,0 +1,189 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Probabilidades exactas de los dados de combate, calculadas una sola vez al crear el bean.
+ * <p>
+ * Hay dos tablas:
+ * <ul>
+ *   <li>Por tirada: para cada combinación de 1 a 3 dados del atacante y del defensor, la
+ *   probabilidad de que el atacante pierda 0, 1, ... ejércitos (el defensor pierde el resto de
+ *   las comparaciones). Se arma enumerando todas las tiradas posibles, con las mismas reglas que
+ *   {@link ar.edu.utn.frc.tup.piii.service.impl.CombatServiceImpl}: se comparan los dados de
+ *   mayor a menor y el empate lo gana el defensor.</li>
+ *   <li>Por batalla completa: para un país atacante con {@code A} ejércitos contra uno con
+ *   {@code D}, la probabilidad de conquistarlo atacando hasta el final (el atacante tira
+ *   {@code min(3, A - 1)} dados y el defensor {@code min(3, D)}) y los ejércitos que se espera
+ *   que le queden al país atacante, hasta {@link #MAX_ARMIES} de cada lado.</li>
+ * </ul>
+ * Dentro de la tabla, las consultas son lecturas de array.
+ */
+@Component
+public class DiceOdds {
+
+    public static final int MAX_DICE = 3;
+    public static final int MAX_ARMIES = 200;
+
+    // [dados atacante][dados defensor][ejércitos que pierde el atacante]
+    private final double[][][] rollLosses = new double[MAX_DICE + 1][MAX_DICE + 1][];
+
+    // [ejércitos del país atacante][ejércitos del defensor]
+    private final double[][] winProbability = new double[MAX_ARMIES + 1][MAX_ARMIES + 1];
+    private final double[][] expectedSurvivors = new double[MAX_ARMIES + 1][MAX_ARMIES + 1];
+
+    public DiceOdds() {
+        for (int attackerDice = 1; attackerDice <= MAX_DICE; attackerDice++) {
+            for (int defenderDice = 1; defenderDice <= MAX_DICE; defenderDice++) {
+                rollLosses[attackerDice][defenderDice] = enumerateRoll(attackerDice, defenderDice);
+            }
+        }
+        buildBattleTables();
+    }
+
+    /**
+     * Probabilidad de que, en una tirada con esos dados, el atacante pierda {@code attackerLosses}
+     * ejércitos y el defensor {@code min(attackerDice, defenderDice) - attackerLosses}.
+     */
+    public double rollProbability(int attackerDice, int defenderDice, int attackerLosses) {
+        double[] losses = rollLosses[attackerDice][defenderDice];
+        return attackerLosses >= 0 && attackerLosses < losses.length ? losses[attackerLosses] : 0.0;
+    }
+
+    /**
+     * Ejércitos que se espera que pierda el atacante en una tirada con esos dados.
+     */
+    public double expectedRollAttackerLosses(int attackerDice, int defenderDice) {
+        double[] losses = rollLosses[attackerDice][defenderDice];
+        double expected = 0;
+        for (int k = 1; k < losses.length; k++) {
+            expected += k * losses[k];
+        }
+        return expected;
+    }
+
+    /**
+     * Probabilidad de conquistar un país con {@code defenderArmies} atacando hasta el final
+     * desde uno con {@code attackerArmies} (incluido el ejército que no puede atacar).
+     */
+    public double winProbability(int attackerArmies, int defenderArmies) {
+        if (defenderArmies <= 0) {
+            return 1.0;
+        }
+        if (attackerArmies <= 1) {
+            return 0.0;
+        }
+        if (attackerArmies > MAX_ARMIES || defenderArmies > MAX_ARMIES) {
+            int[] scaled = scaleIntoTable(attackerArmies, defenderArmies);
+            return winProbability[scaled[0]][scaled[1]];
+        }
+        return winProbability[attackerArmies][defenderArmies];
+    }
+
+    /**
+     * Ejércitos que se espera que queden en el país atacante al terminar la batalla (con
+     * conquista o quedándose con 1), antes de mover tropas al país conquistado.
+     */
+    public double expectedSurvivors(int attackerArmies, int defenderArmies) {
+        if (attackerArmies <= 1 || defenderArmies <= 0) {
+            return Math.max(attackerArmies, 0);
+        }
+        if (attackerArmies > MAX_ARMIES || defenderArmies > MAX_ARMIES) {
+            int[] scaled = scaleIntoTable(attackerArmies, defenderArmies);
+            // Si pierde le queda 1; lo que se escala es lo que sobra por encima de ese ejército
+            return 1 + (expectedSurvivors[scaled[0]][scaled[1]] - 1) * attackerArmies / scaled[0];
+        }
+        return expectedSurvivors[attackerArmies][defenderArmies];
+    }
+
+    private static double[] enumerateRoll(int attackerDice, int defenderDice) {
+        int comparisons = Math.min(attackerDice, defenderDice);
+        long[] counts = new long[comparisons + 1];
+        int[] attacker = new int[attackerDice];
+        int[] defender = new int[defenderDice];
+        int outcomes = 1;
+        for (int i = 0; i < attackerDice + defenderDice; i++) {
+            outcomes *= 6;
+        }
+        for (int outcome = 0; outcome < outcomes; outcome++) {
+            int rest = outcome;
+            for (int i = 0; i < attackerDice; i++, rest /= 6) {
+                attacker[i] = rest % 6 + 1;
+            }
+            for (int i = 0; i < defenderDice; i++, rest /= 6) {
+                defender[i] = rest % 6 + 1;
+            }
+            sortDescending(attacker);
+            sortDescending(defender);
+            int attackerLosses = 0;
+            for (int i = 0; i < comparisons; i++) {
+                if (attacker[i] <= defender[i]) {
+                    attackerLosses++;
+                }
+            }
+            counts[attackerLosses]++;
+        }
+        double[] probabilities = new double[comparisons + 1];
+        for (int k = 0; k <= comparisons; k++) {
+            probabilities[k] = (double) counts[k] / outcomes;
+        }
+        return probabilities;
+    }
+
+    /**
+     * Ordena de mayor a menor sin reservar memoria; son a lo sumo 3 dados.
+     */
+    public static void sortDescending(int[] dice) {
+        for (int i = 1; i < dice.length; i++) {
+            int value = dice[i];
+            int j = i - 1;
+            while (j >= 0 && dice[j] < value) {
+                dice[j + 1] = dice[j];
+                j--;
+            }
+            dice[j + 1] = value;
+        }
+    }
+
+    // Cada tirada baja A o D, así que recorriendo ambos en orden creciente los estados a los
+    // que se puede llegar ya están calculados
+    private void buildBattleTables() {
+        for (int attacker = 0; attacker <= MAX_ARMIES; attacker++) {
+            for (int defender = 0; defender <= MAX_ARMIES; defender++) {
+                if (defender == 0) {
+                    // La última tirada puede dejar al atacante con 1 y aun así conquistar
+                    winProbability[attacker][0] = 1.0;
+                    expectedSurvivors[attacker][0] = attacker;
+                    continue;
+                }
+                if (attacker <= 1) {
+                    winProbability[attacker][defender] = 0.0;
+                    expectedSurvivors[attacker][defender] = attacker;
+                    continue;
+                }
+                int attackerDice = Math.min(MAX_DICE, attacker - 1);
+                int defenderDice = Math.min(MAX_DICE, defender);
+                int comparisons = Math.min(attackerDice, defenderDice);
+                double[] losses = rollLosses[attackerDice][defenderDice];
+                double win = 0;
+                double survivors = 0;
+                for (int k = 0; k <= comparisons; k++) {
+                    int nextAttacker = attacker - k;
+                    int nextDefender = defender - (comparisons - k);
+                    win += losses[k] * winProbability[nextAttacker][nextDefender];
+                    survivors += losses[k] * expectedSurvivors[nextAttacker][nextDefender];
+                }
+                winProbability[attacker][defender] = win;
+                expectedSurvivors[attacker][defender] = survivors;
+            }
+        }
+    }
+
+    // Fuera de la tabla se aproxima con la misma proporción de ejércitos dentro de ella
+    private static int[] scaleIntoTable(int attackerArmies, int defenderArmies) {
+        double scale = (double) MAX_ARMIES / Math.max(attackerArmies, defenderArmies);
+        int attacker = Math.max(2, (int) Math.round(attackerArmies * scale));
+        int defender = Math.max(1, (int) Math.round(defenderArmies * scale));
+        return new int[]{Math.min(attacker, MAX_ARMIES), Math.min(defender, MAX_ARMIES)};
+    }
+}
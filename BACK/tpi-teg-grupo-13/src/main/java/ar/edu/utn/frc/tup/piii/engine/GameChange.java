@@ -0,0 +1,232 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerStatus;
+import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cambio de estado de una partida tal como se guarda en el log de eventos (game_log).
+ * <p>
+ * Cada cambio lleva el resultado ya decidido (dados tirados, ejércitos movidos, fase nueva),
+ * no la intención: aplicarlo sobre un {@link BoardState} no vuelve a tirar dados ni a validar
+ * reglas, así la reconstrucción es determinística. Los valores absolutos (fase, turno) se
+ * guardan como tales para que aplicar el mismo cambio dos veces no altere el resultado.
+ * <p>
+ * El formato de cada tipo se versiona con {@link Type#version()}; al cambiar los campos de un
+ * record se sube su versión y {@link GameEventStore} adapta las filas viejas al leerlas.
+ */
+public sealed interface GameChange {
+
+    Type type();
+
+    void applyTo(BoardState board);
+
+    /**
+     * Tipos de cambio con la clase que los representa y la versión actual de su formato.
+     */
+    enum Type {
+        ARMIES_PLACED(ArmiesPlaced.class, 1),
+        REINFORCEMENTS_GRANTED(ReinforcementsGranted.class, 1),
+        ATTACK_RESOLVED(AttackResolved.class, 1),
+        ARMIES_MOVED(ArmiesMoved.class, 1),
+        CARDS_TRADED(CardsTraded.class, 1),
+        CARD_DRAWN(CardDrawn.class, 1),
+        TURN_CHANGED(TurnChanged.class, 1),
+        PLAYER_ELIMINATED(PlayerEliminated.class, 1),
+        STATE_RESTORED(StateRestored.class, 1);
+
+        private final Class<? extends GameChange> changeClass;
+        private final int version;
+
+        Type(Class<? extends GameChange> changeClass, int version) {
+            this.changeClass = changeClass;
+            this.version = version;
+        }
+
+        public Class<? extends GameChange> changeClass() {
+            return changeClass;
+        }
+
+        public int version() {
+            return version;
+        }
+    }
+
+    /**
+     * Ejércitos colocados en países propios. {@code fromReserve} indica si salen de los
+     * ejércitos por colocar del jugador (refuerzos) o son un premio aparte (carta de país).
+     */
+    record ArmiesPlaced(Long playerId, Map<Long, Integer> armiesByCountry, boolean fromReserve) implements GameChange {
+
+        @Override
+        public Type type() {
+            return Type.ARMIES_PLACED;
+        }
+
+        @Override
+        public void applyTo(BoardState board) {
+            int total = 0;
+            for (Map.Entry<Long, Integer> entry : armiesByCountry.entrySet()) {
+                board.territory(entry.getKey()).addArmies(entry.getValue());
+                total += entry.getValue();
+            }
+            if (fromReserve) {
+                BoardState.PlayerState player = board.player(playerId);
+                player.setArmiesToPlace(Math.max(0, player.getArmiesToPlace() - total));
+            }
+        }
+    }
+
+    /**
+     * Ejércitos por colocar otorgados a un jugador (ronda inicial o refuerzos del turno).
+     */
+    record ReinforcementsGranted(Long playerId, int armies) implements GameChange {
+
+        @Override
+        public Type type() {
+            return Type.REINFORCEMENTS_GRANTED;
+        }
+
+        @Override
+        public void applyTo(BoardState board) {
+            BoardState.PlayerState player = board.player(playerId);
+            player.setArmiesToPlace(player.getArmiesToPlace() + armies);
+        }
+    }
+
+    /**
+     * Un ataque con los dados de cada lado y sus pérdidas. Si hubo conquista, el país pasa al
+     * atacante con {@code armiesMoved} ejércitos que salen del país atacante.
+     */
+    record AttackResolved(Long attackerId, Long attackerCountryId, Long defenderCountryId,
+                          List<Integer> attackerDice, List<Integer> defenderDice,
+                          int attackerLosses, int defenderLosses,
+                          boolean conquered, int armiesMoved) implements GameChange {
+
+        @Override
+        public Type type() {
+            return Type.ATTACK_RESOLVED;
+        }
+
+        @Override
+        public void applyTo(BoardState board) {
+            BoardState.TerritoryState attacker = board.territory(attackerCountryId);
+            BoardState.TerritoryState defender = board.territory(defenderCountryId);
+            attacker.addArmies(-attackerLosses);
+            defender.addArmies(-defenderLosses);
+            if (conquered) {
+                defender.setOwnerId(attackerId);
+                defender.setArmies(armiesMoved);
+                attacker.addArmies(-armiesMoved);
+            }
+        }
+    }
+
+    /**
+     * Reagrupamiento entre dos países del mismo jugador.
+     */
+    record ArmiesMoved(Long playerId, Long fromCountryId, Long toCountryId, int armies) implements GameChange {
+
+        @Override
+        public Type type() {
+            return Type.ARMIES_MOVED;
+        }
+
+        @Override
+        public void applyTo(BoardState board) {
+            board.territory(fromCountryId).addArmies(-armies);
+            board.territory(toCountryId).addArmies(armies);
+        }
+    }
+
+    /**
+     * Canje de cartas: las cartas vuelven al mazo y el jugador suma un canje.
+     */
+    record CardsTraded(Long playerId, List<Long> cardIds, int tradeValue) implements GameChange {
+
+        @Override
+        public Type type() {
+            return Type.CARDS_TRADED;
+        }
+
+        @Override
+        public void applyTo(BoardState board) {
+            BoardState.PlayerState player = board.player(playerId);
+            player.setTradeCount(player.getTradeCount() + 1);
+            player.getCardIds().removeAll(cardIds);
+        }
+    }
+
+    /**
+     * Carta que pasa del mazo a la mano de un jugador.
+     */
+    record CardDrawn(Long playerId, Long cardId) implements GameChange {
+
+        @Override
+        public Type type() {
+            return Type.CARD_DRAWN;
+        }
+
+        @Override
+        public void applyTo(BoardState board) {
+            List<Long> hand = board.player(playerId).getCardIds();
+            if (!hand.contains(cardId)) {
+                hand.add(cardId);
+                hand.sort(null);
+            }
+        }
+    }
+
+    /**
+     * Estado, fase, turno y jugador actual de la partida después de guardarla.
+     */
+    record TurnChanged(GameState state, TurnPhase phase, Integer turn, Integer currentPlayerIndex) implements GameChange {
+
+        @Override
+        public Type type() {
+            return Type.TURN_CHANGED;
+        }
+
+        @Override
+        public void applyTo(BoardState board) {
+            board.setState(state);
+            board.setPhase(phase);
+            board.setTurn(turn);
+            board.setCurrentPlayerIndex(currentPlayerIndex);
+        }
+    }
+
+    record PlayerEliminated(Long playerId) implements GameChange {
+
+        @Override
+        public Type type() {
+            return Type.PLAYER_ELIMINATED;
+        }
+
+        @Override
+        public void applyTo(BoardState board) {
+            board.player(playerId).setStatus(PlayerStatus.ELIMINATED);
+        }
+    }
+
+    /**
+     * La partida se restauró desde una instantánea, quedando en el turno {@code turn}. El estado
+     * restaurado queda en una instantánea nueva con la secuencia de este cambio, de la que parten
+     * las reconstrucciones posteriores; por eso aplicarlo no modifica nada.
+     */
+    record StateRestored(Long snapshotId, Integer turn) implements GameChange {
+
+        @Override
+        public Type type() {
+            return Type.STATE_RESTORED;
+        }
+
+        @Override
+        public void applyTo(BoardState board) {
+            // El estado restaurado viene de la instantánea guardada con esta secuencia
+        }
+    }
+}
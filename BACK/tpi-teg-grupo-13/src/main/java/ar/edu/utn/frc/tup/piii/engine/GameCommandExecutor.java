@@ -0,0 +1,109 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.exceptions.GameBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Cola de comandos por partida: todas las operaciones que modifican el turno (ataques,
+ * refuerzos, fortificación, cambios de fase, turnos de bots) de una misma partida se
+ * ejecutan de a una y en el orden en que llegaron, como si cada partida tuviera su propio hilo.
+ * Así un fin de turno no se pisa con el turno de un bot ni un doble clic pierde ejércitos.
+ * <p>
+ * El comando corre en el hilo del request que lo envió, esperando su lugar en la cola, para
+ * que conserve la transacción y el contexto de persistencia de ese request. Partidas distintas
+ * no comparten cola y avanzan en paralelo. Cada cola admite como máximo
+ * {@code game.commands.max-queue-depth} comandos; si está llena, o el comando no llega a
+ * ejecutarse en {@code game.commands.timeout-ms}, se rechaza con {@link GameBusyException}.
+ */
+@Component
+@Slf4j
+public class GameCommandExecutor {
+
+    @Value("${game.commands.max-queue-depth:16}")
+    private int maxQueueDepth;
+
+    @Value("${game.commands.timeout-ms:10000}")
+    private long timeoutMs;
+
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    /**
+     * Ejecuta el comando cuando le toca en la cola de la partida y devuelve su resultado.
+     * Un comando que se envía desde otro comando de la misma partida se ejecuta directamente.
+     */
+    public <T> T execute(String gameCode, Supplier<T> command) {
+        Mailbox current = mailboxes.get(gameCode);
+        if (current != null && current.lock.isHeldByCurrentThread()) {
+            return command.get();
+        }
+
+        Mailbox mailbox = enqueue(gameCode);
+        try {
+            if (mailbox.pending > maxQueueDepth) {
+                log.warn("Command queue of game {} is full ({} pending), rejecting command", gameCode, maxQueueDepth);
+                throw new GameBusyException("La partida " + gameCode + " tiene demasiadas acciones pendientes");
+            }
+            if (!mailbox.lock.tryLock(timeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("Command for game {} timed out after {} ms waiting in queue", gameCode, timeoutMs);
+                throw new GameBusyException("La partida " + gameCode + " está ocupada, intente nuevamente");
+            }
+            try {
+                return command.get();
+            } finally {
+                mailbox.lock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GameBusyException("Se interrumpió la espera de la partida " + gameCode, e);
+        } finally {
+            dequeue(gameCode);
+        }
+    }
+
+    public void run(String gameCode, Runnable command) {
+        execute(gameCode, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    /**
+     * Comandos en curso o esperando en la cola de la partida.
+     */
+    public int pendingCommands(String gameCode) {
+        Mailbox mailbox = mailboxes.get(gameCode);
+        return mailbox != null ? mailbox.pending : 0;
+    }
+
+    /**
+     * Suma el comando a la cola de la partida, creándola si no existe. El contador se modifica
+     * siempre dentro de {@code compute}, así una cola no se descarta mientras alguien la usa.
+     */
+    private Mailbox enqueue(String gameCode) {
+        return mailboxes.compute(gameCode, (code, existing) -> {
+            Mailbox mailbox = existing != null ? existing : new Mailbox();
+            mailbox.pending++;
+            return mailbox;
+        });
+    }
+
+    private void dequeue(String gameCode) {
+        mailboxes.computeIfPresent(gameCode, (code, mailbox) -> --mailbox.pending == 0 ? null : mailbox);
+    }
+
+    /**
+     * Cola de una partida. El lock es justo, así los comandos se ejecutan en orden de llegada.
+     */
+    private static final class Mailbox {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private volatile int pending;
+    }
+}
@@ -0,0 +1,188 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.entities.GameLogEntity;
+import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
+import ar.edu.utn.frc.tup.piii.repository.GameLogRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Log de cambios de cada partida (game_log), del que {@link GameReplayer} reconstruye el
+ * estado. Cada {@link GameChange} recibe un número de secuencia correlativo por partida y se
+ * guarda como JSON junto con su tipo y la versión de su formato.
+ * <p>
+ * A diferencia de {@link GameEventWriter}, el log se escribe dentro de la misma transacción
+ * que el cambio: los cambios de la transacción se juntan y se insertan en un solo lote JDBC
+ * justo antes del commit. Si la transacción se revierte, sus cambios no quedan en el log y
+ * su secuencia queda como hueco, que la reconstrucción ignora.
+ */
+@Component
+@Slf4j
+public class GameEventStore {
+
+    static final String INSERT_SQL = "INSERT INTO game_log (game_id, sequence, turn_number, type, schema_version, payload, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GameLogRepository gameLogRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<Long, AtomicLong> sequences = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> turns = new ConcurrentHashMap<>();
+
+    /**
+     * Agrega el cambio al log de la partida y devuelve su número de secuencia.
+     */
+    public long append(Long gameId, GameChange change) {
+        long sequence = sequences.computeIfAbsent(gameId,
+                id -> new AtomicLong(gameLogRepository.findMaxSequenceByGameId(id).orElse(0L))).incrementAndGet();
+        Integer turn;
+        if (change instanceof GameChange.TurnChanged turnChanged) {
+            turn = turnChanged.turn();
+        } else if (change instanceof GameChange.StateRestored restored) {
+            turn = restored.turn();
+        } else {
+            turn = turns.computeIfAbsent(gameId, id -> gameLogRepository.findLastTurnNumberByGameId(id).orElse(null));
+        }
+        if (turn != null) {
+            turns.put(gameId, turn);
+        }
+
+        LogRow row = new LogRow(gameId, sequence, turn, change.type(), change.type().version(),
+                encode(change), LocalDateTime.now());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingRows().add(row);
+        } else {
+            write(List.of(row));
+        }
+        return sequence;
+    }
+
+    /**
+     * Última secuencia asignada en la partida, incluidos los cambios de la transacción actual.
+     */
+    public long currentSequence(Long gameId) {
+        return sequences.computeIfAbsent(gameId,
+                id -> new AtomicLong(gameLogRepository.findMaxSequenceByGameId(id).orElse(0L))).get();
+    }
+
+    /**
+     * Última secuencia registrada mientras la partida estaba en un turno menor o igual a {@code turn}.
+     */
+    public long lastSequenceUpToTurn(Long gameId, int turn) {
+        return gameLogRepository.findLastSequenceUpToTurn(gameId, turn).orElse(0L);
+    }
+
+    /**
+     * Cambios guardados con secuencia en (afterSequence, toSequence], en orden.
+     */
+    public List<RecordedChange> read(Long gameId, long afterSequence, long toSequence) {
+        List<RecordedChange> changes = new ArrayList<>();
+        for (GameLogEntity entry : gameLogRepository.findRange(gameId, afterSequence, toSequence)) {
+            changes.add(new RecordedChange(entry.getSequence(), entry.getTurnNumber(),
+                    decode(entry.getType(), entry.getSchemaVersion(), entry.getPayload())));
+        }
+        return changes;
+    }
+
+    private String encode(GameChange change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + change.type() + " change", e);
+        }
+    }
+
+    GameChange decode(GameChange.Type type, int schemaVersion, String payload) {
+        if (schemaVersion > type.version()) {
+            throw new InvalidGameStateException("Change " + type + " has schema version " + schemaVersion
+                    + " but this server reads up to " + type.version());
+        }
+        // Todos los tipos siguen en su primera versión; acá se adaptan los formatos viejos cuando cambien
+        try {
+            return objectMapper.readValue(payload, type.changeClass());
+        } catch (JsonProcessingException e) {
+            throw new InvalidGameStateException("Could not read " + type + " change: " + e.getOriginalMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<LogRow> pendingRows() {
+        List<LogRow> rows = (List<LogRow>) TransactionSynchronizationManager.getResource(this);
+        if (rows != null) {
+            return rows;
+        }
+        List<LogRow> transactionRows = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, transactionRows);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                write(transactionRows);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(GameEventStore.this);
+                if (status != STATUS_COMMITTED) {
+                    // El turno en memoria pudo haber avanzado con un cambio revertido
+                    transactionRows.forEach(row -> turns.remove(row.gameId()));
+                }
+            }
+        });
+        return transactionRows;
+    }
+
+    private void write(List<LogRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), GameEventStore::bind);
+        log.debug("Appended {} changes to the game log", rows.size());
+    }
+
+    private static void bind(PreparedStatement ps, LogRow row) throws SQLException {
+        ps.setLong(1, row.gameId());
+        ps.setLong(2, row.sequence());
+        if (row.turnNumber() != null) {
+            ps.setInt(3, row.turnNumber());
+        } else {
+            ps.setNull(3, Types.INTEGER);
+        }
+        ps.setString(4, row.type().name());
+        ps.setInt(5, row.schemaVersion());
+        ps.setString(6, row.payload());
+        ps.setTimestamp(7, Timestamp.valueOf(row.createdAt()));
+    }
+
+    /**
+     * Cambio leído del log con su posición.
+     */
+    public record RecordedChange(long sequence, Integer turnNumber, GameChange change) {
+    }
+
+    record LogRow(Long gameId, long sequence, Integer turnNumber, GameChange.Type type,
+                  int schemaVersion, String payload, LocalDateTime createdAt) {
+    }
+}
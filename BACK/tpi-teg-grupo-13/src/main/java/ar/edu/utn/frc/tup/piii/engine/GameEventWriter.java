@@ -0,0 +1,286 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.model.enums.EventType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Escritura diferida del historial de la partida (game_events). Los servicios encolan eventos
+ * livianos ({@link PendingEvent}, solo ids y datos) sin cargar la partida ni el jugador, y un
+ * hilo de fondo los inserta en lotes JDBC cada {@code game.events.flush-interval-ms} o apenas
+ * se juntan {@code game.events.batch-size} eventos.
+ * <p>
+ * Dentro de una transacción el evento se encola recién en el commit: si la acción se revierte,
+ * su evento no llega a la base, igual que cuando se guardaba en la misma transacción. La cola
+ * admite {@code game.events.buffer-capacity} eventos; si se llena, el hilo que encola escribe
+ * lo pendiente en lugar de descartar eventos. {@link #flush()} es la barrera sincrónica: al
+ * volver, todo lo encolado hasta ese momento ya está en la base.
+ * <p>
+ * Los eventos que no se pueden perder (conquistas, de las que se reconstruye el turno) se
+ * insertan con {@link #writeNow(PendingEvent)} en la transacción de quien los registra: un
+ * evento encolado y todavía sin escribir se pierde si el servidor se cae. Esa transacción solo
+ * inserta la fila; sus estadísticas se encolan al hacer commit, como un evento más.
+ * <p>
+ * Cada lote actualiza también {@link GameStatsProjection} en la misma transacción, y solo el
+ * hilo que tiene el bloqueo de escritura lo hace: una transacción de juego nunca toca los
+ * contadores ni espera ese bloqueo.
+ */
+@Component
+@Slf4j
+public class GameEventWriter {
+
+    static final String INSERT_SQL = "INSERT INTO game_events (game_id, actor_id, type, turn_number, data, timestamp) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private GameStatsProjection gameStatsProjection;
+
+    @Value("${game.events.buffer-capacity:4096}")
+    private int bufferCapacity;
+
+    @Value("${game.events.batch-size:100}")
+    private int batchSize;
+
+    @Value("${game.events.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    // Un solo hilo escribe a la vez, así los eventos entran a la tabla en el orden en que se encolaron
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Object signal = new Object();
+
+    private BlockingQueue<QueuedEvent> queue;
+    private TransactionTemplate batchTransaction;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new LinkedBlockingQueue<>(bufferCapacity);
+        // Cada lote en su propia transacción: el flush de fin de turno corre después del commit del turno
+        batchTransaction = new TransactionTemplate(transactionManager);
+        batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        running = true;
+        writer = new Thread(this::writeLoop, "game-event-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            try {
+                writer.join(flushIntervalMs * 10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Encola el evento; con una transacción activa, recién cuando hace commit.
+     */
+    public void append(PendingEvent event) {
+        afterCommit(() -> offer(new QueuedEvent(event, false)));
+    }
+
+    /**
+     * Encola el evento y espera a que todo lo pendiente esté escrito (fin de turno).
+     */
+    public void appendAndFlush(PendingEvent event) {
+        afterCommit(() -> {
+            offer(new QueuedEvent(event, false));
+            flush();
+        });
+    }
+
+    /**
+     * Inserta el evento ya, en la transacción actual: queda o se revierte junto con la acción
+     * que lo produjo. No toma el bloqueo de escritura ni escribe lo encolado, así la transacción
+     * no espera al hilo de fondo ni retiene filas de contadores; las estadísticas del evento se
+     * aplican en el próximo lote después del commit. El historial se ordena por fecha, así que
+     * la fila puede quedar con un id menor que eventos anteriores todavía encolados.
+     */
+    public void writeNow(PendingEvent event) {
+        jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, event));
+        afterCommit(() -> offer(new QueuedEvent(event, true)));
+    }
+
+    /**
+     * Escribe en el hilo actual todo lo encolado, en lotes de {@code game.events.batch-size}.
+     */
+    public void flush() {
+        if (queue == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            List<QueuedEvent> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Eventos encolados que todavía no se escribieron.
+     */
+    public int pendingEvents() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void offer(QueuedEvent event) {
+        while (!queue.offer(event)) {
+            log.warn("Game event buffer is full ({} events), writing them on the caller thread", bufferCapacity);
+            flush();
+        }
+        if (queue.size() >= batchSize) {
+            synchronized (signal) {
+                signal.notifyAll();
+            }
+        }
+    }
+
+    private void writeLoop() {
+        while (running) {
+            try {
+                synchronized (signal) {
+                    if (queue.size() < batchSize) {
+                        signal.wait(flushIntervalMs);
+                    }
+                }
+                flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Could not write pending game events", e);
+            }
+        }
+    }
+
+    private void write(List<QueuedEvent> batch) {
+        List<PendingEvent> events = new ArrayList<>(batch.size());
+        List<PendingEvent> rows = new ArrayList<>(batch.size());
+        for (QueuedEvent queued : batch) {
+            events.add(queued.event());
+            if (!queued.inserted()) {
+                rows.add(queued.event());
+            }
+        }
+        try {
+            batchTransaction.executeWithoutResult(status -> {
+                if (!rows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), GameEventWriter::bind);
+                }
+                gameStatsProjection.apply(events);
+            });
+            log.debug("Wrote {} game events", batch.size());
+        } catch (DataAccessException e) {
+            // Un evento inválido no se lleva puesto al resto del lote
+            log.warn("Game event batch of {} failed, writing one by one: {}", batch.size(), e.getMessage());
+            for (QueuedEvent queued : batch) {
+                PendingEvent event = queued.event();
+                try {
+                    batchTransaction.executeWithoutResult(status -> {
+                        if (!queued.inserted()) {
+                            jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, event));
+                        }
+                        applyStats(event);
+                    });
+                } catch (DataAccessException rowError) {
+                    log.error("Dropping game event {} of game {}: {}", event.type(), event.gameId(), rowError.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Las estadísticas de un evento suelto no impiden guardarlo: si fallan, el evento queda igual.
+     */
+    private void applyStats(PendingEvent event) {
+        try {
+            gameStatsProjection.apply(List.of(event));
+        } catch (DataAccessException e) {
+            log.error("Statistics were not updated for game event {} of game {}: {}", event.type(), event.gameId(),
+                    e.getMessage());
+        }
+    }
+
+    private static void bind(PreparedStatement ps, PendingEvent event) throws SQLException {
+        ps.setLong(1, event.gameId());
+        if (event.actorId() != null) {
+            ps.setLong(2, event.actorId());
+        } else {
+            ps.setNull(2, Types.BIGINT);
+        }
+        ps.setString(3, event.type().name());
+        if (event.turnNumber() != null) {
+            ps.setInt(4, event.turnNumber());
+        } else {
+            ps.setNull(4, Types.INTEGER);
+        }
+        ps.setString(5, event.data());
+        ps.setTimestamp(6, Timestamp.valueOf(event.timestamp()));
+    }
+
+    /**
+     * Evento en la cola; {@code inserted} indica que la fila ya la insertó {@link #writeNow} y
+     * solo faltan sus estadísticas.
+     */
+    private record QueuedEvent(PendingEvent event, boolean inserted) {
+    }
+
+    /**
+     * Evento listo para insertar, sin entidades asociadas.
+     */
+    public record PendingEvent(Long gameId, Long actorId, EventType type, Integer turnNumber,
+                               String data, LocalDateTime timestamp) {
+    }
+}
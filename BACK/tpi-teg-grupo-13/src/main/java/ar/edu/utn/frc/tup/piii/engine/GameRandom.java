@@ -0,0 +1,249 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.entities.GameRandomDrawEntity;
+import ar.edu.utn.frc.tup.piii.repository.GameRandomDrawRepository;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Números aleatorios de las partidas: dados, cartas, reparto inicial y decisiones de los bots.
+ * <p>
+ * Cada partida tiene una semilla que se guarda en games.random_seed al iniciarla. De esa semilla
+ * sale una semilla por cada {@link Stream}, siempre en el mismo orden, así que con la misma
+ * semilla y las mismas acciones la partida se repite igual, y un número de más en un uso (por
+ * ejemplo un bot que sortea un destino) no corre los dados ni el mazo.
+ * <p>
+ * Cada pedido (un {@link #nextInt} o un {@link #shuffle}) es una extracción numerada del stream,
+ * y sale solo de (semilla del stream, número de extracción). La cantidad de extracciones de cada
+ * stream se guarda en game_random_draws al hacer commit, junto con los cambios que produjo, así
+ * que si la partida sale de memoria (por ejemplo al reiniciar el servidor) los dados siguen donde
+ * quedaron en lugar de repetirse. Si la transacción se revierte, la partida se descarta de memoria
+ * y vuelve a leer lo que quedó guardado.
+ * <p>
+ * Los contadores de una partida se usan sincronizados sobre su {@link GameStreams}; como los
+ * comandos de una partida ya se ejecutan de a uno, el bloqueo nunca se disputa y las partidas no
+ * comparten estado.
+ * <p>
+ * Si {@code game.random.seed} es distinto de 0, las semillas de las partidas nuevas salen de esa
+ * semilla maestra en el orden en que se inician.
+ */
+@Component
+@Slf4j
+public class GameRandom {
+
+    /**
+     * Usos independientes dentro de una partida. Agregar valores solo al final: el orden define
+     * qué semilla recibe cada uso a partir de la semilla de la partida.
+     */
+    public enum Stream {
+        DICE,
+        CARDS,
+        SETUP,
+        BOTS
+    }
+
+    // Incremento entre extracciones, el mismo que usa SplittableRandom entre números
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameRandomDrawRepository gameRandomDrawRepository;
+
+    @Value("${game.random.seed:0}")
+    private long masterSeed;
+
+    // Semillas para partidas nuevas; se crea al pedir la primera
+    private SplittableRandom seeds;
+
+    private final Map<Long, GameStreams> games = new ConcurrentHashMap<>();
+
+    /**
+     * Semilla para una partida que se inicia.
+     */
+    public synchronized long newSeed() {
+        if (seeds == null) {
+            seeds = masterSeed != 0 ? new SplittableRandom(masterSeed) : new SplittableRandom();
+        }
+        return seeds.nextLong();
+    }
+
+    /**
+     * Arranca los streams de la partida desde la semilla, con los contadores en cero.
+     */
+    public void seed(Long gameId, long seed) {
+        if (gameId != null) {
+            GameStreams streams = new GameStreams(seed, new long[Stream.values().length]);
+            games.put(gameId, streams);
+            recordDraws(gameId, streams);
+        }
+    }
+
+    /**
+     * Entero entre 0 (incluido) y {@code bound} (excluido).
+     */
+    public int nextInt(Long gameId, Stream stream, int bound) {
+        return draw(gameId, stream).nextInt(bound);
+    }
+
+    /**
+     * Mezcla la lista (Fisher-Yates), como {@code Collections.shuffle}. Toda la mezcla es una
+     * sola extracción del stream.
+     */
+    public <T> void shuffle(Long gameId, Stream stream, List<T> list) {
+        SplittableRandom random = draw(gameId, stream);
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+
+    public void evict(Long gameId) {
+        if (gameId != null && games.remove(gameId) != null) {
+            log.debug("Random streams evicted for game {}", gameId);
+        }
+    }
+
+    /**
+     * Generador de la próxima extracción del stream; cuenta la extracción y la deja para guardar.
+     */
+    private SplittableRandom draw(Long gameId, Stream stream) {
+        if (gameId == null) {
+            // Partidas sin guardar: no hay semilla que respetar
+            return new SplittableRandom(newSeed());
+        }
+        GameStreams streams = streams(gameId);
+        long seed;
+        synchronized (streams) {
+            seed = streams.next(stream);
+        }
+        recordDraws(gameId, streams);
+        return new SplittableRandom(seed);
+    }
+
+    private GameStreams streams(Long gameId) {
+        GameStreams streams = games.get(gameId);
+        if (streams != null) {
+            return streams;
+        }
+        // Se lee fuera del mapa: una consulta no debe bloquear a las demás partidas
+        GameStreams loaded = load(gameId);
+        GameStreams existing = games.putIfAbsent(gameId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private GameStreams load(Long gameId) {
+        Long seed = gameRepository.findRandomSeedById(gameId).orElse(null);
+        if (seed == null) {
+            // Partidas iniciadas antes de guardar la semilla
+            log.debug("Game {} has no recorded random seed, using a new one", gameId);
+            seed = newSeed();
+        }
+        long[] draws = new long[Stream.values().length];
+        for (GameRandomDrawEntity row : gameRandomDrawRepository.findByGameId(gameId)) {
+            draws[row.getStream().ordinal()] = row.getDraws();
+        }
+        return new GameStreams(seed, draws);
+    }
+
+    /**
+     * Guarda los contadores al hacer commit la transacción actual (una vez por partida), o
+     * enseguida si no hay transacción.
+     */
+    private void recordDraws(Long gameId, GameStreams streams) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            saveDraws(gameId, streams);
+            return;
+        }
+        pendingGames().add(gameId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Long> pendingGames() {
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Set<Long> created = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                for (Long gameId : created) {
+                    GameStreams streams = games.get(gameId);
+                    if (streams != null) {
+                        saveDraws(gameId, streams);
+                    }
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(GameRandom.this);
+                if (status != STATUS_COMMITTED) {
+                    // Los contadores en memoria avanzaron sin guardarse: se vuelven a leer
+                    created.forEach(GameRandom.this::evict);
+                }
+            }
+        });
+        return created;
+    }
+
+    private void saveDraws(Long gameId, GameStreams streams) {
+        long[] draws;
+        synchronized (streams) {
+            draws = streams.draws.clone();
+        }
+        Map<Stream, GameRandomDrawEntity> rows = new EnumMap<>(Stream.class);
+        for (GameRandomDrawEntity row : gameRandomDrawRepository.findByGameId(gameId)) {
+            rows.put(row.getStream(), row);
+        }
+        for (Stream stream : Stream.values()) {
+            GameRandomDrawEntity row = rows.computeIfAbsent(stream, s -> new GameRandomDrawEntity(null, gameId, s, 0L));
+            row.setDraws(draws[stream.ordinal()]);
+        }
+        gameRandomDrawRepository.saveAll(rows.values());
+    }
+
+    private static final class GameStreams {
+        private final long[] seeds = new long[Stream.values().length];
+        private final long[] draws;
+
+        GameStreams(long seed, long[] draws) {
+            SplittableRandom root = new SplittableRandom(seed);
+            for (Stream stream : Stream.values()) {
+                seeds[stream.ordinal()] = root.split().nextLong();
+            }
+            this.draws = draws;
+        }
+
+        /**
+         * Semilla de la próxima extracción del stream. Se mezcla (como hace SplittableRandom con
+         * cada número) para que extracciones seguidas no compartan valores.
+         */
+        long next(Stream stream) {
+            long draw = draws[stream.ordinal()]++;
+            return mix64(seeds[stream.ordinal()] + (draw + 1) * GOLDEN_GAMMA);
+        }
+
+        private static long mix64(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
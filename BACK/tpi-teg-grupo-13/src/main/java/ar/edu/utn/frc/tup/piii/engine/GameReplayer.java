@@ -0,0 +1,72 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.entities.GameSnapshotEntity;
+import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.repository.GameSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reconstruye una partida en cualquier punto de su log: parte de la instantánea más cercana
+ * anterior a la secuencia pedida y le aplica los cambios que siguen. No lee las tablas vivas
+ * de la partida (países, jugadores), así sirve para recuperar una partida, revisar un turno
+ * discutido o analizarla sin cargar la base que usa el juego.
+ */
+@Component
+@Slf4j
+public class GameReplayer {
+
+    @Autowired
+    private GameSnapshotRepository gameSnapshotRepository;
+
+    @Autowired
+    private GameEventStore gameEventStore;
+
+    @Autowired
+    private SnapshotCodec snapshotCodec;
+
+    @Autowired
+    private WorldMap worldMap;
+
+    /**
+     * Estado de la partida después del cambio {@code sequence}.
+     */
+    @Transactional(readOnly = true)
+    public Game replay(Long gameId, long sequence) {
+        return replayBoard(gameId, sequence).toGame(worldMap);
+    }
+
+    /**
+     * Estado de la partida al terminar el turno {@code turn}.
+     */
+    @Transactional(readOnly = true)
+    public Game replayToTurn(Long gameId, int turn) {
+        return replay(gameId, gameEventStore.lastSequenceUpToTurn(gameId, turn));
+    }
+
+    /**
+     * Estado de la partida con todo lo que tiene el log.
+     */
+    @Transactional(readOnly = true)
+    public Game replayLatest(Long gameId) {
+        return replay(gameId, gameEventStore.currentSequence(gameId));
+    }
+
+    BoardState replayBoard(Long gameId, long sequence) {
+        GameSnapshotEntity snapshot = gameSnapshotRepository.findNearestSnapshot(gameId, sequence)
+                .orElseThrow(() -> new InvalidGameStateException(
+                        "Game " + gameId + " has no snapshot at or before change " + sequence));
+
+        BoardState board = snapshotCodec.decode(snapshot.getSerializedState());
+        int applied = 0;
+        for (GameEventStore.RecordedChange recorded : gameEventStore.read(gameId, snapshot.getEventSequence(), sequence)) {
+            recorded.change().applyTo(board);
+            applied++;
+        }
+        log.debug("Replayed game {} to change {}: snapshot {} + {} changes", gameId, sequence, snapshot.getId(), applied);
+        return board;
+    }
+}
@@ -0,0 +1,273 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.model.enums.EventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Proyección de estadísticas del historial: contadores por partida y tipo de evento
+ * (game_event_counts), por jugador (player_game_stats), por jugador y turno (turn_stats) y de
+ * carrera por usuario (user_stats). {@link GameEventWriter} la aplica a cada lote en la misma
+ * transacción que inserta los eventos, así los contadores nunca quedan adelantados ni atrasados
+ * respecto de game_events y las lecturas de estadísticas son de unas pocas filas.
+ * <p>
+ * Los deltas del lote se suman en memoria y se aplican con un UPDATE por fila; las filas que no
+ * existían se insertan después. No hace falta un upsert propio de cada base porque solo se aplica
+ * desde los lotes de {@link GameEventWriter}, que escribe un solo hilo a la vez (también las
+ * conquistas, que se insertan en la transacción del juego pero suman sus contadores en el lote
+ * siguiente). Al terminar una partida (GAME_FINISHED) los contadores de cada jugador humano se
+ * suman a su usuario.
+ */
+@Component
+@Slf4j
+public class GameStatsProjection {
+
+    static final String UPDATE_EVENT_COUNT_SQL = "UPDATE game_event_counts SET event_count = event_count + ? " +
+            "WHERE game_id = ? AND event_type = ?";
+    static final String INSERT_EVENT_COUNT_SQL = "INSERT INTO game_event_counts (game_id, event_type, event_count) " +
+            "VALUES (?, ?, ?)";
+
+    static final String UPDATE_PLAYER_SQL = "UPDATE player_game_stats SET attacks = attacks + ?, " +
+            "successful_attacks = successful_attacks + ?, conquests = conquests + ?, armies_placed = armies_placed + ?, " +
+            "fortifications = fortifications + ?, cards_traded = cards_traded + ?, turns_played = turns_played + ?, " +
+            "eliminations = eliminations + ? WHERE player_id = ?";
+    static final String INSERT_PLAYER_SQL = "INSERT INTO player_game_stats (attacks, successful_attacks, conquests, " +
+            "armies_placed, fortifications, cards_traded, turns_played, eliminations, player_id, game_id, eliminated) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE)";
+    static final String MARK_ELIMINATED_SQL = "UPDATE player_game_stats SET eliminated = TRUE WHERE player_id = ?";
+
+    static final String UPDATE_TURN_SQL = "UPDATE turn_stats SET attacks = attacks + ?, " +
+            "successful_attacks = successful_attacks + ?, conquests = conquests + ?, armies_placed = armies_placed + ?, " +
+            "fortifications = fortifications + ?, cards_traded = cards_traded + ? " +
+            "WHERE game_id = ? AND turn_number = ? AND player_id = ?";
+    static final String INSERT_TURN_SQL = "INSERT INTO turn_stats (attacks, successful_attacks, conquests, armies_placed, " +
+            "fortifications, cards_traded, game_id, turn_number, player_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final String FINISHED_PLAYERS_SQL = "SELECT p.id, p.user_id, s.attacks, s.successful_attacks, s.conquests, " +
+            "s.eliminations, s.turns_played FROM players p LEFT JOIN player_game_stats s ON s.player_id = p.id " +
+            "WHERE p.game_id = ? AND p.user_id IS NOT NULL";
+    static final String UPDATE_USER_SQL = "UPDATE user_stats SET games_played = games_played + ?, " +
+            "games_won = games_won + ?, attacks = attacks + ?, successful_attacks = successful_attacks + ?, " +
+            "conquests = conquests + ?, eliminations = eliminations + ?, turns_played = turns_played + ?, " +
+            "last_game_at = ? WHERE user_id = ?";
+    static final String INSERT_USER_SQL = "INSERT INTO user_stats (games_played, games_won, attacks, successful_attacks, " +
+            "conquests, eliminations, turns_played, last_game_at, user_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Suma el lote a los contadores. Se llama dentro de la transacción del lote.
+     */
+    public void apply(List<GameEventWriter.PendingEvent> batch) {
+        Map<List<Object>, Long> eventCounts = new LinkedHashMap<>();
+        Map<Long, Counters> players = new LinkedHashMap<>();
+        Map<List<Object>, Counters> turns = new LinkedHashMap<>();
+        List<Long> eliminated = new ArrayList<>();
+        List<GameEventWriter.PendingEvent> finished = new ArrayList<>();
+
+        for (GameEventWriter.PendingEvent event : batch) {
+            eventCounts.merge(List.of(event.gameId(), event.type().name()), 1L, Long::sum);
+            if (event.type() == EventType.GAME_FINISHED) {
+                finished.add(event);
+                continue;
+            }
+            if (event.type() == EventType.PLAYER_ELIMINATED) {
+                if (event.actorId() != null) {
+                    players.computeIfAbsent(event.actorId(), id -> new Counters(event.gameId()));
+                    eliminated.add(event.actorId());
+                }
+                Long eliminatorId = longField(event, "eliminatorId");
+                if (eliminatorId != null) {
+                    players.computeIfAbsent(eliminatorId, id -> new Counters(event.gameId())).eliminations++;
+                }
+                continue;
+            }
+            if (event.actorId() == null) {
+                continue;
+            }
+            Counters player = players.computeIfAbsent(event.actorId(), id -> new Counters(event.gameId()));
+            Counters turn = event.turnNumber() != null
+                    ? turns.computeIfAbsent(List.of(event.gameId(), event.turnNumber(), event.actorId()),
+                    key -> new Counters(event.gameId()))
+                    : null;
+            count(event, player, turn);
+        }
+
+        applyEventCounts(eventCounts);
+        applyPlayers(players);
+        applyTurns(turns);
+        for (Long playerId : eliminated) {
+            jdbcTemplate.update(MARK_ELIMINATED_SQL, playerId);
+        }
+        // Después de los contadores del lote, así la carrera incluye el último turno de la partida
+        for (GameEventWriter.PendingEvent event : finished) {
+            applyCareer(event);
+        }
+    }
+
+    private void count(GameEventWriter.PendingEvent event, Counters player, Counters turn) {
+        switch (event.type()) {
+            case ATTACK_PERFORMED -> {
+                boolean successful = booleanField(event, "successful");
+                player.attacks++;
+                player.successfulAttacks += successful ? 1 : 0;
+                if (turn != null) {
+                    turn.attacks++;
+                    turn.successfulAttacks += successful ? 1 : 0;
+                }
+            }
+            case TERRITORY_CONQUERED -> {
+                player.conquests++;
+                if (turn != null) {
+                    turn.conquests++;
+                }
+            }
+            case REINFORCEMENTS_PLACED -> {
+                Long armies = longField(event, "reinforcements");
+                int placed = armies != null ? armies.intValue() : 0;
+                player.armiesPlaced += placed;
+                if (turn != null) {
+                    turn.armiesPlaced += placed;
+                }
+            }
+            case FORTIFICATION_PERFORMED -> {
+                player.fortifications++;
+                if (turn != null) {
+                    turn.fortifications++;
+                }
+            }
+            case CARDS_TRADED -> {
+                player.cardsTraded++;
+                if (turn != null) {
+                    turn.cardsTraded++;
+                }
+            }
+            case TURN_STARTED -> player.turnsPlayed++;
+            default -> {
+                // Los demás eventos solo cuentan en game_event_counts
+            }
+        }
+    }
+
+    private void applyEventCounts(Map<List<Object>, Long> eventCounts) {
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        eventCounts.forEach((key, count) -> {
+            updates.add(new Object[]{count, key.get(0), key.get(1)});
+            inserts.add(new Object[]{key.get(0), key.get(1), count});
+        });
+        upsert(UPDATE_EVENT_COUNT_SQL, updates, INSERT_EVENT_COUNT_SQL, inserts);
+    }
+
+    private void applyPlayers(Map<Long, Counters> players) {
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        players.forEach((playerId, counters) -> {
+            updates.add(new Object[]{counters.attacks, counters.successfulAttacks, counters.conquests,
+                    counters.armiesPlaced, counters.fortifications, counters.cardsTraded, counters.turnsPlayed,
+                    counters.eliminations, playerId});
+            inserts.add(new Object[]{counters.attacks, counters.successfulAttacks, counters.conquests,
+                    counters.armiesPlaced, counters.fortifications, counters.cardsTraded, counters.turnsPlayed,
+                    counters.eliminations, playerId, counters.gameId});
+        });
+        upsert(UPDATE_PLAYER_SQL, updates, INSERT_PLAYER_SQL, inserts);
+    }
+
+    private void applyTurns(Map<List<Object>, Counters> turns) {
+        List<Object[]> rows = new ArrayList<>();
+        turns.forEach((key, counters) -> rows.add(new Object[]{counters.attacks, counters.successfulAttacks,
+                counters.conquests, counters.armiesPlaced, counters.fortifications, counters.cardsTraded,
+                key.get(0), key.get(1), key.get(2)}));
+        upsert(UPDATE_TURN_SQL, rows, INSERT_TURN_SQL, rows);
+    }
+
+    private void applyCareer(GameEventWriter.PendingEvent event) {
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp finishedAt = Timestamp.valueOf(event.timestamp());
+        jdbcTemplate.query(FINISHED_PLAYERS_SQL, rs -> {
+            long playerId = rs.getLong(1);
+            boolean won = event.actorId() != null && event.actorId() == playerId;
+            // Un jugador sin fila en player_game_stats no llegó a jugar: sus contadores vienen en null (0)
+            rows.add(new Object[]{1, won ? 1 : 0, rs.getInt(3), rs.getInt(4), rs.getInt(5), rs.getInt(6),
+                    rs.getInt(7), finishedAt, rs.getLong(2)});
+        }, event.gameId());
+        upsert(UPDATE_USER_SQL, rows, INSERT_USER_SQL, rows);
+        log.debug("Added game {} to the career stats of {} users", event.gameId(), rows.size());
+    }
+
+    /**
+     * UPDATE de cada fila e INSERT de las que no existían; {@code inserts} va en el mismo orden que
+     * {@code updates}.
+     */
+    private void upsert(String updateSql, List<Object[]> updates, String insertSql, List<Object[]> inserts) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        int[] updated = jdbcTemplate.batchUpdate(updateSql, updates);
+        List<Object[]> missing = new ArrayList<>();
+        for (int i = 0; i < updates.size(); i++) {
+            if (i >= updated.length || updated[i] == 0) {
+                missing.add(inserts.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(insertSql, missing);
+        }
+    }
+
+    private Long longField(GameEventWriter.PendingEvent event, String field) {
+        JsonNode value = field(event, field);
+        return value != null && value.canConvertToLong() ? value.asLong() : null;
+    }
+
+    private boolean booleanField(GameEventWriter.PendingEvent event, String field) {
+        JsonNode value = field(event, field);
+        return value != null && value.asBoolean();
+    }
+
+    private JsonNode field(GameEventWriter.PendingEvent event, String field) {
+        if (event.data() == null || event.data().isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(event.data()).get(field);
+        } catch (JsonProcessingException e) {
+            log.debug("Event {} of game {} has no JSON data: {}", event.type(), event.gameId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Deltas de un jugador (o de un jugador en un turno) dentro del lote.
+     */
+    private static final class Counters {
+        private final Long gameId;
+        private int attacks;
+        private int successfulAttacks;
+        private int conquests;
+        private int armiesPlaced;
+        private int fortifications;
+        private int cardsTraded;
+        private int turnsPlayed;
+        private int eliminations;
+
+        private Counters(Long gameId) {
+            this.gameId = gameId;
+        }
+    }
+}
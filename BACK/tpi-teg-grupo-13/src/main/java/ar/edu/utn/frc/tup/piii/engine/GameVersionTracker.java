@@ -0,0 +1,279 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Versión del estado de cada partida, para que los clientes pidan solo lo que cambió.
+ * <p>
+ * Cada transacción que modifica una partida sube su versión en uno al hacer commit y deja
+ * en un historial acotado qué territorios, jugadores y campos de fase tocó. Como la versión
+ * se publica recién después del commit, quien lea la versión V y luego la base de datos
+ * siempre ve todos los cambios hasta V. Si el cliente está más atrás que el historial (o la
+ * versión es de antes de reiniciar el servidor) se le indica que pida el estado completo.
+ * <p>
+ * Las versiones arrancan en la hora de inicio del servidor en milisegundos, así una versión
+ * de una ejecución anterior nunca se confunde con una actual.
+ */
+@Component
+@Slf4j
+public class GameVersionTracker {
+
+    static final int HISTORY_SIZE = 128;
+
+    @Autowired
+    private WorldMap worldMap;
+
+    private final long baseVersion = System.currentTimeMillis();
+
+    private final Map<Long, VersionLog> logs = new ConcurrentHashMap<>();
+
+    public long currentVersion(Long gameId) {
+        return log(gameId).currentVersion();
+    }
+
+    /**
+     * Registra el cambio de un territorio (dueño o ejércitos) y de sus dueños involucrados.
+     */
+    public void territoryChanged(Long gameId, Long countryId, Long... ownerIds) {
+        int index = worldMap.indexOf(countryId);
+        if (gameId == null || index < 0) {
+            return;
+        }
+        record(gameId, change -> {
+            if (change.territories == null) {
+                change.territories = new long[worldMap.wordCount()];
+            }
+            BitSets.set(change.territories, index);
+            for (Long ownerId : ownerIds) {
+                if (ownerId != null) {
+                    change.playerIds.add(ownerId);
+                }
+            }
+        });
+    }
+
+    public void playerChanged(Long gameId, Long playerId) {
+        if (gameId != null && playerId != null) {
+            record(gameId, change -> change.playerIds.add(playerId));
+        }
+    }
+
+    /**
+     * Registra un cambio de la partida en general (fase, turno, estado o jugadores del lobby).
+     * Los clientes reciben de nuevo los campos de fase y todos los jugadores.
+     */
+    public void gameChanged(Long gameId) {
+        if (gameId != null) {
+            record(gameId, change -> {
+                change.gameFields = true;
+                change.allPlayers = true;
+            });
+        }
+    }
+
+    /**
+     * Cambios acumulados desde {@code sinceVersion} hasta la versión actual, o {@code null}
+     * si el historial ya no alcanza y el cliente tiene que recibir el estado completo.
+     */
+    public Changes changesSince(Long gameId, long sinceVersion) {
+        return log(gameId).changesSince(sinceVersion, worldMap);
+    }
+
+    public void evict(Long gameId) {
+        if (gameId != null) {
+            logs.remove(gameId);
+        }
+    }
+
+    private VersionLog log(Long gameId) {
+        return logs.computeIfAbsent(gameId, id -> new VersionLog(baseVersion));
+    }
+
+    /**
+     * Acumula el cambio en la transacción actual, que sube la versión una sola vez al hacer
+     * commit. Sin transacción la versión sube enseguida.
+     */
+    private void record(Long gameId, Consumer<Change> update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Change change = new Change();
+            update.accept(change);
+            log(gameId).append(change);
+            return;
+        }
+        update.accept(pendingChanges().computeIfAbsent(gameId, id -> new Change()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Change> pendingChanges() {
+        Map<Long, Change> pending = (Map<Long, Change>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Map<Long, Change> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                created.forEach((id, change) -> log(id).append(change));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(GameVersionTracker.this);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Resultado de {@link #changesSince(Long, long)}.
+     */
+    public static final class Changes {
+        private final long version;
+        private final Set<Long> countryIds;
+        private final Set<Long> playerIds;
+        private final boolean allPlayers;
+        private final boolean gameFields;
+
+        Changes(long version, Set<Long> countryIds, Set<Long> playerIds, boolean allPlayers, boolean gameFields) {
+            this.version = version;
+            this.countryIds = countryIds;
+            this.playerIds = playerIds;
+            this.allPlayers = allPlayers;
+            this.gameFields = gameFields;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public Set<Long> getCountryIds() {
+            return countryIds;
+        }
+
+        public Set<Long> getPlayerIds() {
+            return playerIds;
+        }
+
+        public boolean isAllPlayersChanged() {
+            return allPlayers;
+        }
+
+        public boolean isPlayerChanged(Long playerId) {
+            return allPlayers || playerIds.contains(playerId);
+        }
+
+        public boolean isGameFieldsChanged() {
+            return gameFields;
+        }
+
+        public boolean isEmpty() {
+            return countryIds.isEmpty() && playerIds.isEmpty() && !allPlayers && !gameFields;
+        }
+    }
+
+    /**
+     * Lo que tocó una transacción en una partida.
+     */
+    private static final class Change {
+        private long[] territories;
+        private final Set<Long> playerIds = new HashSet<>();
+        private boolean allPlayers;
+        private boolean gameFields;
+    }
+
+    /**
+     * Versión actual e historial de los últimos cambios de una partida.
+     */
+    private static final class VersionLog {
+        private final long baseVersion;
+        private long version;
+        private final Deque<Entry> history = new ArrayDeque<>();
+
+        VersionLog(long baseVersion) {
+            this.baseVersion = baseVersion;
+            this.version = baseVersion;
+        }
+
+        synchronized long currentVersion() {
+            return version;
+        }
+
+        synchronized void append(Change change) {
+            version++;
+            history.addLast(new Entry(version, change));
+            if (history.size() > HISTORY_SIZE) {
+                history.removeFirst();
+            }
+        }
+
+        synchronized Changes changesSince(long sinceVersion, WorldMap worldMap) {
+            if (sinceVersion > version || sinceVersion < baseVersion) {
+                return null;
+            }
+            if (sinceVersion == version) {
+                return new Changes(version, Collections.emptySet(), Collections.emptySet(), false, false);
+            }
+            Entry oldest = history.peekFirst();
+            if (oldest == null || oldest.version > sinceVersion + 1) {
+                return null;
+            }
+
+            long[] territories = null;
+            Set<Long> playerIds = new HashSet<>();
+            boolean allPlayers = false;
+            boolean gameFields = false;
+            Iterator<Entry> newestFirst = history.descendingIterator();
+            while (newestFirst.hasNext()) {
+                Entry entry = newestFirst.next();
+                if (entry.version <= sinceVersion) {
+                    break;
+                }
+                Change change = entry.change;
+                if (change.territories != null) {
+                    if (territories == null) {
+                        territories = change.territories.clone();
+                    } else {
+                        BitSets.or(territories, change.territories);
+                    }
+                }
+                playerIds.addAll(change.playerIds);
+                allPlayers |= change.allPlayers;
+                gameFields |= change.gameFields;
+            }
+
+            Set<Long> countryIds = new HashSet<>();
+            if (territories != null) {
+                for (int index : BitSets.toIndexArray(territories)) {
+                    countryIds.add(worldMap.countryIdAt(index));
+                }
+            }
+            return new Changes(version, countryIds, playerIds, allPlayers, gameFields);
+        }
+    }
+
+    private static final class Entry {
+        private final long version;
+        private final Change change;
+
+        Entry(long version, Change change) {
+            this.version = version;
+            this.change = change;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Estado vivo de los territorios de una partida en curso: dueño y ejércitos de cada país,
+ * indexados según {@link WorldMap#indexOf(Long)}.
+ * Los cambios de ejércitos se marcan como pendientes ("dirty") hasta que {@link HotGameStore}
+ * los baja a game_territories. Todos los accesos se sincronizan sobre la instancia.
+ */
+public final class HotGame {
+
+    private final Long gameId;
+    private final Long[] owners;
+    private final int[] armies;
+    private final long[] present;
+    private final long[] dirty;
+    private final Map<Long, String> ownerNames = new ConcurrentHashMap<>();
+
+    HotGame(Long gameId, int size, int wordCount) {
+        this.gameId = gameId;
+        this.owners = new Long[size];
+        this.armies = new int[size];
+        this.present = new long[wordCount];
+        this.dirty = new long[wordCount];
+    }
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Indica si el país forma parte de la partida (tiene fila en game_territories).
+     */
+    public synchronized boolean contains(int index) {
+        return index >= 0 && index < owners.length && BitSets.get(present, index);
+    }
+
+    public synchronized Long ownerAt(int index) {
+        return owners[index];
+    }
+
+    public synchronized int armiesAt(int index) {
+        return armies[index];
+    }
+
+    public synchronized int totalArmies(Long playerId) {
+        int total = 0;
+        for (int i = 0; i < owners.length; i++) {
+            if (playerId.equals(owners[i])) {
+                total += armies[i];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Índices de los países del jugador con al menos {@code minArmies} ejércitos.
+     */
+    public synchronized int[] indexesOwnedBy(Long playerId, int minArmies) {
+        long[] mask = new long[present.length];
+        for (int i = 0; i < owners.length; i++) {
+            if (playerId.equals(owners[i]) && armies[i] >= minArmies) {
+                BitSets.set(mask, i);
+            }
+        }
+        return BitSets.toIndexArray(mask);
+    }
+
+    public synchronized int[] territoryIndexes() {
+        return BitSets.toIndexArray(present);
+    }
+
+    /**
+     * Nombre para mostrar del jugador; se calcula una sola vez por partida.
+     */
+    public String ownerName(Long playerId, Function<Long, String> loader) {
+        return playerId != null ? ownerNames.computeIfAbsent(playerId, loader) : null;
+    }
+
+    synchronized void load(int index, Long ownerId, int armyCount) {
+        BitSets.set(present, index);
+        owners[index] = ownerId;
+        armies[index] = armyCount;
+    }
+
+    synchronized int addArmies(int index, int delta) {
+        armies[index] += delta;
+        BitSets.set(dirty, index);
+        return armies[index];
+    }
+
+    /**
+     * Aplica un cambio que ya se escribió en la base de datos, por lo que no queda pendiente.
+     */
+    synchronized void applyPersisted(int index, Long ownerId, int armyCount) {
+        BitSets.set(present, index);
+        owners[index] = ownerId;
+        armies[index] = armyCount;
+        BitSets.clear(dirty, index);
+    }
+
+    synchronized boolean hasPendingChanges() {
+        return BitSets.cardinality(dirty) > 0;
+    }
+
+    synchronized int[] pendingIndexes() {
+        return BitSets.toIndexArray(dirty);
+    }
+
+    synchronized void markPersisted(int[] indexes) {
+        for (int index : indexes) {
+            BitSets.clear(dirty, index);
+        }
+    }
+
+    /**
+     * Anota en {@code undo} cómo estaba el país, si es la primera vez que se cambia en la transacción.
+     */
+    synchronized void remember(Undo undo, int index) {
+        undo.entries.computeIfAbsent(index, i -> new Undo.Entry(owners[i], armies[i],
+                BitSets.get(present, i), BitSets.get(dirty, i)));
+    }
+
+    /**
+     * Deja los países anotados en {@code undo} como estaban; el resto no se toca.
+     */
+    synchronized void restore(Undo undo) {
+        undo.entries.forEach((index, entry) -> {
+            owners[index] = entry.owner;
+            armies[index] = entry.armies;
+            setBit(present, index, entry.present);
+            setBit(dirty, index, entry.dirty);
+        });
+    }
+
+    private static void setBit(long[] bits, int index, boolean value) {
+        if (value) {
+            BitSets.set(bits, index);
+        } else {
+            BitSets.clear(bits, index);
+        }
+    }
+
+    /**
+     * Valores previos de los países que cambió una transacción, para deshacer solo esos si hace
+     * rollback.
+     */
+    static final class Undo {
+        private final Map<Integer, Entry> entries = new HashMap<>();
+
+        int size() {
+            return entries.size();
+        }
+
+        private record Entry(Long owner, int armies, boolean present, boolean dirty) {
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.entities.GameTerritoryEntity;
+import ar.edu.utn.frc.tup.piii.repository.GameTerritoryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Modo "hot game": mantiene en memoria el estado de los territorios de cada partida en curso
+ * y lo baja a game_territories en lotes (write-behind).
+ * <p>
+ * Los cambios de ejércitos (refuerzos, pérdidas en combate, fortificación) solo modifican el
+ * {@link HotGame} y quedan pendientes hasta el próximo {@link #flush(Long)}, que se hace en los
+ * límites de fase/turno (cuando se guarda la partida). Los cambios de dueño se escriben en la
+ * base en el momento, así {@link OwnershipIndex} nunca ve dueños desactualizados.
+ * Si la transacción que hizo un cambio se revierte, los países que cambió vuelven a como estaban;
+ * los cambios de otras transacciones se conservan.
+ * Se activa con {@code game.hot.enabled=true}; desactivado, todo sigue yendo a la base.
+ */
+@Component
+@Slf4j
+public class HotGameStore {
+
+    @Autowired
+    private WorldMap worldMap;
+
+    @Autowired
+    private GameTerritoryRepository gameTerritoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${game.hot.enabled:false}")
+    private boolean enabled;
+
+    private final Map<Long, HotGame> games = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Agregado de la partida, armándolo desde la base si todavía no está en memoria.
+     * Devuelve null si el modo está desactivado o la partida todavía no tiene territorios.
+     */
+    public HotGame get(Long gameId) {
+        if (!enabled || gameId == null) {
+            return null;
+        }
+        HotGame hotGame = games.get(gameId);
+        if (hotGame != null) {
+            return hotGame;
+        }
+        HotGame loaded = load(gameId);
+        if (loaded == null) {
+            return null;
+        }
+        HotGame previous = games.putIfAbsent(gameId, loaded);
+        return previous != null ? previous : loaded;
+    }
+
+    /**
+     * Agregado de la partida solo si ya está en memoria (no consulta la base).
+     */
+    public HotGame peek(Long gameId) {
+        return gameId != null ? games.get(gameId) : null;
+    }
+
+    /**
+     * Suma (o resta) ejércitos en memoria. El cambio queda pendiente hasta el próximo flush.
+     *
+     * @return ejércitos resultantes en el país
+     */
+    public int addArmies(HotGame hotGame, int index, int delta) {
+        rememberForRollback(hotGame, index);
+        return hotGame.addArmies(index, delta);
+    }
+
+    /**
+     * Refleja en memoria un cambio de dueño/ejércitos que ya se guardó en la base.
+     * Si la partida no está cargada no hace nada: se leerá actualizada al cargarla.
+     */
+    public void applyPersisted(Long gameId, Long countryId, Long ownerId, int armies) {
+        HotGame hotGame = peek(gameId);
+        int index = worldMap.indexOf(countryId);
+        if (hotGame == null || index < 0) {
+            return;
+        }
+        rememberForRollback(hotGame, index);
+        hotGame.applyPersisted(index, ownerId, armies);
+    }
+
+    /**
+     * Escribe en game_territories los ejércitos pendientes de la partida, en un solo lote.
+     */
+    @Transactional
+    public void flush(Long gameId) {
+        HotGame hotGame = peek(gameId);
+        if (hotGame == null || !hotGame.hasPendingChanges()) {
+            return;
+        }
+
+        int[] pending = hotGame.pendingIndexes();
+        List<Long> countryIds = new ArrayList<>(pending.length);
+        for (int index : pending) {
+            countryIds.add(worldMap.countryIdAt(index));
+        }
+
+        List<GameTerritoryEntity> territories = gameTerritoryRepository.findByGameIdAndCountryIds(gameId, countryIds);
+        for (GameTerritoryEntity territory : territories) {
+            territory.setArmies(hotGame.armiesAt(worldMap.indexOf(territory.getCountry().getId())));
+        }
+        gameTerritoryRepository.saveAll(territories);
+
+        for (int index : pending) {
+            rememberForRollback(hotGame, index);
+        }
+        hotGame.markPersisted(pending);
+        log.debug("Hot game {} flushed {} territories", gameId, territories.size());
+    }
+
+    /**
+     * Baja lo pendiente de todas las partidas al apagar el servidor, cada una en su transacción
+     * (la llamada interna a {@link #flush(Long)} no pasa por el proxy de {@code @Transactional}).
+     */
+    @PreDestroy
+    public void flushAll() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (Long gameId : games.keySet()) {
+            try {
+                transaction.executeWithoutResult(status -> flush(gameId));
+            } catch (RuntimeException e) {
+                log.error("Could not flush hot game {} on shutdown", gameId, e);
+            }
+        }
+    }
+
+    /**
+     * Descarta el agregado sin escribir lo pendiente (partida cancelada o eliminada).
+     */
+    public void evict(Long gameId) {
+        if (gameId != null && games.remove(gameId) != null) {
+            log.debug("Hot game {} evicted", gameId);
+        }
+    }
+
+    private HotGame load(Long gameId) {
+        List<Object[]> rows = gameTerritoryRepository.findTerritoryStateByGameId(gameId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        HotGame hotGame = new HotGame(gameId, worldMap.size(), worldMap.wordCount());
+        for (Object[] row : rows) {
+            int index = worldMap.indexOf(((Number) row[0]).longValue());
+            if (index >= 0) {
+                Long ownerId = row[1] != null ? ((Number) row[1]).longValue() : null;
+                int armies = row[2] != null ? ((Number) row[2]).intValue() : 0;
+                hotGame.load(index, ownerId, armies);
+            }
+        }
+        log.info("Hot game {} loaded with {} territories", gameId, rows.size());
+        return hotGame;
+    }
+
+    /**
+     * Anota cómo estaba el país antes del primer cambio de la transacción actual, para
+     * restaurar solo los países de esa transacción si no llega a hacer commit.
+     */
+    private void rememberForRollback(HotGame hotGame, int index) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        HotGame.Undo undo = (HotGame.Undo) TransactionSynchronizationManager.getResource(hotGame);
+        if (undo == null) {
+            HotGame.Undo created = new HotGame.Undo();
+            TransactionSynchronizationManager.bindResource(hotGame, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(hotGame);
+                    if (status != STATUS_COMMITTED) {
+                        hotGame.restore(created);
+                        log.debug("Hot game {} restored {} territories after rollback", hotGame.getGameId(),
+                                created.size());
+                    }
+                }
+            });
+            undo = created;
+        }
+        hotGame.remember(undo, index);
+    }
+}
@@ -0,0 +1,320 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.repository.GameTerritoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Índice en memoria de qué jugador posee cada país, por partida.
+ * Cada jugador tiene un bitset sobre el índice denso del {@link WorldMap}, de modo que
+ * contar territorios o verificar el control de un continente son operaciones de máscara.
+ * <p>
+ * El índice de una partida se arma desde game_territories la primera vez que se consulta y
+ * después se actualiza de forma incremental con cada cambio de dueño. Dentro de una transacción
+ * los cambios quedan pendientes y recién se aplican al índice compartido después del commit:
+ * hasta entonces solo los ve la propia transacción (sus consultas se responden sobre una copia
+ * con los cambios aplicados), y si se revierte se descartan sin tocar el índice.
+ * <p>
+ * Los {@link Listener} registrados reciben cada cambio de dueño en el momento, para que la
+ * transacción que conquista pueda evaluar el objetivo, y cada descarte. Si la transacción se
+ * revierte reciben {@link Listener#ownershipEvicted} para rearmar lo que derivaron.
+ */
+@Component
+@Slf4j
+public class OwnershipIndex {
+
+    @Autowired
+    private WorldMap worldMap;
+
+    @Autowired
+    private GameTerritoryRepository gameTerritoryRepository;
+
+    private final Map<Long, GameOwnership> games = new ConcurrentHashMap<>();
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Cambios del índice que otros componentes siguen de forma incremental.
+     */
+    public interface Listener {
+
+        /**
+         * El país con índice denso {@code countryIndex} pasó de {@code previousOwnerId} (null si
+         * no tenía dueño) a {@code newOwnerId}. Se llama con el índice ya actualizado.
+         */
+        void ownerChanged(Long gameId, int countryIndex, Long previousOwnerId, Long newOwnerId);
+
+        /**
+         * La partida se descartó del índice: lo que se derive de ella hay que rearmarlo.
+         */
+        void ownershipEvicted(Long gameId);
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Registra el nuevo dueño de un país en la partida.
+     */
+    public void setOwner(Long gameId, Long countryId, Long playerId) {
+        int index = worldMap.indexOf(countryId);
+        if (index < 0) {
+            log.warn("Country {} is not part of the world map, ownership index not updated", countryId);
+            return;
+        }
+        Long previous;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingOwners pending = pendingOwners();
+            Map<Integer, Long> changes = pending.changes.computeIfAbsent(gameId, id -> new HashMap<>());
+            previous = changes.containsKey(index) ? changes.get(index) : ownership(gameId).ownerAt(index);
+            changes.put(index, playerId);
+        } else {
+            previous = ownership(gameId).setOwner(index, playerId);
+        }
+        if (!Objects.equals(previous, playerId)) {
+            for (Listener listener : listeners) {
+                listener.ownerChanged(gameId, index, previous, playerId);
+            }
+        }
+    }
+
+    public Long getOwner(Long gameId, Long countryId) {
+        int index = worldMap.indexOf(countryId);
+        return index >= 0 ? view(gameId).ownerAt(index) : null;
+    }
+
+    public int countTerritories(Long gameId, Long playerId) {
+        return view(gameId).count(playerId);
+    }
+
+    /**
+     * Indica si la partida ya está en el índice (y por lo tanto existe), sin consultar la base.
+     */
+    public boolean isIndexed(Long gameId) {
+        return gameId != null && games.containsKey(gameId);
+    }
+
+    public boolean controlsContinent(Long gameId, Long playerId, String continentName) {
+        int continent = worldMap.continentIndexOf(continentName);
+        if (continent < 0 || worldMap.continentSize(continent) == 0) {
+            return false;
+        }
+        return view(gameId).containsAll(playerId, worldMap.continentMask(continent));
+    }
+
+    /**
+     * Cantidad de países del continente que posee el jugador.
+     */
+    public int countInContinent(Long gameId, Long playerId, String continentName) {
+        int continent = worldMap.continentIndexOf(continentName);
+        if (continent < 0) {
+            return 0;
+        }
+        return view(gameId).intersectionCount(playerId, worldMap.continentMask(continent));
+    }
+
+    public boolean ownsAll(Long gameId, Long playerId, Collection<Long> countryIds) {
+        for (Long countryId : countryIds) {
+            if (worldMap.indexOf(countryId) < 0) {
+                return false;
+            }
+        }
+        return view(gameId).containsAll(playerId, worldMap.maskOf(countryIds));
+    }
+
+    /**
+     * Copia del bitset de países del jugador, indexado según {@link WorldMap#indexOf(Long)}.
+     */
+    public long[] ownedMask(Long gameId, Long playerId) {
+        return view(gameId).mask(playerId);
+    }
+
+    public void evict(Long gameId) {
+        if (gameId != null && games.remove(gameId) != null) {
+            log.debug("Ownership index evicted for game {}", gameId);
+            for (Listener listener : listeners) {
+                listener.ownershipEvicted(gameId);
+            }
+        }
+    }
+
+    /**
+     * Índice confirmado de la partida. Si se arma dentro de una transacción que ya cambió dueños
+     * de la partida, lo leído incluye esos cambios sin confirmar: se guarda en la transacción y
+     * se publica recién con el commit.
+     */
+    private GameOwnership ownership(Long gameId) {
+        GameOwnership committed = games.get(gameId);
+        if (committed != null) {
+            return committed;
+        }
+        PendingOwners pending = currentPendingOwners();
+        if (pending != null && pending.changes.containsKey(gameId)) {
+            return pending.loaded.computeIfAbsent(gameId, this::load);
+        }
+        // Se carga fuera del mapa: la consulta no bloquea a las demás partidas
+        GameOwnership loaded = load(gameId);
+        GameOwnership existing = games.putIfAbsent(gameId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * Lo que ve el hilo actual: el índice confirmado más los cambios pendientes de su transacción.
+     */
+    private GameOwnership view(Long gameId) {
+        GameOwnership committed = ownership(gameId);
+        PendingOwners pending = currentPendingOwners();
+        Map<Integer, Long> changes = pending != null ? pending.changes.get(gameId) : null;
+        if (changes == null || changes.isEmpty()) {
+            return committed;
+        }
+        GameOwnership view = committed.copy();
+        changes.forEach(view::setOwner);
+        return view;
+    }
+
+    private GameOwnership load(Long gameId) {
+        GameOwnership ownership = new GameOwnership(worldMap.size(), worldMap.wordCount());
+        List<Object[]> rows = gameTerritoryRepository.findOwnershipByGameId(gameId);
+        for (Object[] row : rows) {
+            int index = worldMap.indexOf(((Number) row[0]).longValue());
+            if (index >= 0 && row[1] != null) {
+                ownership.setOwner(index, ((Number) row[1]).longValue());
+            }
+        }
+        log.debug("Ownership index built for game {} from {} territories", gameId, rows.size());
+        return ownership;
+    }
+
+    private PendingOwners currentPendingOwners() {
+        return TransactionSynchronizationManager.isSynchronizationActive()
+                ? (PendingOwners) TransactionSynchronizationManager.getResource(this)
+                : null;
+    }
+
+    private PendingOwners pendingOwners() {
+        PendingOwners pending = currentPendingOwners();
+        if (pending != null) {
+            return pending;
+        }
+        PendingOwners created = new PendingOwners();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                created.changes.forEach((gameId, changes) -> {
+                    GameOwnership target = games.get(gameId);
+                    if (target == null) {
+                        target = created.loaded.get(gameId);
+                        if (target == null) {
+                            return; // se arma con lo confirmado en la próxima consulta
+                        }
+                        changes.forEach(target::setOwner);
+                        games.putIfAbsent(gameId, target);
+                        return;
+                    }
+                    changes.forEach(target::setOwner);
+                });
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OwnershipIndex.this);
+                if (status != STATUS_COMMITTED) {
+                    // El índice no cambió, pero los listeners ya recibieron los cambios
+                    for (Long gameId : created.changes.keySet()) {
+                        for (Listener listener : listeners) {
+                            listener.ownershipEvicted(gameId);
+                        }
+                    }
+                }
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Cambios de dueño de la transacción actual, por partida, y los índices que se armaron
+     * dentro de ella.
+     */
+    private static final class PendingOwners {
+        private final Map<Long, Map<Integer, Long>> changes = new LinkedHashMap<>();
+        private final Map<Long, GameOwnership> loaded = new HashMap<>();
+    }
+
+    /**
+     * Dueños de los países de una partida. Los accesos se sincronizan sobre la instancia.
+     */
+    private static final class GameOwnership {
+        private final Long[] ownerByIndex;
+        private final int wordCount;
+        private final Map<Long, long[]> masksByPlayer = new HashMap<>();
+
+        GameOwnership(int size, int wordCount) {
+            this.ownerByIndex = new Long[size];
+            this.wordCount = wordCount;
+        }
+
+        synchronized Long setOwner(int index, Long playerId) {
+            Long previous = ownerByIndex[index];
+            if (previous != null) {
+                long[] previousMask = masksByPlayer.get(previous);
+                if (previousMask != null) {
+                    BitSets.clear(previousMask, index);
+                }
+            }
+            ownerByIndex[index] = playerId;
+            if (playerId != null) {
+                BitSets.set(masksByPlayer.computeIfAbsent(playerId, id -> new long[wordCount]), index);
+            }
+            return previous;
+        }
+
+        synchronized GameOwnership copy() {
+            GameOwnership copy = new GameOwnership(ownerByIndex.length, wordCount);
+            System.arraycopy(ownerByIndex, 0, copy.ownerByIndex, 0, ownerByIndex.length);
+            masksByPlayer.forEach((playerId, mask) -> copy.masksByPlayer.put(playerId, mask.clone()));
+            return copy;
+        }
+
+        synchronized Long ownerAt(int index) {
+            return ownerByIndex[index];
+        }
+
+        synchronized int count(Long playerId) {
+            long[] mask = masksByPlayer.get(playerId);
+            return mask != null ? BitSets.cardinality(mask) : 0;
+        }
+
+        synchronized boolean containsAll(Long playerId, long[] required) {
+            long[] mask = masksByPlayer.get(playerId);
+            if (mask == null) {
+                return BitSets.cardinality(required) == 0;
+            }
+            return BitSets.containsAll(mask, required);
+        }
+
+        synchronized int intersectionCount(Long playerId, long[] other) {
+            long[] mask = masksByPlayer.get(playerId);
+            return mask != null ? BitSets.intersectionCount(mask, other) : 0;
+        }
+
+        synchronized long[] mask(Long playerId) {
+            long[] mask = masksByPlayer.get(playerId);
+            return mask != null ? mask.clone() : new long[wordCount];
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.entities.BotProfileEntity;
+import ar.edu.utn.frc.tup.piii.entities.ContinentEntity;
+import ar.edu.utn.frc.tup.piii.entities.CountryEntity;
+import ar.edu.utn.frc.tup.piii.entities.ObjectiveEntity;
+import ar.edu.utn.frc.tup.piii.model.enums.BotLevel;
+import ar.edu.utn.frc.tup.piii.model.enums.BotStrategy;
+import ar.edu.utn.frc.tup.piii.model.enums.ObjectiveType;
+import ar.edu.utn.frc.tup.piii.repository.BotProfileRepository;
+import ar.edu.utn.frc.tup.piii.repository.ContinentRepository;
+import ar.edu.utn.frc.tup.piii.repository.CountryRepository;
+import ar.edu.utn.frc.tup.piii.repository.ObjectiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Datos de referencia que casi no cambian (países con su continente, objetivos y perfiles de bot),
+ * leídos una sola vez y servidos desde memoria. Se cargan al arrancar y, si una región todavía no
+ * está cargada o se descartó, se vuelve a leer en la primera consulta (read-through).
+ * <p>
+ * Lo guardado no se expone: cada consulta devuelve copias desconectadas de la sesión, así que
+ * quien las modifique no altera lo que ven los demás. Para usarlas como referencia en otra
+ * entidad hay que pedir {@code getReferenceById} al repositorio con el ID de la copia.
+ * <p>
+ * Objetivos y perfiles de bot se pueden editar desde la API: al guardarlos o borrarlos se descarta
+ * su región, de nuevo al confirmarse la transacción si hay una en curso. Un país que no existe se
+ * recuerda como tal hasta que se recargan los países, así las consultas repetidas con un ID
+ * inválido no vuelven a la base. Aciertos y fallos se publican como
+ * {@code game.reference.cache.hits}/{@code game.reference.cache.misses} por región.
+ */
+@Component
+@Slf4j
+public class ReferenceDataCache {
+
+    static final String COUNTRIES = "countries";
+    static final String OBJECTIVES = "objectives";
+    static final String BOT_PROFILES = "bot_profiles";
+    static final int MAX_MISSING_COUNTRIES = 1024;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private ContinentRepository continentRepository;
+
+    @Autowired
+    private ObjectiveRepository objectiveRepository;
+
+    @Autowired
+    private BotProfileRepository botProfileRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Region<Countries> countries;
+    // IDs y nombres que no existían en la base la última vez que se preguntó, hasta la próxima recarga
+    private final Set<Long> missingCountryIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> missingCountryNames = ConcurrentHashMap.newKeySet();
+    private Region<List<ObjectiveEntity>> objectives;
+    private Region<List<BotProfileEntity>> botProfiles;
+
+    @PostConstruct
+    public void start() {
+        countries = new Region<>(COUNTRIES, this::loadCountries, loaded -> !loaded.byId().isEmpty());
+        objectives = new Region<>(OBJECTIVES, () -> objectiveRepository.findAll().stream()
+                .sorted(Comparator.comparing(ObjectiveEntity::getId))
+                .map(ReferenceDataCache::copyOf)
+                .toList(), loaded -> !loaded.isEmpty());
+        botProfiles = new Region<>(BOT_PROFILES, () -> botProfileRepository.findAll().stream()
+                .sorted(Comparator.comparing(BotProfileEntity::getId))
+                .map(ReferenceDataCache::copyOf)
+                .toList(), loaded -> !loaded.isEmpty());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        // Las tablas vacías significan que data.sql todavía no se ejecutó: se reintenta en la primera consulta
+        int countryCount = countries.load().byId().size();
+        int objectiveCount = objectives.load().size();
+        int botProfileCount = botProfiles.load().size();
+        log.info("Reference data cached: {} countries, {} objectives, {} bot profiles",
+                countryCount, objectiveCount, botProfileCount);
+    }
+
+    // Países
+
+    public List<CountryEntity> countries() {
+        return countries.get().byId().values().stream()
+                .map(ReferenceDataCache::copyOf)
+                .toList();
+    }
+
+    public Optional<CountryEntity> country(Long countryId) {
+        if (countryId == null) {
+            return Optional.empty();
+        }
+        return countryLookup(snapshot -> snapshot.byId().get(countryId), missingCountryIds, countryId,
+                () -> countryRepository.findById(countryId));
+    }
+
+    public Optional<CountryEntity> countryByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return countryLookup(snapshot -> snapshot.byName().get(name), missingCountryNames, name,
+                () -> countryRepository.findByName(name));
+    }
+
+    // Objetivos
+
+    public List<ObjectiveEntity> objectives() {
+        return objectives.get().stream()
+                .map(ReferenceDataCache::copyOf)
+                .toList();
+    }
+
+    public Optional<ObjectiveEntity> objective(Long objectiveId) {
+        return objectives.get().stream()
+                .filter(objective -> objective.getId().equals(objectiveId))
+                .findFirst()
+                .map(ReferenceDataCache::copyOf);
+    }
+
+    public List<ObjectiveEntity> objectivesByType(ObjectiveType type) {
+        return objectives.get().stream()
+                .filter(objective -> objective.getType() == type)
+                .map(ReferenceDataCache::copyOf)
+                .toList();
+    }
+
+    public void evictObjectives() {
+        invalidate(objectives);
+    }
+
+    // Perfiles de bot
+
+    public List<BotProfileEntity> botProfiles() {
+        return botProfiles.get().stream()
+                .map(ReferenceDataCache::copyOf)
+                .toList();
+    }
+
+    public Optional<BotProfileEntity> botProfile(Long botProfileId) {
+        return botProfiles.get().stream()
+                .filter(profile -> profile.getId().equals(botProfileId))
+                .findFirst()
+                .map(ReferenceDataCache::copyOf);
+    }
+
+    public List<BotProfileEntity> botProfilesByLevel(BotLevel level) {
+        return botProfiles.get().stream()
+                .filter(profile -> profile.getLevel() == level)
+                .map(ReferenceDataCache::copyOf)
+                .toList();
+    }
+
+    public Optional<BotProfileEntity> botProfile(BotLevel level, BotStrategy strategy) {
+        return botProfiles.get().stream()
+                .filter(profile -> profile.getLevel() == level && profile.getStrategy() == strategy)
+                .findFirst()
+                .map(ReferenceDataCache::copyOf);
+    }
+
+    public void evictBotProfiles() {
+        invalidate(botProfiles);
+    }
+
+    double hitCount(String region) {
+        return meterRegistry.counter("game.reference.cache.hits", "region", region).count();
+    }
+
+    double missCount(String region) {
+        return meterRegistry.counter("game.reference.cache.misses", "region", region).count();
+    }
+
+    private <K> Optional<CountryEntity> countryLookup(Function<Countries, CountryEntity> cached, Set<K> missing,
+                                                     K key, Supplier<Optional<CountryEntity>> fromDatabase) {
+        Countries snapshot = countries.peek();
+        CountryEntity country = snapshot != null ? cached.apply(snapshot) : null;
+        if (country != null) {
+            countries.hit();
+            return Optional.of(copyOf(country));
+        }
+        if (snapshot != null && missing.contains(key)) {
+            countries.hit();
+            return Optional.empty();
+        }
+
+        countries.miss();
+        // Si la región ya estaba cargada, solo se recarga cuando el país apareció después en la base
+        if (snapshot == null || fromDatabase.get().isPresent()) {
+            reloadCountries();
+            country = cached.apply(countries.load());
+        }
+        if (country == null && countries.peek() != null) {
+            rememberMissing(missing, key);
+        }
+        return Optional.ofNullable(country).map(ReferenceDataCache::copyOf);
+    }
+
+    private void reloadCountries() {
+        countries.evict();
+        missingCountryIds.clear();
+        missingCountryNames.clear();
+    }
+
+    private <K> void rememberMissing(Set<K> missing, K key) {
+        // Los IDs inexistentes llegan desde la API: se acota el conjunto para no crecer sin límite
+        if (missing.size() >= MAX_MISSING_COUNTRIES) {
+            missing.clear();
+        }
+        missing.add(key);
+    }
+
+    private Countries loadCountries() {
+        Map<Long, ContinentEntity> continents = new HashMap<>();
+        for (ContinentEntity continent : continentRepository.findAll()) {
+            continents.put(continent.getId(), copyOf(continent));
+        }
+
+        List<CountryEntity> loaded = new ArrayList<>(countryRepository.findAll());
+        loaded.sort(Comparator.comparing(CountryEntity::getId));
+        Map<Long, CountryEntity> byId = new LinkedHashMap<>();
+        Map<String, CountryEntity> byName = new HashMap<>();
+        for (CountryEntity country : loaded) {
+            // El continente viene como proxy perezoso: solo se lee su ID, que no necesita sesión
+            CountryEntity cached = new CountryEntity();
+            cached.setId(country.getId());
+            cached.setName(country.getName());
+            cached.setContinent(country.getContinent() != null
+                    ? continents.get(country.getContinent().getId())
+                    : null);
+            byId.put(cached.getId(), cached);
+            byName.put(cached.getName(), cached);
+        }
+        return new Countries(Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byName));
+    }
+
+    private void invalidate(Region<?> region) {
+        region.evict();
+        // Una lectura concurrente pudo volver a cargar los datos viejos antes del commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    region.evict();
+                }
+            });
+        }
+    }
+
+    private static CountryEntity copyOf(CountryEntity country) {
+        CountryEntity copy = new CountryEntity();
+        copy.setId(country.getId());
+        copy.setName(country.getName());
+        copy.setContinent(country.getContinent() != null ? copyOf(country.getContinent()) : null);
+        return copy;
+    }
+
+    private static ContinentEntity copyOf(ContinentEntity continent) {
+        ContinentEntity copy = new ContinentEntity();
+        copy.setId(continent.getId());
+        copy.setName(continent.getName());
+        copy.setBonusArmies(continent.getBonusArmies());
+        return copy;
+    }
+
+    private static ObjectiveEntity copyOf(ObjectiveEntity objective) {
+        return new ObjectiveEntity(objective.getId(), objective.getType(), objective.getDescription(),
+                objective.getTargetData(), objective.getIsCommon());
+    }
+
+    private static BotProfileEntity copyOf(BotProfileEntity profile) {
+        return new BotProfileEntity(profile.getId(), profile.getLevel(), profile.getStrategy(),
+                profile.getBotName());
+    }
+
+    /**
+     * Países indexados por ID (en orden de ID) y por nombre.
+     */
+    private record Countries(Map<Long, CountryEntity> byId, Map<String, CountryEntity> byName) {
+    }
+
+    /**
+     * Una región del cache: se carga entera, se publica ya armada y se descarta entera.
+     * Cada consulta cuenta como acierto si la región ya estaba cargada y como fallo si hubo que leer la base.
+     */
+    private final class Region<T> {
+        private final Supplier<T> loader;
+        private final Predicate<T> publishable;
+        private final Counter hits;
+        private final Counter misses;
+        private volatile T value;
+
+        private Region(String name, Supplier<T> loader, Predicate<T> publishable) {
+            this.loader = loader;
+            this.publishable = publishable;
+            this.hits = Counter.builder("game.reference.cache.hits")
+                    .description("Reference data lookups served from memory")
+                    .tag("region", name)
+                    .register(meterRegistry);
+            this.misses = Counter.builder("game.reference.cache.misses")
+                    .description("Reference data lookups that had to read the database")
+                    .tag("region", name)
+                    .register(meterRegistry);
+        }
+
+        T get() {
+            T current = value;
+            if (current != null) {
+                hit();
+                return current;
+            }
+            miss();
+            return load();
+        }
+
+        T peek() {
+            return value;
+        }
+
+        T load() {
+            T current = value;
+            if (current != null) {
+                return current;
+            }
+            synchronized (this) {
+                current = value;
+                if (current == null) {
+                    current = loader.get();
+                    if (publishable.test(current)) {
+                        value = current;
+                    }
+                }
+            }
+            return current;
+        }
+
+        void hit() {
+            hits.increment();
+        }
+
+        void miss() {
+            misses.increment();
+        }
+
+        void evict() {
+            value = null;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerColor;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerStatus;
+import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Formato en que se guarda un {@link BoardState} en game_snapshots.serialized_state.
+ * <p>
+ * El estado se escribe en binario con enteros de largo variable (varint) y se guarda en Base64:
+ * una partida de 6 jugadores ocupa unos pocos cientos de bytes. Los países van ordenados por
+ * id, con el id como diferencia respecto del anterior y el dueño como posición en la lista de
+ * jugadores; los nombres de los países no se guardan porque salen de {@link WorldMap}.
+ * <p>
+ * El primer byte es la versión del formato. Los enums se guardan por ordinal, así que agregar o
+ * reordenar valores de {@link GameState}, {@link TurnPhase}, {@link PlayerColor} o
+ * {@link PlayerStatus} requiere una versión nueva. Las instantáneas viejas en JSON se siguen leyendo.
+ */
+@Component
+public class SnapshotCodec {
+
+    static final int FORMAT_VERSION = 1;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WorldMap worldMap;
+
+    public String encode(BoardState board) {
+        return Base64.getEncoder().encodeToString(toBytes(board));
+    }
+
+    public BoardState decode(String serializedState) {
+        if (serializedState == null || serializedState.isBlank()) {
+            throw new InvalidGameStateException("Game snapshot is empty");
+        }
+        if (serializedState.startsWith("{")) {
+            return decodeJson(serializedState);
+        }
+        byte[] data;
+        try {
+            data = Base64.getDecoder().decode(serializedState);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidGameStateException("Could not read game snapshot: " + e.getMessage());
+        }
+        return fromBytes(data);
+    }
+
+    byte[] toBytes(BoardState board) {
+        Writer out = new Writer();
+        out.writeByte(FORMAT_VERSION);
+        out.writeNullableLong(board.getGameId());
+        out.writeString(board.getGameCode());
+        out.writeEnum(board.getState());
+        out.writeEnum(board.getPhase());
+        out.writeNullableInt(board.getTurn());
+        out.writeNullableInt(board.getCurrentPlayerIndex());
+
+        List<BoardState.PlayerState> players = board.getPlayers();
+        out.writeUnsigned(players.size());
+        for (BoardState.PlayerState player : players) {
+            out.writeNullableLong(player.getId());
+            out.writeString(player.getName());
+            out.writeByte(player.isBot() ? 1 : 0);
+            out.writeEnum(player.getColor());
+            out.writeEnum(player.getStatus());
+            out.writeNullableInt(player.getSeatOrder());
+            out.writeInt(player.getArmiesToPlace());
+            out.writeInt(player.getTradeCount());
+            out.writeNullableLong(player.getObjectiveId());
+            List<Long> cardIds = player.getCardIds().stream().sorted().toList();
+            out.writeUnsigned(cardIds.size());
+            long previousCard = 0;
+            for (Long cardId : cardIds) {
+                out.writeUnsigned(cardId - previousCard);
+                previousCard = cardId;
+            }
+        }
+
+        List<BoardState.TerritoryState> territories = board.getTerritories().values().stream()
+                .sorted(Comparator.comparing(BoardState.TerritoryState::getCountryId))
+                .toList();
+        out.writeUnsigned(territories.size());
+        long previousCountry = 0;
+        for (BoardState.TerritoryState territory : territories) {
+            out.writeUnsigned(territory.getCountryId() - previousCountry);
+            previousCountry = territory.getCountryId();
+            writeOwner(out, players, territory.getOwnerId());
+            out.writeInt(territory.getArmies());
+        }
+        return out.toByteArray();
+    }
+
+    BoardState fromBytes(byte[] data) {
+        Reader in = new Reader(data);
+        int version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new InvalidGameStateException("Game snapshot has format version " + version
+                    + " but this server reads version " + FORMAT_VERSION);
+        }
+        BoardState board = new BoardState();
+        board.setGameId(in.readNullableLong());
+        board.setGameCode(in.readString());
+        board.setState(in.readEnum(GameState.values()));
+        board.setPhase(in.readEnum(TurnPhase.values()));
+        board.setTurn(in.readNullableInt());
+        board.setCurrentPlayerIndex(in.readNullableInt());
+
+        int playerCount = (int) in.readUnsigned();
+        for (int i = 0; i < playerCount; i++) {
+            BoardState.PlayerState player = new BoardState.PlayerState();
+            player.setId(in.readNullableLong());
+            player.setName(in.readString());
+            player.setBot(in.readByte() == 1);
+            player.setColor(in.readEnum(PlayerColor.values()));
+            player.setStatus(in.readEnum(PlayerStatus.values()));
+            player.setSeatOrder(in.readNullableInt());
+            player.setArmiesToPlace(in.readInt());
+            player.setTradeCount(in.readInt());
+            player.setObjectiveId(in.readNullableLong());
+            int cardCount = (int) in.readUnsigned();
+            List<Long> cardIds = new ArrayList<>(cardCount);
+            long cardId = 0;
+            for (int c = 0; c < cardCount; c++) {
+                cardId += in.readUnsigned();
+                cardIds.add(cardId);
+            }
+            player.setCardIds(cardIds);
+            board.getPlayers().add(player);
+        }
+
+        int territoryCount = (int) in.readUnsigned();
+        long countryId = 0;
+        for (int i = 0; i < territoryCount; i++) {
+            countryId += in.readUnsigned();
+            Long ownerId = readOwner(in, board.getPlayers());
+            int armies = in.readInt();
+            board.getTerritories().put(countryId,
+                    new BoardState.TerritoryState(countryId, countryName(countryId), ownerId, armies));
+        }
+        if (in.remaining() > 0) {
+            throw new InvalidGameStateException("Game snapshot has " + in.remaining() + " unexpected trailing bytes");
+        }
+        return board;
+    }
+
+    // 0 = sin dueño, 1..n = posición en la lista de jugadores, n+1 = id explícito (dueño que ya no figura)
+    private static void writeOwner(Writer out, List<BoardState.PlayerState> players, Long ownerId) {
+        if (ownerId == null) {
+            out.writeUnsigned(0);
+            return;
+        }
+        for (int i = 0; i < players.size(); i++) {
+            if (ownerId.equals(players.get(i).getId())) {
+                out.writeUnsigned(i + 1);
+                return;
+            }
+        }
+        out.writeUnsigned(players.size() + 1);
+        out.writeUnsigned(ownerId);
+    }
+
+    private static Long readOwner(Reader in, List<BoardState.PlayerState> players) {
+        int ref = (int) in.readUnsigned();
+        if (ref == 0) {
+            return null;
+        }
+        if (ref <= players.size()) {
+            return players.get(ref - 1).getId();
+        }
+        return in.readUnsigned();
+    }
+
+    private String countryName(long countryId) {
+        int index = worldMap.indexOf(countryId);
+        return index >= 0 ? worldMap.countryNameAt(index) : null;
+    }
+
+    private BoardState decodeJson(String serializedState) {
+        try {
+            return objectMapper.readValue(serializedState, BoardState.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidGameStateException("Could not read game snapshot: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Escritura de varints sin signo (LEB128) y con signo (zigzag).
+     */
+    private static final class Writer {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+
+        void writeByte(int value) {
+            buffer.write(value);
+        }
+
+        void writeUnsigned(long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.write((int) value);
+        }
+
+        void writeInt(int value) {
+            writeUnsigned(zigzag(value));
+        }
+
+        void writeNullableInt(Integer value) {
+            writeUnsigned(value == null ? 0 : zigzag(value) + 1);
+        }
+
+        private static long zigzag(int value) {
+            return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+        }
+
+        void writeNullableLong(Long value) {
+            writeUnsigned(value == null ? 0 : value + 1);
+        }
+
+        void writeEnum(Enum<?> value) {
+            writeUnsigned(value == null ? 0 : value.ordinal() + 1);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeUnsigned(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeUnsigned(bytes.length + 1);
+            buffer.writeBytes(bytes);
+        }
+
+        byte[] toByteArray() {
+            return buffer.toByteArray();
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        int remaining() {
+            return data.length - position;
+        }
+
+        int readByte() {
+            if (position >= data.length) {
+                throw new InvalidGameStateException("Game snapshot is truncated");
+            }
+            return data[position++] & 0xFF;
+        }
+
+        long readUnsigned() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new InvalidGameStateException("Game snapshot has a malformed number");
+        }
+
+        int readInt() {
+            long zigzag = readUnsigned();
+            return (int) (zigzag >>> 1) ^ -(int) (zigzag & 1);
+        }
+
+        Integer readNullableInt() {
+            long raw = readUnsigned();
+            if (raw == 0) {
+                return null;
+            }
+            long zigzag = raw - 1;
+            return (int) (zigzag >>> 1) ^ -(int) (zigzag & 1);
+        }
+
+        Long readNullableLong() {
+            long raw = readUnsigned();
+            return raw == 0 ? null : raw - 1;
+        }
+
+        <E extends Enum<E>> E readEnum(E[] values) {
+            int ordinal = (int) readUnsigned();
+            if (ordinal == 0) {
+                return null;
+            }
+            if (ordinal > values.length) {
+                throw new InvalidGameStateException("Game snapshot has an unknown value " + (ordinal - 1));
+            }
+            return values[ordinal - 1];
+        }
+
+        String readString() {
+            int length = (int) readUnsigned();
+            if (length == 0) {
+                return null;
+            }
+            if (length - 1 > remaining()) {
+                throw new InvalidGameStateException("Game snapshot is truncated");
+            }
+            String value = new String(data, position, length - 1, StandardCharsets.UTF_8);
+            position += length - 1;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+/**
+ * La partida pasó al turno de otro jugador (o cambió de estado y el turno sigue en juego).
+ * Lo escucha {@link BotTurnScheduler} para jugar el turno cuando le toca a un bot.
+ *
+ * @param playerId jugador que tiene el turno ahora, si se conoce
+ * @param botTurn si ese jugador es un bot
+ */
+public record TurnAdvancedEvent(Long gameId, String gameCode, Long playerId, boolean botTurn) {
+}
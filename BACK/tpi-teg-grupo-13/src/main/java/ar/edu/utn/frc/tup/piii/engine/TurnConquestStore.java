@@ -0,0 +1,130 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.repository.GameEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conquistas del turno en curso de cada partida: cuántos países conquistó cada jugador
+ * en el número de turno actual. Lo usan las reglas para otorgar la carta de fin de turno.
+ * <p>
+ * Cada jugador juega una sola vez por número de turno, así que el par (turno, jugador)
+ * identifica su turno. Al pasar a un número de turno mayor que el guardado, el contador
+ * arranca de cero. Si la partida no está en memoria (por ejemplo después de reiniciar el
+ * servidor) se reconstruye desde los eventos TERRITORY_CONQUERED del turno; las conquistas no
+ * pasan por la cola de {@link GameEventWriter}, se insertan en la transacción que las produce.
+ * Si la transacción que registró una conquista se revierte, la partida se descarta y se vuelve
+ * a leer de los eventos.
+ */
+@Component
+@Slf4j
+public class TurnConquestStore {
+
+    @Autowired
+    private GameEventRepository gameEventRepository;
+
+    private final Map<Long, TurnConquests> games = new ConcurrentHashMap<>();
+
+    public void registerConquest(Long gameId, int turnNumber, Long playerId) {
+        if (gameId == null || playerId == null) {
+            return;
+        }
+        conquests(gameId, turnNumber).add(turnNumber, playerId);
+        evictOnRollback(gameId);
+    }
+
+    /**
+     * Países conquistados por el jugador en el turno indicado.
+     */
+    public int conqueredCount(Long gameId, int turnNumber, Long playerId) {
+        if (gameId == null || playerId == null) {
+            return 0;
+        }
+        return conquests(gameId, turnNumber).count(turnNumber, playerId);
+    }
+
+    public boolean hasConquered(Long gameId, int turnNumber, Long playerId) {
+        return conqueredCount(gameId, turnNumber, playerId) > 0;
+    }
+
+    public void evict(Long gameId) {
+        if (gameId != null && games.remove(gameId) != null) {
+            log.debug("Turn conquests evicted for game {}", gameId);
+        }
+    }
+
+    private TurnConquests conquests(Long gameId, int turnNumber) {
+        TurnConquests conquests = games.get(gameId);
+        if (conquests != null) {
+            return conquests;
+        }
+        // Se carga fuera del mapa: la consulta no bloquea a las demás partidas
+        TurnConquests loaded = load(gameId, turnNumber);
+        TurnConquests existing = games.putIfAbsent(gameId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private TurnConquests load(Long gameId, int turnNumber) {
+        TurnConquests conquests = new TurnConquests(turnNumber);
+        List<Object[]> rows = gameEventRepository.countConquestsByActorInTurn(gameId, turnNumber);
+        for (Object[] row : rows) {
+            conquests.counts.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+        }
+        log.debug("Turn conquests rebuilt for game {} turn {} from {} players", gameId, turnNumber, rows.size());
+        return conquests;
+    }
+
+    private void evictOnRollback(Long gameId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    evict(gameId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Conquistas por jugador de un número de turno. Los accesos se sincronizan sobre la instancia.
+     */
+    private static final class TurnConquests {
+        private int turnNumber;
+        private final Map<Long, Integer> counts = new HashMap<>();
+
+        TurnConquests(int turnNumber) {
+            this.turnNumber = turnNumber;
+        }
+
+        synchronized void add(int turn, Long playerId) {
+            moveTo(turn);
+            if (turn == turnNumber) {
+                counts.merge(playerId, 1, Integer::sum);
+            }
+        }
+
+        synchronized int count(int turn, Long playerId) {
+            moveTo(turn);
+            return turn == turnNumber ? counts.getOrDefault(playerId, 0) : 0;
+        }
+
+        // Solo avanza: un pedido atrasado de un turno anterior no borra el turno en curso
+        private void moveTo(int turn) {
+            if (turn > turnNumber) {
+                turnNumber = turn;
+                counts.clear();
+            }
+        }
+    }
+}
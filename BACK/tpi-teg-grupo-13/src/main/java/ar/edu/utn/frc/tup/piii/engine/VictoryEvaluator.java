@@ -0,0 +1,322 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.model.Objective;
+import ar.edu.utn.frc.tup.piii.model.enums.ObjectiveType;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerColor;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerStatus;
+import ar.edu.utn.frc.tup.piii.repository.PlayerRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Objetivo de cada jugador con la cantidad de requisitos que le faltan, por partida. Sigue los
+ * cambios de dueño de {@link OwnershipIndex} y las eliminaciones, así saber si alguien ganó o
+ * cuánto le falta es leer un contador.
+ * <p>
+ * Lo que falta según el tipo de objetivo:
+ * <ul>
+ *   <li>COMMON: países hasta llegar a {@link #COMMON_OBJECTIVE_TERRITORIES}</li>
+ *   <li>OCCUPATION: países de los continentes pedidos que todavía no son del jugador</li>
+ *   <li>DESTRUCTION: jugadores del color pedido que siguen en pie; si nadie juega con ese color
+ *   (o es el propio) el jugador pasa al objetivo común</li>
+ * </ul>
+ * El primer jugador en pie cuyo contador llega a cero queda como ganador de la partida. Los
+ * objetivos se leen de la base la primera vez que se consulta la partida; si {@link OwnershipIndex}
+ * la descarta (por ejemplo, porque se revirtió una transacción) se descarta también acá; lo
+ * mismo si se revierte la transacción que eliminó a un jugador.
+ */
+@Component
+@Slf4j
+public class VictoryEvaluator implements OwnershipIndex.Listener {
+
+    public static final int COMMON_OBJECTIVE_TERRITORIES = 30; // TEG standard
+
+    @Autowired
+    private OwnershipIndex ownershipIndex;
+
+    @Autowired
+    private WorldMap worldMap;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    private final Map<Long, GameObjectives> games = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void register() {
+        ownershipIndex.addListener(this);
+    }
+
+    /**
+     * Progreso del objetivo de un jugador, calculado desde los contadores en memoria.
+     *
+     * @param remaining requisitos que faltan (países o jugadores según el tipo); -1 sin objetivo
+     * @param description progreso para mostrar, por ejemplo "Territories: 27/30"
+     */
+    public record ObjectiveProgress(Long playerId, ObjectiveType type, int remaining, boolean achieved,
+                                    String description) {
+    }
+
+    /**
+     * Jugador que cumplió su objetivo primero, si ya hay uno.
+     */
+    public Optional<Long> winner(Long gameId) {
+        GameObjectives game = objectives(gameId);
+        synchronized (game) {
+            return Optional.ofNullable(game.winnerId);
+        }
+    }
+
+    public Optional<ObjectiveProgress> progress(Long gameId, Long playerId) {
+        GameObjectives game = objectives(gameId);
+        synchronized (game) {
+            PlayerObjective player = game.players.get(playerId);
+            return player != null ? Optional.of(game.progress(player)) : Optional.empty();
+        }
+    }
+
+    /**
+     * Marca al jugador como eliminado: deja de poder ganar y cuenta para los objetivos de
+     * destrucción de su color.
+     */
+    public void playerEliminated(Long gameId, Long playerId) {
+        GameObjectives game = games.get(gameId);
+        if (game == null) {
+            return; // se arma con el estado actual en la próxima consulta
+        }
+        synchronized (game) {
+            PlayerObjective player = game.players.get(playerId);
+            if (player == null || player.eliminated) {
+                return;
+            }
+            evictOnRollback(gameId);
+            player.eliminated = true;
+            if (player.color != null) {
+                game.aliveByColor.merge(player.color, -1, Integer::sum);
+            }
+            for (PlayerObjective other : game.players.values()) {
+                if (other.type == ObjectiveType.DESTRUCTION && other.targetColor == player.color) {
+                    game.update(other);
+                }
+            }
+        }
+    }
+
+    public void evict(Long gameId) {
+        if (gameId != null && games.remove(gameId) != null) {
+            log.debug("Objectives evicted for game {}", gameId);
+        }
+    }
+
+    public int cachedGames() {
+        return games.size();
+    }
+
+    @Override
+    public void ownerChanged(Long gameId, int countryIndex, Long previousOwnerId, Long newOwnerId) {
+        GameObjectives game = games.get(gameId);
+        if (game == null) {
+            return;
+        }
+        int continent = worldMap.continentOf(countryIndex);
+        synchronized (game) {
+            game.move(previousOwnerId, continent, -1);
+            game.move(newOwnerId, continent, 1);
+        }
+    }
+
+    @Override
+    public void ownershipEvicted(Long gameId) {
+        evict(gameId);
+    }
+
+    private void evictOnRollback(Long gameId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    evict(gameId);
+                }
+            }
+        });
+    }
+
+    private GameObjectives objectives(Long gameId) {
+        GameObjectives game = games.get(gameId);
+        return game != null ? game : games.computeIfAbsent(gameId, this::load);
+    }
+
+    private GameObjectives load(Long gameId) {
+        GameObjectives game = new GameObjectives();
+        Set<PlayerColor> colorsInGame = EnumSet.noneOf(PlayerColor.class);
+        List<Object[]> rows = playerRepository.findObjectiveRowsByGameId(gameId);
+        for (Object[] row : rows) {
+            PlayerObjective player = new PlayerObjective((Long) row[0], (PlayerColor) row[2],
+                    worldMap.continentCount());
+            player.eliminated = row[1] == PlayerStatus.ELIMINATED;
+            if (row[3] != null) {
+                Objective objective = Objective.builder().type((ObjectiveType) row[3]).targetData((String) row[4]).build();
+                player.target(objective, worldMap);
+            }
+            // Países actuales del jugador, desde el índice en memoria
+            long[] owned = ownershipIndex.ownedMask(gameId, player.playerId);
+            player.territories = BitSets.cardinality(owned);
+            for (int continent = 0; continent < worldMap.continentCount(); continent++) {
+                player.ownedByContinent[continent] = BitSets.intersectionCount(owned, worldMap.continentMask(continent));
+            }
+            if (player.color != null) {
+                colorsInGame.add(player.color);
+                if (!player.eliminated) {
+                    game.aliveByColor.merge(player.color, 1, Integer::sum);
+                }
+            }
+            game.players.put(player.playerId, player);
+        }
+        for (PlayerObjective player : game.players.values()) {
+            if (player.type == ObjectiveType.DESTRUCTION && player.targetColor != null
+                    && (player.targetColor == player.color || !colorsInGame.contains(player.targetColor))) {
+                // Nadie juega con ese color (o es el propio): se gana con el objetivo común
+                player.type = ObjectiveType.COMMON;
+            }
+            game.update(player);
+        }
+        log.debug("Objectives loaded for game {} with {} players", gameId, rows.size());
+        return game;
+    }
+
+    /**
+     * Objetivos de una partida. Los accesos se sincronizan sobre la instancia.
+     */
+    private final class GameObjectives {
+        private final Map<Long, PlayerObjective> players = new LinkedHashMap<>();
+        private final Map<PlayerColor, Integer> aliveByColor = new EnumMap<>(PlayerColor.class);
+        private Long winnerId;
+
+        void move(Long playerId, int continent, int delta) {
+            PlayerObjective player = playerId != null ? players.get(playerId) : null;
+            if (player == null) {
+                return;
+            }
+            player.territories += delta;
+            if (continent >= 0) {
+                player.ownedByContinent[continent] += delta;
+            }
+            update(player);
+        }
+
+        /**
+         * Recalcula lo que le falta al jugador; O(continentes del objetivo).
+         */
+        void update(PlayerObjective player) {
+            if (player.type == null) {
+                return;
+            }
+            player.remaining = switch (player.type) {
+                case COMMON -> Math.max(0, COMMON_OBJECTIVE_TERRITORIES - player.territories);
+                case OCCUPATION -> {
+                    int missing = 0;
+                    for (int continent : player.targetContinents) {
+                        missing += worldMap.continentSize(continent) - player.ownedByContinent[continent];
+                    }
+                    yield missing;
+                }
+                case DESTRUCTION -> aliveByColor.getOrDefault(player.targetColor, 0);
+            };
+            if (winnerId == null && player.remaining == 0 && player.canWin()) {
+                winnerId = player.playerId;
+                log.info("Player {} completed their {} objective", player.playerId, player.type);
+            }
+        }
+
+        ObjectiveProgress progress(PlayerObjective player) {
+            boolean achieved = player.remaining == 0 && player.canWin();
+            String description;
+            if (player.type == null) {
+                description = "No objective assigned";
+            } else {
+                description = switch (player.type) {
+                    case COMMON -> String.format("Territories: %d/%d", player.territories, COMMON_OBJECTIVE_TERRITORIES);
+                    case OCCUPATION -> {
+                        int controlled = 0;
+                        for (int continent : player.targetContinents) {
+                            if (player.ownedByContinent[continent] == worldMap.continentSize(continent)) {
+                                controlled++;
+                            }
+                        }
+                        yield String.format("Continents controlled: %d/%d", controlled, player.targetContinents.length);
+                    }
+                    case DESTRUCTION -> player.remaining == 0 ? "Target eliminated!" : "Target still active";
+                };
+            }
+            return new ObjectiveProgress(player.playerId, player.type, player.remaining, achieved, description);
+        }
+    }
+
+    /**
+     * Objetivo de un jugador y los contadores de los que depende.
+     */
+    private static final class PlayerObjective {
+        private final Long playerId;
+        private final PlayerColor color;
+        private final int[] ownedByContinent;
+        private ObjectiveType type;
+        private int[] targetContinents = new int[0];
+        private PlayerColor targetColor;
+        private boolean valid;
+        private boolean eliminated;
+        private int territories;
+        private int remaining = -1;
+
+        PlayerObjective(Long playerId, PlayerColor color, int continentCount) {
+            this.playerId = playerId;
+            this.color = color;
+            this.ownedByContinent = new int[continentCount];
+        }
+
+        void target(Objective objective, WorldMap worldMap) {
+            type = objective.getType();
+            switch (type) {
+                case COMMON -> valid = true;
+                case OCCUPATION -> {
+                    List<Integer> continents = new ArrayList<>();
+                    valid = !objective.getTargetContinents().isEmpty();
+                    for (String name : objective.getTargetContinents()) {
+                        int continent = worldMap.continentIndexOf(name);
+                        // Un continente desconocido o vacío no se puede controlar
+                        if (continent < 0 || worldMap.continentSize(continent) == 0) {
+                            valid = false;
+                        } else {
+                            continents.add(continent);
+                        }
+                    }
+                    targetContinents = continents.stream().mapToInt(Integer::intValue).toArray();
+                }
+                case DESTRUCTION -> {
+                    targetColor = objective.getTargetColor();
+                    valid = targetColor != null;
+                }
+            }
+        }
+
+        boolean canWin() {
+            return valid && !eliminated;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.entities.ContinentEntity;
+import ar.edu.utn.frc.tup.piii.entities.CountryEntity;
+import ar.edu.utn.frc.tup.piii.repository.ContinentRepository;
+import ar.edu.utn.frc.tup.piii.repository.CountryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * Grafo inmutable del mapa mundial (países, fronteras y continentes).
+ * Se construye una sola vez desde countries/country_neighbors/continents y a partir de
+ * ahí las consultas de vecindad y pertenencia a continentes no tocan la base de datos.
+ * Cada país recibe un índice denso 0..size()-1 que sirve para indexar arrays y bitsets.
+ */
+@Component
+@Slf4j
+public class WorldMap {
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private ContinentRepository continentRepository;
+
+    private volatile Graph graph;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Graph loaded = graph();
+        log.info("World map loaded: {} countries, {} continents", loaded.size(), loaded.continentCount());
+    }
+
+    public int size() {
+        return graph().size();
+    }
+
+    /**
+     * Cantidad de palabras de 64 bits necesarias para un bitset sobre todos los países.
+     */
+    public int wordCount() {
+        return graph().wordCount;
+    }
+
+    /**
+     * Índice denso del país, o -1 si el país no existe en el mapa.
+     */
+    public int indexOf(Long countryId) {
+        if (countryId == null) {
+            return -1;
+        }
+        Integer index = graph().indexById.get(countryId);
+        return index != null ? index : -1;
+    }
+
+    public Long countryIdAt(int index) {
+        return graph().countryIds[index];
+    }
+
+    public String countryNameAt(int index) {
+        return graph().countryNames[index];
+    }
+
+    public boolean areNeighbors(int index1, int index2) {
+        return BitSets.get(graph().adjacency[index1], index2);
+    }
+
+    public boolean areNeighbors(Long countryId1, Long countryId2) {
+        int a = indexOf(countryId1);
+        int b = indexOf(countryId2);
+        return a >= 0 && b >= 0 && areNeighbors(a, b);
+    }
+
+    /**
+     * Recorre los vecinos del país (en ambos sentidos de country_neighbors) sin generar objetos.
+     */
+    public void forEachNeighbor(int index, IntConsumer action) {
+        for (int neighbor : graph().neighbors[index]) {
+            action.accept(neighbor);
+        }
+    }
+
+    public int[] neighborsOf(int index) {
+        return graph().neighbors[index].clone();
+    }
+
+    public Set<Long> neighborIdsOf(Long countryId) {
+        int index = indexOf(countryId);
+        if (index < 0) {
+            return Collections.emptySet();
+        }
+        Graph g = graph();
+        Set<Long> ids = new HashSet<>();
+        for (int neighbor : g.neighbors[index]) {
+            ids.add(g.countryIds[neighbor]);
+        }
+        return ids;
+    }
+
+    /**
+     * Bitset con los países indicados. Los IDs que no existen en el mapa se ignoran.
+     */
+    public long[] maskOf(Collection<Long> countryIds) {
+        long[] mask = new long[wordCount()];
+        for (Long countryId : countryIds) {
+            int index = indexOf(countryId);
+            if (index >= 0) {
+                BitSets.set(mask, index);
+            }
+        }
+        return mask;
+    }
+
+    public boolean isConnectedThrough(Long fromId, Long toId, Collection<Long> allowedCountryIds) {
+        return isConnectedThrough(indexOf(fromId), indexOf(toId), maskOf(allowedCountryIds));
+    }
+
+    /**
+     * BFS que indica si existe un camino entre dos países pasando solo por países de {@code allowed}.
+     * Ambos extremos deben pertenecer a la máscara.
+     */
+    public boolean isConnectedThrough(int from, int to, long[] allowed) {
+        if (from < 0 || to < 0 || !BitSets.get(allowed, from) || !BitSets.get(allowed, to)) {
+            return false;
+        }
+        if (from == to) {
+            return true;
+        }
+
+        Graph g = graph();
+        long[] visited = new long[g.wordCount];
+        int[] queue = new int[g.size()];
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = from;
+        BitSets.set(visited, from);
+
+        while (head < tail) {
+            int current = queue[head++];
+            for (int neighbor : g.neighbors[current]) {
+                if (neighbor == to) {
+                    return true;
+                }
+                if (BitSets.get(allowed, neighbor) && !BitSets.get(visited, neighbor)) {
+                    BitSets.set(visited, neighbor);
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return false;
+    }
+
+    public int continentCount() {
+        return graph().continentCount();
+    }
+
+    public int continentIndexOf(String continentName) {
+        Integer index = graph().continentIndexByName.get(continentName);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Índice del continente al que pertenece el país con índice denso {@code countryIndex}.
+     */
+    public int continentOf(int countryIndex) {
+        return graph().continentOf[countryIndex];
+    }
+
+    public String continentNameAt(int continentIndex) {
+        return graph().continentNames[continentIndex];
+    }
+
+    public int continentBonusAt(int continentIndex) {
+        return graph().continentBonus[continentIndex];
+    }
+
+    public int continentSize(int continentIndex) {
+        return graph().continentSizes[continentIndex];
+    }
+
+    /**
+     * Máscara (bitset) con los países del continente. Devuelve una copia.
+     */
+    public long[] continentMask(int continentIndex) {
+        return graph().continentMasks[continentIndex].clone();
+    }
+
+    private Graph graph() {
+        Graph current = graph;
+        if (current == null) {
+            synchronized (this) {
+                current = graph;
+                if (current == null) {
+                    current = load();
+                    // Un mapa vacío significa que data.sql todavía no se ejecutó: se reintenta en el próximo acceso
+                    if (current.size() > 0) {
+                        graph = current;
+                    }
+                }
+            }
+        }
+        return current;
+    }
+
+    private Graph load() {
+        List<CountryEntity> countries = new ArrayList<>(countryRepository.findAll());
+        countries.sort(Comparator.comparing(CountryEntity::getId));
+        List<ContinentEntity> continents = new ArrayList<>(continentRepository.findAll());
+        continents.sort(Comparator.comparing(ContinentEntity::getId));
+
+        return new Graph(countries, continents, countryRepository.findAllNeighborPairs());
+    }
+
+    /**
+     * Estado inmutable del mapa. Solo se publica una vez completamente construido.
+     */
+    private static final class Graph {
+        private final Long[] countryIds;
+        private final String[] countryNames;
+        private final Map<Long, Integer> indexById;
+        private final int wordCount;
+        private final long[][] adjacency;
+        private final int[][] neighbors;
+        private final int[] continentOf;
+        private final String[] continentNames;
+        private final int[] continentBonus;
+        private final int[] continentSizes;
+        private final long[][] continentMasks;
+        private final Map<String, Integer> continentIndexByName;
+
+        Graph(List<CountryEntity> countries, List<ContinentEntity> continents, List<Object[]> neighborPairs) {
+            int n = countries.size();
+            this.countryIds = new Long[n];
+            this.countryNames = new String[n];
+            this.indexById = new HashMap<>();
+            this.wordCount = BitSets.wordsFor(n);
+            this.adjacency = new long[n][wordCount];
+            this.continentOf = new int[n];
+
+            int c = continents.size();
+            this.continentNames = new String[c];
+            this.continentBonus = new int[c];
+            this.continentSizes = new int[c];
+            this.continentMasks = new long[c][wordCount];
+            this.continentIndexByName = new HashMap<>();
+
+            Map<Long, Integer> continentIndexById = new HashMap<>();
+            for (int i = 0; i < c; i++) {
+                ContinentEntity continent = continents.get(i);
+                continentNames[i] = continent.getName();
+                continentBonus[i] = continent.getBonusArmies() != null ? continent.getBonusArmies() : 0;
+                continentIndexById.put(continent.getId(), i);
+                continentIndexByName.put(continent.getName(), i);
+            }
+
+            for (int i = 0; i < n; i++) {
+                CountryEntity country = countries.get(i);
+                countryIds[i] = country.getId();
+                countryNames[i] = country.getName();
+                indexById.put(country.getId(), i);
+
+                Integer continentIndex = country.getContinent() != null
+                        ? continentIndexById.get(country.getContinent().getId())
+                        : null;
+                continentOf[i] = continentIndex != null ? continentIndex : -1;
+                if (continentIndex != null) {
+                    BitSets.set(continentMasks[continentIndex], i);
+                    continentSizes[continentIndex]++;
+                }
+            }
+
+            // country_neighbors no es simétrica en data.sql: se guardan ambos sentidos
+            for (Object[] pair : neighborPairs) {
+                Integer a = indexById.get(((Number) pair[0]).longValue());
+                Integer b = indexById.get(((Number) pair[1]).longValue());
+                if (a != null && b != null && !a.equals(b)) {
+                    BitSets.set(adjacency[a], b);
+                    BitSets.set(adjacency[b], a);
+                }
+            }
+
+            this.neighbors = new int[n][];
+            for (int i = 0; i < n; i++) {
+                neighbors[i] = BitSets.toIndexArray(adjacency[i]);
+            }
+        }
+
+        int size() {
+            return countryIds.length;
+        }
+
+        int continentCount() {
+            return continentNames.length;
+        }
+    }
+}
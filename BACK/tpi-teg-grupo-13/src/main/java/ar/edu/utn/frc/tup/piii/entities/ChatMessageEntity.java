@@ -12,8 +12,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChatMessageEntity {
+    // Mismo contador que usa ChatMessageIdAllocator para los mensajes que inserta ChatMessageWriter
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "chat_message_ids")
+    @TableGenerator(name = "chat_message_ids", table = "id_generators", pkColumnName = "generator_name",
+            valueColumnName = "next_id", pkColumnValue = "chat_messages", allocationSize = 1)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
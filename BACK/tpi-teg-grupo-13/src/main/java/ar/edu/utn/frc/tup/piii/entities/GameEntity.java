@@ -66,6 +66,10 @@ public class GameEntity {
     @Column(name = "last_modified")
     private LocalDateTime lastModified;
 
+    // Semilla de los números aleatorios de la partida (ver GameRandom), se fija al iniciarla
+    @Column(name = "random_seed")
+    private Long randomSeed;
+
     @OneToMany(mappedBy = "game", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<PlayerEntity> players = new ArrayList<>();
 
@@ -0,0 +1,34 @@
+package ar.edu.utn.frc.tup.piii.entities;
+
+import ar.edu.utn.frc.tup.piii.model.enums.EventType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cantidad de eventos de cada tipo en una partida. Es parte de la proyección de estadísticas que
+ * mantiene {@link ar.edu.utn.frc.tup.piii.engine.GameStatsProjection} al escribir el historial;
+ * guarda solo ids, sin claves foráneas, como el resto de las tablas de estadísticas.
+ */
+@Entity
+@Table(name = "game_event_counts",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"game_id", "event_type"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameEventCountEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private EventType eventType;
+
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount = 0L;
+}
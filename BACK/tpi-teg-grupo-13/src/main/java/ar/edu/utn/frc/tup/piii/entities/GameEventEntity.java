@@ -7,8 +7,14 @@ import lombok.AllArgsConstructor;
 import ar.edu.utn.frc.tup.piii.model.enums.EventType;
 import java.time.LocalDateTime;
 
+// Índices para leer el historial de una partida por páginas de id, con o sin filtro
 @Entity
-@Table(name = "game_events")
+@Table(name = "game_events", indexes = {
+        @Index(columnList = "game_id, id"),
+        @Index(columnList = "game_id, type, id"),
+        @Index(columnList = "game_id, turn_number, id"),
+        @Index(columnList = "game_id, actor_id, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
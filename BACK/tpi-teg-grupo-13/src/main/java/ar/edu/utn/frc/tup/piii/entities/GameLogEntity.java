@@ -0,0 +1,48 @@
+package ar.edu.utn.frc.tup.piii.entities;
+
+import ar.edu.utn.frc.tup.piii.engine.GameChange;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Fila del log de cambios de una partida. Solo se agregan filas (las escribe
+ * {@link ar.edu.utn.frc.tup.piii.engine.GameEventStore}); el orden lo da {@code sequence},
+ * correlativo por partida.
+ */
+@Entity
+@Table(name = "game_log",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"game_id", "sequence"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameLogEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "game_id", nullable = false)
+    private GameEntity game;
+
+    @Column(nullable = false)
+    private Long sequence;
+
+    @Column(name = "turn_number")
+    private Integer turnNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private GameChange.Type type;
+
+    @Column(name = "schema_version", nullable = false)
+    private Integer schemaVersion;
+
+    @Column(nullable = false, length = 4000)
+    private String payload; // JSON del GameChange
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
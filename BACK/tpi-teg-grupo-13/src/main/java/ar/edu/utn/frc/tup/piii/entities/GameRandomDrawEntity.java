@@ -0,0 +1,34 @@
+package ar.edu.utn.frc.tup.piii.entities;
+
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cuántos números sacó una partida de cada generador de {@link GameRandom}. Con la semilla de la
+ * partida alcanza para seguir la secuencia después de reiniciar el servidor; guarda solo el id de
+ * la partida, sin clave foránea, como las tablas de estadísticas.
+ */
+@Entity
+@Table(name = "game_random_draws",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"game_id", "stream"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameRandomDrawEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stream", nullable = false, length = 20)
+    private GameRandom.Stream stream;
+
+    @Column(name = "draws", nullable = false)
+    private Long draws = 0L;
+}
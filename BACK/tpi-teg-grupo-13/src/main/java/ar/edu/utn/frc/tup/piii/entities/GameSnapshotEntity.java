@@ -23,6 +23,10 @@ public class GameSnapshotEntity {
     @Column(name = "turn_number", nullable = false)
     private Integer turnNumber;
 
+    // Último cambio del log (game_log.sequence) incluido en el estado guardado
+    @Column(name = "event_sequence", nullable = false)
+    private Long eventSequence = 0L;
+
     @Lob
     @Column(name = "serialized_state", nullable = false)
     private String serializedState;
@@ -0,0 +1,52 @@
+package ar.edu.utn.frc.tup.piii.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Contadores de un jugador en su partida, mantenidos por
+ * {@link ar.edu.utn.frc.tup.piii.engine.GameStatsProjection}. Cada jugador pertenece a una sola
+ * partida, por eso la clave es el id del jugador.
+ */
+@Entity
+@Table(name = "player_game_stats", indexes = @Index(columnList = "game_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerGameStatsEntity {
+    @Id
+    @Column(name = "player_id")
+    private Long playerId;
+
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    @Column(nullable = false)
+    private Integer attacks = 0;
+
+    @Column(name = "successful_attacks", nullable = false)
+    private Integer successfulAttacks = 0;
+
+    @Column(nullable = false)
+    private Integer conquests = 0;
+
+    @Column(name = "armies_placed", nullable = false)
+    private Integer armiesPlaced = 0;
+
+    @Column(nullable = false)
+    private Integer fortifications = 0;
+
+    @Column(name = "cards_traded", nullable = false)
+    private Integer cardsTraded = 0;
+
+    @Column(name = "turns_played", nullable = false)
+    private Integer turnsPlayed = 0;
+
+    @Column(nullable = false)
+    private Integer eliminations = 0; // jugadores que eliminó
+
+    @Column(nullable = false)
+    private Boolean eliminated = false;
+}
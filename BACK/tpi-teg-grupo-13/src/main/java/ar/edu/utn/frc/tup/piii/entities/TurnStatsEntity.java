@@ -0,0 +1,49 @@
+package ar.edu.utn.frc.tup.piii.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Contadores de un jugador en un número de turno de la partida, mantenidos por
+ * {@link ar.edu.utn.frc.tup.piii.engine.GameStatsProjection}.
+ */
+@Entity
+@Table(name = "turn_stats",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"game_id", "turn_number", "player_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TurnStatsEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    @Column(name = "turn_number", nullable = false)
+    private Integer turnNumber;
+
+    @Column(name = "player_id", nullable = false)
+    private Long playerId;
+
+    @Column(nullable = false)
+    private Integer attacks = 0;
+
+    @Column(name = "successful_attacks", nullable = false)
+    private Integer successfulAttacks = 0;
+
+    @Column(nullable = false)
+    private Integer conquests = 0;
+
+    @Column(name = "armies_placed", nullable = false)
+    private Integer armiesPlaced = 0;
+
+    @Column(nullable = false)
+    private Integer fortifications = 0;
+
+    @Column(name = "cards_traded", nullable = false)
+    private Integer cardsTraded = 0;
+}
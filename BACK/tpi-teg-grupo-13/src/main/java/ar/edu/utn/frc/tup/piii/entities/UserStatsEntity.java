@@ -0,0 +1,47 @@
+package ar.edu.utn.frc.tup.piii.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estadísticas de carrera de un usuario. {@link ar.edu.utn.frc.tup.piii.engine.GameStatsProjection}
+ * les suma los contadores de su jugador cuando termina cada partida.
+ */
+@Entity
+@Table(name = "user_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStatsEntity {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "games_played", nullable = false)
+    private Integer gamesPlayed = 0;
+
+    @Column(name = "games_won", nullable = false)
+    private Integer gamesWon = 0;
+
+    @Column(nullable = false)
+    private Integer attacks = 0;
+
+    @Column(name = "successful_attacks", nullable = false)
+    private Integer successfulAttacks = 0;
+
+    @Column(nullable = false)
+    private Integer conquests = 0;
+
+    @Column(nullable = false)
+    private Integer eliminations = 0;
+
+    @Column(name = "turns_played", nullable = false)
+    private Integer turnsPlayed = 0;
+
+    @Column(name = "last_game_at")
+    private LocalDateTime lastGameAt;
+}
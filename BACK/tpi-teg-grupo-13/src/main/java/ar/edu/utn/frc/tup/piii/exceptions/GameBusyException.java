@@ -0,0 +1,16 @@
+package ar.edu.utn.frc.tup.piii.exceptions;
+
+/**
+ * Excepción lanzada cuando una partida tiene demasiados comandos esperando su turno
+ * y no acepta más hasta que se vacíe la cola.
+ */
+public class GameBusyException extends RuntimeException {
+
+    public GameBusyException(String message) {
+        super(message);
+    }
+
+    public GameBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
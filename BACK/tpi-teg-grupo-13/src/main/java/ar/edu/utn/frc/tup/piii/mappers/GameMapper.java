@@ -2,22 +2,26 @@ package ar.edu.utn.frc.tup.piii.mappers;
 
 import ar.edu.utn.frc.tup.piii.dtos.country.CountryResponseDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.GameResponseDto;
-import ar.edu.utn.frc.tup.piii.entities.CountryEntity;
+import ar.edu.utn.frc.tup.piii.dtos.game.GameStateDto;
+import ar.edu.utn.frc.tup.piii.engine.HotGame;
+import ar.edu.utn.frc.tup.piii.engine.HotGameStore;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameTerritoryEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
 import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.Player;
 import ar.edu.utn.frc.tup.piii.model.Territory;
+import ar.edu.utn.frc.tup.piii.model.enums.GameFetchPlan;
 import ar.edu.utn.frc.tup.piii.model.enums.GameState;
 import ar.edu.utn.frc.tup.piii.model.enums.PlayerStatus;
-import ar.edu.utn.frc.tup.piii.repository.CountryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.stream.Collectors;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.List;
 
@@ -37,11 +41,24 @@ public class GameMapper {
     @Autowired
     private ContinentMapper continentMapper;
     @Autowired
-    private CountryRepository countryRepository;
+    private HotGameStore hotGameStore;
+    @Autowired
+    private WorldMap worldMap;
 
     public Game toModel(GameEntity entity) {
+        return toModel(entity, GameFetchPlan.FULL);
+    }
+
+    /**
+     * Mapea solo las partes del plan; las demás quedan vacías y no se tocan las colecciones
+     * lazy correspondientes. Conviene cargar la entidad con el mismo plan
+     * ({@link ar.edu.utn.frc.tup.piii.repository.GameRepository#findByGameCode(String, GameFetchPlan)}).
+     */
+    public Game toModel(GameEntity entity, GameFetchPlan plan) {
         if (entity == null) return null;
 
+        boolean board = plan != GameFetchPlan.LOBBY;
+        boolean full = plan == GameFetchPlan.FULL;
         return Game.builder()
                 .id(entity.getId())
                 .gameCode(entity.getGameCode())
@@ -59,43 +76,38 @@ public class GameMapper {
                 .startedAt(entity.getStartedAt())
                 .finishedAt(entity.getFinishedAt())
                 .lastModified(entity.getLastModified())
+                .randomSeed(entity.getRandomSeed())
                 .players(entity.getPlayers().stream()
                         .map(playerMapper::toModel)
                         .collect(Collectors.toList()))
-                .territories(mapTerritories(entity.getTerritories()))
-                .deck(entity.getDeck().stream()
-                        .map(cardMapper::toModel)
-                        .collect(Collectors.toList()))
-                .events(entity.getEvents().stream()
-                        .map(gameEventMapper::toModel)
-                        .collect(Collectors.toList()))
-                .chatMessages(entity.getChatMessages().stream()
-                        .map(chatMessageMapper::toModel)
-                        .collect(Collectors.toList()))
+                .territories(board
+                        ? mapTerritories(entity.getTerritories(), hotGameStore.peek(entity.getId()))
+                        : new HashMap<>())
+                .deck(full
+                        ? entity.getDeck().stream().map(cardMapper::toModel).collect(Collectors.toList())
+                        : new ArrayList<>())
+                .events(full
+                        ? entity.getEvents().stream().map(gameEventMapper::toModel).collect(Collectors.toList())
+                        : new ArrayList<>())
+                .chatMessages(full
+                        ? entity.getChatMessages().stream().map(chatMessageMapper::toModel).collect(Collectors.toList())
+                        : new ArrayList<>())
                 .build();
     }
 
-    private Map<Long, Territory> mapTerritories(java.util.List<GameTerritoryEntity> territoryEntities) {
+    private Map<Long, Territory> mapTerritories(List<GameTerritoryEntity> territoryEntities, HotGame hotGame) {
         Map<Long, Territory> territories = new HashMap<>();
         for (GameTerritoryEntity entity : territoryEntities) {
-            // Get both direct and inverse neighbors
-            Set<Long> neighborIds = new HashSet<>();
-            
-            // Direct neighbors (where this country is the source)
-            entity.getCountry().getNeighbors().forEach(neighbor -> neighborIds.add(neighbor.getId()));
-            
-            // Inverse neighbors (where other countries have this country as neighbor)
-            List<CountryEntity> countriesWithThisAsNeighbor = countryRepository
-                    .findCountriesThatHaveAsNeighbor(entity.getCountry().getId());
-            countriesWithThisAsNeighbor.forEach(c -> neighborIds.add(c.getId()));
-            
+            // Vecinos directos e inversos desde el grafo en memoria (sin consultas por territorio)
+            Set<Long> neighborIds = worldMap.neighborIdsOf(entity.getCountry().getId());
+
             Territory territory = Territory.builder()
                     .id(entity.getCountry().getId())
                     .name(entity.getCountry().getName())
                     .continentName(entity.getCountry().getContinent().getName())
                     .ownerId(entity.getOwner() != null ? entity.getOwner().getId() : null)
                     .ownerName(entity.getOwner() != null ? getPlayerDisplayName(entity.getOwner()) : null)
-                    .armies(entity.getArmies())
+                    .armies(currentArmies(entity, hotGame))
                     .neighborIds(neighborIds)
                     .build();
             territories.put(territory.getId(), territory);
@@ -103,6 +115,19 @@ public class GameMapper {
         return territories;
     }
 
+    /**
+     * En modo hot game los ejércitos vigentes están en memoria y pueden no estar escritos todavía.
+     */
+    private Integer currentArmies(GameTerritoryEntity entity, HotGame hotGame) {
+        if (hotGame != null) {
+            int index = worldMap.indexOf(entity.getCountry().getId());
+            if (hotGame.contains(index)) {
+                return hotGame.armiesAt(index);
+            }
+        }
+        return entity.getArmies();
+    }
+
     public GameEntity toEntity(Game model) {
         if (model == null) return null;
 
@@ -121,6 +146,7 @@ public class GameMapper {
         entity.setStartedAt(model.getStartedAt());
         entity.setFinishedAt(model.getFinishedAt());
         entity.setLastModified(model.getLastModified());
+        entity.setRandomSeed(model.getRandomSeed());
 
 
         if (model.getContinents() != null) {
@@ -225,4 +251,43 @@ public class GameMapper {
 
         return builder.build();
     }
+
+    /**
+     * Estado del tablero de una partida, sin datos del lobby, eventos ni chat. Lo usa la
+     * repetición de partidas, cuyo modelo no trae objetivos ni manos.
+     */
+    public GameStateDto toStateDto(Game model) {
+        if (model == null) {
+            return null;
+        }
+
+        Player currentPlayer = null;
+        if (model.getPlayers() != null && model.getCurrentPlayerIndex() != null
+                && model.getCurrentPlayerIndex() >= 0 && model.getCurrentPlayerIndex() < model.getPlayers().size()) {
+            currentPlayer = model.getPlayers().get(model.getCurrentPlayerIndex());
+        }
+
+        GameStateDto.GameStateDtoBuilder builder = GameStateDto.builder()
+                .gameId(model.getId())
+                .status(model.getState())
+                .currentPhase(model.getCurrentPhase())
+                .currentTurn(model.getCurrentTurn())
+                .currentPlayerId(currentPlayer != null ? currentPlayer.getId() : null)
+                .currentPlayerName(currentPlayer != null ? currentPlayer.getDisplayName() : null)
+                .isGameOver(model.getState() == GameState.FINISHED);
+
+        if (model.getPlayers() != null) {
+            builder.players(model.getPlayers().stream()
+                    .map(playerMapper::toResponseDto)
+                    .collect(Collectors.toList()));
+        }
+
+        if (model.getTerritories() != null) {
+            builder.territories(model.getTerritories().entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey,
+                            entry -> territoryMapper.toResponseDto(entry.getValue()))));
+        }
+
+        return builder.build();
+    }
 }
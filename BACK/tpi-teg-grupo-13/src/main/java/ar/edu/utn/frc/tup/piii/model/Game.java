@@ -32,6 +32,7 @@ public class Game {
     private LocalDateTime startedAt;
     private LocalDateTime finishedAt;
     private LocalDateTime lastModified;
+    private Long randomSeed;
 
     @Builder.Default
     private List<Player> players = new ArrayList<>();
@@ -0,0 +1,7 @@
+package ar.edu.utn.frc.tup.piii.model.enums;
+
+public enum BlitzStopReason {
+    TERRITORY_CONQUERED,
+    STOP_THRESHOLD_REACHED,
+    CANNOT_ATTACK
+}
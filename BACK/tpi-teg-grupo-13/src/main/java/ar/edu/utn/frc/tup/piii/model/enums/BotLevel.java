@@ -3,5 +3,6 @@ package ar.edu.utn.frc.tup.piii.model.enums;
 public enum BotLevel {
     NOVICE,
     BALANCED,
-    EXPERT
+    EXPERT,
+    MASTER
 }
\ No newline at end of file
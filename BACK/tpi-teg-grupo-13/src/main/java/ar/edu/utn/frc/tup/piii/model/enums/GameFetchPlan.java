@@ -0,0 +1,12 @@
+package ar.edu.utn.frc.tup.piii.model.enums;
+
+/**
+ * Qué partes de la partida se cargan y mapean.
+ * LOBBY: datos de la partida y jugadores. BOARD: además los territorios (lo que usa la lógica
+ * de juego). FULL: además mazo, eventos y chat (la respuesta completa al cliente).
+ */
+public enum GameFetchPlan {
+    LOBBY,
+    BOARD,
+    FULL
+}
@@ -0,0 +1,12 @@
+package ar.edu.utn.frc.tup.piii.model.enums;
+
+public enum GameStreamEventType {
+    PHASE_CHANGED,
+    COMBAT_RESULT,
+    REINFORCEMENT_PLACED,
+    TERRITORY_CONQUERED,
+    PLAYER_ELIMINATED,
+    TURN_ADVANCED,
+    BOT_TURN_COMPLETED,
+    CHAT_MESSAGE
+}
@@ -19,9 +19,6 @@ public interface CardRepository extends JpaRepository<CardEntity, Long> {
     List<CardEntity> findByGameAndOwnerIsNull(GameEntity game);
     List<CardEntity> findByOwnerAndType(PlayerEntity owner, CardType type);
 
-    @Query("SELECT c FROM CardEntity c WHERE c.game = :game AND c.isInDeck = true ORDER BY FUNCTION('RAND')")
-    List<CardEntity> findAvailableCardsRandomOrder(@Param("game") GameEntity game);
-
     @Query("SELECT COUNT(c) FROM CardEntity c WHERE c.owner = :player")
     Long countCardsByPlayer(@Param("player") PlayerEntity player);
 
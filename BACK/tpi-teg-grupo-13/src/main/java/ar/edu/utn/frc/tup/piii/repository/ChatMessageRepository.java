@@ -3,6 +3,7 @@ package ar.edu.utn.frc.tup.piii.repository;
 import ar.edu.utn.frc.tup.piii.entities.ChatMessageEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -31,4 +32,9 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessageEntity,
 
     @Query("SELECT COUNT(cm) FROM ChatMessageEntity cm WHERE cm.sender = :player")
     Long countMessagesBySender(@Param("player") PlayerEntity player);
+
+    // Filas [id, senderId, content, sentAt, isSystemMessage] de la partida, de la más nueva a la más vieja
+    @Query("SELECT cm.id, cm.sender.id, cm.content, cm.sentAt, cm.isSystemMessage FROM ChatMessageEntity cm " +
+            "WHERE cm.game.id = :gameId ORDER BY cm.id DESC")
+    List<Object[]> findRecentRowsByGameId(@Param("gameId") Long gameId, Pageable pageable);
 }
\ No newline at end of file
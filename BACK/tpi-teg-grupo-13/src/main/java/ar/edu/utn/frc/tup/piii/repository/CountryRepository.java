@@ -39,4 +39,8 @@ public interface CountryRepository extends JpaRepository<CountryEntity, Long> {
 
     @Query("SELECT c FROM CountryEntity c JOIN c.neighbors n WHERE n.id = :countryId")
     List<CountryEntity> findCountriesThatHaveAsNeighbor(@Param("countryId") Long countryId);
+
+    // Pares (country_id, neighbor_id) tal cual están en country_neighbors, para armar el WorldMap
+    @Query("SELECT c.id, n.id FROM CountryEntity c JOIN c.neighbors n")
+    List<Object[]> findAllNeighborPairs();
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package ar.edu.utn.frc.tup.piii.repository;
+
+import ar.edu.utn.frc.tup.piii.entities.GameEventCountEntity;
+import ar.edu.utn.frc.tup.piii.model.enums.EventType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GameEventCountRepository extends JpaRepository<GameEventCountEntity, Long> {
+    List<GameEventCountEntity> findByGameId(Long gameId);
+    Optional<GameEventCountEntity> findByGameIdAndEventType(Long gameId, EventType eventType);
+}
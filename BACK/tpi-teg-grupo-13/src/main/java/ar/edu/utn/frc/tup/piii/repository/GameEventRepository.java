@@ -4,6 +4,7 @@ import ar.edu.utn.frc.tup.piii.entities.GameEventEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
 import ar.edu.utn.frc.tup.piii.model.enums.EventType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface GameEventRepository extends JpaRepository<GameEventEntity, Long> {
@@ -18,6 +20,9 @@ public interface GameEventRepository extends JpaRepository<GameEventEntity, Long
     List<GameEventEntity> findByActor(PlayerEntity actor);
     List<GameEventEntity> findByType(EventType type);
     List<GameEventEntity> findByGameAndTurnNumber(GameEntity game, Integer turnNumber);
+    List<GameEventEntity> findByGameIdAndTypeOrderByTimestampDesc(Long gameId, EventType type);
+    Optional<GameEventEntity> findFirstByGameIdAndTypeOrderByTimestampDesc(Long gameId, EventType type);
+    List<GameEventEntity> findByGameIdAndActorIdOrderByIdDesc(Long gameId, Long actorId);
 
     @Query("SELECT ge FROM GameEventEntity ge WHERE ge.game = :game ORDER BY ge.timestamp DESC")
     List<GameEventEntity> findByGameOrderByTimestampDesc(@Param("game") GameEntity game);
@@ -33,4 +38,30 @@ public interface GameEventRepository extends JpaRepository<GameEventEntity, Long
 
     @Query("SELECT COUNT(ge) FROM GameEventEntity ge WHERE ge.actor = :player AND ge.type = 'TERRITORY_CONQUERED'")
     Long countConquestsByPlayer(@Param("player") PlayerEntity player);
-}
\ No newline at end of file
+
+    /**
+     * Conquistas de cada jugador en un número de turno de la partida: filas [actorId, cantidad].
+     */
+    @Query("SELECT ge.actor.id, COUNT(ge) FROM GameEventEntity ge WHERE ge.game.id = :gameId " +
+            "AND ge.turnNumber = :turnNumber AND ge.type = 'TERRITORY_CONQUERED' AND ge.actor IS NOT NULL " +
+            "GROUP BY ge.actor.id")
+    List<Object[]> countConquestsByActorInTurn(@Param("gameId") Long gameId, @Param("turnNumber") Integer turnNumber);
+
+    /**
+     * Página del historial de una partida con id menor a {@code beforeId} (desde el más nuevo si
+     * es null), del más nuevo al más viejo. Los filtros en null no se aplican. El actor viene
+     * con su usuario o bot para armar el nombre sin más consultas.
+     */
+    @Query("SELECT ge FROM GameEventEntity ge LEFT JOIN FETCH ge.actor a LEFT JOIN FETCH a.user " +
+            "LEFT JOIN FETCH a.botProfile WHERE ge.game.id = :gameId " +
+            "AND (:beforeId IS NULL OR ge.id < :beforeId) " +
+            "AND (:type IS NULL OR ge.type = :type) " +
+            "AND (:actorId IS NULL OR ge.actor.id = :actorId) " +
+            "AND (:fromTurn IS NULL OR ge.turnNumber >= :fromTurn) " +
+            "AND (:toTurn IS NULL OR ge.turnNumber <= :toTurn) " +
+            "ORDER BY ge.id DESC")
+    List<GameEventEntity> findPage(@Param("gameId") Long gameId, @Param("beforeId") Long beforeId,
+                                   @Param("type") EventType type, @Param("actorId") Long actorId,
+                                   @Param("fromTurn") Integer fromTurn, @Param("toTurn") Integer toTurn,
+                                   Pageable pageable);
+}
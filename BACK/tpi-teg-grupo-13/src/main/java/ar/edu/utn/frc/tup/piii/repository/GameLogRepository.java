@@ -0,0 +1,29 @@
+package ar.edu.utn.frc.tup.piii.repository;
+
+import ar.edu.utn.frc.tup.piii.entities.GameLogEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GameLogRepository extends JpaRepository<GameLogEntity, Long> {
+
+    @Query("SELECT MAX(l.sequence) FROM GameLogEntity l WHERE l.game.id = :gameId")
+    Optional<Long> findMaxSequenceByGameId(@Param("gameId") Long gameId);
+
+    @Query("SELECT l.turnNumber FROM GameLogEntity l WHERE l.game.id = :gameId ORDER BY l.sequence DESC LIMIT 1")
+    Optional<Integer> findLastTurnNumberByGameId(@Param("gameId") Long gameId);
+
+    @Query("SELECT MAX(l.sequence) FROM GameLogEntity l WHERE l.game.id = :gameId AND l.turnNumber <= :turnNumber")
+    Optional<Long> findLastSequenceUpToTurn(@Param("gameId") Long gameId, @Param("turnNumber") Integer turnNumber);
+
+    @Query("SELECT l FROM GameLogEntity l WHERE l.game.id = :gameId " +
+            "AND l.sequence > :afterSequence AND l.sequence <= :toSequence ORDER BY l.sequence")
+    List<GameLogEntity> findRange(@Param("gameId") Long gameId,
+                                  @Param("afterSequence") Long afterSequence,
+                                  @Param("toSequence") Long toSequence);
+}
@@ -0,0 +1,12 @@
+package ar.edu.utn.frc.tup.piii.repository;
+
+import ar.edu.utn.frc.tup.piii.entities.GameRandomDrawEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GameRandomDrawRepository extends JpaRepository<GameRandomDrawEntity, Long> {
+    List<GameRandomDrawEntity> findByGameId(Long gameId);
+}
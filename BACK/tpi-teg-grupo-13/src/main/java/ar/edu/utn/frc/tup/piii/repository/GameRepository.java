@@ -1,12 +1,15 @@
 package ar.edu.utn.frc.tup.piii.repository;
 
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
+import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
 import ar.edu.utn.frc.tup.piii.entities.UserEntity;
+import ar.edu.utn.frc.tup.piii.model.enums.GameFetchPlan;
 import ar.edu.utn.frc.tup.piii.model.enums.GameState;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -39,9 +42,88 @@ public interface GameRepository extends JpaRepository<GameEntity, Long> {
     @Query("SELECT g FROM GameEntity g LEFT JOIN FETCH g.players WHERE g.gameCode = :gameCode")
     Optional<GameEntity> findByGameCode(@Param("gameCode") String gameCode);
 
+    @Query("SELECT g.id FROM GameEntity g WHERE g.gameCode = :gameCode")
+    Optional<Long> findIdByGameCode(@Param("gameCode") String gameCode);
+
+    @Query("SELECT g.randomSeed FROM GameEntity g WHERE g.id = :gameId")
+    Optional<Long> findRandomSeedById(@Param("gameId") Long gameId);
+
+    // Fila [currentTurn, startedAt, finishedAt] para las estadísticas, sin cargar la partida
+    @Query("SELECT g.currentTurn, g.startedAt, g.finishedAt FROM GameEntity g WHERE g.id = :gameId")
+    List<Object[]> findTimelineById(@Param("gameId") Long gameId);
+
+    // Partidas en curso con algún bot, para el barrido del planificador de turnos de bots
+    @Query("SELECT DISTINCT g.gameCode FROM GameEntity g JOIN g.players p " +
+            "WHERE g.status IN :statuses AND p.botProfile IS NOT NULL")
+    List<String> findGameCodesWithBotsByStatusIn(@Param("statuses") List<GameState> statuses);
+
     @Query("SELECT g FROM GameEntity g " + "LEFT JOIN FETCH g.createdBy " + "LEFT JOIN FETCH g.players " + "WHERE g.gameCode = :gameCode")
     Optional<GameEntity> findForSettings(@Param("gameCode") String gameCode);
 
 
     List<GameEntity> findByCreatedByIdOrderByCreatedAtDesc(Long userId);
+
+    // Carga por plan: cada colección se trae con su propio fetch join (Hibernate no permite
+    // traer varias listas en una misma consulta) y quedan inicializadas en la misma entidad.
+
+    @Query("SELECT g FROM GameEntity g LEFT JOIN FETCH g.createdBy LEFT JOIN FETCH g.players p " +
+            "LEFT JOIN FETCH p.user LEFT JOIN FETCH p.botProfile LEFT JOIN FETCH p.objective " +
+            "WHERE g.gameCode = :gameCode")
+    Optional<GameEntity> findWithPlayersByGameCode(@Param("gameCode") String gameCode);
+
+    @Query("SELECT g FROM GameEntity g LEFT JOIN FETCH g.createdBy LEFT JOIN FETCH g.players p " +
+            "LEFT JOIN FETCH p.user LEFT JOIN FETCH p.botProfile LEFT JOIN FETCH p.objective " +
+            "WHERE g.id = :gameId")
+    Optional<GameEntity> findWithPlayersById(@Param("gameId") Long gameId);
+
+    @Query("SELECT p FROM PlayerEntity p LEFT JOIN FETCH p.territories WHERE p.game.id = :gameId")
+    List<PlayerEntity> fetchPlayerTerritories(@Param("gameId") Long gameId);
+
+    @Query("SELECT p FROM PlayerEntity p LEFT JOIN FETCH p.hand h LEFT JOIN FETCH h.country WHERE p.game.id = :gameId")
+    List<PlayerEntity> fetchPlayerHands(@Param("gameId") Long gameId);
+
+    @Query("SELECT g FROM GameEntity g LEFT JOIN FETCH g.territories t LEFT JOIN FETCH t.country c " +
+            "LEFT JOIN FETCH c.continent LEFT JOIN FETCH t.owner WHERE g.id = :gameId")
+    Optional<GameEntity> fetchTerritories(@Param("gameId") Long gameId);
+
+    @Query("SELECT g FROM GameEntity g LEFT JOIN FETCH g.deck d LEFT JOIN FETCH d.country WHERE g.id = :gameId")
+    Optional<GameEntity> fetchDeck(@Param("gameId") Long gameId);
+
+    @Query("SELECT g FROM GameEntity g LEFT JOIN FETCH g.events e LEFT JOIN FETCH e.actor WHERE g.id = :gameId")
+    Optional<GameEntity> fetchEvents(@Param("gameId") Long gameId);
+
+    @Query("SELECT g FROM GameEntity g LEFT JOIN FETCH g.chatMessages m LEFT JOIN FETCH m.sender WHERE g.id = :gameId")
+    Optional<GameEntity> fetchChatMessages(@Param("gameId") Long gameId);
+
+    /**
+     * Partida con lo que necesita el plan, en una cantidad fija de consultas
+     * (3 para LOBBY, 4 para BOARD y 7 para FULL) sin importar el tamaño del mapa.
+     */
+    @Transactional(readOnly = true)
+    default Optional<GameEntity> findByGameCode(String gameCode, GameFetchPlan plan) {
+        Optional<GameEntity> game = findWithPlayersByGameCode(gameCode);
+        game.ifPresent(g -> fetchCollections(g.getId(), plan));
+        return game;
+    }
+
+    @Transactional(readOnly = true)
+    default Optional<GameEntity> findById(Long gameId, GameFetchPlan plan) {
+        Optional<GameEntity> game = findWithPlayersById(gameId);
+        game.ifPresent(g -> fetchCollections(g.getId(), plan));
+        return game;
+    }
+
+    private void fetchCollections(Long gameId, GameFetchPlan plan) {
+        fetchPlayerTerritories(gameId);
+        fetchPlayerHands(gameId);
+        if (plan == GameFetchPlan.LOBBY) {
+            return;
+        }
+        fetchTerritories(gameId);
+        if (plan == GameFetchPlan.FULL) {
+            fetchDeck(gameId);
+            fetchEvents(gameId);
+            fetchChatMessages(gameId);
+        }
+    }
 }
@@ -26,6 +26,10 @@ public interface GameSnapshotRepository extends JpaRepository<GameSnapshotEntity
     @Query("SELECT gs FROM GameSnapshotEntity gs WHERE gs.createdAt < :cutoffTime AND gs.createdBySystem = true")
     List<GameSnapshotEntity> findOldAutoSnapshots(@Param("cutoffTime") LocalDateTime cutoffTime);
 
+    @Query("SELECT gs FROM GameSnapshotEntity gs WHERE gs.game.id = :gameId AND gs.eventSequence <= :sequence " +
+            "ORDER BY gs.eventSequence DESC, gs.id DESC LIMIT 1")
+    Optional<GameSnapshotEntity> findNearestSnapshot(@Param("gameId") Long gameId, @Param("sequence") Long sequence);
+
     @Query("SELECT COUNT(gs) FROM GameSnapshotEntity gs WHERE gs.game = :game")
     Long countSnapshotsByGame(@Param("game") GameEntity game);
 }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +34,20 @@ public interface GameTerritoryRepository extends JpaRepository<GameTerritoryEnti
 
     @Query("SELECT gt FROM GameTerritoryEntity gt WHERE gt.game = :game AND gt.country.continent.name = :continentName")
     List<GameTerritoryEntity> findTerritoriesByContinentName(@Param("game") GameEntity game, @Param("continentName") String continentName);
+
+    // Pares (country_id, player_id) de la partida, para armar el OwnershipIndex sin cargar entidades
+    @Query("SELECT gt.country.id, o.id FROM GameTerritoryEntity gt LEFT JOIN gt.owner o WHERE gt.game.id = :gameId")
+    List<Object[]> findOwnershipByGameId(@Param("gameId") Long gameId);
+
+    // Filas (country_id, player_id, armies) de la partida, para armar el HotGame
+    @Query("SELECT gt.country.id, o.id, gt.armies FROM GameTerritoryEntity gt LEFT JOIN gt.owner o WHERE gt.game.id = :gameId")
+    List<Object[]> findTerritoryStateByGameId(@Param("gameId") Long gameId);
+
+    // Filas (player_id, territorios, ejércitos) de cada jugador con países en la partida, para las estadísticas
+    @Query("SELECT o.id, COUNT(gt), SUM(gt.armies) FROM GameTerritoryEntity gt JOIN gt.owner o " +
+            "WHERE gt.game.id = :gameId GROUP BY o.id")
+    List<Object[]> countTerritoriesAndArmiesByOwner(@Param("gameId") Long gameId);
+
+    @Query("SELECT gt FROM GameTerritoryEntity gt WHERE gt.game.id = :gameId AND gt.country.id IN :countryIds")
+    List<GameTerritoryEntity> findByGameIdAndCountryIds(@Param("gameId") Long gameId, @Param("countryIds") Collection<Long> countryIds);
 }
\ No newline at end of file
@@ -42,4 +42,22 @@ public interface PlayerRepository extends JpaRepository<PlayerEntity, Long> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE PlayerEntity p SET p.armiesToPlace = GREATEST(0, p.armiesToPlace - :armies) WHERE p.id = :playerId")
     void removeArmiesToPlace(@Param("playerId") Long playerId, @Param("armies") int armies);
-}
\ No newline at end of file
+
+    // Lee la columna y no la entidad: addArmiesToPlace no limpia el contexto de persistencia
+    @Query("SELECT p.armiesToPlace FROM PlayerEntity p WHERE p.id = :playerId")
+    Optional<Integer> findArmiesToPlaceById(@Param("playerId") Long playerId);
+
+    // Pares [id, armiesToPlace] de los jugadores de la partida, por el mismo motivo
+    @Query("SELECT p.id, p.armiesToPlace FROM PlayerEntity p WHERE p.game.id = :gameId")
+    List<Object[]> findArmiesToPlaceByGameId(@Param("gameId") Long gameId);
+
+    // Ternas [id, username, botName] de los jugadores de la partida, para el nombre en el chat
+    @Query("SELECT p.id, u.username, b.botName FROM PlayerEntity p LEFT JOIN p.user u LEFT JOIN p.botProfile b " +
+            "WHERE p.game.id = :gameId")
+    List<Object[]> findChatNamesByGameId(@Param("gameId") Long gameId);
+
+    // Filas [id, status, color, tipo de objetivo, target_data] en orden de asiento, para evaluar objetivos
+    @Query("SELECT p.id, p.status, p.color, o.type, o.targetData FROM PlayerEntity p LEFT JOIN p.objective o " +
+            "WHERE p.game.id = :gameId ORDER BY p.seatOrder")
+    List<Object[]> findObjectiveRowsByGameId(@Param("gameId") Long gameId);
+}
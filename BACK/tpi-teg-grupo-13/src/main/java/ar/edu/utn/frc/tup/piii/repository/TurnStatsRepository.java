@@ -0,0 +1,12 @@
+package ar.edu.utn.frc.tup.piii.repository;
+
+import ar.edu.utn.frc.tup.piii.entities.TurnStatsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TurnStatsRepository extends JpaRepository<TurnStatsEntity, Long> {
+    List<TurnStatsEntity> findByGameIdAndTurnNumber(Long gameId, Integer turnNumber);
+}
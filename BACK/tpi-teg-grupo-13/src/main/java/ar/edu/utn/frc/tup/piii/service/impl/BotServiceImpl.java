@@ -3,16 +3,20 @@ package ar.edu.utn.frc.tup.piii.service.impl;
 import ar.edu.utn.frc.tup.piii.FactoryBots.BotStrategyExecutor;
 import ar.edu.utn.frc.tup.piii.FactoryBots.BotStrategyFactory;
 import ar.edu.utn.frc.tup.piii.dtos.game.GameResponseDto;
+import ar.edu.utn.frc.tup.piii.engine.ReferenceDataCache;
 import ar.edu.utn.frc.tup.piii.entities.BotProfileEntity;
 import ar.edu.utn.frc.tup.piii.entities.CountryEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
+import ar.edu.utn.frc.tup.piii.exceptions.GameNotFoundException;
 import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
 import ar.edu.utn.frc.tup.piii.mappers.PlayerMapper;
 import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.Player;
 import ar.edu.utn.frc.tup.piii.model.enums.BotLevel;
+import ar.edu.utn.frc.tup.piii.model.enums.GameFetchPlan;
 import ar.edu.utn.frc.tup.piii.repository.BotProfileRepository;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
 import ar.edu.utn.frc.tup.piii.service.interfaces.BotService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameStateService;
@@ -37,11 +41,14 @@ public class BotServiceImpl implements BotService {
 
     private final BotStrategyFactory botStrategyFactory;
     private final BotProfileRepository botProfileRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Autowired
-    public BotServiceImpl(BotStrategyFactory botStrategyFactory, BotProfileRepository botProfileRepository) {
+    public BotServiceImpl(BotStrategyFactory botStrategyFactory, BotProfileRepository botProfileRepository,
+                          ReferenceDataCache referenceDataCache) {
         this.botStrategyFactory = botStrategyFactory;
         this.botProfileRepository = botProfileRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Autowired
@@ -58,6 +65,9 @@ public class BotServiceImpl implements BotService {
 
     @Autowired
     private PlayerMapper playerMapper;
+
+    @Autowired
+    private GameRepository gameRepository;
     /**
      * Ejecuta el turno completo de un bot: Refuerzo -> Ataque -> Fortificación.
      * Los bots siempre ejecutan todas las fases automáticamente.
@@ -200,27 +210,30 @@ public class BotServiceImpl implements BotService {
 
     @Override
     public BotProfileEntity save(BotProfileEntity botProfile) {
-        return botProfileRepository.save(botProfile);
+        BotProfileEntity saved = botProfileRepository.save(botProfile);
+        referenceDataCache.evictBotProfiles();
+        return saved;
     }
 
     @Override
     public Optional<BotProfileEntity> findById(Long id) {
-        return botProfileRepository.findById(id);
+        return referenceDataCache.botProfile(id);
     }
 
     @Override
     public List<BotProfileEntity> findAll() {
-        return botProfileRepository.findAll();
+        return referenceDataCache.botProfiles();
     }
 
     @Override
     public List<BotProfileEntity> findByLevel(BotLevel level) {
-        return botProfileRepository.findByLevel(level);
+        return referenceDataCache.botProfilesByLevel(level);
     }
 
     @Override
     public void deleteById(Long id) {
         botProfileRepository.deleteById(id);
+        referenceDataCache.evictBotProfiles();
     }
 
     // ===============================
@@ -275,7 +288,11 @@ public class BotServiceImpl implements BotService {
 //        }
 
         PlayerEntity botEntity = playerMapper.toEntity(botPlayer);
-        GameEntity gameEntity = gameMapper.toEntity(game);
+        // La entidad se carga completa: toEntity solo copia los datos de la partida y los ejecutores
+        // la vuelven a mapear para validar turno y fase, aun después de que una actualización
+        // masiva de ejércitos limpie el contexto de persistencia
+        GameEntity gameEntity = gameRepository.findByGameCode(gameCode, GameFetchPlan.FULL)
+                .orElseThrow(() -> new GameNotFoundException("Game not found with code: " + gameCode));
 
         executeBotTurn(botEntity, gameEntity);
 
@@ -2,6 +2,9 @@ package ar.edu.utn.frc.tup.piii.service.impl;
 
 import ar.edu.utn.frc.tup.piii.dtos.card.CardResponseDto;
 import ar.edu.utn.frc.tup.piii.dtos.card.CardTradeDto;
+import ar.edu.utn.frc.tup.piii.engine.GameChange;
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
 import ar.edu.utn.frc.tup.piii.entities.CardEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
@@ -54,6 +57,12 @@ public class CardServiceImpl implements CardService {
     @Autowired
     private PlayerMapper playerMapper;
 
+    @Autowired
+    private GameEventStore gameEventStore;
+
+    @Autowired
+    private GameRandom gameRandom;
+
     // Configuración del juego TEG
     private static final int MAX_CARDS_ALLOWED = 5;
     private static final int MUST_TRADE_CARDS_THRESHOLD = 5;
@@ -149,8 +158,7 @@ public class CardServiceImpl implements CardService {
         }
 
         // Tomar una carta aleatoria en lugar de la primera
-        Collections.shuffle(availableCards);
-        Card card = availableCards.get(0);
+        Card card = availableCards.get(gameRandom.nextInt(game.getId(), GameRandom.Stream.CARDS, availableCards.size()));
 
         giveCardToPlayer(card, player);
         return card;
@@ -173,6 +181,7 @@ public class CardServiceImpl implements CardService {
             }
         }
 
+        gameRandom.shuffle(game.getId(), GameRandom.Stream.CARDS, availableCards);
         List<Card> drawnCards = availableCards.stream()
                 .limit(count)
                 .collect(Collectors.toList());
@@ -199,6 +208,7 @@ public class CardServiceImpl implements CardService {
         cardEntity.setOwner(playerEntity);
         cardEntity.setIsInDeck(false);
         cardRepository.save(cardEntity);
+        gameEventStore.append(cardEntity.getGame().getId(), new GameChange.CardDrawn(player.getId(), card.getId()));
     }
 
     @Override
@@ -231,6 +241,8 @@ public class CardServiceImpl implements CardService {
 
         // CALCULAR EL VALOR USANDO LA NUEVA LÓGICA
         int tradeValue = calculateTradeValue(playerEntity.getTradeCount());
+        gameEventStore.append(tradeDto.getGameId(),
+                new GameChange.CardsTraded(tradeDto.getPlayerId(), List.copyOf(tradeDto.getCardIds()), tradeValue));
 
         // Devolver las cartas al mazo
         returnCardsToDeck(cardsToTrade);
@@ -374,13 +386,14 @@ public class CardServiceImpl implements CardService {
         }
 
         GameEntity gameEntity = gameMapper.toEntity(game);
-        List<CardEntity> availableCards = cardRepository.findAvailableCardsRandomOrder(gameEntity);
+        List<CardEntity> availableCards = cardRepository.findByGameAndIsInDeckTrue(gameEntity);
 
         if (availableCards.isEmpty()) {
             throw new IllegalStateException("No cards available in deck");
         }
 
-        return cardMapper.toModel(availableCards.get(0));
+        return cardMapper.toModel(availableCards.get(
+                gameRandom.nextInt(game.getId(), GameRandom.Stream.CARDS, availableCards.size())));
     }
 
     @Override
@@ -411,7 +424,7 @@ public class CardServiceImpl implements CardService {
      */
     public void grantCardIfEligible(Player player, Game game) {
 
-        if (GameStateServiceImpl.hasPlayerConqueredThisTurn(game.getId(), player.getId())) {
+        if (gameStateServiceImpl.hasPlayerConqueredThisTurn(game, player.getId())) {
             drawCard(game, player);
         }
 
@@ -490,6 +503,7 @@ public class CardServiceImpl implements CardService {
         // Buscar el territorio por nombre y agregar ejércitos
         Territory territory = gameTerritoryService.getTerritoryByGameAndCountryName(gameId, countryName);
         gameTerritoryService.addArmiesToTerritory(gameId, territory.getId(), 2);
+        gameEventStore.append(gameId, new GameChange.ArmiesPlaced(playerId, Map.of(territory.getId(), 2), false));
     }
 
 }
\ No newline at end of file
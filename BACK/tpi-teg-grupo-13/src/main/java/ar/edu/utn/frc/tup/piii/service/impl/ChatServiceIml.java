@@ -2,16 +2,14 @@ package ar.edu.utn.frc.tup.piii.service.impl;
 
 import ar.edu.utn.frc.tup.piii.dtos.chat.ChatMessageDto;
 import ar.edu.utn.frc.tup.piii.dtos.chat.ChatMessageResponseDto;
+import ar.edu.utn.frc.tup.piii.engine.ChatBuffer;
+import ar.edu.utn.frc.tup.piii.engine.ChatMessageWriter;
 import ar.edu.utn.frc.tup.piii.entities.ChatMessageEntity;
-import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.mappers.ChatMessageMapper;
-import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
-import ar.edu.utn.frc.tup.piii.mappers.PlayerMapper;
-import ar.edu.utn.frc.tup.piii.model.Game;
-import ar.edu.utn.frc.tup.piii.model.Player;
+import ar.edu.utn.frc.tup.piii.model.enums.GameStreamEventType;
 import ar.edu.utn.frc.tup.piii.repository.ChatMessageRepository;
 import ar.edu.utn.frc.tup.piii.service.interfaces.ChatService;
-import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStreamService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -26,56 +24,30 @@ public class ChatServiceIml implements ChatService {
     ChatMessageRepository chatMessageRepository;
 
     @Autowired
-    PlayerServiceImpl playerService;
+    ChatBuffer chatBuffer;
 
     @Autowired
-    GameService gameService;
-
-    //mappers
-    @Autowired
-    PlayerMapper playerMapper;
+    ChatMessageWriter chatMessageWriter;
 
     @Autowired
-    GameMapper gameMapper;
+    GameStreamService gameStreamService;
 
+    //mappers
     @Autowired
     ChatMessageMapper chatMessageMapper;
 
     /**
-     * Envia mensaje de chat y lo setea a la lista de mensajes del juego.
+     * Envia mensaje de chat: lo agrega al buffer de la partida, lo encola para guardarlo
+     * y lo publica en el stream de la partida como CHAT_MESSAGE.
      * @param gameCode
      * @param messageDto
      * @return
      */
     @Override
     public ChatMessageResponseDto sendMessage(String gameCode, ChatMessageDto messageDto) {
-        Game gameFind = gameService.findByGameCode(gameCode);//busco juego por codigo
-        GameEntity gameEntity = gameMapper.toEntity(gameFind); //convierto a entity
-        if(gameEntity == null){
-            throw new IllegalArgumentException("Game not found with code: " + gameCode);
-        }
-        //busco el player que envia el mensaje
-        Optional<Player> sender = playerService.findById(messageDto.getSenderId());
-        if(!sender.isPresent()){
-            throw new IllegalArgumentException("Sender not found with id: " + messageDto.getSenderId());
-        }
-
-        //armo el ChatEntity
-        ChatMessageEntity chatEntity = new ChatMessageEntity();
-        chatEntity.setContent(messageDto.getContent());
-        chatEntity.setSender(playerMapper.toEntity(sender.get()));
-        chatEntity.setIsSystemMessage(false);
-        //agrego el mensaje a la lista de mensajes del juego
-        gameEntity.getChatMessages().add(chatEntity);
-        List<ChatMessageEntity> lst = gameEntity.getChatMessages();
-        gameEntity.setChatMessages(lst);
-
-        //recien ahi le seteo el juego al mensaje
-        chatEntity.setGame(gameEntity);
-
-        //mapeo a ChatMessageResponseDto
-        ChatMessageResponseDto responseDto = chatMessageMapper.toResponseDto(chatMessageMapper.toModel(chatEntity));
-        chatMessageRepository.save(chatEntity);
+        ChatMessageResponseDto responseDto = chatBuffer.append(gameCode, messageDto.getSenderId(), messageDto.getContent());
+        gameStreamService.publish(chatBuffer.gameId(gameCode), GameStreamEventType.CHAT_MESSAGE,
+                messageDto.getSenderId(), responseDto);
         return responseDto;
     }
 
@@ -85,6 +57,8 @@ public class ChatServiceIml implements ChatService {
      * Este método implementa un sistema de polling incremental para recuperar mensajes de chat.
      * En la primera llamada (sin sinceMessageId), devuelve todos los mensajes del juego.
      * En llamadas posteriores, devuelve solo los mensajes posteriores al ID especificado.
+     * Se responde desde {@link ChatBuffer}; solo se va a la base si el buffer ya no tiene
+     * los mensajes pedidos. Los mensajes nuevos llegan por el stream de la partida.
      *
      * @param gameCode El código único del juego del cual obtener los mensajes
      * @param sinceMessageId ID del último mensaje conocido. Si es null o vacío,
@@ -94,26 +68,27 @@ public class ChatServiceIml implements ChatService {
      * @return Lista de ChatMessageResponseDto con los mensajes solicitados,
      *         ordenados cronológicamente (más antiguos primero)
      *         */
-        @Override
+    @Override
     public List<ChatMessageResponseDto> getNewMessages(String gameCode, String sinceMessageId) {
-        // Buscar el juego
-        Game gameFind = gameService.findByGameCode(gameCode);
-        if (gameFind == null) {
-            throw new IllegalArgumentException("Game not found with code: " + gameCode);
+        Long messageIdLong = sinceMessageId == null || sinceMessageId.isEmpty() ? null : Long.parseLong(sinceMessageId);
+
+        // Lo habitual: los mensajes pedidos siguen en el buffer de la partida
+        Optional<List<ChatMessageResponseDto>> buffered = chatBuffer.since(gameCode, messageIdLong);
+        if (buffered.isPresent()) {
+            return buffered.get();
         }
 
+        // El buffer ya no tiene los más viejos: se leen de la base con lo encolado ya escrito
+        chatMessageWriter.flush();
+        Long gameId = chatBuffer.gameId(gameCode);
         List<ChatMessageEntity> messages;
 
-        if (sinceMessageId == null || sinceMessageId.isEmpty()) {
+        if (messageIdLong == null) {
             // Primera llamada: devolver TODOS los mensajes del juego
-            messages = chatMessageRepository.findByGameIdOrderBySentAtAsc(gameFind.getId());
+            messages = chatMessageRepository.findByGameIdOrderBySentAtAsc(gameId);
         } else {
             // Siguientes llamadas: devolver mensajes DESPUÉS del sinceMessageId
-            Long messageIdLong = Long.parseLong(sinceMessageId);
-            messages = chatMessageRepository.findByGameIdAndIdGreaterThanOrderBySentAtAsc(
-                    gameFind.getId(),
-                    messageIdLong
-            );
+            messages = chatMessageRepository.findByGameIdAndIdGreaterThanOrderBySentAtAsc(gameId, messageIdLong);
         }
 
         // Mapear a DTOs
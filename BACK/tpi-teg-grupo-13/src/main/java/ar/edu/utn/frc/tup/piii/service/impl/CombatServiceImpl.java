@@ -1,14 +1,26 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
 import ar.edu.utn.frc.tup.piii.dtos.game.AttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzAttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzResultDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.CombatResultDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.CombatRollDto;
+import ar.edu.utn.frc.tup.piii.engine.DiceOdds;
+import ar.edu.utn.frc.tup.piii.engine.GameChange;
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
+import ar.edu.utn.frc.tup.piii.engine.VictoryEvaluator;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameTerritoryEntity;
 import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
 import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.Territory;
+import ar.edu.utn.frc.tup.piii.model.enums.BlitzStopReason;
+import ar.edu.utn.frc.tup.piii.model.enums.GameStreamEventType;
 import ar.edu.utn.frc.tup.piii.service.interfaces.CombatService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameStateService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStreamService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.IGameEventService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameTerritoryService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,7 +43,20 @@ public class CombatServiceImpl implements CombatService {
     @Autowired
     private GameStateService gameStateService;
 
-    private final Random random = new Random();
+    @Autowired
+    private GameStreamService gameStreamService;
+
+    @Autowired
+    private IGameEventService gameEventService;
+
+    @Autowired
+    private GameEventStore gameEventStore;
+
+    @Autowired
+    private GameRandom gameRandom;
+
+    @Autowired
+    private VictoryEvaluator victoryEvaluator;
 
     @Override
     @Transactional
@@ -54,43 +79,190 @@ public class CombatServiceImpl implements CombatService {
         int defenderDiceCount = determineDefenderDice(defenderTerritory);
 
         // tirar dados
-        List<Integer> attackerDice = rollDice(attackerDiceCount);
-        List<Integer> defenderDice = rollDice(defenderDiceCount);
+        int[] attackerRoll = rollDice(game.getId(), attackerDiceCount);
+        int[] defenderRoll = rollDice(game.getId(), defenderDiceCount);
 
         // resolver combate
-        CombatResult combatResult = resolveCombat(attackerDice, defenderDice);
+        CombatResult combatResult = resolveCombat(attackerRoll, defenderRoll);
 
         // aplicar perdidas
-        applyLosses(game.getId(), attackDto, combatResult);
+        applyLosses(game.getId(), attackDto.getAttackerCountryId(), attackDto.getDefenderCountryId(), combatResult);
 
         //verificar conquista
         boolean territoryConquered = checkAndHandleConquest(game.getId(), attackDto, combatResult);
+        List<Integer> attackerDice = diceList(attackerRoll);
+        List<Integer> defenderDice = diceList(defenderRoll);
+        gameEventStore.append(game.getId(), new GameChange.AttackResolved(attackDto.getPlayerId(),
+                attackDto.getAttackerCountryId(), attackDto.getDefenderCountryId(), attackerDice, defenderDice,
+                combatResult.attackerLosses, combatResult.defenderLosses, territoryConquered, territoryConquered ? 1 : 0));
 
         // construir resultado
-        return buildCombatResultDto(
+        CombatResultDto result = buildCombatResultDto(
                 game.getId(),
                 attackerTerritory, defenderTerritory,
                 attackerDice, defenderDice,
                 combatResult, territoryConquered);
+
+        // avisar a los clientes conectados al stream
+        gameStreamService.publish(game, GameStreamEventType.COMBAT_RESULT, attackDto.getPlayerId(), result);
+        if (territoryConquered) {
+            publishConquest(game, attackDto.getPlayerId(), defenderTerritory);
+            finishIfObjectiveCompleted(game);
+        }
+
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public BlitzResultDto performBlitz(String gameCode, BlitzAttackDto blitzDto) {
+        Game game = gameService.findByGameCode(gameCode);
+        validateGameStateForCombat(game);
+
+        Territory attackerTerritory = gameTerritoryService.getTerritoryByGameAndCountry(
+                game.getId(), blitzDto.getAttackerCountryId());
+        Territory defenderTerritory = gameTerritoryService.getTerritoryByGameAndCountry(
+                game.getId(), blitzDto.getDefenderCountryId());
+
+        validateAttackTerritories(blitzDto.getPlayerId(), blitzDto.getAttackerCountryId(),
+                blitzDto.getDefenderCountryId(), attackerTerritory, defenderTerritory);
+
+        int stopAtArmies = blitzDto.getStopAtArmies() != null ? Math.max(1, blitzDto.getStopAtArmies()) : 1;
+        if (attackerTerritory.getArmies() <= stopAtArmies) {
+            throw new IllegalArgumentException(String.format(
+                    "Attacking territory has %d armies, already at the stop threshold of %d",
+                    attackerTerritory.getArmies(), stopAtArmies));
+        }
+
+        // Las tiradas se resuelven en memoria; la base se toca una sola vez al final
+        int attackerArmies = attackerTerritory.getArmies();
+        int defenderArmies = defenderTerritory.getArmies();
+        int totalAttackerLosses = 0;
+        int totalDefenderLosses = 0;
+        List<CombatRollDto> rolls = new ArrayList<>();
+
+        while (defenderArmies > 0 && attackerArmies > stopAtArmies) {
+            int[] attackerRoll = rollDice(game.getId(), Math.min(3, attackerArmies - 1));
+            int[] defenderRoll = rollDice(game.getId(), Math.min(3, defenderArmies));
+            CombatResult combatResult = resolveCombat(attackerRoll, defenderRoll);
+
+            attackerArmies -= combatResult.attackerLosses;
+            defenderArmies -= combatResult.defenderLosses;
+            totalAttackerLosses += combatResult.attackerLosses;
+            totalDefenderLosses += combatResult.defenderLosses;
+            boolean conqueredNow = defenderArmies <= 0;
+
+            List<Integer> attackerDice = diceList(attackerRoll);
+            List<Integer> defenderDice = diceList(defenderRoll);
+            // Una entrada por tirada, igual que en performCombat, para que el replay vea cada una
+            gameEventStore.append(game.getId(), new GameChange.AttackResolved(blitzDto.getPlayerId(),
+                    blitzDto.getAttackerCountryId(), blitzDto.getDefenderCountryId(), attackerDice, defenderDice,
+                    combatResult.attackerLosses, combatResult.defenderLosses, conqueredNow, conqueredNow ? 1 : 0));
+
+            rolls.add(CombatRollDto.builder()
+                    .attackerDice(attackerDice)
+                    .defenderDice(defenderDice)
+                    .attackerLosses(combatResult.attackerLosses)
+                    .defenderLosses(combatResult.defenderLosses)
+                    .attackerArmies(attackerArmies)
+                    .defenderArmies(Math.max(defenderArmies, 0))
+                    .build());
+        }
+
+        boolean territoryConquered = defenderArmies <= 0;
+        BlitzStopReason stopReason;
+        if (territoryConquered) {
+            // Pasa 1 ejército al país conquistado, como en performCombat
+            gameTerritoryService.addArmiesToTerritory(
+                    game.getId(), blitzDto.getAttackerCountryId(), -(totalAttackerLosses + 1));
+            gameTerritoryService.transferTerritoryOwnership(
+                    game.getId(), blitzDto.getDefenderCountryId(), blitzDto.getPlayerId(), 1);
+            attackerArmies -= 1;
+            defenderArmies = 1;
+            stopReason = BlitzStopReason.TERRITORY_CONQUERED;
+        } else {
+            applyLosses(game.getId(), blitzDto.getAttackerCountryId(), blitzDto.getDefenderCountryId(),
+                    new CombatResult(totalAttackerLosses, totalDefenderLosses));
+            stopReason = attackerArmies <= 1 ? BlitzStopReason.CANNOT_ATTACK : BlitzStopReason.STOP_THRESHOLD_REACHED;
+        }
+
+        BlitzResultDto result = BlitzResultDto.builder()
+                .attackerCountryId(attackerTerritory.getId())
+                .attackerCountryName(attackerTerritory.getName())
+                .defenderCountryId(defenderTerritory.getId())
+                .defenderCountryName(defenderTerritory.getName())
+                .attackerPlayerName(attackerTerritory.getOwnerName())
+                .defenderPlayerName(defenderTerritory.getOwnerName())
+                .rolls(rolls)
+                .attackerLosses(totalAttackerLosses)
+                .defenderLosses(totalDefenderLosses)
+                .territoryConquered(territoryConquered)
+                .stopReason(stopReason)
+                .attackerRemainingArmies(attackerArmies)
+                .defenderRemainingArmies(defenderArmies)
+                .build();
+
+        gameStreamService.publish(game, GameStreamEventType.COMBAT_RESULT, blitzDto.getPlayerId(), result);
+        if (territoryConquered) {
+            publishConquest(game, blitzDto.getPlayerId(), defenderTerritory);
+            finishIfObjectiveCompleted(game);
+        }
+
+        return result;
+    }
+
+    /**
+     * Termina la partida si con la conquista alguien cumplió su objetivo. VictoryEvaluator ya
+     * recibió el cambio de dueño, así que es leer un contador.
+     */
+    private void finishIfObjectiveCompleted(Game game) {
+        if (victoryEvaluator.winner(game.getId()).isPresent() && gameStateService.finishGame(game)) {
+            gameService.save(game);
+        }
+    }
+
+    private void publishConquest(Game game, Long playerId, Territory defenderTerritory) {
+        // El evento se encola al confirmar la conquista: de él se reconstruyen
+        // las conquistas del turno si el servidor se reinicia
+        gameEventService.recordTerritoryConquest(game.getId(), playerId,
+                defenderTerritory.getName(), defenderTerritory.getOwnerName(), game.getCurrentTurn());
+
+        Map<String, Object> conquest = new HashMap<>();
+        conquest.put("countryId", defenderTerritory.getId());
+        conquest.put("countryName", defenderTerritory.getName());
+        conquest.put("previousOwnerId", defenderTerritory.getOwnerId());
+        gameStreamService.publish(game, GameStreamEventType.TERRITORY_CONQUERED, playerId, conquest);
     }
 
 
     private void validateAttack(Game game, AttackDto attackDto, Territory attacker, Territory defender) {
+        validateAttackTerritories(attackDto.getPlayerId(), attackDto.getAttackerCountryId(),
+                attackDto.getDefenderCountryId(), attacker, defender);
+
+        int maxAttackingArmies = attacker.getArmies() - 1; // Debe dejar al menos 1
+        if (attackDto.getAttackingArmies() < 1 || attackDto.getAttackingArmies() > maxAttackingArmies) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid attacking armies. Must be between 1 and %d", maxAttackingArmies));
+        }
+    }
+
+    private void validateAttackTerritories(Long playerId, Long attackerCountryId, Long defenderCountryId,
+                                           Territory attacker, Territory defender) {
         // los territorios exist?
         if (attacker == null) {
-            throw new IllegalArgumentException("Attacker territory not found: " + attackDto.getAttackerCountryId());
+            throw new IllegalArgumentException("Attacker territory not found: " + attackerCountryId);
         }
         if (defender == null) {
-            throw new IllegalArgumentException("Defender territory not found: " + attackDto.getDefenderCountryId());
+            throw new IllegalArgumentException("Defender territory not found: " + defenderCountryId);
         }
 
         // el pais desde el que ataca es suyo?
-        if (!attackDto.getPlayerId().equals(attacker.getOwnerId())) {
+        if (!playerId.equals(attacker.getOwnerId())) {
             throw new IllegalArgumentException("Player doesn't own the attacking territory");
         }
 
         // es su propio territorio?
-        if (attackDto.getPlayerId().equals(defender.getOwnerId())) {
+        if (playerId.equals(defender.getOwnerId())) {
             throw new IllegalArgumentException("Cannot attack your own territory");
         }
 
@@ -103,12 +275,6 @@ public class CombatServiceImpl implements CombatService {
         if (attacker.getArmies() <= 1) {
             throw new IllegalArgumentException("Attacking territory must have more than 1 army");
         }
-
-        int maxAttackingArmies = attacker.getArmies() - 1; // Debe dejar al menos 1
-        if (attackDto.getAttackingArmies() < 1 || attackDto.getAttackingArmies() > maxAttackingArmies) {
-            throw new IllegalArgumentException(
-                    String.format("Invalid attacking armies. Must be between 1 and %d", maxAttackingArmies));
-        }
     }
 
 
@@ -129,26 +295,28 @@ public class CombatServiceImpl implements CombatService {
         return Math.min(3, defender.getArmies());
     }
 
-    private List<Integer> rollDice(int diceCount) {
-        return IntStream.range(0, diceCount)
-                .map(i -> random.nextInt(6) + 1) // Dados de 1-6
-                .boxed()
-                .sorted(Collections.reverseOrder())
-                .collect(Collectors.toList());
+    // Visibilidad de paquete para los benchmarks de resolución de dados
+    int[] rollDice(Long gameId, int diceCount) {
+        int[] dice = new int[diceCount];
+        for (int i = 0; i < diceCount; i++) {
+            dice[i] = gameRandom.nextInt(gameId, GameRandom.Stream.DICE, 6) + 1; // Dados de 1-6
+        }
+        DiceOdds.sortDescending(dice);
+        return dice;
     }
 
     //Resuelve el combate comparando dados
 
-    private CombatResult resolveCombat(List<Integer> attackerDice, List<Integer> defenderDice) {
+    CombatResult resolveCombat(int[] attackerDice, int[] defenderDice) {
         int attackerLosses = 0;
         int defenderLosses = 0;
 
         // Comparar dados de mayor a menor
-        int comparisons = Math.min(attackerDice.size(), defenderDice.size());
+        int comparisons = Math.min(attackerDice.length, defenderDice.length);
 
         for (int i = 0; i < comparisons; i++) {
-            int attackerRoll = attackerDice.get(i);
-            int defenderRoll = defenderDice.get(i);
+            int attackerRoll = attackerDice[i];
+            int defenderRoll = defenderDice[i];
 
             if (attackerRoll > defenderRoll) {
                 // Atacante gana
@@ -162,20 +330,29 @@ public class CombatServiceImpl implements CombatService {
         return new CombatResult(attackerLosses, defenderLosses);
     }
 
+    // Los dados se pasan a lista solo para la respuesta y el log de la partida
+    private static List<Integer> diceList(int[] dice) {
+        List<Integer> list = new ArrayList<>(dice.length);
+        for (int value : dice) {
+            list.add(value);
+        }
+        return list;
+    }
+
 
      //Aplica las perdidas de ejercitos a los territorios.
 
-    private void applyLosses(Long gameId, AttackDto attackDto, CombatResult result) {
+    private void applyLosses(Long gameId, Long attackerCountryId, Long defenderCountryId, CombatResult result) {
         // Reducir armis del atacante
         if (result.attackerLosses > 0) {
             gameTerritoryService.addArmiesToTerritory(
-                    gameId, attackDto.getAttackerCountryId(), -result.attackerLosses);
+                    gameId, attackerCountryId, -result.attackerLosses);
         }
 
         // Reducir armis del defensor
         if (result.defenderLosses > 0) {
             gameTerritoryService.addArmiesToTerritory(
-                    gameId, attackDto.getDefenderCountryId(), -result.defenderLosses);
+                    gameId, defenderCountryId, -result.defenderLosses);
         }
     }
 
@@ -248,7 +425,7 @@ public class CombatServiceImpl implements CombatService {
    //esta es una clase interna para el rsutado del combate, la llamariamos con CombatServiceImpl.CombatResult,
     //para llamarla aca adentro sin tener que instanciarla
 
-    private static class CombatResult {
+    static class CombatResult {
         final int attackerLosses;
         final int defenderLosses;
 
@@ -1,6 +1,9 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
 import ar.edu.utn.frc.tup.piii.dtos.game.FortifyDto;
+import ar.edu.utn.frc.tup.piii.engine.GameChange;
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
 import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
 import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.Territory;
@@ -26,6 +29,12 @@ public class FortificationServiceImpl implements FortificationService {
     @Autowired
     private GameTerritoryService gameTerritoryService;
 
+    @Autowired
+    private WorldMap worldMap;
+
+    @Autowired
+    private GameEventStore gameEventStore;
+
     @Override
     @Transactional
     public boolean performFortification(String gameCode, FortifyDto fortifyDto) {
@@ -41,19 +50,22 @@ public class FortificationServiceImpl implements FortificationService {
             }
 
             // 2. Realizar la transferencia de ejércitos
+            Long gameId = gameService.findByGameCode(gameCode).getId();
             // Quitar ejércitos del territorio origen
             gameTerritoryService.addArmiesToTerritory(
-                    gameService.findByGameCode(gameCode).getId(),
+                    gameId,
                     fortifyDto.getFromCountryId(),
                     -fortifyDto.getArmies()
             );
 
             // Añadir ejércitos al territorio destino
             gameTerritoryService.addArmiesToTerritory(
-                    gameService.findByGameCode(gameCode).getId(),
+                    gameId,
                     fortifyDto.getToCountryId(),
                     fortifyDto.getArmies()
             );
+            gameEventStore.append(gameId, new GameChange.ArmiesMoved(fortifyDto.getPlayerId(),
+                    fortifyDto.getFromCountryId(), fortifyDto.getToCountryId(), fortifyDto.getArmies()));
 
             log.info("Fortification completed successfully in game {}", gameCode);
             return true;
@@ -144,7 +156,7 @@ public class FortificationServiceImpl implements FortificationService {
                 .collect(Collectors.toSet());
 
         // Usar BFS para encontrar conexión
-        return findPathBFS(game.getId(), fromTerritoryId, toTerritoryId, playerTerritoryIds);
+        return findPathBFS(fromTerritoryId, toTerritoryId, playerTerritoryIds);
     }
 
     /**
@@ -169,41 +181,15 @@ public class FortificationServiceImpl implements FortificationService {
 
     /**
      * Utiliza búsqueda en anchura (BFS) para encontrar un camino entre dos territorios
-     * que pase solo por territorios del jugador.
+     * que pase solo por territorios del jugador. La búsqueda corre sobre el mapa en memoria,
+     * sin consultar los vecinos de cada territorio en la base de datos.
      */
-    private boolean findPathBFS(Long gameId, Long fromId, Long toId, Set<Long> playerTerritoryIds) {
+    private boolean findPathBFS(Long fromId, Long toId, Set<Long> playerTerritoryIds) {
         if (!playerTerritoryIds.contains(fromId) || !playerTerritoryIds.contains(toId)) {
             return false;
         }
 
-        Set<Long> visited = new HashSet<>();
-        Queue<Long> queue = new LinkedList<>();
-
-        queue.offer(fromId);
-        visited.add(fromId);
-
-        while (!queue.isEmpty()) {
-            Long currentId = queue.poll();
-
-            if (currentId.equals(toId)) {
-                return true; // Encontrado el destino
-            }
-
-            // Obtener vecinos del territorio actual
-            List<Territory> neighbors = gameTerritoryService.getNeighborTerritories(gameId, currentId);
-
-            for (Territory neighbor : neighbors) {
-                Long neighborId = neighbor.getId();
-
-                // Solo continuar si el vecino pertenece al jugador y no ha sido visitado
-                if (playerTerritoryIds.contains(neighborId) && !visited.contains(neighborId)) {
-                    visited.add(neighborId);
-                    queue.offer(neighborId);
-                }
-            }
-        }
-
-        return false; // No se encontró camino
+        return worldMap.isConnectedThrough(fromId, toId, playerTerritoryIds);
     }
 
     @Override
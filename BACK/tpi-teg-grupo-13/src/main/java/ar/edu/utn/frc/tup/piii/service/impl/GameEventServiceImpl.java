@@ -1,8 +1,10 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
+import ar.edu.utn.frc.tup.piii.dtos.game.PlayerStatisticsDto;
+import ar.edu.utn.frc.tup.piii.engine.GameEventWriter;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameEventEntity;
-import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
+import ar.edu.utn.frc.tup.piii.exceptions.GameNotFoundException;
 import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
 import ar.edu.utn.frc.tup.piii.mappers.PlayerMapper;
 import ar.edu.utn.frc.tup.piii.model.Game;
@@ -10,11 +12,15 @@ import ar.edu.utn.frc.tup.piii.model.Player;
 import ar.edu.utn.frc.tup.piii.model.enums.EventType;
 import ar.edu.utn.frc.tup.piii.repository.GameEventRepository;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStatisticsService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.IGameEventService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.PlayerService;
 import ar.edu.utn.frc.tup.piii.dtos.event.GameEventDto; // Import corregido
+import ar.edu.utn.frc.tup.piii.dtos.event.GameEventFilterDto;
+import ar.edu.utn.frc.tup.piii.dtos.event.GameEventPageDto;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -26,171 +32,186 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GameEventServiceImpl implements IGameEventService {
 
+    static final int MAX_PAGE_SIZE = 200;
+
     private final GameEventRepository gameEventRepository;
     private final GameService gameService;
     private final PlayerService playerService;
     private final GameMapper gameMapper;
     private final PlayerMapper playerMapper;
+    private final GameEventWriter gameEventWriter;
+    private final GameStatisticsService gameStatisticsService;
 
-    public GameEventServiceImpl(GameEventRepository gameEventRepository, GameService gameService, PlayerService playerService, GameMapper gameMapper, PlayerMapper playerMapper) {
+    public GameEventServiceImpl(GameEventRepository gameEventRepository, GameService gameService, PlayerService playerService, GameMapper gameMapper, PlayerMapper playerMapper, GameEventWriter gameEventWriter, GameStatisticsService gameStatisticsService) {
         this.gameEventRepository = gameEventRepository;
         this.gameService = gameService;
         this.playerService = playerService;
         this.gameMapper = gameMapper;
         this.playerMapper = playerMapper;
+        this.gameEventWriter = gameEventWriter;
+        this.gameStatisticsService = gameStatisticsService;
     }
 
     /**
-     * Registra un evento en el historial de la partida
+     * Registra un evento en el historial de la partida. Los ids se validan antes de encolar:
+     * si la partida no existe se lanza {@link GameNotFoundException}, y un actor que no es de la
+     * partida se registra sin actor, como antes. Así un id inválido no falla recién al escribir
+     * el lote.
+     * <p>
+     * Las conquistas se escriben en la transacción que las produce, porque de ellas se reconstruye
+     * {@link ar.edu.utn.frc.tup.piii.engine.TurnConquestStore}. Los demás eventos se encolan en
+     * {@link GameEventWriter} y se insertan en lote; el fin de turno espera a que todo lo
+     * pendiente esté escrito.
      */
-    public GameEventEntity recordEvent(Long gameId, Long actorId, EventType eventType,
-                                       Integer turnNumber, String eventData) {
-        Game game = gameService.findById(gameId);
-
-        PlayerEntity actor = null;
-        if (actorId != null) {
-            Optional<Player> optionalActor = playerService.findById(actorId);
-            if (optionalActor.isPresent()) {
-                actor = playerMapper.toEntity(optionalActor.get());
-            }
+    public void recordEvent(Long gameId, Long actorId, EventType eventType,
+                            Integer turnNumber, String eventData) {
+        if (gameId == null || !gameService.existsById(gameId)) {
+            throw new GameNotFoundException("Game not found with id: " + gameId);
+        }
+        Long validActorId = actorId;
+        if (actorId != null && !playerService.belongsToGame(actorId, gameId)) {
+            log.warn("Player {} is not part of game {}, recording {} without actor", actorId, gameId, eventType);
+            validActorId = null;
         }
 
-        GameEventEntity event = new GameEventEntity();
-        event.setGame(gameMapper.toEntity(game)); // Convertir Game a GameEntity
-        event.setActor(actor);
-        event.setType(eventType);
-        event.setTurnNumber(turnNumber);
-        event.setData(eventData);
-        event.setTimestamp(LocalDateTime.now());
-
-        GameEventEntity savedEvent = gameEventRepository.save(event);
-        log.info("Event recorded: {} for game {} by player {}", eventType, gameId, actorId);
-
-        return savedEvent;
+        GameEventWriter.PendingEvent pending = new GameEventWriter.PendingEvent(
+                gameId, validActorId, eventType, turnNumber, eventData, LocalDateTime.now());
+        if (eventType == EventType.TERRITORY_CONQUERED) {
+            gameEventWriter.writeNow(pending);
+        } else if (eventType == EventType.TURN_ENDED) {
+            gameEventWriter.appendAndFlush(pending);
+        } else {
+            gameEventWriter.append(pending);
+        }
+        log.debug("Event recorded: {} for game {} by player {}", eventType, gameId, validActorId);
     }
 
     /**
      * Registra una conquista de territorio
      */
-    public GameEventEntity recordTerritoryConquest(Long gameId, Long conquererPlayerId,
-                                                   String conqueredTerritory, String fromPlayer,
-                                                   Integer turnNumber) {
+    public void recordTerritoryConquest(Long gameId, Long conquererPlayerId,
+                                        String conqueredTerritory, String fromPlayer,
+                                        Integer turnNumber) {
         String eventData = String.format("{\"territory\":\"%s\", \"fromPlayer\":\"%s\"}",
                 conqueredTerritory, fromPlayer);
 
-        return recordEvent(gameId, conquererPlayerId, EventType.TERRITORY_CONQUERED,
+        recordEvent(gameId, conquererPlayerId, EventType.TERRITORY_CONQUERED,
                 turnNumber, eventData);
     }
 
     /**
      * Registra un ataque realizado
      */
-    public GameEventEntity recordAttack(Long gameId, Long attackerPlayerId,
-                                        String fromTerritory, String toTerritory,
-                                        Integer turnNumber, boolean successful) {
+    public void recordAttack(Long gameId, Long attackerPlayerId,
+                             String fromTerritory, String toTerritory,
+                             Integer turnNumber, boolean successful) {
         String eventData = String.format("{\"from\":\"%s\", \"to\":\"%s\", \"successful\":%b}",
                 fromTerritory, toTerritory, successful);
 
-        return recordEvent(gameId, attackerPlayerId, EventType.ATTACK_PERFORMED,
+        recordEvent(gameId, attackerPlayerId, EventType.ATTACK_PERFORMED,
                 turnNumber, eventData);
     }
 
     /**
      * Registra el inicio de turno de un jugador
      */
-    public GameEventEntity recordTurnStart(Long gameId, Long playerId, Integer turnNumber) {
-        return recordEvent(gameId, playerId, EventType.TURN_STARTED, turnNumber, null);
+    public void recordTurnStart(Long gameId, Long playerId, Integer turnNumber) {
+        recordEvent(gameId, playerId, EventType.TURN_STARTED, turnNumber, null);
     }
 
     /**
      * Registra el fin de turno de un jugador
      */
-    public GameEventEntity recordTurnEnd(Long gameId, Long playerId, Integer turnNumber) {
-        return recordEvent(gameId, playerId, EventType.TURN_ENDED, turnNumber, null);
+    public void recordTurnEnd(Long gameId, Long playerId, Integer turnNumber) {
+        recordEvent(gameId, playerId, EventType.TURN_ENDED, turnNumber, null);
     }
 
     /**
      * Registra el inicio de una partida
      */
     @Override
-    public GameEventEntity recordGameStart(Long gameId) {
-        return recordEvent(gameId, null, EventType.GAME_STARTED, 0, null);
+    public void recordGameStart(Long gameId) {
+        recordEvent(gameId, null, EventType.GAME_STARTED, 0, null);
     }
 
     /**
      * Registra el fin de una partida
      */
     @Override
-    public GameEventEntity recordGameFinish(Long gameId, Long winnerPlayerId) {
+    public void recordGameFinish(Long gameId, Long winnerPlayerId) {
         String eventData = winnerPlayerId != null ?
                 String.format("{\"winnerId\":%d}", winnerPlayerId) : null;
-        return recordEvent(gameId, winnerPlayerId, EventType.GAME_FINISHED, null, eventData);
+        recordEvent(gameId, winnerPlayerId, EventType.GAME_FINISHED, null, eventData);
     }
 
     /**
      * Registra cuando un jugador se une a la partida
      */
     @Override
-    public GameEventEntity recordPlayerJoined(Long gameId, Long playerId) {
-        return recordEvent(gameId, playerId, EventType.PLAYER_JOINED, null, null);
+    public void recordPlayerJoined(Long gameId, Long playerId) {
+        recordEvent(gameId, playerId, EventType.PLAYER_JOINED, null, null);
     }
 
     /**
      * Registra cuando un jugador abandona la partida
      */
     @Override
-    public GameEventEntity recordPlayerLeft(Long gameId, Long playerId) {
-        return recordEvent(gameId, playerId, EventType.PLAYER_LEFT, null, null);
+    public void recordPlayerLeft(Long gameId, Long playerId) {
+        recordEvent(gameId, playerId, EventType.PLAYER_LEFT, null, null);
     }
 
     /**
      * Registra cuando un jugador es eliminado
      */
     @Override
-    public GameEventEntity recordPlayerEliminated(Long gameId, Long eliminatedPlayerId, Long eliminatorPlayerId) {
+    public void recordPlayerEliminated(Long gameId, Long eliminatedPlayerId, Long eliminatorPlayerId) {
         String eventData = eliminatorPlayerId != null ?
                 String.format("{\"eliminatorId\":%d}", eliminatorPlayerId) : null;
-        return recordEvent(gameId, eliminatedPlayerId, EventType.PLAYER_ELIMINATED, null, eventData);
+        recordEvent(gameId, eliminatedPlayerId, EventType.PLAYER_ELIMINATED, null, eventData);
     }
 
     /**
      * Registra el intercambio de cartas
      */
     @Override
-    public GameEventEntity recordCardsTraded(Long gameId, Long playerId, Integer turnNumber, String cardsData) {
-        return recordEvent(gameId, playerId, EventType.CARDS_TRADED, turnNumber, cardsData);
+    public void recordCardsTraded(Long gameId, Long playerId, Integer turnNumber, String cardsData) {
+        recordEvent(gameId, playerId, EventType.CARDS_TRADED, turnNumber, cardsData);
     }
 
     /**
      * Registra la colocación de refuerzos
      */
     @Override
-    public GameEventEntity recordReinforcementsPlaced(Long gameId, Long playerId, String territory,
-                                                      Integer reinforcements, Integer turnNumber) {
+    public void recordReinforcementsPlaced(Long gameId, Long playerId, String territory,
+                                           Integer reinforcements, Integer turnNumber) {
         String eventData = String.format("{\"territory\":\"%s\", \"reinforcements\":%d}",
                 territory, reinforcements);
-        return recordEvent(gameId, playerId, EventType.REINFORCEMENTS_PLACED, turnNumber, eventData);
+        recordEvent(gameId, playerId, EventType.REINFORCEMENTS_PLACED, turnNumber, eventData);
     }
 
     /**
      * Registra una fortificación
      */
     @Override
-    public GameEventEntity recordFortification(Long gameId, Long playerId, String fromTerritory,
-                                               String toTerritory, Integer armies, Integer turnNumber) {
+    public void recordFortification(Long gameId, Long playerId, String fromTerritory,
+                                    String toTerritory, Integer armies, Integer turnNumber) {
         String eventData = String.format("{\"from\":\"%s\", \"to\":\"%s\", \"armies\":%d}",
                 fromTerritory, toTerritory, armies);
-        return recordEvent(gameId, playerId, EventType.FORTIFICATION_PERFORMED, turnNumber, eventData);
+        recordEvent(gameId, playerId, EventType.FORTIFICATION_PERFORMED, turnNumber, eventData);
     }
 
     /**
      * Registra el cumplimiento de un objetivo
      */
     @Override
-    public GameEventEntity recordObjectiveCompleted(Long gameId, Long playerId, String objectiveData) {
-        return recordEvent(gameId, playerId, EventType.OBJECTIVE_COMPLETED, null, objectiveData);
+    public void recordObjectiveCompleted(Long gameId, Long playerId, String objectiveData) {
+        recordEvent(gameId, playerId, EventType.OBJECTIVE_COMPLETED, null, objectiveData);
     }
 
+    // Las lecturas no escriben lo encolado: corren dentro de una transacción y esperar al
+    // GameEventWriter ahí ocuparía una segunda conexión. La barrera la hace el controlador antes
+    // de llamarlas (GameEventWriter#flush), así ven los eventos que ya se registraron
+
     /**
      * Obtiene el historial completo de una partida ordenado por timestamp
      */
@@ -208,18 +229,7 @@ public class GameEventServiceImpl implements IGameEventService {
     @Override
     @Transactional()
     public List<GameEventEntity> getPlayerEventsInGame(Long gameId, Long playerId) {
-        Game game = gameService.findById(gameId);
-        GameEntity gameEntity = gameMapper.toEntity(game);
-        Optional<Player> optionalPlayer = playerService.findById(playerId);
-
-        if (!optionalPlayer.isPresent()) {
-            return new ArrayList<>();
-        }
-
-        return gameEventRepository.findByGame(gameEntity).stream()
-                .filter(event -> event.getActor() != null && event.getActor().getId().equals(playerId))
-                .sorted((e1, e2) -> e2.getTimestamp().compareTo(e1.getTimestamp()))
-                .collect(Collectors.toList());
+        return gameEventRepository.findByGameIdAndActorIdOrderByIdDesc(gameId, playerId);
     }
 
     /**
@@ -235,31 +245,25 @@ public class GameEventServiceImpl implements IGameEventService {
     }
 
     /**
-     * Obtiene estadísticas de eventos de una partida
+     * Obtiene estadísticas de eventos de una partida, desde los contadores de {@link GameStatisticsService}
      */
     @Override
     @Transactional()
     public Map<String, Object> getGameEventStats(Long gameId) {
-        Game game = gameService.findById(gameId);
-        GameEntity gameEntity = gameMapper.toEntity(game);
+        Map<EventType, Long> counts = gameStatisticsService.getEventCounts(gameId);
 
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalAttacks", gameEventRepository.countAttacksByGame(gameEntity));
-
-        // Obtener todas las conquistas por jugador
-        List<GameEventEntity> conquests = gameEventRepository.findByGame(gameEntity).stream()
-                .filter(event -> event.getType() == EventType.TERRITORY_CONQUERED)
-                .collect(Collectors.toList());
+        stats.put("totalAttacks", counts.getOrDefault(EventType.ATTACK_PERFORMED, 0L));
 
-        Map<String, Long> conquestsByPlayer = conquests.stream()
-                .filter(event -> event.getActor() != null)
-                .collect(Collectors.groupingBy(
-                        event -> event.getActor().getUser().getUsername(),
-                        Collectors.counting()
-                ));
+        Map<String, Long> conquestsByPlayer = new HashMap<>();
+        for (PlayerStatisticsDto player : gameStatisticsService.getPlayerStatistics(gameId)) {
+            if (player.getConquests() > 0) {
+                conquestsByPlayer.merge(player.getPlayerName(), player.getConquests().longValue(), Long::sum);
+            }
+        }
 
         stats.put("conquestsByPlayer", conquestsByPlayer);
-        stats.put("totalEvents", gameEventRepository.findByGame(gameEntity).size());
+        stats.put("totalEvents", (int) counts.values().stream().mapToLong(Long::longValue).sum());
 
         return stats;
     }
@@ -277,19 +281,41 @@ public class GameEventServiceImpl implements IGameEventService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Obtiene una página del historial formateado. Se pide un evento de más para saber si hay
+     * otra página; el cursor es el id del último evento devuelto.
+     */
+    @Override
+    @Transactional()
+    public GameEventPageDto getGameHistoryPage(Long gameId, Long cursor, int limit, GameEventFilterDto filter) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        GameEventFilterDto criteria = filter != null ? filter : new GameEventFilterDto();
+        if (criteria.getFromTurn() != null && criteria.getToTurn() != null
+                && criteria.getFromTurn() > criteria.getToTurn()) {
+            throw new IllegalArgumentException("fromTurn must not be greater than toTurn");
+        }
+
+        List<GameEventEntity> events = gameEventRepository.findPage(gameId, cursor, criteria.getType(),
+                criteria.getActorId(), criteria.getFromTurn(), criteria.getToTurn(), PageRequest.of(0, limit + 1));
+
+        boolean hasMore = events.size() > limit;
+        List<GameEventEntity> page = hasMore ? events.subList(0, limit) : events;
+        return GameEventPageDto.builder()
+                .events(page.stream().map(this::formatEventForDisplay).collect(Collectors.toList()))
+                .nextCursor(hasMore ? page.get(page.size() - 1).getId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
     /**
      * Obtiene eventos filtrados por tipo
      */
     @Override
     @Transactional()
     public List<GameEventEntity> getEventsByType(Long gameId, EventType eventType) {
-        Game game = gameService.findById(gameId);
-        GameEntity gameEntity = gameMapper.toEntity(game);
-
-        return gameEventRepository.findByGame(gameEntity).stream()
-                .filter(event -> event.getType() == eventType)
-                .sorted((e1, e2) -> e2.getTimestamp().compareTo(e1.getTimestamp()))
-                .collect(Collectors.toList());
+        return gameEventRepository.findByGameIdAndTypeOrderByTimestampDesc(gameId, eventType);
     }
 
     /**
@@ -309,8 +335,7 @@ public class GameEventServiceImpl implements IGameEventService {
     @Override
     @Transactional()
     public Optional<GameEventEntity> getLastEventByType(Long gameId, EventType eventType) {
-        List<GameEventEntity> events = getEventsByType(gameId, eventType);
-        return events.isEmpty() ? Optional.empty() : Optional.of(events.get(0));
+        return gameEventRepository.findFirstByGameIdAndTypeOrderByTimestampDesc(gameId, eventType);
     }
 
     /**
@@ -319,12 +344,7 @@ public class GameEventServiceImpl implements IGameEventService {
     @Override
     @Transactional()
     public Long countEventsByType(Long gameId, EventType eventType) {
-        Game game = gameService.findById(gameId);
-        GameEntity gameEntity = gameMapper.toEntity(game);
-
-        return gameEventRepository.findByGame(gameEntity).stream()
-                .filter(event -> event.getType() == eventType)
-                .count();
+        return gameStatisticsService.countEventsByType(gameId, eventType);
     }
 
     /**
@@ -1,5 +1,6 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
 import ar.edu.utn.frc.tup.piii.entities.*;
 import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
 import ar.edu.utn.frc.tup.piii.model.*;
@@ -29,8 +30,8 @@ public class GameInitializationServiceImpl {
     private GameTerritoryService gameTerritoryService;
     @Autowired
     private GameMapper gameMapper;
-
-    private final Random random = new Random();
+    @Autowired
+    private GameRandom gameRandom;
 
     //reparto de paises, objetivos y prep inicial
 
@@ -41,6 +42,12 @@ public class GameInitializationServiceImpl {
 
         validateGameCanStart(game);
 
+        // semilla de la partida: con la misma semilla el reparto y los dados se repiten
+        if (gameEntity.getRandomSeed() == null) {
+            gameEntity.setRandomSeed(gameRandom.newSeed());
+        }
+        gameRandom.seed(gameEntity.getId(), gameEntity.getRandomSeed());
+
         // orden de players
         assignSeatOrderFixed(gameEntity);
 
@@ -65,9 +72,11 @@ public class GameInitializationServiceImpl {
         // solo jugadores activos o esperando
         List<PlayerEntity> activePlayers = playerEntities.stream()
                 .filter(p -> p.getStatus() != PlayerStatus.ELIMINATED)
+                .sorted(Comparator.comparing(PlayerEntity::getId, Comparator.nullsLast(Comparator.naturalOrder())))
                 .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
 
-        Collections.shuffle(activePlayers, random);
+        // se ordena antes de mezclar para que el resultado dependa solo de la semilla
+        gameRandom.shuffle(gameEntity.getId(), GameRandom.Stream.SETUP, activePlayers);
 
 
         for (int i = 0; i < activePlayers.size(); i++) {
@@ -121,8 +130,9 @@ public class GameInitializationServiceImpl {
 
     private void distributeCountries(Game game) {
 
-        List<Territory> allTerritories = gameTerritoryService.getAllAvailableTerritories();
-        Collections.shuffle(allTerritories, random);
+        List<Territory> allTerritories = new ArrayList<>(gameTerritoryService.getAllAvailableTerritories());
+        allTerritories.sort(Comparator.comparing(Territory::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+        gameRandom.shuffle(game.getId(), GameRandom.Stream.SETUP, allTerritories);
 
         List<Player> activePlayers = game.getPlayers().stream()
                 .filter(p -> p.getStatus() != PlayerStatus.ELIMINATED)
@@ -143,7 +153,7 @@ public class GameInitializationServiceImpl {
 
         if (remainingCountries > 0) {
             List<Player> playersForExtra = new ArrayList<>(activePlayers);
-            Collections.shuffle(playersForExtra, random);
+            gameRandom.shuffle(game.getId(), GameRandom.Stream.SETUP, playersForExtra);
 
             for (int i = 0; i < remainingCountries; i++) {
                 assignCountryToPlayer(game, allTerritories.get(countryIndex++), playersForExtra.get(i));
@@ -160,7 +170,7 @@ public class GameInitializationServiceImpl {
     private void assignObjectives(Game game) {
         List<Objective> availableObjectives = objectiveService.findByType(ObjectiveType.OCCUPATION);
         availableObjectives.addAll(objectiveService.findByType(ObjectiveType.DESTRUCTION));
-        Collections.shuffle(availableObjectives, random);
+        gameRandom.shuffle(game.getId(), GameRandom.Stream.SETUP, availableObjectives);
 
         List<Player> activePlayers = game.getPlayers().stream()
                 .filter(p -> p.getStatus() != PlayerStatus.ELIMINATED)
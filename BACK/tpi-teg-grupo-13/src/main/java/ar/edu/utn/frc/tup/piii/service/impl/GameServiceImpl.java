@@ -1,7 +1,19 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
 import ar.edu.utn.frc.tup.piii.dtos.bot.AddBotsDto;
+import ar.edu.utn.frc.tup.piii.dtos.country.CountryResponseDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.*;
+import ar.edu.utn.frc.tup.piii.dtos.player.PlayerResponseDto;
+import ar.edu.utn.frc.tup.piii.engine.GameChange;
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
+import ar.edu.utn.frc.tup.piii.engine.ChatBuffer;
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
+import ar.edu.utn.frc.tup.piii.engine.GameVersionTracker;
+import ar.edu.utn.frc.tup.piii.engine.HotGameStore;
+import ar.edu.utn.frc.tup.piii.engine.OwnershipIndex;
+import ar.edu.utn.frc.tup.piii.engine.TurnConquestStore;
+import ar.edu.utn.frc.tup.piii.engine.ReferenceDataCache;
+import ar.edu.utn.frc.tup.piii.engine.VictoryEvaluator;
 import ar.edu.utn.frc.tup.piii.entities.*;
 import ar.edu.utn.frc.tup.piii.exceptions.*;
 import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
@@ -10,6 +22,8 @@ import ar.edu.utn.frc.tup.piii.model.Territory;
 import ar.edu.utn.frc.tup.piii.model.enums.*;
 import ar.edu.utn.frc.tup.piii.repository.*;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameSnapshotService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStreamService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameTerritoryService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.UserService;
 import ar.edu.utn.frc.tup.piii.utils.CodeGenerator;
@@ -49,31 +63,66 @@ public class GameServiceImpl implements GameService {
     private UserService userService;
     @Autowired
     private GameTerritoryService gameTerritoryService;
+    @Autowired
+    private OwnershipIndex ownershipIndex;
+    @Autowired
+    private HotGameStore hotGameStore;
+    @Autowired
+    private GameStreamService gameStreamService;
+    @Autowired
+    private GameVersionTracker gameVersionTracker;
+
+    @Autowired
+    private TurnConquestStore turnConquestStore;
+
+    @Autowired
+    private VictoryEvaluator victoryEvaluator;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private GameRandom gameRandom;
+
+    @Autowired
+    private ChatBuffer chatBuffer;
+
+    @Autowired
+    private GameEventStore gameEventStore;
+
+    @Autowired
+    private GameSnapshotService gameSnapshotService;
 
     @Override
     public Game findById(Long gameId) {
-        return gameRepository.findById(gameId)
-                .map(gameMapper::toModel)
+        return gameRepository.findById(gameId, GameFetchPlan.BOARD)
+                .map(entity -> gameMapper.toModel(entity, GameFetchPlan.BOARD))
                 .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
     }
 
     @Override
     public Optional<Game> findByIdOptional(Long gameId) {
-        return gameRepository.findById(gameId)
-                .map(gameMapper::toModel);
+        return gameRepository.findById(gameId, GameFetchPlan.BOARD)
+                .map(entity -> gameMapper.toModel(entity, GameFetchPlan.BOARD));
     }
 
     @Override
     public Game findByGameCode(String gameCode) {
-        return gameRepository.findByGameCode(gameCode)
-                .map(gameMapper::toModel)
+        return gameRepository.findByGameCode(gameCode, GameFetchPlan.BOARD)
+                .map(entity -> gameMapper.toModel(entity, GameFetchPlan.BOARD))
                 .orElseThrow(() -> new GameNotFoundException("Game not found with code: " + gameCode));
     }
 
     @Override
     public Game save(Game game) {
+        // Cada guardado de la partida es un límite de fase/turno: se bajan los ejércitos pendientes
+        hotGameStore.flush(game.getId());
         GameEntity entity = gameMapper.toEntity(game);
         GameEntity savedEntity = gameRepository.save(entity);
+        gameVersionTracker.gameChanged(game.getId());
+        gameEventStore.append(game.getId(), new GameChange.TurnChanged(game.getState(), game.getCurrentPhase(),
+                game.getCurrentTurn(), game.getCurrentPlayerIndex()));
+        gameSnapshotService.autoSaveSnapshot(game);
         return gameMapper.toModel(savedEntity);
     }
 
@@ -104,9 +153,83 @@ public class GameServiceImpl implements GameService {
     @Override
     @Transactional(readOnly = true)
     public GameResponseDto getGameByCode(String gameCode) {
-        GameEntity gameEntity = gameRepository.findByGameCode(gameCode)
+        Long gameId = findGameIdByCode(gameCode);
+        // La versión se lee antes de cargar la partida: los datos devueltos son como mínimo
+        // tan nuevos como la versión informada, y el cliente nunca se saltea un cambio
+        long version = gameVersionTracker.currentVersion(gameId);
+        GameEntity gameEntity = gameRepository.findByGameCode(gameCode, GameFetchPlan.FULL)
                 .orElseThrow(() -> new GameNotFoundException("Game not found with code: " + gameCode));
-        return gameMapper.toResponseDto(gameEntity);
+        GameResponseDto response = gameMapper.toResponseDto(gameEntity);
+        response.setVersion(version);
+        return response;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public GameDeltaDto getGameDelta(String gameCode, long sinceVersion) {
+        // Igual que en getGameByCode: primero los cambios, después la partida
+        GameVersionTracker.Changes changes = gameVersionTracker.changesSince(findGameIdByCode(gameCode), sinceVersion);
+        if (changes == null) {
+            // El historial no alcanza: se devuelve el estado completo
+            GameResponseDto full = getGameByCode(gameCode);
+            return GameDeltaDto.builder()
+                    .id(full.getId())
+                    .gameCode(full.getGameCode())
+                    .fromVersion(sinceVersion)
+                    .version(full.getVersion())
+                    .fullState(true)
+                    .state(full.getState())
+                    .currentPhase(full.getCurrentPhase())
+                    .currentTurn(full.getCurrentTurn())
+                    .currentPlayerIndex(full.getCurrentPlayerIndex())
+                    .isGameOver(full.getIsGameOver())
+                    .game(full)
+                    .build();
+        }
+
+        GameEntity gameEntity = gameRepository.findByGameCode(gameCode, GameFetchPlan.BOARD)
+                .orElseThrow(() -> new GameNotFoundException("Game not found with code: " + gameCode));
+        GameDeltaDto.GameDeltaDtoBuilder delta = GameDeltaDto.builder()
+                .id(gameEntity.getId())
+                .gameCode(gameEntity.getGameCode())
+                .fromVersion(sinceVersion)
+                .version(changes.getVersion())
+                .fullState(false)
+                .state(gameEntity.getStatus())
+                .currentPhase(gameEntity.getCurrentPhase())
+                .currentTurn(gameEntity.getCurrentTurn())
+                .currentPlayerIndex(gameEntity.getCurrentPlayerIndex())
+                .isGameOver(gameEntity.getStatus() == GameState.FINISHED);
+        if (changes.isEmpty()) {
+            return delta.build();
+        }
+
+        GameResponseDto current = gameMapper.toResponseDto(gameMapper.toModel(gameEntity, GameFetchPlan.BOARD));
+        if (current.getTerritories() != null && !changes.getCountryIds().isEmpty()) {
+            Map<Long, CountryResponseDto> territories = new HashMap<>();
+            for (Long countryId : changes.getCountryIds()) {
+                CountryResponseDto territory = current.getTerritories().get(countryId);
+                if (territory != null) {
+                    territories.put(countryId, territory);
+                }
+            }
+            delta.territories(territories);
+        }
+
+        List<PlayerResponseDto> players = current.getPlayers() != null ? current.getPlayers() : List.of();
+        if (changes.isAllPlayersChanged()) {
+            delta.players(players).playersComplete(true);
+        } else {
+            List<PlayerResponseDto> changedPlayers = players.stream()
+                    .filter(p -> changes.isPlayerChanged(p.getId()))
+                    .collect(Collectors.toList());
+            Set<Long> currentIds = players.stream().map(PlayerResponseDto::getId).collect(Collectors.toSet());
+            List<Long> removed = changes.getPlayerIds().stream()
+                    .filter(id -> !currentIds.contains(id))
+                    .collect(Collectors.toList());
+            delta.players(changedPlayers).playersComplete(false).removedPlayerIds(removed);
+        }
+        return delta.build();
     }
 
     @Override
@@ -146,14 +269,16 @@ public class GameServiceImpl implements GameService {
             PlayerEntity newPlayer = createNewPlayer(user, gameEntity);
             playerRepository.save(newPlayer);
             gameEntity.getPlayers().add(newPlayer);
-            return gameMapper.toModel(gameEntity);
+            gameVersionTracker.gameChanged(gameEntity.getId());
+            return gameMapper.toModel(gameEntity, GameFetchPlan.LOBBY);
 
         } else if (gameEntity.getStatus() == GameState.PAUSED) {
             Optional<PlayerEntity> existingPlayer = findExistingPlayer(gameEntity, dto.getUserId());
             if (existingPlayer.isPresent() && existingPlayer.get().getStatus() == PlayerStatus.DISCONNECTED) {
                 existingPlayer.get().setStatus(PlayerStatus.WAITING);
                 playerRepository.save(existingPlayer.get());
-                return gameMapper.toModel(gameEntity);
+                gameVersionTracker.gameChanged(gameEntity.getId());
+                return gameMapper.toModel(gameEntity, GameFetchPlan.LOBBY);
             } else {
                 throw new InvalidGameStateException("Only disconnected players can rejoin a paused game.");
             }
@@ -173,8 +298,15 @@ public class GameServiceImpl implements GameService {
             throw new ForbiddenException("Solo el host puede cancelar la partida");
         }
 
+        // Antes del delete: escribe los mensajes de chat encolados, que se borran junto con la partida
+        chatBuffer.evict(game.getId());
         gameRepository.delete(game);
-
+        ownershipIndex.evict(game.getId());
+        victoryEvaluator.evict(game.getId());
+        hotGameStore.evict(game.getId());
+        gameVersionTracker.evict(game.getId());
+        turnConquestStore.evict(game.getId());
+        gameRandom.evict(game.getId());
     }
 
 
@@ -188,7 +320,8 @@ public class GameServiceImpl implements GameService {
 
         BotProfileEntity botProfile = findBotProfile(dto.getBotLevel(), dto.getBotStrategy());
         addBotsToGame(gameEntity, dto.getNumberOfBots(), botProfile);
-        return gameMapper.toModel(gameEntity);
+        gameVersionTracker.gameChanged(gameEntity.getId());
+        return gameMapper.toModel(gameEntity, GameFetchPlan.LOBBY);
     }
 
     @Override
@@ -197,7 +330,11 @@ public class GameServiceImpl implements GameService {
         GameEntity gameEntity = findGameEntityByCode(gameCode);
         gameInitializationService.initializeGame(gameEntity);
         GameEntity savedGame = gameRepository.save(gameEntity);
-        return gameMapper.toModel(savedGame);
+        gameVersionTracker.gameChanged(savedGame.getId());
+        // Estado inicial del que parte la reconstrucción de la partida desde el log
+        Game game = gameMapper.toModel(savedGame);
+        gameSnapshotService.createAutoSnapshot(game);
+        return game;
     }
 
     @Override
@@ -223,6 +360,7 @@ public class GameServiceImpl implements GameService {
         updateGameEntitySettings(gameEntity, dto);
 
         GameEntity savedGame = gameRepository.save(gameEntity);
+        gameVersionTracker.gameChanged(savedGame.getId());
         return gameMapper.toModel(savedGame);
     }
 
@@ -239,8 +377,10 @@ public class GameServiceImpl implements GameService {
         validateCanKickPlayer(playerToKick, gameEntity);
 
         removeOrEliminatePlayer(playerToKick, gameEntity);
+        gameVersionTracker.gameChanged(gameEntity.getId());
 
-        return gameMapper.toModel(gameEntity);
+        // La respuesta va al cliente como estado completo de la partida
+        return gameMapper.toModel(gameEntity, GameFetchPlan.FULL);
     }
 
     @Override
@@ -252,8 +392,9 @@ public class GameServiceImpl implements GameService {
 
         PlayerEntity player = findPlayerInGame(gameEntity, dto.getUserId());
         validateCanLeaveGame(player, gameEntity);
-        eliminatePlayer(player);
-        return gameMapper.toModel(gameEntity);
+        eliminatePlayer(player, gameEntity);
+        gameVersionTracker.gameChanged(gameEntity.getId());
+        return gameMapper.toModel(gameEntity, GameFetchPlan.FULL);
     }
 
     //este esta para que compile por si alguien lo llama, pero que le avise que no lo tiene que usar por lom de la
@@ -285,6 +426,8 @@ public class GameServiceImpl implements GameService {
         gameEntity.setChatEnabled(true);
         gameEntity.setPactsAllowed(false);
         gameEntity.setCurrentPhase(TurnPhase.REINFORCEMENT);
+        // La semilla se fija al crear el lobby para que el sorteo de colores también se repita
+        gameEntity.setRandomSeed(gameRandom.newSeed());
         return gameEntity;
     }
 
@@ -303,6 +446,11 @@ public class GameServiceImpl implements GameService {
                 .orElseThrow(() -> new GameNotFoundException("Game not found with code: " + gameCode));
     }
 
+    private Long findGameIdByCode(String gameCode) {
+        return gameRepository.findIdByGameCode(gameCode)
+                .orElseThrow(() -> new GameNotFoundException("Game not found with code: " + gameCode));
+    }
+
     private PlayerEntity findPlayerById(Long playerId) {
         return playerRepository.findById(playerId)
                 .orElseThrow(() -> new PlayerNotFoundException("Player not found with id: " + playerId));
@@ -410,7 +558,8 @@ public class GameServiceImpl implements GameService {
             existingPlayer.setStatus(PlayerStatus.WAITING);
             existingPlayer.setEliminatedAt(null);
             playerRepository.save(existingPlayer);
-            return gameMapper.toModel(gameEntity);
+            gameVersionTracker.gameChanged(gameEntity.getId());
+            return gameMapper.toModel(gameEntity, GameFetchPlan.LOBBY);
         } else {
             throw new InvalidGameStateException("User is already in this game.");
         }
@@ -438,7 +587,9 @@ public class GameServiceImpl implements GameService {
     }
 
     private BotProfileEntity findBotProfile(BotLevel level, BotStrategy strategy) {
-        return botProfileRepository.findByLevelAndStrategy(level, strategy)
+        // La copia del cache no está en la sesión: el jugador nuevo se asocia a una referencia por ID
+        return referenceDataCache.botProfile(level, strategy)
+                .map(profile -> botProfileRepository.getReferenceById(profile.getId()))
                 .orElseThrow(() -> new IllegalArgumentException(
                         "No bot profile found for level=" + level + " and strategy=" + strategy));
     }
@@ -507,14 +658,17 @@ public class GameServiceImpl implements GameService {
             gameEntity.getPlayers().remove(player);
             playerRepository.delete(player);
         } else {
-            eliminatePlayer(player);
+            eliminatePlayer(player, gameEntity);
         }
     }
 
-    private void eliminatePlayer(PlayerEntity player) {
+    private void eliminatePlayer(PlayerEntity player, GameEntity gameEntity) {
         player.setStatus(PlayerStatus.ELIMINATED);
         player.setEliminatedAt(LocalDateTime.now());
         playerRepository.save(player);
+        gameEventStore.append(gameEntity.getId(), new GameChange.PlayerEliminated(player.getId()));
+        victoryEvaluator.playerEliminated(gameEntity.getId(), player.getId());
+        gameStreamService.publish(gameEntity.getId(), GameStreamEventType.PLAYER_ELIMINATED, player.getId(), null);
     }
 
     private PlayerEntity findPlayerInGame(GameEntity gameEntity, Long userId) {
@@ -546,7 +700,8 @@ public class GameServiceImpl implements GameService {
         validateCanJoinPausedGame(player, gameEntity);
         player.setStatus(PlayerStatus.WAITING);
         playerRepository.save(player);
-        return gameMapper.toModel(gameEntity);
+        gameVersionTracker.gameChanged(gameEntity.getId());
+        return gameMapper.toModel(gameEntity, GameFetchPlan.LOBBY);
     }
 
     private void validateCanJoinPausedGame(PlayerEntity player, GameEntity gameEntity) {
@@ -569,7 +724,8 @@ public class GameServiceImpl implements GameService {
         validateCanToggleReady(player);
         player.setStatus(player.getStatus() == PlayerStatus.DISCONNECTED ? PlayerStatus.WAITING : PlayerStatus.DISCONNECTED);
         playerRepository.save(player);
-        return gameMapper.toModel(gameEntity);
+        gameVersionTracker.gameChanged(gameEntity.getId());
+        return gameMapper.toModel(gameEntity, GameFetchPlan.LOBBY);
     }
 
     private void validateCanToggleReady(PlayerEntity player) {
@@ -583,7 +739,7 @@ public class GameServiceImpl implements GameService {
         GameEntity gameEntity = findGameEntityByCode(gameId);
         PlayerEntity player = findPlayerInGame(gameEntity, playerId);
         validatePlayerBelongsToGame(player, gameEntity);
-        return gameMapper.toModel(gameEntity);
+        return gameMapper.toModel(gameEntity, GameFetchPlan.LOBBY);
     }
 
     @Override
@@ -592,6 +748,7 @@ public class GameServiceImpl implements GameService {
         validateGameInLobby(gameEntity);
         gameEntity.setStatus(GameState.NORMAL_PLAY);
         gameRepository.save(gameEntity);
+        gameVersionTracker.gameChanged(gameEntity.getId());
         return gameMapper.toModel(gameEntity);
     }
 
@@ -603,7 +760,8 @@ public class GameServiceImpl implements GameService {
         validateCanLeaveGame(player, gameEntity);
         player.setStatus(PlayerStatus.DISCONNECTED);
         playerRepository.save(player);
-        return gameMapper.toModel(gameEntity);
+        gameVersionTracker.gameChanged(gameEntity.getId());
+        return gameMapper.toModel(gameEntity, GameFetchPlan.LOBBY);
     }
 
 
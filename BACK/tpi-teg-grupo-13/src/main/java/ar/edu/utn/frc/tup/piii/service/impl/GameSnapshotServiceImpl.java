@@ -0,0 +1,386 @@
+package ar.edu.utn.frc.tup.piii.service.impl;
+
+import ar.edu.utn.frc.tup.piii.engine.BoardState;
+import ar.edu.utn.frc.tup.piii.engine.GameChange;
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
+import ar.edu.utn.frc.tup.piii.engine.GameVersionTracker;
+import ar.edu.utn.frc.tup.piii.engine.SnapshotCodec;
+import ar.edu.utn.frc.tup.piii.entities.CardEntity;
+import ar.edu.utn.frc.tup.piii.entities.GameEntity;
+import ar.edu.utn.frc.tup.piii.entities.GameSnapshotEntity;
+import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
+import ar.edu.utn.frc.tup.piii.exceptions.GameNotFoundException;
+import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
+import ar.edu.utn.frc.tup.piii.mappers.PlayerMapper;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.Player;
+import ar.edu.utn.frc.tup.piii.model.Territory;
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.repository.CardRepository;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
+import ar.edu.utn.frc.tup.piii.repository.GameSnapshotRepository;
+import ar.edu.utn.frc.tup.piii.repository.PlayerRepository;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameSnapshotService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameTerritoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Instantáneas del estado de una partida ({@link BoardState}) marcadas con la secuencia del
+ * log de cambios que incluyen. Junto con {@link GameEventStore} permiten reconstruir la
+ * partida en cualquier punto sin recorrer el log desde el principio.
+ * <p>
+ * Se toma una instantánea al iniciar la partida, otra cada {@code game.snapshots.turn-interval}
+ * turnos cuando {@link ar.edu.utn.frc.tup.piii.service.interfaces.GameService#save} guarda un
+ * turno nuevo, y otra cuando la partida pasa a pausa. Las automáticas más viejas que
+ * {@code game.snapshots.retention-minutes} se borran, salvo la primera y la última de cada
+ * partida, que son las que necesita la reconstrucción completa.
+ */
+@Service
+@Slf4j
+public class GameSnapshotServiceImpl implements GameSnapshotService {
+
+    @Autowired
+    private GameSnapshotRepository gameSnapshotRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PlayerMapper playerMapper;
+
+    @Autowired
+    private GameTerritoryService gameTerritoryService;
+
+    @Autowired
+    private GameEventStore gameEventStore;
+
+    @Autowired
+    private GameVersionTracker gameVersionTracker;
+
+    @Autowired
+    private SnapshotCodec snapshotCodec;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${game.snapshots.turn-interval:1}")
+    private int turnInterval;
+
+    @Value("${game.snapshots.retention-minutes:60}")
+    private long retentionMinutes;
+
+    @Value("${game.snapshots.prune-interval-minutes:5}")
+    private long pruneIntervalMinutes;
+
+    private static final Comparator<GameSnapshotEntity> SNAPSHOT_ORDER =
+            Comparator.comparing(GameSnapshotEntity::getEventSequence).thenComparing(GameSnapshotEntity::getId);
+
+    // Turno de la última instantánea de cada partida
+    private final Map<Long, Integer> lastSnapshotTurns = new ConcurrentHashMap<>();
+    // Estado con el que se guardó cada partida la última vez, para detectar el paso a pausa
+    private final Map<Long, GameState> lastSavedStates = new ConcurrentHashMap<>();
+    private final Set<Long> scheduledSnapshots = ConcurrentHashMap.newKeySet();
+    private final AtomicLong nextPruneAt = new AtomicLong();
+
+    @Override
+    public GameSnapshotEntity save(GameSnapshotEntity snapshot) {
+        return gameSnapshotRepository.save(snapshot);
+    }
+
+    @Override
+    public Optional<GameSnapshotEntity> findById(Long id) {
+        return gameSnapshotRepository.findById(id);
+    }
+
+    @Override
+    public List<GameSnapshotEntity> findAll() {
+        return gameSnapshotRepository.findAll();
+    }
+
+    @Override
+    public List<GameSnapshotEntity> findByGame(Game game) {
+        return gameSnapshotRepository.findByGame(findGameEntity(game.getId()));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        gameSnapshotRepository.deleteById(id);
+    }
+
+    @Override
+    @Transactional
+    public GameSnapshotEntity createSnapshot(Game game) {
+        return takeSnapshot(findGameEntity(game.getId()), false);
+    }
+
+    @Override
+    @Transactional
+    public GameSnapshotEntity createAutoSnapshot(Game game) {
+        return takeSnapshot(findGameEntity(game.getId()), true);
+    }
+
+    /**
+     * Escribe el estado de la instantánea en las tablas de la partida. La restauración queda en
+     * el log como {@link GameChange.StateRestored} con una instantánea nueva en esa secuencia.
+     */
+    @Override
+    @Transactional
+    public void restoreFromSnapshot(Long gameId, Long snapshotId) {
+        if (!canRestoreSnapshot(gameId, snapshotId)) {
+            throw new InvalidGameStateException("Snapshot " + snapshotId + " cannot be restored on game " + gameId);
+        }
+        GameSnapshotEntity snapshot = gameSnapshotRepository.findById(snapshotId).orElseThrow();
+        BoardState board = snapshotCodec.decode(snapshot.getSerializedState());
+        GameEntity gameEntity = findGameEntity(gameId);
+
+        for (BoardState.TerritoryState territory : board.getTerritories().values()) {
+            gameTerritoryService.assignTerritoryToPlayer(gameId, territory.getCountryId(),
+                    territory.getOwnerId(), territory.getArmies());
+        }
+        for (BoardState.PlayerState state : board.getPlayers()) {
+            PlayerEntity player = playerRepository.findById(state.getId())
+                    .orElseThrow(() -> new InvalidGameStateException("Player " + state.getId() + " no longer exists"));
+            player.setArmiesToPlace(state.getArmiesToPlace());
+            player.setTradeCount(state.getTradeCount());
+            player.setStatus(state.getStatus());
+            restoreHand(player, state.getCardIds());
+            playerRepository.save(player);
+            gameVersionTracker.playerChanged(gameId, player.getId());
+        }
+        gameEntity.setStatus(board.getState());
+        gameEntity.setCurrentPhase(board.getPhase());
+        gameEntity.setCurrentTurn(board.getTurn());
+        gameEntity.setCurrentPlayerIndex(board.getCurrentPlayerIndex());
+        gameRepository.save(gameEntity);
+        gameVersionTracker.gameChanged(gameId);
+
+        long sequence = gameEventStore.append(gameId, new GameChange.StateRestored(snapshotId, board.getTurn()));
+        storeSnapshot(gameEntity, board, sequence, false);
+        log.info("Game {} restored from snapshot {} (turn {})", gameId, snapshotId, board.getTurn());
+    }
+
+    /**
+     * Toma una instantánea automática si la partida avanzó {@code game.snapshots.turn-interval}
+     * turnos desde la última, si acaba de pasar a pausa, o si se pidió una con
+     * {@link #scheduleAutoSave(Game)}. Los guardados siguientes de una partida ya pausada no
+     * toman otra.
+     * <p>
+     * La instantánea corre en una {@link TransactionTemplate}: el {@code @Transactional} de
+     * {@link #createAutoSnapshot} no aplica a llamadas dentro de la misma clase.
+     */
+    @Override
+    public void autoSaveSnapshot(Game game) {
+        Long gameId = game.getId();
+        Integer turn = game.getCurrentTurn();
+        if (gameId == null || turn == null) {
+            return;
+        }
+        Integer lastTurn = lastSnapshotTurns.computeIfAbsent(gameId, id -> gameRepository.findById(id)
+                .flatMap(gameSnapshotRepository::findLatestSnapshotByGame)
+                .map(GameSnapshotEntity::getTurnNumber)
+                .orElse(null));
+        // Sin instantánea base no hay desde dónde reconstruir: esa la toma el inicio de la partida
+        if (lastTurn == null) {
+            return;
+        }
+        GameState previousState = game.getState() != null
+                ? lastSavedStates.put(gameId, game.getState())
+                : lastSavedStates.get(gameId);
+        boolean paused = game.getState() == GameState.PAUSED && previousState != GameState.PAUSED;
+        if (scheduledSnapshots.remove(gameId) || paused || turn - lastTurn >= turnInterval) {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    takeSnapshot(findGameEntity(gameId), true));
+        }
+    }
+
+    @Override
+    public void scheduleAutoSave(Game game) {
+        scheduledSnapshots.add(game.getId());
+    }
+
+    @Override
+    @Transactional
+    public void cleanOldSnapshots(Long gameId, int keepLast) {
+        List<GameSnapshotEntity> snapshots = gameSnapshotRepository.findByGame(findGameEntity(gameId)).stream()
+                .sorted(Comparator.comparing(GameSnapshotEntity::getEventSequence).reversed())
+                .toList();
+        if (snapshots.size() <= keepLast) {
+            return;
+        }
+        gameSnapshotRepository.deleteAll(snapshots.subList(keepLast, snapshots.size()));
+        log.debug("Deleted {} old snapshots of game {}", snapshots.size() - keepLast, gameId);
+    }
+
+    @Override
+    public boolean canRestoreSnapshot(Long gameId, Long snapshotId) {
+        return gameSnapshotRepository.findById(snapshotId)
+                .filter(snapshot -> snapshot.getGame().getId().equals(gameId))
+                .filter(this::isSnapshotValid)
+                .isPresent();
+    }
+
+    @Override
+    public boolean isSnapshotValid(GameSnapshotEntity snapshot) {
+        if (snapshot == null || snapshot.getSerializedState() == null || snapshot.getGame() == null) {
+            return false;
+        }
+        try {
+            BoardState board = snapshotCodec.decode(snapshot.getSerializedState());
+            return snapshot.getGame().getId().equals(board.getGameId());
+        } catch (InvalidGameStateException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String serializeGameState(Game game) {
+        return snapshotCodec.encode(BoardState.of(game));
+    }
+
+    @Override
+    public List<GameSnapshotEntity> getSnapshotHistory(Long gameId) {
+        return gameSnapshotRepository.findByGameOrderByCreatedAtDesc(findGameEntity(gameId));
+    }
+
+    @Override
+    public int getSnapshotCount(Long gameId) {
+        return gameSnapshotRepository.countSnapshotsByGame(findGameEntity(gameId)).intValue();
+    }
+
+    /**
+     * Borra las instantáneas automáticas más viejas que la retención, dejando la primera y la
+     * última de cada partida. Corre como mucho una vez cada {@code game.snapshots.prune-interval-minutes}.
+     */
+    void pruneOldAutoSnapshots() {
+        long now = System.currentTimeMillis();
+        long next = nextPruneAt.get();
+        if (now < next || !nextPruneAt.compareAndSet(next, now + pruneIntervalMinutes * 60_000)) {
+            return;
+        }
+        List<GameSnapshotEntity> expired = gameSnapshotRepository.findOldAutoSnapshots(
+                LocalDateTime.now().minusMinutes(retentionMinutes));
+        if (expired.isEmpty()) {
+            return;
+        }
+        Map<Long, List<GameSnapshotEntity>> expiredByGame = expired.stream()
+                .collect(Collectors.groupingBy(snapshot -> snapshot.getGame().getId()));
+        List<GameSnapshotEntity> toDelete = new ArrayList<>();
+        for (List<GameSnapshotEntity> gameSnapshots : expiredByGame.values()) {
+            List<GameSnapshotEntity> all = gameSnapshotRepository.findByGame(gameSnapshots.get(0).getGame());
+            Long first = all.stream().min(SNAPSHOT_ORDER).map(GameSnapshotEntity::getId).orElse(null);
+            Long last = all.stream().max(SNAPSHOT_ORDER).map(GameSnapshotEntity::getId).orElse(null);
+            gameSnapshots.stream()
+                    .filter(snapshot -> !snapshot.getId().equals(first) && !snapshot.getId().equals(last))
+                    .forEach(toDelete::add);
+        }
+        gameSnapshotRepository.deleteAll(toDelete);
+        log.debug("Pruned {} expired auto snapshots of {} games", toDelete.size(), expiredByGame.size());
+    }
+
+    private GameSnapshotEntity takeSnapshot(GameEntity gameEntity, boolean createdBySystem) {
+        BoardState board = capture(gameEntity);
+        return storeSnapshot(gameEntity, board, gameEventStore.currentSequence(gameEntity.getId()), createdBySystem);
+    }
+
+    private GameSnapshotEntity storeSnapshot(GameEntity gameEntity, BoardState board, long sequence,
+                                             boolean createdBySystem) {
+        GameSnapshotEntity snapshot = new GameSnapshotEntity();
+        snapshot.setGame(gameEntity);
+        snapshot.setTurnNumber(board.getTurn() != null ? board.getTurn() : 0);
+        snapshot.setEventSequence(sequence);
+        snapshot.setSerializedState(snapshotCodec.encode(board));
+        snapshot.setCreatedBySystem(createdBySystem);
+        GameSnapshotEntity saved = gameSnapshotRepository.save(snapshot);
+        lastSnapshotTurns.put(gameEntity.getId(), snapshot.getTurnNumber());
+        log.debug("Snapshot of game {} at change {} (turn {}, {} chars)", gameEntity.getId(), sequence,
+                snapshot.getTurnNumber(), snapshot.getSerializedState().length());
+        if (createdBySystem) {
+            pruneOldAutoSnapshots();
+        }
+        return saved;
+    }
+
+    /**
+     * Estado actual de la partida. Los países salen de {@link GameTerritoryService} (incluye lo
+     * que todavía está en memoria) y los ejércitos por colocar de la base, porque las entidades
+     * de jugador pueden estar desactualizadas después de un UPDATE masivo.
+     */
+    private BoardState capture(GameEntity gameEntity) {
+        Map<Long, Integer> armiesToPlace = new HashMap<>();
+        for (Object[] row : playerRepository.findArmiesToPlaceByGameId(gameEntity.getId())) {
+            armiesToPlace.put((Long) row[0], (Integer) row[1]);
+        }
+
+        Map<Long, Territory> territories = new LinkedHashMap<>();
+        for (Territory territory : gameTerritoryService.getAllTerritoriesInGame(gameEntity.getId())) {
+            territories.put(territory.getId(), territory);
+        }
+
+        // Se consultan aparte: al guardar la partida desde el modelo, la colección de la entidad puede venir vacía
+        List<Player> players = playerRepository.findByGame(gameEntity).stream()
+                .map(playerMapper::toModel)
+                .peek(player -> player.setArmiesToPlace(armiesToPlace.getOrDefault(player.getId(), player.getArmiesToPlace())))
+                .toList();
+
+        return BoardState.of(Game.builder()
+                .id(gameEntity.getId())
+                .gameCode(gameEntity.getGameCode())
+                .state(gameEntity.getStatus())
+                .currentPhase(gameEntity.getCurrentPhase())
+                .currentTurn(gameEntity.getCurrentTurn())
+                .currentPlayerIndex(gameEntity.getCurrentPlayerIndex())
+                .players(players)
+                .territories(territories)
+                .build());
+    }
+
+    /**
+     * Deja en la mano del jugador exactamente las cartas de la instantánea; las demás vuelven al mazo.
+     */
+    private void restoreHand(PlayerEntity player, List<Long> cardIds) {
+        Set<Long> snapshotCards = new HashSet<>(cardIds);
+        for (CardEntity card : cardRepository.findByOwner(player)) {
+            if (!snapshotCards.contains(card.getId())) {
+                card.setOwner(null);
+                card.setIsInDeck(true);
+                cardRepository.save(card);
+            }
+        }
+        for (CardEntity card : cardRepository.findAllById(snapshotCards)) {
+            card.setOwner(player);
+            card.setIsInDeck(false);
+            cardRepository.save(card);
+        }
+    }
+
+    private GameEntity findGameEntity(Long gameId) {
+        return gameRepository.findById(gameId)
+                .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
+    }
+}
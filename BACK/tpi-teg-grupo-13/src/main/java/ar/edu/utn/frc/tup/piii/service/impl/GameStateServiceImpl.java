@@ -1,15 +1,24 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
+import ar.edu.utn.frc.tup.piii.engine.ChatBuffer;
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
+import ar.edu.utn.frc.tup.piii.engine.TurnAdvancedEvent;
+import ar.edu.utn.frc.tup.piii.engine.TurnConquestStore;
+import ar.edu.utn.frc.tup.piii.engine.VictoryEvaluator;
 import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.GameStreamEventType;
 import ar.edu.utn.frc.tup.piii.model.enums.PlayerStatus;
 import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
 import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.Player;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameStateService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStreamService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.IGameEventService;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -21,24 +30,78 @@ public class GameStateServiceImpl implements GameStateService {
 
     List<GameState> noGameList = List.of(GameState.WAITING_FOR_PLAYERS, GameState.PAUSED, GameState.FINISHED);
 
-    private static final Map<Long, Set<Long>> conquestTracker = new HashMap<>();
-
     @Autowired
     private GameService gameService;
 
-    //registrar que jugador conquisto
-    //esta limitado al turno actual  porque lo limpio en nextplayer
-    public static void registerConquest(Long gameId, Long playerId) {
-        conquestTracker.computeIfAbsent(gameId, k -> new HashSet<>()).add(playerId);
-    }
+    @Autowired
+    private GameStreamService gameStreamService;
+
+    @Autowired
+    private TurnConquestStore turnConquestStore;
+
+    @Autowired
+    private GameRandom gameRandom;
+
+    @Autowired
+    private ChatBuffer chatBuffer;
+
+    @Autowired
+    private IGameEventService gameEventService;
 
-    public static boolean hasPlayerConqueredThisTurn(Long gameId, Long playerId) {
-        return conquestTracker.containsKey(gameId) && conquestTracker.get(gameId).contains(playerId);
+    @Autowired
+    private VictoryEvaluator victoryEvaluator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Indica si el jugador conquistó al menos un país en el turno actual de la partida.
+     */
+    public boolean hasPlayerConqueredThisTurn(Game game, Long playerId) {
+        int turnNumber = game.getCurrentTurn() != null ? game.getCurrentTurn() : 0;
+        return turnConquestStore.hasConquered(game.getId(), turnNumber, playerId);
     }
 
     // Cambiar estado del juego
     @Override
     public boolean changeGameState(Game game, GameState newState) {
+        boolean changed = applyGameState(game, newState);
+        if (changed) {
+            if (newState == GameState.FINISHED) {
+                turnConquestStore.evict(game.getId());
+                gameRandom.evict(game.getId());
+                chatBuffer.evict(game.getId());
+                // Cierra las estadísticas de la partida y suma las de carrera de cada usuario
+                gameEventService.recordGameFinish(game.getId(), winnerId(game));
+                victoryEvaluator.evict(game.getId());
+            }
+            publish(game, GameStreamEventType.PHASE_CHANGED);
+            if (isGameActive(game)) {
+                turnAdvanced(game);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * ID del jugador que cumplió su objetivo o, si no hay, del único que sigue en pie;
+     * null si la partida terminó sin ganador
+     */
+    private Long winnerId(Game game) {
+        Optional<Long> objectiveWinner = victoryEvaluator.winner(game.getId());
+        if (objectiveWinner.isPresent()) {
+            return objectiveWinner.get();
+        }
+        if (game.getPlayers() == null) {
+            return null;
+        }
+        List<Player> alive = game.getPlayers().stream()
+                .filter(p -> p.getStatus() != PlayerStatus.ELIMINATED)
+                .toList();
+        return alive.size() == 1 ? alive.get(0).getId() : null;
+    }
+
+    private boolean applyGameState(Game game, GameState newState) {
         GameState currentState = game.getState();
 
         switch (currentState) {
@@ -79,6 +142,12 @@ public class GameStateServiceImpl implements GameStateService {
                     log.info("Game state changed to NORMAL_PLAY");
                     return true;
                 }
+                // Un objetivo se puede cumplir atacando en la ronda de hostilidades
+                if (newState == GameState.FINISHED) {
+                    game.setState(newState);
+                    log.info("Game state changed to FINISHED");
+                    return true;
+                }
                 break;
             // 4 tipos de rondas // reinforcment 5 // reinforcment 3 // sin reinforcment //
             // ostilidades
@@ -114,6 +183,14 @@ public class GameStateServiceImpl implements GameStateService {
     // Cambiar fase del turno
     @Override
     public boolean changeTurnPhase(Game game, TurnPhase newPhase) {
+        boolean changed = applyTurnPhase(game, newPhase);
+        if (changed) {
+            publish(game, GameStreamEventType.PHASE_CHANGED);
+        }
+        return changed;
+    }
+
+    private boolean applyTurnPhase(Game game, TurnPhase newPhase) {
         if (noGameList.contains(game.getState())) {
             log.warn("Cannot change turn phase in game state: {}", game.getState());
             return false;
@@ -227,6 +304,8 @@ public class GameStateServiceImpl implements GameStateService {
             nextPlayer(game);
             game.setCurrentPhase(newPhase);
             log.info("Changed to REINFORCEMENT from END_TURN, advanced to next player");
+            publish(game, GameStreamEventType.TURN_ADVANCED);
+            turnAdvanced(game);
             return true;
         }
         return false;
@@ -298,6 +377,8 @@ public class GameStateServiceImpl implements GameStateService {
 
         log.info("Advanced to turn {} with phase {} for player {}",
                 game.getCurrentTurn(), game.getCurrentPhase(), game.getCurrentPlayerIndex());
+        publish(game, GameStreamEventType.TURN_ADVANCED);
+        turnAdvanced(game);
     }
 
     /**
@@ -397,14 +478,23 @@ public class GameStateServiceImpl implements GameStateService {
             log.debug("Wrapped around to first player");
         }
 
-        // Limpiar jugadores que conquistaron este turno
-        conquestTracker.remove(game.getId());
-
-
         game.setCurrentPlayerIndex(nextSeatOrder);
         log.debug("Advanced to player with seatOrder: {} (was: {})", nextSeatOrder, currentIndex);
     }
 
+    // El evento ya lleva currentPlayerIndex, no hace falta resolver el jugador
+    private void publish(Game game, GameStreamEventType type) {
+        gameStreamService.publish(game, type, null, null);
+    }
+
+    // Si el turno es de un bot, el planificador lo juega después del commit
+    private void turnAdvanced(Game game) {
+        Player current = game.getCurrentPlayer();
+        eventPublisher.publishEvent(new TurnAdvancedEvent(game.getId(), game.getGameCode(),
+                current != null ? current.getId() : null,
+                current != null && Boolean.TRUE.equals(current.getIsBot())));
+    }
+
     // Verificar si se puede realizar una acción
     @Override
     public boolean canPerformAction(Game game, String action) {
@@ -467,7 +557,7 @@ public class GameStateServiceImpl implements GameStateService {
 
         Long playerId = game.getCurrentPlayer() != null ? game.getCurrentPlayer().getId() : null;
         if (playerId == null) return false;
-        return hasPlayerConqueredThisTurn(game.getId(), playerId);
+        return hasPlayerConqueredThisTurn(game, playerId);
         // Placeholder: permitir reclamar carta en fases donde es posible
      //   return game.getState() == GameState.HOSTILITY_ONLY || game.getState() == GameState.NORMAL_PLAY;
     }
@@ -633,7 +723,7 @@ public class GameStateServiceImpl implements GameStateService {
             case REINFORCEMENT_3:
                 return targetState == GameState.HOSTILITY_ONLY;
             case HOSTILITY_ONLY:
-                return targetState == GameState.NORMAL_PLAY;
+                return targetState == GameState.NORMAL_PLAY || targetState == GameState.FINISHED;
             case NORMAL_PLAY:
                 return targetState == GameState.PAUSED || targetState == GameState.FINISHED;
             case PAUSED:
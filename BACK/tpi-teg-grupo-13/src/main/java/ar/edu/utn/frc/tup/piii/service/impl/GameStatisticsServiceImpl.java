@@ -0,0 +1,209 @@
+package ar.edu.utn.frc.tup.piii.service.impl;
+
+import ar.edu.utn.frc.tup.piii.dtos.game.GameStatisticsDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.PlayerStatisticsDto;
+import ar.edu.utn.frc.tup.piii.dtos.user.UserStatsDto;
+import ar.edu.utn.frc.tup.piii.entities.GameEventCountEntity;
+import ar.edu.utn.frc.tup.piii.entities.PlayerGameStatsEntity;
+import ar.edu.utn.frc.tup.piii.entities.TurnStatsEntity;
+import ar.edu.utn.frc.tup.piii.entities.UserStatsEntity;
+import ar.edu.utn.frc.tup.piii.model.enums.EventType;
+import ar.edu.utn.frc.tup.piii.repository.GameEventCountRepository;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
+import ar.edu.utn.frc.tup.piii.repository.GameTerritoryRepository;
+import ar.edu.utn.frc.tup.piii.repository.PlayerGameStatsRepository;
+import ar.edu.utn.frc.tup.piii.repository.PlayerRepository;
+import ar.edu.utn.frc.tup.piii.repository.TurnStatsRepository;
+import ar.edu.utn.frc.tup.piii.repository.UserStatsRepository;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStatisticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Lecturas de la proyección de estadísticas que mantiene
+ * {@link ar.edu.utn.frc.tup.piii.engine.GameStatsProjection}: ninguna recorre el historial de
+ * eventos, leen unas pocas filas de contadores. Como el resto de las lecturas del historial, no
+ * escriben lo encolado: se pueden llamar dentro de una transacción, así que la barrera de
+ * {@link ar.edu.utn.frc.tup.piii.engine.GameEventWriter#flush()} la hace el controlador antes.
+ */
+@Service
+public class GameStatisticsServiceImpl implements GameStatisticsService {
+
+    @Autowired
+    private GameEventCountRepository gameEventCountRepository;
+
+    @Autowired
+    private PlayerGameStatsRepository playerGameStatsRepository;
+
+    @Autowired
+    private TurnStatsRepository turnStatsRepository;
+
+    @Autowired
+    private UserStatsRepository userStatsRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameTerritoryRepository gameTerritoryRepository;
+
+    @Override
+    public GameStatisticsDto getGameStatistics(Long gameId) {
+        List<PlayerStatisticsDto> players = getPlayerStatistics(gameId);
+        Map<EventType, Long> counts = getEventCounts(gameId);
+        Map<Long, String> names = playerNames(gameId);
+
+        Map<String, Integer> playerTerritories = new LinkedHashMap<>();
+        Map<String, Integer> playerArmies = new LinkedHashMap<>();
+        for (Object[] row : gameTerritoryRepository.countTerritoriesAndArmiesByOwner(gameId)) {
+            String name = names.getOrDefault((Long) row[0], "Jugador Desconocido");
+            playerTerritories.put(name, ((Number) row[1]).intValue());
+            playerArmies.put(name, row[2] != null ? ((Number) row[2]).intValue() : 0);
+        }
+
+        Integer totalTurns = null;
+        Duration gameDuration = null;
+        List<Object[]> timeline = gameRepository.findTimelineById(gameId);
+        if (!timeline.isEmpty()) {
+            Object[] row = timeline.get(0);
+            totalTurns = (Integer) row[0];
+            LocalDateTime startedAt = (LocalDateTime) row[1];
+            LocalDateTime finishedAt = (LocalDateTime) row[2];
+            if (startedAt != null) {
+                gameDuration = Duration.between(startedAt, finishedAt != null ? finishedAt : LocalDateTime.now());
+            }
+        }
+
+        return GameStatisticsDto.builder()
+                .totalTurns(totalTurns)
+                .gameDuration(gameDuration)
+                .playerTerritories(playerTerritories)
+                .playerArmies(playerArmies)
+                .totalAttacks(counts.getOrDefault(EventType.ATTACK_PERFORMED, 0L).intValue())
+                .territoriesConquered(counts.getOrDefault(EventType.TERRITORY_CONQUERED, 0L).intValue())
+                // El que más atacó y el que más fortificó (movió ejércitos para cubrir sus fronteras)
+                .mostAggressivePlayer(leader(players, PlayerStatisticsDto::getAttacks))
+                .mostDefensivePlayer(leader(players, PlayerStatisticsDto::getFortifications))
+                .players(players)
+                .build();
+    }
+
+    @Override
+    public List<PlayerStatisticsDto> getPlayerStatistics(Long gameId) {
+        Map<Long, String> names = playerNames(gameId);
+        return playerGameStatsRepository.findByGameId(gameId).stream()
+                .sorted(Comparator.comparing(PlayerGameStatsEntity::getPlayerId))
+                .map(stats -> toDto(stats, names))
+                .toList();
+    }
+
+    @Override
+    public List<PlayerStatisticsDto> getTurnStatistics(Long gameId, Integer turnNumber) {
+        Map<Long, String> names = playerNames(gameId);
+        return turnStatsRepository.findByGameIdAndTurnNumber(gameId, turnNumber).stream()
+                .sorted(Comparator.comparing(TurnStatsEntity::getPlayerId))
+                .map(stats -> toDto(stats, names))
+                .toList();
+    }
+
+    @Override
+    public Map<EventType, Long> getEventCounts(Long gameId) {
+        Map<EventType, Long> counts = new EnumMap<>(EventType.class);
+        for (GameEventCountEntity count : gameEventCountRepository.findByGameId(gameId)) {
+            counts.put(count.getEventType(), count.getEventCount());
+        }
+        return counts;
+    }
+
+    @Override
+    public long countEventsByType(Long gameId, EventType eventType) {
+        return gameEventCountRepository.findByGameIdAndEventType(gameId, eventType)
+                .map(GameEventCountEntity::getEventCount)
+                .orElse(0L);
+    }
+
+    @Override
+    public UserStatsDto getUserStats(Long userId) {
+        UserStatsEntity stats = userStatsRepository.findById(userId).orElseGet(() -> {
+            // Un usuario que todavía no terminó ninguna partida
+            UserStatsEntity empty = new UserStatsEntity();
+            empty.setUserId(userId);
+            return empty;
+        });
+        return UserStatsDto.builder()
+                .userId(userId)
+                .gamesPlayed(stats.getGamesPlayed())
+                .gamesWon(stats.getGamesWon())
+                .winRate(stats.getGamesPlayed() > 0 ? (double) stats.getGamesWon() / stats.getGamesPlayed() : 0.0)
+                .attacks(stats.getAttacks())
+                .successfulAttacks(stats.getSuccessfulAttacks())
+                .conquests(stats.getConquests())
+                .eliminations(stats.getEliminations())
+                .turnsPlayed(stats.getTurnsPlayed())
+                .lastGameAt(stats.getLastGameAt())
+                .build();
+    }
+
+    /**
+     * Nombre de cada jugador de la partida: usuario, bot o "Jugador Desconocido"
+     */
+    private Map<Long, String> playerNames(Long gameId) {
+        Map<Long, String> names = new HashMap<>();
+        for (Object[] row : playerRepository.findChatNamesByGameId(gameId)) {
+            String name = row[1] != null ? (String) row[1] : row[2] != null ? (String) row[2] : "Jugador Desconocido";
+            names.put((Long) row[0], name);
+        }
+        return names;
+    }
+
+    private static String leader(List<PlayerStatisticsDto> players, Function<PlayerStatisticsDto, Integer> counter) {
+        return players.stream()
+                .filter(player -> counter.apply(player) > 0)
+                .max(Comparator.comparing(counter))
+                .map(PlayerStatisticsDto::getPlayerName)
+                .orElse(null);
+    }
+
+    private static PlayerStatisticsDto toDto(PlayerGameStatsEntity stats, Map<Long, String> names) {
+        return PlayerStatisticsDto.builder()
+                .playerId(stats.getPlayerId())
+                .playerName(names.getOrDefault(stats.getPlayerId(), "Jugador Desconocido"))
+                .attacks(stats.getAttacks())
+                .successfulAttacks(stats.getSuccessfulAttacks())
+                .conquests(stats.getConquests())
+                .armiesPlaced(stats.getArmiesPlaced())
+                .fortifications(stats.getFortifications())
+                .cardsTraded(stats.getCardsTraded())
+                .turnsPlayed(stats.getTurnsPlayed())
+                .eliminations(stats.getEliminations())
+                .eliminated(stats.getEliminated())
+                .build();
+    }
+
+    private static PlayerStatisticsDto toDto(TurnStatsEntity stats, Map<Long, String> names) {
+        return PlayerStatisticsDto.builder()
+                .playerId(stats.getPlayerId())
+                .playerName(names.getOrDefault(stats.getPlayerId(), "Jugador Desconocido"))
+                .turnNumber(stats.getTurnNumber())
+                .attacks(stats.getAttacks())
+                .successfulAttacks(stats.getSuccessfulAttacks())
+                .conquests(stats.getConquests())
+                .armiesPlaced(stats.getArmiesPlaced())
+                .fortifications(stats.getFortifications())
+                .cardsTraded(stats.getCardsTraded())
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package ar.edu.utn.frc.tup.piii.service.impl;
+
+import ar.edu.utn.frc.tup.piii.dtos.game.GameStreamEventDto;
+import ar.edu.utn.frc.tup.piii.exceptions.GameNotFoundException;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.enums.GameStreamEventType;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStreamService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@Slf4j
+public class GameStreamServiceImpl implements GameStreamService {
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Value("${game.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    private final Map<Long, List<SseEmitter>> emittersByGame = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public SseEmitter subscribe(String gameCode) {
+        Long gameId = gameRepository.findIdByGameCode(gameCode)
+                .orElseThrow(() -> new GameNotFoundException("Game not found with code: " + gameCode));
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        // Se agrega dentro de compute para no competir con remove() vaciando la misma lista
+        List<SseEmitter> emitters = emittersByGame.compute(gameId, (id, current) -> {
+            List<SseEmitter> list = current != null ? current : new CopyOnWriteArrayList<>();
+            list.add(emitter);
+            return list;
+        });
+
+        emitter.onCompletion(() -> remove(gameId, emitter));
+        emitter.onTimeout(() -> remove(gameId, emitter));
+        emitter.onError(e -> remove(gameId, emitter));
+
+        log.debug("Client subscribed to game {} stream ({} subscribers)", gameCode, emitters.size());
+        return emitter;
+    }
+
+    @Override
+    public void publish(Game game, GameStreamEventType type, Long playerId, Object payload) {
+        GameStreamEventDto event = GameStreamEventDto.builder()
+                .type(type)
+                .gameId(game.getId())
+                .playerId(playerId)
+                .state(game.getState())
+                .phase(game.getCurrentPhase())
+                .currentTurn(game.getCurrentTurn())
+                .currentPlayerIndex(game.getCurrentPlayerIndex())
+                .payload(payload)
+                .timestamp(LocalDateTime.now())
+                .build();
+        publishAfterCommit(event);
+    }
+
+    @Override
+    public void publish(Long gameId, GameStreamEventType type, Long playerId, Object payload) {
+        GameStreamEventDto event = GameStreamEventDto.builder()
+                .type(type)
+                .gameId(gameId)
+                .playerId(playerId)
+                .payload(payload)
+                .timestamp(LocalDateTime.now())
+                .build();
+        publishAfterCommit(event);
+    }
+
+    @Override
+    public int getSubscriberCount(Long gameId) {
+        List<SseEmitter> emitters = emittersByGame.get(gameId);
+        return emitters != null ? emitters.size() : 0;
+    }
+
+    /**
+     * Los clientes vuelven a pedir el estado al recibir el evento, por eso no se envía
+     * hasta que el cambio esté confirmado en la base.
+     */
+    private void publishAfterCommit(GameStreamEventDto event) {
+        if (event.getGameId() == null || !emittersByGame.containsKey(event.getGameId())) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(GameStreamEventDto event) {
+        List<SseEmitter> emitters = emittersByGame.get(event.getGameId());
+        if (emitters == null) {
+            return;
+        }
+        String id = String.valueOf(sequence.incrementAndGet());
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(id)
+                        .name(event.getType().name())
+                        .data(event, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado: se descarta el emitter
+                log.debug("Dropping stream subscriber of game {}: {}", event.getGameId(), e.getMessage());
+                remove(event.getGameId(), emitter);
+            }
+        }
+    }
+
+    private void remove(Long gameId, SseEmitter emitter) {
+        emittersByGame.computeIfPresent(gameId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
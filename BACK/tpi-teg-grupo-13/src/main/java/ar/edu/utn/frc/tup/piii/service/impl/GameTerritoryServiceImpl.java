@@ -1,9 +1,16 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
+import ar.edu.utn.frc.tup.piii.engine.TurnConquestStore;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameTerritoryEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
 import ar.edu.utn.frc.tup.piii.entities.CountryEntity;
+import ar.edu.utn.frc.tup.piii.engine.GameVersionTracker;
+import ar.edu.utn.frc.tup.piii.engine.HotGame;
+import ar.edu.utn.frc.tup.piii.engine.HotGameStore;
+import ar.edu.utn.frc.tup.piii.engine.OwnershipIndex;
+import ar.edu.utn.frc.tup.piii.engine.ReferenceDataCache;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
 import ar.edu.utn.frc.tup.piii.exceptions.GameNotFoundException;
 import ar.edu.utn.frc.tup.piii.exceptions.PlayerNotFoundException;
 import ar.edu.utn.frc.tup.piii.mappers.PlayerMapper;
@@ -17,7 +24,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -34,6 +42,9 @@ public class GameTerritoryServiceImpl implements GameTerritoryService {
     @Autowired
     private CountryRepository countryRepository;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     @Autowired
     private GameRepository gameRepository;
 
@@ -46,25 +57,45 @@ public class GameTerritoryServiceImpl implements GameTerritoryService {
     @Autowired
     private PlayerMapper playerMapper;
 
+    @Autowired
+    private WorldMap worldMap;
+
+    @Autowired
+    private OwnershipIndex ownershipIndex;
+
+    @Autowired
+    private HotGameStore hotGameStore;
+
+    @Autowired
+    private GameVersionTracker gameVersionTracker;
+
+    @Autowired
+    private TurnConquestStore turnConquestStore;
+
     @Override
     public List<GameTerritoryEntity> getByOwner(PlayerEntity player) {
+        // Las entidades se leen de la base: primero se bajan los ejércitos pendientes
+        if (player.getGame() != null) {
+            hotGameStore.flush(player.getGame().getId());
+        }
         return gameTerritoryRepository.findByOwner(player);
     }
 
     @Override
     public List<GameTerritoryEntity> getByContinent(GameEntity game, String continentName) {
+        hotGameStore.flush(game.getId());
         return gameTerritoryRepository.findTerritoriesByContinentName(game, continentName);
     }
 
     @Override
     public long countWithMinArmies(PlayerEntity player, int min) {
-        return gameTerritoryRepository.findByOwner(player).stream()
+        return getByOwner(player).stream()
                 .filter(t -> t.getArmies() >= min)
                 .count();
     }
 
     public List<Territory> getAllAvailableTerritories() {
-        return countryRepository.findAll().stream()
+        return referenceDataCache.countries().stream()
                 .map(this::convertCountryToTerritory)
                 .collect(Collectors.toList());
     }
@@ -74,7 +105,7 @@ public class GameTerritoryServiceImpl implements GameTerritoryService {
         GameEntity game = gameRepository.findById(gameId)
                 .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
 
-        CountryEntity country = countryRepository.findById(countryId)
+        CountryEntity country = referenceDataCache.country(countryId)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Country not found with id: " + countryId));
 
@@ -89,25 +120,39 @@ public class GameTerritoryServiceImpl implements GameTerritoryService {
         if (existingTerritory.isPresent()) {
             // Actualizar el dueño y los armies
             GameTerritoryEntity territory = existingTerritory.get();
+            Long previousOwnerId = ownerIdOf(territory);
             territory.setOwner(player);
             territory.setArmies(initialArmies);
             gameTerritoryRepository.save(territory);
+            ownershipIndex.setOwner(gameId, countryId, playerId);
+            hotGameStore.applyPersisted(gameId, countryId, playerId, initialArmies);
+            gameVersionTracker.territoryChanged(gameId, countryId, playerId, previousOwnerId);
         } else {
             // crear territoty
             GameTerritoryEntity newTerritory = new GameTerritoryEntity();
             newTerritory.setGame(game);
-            newTerritory.setCountry(country);
+            // La copia del cache no está en la sesión: la asociación se arma con una referencia por ID
+            newTerritory.setCountry(countryRepository.getReferenceById(countryId));
             newTerritory.setOwner(player);
             newTerritory.setArmies(initialArmies);
             gameTerritoryRepository.save(newTerritory);
+            ownershipIndex.setOwner(gameId, countryId, playerId);
+            hotGameStore.applyPersisted(gameId, countryId, playerId, initialArmies);
+            gameVersionTracker.territoryChanged(gameId, countryId, playerId);
         }
     }
 
     public Territory getTerritoryByGameAndCountry(Long gameId, Long countryId) {
+        HotGame hotGame = hotGameStore.get(gameId);
+        if (hotGame != null) {
+            int index = worldMap.indexOf(countryId);
+            return hotGame.contains(index) ? convertToTerritory(hotGame, index) : null;
+        }
+
         GameEntity game = gameRepository.findById(gameId)
                 .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
 
-        CountryEntity country = countryRepository.findById(countryId)
+        CountryEntity country = referenceDataCache.country(countryId)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Country not found with id: " + countryId));
 
@@ -119,10 +164,22 @@ public class GameTerritoryServiceImpl implements GameTerritoryService {
     @Override
     @Transactional
     public void addArmiesToTerritory(Long gameId, Long countryId, Integer armies) {
+        HotGame hotGame = hotGameStore.get(gameId);
+        if (hotGame != null) {
+            // Modo hot game: el cambio queda en memoria y se escribe en el próximo flush
+            int index = worldMap.indexOf(countryId);
+            if (!hotGame.contains(index)) {
+                throw new IllegalArgumentException("Territory not found in game");
+            }
+            hotGameStore.addArmies(hotGame, index, armies);
+            gameVersionTracker.territoryChanged(gameId, countryId, hotGame.ownerAt(index));
+            return;
+        }
+
         GameEntity game = gameRepository.findById(gameId)
                 .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
 
-        CountryEntity country = countryRepository.findById(countryId)
+        CountryEntity country = referenceDataCache.country(countryId)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Country not found with id: " + countryId));
 
@@ -131,9 +188,15 @@ public class GameTerritoryServiceImpl implements GameTerritoryService {
 
         territory.setArmies(territory.getArmies() + armies);
         gameTerritoryRepository.save(territory);
+        gameVersionTracker.territoryChanged(gameId, countryId, ownerIdOf(territory));
     }
 
     public List<Territory> getTerritoriesByOwner(Long gameId, Long playerId) {
+        HotGame hotGame = hotGameStore.get(gameId);
+        if (hotGame != null) {
+            return convertToTerritories(hotGame, hotGame.indexesOwnedBy(playerId, 0));
+        }
+
         GameEntity game = gameRepository.findById(gameId)
                 .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
 
@@ -146,7 +209,13 @@ public class GameTerritoryServiceImpl implements GameTerritoryService {
                 .collect(Collectors.toList());
     }
 
+    @Override
     public List<Territory> getAllTerritoriesInGame(Long gameId) {
+        HotGame hotGame = hotGameStore.get(gameId);
+        if (hotGame != null) {
+            return convertToTerritories(hotGame, hotGame.territoryIndexes());
+        }
+
         GameEntity game = gameRepository.findById(gameId)
                 .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
 
@@ -158,52 +227,42 @@ public class GameTerritoryServiceImpl implements GameTerritoryService {
     /**
      * Verifica si un jugador controla completamente un continente.
      * Un jugador controla un continente si posee TODOS los territorios de ese continente.
+     * Se resuelve con el índice de dueños en memoria, sin cargar los territorios.
      */
     @Override
     public boolean doesPlayerControlContinent(Long gameId, Long playerId, String continentName) {
-        log.debug("Checking if player {} controls continent {} in game {}", playerId, continentName, gameId);
-
-        GameEntity game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
-
-        PlayerEntity player = playerRepository.findById(playerId)
-                .orElseThrow(() -> new PlayerNotFoundException(
-                        "Player not found with id: " + playerId));
-
-        // Obtener todos los territorios del continente
-        List<GameTerritoryEntity> continentTerritories = gameTerritoryRepository
-                .findTerritoriesByContinentName(game, continentName);
-
-        if (continentTerritories.isEmpty()) {
-            log.warn("No territories found for continent {} in game {}", continentName, gameId);
-            return false;
+        // Si la partida ya está en el índice existe; si no, se confirma antes de armarlo
+        if (!ownershipIndex.isIndexed(gameId) && !gameRepository.existsById(gameId)) {
+            throw new GameNotFoundException("Game not found with id: " + gameId);
         }
+        boolean controlsAll = ownershipIndex.controlsContinent(gameId, playerId, continentName);
 
-        // Verificar que el jugador posee TODOS los territorios del continente
-        boolean controlsAll = continentTerritories.stream()
-                .allMatch(territory -> {
-                    boolean owns = territory.getOwner() != null &&
-                            territory.getOwner().getId().equals(player.getId());
-                    if (!owns) {
-                        log.debug("Player {} does NOT own territory {} in continent {}",
-                                playerId, territory.getCountry().getName(), continentName);
-                    }
-                    return owns;
-                });
-
-        log.info("Player {} {} continent {} (owns {}/{} territories)",
+        log.debug("Player {} {} continent {} in game {} (owns {} territories)",
                 playerId,
                 controlsAll ? "CONTROLS" : "does NOT control",
                 continentName,
-                continentTerritories.stream()
-                        .filter(t -> t.getOwner() != null && t.getOwner().getId().equals(player.getId()))
-                        .count(),
-                continentTerritories.size());
+                gameId,
+                ownershipIndex.countInContinent(gameId, playerId, continentName));
 
         return controlsAll;
     }
 
+    @Override
+    public int countTerritoriesByOwner(Long gameId, Long playerId) {
+        return ownershipIndex.countTerritories(gameId, playerId);
+    }
+
+    @Override
+    public boolean doesPlayerOwnAll(Long gameId, Long playerId, Collection<Long> countryIds) {
+        return ownershipIndex.ownsAll(gameId, playerId, countryIds);
+    }
+
     public int getTotalArmiesByPlayer(Long gameId, Long playerId) {
+        HotGame hotGame = hotGameStore.get(gameId);
+        if (hotGame != null) {
+            return hotGame.totalArmies(playerId);
+        }
+
         GameEntity game = gameRepository.findById(gameId)
                 .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
 
@@ -216,6 +275,11 @@ public class GameTerritoryServiceImpl implements GameTerritoryService {
     }
 
     public List<Territory> getTerritoriesCanAttack(Long gameId, Long playerId) {
+        HotGame hotGame = hotGameStore.get(gameId);
+        if (hotGame != null) {
+            return convertToTerritories(hotGame, hotGame.indexesOwnedBy(playerId, 2));
+        }
+
         GameEntity game = gameRepository.findById(gameId)
                 .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
 
@@ -234,7 +298,7 @@ public class GameTerritoryServiceImpl implements GameTerritoryService {
         GameEntity game = gameRepository.findById(gameId)
                 .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
 
-        CountryEntity country = countryRepository.findById(countryId)
+        CountryEntity country = referenceDataCache.country(countryId)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Country not found with id: " + countryId));
 
@@ -245,36 +309,31 @@ public class GameTerritoryServiceImpl implements GameTerritoryService {
         GameTerritoryEntity territory = gameTerritoryRepository.findByGameAndCountry(game, country)
                 .orElseThrow(() -> new IllegalArgumentException("Territory not found in game"));
 
+        Long previousOwnerId = ownerIdOf(territory);
         territory.setOwner(newOwner);
 
         //registrar conquista
-        GameStateServiceImpl.registerConquest(game.getId(), newOwnerId);
+        int turnNumber = game.getCurrentTurn() != null ? game.getCurrentTurn() : 0;
+        turnConquestStore.registerConquest(game.getId(), turnNumber, newOwnerId);
 
         territory.setArmies(armies);
         gameTerritoryRepository.save(territory);
+        ownershipIndex.setOwner(gameId, countryId, newOwnerId);
+        hotGameStore.applyPersisted(gameId, countryId, newOwnerId, armies);
+        gameVersionTracker.territoryChanged(gameId, countryId, newOwnerId, previousOwnerId);
     }
 
     @Override
     public boolean areTerritoriesNeighbors(Long countryId1, Long countryId2) {
-        return countryRepository.areCountriesNeighbors(countryId1, countryId2);
+        return worldMap.areNeighbors(countryId1, countryId2);
     }
 
     @Override
     public List<Territory> getNeighborTerritories(Long gameId, Long countryId) {
-        Set<Long> neighborIds = new HashSet<>();
-
-        // 1. Obtener vecinos directos (donde countryId es el "country_id" en la tabla)
-        CountryEntity country = countryRepository.findById(countryId).orElse(null);
-        if (country != null) {
-            country.getNeighbors().forEach(neighbor -> neighborIds.add(neighbor.getId()));
-        }
-
-        // 2. Obtener vecinos inversos (donde countryId es el "neighbor_id" en la tabla)
-        List<CountryEntity> countriesWithThisAsNeighbor = countryRepository
-                .findCountriesThatHaveAsNeighbor(countryId);
-        countriesWithThisAsNeighbor.forEach(c -> neighborIds.add(c.getId()));
+        // Vecinos directos e inversos ya vienen resueltos en el mapa en memoria
+        Set<Long> neighborIds = worldMap.neighborIdsOf(countryId);
 
-        // 3. Convertir IDs de países a territorios del juego específico
+        // Convertir IDs de países a territorios del juego específico
         return neighborIds.stream()
                 .map(neighborId -> getTerritoryByGameAndCountry(gameId, neighborId))
                 .filter(Objects::nonNull)
@@ -286,10 +345,14 @@ public class GameTerritoryServiceImpl implements GameTerritoryService {
         GameEntity game = gameRepository.findById(gameId)
                 .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
 
-        CountryEntity country = countryRepository.findByName(countryName)
+        CountryEntity country = referenceDataCache.countryByName(countryName)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Country not found with name: " + countryName));
 
+        if (hotGameStore.get(gameId) != null) {
+            return getTerritoryByGameAndCountry(gameId, country.getId());
+        }
+
         return gameTerritoryRepository.findByGameAndCountry(game, country)
                 .map(this::convertToTerritory)
                 .orElse(null);
@@ -301,23 +364,12 @@ public class GameTerritoryServiceImpl implements GameTerritoryService {
      * Convierte un CountryEntity a Territory básico (sin propietario).
      */
     private Territory convertCountryToTerritory(CountryEntity country) {
-        // Get both direct and inverse neighbors
-        Set<Long> neighborIds = new HashSet<>();
-
-        // Direct neighbors (where this country is the source)
-        country.getNeighbors().forEach(neighbor -> neighborIds.add(neighbor.getId()));
-
-        // Inverse neighbors (where other countries have this country as neighbor)
-        List<CountryEntity> countriesWithThisAsNeighbor = countryRepository
-                .findCountriesThatHaveAsNeighbor(country.getId());
-        countriesWithThisAsNeighbor.forEach(c -> neighborIds.add(c.getId()));
-
         return Territory.builder()
                 .id(country.getId())
                 .name(country.getName())
                 .continentName(country.getContinent().getName())
                 .armies(1) // Por defecto
-                .neighborIds(neighborIds)
+                .neighborIds(worldMap.neighborIdsOf(country.getId()))
                 .build();
     }
 
@@ -340,9 +392,43 @@ public class GameTerritoryServiceImpl implements GameTerritoryService {
                 .ownerId(entity.getOwner() != null ? entity.getOwner().getId() : null)
                 .ownerName(ownerName)  // ← Ahora incluye el # y número para bots
                 .armies(entity.getArmies())
-                .neighborIds(entity.getCountry().getNeighbors().stream()
-                        .map(CountryEntity::getId)
-                        .collect(Collectors.toSet()))
+                .neighborIds(worldMap.neighborIdsOf(entity.getCountry().getId()))
+                .build();
+    }
+
+    /**
+     * Convierte un país del agregado en memoria a Territory completo.
+     */
+    private Territory convertToTerritory(HotGame hotGame, int index) {
+        Long countryId = worldMap.countryIdAt(index);
+        Long ownerId = hotGame.ownerAt(index);
+
+        return Territory.builder()
+                .id(countryId)
+                .name(worldMap.countryNameAt(index))
+                .continentName(worldMap.continentNameAt(worldMap.continentOf(index)))
+                .ownerId(ownerId)
+                .ownerName(hotGame.ownerName(ownerId, this::loadDisplayName))
+                .armies(hotGame.armiesAt(index))
+                .neighborIds(worldMap.neighborIdsOf(countryId))
                 .build();
     }
-}
\ No newline at end of file
+
+    private List<Territory> convertToTerritories(HotGame hotGame, int[] indexes) {
+        List<Territory> territories = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            territories.add(convertToTerritory(hotGame, index));
+        }
+        return territories;
+    }
+
+    private String loadDisplayName(Long playerId) {
+        return playerRepository.findById(playerId)
+                .map(player -> playerMapper.toModel(player).getDisplayName())
+                .orElse(null);
+    }
+
+    private Long ownerIdOf(GameTerritoryEntity territory) {
+        return territory.getOwner() != null ? territory.getOwner().getId() : null;
+    }
+}
@@ -1,5 +1,7 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
+import ar.edu.utn.frc.tup.piii.engine.GameChange;
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
 import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
 import ar.edu.utn.frc.tup.piii.exceptions.PlayerNotFoundException;
 import ar.edu.utn.frc.tup.piii.model.*;
@@ -13,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +30,8 @@ public class InitialPlacementServiceImpl implements InitialPlacementService {
     private GameTerritoryService gameTerritoryService;
     @Autowired
     private GameStateService gameStateService;
+    @Autowired
+    private GameEventStore gameEventStore;
 
     @Transactional
     public void placeInitialArmies(String gameCode, Long playerId, Map<Long, Integer> armiesByCountry) {
@@ -41,6 +46,7 @@ public class InitialPlacementServiceImpl implements InitialPlacementService {
 
         int totalArmies = armiesByCountry.values().stream().mapToInt(Integer::intValue).sum();
         playerService.removeArmiesToPlace(playerId, totalArmies);
+        gameEventStore.append(game.getId(), new GameChange.ArmiesPlaced(playerId, new HashMap<>(armiesByCountry), true));
 
         checkAndAdvanceTurn(game);
     }
@@ -172,6 +178,7 @@ public class InitialPlacementServiceImpl implements InitialPlacementService {
         for (Player player : game.getPlayers()) {
             if (player.getStatus() == PlayerStatus.ACTIVE) {
                 playerService.addArmiesToPlace(player.getId(), 3);
+                gameEventStore.append(game.getId(), new GameChange.ReinforcementsGranted(player.getId(), 3));
             }
         }
         game.setCurrentPlayerIndex(0);
@@ -1,5 +1,8 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
+import ar.edu.utn.frc.tup.piii.engine.ReferenceDataCache;
+import ar.edu.utn.frc.tup.piii.engine.VictoryEvaluator;
 import ar.edu.utn.frc.tup.piii.entities.ObjectiveEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
@@ -40,29 +43,39 @@ public class ObjectiveServiceImpl implements ObjectiveService {
     @Autowired
     private GameTerritoryService gameTerritoryService;
 
-    private static final int COMMON_OBJECTIVE_TERRITORIES = 30; // TEG standard
+    @Autowired
+    private GameRandom gameRandom;
+
+    @Autowired
+    private VictoryEvaluator victoryEvaluator;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    private static final int COMMON_OBJECTIVE_TERRITORIES = VictoryEvaluator.COMMON_OBJECTIVE_TERRITORIES;
 
     @Override
     public Objective save(Objective objective) {
         ObjectiveEntity saved = objectiveRepository.save(objectiveMapper.toEntity(objective));
+        referenceDataCache.evictObjectives();
         return objectiveMapper.toModel(saved);
     }
 
     @Override
     public Optional<Objective> findById(Long id) {
-        return objectiveRepository.findById(id).map(objectiveMapper::toModel);
+        return referenceDataCache.objective(id).map(objectiveMapper::toModel);
     }
 
     @Override
     public List<Objective> findAll() {
-        return objectiveRepository.findAll().stream()
+        return referenceDataCache.objectives().stream()
                 .map(objectiveMapper::toModel)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<Objective> findByType(ObjectiveType type) {
-        return objectiveRepository.findByType(type).stream()
+        return referenceDataCache.objectivesByType(type).stream()
                 .map(objectiveMapper::toModel)
                 .collect(Collectors.toList());
     }
@@ -70,6 +83,7 @@ public class ObjectiveServiceImpl implements ObjectiveService {
     @Override
     public void deleteById(Long id) {
         objectiveRepository.deleteById(id);
+        referenceDataCache.evictObjectives();
     }
 
     @Override
@@ -80,7 +94,7 @@ public class ObjectiveServiceImpl implements ObjectiveService {
     @Override
     public void assignObjectivesToPlayers(Game game) {
         List<Objective> objectives = new ArrayList<>(findAll());
-        Collections.shuffle(objectives);
+        gameRandom.shuffle(game.getId(), GameRandom.Stream.SETUP, objectives);
 
         List<Player> players = game.getPlayers();
         for (int i = 0; i < players.size(); i++) {
@@ -88,6 +102,8 @@ public class ObjectiveServiceImpl implements ObjectiveService {
             Objective o = objectives.get(i % objectives.size());
             p.setObjective(o);
         }
+        // Los contadores se rearman con los objetivos nuevos
+        victoryEvaluator.evict(game.getId());
     }
 
     @Override
@@ -123,22 +139,12 @@ public class ObjectiveServiceImpl implements ObjectiveService {
     public Optional<Player> findWinner(Game game) {
         log.debug("Checking for winner in game {}", game.getGameCode());
 
-        return game.getPlayers().stream()
-                .filter(player -> player.getStatus() == PlayerStatus.ACTIVE)
-                .filter(player -> {
-                    Objective objective = player.getObjective();
-                    if (objective == null) {
-                        log.warn("Player {} has no objective assigned", player.getDisplayName());
-                        return false;
-                    }
-                    boolean achieved = validateObjectiveCompletion(objective, game, player);
-                    if (achieved) {
-                        log.info("Player {} has achieved their objective: {}",
-                                player.getDisplayName(), objective.getDescription());
-                    }
-                    return achieved;
-                })
-                .findFirst();
+        // El ganador sale de los contadores de VictoryEvaluator, sin recorrer el tablero
+        return victoryEvaluator.winner(game.getId())
+                .flatMap(winnerId -> game.getPlayers().stream()
+                        .filter(player -> winnerId.equals(player.getId()))
+                        .filter(player -> player.getStatus() == PlayerStatus.ACTIVE)
+                        .findFirst());
     }
 
     /**
@@ -146,8 +152,7 @@ public class ObjectiveServiceImpl implements ObjectiveService {
      */
     private boolean validateCommonObjective(Game game, Player player) {
         // Contar territorios que pertenecen al jugador
-        List<Territory> playerTerritories = gameTerritoryService.getTerritoriesByOwner(game.getId(), player.getId());
-        int territoryCount = playerTerritories.size();
+        int territoryCount = gameTerritoryService.countTerritoriesByOwner(game.getId(), player.getId());
 
         log.debug("Player {} has {} territories (needs {} for common objective)",
                 player.getDisplayName(), territoryCount, COMMON_OBJECTIVE_TERRITORIES);
@@ -239,6 +244,14 @@ public class ObjectiveServiceImpl implements ObjectiveService {
 
     @Override
     public String getObjectiveProgress(Long objectiveId, Game game, Player player) {
+        if (player.getObjective() != null && objectiveId.equals(player.getObjective().getId())) {
+            // Objetivo asignado al jugador: el progreso ya está calculado en memoria
+            Optional<VictoryEvaluator.ObjectiveProgress> progress = victoryEvaluator.progress(game.getId(), player.getId());
+            if (progress.isPresent()) {
+                return progress.get().description();
+            }
+        }
+
         Optional<Objective> objectiveOpt = findById(objectiveId);
         if (objectiveOpt.isEmpty()) {
             return "Objective not found";
@@ -248,8 +261,8 @@ public class ObjectiveServiceImpl implements ObjectiveService {
 
         switch (objective.getType()) {
             case COMMON:
-                List<Territory> territories = gameTerritoryService.getTerritoriesByOwner(game.getId(), player.getId());
-                return String.format("Territories: %d/%d", territories.size(), COMMON_OBJECTIVE_TERRITORIES);
+                int territoryCount = gameTerritoryService.countTerritoriesByOwner(game.getId(), player.getId());
+                return String.format("Territories: %d/%d", territoryCount, COMMON_OBJECTIVE_TERRITORIES);
 
             case OCCUPATION:
                 List<String> targetContinents = objective.getTargetContinents();
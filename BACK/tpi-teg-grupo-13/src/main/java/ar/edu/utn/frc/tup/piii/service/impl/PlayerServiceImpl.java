@@ -1,5 +1,9 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
+import ar.edu.utn.frc.tup.piii.engine.GameChange;
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
+import ar.edu.utn.frc.tup.piii.engine.GameVersionTracker;
+import ar.edu.utn.frc.tup.piii.engine.VictoryEvaluator;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.ObjectiveEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
@@ -11,6 +15,7 @@ import ar.edu.utn.frc.tup.piii.mappers.UserMapper;
 import ar.edu.utn.frc.tup.piii.model.*;
 import ar.edu.utn.frc.tup.piii.model.enums.*;
 import ar.edu.utn.frc.tup.piii.repository.PlayerRepository;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStreamService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.PlayerService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -33,6 +38,14 @@ public class PlayerServiceImpl implements PlayerService {
     private UserMapper userMapper;
     @Autowired
     private ObjectiveMapper objectiveMapper;
+    @Autowired
+    private GameStreamService gameStreamService;
+    @Autowired
+    private GameVersionTracker gameVersionTracker;
+    @Autowired
+    private GameEventStore gameEventStore;
+    @Autowired
+    private VictoryEvaluator victoryEvaluator;
 
 
     @Override
@@ -148,7 +161,16 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public void eliminatePlayer(Long playerId) {
-        updateStatus(playerId, PlayerStatus.ELIMINATED);
+        playerRepository.findById(playerId).ifPresent(player -> {
+            player.setStatus(PlayerStatus.ELIMINATED);
+            playerRepository.save(player);
+            markChanged(player);
+            if (player.getGame() != null) {
+                gameEventStore.append(player.getGame().getId(), new GameChange.PlayerEliminated(playerId));
+                victoryEvaluator.playerEliminated(player.getGame().getId(), playerId);
+                gameStreamService.publish(player.getGame().getId(), GameStreamEventType.PLAYER_ELIMINATED, playerId, null);
+            }
+        });
     }
 
     @Override
@@ -161,6 +183,7 @@ public class PlayerServiceImpl implements PlayerService {
         playerRepository.findById(playerId).ifPresent(player -> {
             player.setStatus(status);
             playerRepository.save(player);
+            markChanged(player);
         });
     }
 
@@ -184,6 +207,7 @@ public class PlayerServiceImpl implements PlayerService {
         playerRepository.findById(playerId).ifPresent(player -> {
             player.setObjective(entityOb);
             playerRepository.save(player);
+            markChanged(player);
         });
     }
 
@@ -213,10 +237,7 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public int getArmiesToPlace(Long playerId) {
-        return playerRepository.findById(playerId)
-                .map(playerMapper::toModel)
-                .map(Player::getArmiesToPlace)
-                .orElse(0);
+        return playerRepository.findArmiesToPlaceById(playerId).orElse(0);
     }
 
 
@@ -236,4 +257,10 @@ public class PlayerServiceImpl implements PlayerService {
                 .map(player -> player.getGame().getId().equals(gameId))
                 .orElse(false);
     }
-}
\ No newline at end of file
+
+    private void markChanged(PlayerEntity player) {
+        if (player.getGame() != null) {
+            gameVersionTracker.playerChanged(player.getGame().getId(), player.getId());
+        }
+    }
+}
@@ -2,11 +2,15 @@ package ar.edu.utn.frc.tup.piii.service.impl;
 
 import ar.edu.utn.frc.tup.piii.dtos.country.TerritoryDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.ReinforcementStatusDto;
+import ar.edu.utn.frc.tup.piii.engine.GameChange;
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
+import ar.edu.utn.frc.tup.piii.engine.GameVersionTracker;
 import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
 import ar.edu.utn.frc.tup.piii.exceptions.PlayerNotFoundException;
 import ar.edu.utn.frc.tup.piii.mappers.CountryMapper;
 import ar.edu.utn.frc.tup.piii.model.*;
 import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.GameStreamEventType;
 import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
 import ar.edu.utn.frc.tup.piii.service.interfaces.*;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +40,15 @@ public class ReinforcementServiceImpl implements ReinforcementService {
     @Autowired
     private CountryMapper countryMapper;
 
+    @Autowired
+    private GameStreamService gameStreamService;
+
+    @Autowired
+    private GameVersionTracker gameVersionTracker;
+
+    @Autowired
+    private GameEventStore gameEventStore;
+
     // Constantes del juego
     private static final int MIN_REINFORCEMENT_ARMIES = 3;
     private static final int TERRITORIES_PER_ARMY = 2;
@@ -58,6 +71,8 @@ public class ReinforcementServiceImpl implements ReinforcementService {
         // Reducir ejércitos pendientes del jugador
         int totalPlaced = armiesByCountry.values().stream().mapToInt(Integer::intValue).sum();
         playerService.removeArmiesToPlace(playerId, totalPlaced);
+        gameEventStore.append(game.getId(), new GameChange.ArmiesPlaced(playerId, new HashMap<>(armiesByCountry), true));
+        gameStreamService.publish(game, GameStreamEventType.REINFORCEMENT_PLACED, playerId, armiesByCountry);
 
         // Si el jugador no tiene más ejércitos para colocar, avanzar a la fase de ataque
         if (playerService.getArmiesToPlace(playerId) == 0) {
@@ -136,6 +151,8 @@ public class ReinforcementServiceImpl implements ReinforcementService {
 
                 // Asignar los ejércitos al jugador
                 playerService.addArmiesToPlace(playerId, totalArmies);
+                gameVersionTracker.playerChanged(game.getId(), playerId);
+                gameEventStore.append(game.getId(), new GameChange.ReinforcementsGranted(playerId, totalArmies));
                 armiesToPlace = totalArmies;
             } else {
                 // Si ya tiene ejércitos, calcular los valores para mostrar
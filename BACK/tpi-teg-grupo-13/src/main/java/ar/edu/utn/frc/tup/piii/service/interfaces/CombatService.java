@@ -1,6 +1,8 @@
 package ar.edu.utn.frc.tup.piii.service.interfaces;
 
 import ar.edu.utn.frc.tup.piii.dtos.game.AttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzAttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzResultDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.CombatResultDto;
 import ar.edu.utn.frc.tup.piii.model.Territory;
 import java.util.List;
@@ -9,6 +11,13 @@ public interface CombatService {
 
     CombatResultDto performCombat(String gameCode, AttackDto attackDto);
 
+    /**
+     * Ataca tirando los dados una y otra vez hasta conquistar el país, quedar con
+     * {@code stopAtArmies} ejércitos o no poder seguir atacando. Los ejércitos de ambos
+     * países se actualizan una sola vez al final.
+     */
+    BlitzResultDto performBlitz(String gameCode, BlitzAttackDto blitzDto);
+
     List<Territory> getAttackableTerritoriesForPlayer(String gameCode, Long playerId);
 
     List<Territory> getTargetsForTerritory(String gameCode, Long territoryId, Long playerId);
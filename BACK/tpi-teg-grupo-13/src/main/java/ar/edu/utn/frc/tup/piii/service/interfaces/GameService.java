@@ -66,6 +66,12 @@ public interface GameService {
 
     GameResponseDto getGameByCode(String gameCode);
 
+    /**
+     * Cambios de la partida desde la versión {@code sinceVersion}, o el estado completo
+     * si el cliente quedó demasiado atrás.
+     */
+    GameDeltaDto getGameDelta(String gameCode, long sinceVersion);
+
     /**
      * Allows a user to join an existing game.
      *
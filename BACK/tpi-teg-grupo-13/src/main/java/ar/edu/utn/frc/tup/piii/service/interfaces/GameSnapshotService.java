@@ -18,7 +18,6 @@ public interface GameSnapshotService {
     GameSnapshotEntity createSnapshot(Game game);
     GameSnapshotEntity createAutoSnapshot(Game game);
     void restoreFromSnapshot(Long gameId, Long snapshotId);
-    GameSnapshotEntity getLatestSnapshot(Long gameId);
 
     // Gestión automática
     void autoSaveSnapshot(Game game);
@@ -31,7 +30,6 @@ public interface GameSnapshotService {
 
     // Utilidades
     String serializeGameState(Game game);
-    Game deserializeGameState(String serializedState);
     List<GameSnapshotEntity> getSnapshotHistory(Long gameId);
     int getSnapshotCount(Long gameId);
 }
@@ -0,0 +1,42 @@
+package ar.edu.utn.frc.tup.piii.service.interfaces;
+
+import ar.edu.utn.frc.tup.piii.dtos.game.GameStatisticsDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.PlayerStatisticsDto;
+import ar.edu.utn.frc.tup.piii.dtos.user.UserStatsDto;
+import ar.edu.utn.frc.tup.piii.model.enums.EventType;
+
+import java.util.List;
+import java.util.Map;
+
+public interface GameStatisticsService {
+
+    /**
+     * Estadísticas de la partida: totales, jugador más agresivo/defensivo y contadores por jugador
+     */
+    GameStatisticsDto getGameStatistics(Long gameId);
+
+    /**
+     * Contadores de cada jugador en la partida
+     */
+    List<PlayerStatisticsDto> getPlayerStatistics(Long gameId);
+
+    /**
+     * Contadores de cada jugador en un número de turno
+     */
+    List<PlayerStatisticsDto> getTurnStatistics(Long gameId, Integer turnNumber);
+
+    /**
+     * Cantidad de eventos de cada tipo registrados en la partida
+     */
+    Map<EventType, Long> getEventCounts(Long gameId);
+
+    /**
+     * Cantidad de eventos de un tipo registrados en la partida
+     */
+    long countEventsByType(Long gameId, EventType eventType);
+
+    /**
+     * Estadísticas de carrera de un usuario, sumadas al terminar cada partida
+     */
+    UserStatsDto getUserStats(Long userId);
+}
@@ -0,0 +1,29 @@
+package ar.edu.utn.frc.tup.piii.service.interfaces;
+
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.enums.GameStreamEventType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface GameStreamService {
+
+    /**
+     * Abre un stream SSE con los eventos de la partida
+     */
+    SseEmitter subscribe(String gameCode);
+
+    /**
+     * Publica un evento a los suscriptores de la partida, con el estado/fase/turno actuales del juego.
+     * Si hay una transacción activa se envía recién después del commit.
+     */
+    void publish(Game game, GameStreamEventType type, Long playerId, Object payload);
+
+    /**
+     * Publica un evento cuando solo se conoce el ID de la partida
+     */
+    void publish(Long gameId, GameStreamEventType type, Long playerId, Object payload);
+
+    /**
+     * Cantidad de clientes conectados al stream de la partida
+     */
+    int getSubscriberCount(Long gameId);
+}
@@ -5,6 +5,7 @@ import ar.edu.utn.frc.tup.piii.entities.GameTerritoryEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
 import ar.edu.utn.frc.tup.piii.model.Territory;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface GameTerritoryService {
@@ -22,8 +23,14 @@ public interface GameTerritoryService {
 
     List<Territory> getTerritoriesByOwner(Long id, Long playerId);
 
+    List<Territory> getAllTerritoriesInGame(Long gameId);
+
     boolean doesPlayerControlContinent(Long gameId, Long playerId, String continentName);
 
+    int countTerritoriesByOwner(Long gameId, Long playerId);
+
+    boolean doesPlayerOwnAll(Long gameId, Long playerId, Collection<Long> countryIds);
+
     void transferTerritoryOwnership(Long gameId, Long countryId, Long newOwnerId, int armies);
 
     boolean areTerritoriesNeighbors(Long countryId1, Long countryId2);
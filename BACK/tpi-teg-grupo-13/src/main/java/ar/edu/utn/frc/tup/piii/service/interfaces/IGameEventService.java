@@ -1,6 +1,8 @@
 package ar.edu.utn.frc.tup.piii.service.interfaces;
 
 import ar.edu.utn.frc.tup.piii.dtos.event.GameEventDto;
+import ar.edu.utn.frc.tup.piii.dtos.event.GameEventFilterDto;
+import ar.edu.utn.frc.tup.piii.dtos.event.GameEventPageDto;
 import ar.edu.utn.frc.tup.piii.entities.GameEventEntity;
 import ar.edu.utn.frc.tup.piii.model.enums.EventType;
 
@@ -11,81 +13,84 @@ import java.util.Optional;
 public interface IGameEventService {
 
     /**
-     * Registra un evento genérico en el historial de la partida
+     * Registra un evento genérico en el historial de la partida. Las conquistas se escriben en
+     * la transacción actual; los demás eventos se escriben en lote después del commit.
+     *
+     * @throws ar.edu.utn.frc.tup.piii.exceptions.GameNotFoundException si la partida no existe
      */
-    GameEventEntity recordEvent(Long gameId, Long actorId, EventType eventType,
-                                Integer turnNumber, String eventData);
+    void recordEvent(Long gameId, Long actorId, EventType eventType,
+                     Integer turnNumber, String eventData);
 
     /**
      * Registra una conquista de territorio
      */
-    GameEventEntity recordTerritoryConquest(Long gameId, Long conquererPlayerId,
-                                            String conqueredTerritory, String fromPlayer,
-                                            Integer turnNumber);
+    void recordTerritoryConquest(Long gameId, Long conquererPlayerId,
+                                 String conqueredTerritory, String fromPlayer,
+                                 Integer turnNumber);
 
     /**
      * Registra un ataque realizado
      */
-    GameEventEntity recordAttack(Long gameId, Long attackerPlayerId,
-                                 String fromTerritory, String toTerritory,
-                                 Integer turnNumber, boolean successful);
+    void recordAttack(Long gameId, Long attackerPlayerId,
+                      String fromTerritory, String toTerritory,
+                      Integer turnNumber, boolean successful);
 
     /**
      * Registra el inicio de turno de un jugador
      */
-    GameEventEntity recordTurnStart(Long gameId, Long playerId, Integer turnNumber);
+    void recordTurnStart(Long gameId, Long playerId, Integer turnNumber);
 
     /**
      * Registra el fin de turno de un jugador
      */
-    GameEventEntity recordTurnEnd(Long gameId, Long playerId, Integer turnNumber);
+    void recordTurnEnd(Long gameId, Long playerId, Integer turnNumber);
 
     /**
      * Registra el inicio de una partida
      */
-    GameEventEntity recordGameStart(Long gameId);
+    void recordGameStart(Long gameId);
 
     /**
      * Registra el fin de una partida
      */
-    GameEventEntity recordGameFinish(Long gameId, Long winnerPlayerId);
+    void recordGameFinish(Long gameId, Long winnerPlayerId);
 
     /**
      * Registra cuando un jugador se une a la partida
      */
-    GameEventEntity recordPlayerJoined(Long gameId, Long playerId);
+    void recordPlayerJoined(Long gameId, Long playerId);
 
     /**
      * Registra cuando un jugador abandona la partida
      */
-    GameEventEntity recordPlayerLeft(Long gameId, Long playerId);
+    void recordPlayerLeft(Long gameId, Long playerId);
 
     /**
      * Registra cuando un jugador es eliminado
      */
-    GameEventEntity recordPlayerEliminated(Long gameId, Long eliminatedPlayerId, Long eliminatorPlayerId);
+    void recordPlayerEliminated(Long gameId, Long eliminatedPlayerId, Long eliminatorPlayerId);
 
     /**
      * Registra el intercambio de cartas
      */
-    GameEventEntity recordCardsTraded(Long gameId, Long playerId, Integer turnNumber, String cardsData);
+    void recordCardsTraded(Long gameId, Long playerId, Integer turnNumber, String cardsData);
 
     /**
      * Registra la colocación de refuerzos
      */
-    GameEventEntity recordReinforcementsPlaced(Long gameId, Long playerId, String territory,
-                                               Integer reinforcements, Integer turnNumber);
+    void recordReinforcementsPlaced(Long gameId, Long playerId, String territory,
+                                    Integer reinforcements, Integer turnNumber);
 
     /**
      * Registra una fortificación
      */
-    GameEventEntity recordFortification(Long gameId, Long playerId, String fromTerritory,
-                                        String toTerritory, Integer armies, Integer turnNumber);
+    void recordFortification(Long gameId, Long playerId, String fromTerritory,
+                             String toTerritory, Integer armies, Integer turnNumber);
 
     /**
      * Registra el cumplimiento de un objetivo
      */
-    GameEventEntity recordObjectiveCompleted(Long gameId, Long playerId, String objectiveData);
+    void recordObjectiveCompleted(Long gameId, Long playerId, String objectiveData);
 
     /**
      * Obtiene el historial completo de una partida ordenado por timestamp
@@ -112,6 +117,12 @@ public interface IGameEventService {
      */
     List<GameEventDto> getFormattedGameHistory(Long gameId);
 
+    /**
+     * Obtiene una página del historial formateado, con los eventos de id menor a {@code cursor}
+     * (desde el más nuevo si es null) que cumplen el filtro
+     */
+    GameEventPageDto getGameHistoryPage(Long gameId, Long cursor, int limit, GameEventFilterDto filter);
+
     /**
      * Obtiene eventos filtrados por tipo
      */
@@ -1,10 +1,12 @@
 package ar.edu.utn.frc.tup.piii.utils;
 
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
 import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.Player;
 import ar.edu.utn.frc.tup.piii.model.enums.PlayerColor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -13,7 +15,8 @@ import java.util.stream.Collectors;
 @Component
 public class ColorManager {
 
-    private static final Random RANDOM = new Random();
+    @Autowired
+    private GameRandom gameRandom;
 
     // Reemplazamos Game por GameEntity:
     public PlayerColor getAvailableRandomColor(GameEntity gameEntity) {
@@ -25,7 +28,8 @@ public class ColorManager {
                 .filter(color -> !usedColors.contains(color))
                 .toList();
 
-        PlayerColor selectedColor = availableColors.get(RANDOM.nextInt(availableColors.size()));
+        PlayerColor selectedColor = availableColors.get(
+                gameRandom.nextInt(gameEntity.getId(), GameRandom.Stream.SETUP, availableColors.size()));
         return selectedColor;
     }
 }
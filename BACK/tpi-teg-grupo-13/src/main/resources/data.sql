@@ -399,7 +399,8 @@ INSERT INTO bot_profiles (level, strategy, bot_name) VALUES
                                                          ('EXPERT', 'AGGRESSIVE', 'Bot Experto Agresivo'),
                                                          ('EXPERT', 'DEFENSIVE', 'Bot Experto Defensivo'),
                                                          ('EXPERT', 'BALANCED', 'Bot Experto Equilibrado'),
-                                                         ('EXPERT', 'OBJECTIVE_FOCUSED', 'Bot Experto Estratega');
+                                                         ('EXPERT', 'OBJECTIVE_FOCUSED', 'Bot Experto Estratega'),
+                                                         ('MASTER', 'AGGRESSIVE', 'Bot Maestro Agresivo');
 
 -- insertar usuarios para probar endopoints
 INSERT INTO USERS (ID, USERNAME, EMAIL, PASSWORD_HASH, IS_ACTIVE, CREATED_AT)
@@ -1,10 +1,12 @@
 package ar.edu.utn.frc.tup.piii.FactoryBots;
 
 import ar.edu.utn.frc.tup.piii.FactoryBots.BalancedStrategies.BalancedAggressiveExecutor;
-import ar.edu.utn.frc.tup.piii.dtos.game.AttackDto;
-import ar.edu.utn.frc.tup.piii.dtos.game.CombatResultDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzAttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzResultDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.FortifyDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.ReinforcementStatusDto;
+import ar.edu.utn.frc.tup.piii.engine.DiceOdds;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
 import ar.edu.utn.frc.tup.piii.entities.*;
 import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
 import ar.edu.utn.frc.tup.piii.mappers.PlayerMapper;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Method;
@@ -41,6 +44,12 @@ class BalancedAggressiveExecutorTest {
     @Mock private GameService gameService;
     @Mock private IGameEventService gameEventService;
 
+    @Spy
+    private DiceOdds diceOdds = new DiceOdds();
+
+    @Mock
+    private WorldMap worldMap;
+
     @InjectMocks
     private BalancedAggressiveExecutor executor;
 
@@ -82,8 +91,7 @@ class BalancedAggressiveExecutorTest {
     void testExecuteTurn_REINFORCEMENT_5() {
         // Arrange
         game.setStatus(GameState.REINFORCEMENT_5);
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
+        givenConnectedBoard(createMockTerritories());
 
         // Act
         executor.executeTurn(botPlayer, game);
@@ -98,8 +106,7 @@ class BalancedAggressiveExecutorTest {
     void testExecuteTurn_REINFORCEMENT_3() {
         // Arrange
         game.setStatus(GameState.REINFORCEMENT_3);
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
+        givenConnectedBoard(createMockTerritories());
 
         // Act
         executor.executeTurn(botPlayer, game);
@@ -117,10 +124,7 @@ class BalancedAggressiveExecutorTest {
     void testExecuteTurn_HOSTILITY_ONLY() {
         // Arrange
         game.setStatus(GameState.HOSTILITY_ONLY);
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenConnectedBoard(Collections.emptyList());
 
         // Act
         executor.executeTurn(botPlayer, game);
@@ -163,8 +167,7 @@ class BalancedAggressiveExecutorTest {
     @Test
     void testPerformInitialPlacement_WithTerritories() {
         // Arrange
-        List<Territory> territories = createMockTerritories();
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong())).thenReturn(territories);
+        givenConnectedBoard(createMockTerritories(), createEnemyTerritories());
 
         // Act
         callPrivateMethod("performInitialPlacement", botPlayer, game, 5);
@@ -176,8 +179,7 @@ class BalancedAggressiveExecutorTest {
     @Test
     void testPerformInitialPlacement_EmptyTerritories() {
         // Arrange
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenConnectedBoard(createEnemyTerritories());
 
         // Act
         callPrivateMethod("performInitialPlacement", botPlayer, game, 5);
@@ -189,7 +191,7 @@ class BalancedAggressiveExecutorTest {
     @Test
     void testPerformInitialPlacement_WithException() {
         // Arrange
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
+        when(gameTerritoryService.getAllTerritoriesInGame(anyLong()))
                 .thenThrow(new RuntimeException("Test exception"));
 
         // Act & Assert
@@ -200,11 +202,10 @@ class BalancedAggressiveExecutorTest {
     void testDistributeInitialArmiesBalanced_FewTerritories() {
         // Test with 2 or fewer territories
         List<Territory> territories = createMockTerritories().subList(0, 2);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong()))
-                .thenReturn(createEnemyTerritories());
+        BoardView board = connectedBoard(territories, createEnemyTerritories());
 
         Map<Long, Integer> result = callPrivateMethodWithReturn("distributeInitialArmiesBalanced",
-                territories, game, botPlayer.getId(), 5);
+                territories, board, botPlayer.getId(), 5);
 
         assertNotNull(result);
         assertEquals(5, result.values().stream().mapToInt(Integer::intValue).sum());
@@ -214,11 +215,10 @@ class BalancedAggressiveExecutorTest {
     void testDistributeInitialArmiesBalanced_ManyTerritories() {
         // Test with more than 2 territories
         List<Territory> territories = createManyTerritories(5);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong()))
-                .thenReturn(createEnemyTerritories());
+        BoardView board = connectedBoard(territories, createEnemyTerritories());
 
         Map<Long, Integer> result = callPrivateMethodWithReturn("distributeInitialArmiesBalanced",
-                territories, game, botPlayer.getId(), 6);
+                territories, board, botPlayer.getId(), 6);
 
         assertNotNull(result);
         assertEquals(6, result.values().stream().mapToInt(Integer::intValue).sum());
@@ -228,11 +228,10 @@ class BalancedAggressiveExecutorTest {
     void testDistributeInitialArmiesBalanced_NoBorderTerritories() {
         // Test when no border territories exist
         List<Territory> territories = createMockTerritories();
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong()))
-                .thenReturn(territories); // All neighbors owned by same player
+        BoardView board = connectedBoard(territories); // All neighbors owned by same player
 
         Map<Long, Integer> result = callPrivateMethodWithReturn("distributeInitialArmiesBalanced",
-                territories, game, botPlayer.getId(), 5);
+                territories, board, botPlayer.getId(), 5);
 
         assertNotNull(result);
         assertEquals(5, result.values().stream().mapToInt(Integer::intValue).sum());
@@ -275,8 +274,7 @@ class BalancedAggressiveExecutorTest {
         setupMocksForReinforcement();
         when(reinforcementService.getReinforcementStatus(anyString(), anyLong()))
                 .thenReturn(createReinforcementStatus(5));
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenConnectedBoard(createEnemyTerritories());
 
         // Act
         executor.performBotReinforcement(botPlayer, game);
@@ -291,10 +289,7 @@ class BalancedAggressiveExecutorTest {
         setupMocksForReinforcement();
         when(reinforcementService.getReinforcementStatus(anyString(), anyLong()))
                 .thenReturn(createReinforcementStatus(5));
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong()))
-                .thenReturn(createEnemyTerritories());
+        givenConnectedBoard(createMockTerritories(), createEnemyTerritories());
 
         // Act
         executor.performBotReinforcement(botPlayer, game);
@@ -320,12 +315,11 @@ class BalancedAggressiveExecutorTest {
     void testDistributeReinforcementsBalanced_NoBorderTerritories() {
         // Arrange
         List<Territory> territories = createMockTerritories();
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong()))
-                .thenReturn(territories); // All neighbors owned by same player
+        BoardView board = connectedBoard(territories); // All neighbors owned by same player
 
         // Act
         Map<Long, Integer> result = callPrivateMethodWithReturn("distributeReinforcementsBalanced",
-                territories, game, botPlayer.getId(), 5);
+                territories, board, botPlayer.getId(), 5);
 
         // Assert
         assertNotNull(result);
@@ -336,12 +330,11 @@ class BalancedAggressiveExecutorTest {
     void testDistributeReinforcementsBalanced_FewReinforcements() {
         // Arrange
         List<Territory> territories = createMockTerritories();
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong()))
-                .thenReturn(createEnemyTerritories());
+        BoardView board = connectedBoard(territories, createEnemyTerritories());
 
         // Act
         Map<Long, Integer> result = callPrivateMethodWithReturn("distributeReinforcementsBalanced",
-                territories, game, botPlayer.getId(), 3);
+                territories, board, botPlayer.getId(), 3);
 
         // Assert
         assertNotNull(result);
@@ -352,12 +345,11 @@ class BalancedAggressiveExecutorTest {
     void testDistributeReinforcementsBalanced_ManyReinforcements() {
         // Arrange
         List<Territory> territories = createMockTerritories();
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong()))
-                .thenReturn(createEnemyTerritories());
+        BoardView board = connectedBoard(territories, createEnemyTerritories());
 
         // Act
         Map<Long, Integer> result = callPrivateMethodWithReturn("distributeReinforcementsBalanced",
-                territories, game, botPlayer.getId(), 10);
+                territories, board, botPlayer.getId(), 10);
 
         // Assert
         assertNotNull(result);
@@ -368,12 +360,11 @@ class BalancedAggressiveExecutorTest {
     void testDistributeReinforcementsBalanced_NoSecondaryTargets() {
         // Arrange
         List<Territory> territories = createStrongTerritories(); // All territories strong (> 3 armies)
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong()))
-                .thenReturn(createEnemyTerritories());
+        BoardView board = connectedBoard(territories, createEnemyTerritories());
 
         // Act
         Map<Long, Integer> result = callPrivateMethodWithReturn("distributeReinforcementsBalanced",
-                territories, game, botPlayer.getId(), 10);
+                territories, board, botPlayer.getId(), 10);
 
         // Assert
         assertNotNull(result);
@@ -383,137 +374,117 @@ class BalancedAggressiveExecutorTest {
     @Test
     void testPerformBotAttack_NoAttackableTerritories() {
         // Arrange
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenConnectedBoard(createEnemyTerritories());
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
-        // Assert
-        verify(combatService).getAttackableTerritoriesForPlayer(game.getGameCode(), botPlayer.getId());
-        verify(combatService, never()).getTargetsForTerritory(anyString(), anyLong(), anyLong());
+        // Assert - La planificación no consulta al servicio de combate
+        verifyNoInteractions(combatService);
     }
 
     @Test
     void testPerformBotAttack_NoTargets() {
         // Arrange
-        List<Territory> attackers = createMockTerritories();
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(attackers);
-        when(combatService.getTargetsForTerritory(anyString(), anyLong(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenConnectedBoard(createMockTerritories());
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
         // Assert
-        verify(combatService, never()).performCombat(anyString(), any(AttackDto.class));
+        verify(combatService, never()).performBlitz(anyString(), any(BlitzAttackDto.class));
     }
 
     @Test
     void testPerformBotAttack_LowProbabilityTargets() {
         // Arrange
-        List<Territory> attackers = createWeakAttackers();
-        List<Territory> targets = createStrongDefenders();
-
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(attackers);
-        when(combatService.getTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
+        givenConnectedBoard(createWeakAttackers(), createStrongDefenders());
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
         // Assert - Should not attack due to low probability
-        verify(combatService, never()).performCombat(anyString(), any(AttackDto.class));
+        verify(combatService, never()).performBlitz(anyString(), any(BlitzAttackDto.class));
     }
 
     @Test
     void testPerformBotAttack_SuccessfulAttack() {
         // Arrange
-        List<Territory> attackers = createStrongAttackers();
-        List<Territory> targets = createWeakDefenders();
-        CombatResultDto result = createSuccessfulCombatResult();
+        BlitzResultDto result = createSuccessfulBlitzResult();
 
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(attackers);
-        when(combatService.getTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
-        when(combatService.performCombat(eq(game.getGameCode()), any(AttackDto.class))).thenReturn(result);
+        givenConnectedBoard(createStrongAttackers(), createWeakDefenders());
+        when(combatService.performBlitz(eq(game.getGameCode()), any(BlitzAttackDto.class))).thenReturn(result);
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
         // Assert
-        verify(combatService).performCombat(eq(game.getGameCode()), any(AttackDto.class));
+        verify(combatService).performBlitz(eq(game.getGameCode()), any(BlitzAttackDto.class));
         verify(gameEventService).recordAttack(anyLong(), anyLong(), anyString(), anyString(), anyInt(), anyBoolean());
-        verify(gameEventService).recordTerritoryConquest(anyLong(), anyLong(), anyString(), anyString(), anyInt());
+        // La conquista la registra el servicio de combate
+        verify(gameEventService, never()).recordTerritoryConquest(anyLong(), anyLong(), anyString(), anyString(), anyInt());
     }
 
     @Test
     void testPerformBotAttack_MaxAttacksReached() {
         // Arrange
-        List<Territory> attackers = createManyAttackers(10);
-        List<Territory> targets = createWeakDefenders();
-        CombatResultDto result = createSuccessfulCombatResult();
+        BlitzResultDto result = createSuccessfulBlitzResult();
 
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(attackers);
-        when(combatService.getTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
-        when(combatService.performCombat(eq(game.getGameCode()), any(AttackDto.class))).thenReturn(result);
+        givenConnectedBoard(createManyAttackers(10), createWeakDefenders());
+        when(combatService.performBlitz(eq(game.getGameCode()), any(BlitzAttackDto.class))).thenReturn(result);
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
         // Assert - Should only attack 5 times (max for BALANCED)
-        verify(combatService, atMost(5)).performCombat(eq(game.getGameCode()), any(AttackDto.class));
+        verify(combatService, atMost(5)).performBlitz(eq(game.getGameCode()), any(BlitzAttackDto.class));
     }
 
     @Test
     void testPerformBotAttack_WithException() {
         // Arrange
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong()))
+        when(gameTerritoryService.getAllTerritoriesInGame(anyLong()))
                 .thenThrow(new RuntimeException("Test exception"));
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
         // Assert - Should not throw exception
-        verify(combatService, never()).performCombat(anyString(), any(AttackDto.class));
+        verify(combatService, never()).performBlitz(anyString(), any(BlitzAttackDto.class));
     }
 
     @Test
     void testPerformBotFortify_NoFortifiableTerritories() {
         // Arrange
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenConnectedBoard(createEnemyTerritories());
 
         // Act
         executor.performBotFortify(botPlayer, game);
 
-        // Assert
-        verify(fortificationService, never()).getFortificationTargetsForTerritory(anyString(), anyLong(), anyLong());
+        // Assert - La planificación no consulta al servicio de fortificación
+        verifyNoInteractions(fortificationService);
     }
 
     @Test
     void testPerformBotFortify_NoBestMove() {
         // Arrange
-        List<Territory> fortifiable = createMockTerritories();
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(fortifiable);
-        when(fortificationService.getFortificationTargetsForTerritory(anyString(), anyLong(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        // Sin frontera ningún movimiento suma puntos
+        givenConnectedBoard(createMockTerritories());
 
         // Act
         executor.performBotFortify(botPlayer, game);
 
         // Assert
-        verify(fortificationService, never()).getMaxMovableArmies(anyString(), anyLong());
+        verify(fortificationService, never()).performFortification(anyString(), any(FortifyDto.class));
     }
 
     @Test
     void testPerformBotFortify_NoMovableArmies() {
         // Arrange
         List<Territory> fortifiable = createMockTerritories();
-        List<Territory> targets = createMockTerritories();
+        fortifiable.forEach(territory -> territory.setArmies(1));
 
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(fortifiable);
-        when(fortificationService.getFortificationTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
-        when(fortificationService.getMaxMovableArmies(anyString(), anyLong())).thenReturn(0);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(createEnemyTerritories());
+        givenConnectedBoard(fortifiable, createEnemyTerritories());
 
         // Act
         executor.performBotFortify(botPlayer, game);
@@ -525,14 +496,8 @@ class BalancedAggressiveExecutorTest {
     @Test
     void testPerformBotFortify_SuccessfulFortification() {
         // Arrange
-        List<Territory> fortifiable = createMockTerritories();
-        List<Territory> targets = createMockTerritories();
-
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(fortifiable);
-        when(fortificationService.getFortificationTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
-        when(fortificationService.getMaxMovableArmies(anyString(), anyLong())).thenReturn(5);
+        givenConnectedBoard(createMockTerritories(), createEnemyTerritories());
         when(fortificationService.performFortification(eq(game.getGameCode()), any(FortifyDto.class))).thenReturn(true);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(createEnemyTerritories());
 
         // Act
         executor.performBotFortify(botPlayer, game);
@@ -545,14 +510,8 @@ class BalancedAggressiveExecutorTest {
     @Test
     void testPerformBotFortify_FailedFortification() {
         // Arrange
-        List<Territory> fortifiable = createMockTerritories();
-        List<Territory> targets = createMockTerritories();
-
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(fortifiable);
-        when(fortificationService.getFortificationTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
-        when(fortificationService.getMaxMovableArmies(anyString(), anyLong())).thenReturn(5);
+        givenConnectedBoard(createMockTerritories(), createEnemyTerritories());
         when(fortificationService.performFortification(eq(game.getGameCode()), any(FortifyDto.class))).thenReturn(false);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(createEnemyTerritories());
 
         // Act
         executor.performBotFortify(botPlayer, game);
@@ -565,7 +524,7 @@ class BalancedAggressiveExecutorTest {
     @Test
     void testPerformBotFortify_WithException() {
         // Arrange
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong()))
+        when(gameTerritoryService.getAllTerritoriesInGame(anyLong()))
                 .thenThrow(new RuntimeException("Test exception"));
 
         // Act
@@ -618,31 +577,31 @@ class BalancedAggressiveExecutorTest {
     @Test
     void testEvaluateAttackProbability_HighRatio() {
         double result = executor.evaluateAttackProbability(botPlayer, 15, 5);
-        assertEquals(0.9, result);
+        assertEquals(0.8580, result, 1e-4);
     }
 
     @Test
     void testEvaluateAttackProbability_ModerateRatio() {
         double result = executor.evaluateAttackProbability(botPlayer, 10, 5);
-        assertEquals(0.75, result);
+        assertEquals(0.6161, result, 1e-4);
     }
 
     @Test
     void testEvaluateAttackProbability_LowRatio() {
         double result = executor.evaluateAttackProbability(botPlayer, 6, 4);
-        assertEquals(0.6, result);
+        assertEquals(0.4109, result, 1e-4);
     }
 
     @Test
     void testEvaluateAttackProbability_VeryLowRatio() {
         double result = executor.evaluateAttackProbability(botPlayer, 5, 4);
-        assertEquals(0.4, result);
+        assertEquals(0.3080, result, 1e-4);
     }
 
     @Test
     void testEvaluateAttackProbability_PoorRatio() {
         double result = executor.evaluateAttackProbability(botPlayer, 4, 4);
-        assertEquals(0.2, result);
+        assertEquals(0.2088, result, 1e-4);
     }
 
     @Test
@@ -662,12 +621,12 @@ class BalancedAggressiveExecutorTest {
     @Test
     void testCalculateTerritoryPriority() {
         // Test territory priority calculation
-        Territory territory = createMockTerritories().get(0);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong()))
-                .thenReturn(createEnemyTerritories());
+        List<Territory> territories = createMockTerritories();
+        Territory territory = territories.get(0);
+        BoardView board = connectedBoard(territories, createEnemyTerritories());
 
         int result = callPrivateMethodWithReturn("calculateTerritoryPriority",
-                territory, game, botPlayer.getId());
+                territory, board, botPlayer.getId());
 
         assertTrue(result >= 0); // Should return a valid priority score
     }
@@ -693,14 +652,13 @@ class BalancedAggressiveExecutorTest {
     @Test
     void testCalculateFortificationScore() {
         // Test fortification score calculation
-        Territory source = createMockTerritories().get(0);
-        Territory target = createMockTerritories().get(1);
-
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong()))
-                .thenReturn(createEnemyTerritories());
+        List<Territory> territories = createMockTerritories();
+        Territory source = territories.get(0);
+        Territory target = territories.get(1);
+        BoardView board = connectedBoard(territories, createEnemyTerritories());
 
         int result = callPrivateMethodWithReturn("calculateFortificationScore",
-                source, target, game, botPlayer.getId());
+                source, target, board, botPlayer.getId());
 
         assertTrue(result != 0); // Should return a meaningful score
     }
@@ -882,8 +840,8 @@ class BalancedAggressiveExecutorTest {
                 .build();
     }
 
-    private CombatResultDto createSuccessfulCombatResult() {
-        CombatResultDto result = new CombatResultDto();
+    private BlitzResultDto createSuccessfulBlitzResult() {
+        BlitzResultDto result = new BlitzResultDto();
         result.setAttackerCountryId(1L);
         result.setDefenderCountryId(10L);
         result.setAttackerCountryName("Territory1");
@@ -903,12 +861,36 @@ class BalancedAggressiveExecutorTest {
         when(reinforcementService.canPerformReinforcement(any(Game.class), any(Player.class))).thenReturn(true);
         when(reinforcementService.getReinforcementStatus(anyString(), anyLong()))
                 .thenReturn(createReinforcementStatus(5));
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenConnectedBoard(createMockTerritories());
+    }
+
+    /**
+     * Tablero donde cada territorio limita con todos los demás.
+     */
+    @SafeVarargs
+    private BoardView connectedBoard(List<Territory>... parts) {
+        List<Territory> territories = connect(parts);
+        TestBoards.stubWorldMap(worldMap, territories);
+        return BoardView.of(worldMap, territories);
+    }
+
+    @SafeVarargs
+    private void givenConnectedBoard(List<Territory>... parts) {
+        List<Territory> territories = connect(parts);
+        TestBoards.stubWorldMap(worldMap, territories);
+        when(gameTerritoryService.getAllTerritoriesInGame(game.getId())).thenReturn(territories);
+    }
+
+    @SafeVarargs
+    private List<Territory> connect(List<Territory>... parts) {
+        List<Territory> territories = new ArrayList<>();
+        for (List<Territory> part : parts) {
+            territories.addAll(part);
+        }
+        Set<Long> ids = new HashSet<>();
+        territories.forEach(territory -> ids.add(territory.getId()));
+        territories.forEach(territory -> territory.setNeighborIds(ids));
+        return territories;
     }
 
     private void setupMocksForReinforcement() {
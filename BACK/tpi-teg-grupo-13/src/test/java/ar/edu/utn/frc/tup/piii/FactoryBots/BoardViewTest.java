@@ -0,0 +1,124 @@
+package ar.edu.utn.frc.tup.piii.FactoryBots;
+
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzResultDto;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
+import ar.edu.utn.frc.tup.piii.model.Territory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class BoardViewTest {
+
+    private static final Long BOT = 1L;
+    private static final Long ENEMY = 2L;
+
+    @Mock
+    private WorldMap worldMap;
+
+    private BoardView board;
+
+    /**
+     * Cadena 1 - 2 - 3 - 4 del bot, con 4 lindando con el enemigo 5.
+     */
+    @BeforeEach
+    void setUp() {
+        List<Territory> territories = List.of(
+                territory(1L, BOT, 5, Set.of(2L)),
+                territory(2L, BOT, 1, Set.of(1L, 3L)),
+                territory(3L, BOT, 2, Set.of(2L, 4L)),
+                territory(4L, BOT, 3, Set.of(3L, 5L)),
+                territory(5L, ENEMY, 1, Set.of(4L)));
+        TestBoards.stubWorldMap(worldMap, territories);
+        board = BoardView.of(worldMap, territories);
+    }
+
+    @Test
+    void territoriesOf_ShouldReturnOnlyPlayerTerritories() {
+        assertThat(board.territoriesOf(BOT)).extracting(Territory::getId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(board.territoriesOf(ENEMY)).extracting(Territory::getId).containsExactly(5L);
+    }
+
+    @Test
+    void isBorder_ShouldDetectEnemyNeighbors() {
+        assertThat(board.isBorder(4L)).isTrue();
+        assertThat(board.isBorder(5L)).isTrue();
+        assertThat(board.isBorder(1L)).isFalse();
+        assertThat(board.isBorder(99L)).isFalse();
+    }
+
+    @Test
+    void attackableTerritoriesOf_ShouldRequireMoreThanOneArmy() {
+        assertThat(board.attackableTerritoriesOf(BOT)).extracting(Territory::getId).containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    void targetsOf_ShouldReturnEnemyNeighbors() {
+        assertThat(board.targetsOf(4L)).extracting(Territory::getId).containsExactly(5L);
+        assertThat(board.targetsOf(1L)).isEmpty();
+    }
+
+    @Test
+    void fortificationTargetsOf_AdjacentOnly_ShouldReturnOwnNeighbors() {
+        assertThat(board.fortificationTargetsOf(1L, false)).extracting(Territory::getId).containsExactly(2L);
+    }
+
+    @Test
+    void fortificationTargetsOf_ThroughOwnTerritories_ShouldFollowTheChain() {
+        assertThat(board.fortificationTargetsOf(1L, true)).extracting(Territory::getId)
+                .containsExactlyInAnyOrder(2L, 3L, 4L);
+    }
+
+    @Test
+    void fortificationTargetsOf_WithSingleArmy_ShouldBeEmpty() {
+        assertThat(board.fortificationTargetsOf(2L, true)).isEmpty();
+    }
+
+    @Test
+    void recordBlitz_WhenConquered_ShouldMoveOwnerAndArmies() {
+        BlitzResultDto result = BlitzResultDto.builder()
+                .attackerCountryId(4L)
+                .defenderCountryId(5L)
+                .attackerRemainingArmies(1)
+                .defenderRemainingArmies(2)
+                .territoryConquered(true)
+                .build();
+
+        board.recordBlitz(result);
+
+        assertThat(board.ownerOf(5L)).isEqualTo(BOT);
+        assertThat(board.armiesOf(4L)).isEqualTo(1);
+        assertThat(board.armiesOf(5L)).isEqualTo(2);
+        assertThat(board.territory(5L).getOwnerId()).isEqualTo(BOT);
+        assertThat(board.isBorder(4L)).isFalse();
+        assertThat(board.territoriesOf(ENEMY)).isEmpty();
+    }
+
+    @Test
+    void recordPlacementAndFortification_ShouldUpdateArmies() {
+        board.recordPlacement(Map.of(2L, 3));
+        board.recordFortification(1L, 4L, 4);
+
+        assertThat(board.armiesOf(2L)).isEqualTo(4);
+        assertThat(board.armiesOf(1L)).isEqualTo(1);
+        assertThat(board.armiesOf(4L)).isEqualTo(7);
+    }
+
+    private Territory territory(Long id, Long ownerId, int armies, Set<Long> neighborIds) {
+        return Territory.builder()
+                .id(id)
+                .name("Country " + id)
+                .ownerId(ownerId)
+                .armies(armies)
+                .neighborIds(neighborIds)
+                .build();
+    }
+}
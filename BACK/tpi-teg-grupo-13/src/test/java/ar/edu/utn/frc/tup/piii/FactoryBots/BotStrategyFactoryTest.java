@@ -2,6 +2,7 @@ package ar.edu.utn.frc.tup.piii.FactoryBots;
 
 import ar.edu.utn.frc.tup.piii.FactoryBots.BalancedStrategies.BalancedAggressiveExecutor;
 import ar.edu.utn.frc.tup.piii.FactoryBots.ExpertStrategies.ExpertAggressiveExecutor;
+import ar.edu.utn.frc.tup.piii.FactoryBots.MasterStrategies.MasterAggressiveExecutor;
 import ar.edu.utn.frc.tup.piii.FactoryBots.NoviceStrategies.NoviceAggressiveExecutor;
 import ar.edu.utn.frc.tup.piii.entities.BotProfileEntity;
 import ar.edu.utn.frc.tup.piii.model.enums.BotLevel;
@@ -28,6 +29,9 @@ class BotStrategyFactoryTest {
     @Mock
     private ExpertAggressiveExecutor expertAggressiveExecutor;
 
+    @Mock
+    private MasterAggressiveExecutor masterAggressiveExecutor;
+
     private BotStrategyFactory factory;
 
     @BeforeEach
@@ -36,7 +40,8 @@ class BotStrategyFactoryTest {
         factory = new BotStrategyFactory(
                 noviceAggressiveExecutor,
                 balancedAggressiveExecutor,
-                expertAggressiveExecutor
+                expertAggressiveExecutor,
+                masterAggressiveExecutor
         );
     }
 
@@ -91,6 +96,16 @@ class BotStrategyFactoryTest {
         assertSame(expertAggressiveExecutor, result);
     }
 
+    @Test
+    void testGetExecutor_MasterAggressive_ReturnsCorrectExecutor() {
+        BotProfileEntity profile = createBotProfile(BotLevel.MASTER, BotStrategy.AGGRESSIVE);
+
+        BotStrategyExecutor result = factory.getExecutor(profile);
+
+        assertNotNull(result);
+        assertSame(masterAggressiveExecutor, result);
+    }
+
     @Test
     void testGetExecutor_WithNullProfile_ThrowsIllegalArgumentException() {
         IllegalArgumentException exception = assertThrows(
@@ -157,7 +172,8 @@ class BotStrategyFactoryTest {
         BotStrategyFactory emptyFactory = new BotStrategyFactory(
                 mock(NoviceAggressiveExecutor.class),
                 mock(BalancedAggressiveExecutor.class),
-                mock(ExpertAggressiveExecutor.class)
+                mock(ExpertAggressiveExecutor.class),
+                mock(MasterAggressiveExecutor.class)
         );
 
         // Modificar el factory para que no tenga una combinación específica
@@ -172,7 +188,8 @@ class BotStrategyFactoryTest {
         BotStrategyFactory emptyFactoryInstance = new BotStrategyFactory(
                 mock(NoviceAggressiveExecutor.class),
                 mock(BalancedAggressiveExecutor.class),
-                mock(ExpertAggressiveExecutor.class)
+                mock(ExpertAggressiveExecutor.class),
+                mock(MasterAggressiveExecutor.class)
         );
     }
 
@@ -271,6 +288,14 @@ class BotStrategyFactoryTest {
         return profile;
     }
 
+    @Test
+    void testSupports_OnlyRegisteredCombinations() {
+        assertTrue(factory.supports(createBotProfile(BotLevel.EXPERT, BotStrategy.AGGRESSIVE)));
+        assertFalse(factory.supports(createBotProfile(BotLevel.NOVICE, BotStrategy.DEFENSIVE)));
+        assertFalse(factory.supports(createBotProfile(null, BotStrategy.AGGRESSIVE)));
+        assertFalse(factory.supports(null));
+    }
+
     // Test adicional para verificar el comportamiento del constructor con dependencias nulas
     @Test
     void testConstructor_WithNullDependencies() {
@@ -279,7 +304,7 @@ class BotStrategyFactoryTest {
 
         // Act & Assert
         assertDoesNotThrow(() -> {
-            BotStrategyFactory factoryWithNulls = new BotStrategyFactory(null, null, null);
+            BotStrategyFactory factoryWithNulls = new BotStrategyFactory(null, null, null, null);
             // El factory se crea, pero los executors serán null en el mapa
 
             BotProfileEntity profile = createBotProfile(BotLevel.NOVICE, BotStrategy.AGGRESSIVE);
@@ -1,10 +1,12 @@
 package ar.edu.utn.frc.tup.piii.FactoryBots;
 
 import ar.edu.utn.frc.tup.piii.FactoryBots.ExpertStrategies.ExpertAggressiveExecutor;
-import ar.edu.utn.frc.tup.piii.dtos.game.AttackDto;
-import ar.edu.utn.frc.tup.piii.dtos.game.CombatResultDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzAttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzResultDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.FortifyDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.ReinforcementStatusDto;
+import ar.edu.utn.frc.tup.piii.engine.DiceOdds;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
 import ar.edu.utn.frc.tup.piii.entities.*;
 import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
 import ar.edu.utn.frc.tup.piii.mappers.PlayerMapper;
@@ -18,8 +20,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -48,6 +54,12 @@ class ExpertAggressiveExecutorTest {
     @Mock
     private GameMapper gameMapper;
 
+    @Spy
+    private DiceOdds diceOdds = new DiceOdds();
+
+    @Mock
+    private WorldMap worldMap;
+
     @InjectMocks
     private ExpertAggressiveExecutor executor;
 
@@ -99,10 +111,7 @@ class ExpertAggressiveExecutorTest {
     void testExecuteTurn_REINFORCEMENT_5() {
         // Arrange
         game.setStatus(GameState.REINFORCEMENT_5);
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
-        when(gameTerritoryService.getAllAvailableTerritories())
-                .thenReturn(createAllTerritories());
+        givenConnectedBoard(createAllTerritories());
 
         // Act
         executor.executeTurn(botPlayer, game);
@@ -117,10 +126,7 @@ class ExpertAggressiveExecutorTest {
     void testExecuteTurn_REINFORCEMENT_3() {
         // Arrange
         game.setStatus(GameState.REINFORCEMENT_3);
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
-        when(gameTerritoryService.getAllAvailableTerritories())
-                .thenReturn(createAllTerritories());
+        givenConnectedBoard(createAllTerritories());
 
         // Act
         executor.executeTurn(botPlayer, game);
@@ -134,12 +140,7 @@ class ExpertAggressiveExecutorTest {
     void testExecuteTurn_HOSTILITY_ONLY() {
         // Arrange
         game.setStatus(GameState.HOSTILITY_ONLY);
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
-        when(gameTerritoryService.getAllAvailableTerritories())
-                .thenReturn(createAllTerritories());
+        givenConnectedBoard(createEnemyTerritories());
 
         // Act
         executor.executeTurn(botPlayer, game);
@@ -179,10 +180,7 @@ class ExpertAggressiveExecutorTest {
         // Arrange
         objective.setType(ObjectiveType.OCCUPATION);
         objective.setTargetData("Asia,Europa");
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
-        when(gameTerritoryService.getAllAvailableTerritories())
-                .thenReturn(createAllTerritories());
+        givenConnectedBoard(createAllTerritories());
 
         // Act
         callPrivateMethod("performInitialPlacement", botPlayer, game, 5);
@@ -196,10 +194,7 @@ class ExpertAggressiveExecutorTest {
         // Arrange
         objective.setType(ObjectiveType.DESTRUCTION);
         objective.setTargetData("2");
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
-        when(gameTerritoryService.getAllAvailableTerritories())
-                .thenReturn(createAllTerritories());
+        givenConnectedBoard(createAllTerritories());
 
         // Act
         callPrivateMethod("performInitialPlacement", botPlayer, game, 5);
@@ -213,10 +208,7 @@ class ExpertAggressiveExecutorTest {
         // Arrange
         objective.setType(ObjectiveType.COMMON);
         objective.setTargetData("18");
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
-        when(gameTerritoryService.getAllAvailableTerritories())
-                .thenReturn(createAllTerritories());
+        givenConnectedBoard(createAllTerritories());
 
         // Act
         callPrivateMethod("performInitialPlacement", botPlayer, game, 5);
@@ -229,10 +221,7 @@ class ExpertAggressiveExecutorTest {
     void testPerformInitialPlacement_WithNullObjective() {
         // Arrange
         botPlayer.setObjective(null);
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
-        when(gameTerritoryService.getAllAvailableTerritories())
-                .thenReturn(createAllTerritories());
+        givenConnectedBoard(createAllTerritories());
 
         // Act
         callPrivateMethod("performInitialPlacement", botPlayer, game, 5);
@@ -244,8 +233,7 @@ class ExpertAggressiveExecutorTest {
     @Test
     void testPerformInitialPlacement_EmptyTerritories() {
         // Arrange
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenConnectedBoard(createEnemyTerritories());
 
         // Act
         callPrivateMethod("performInitialPlacement", botPlayer, game, 5);
@@ -257,7 +245,7 @@ class ExpertAggressiveExecutorTest {
     @Test
     void testPerformInitialPlacement_WithException() {
         // Arrange
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
+        when(gameTerritoryService.getAllTerritoriesInGame(anyLong()))
                 .thenThrow(new RuntimeException("Test exception"));
 
         // Act & Assert
@@ -269,12 +257,13 @@ class ExpertAggressiveExecutorTest {
         // Arrange
         objective.setType(ObjectiveType.DESTRUCTION);
         objective.setTargetData("2");
-        List<Territory> territories = createMockTerritories();
-        when(gameTerritoryService.getAllAvailableTerritories()).thenReturn(createAllTerritories());
+        List<Territory> all = createAllTerritories();
+        List<Territory> territories = all.subList(0, 2);
+        BoardView board = connectedBoard(all);
 
         // Act
         Map<Long, Integer> result = callPrivateMethodWithReturn("distributeInitialArmiesExpert",
-                territories, game, botPlayer, 5, "DESTRUCTION");
+                territories, board, botPlayer, 5, "DESTRUCTION");
 
         // Assert
         assertNotNull(result);
@@ -286,12 +275,13 @@ class ExpertAggressiveExecutorTest {
         // Arrange
         objective.setType(ObjectiveType.OCCUPATION);
         objective.setTargetData("Asia,Europa");
-        List<Territory> territories = createMockTerritories();
-        when(gameTerritoryService.getAllAvailableTerritories()).thenReturn(createAllTerritories());
+        List<Territory> all = createAllTerritories();
+        List<Territory> territories = all.subList(0, 2);
+        BoardView board = connectedBoard(all);
 
         // Act
         Map<Long, Integer> result = callPrivateMethodWithReturn("distributeInitialArmiesExpert",
-                territories, game, botPlayer, 5, "OCCUPATION");
+                territories, board, botPlayer, 5, "OCCUPATION");
 
         // Assert
         assertNotNull(result);
@@ -301,12 +291,13 @@ class ExpertAggressiveExecutorTest {
     @Test
     void testDistributeInitialArmiesExpert_GeneralObjective() {
         // Arrange
-        List<Territory> territories = createMockTerritories();
-        when(gameTerritoryService.getAllAvailableTerritories()).thenReturn(createAllTerritories());
+        List<Territory> all = createAllTerritories();
+        List<Territory> territories = all.subList(0, 2);
+        BoardView board = connectedBoard(all);
 
         // Act
         Map<Long, Integer> result = callPrivateMethodWithReturn("distributeInitialArmiesExpert",
-                territories, game, botPlayer, 5, "GENERAL");
+                territories, board, botPlayer, 5, "GENERAL");
 
         // Assert
         assertNotNull(result);
@@ -350,8 +341,7 @@ class ExpertAggressiveExecutorTest {
         setupMocksForReinforcement();
         when(reinforcementService.getReinforcementStatus(anyString(), anyLong()))
                 .thenReturn(createReinforcementStatus(5));
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenConnectedBoard(createEnemyTerritories());
 
         // Act
         executor.performBotReinforcement(botPlayer, game);
@@ -368,9 +358,7 @@ class ExpertAggressiveExecutorTest {
         setupMocksForReinforcement();
         when(reinforcementService.getReinforcementStatus(anyString(), anyLong()))
                 .thenReturn(createReinforcementStatus(5));
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
-        when(gameTerritoryService.getAllAvailableTerritories()).thenReturn(createAllTerritories());
+        givenConnectedBoard(createAllTerritories());
 
         // Act
         executor.performBotReinforcement(botPlayer, game);
@@ -387,9 +375,7 @@ class ExpertAggressiveExecutorTest {
         setupMocksForReinforcement();
         when(reinforcementService.getReinforcementStatus(anyString(), anyLong()))
                 .thenReturn(createReinforcementStatus(5));
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
-        when(gameTerritoryService.getAllAvailableTerritories()).thenReturn(createAllTerritories());
+        givenConnectedBoard(createAllTerritories());
 
         // Act
         executor.performBotReinforcement(botPlayer, game);
@@ -413,15 +399,13 @@ class ExpertAggressiveExecutorTest {
     @Test
     void testPerformBotAttack_NoAttackableTerritories() {
         // Arrange
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenConnectedBoard(createEnemyTerritories());
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
-        // Assert
-        verify(combatService).getAttackableTerritoriesForPlayer(game.getGameCode(), botPlayer.getId());
-        verify(combatService, never()).getTargetsForTerritory(anyString(), anyLong(), anyLong());
+        // Assert - La planificación no consulta al servicio de combate
+        verifyNoInteractions(combatService);
     }
 
     @Test
@@ -429,20 +413,16 @@ class ExpertAggressiveExecutorTest {
         // Arrange
         objective.setType(ObjectiveType.DESTRUCTION);
         objective.setTargetData("2");
-        List<Territory> attackers = createStrongAttackers();
-        List<Territory> targets = createWeakDefenders();
-        CombatResultDto result = createSuccessfulCombatResult();
+        BlitzResultDto result = createSuccessfulBlitzResult();
 
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(attackers);
-        when(combatService.getTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
-        when(combatService.performCombat(eq(game.getGameCode()), any(AttackDto.class))).thenReturn(result);
-        when(gameTerritoryService.getAllAvailableTerritories()).thenReturn(createAllTerritories());
+        givenConnectedBoard(createStrongAttackers(), createWeakDefenders());
+        when(combatService.performBlitz(eq(game.getGameCode()), any(BlitzAttackDto.class))).thenReturn(result);
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
         // Assert
-        verify(combatService).performCombat(eq(game.getGameCode()), any(AttackDto.class));
+        verify(combatService).performBlitz(eq(game.getGameCode()), any(BlitzAttackDto.class));
         verify(gameEventService).recordAttack(anyLong(), anyLong(), anyString(), anyString(), anyInt(), anyBoolean());
     }
 
@@ -451,98 +431,78 @@ class ExpertAggressiveExecutorTest {
         // Arrange
         objective.setType(ObjectiveType.OCCUPATION);
         objective.setTargetData("Asia");
-        List<Territory> attackers = createStrongAttackers();
-        List<Territory> targets = createWeakDefenders();
-        CombatResultDto result = createSuccessfulCombatResult();
+        BlitzResultDto result = createSuccessfulBlitzResult();
 
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(attackers);
-        when(combatService.getTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
-        when(combatService.performCombat(eq(game.getGameCode()), any(AttackDto.class))).thenReturn(result);
-        when(gameTerritoryService.getAllAvailableTerritories()).thenReturn(createAllTerritories());
+        givenConnectedBoard(createStrongAttackers(), createWeakDefenders());
+        when(combatService.performBlitz(eq(game.getGameCode()), any(BlitzAttackDto.class))).thenReturn(result);
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
         // Assert
-        verify(combatService).performCombat(eq(game.getGameCode()), any(AttackDto.class));
+        verify(combatService).performBlitz(eq(game.getGameCode()), any(BlitzAttackDto.class));
     }
 
     @Test
     void testPerformBotAttack_MaxAttacksReached() {
         // Arrange
         objective.setType(ObjectiveType.DESTRUCTION); // Max 10 attacks
-        List<Territory> attackers = createManyAttackers(15);
-        List<Territory> targets = createWeakDefenders();
-        CombatResultDto result = createSuccessfulCombatResult();
+        BlitzResultDto result = createSuccessfulBlitzResult();
 
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(attackers);
-        when(combatService.getTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
-        when(combatService.performCombat(eq(game.getGameCode()), any(AttackDto.class))).thenReturn(result);
-        when(gameTerritoryService.getAllAvailableTerritories()).thenReturn(createAllTerritories());
+        givenConnectedBoard(createManyAttackers(15), createWeakDefenders());
+        when(combatService.performBlitz(eq(game.getGameCode()), any(BlitzAttackDto.class))).thenReturn(result);
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
         // Assert - Should only attack up to max (10 for destruction)
-        verify(combatService, atMost(10)).performCombat(eq(game.getGameCode()), any(AttackDto.class));
+        verify(combatService, atMost(10)).performBlitz(eq(game.getGameCode()), any(BlitzAttackDto.class));
     }
 
     @Test
     void testPerformBotAttack_LowProbabilityTargets() {
         // Arrange
         objective.setType(ObjectiveType.OCCUPATION); // Min probability 0.50
-        List<Territory> attackers = createWeakAttackers();
-        List<Territory> targets = createStrongDefenders();
-
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(attackers);
-        when(combatService.getTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
-        when(gameTerritoryService.getAllAvailableTerritories()).thenReturn(createAllTerritories());
+        givenConnectedBoard(createWeakAttackers(), createStrongDefenders());
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
         // Assert - Should not attack due to low probability
-        verify(combatService, never()).performCombat(anyString(), any(AttackDto.class));
+        verify(combatService, never()).performBlitz(anyString(), any(BlitzAttackDto.class));
     }
 
     @Test
     void testPerformBotAttack_WithException() {
         // Arrange
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong()))
+        when(gameTerritoryService.getAllTerritoriesInGame(anyLong()))
                 .thenThrow(new RuntimeException("Test exception"));
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
         // Assert - Should not throw exception
-        verify(combatService, never()).performCombat(anyString(), any(AttackDto.class));
+        verify(combatService, never()).performBlitz(anyString(), any(BlitzAttackDto.class));
     }
 
     @Test
     void testPerformBotFortify_NoFortifiableTerritories() {
         // Arrange
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenConnectedBoard(createEnemyTerritories());
 
         // Act
         executor.performBotFortify(botPlayer, game);
 
-        // Assert
-        verify(fortificationService, never()).getFortificationTargetsForTerritory(anyString(), anyLong(), anyLong());
+        // Assert - La planificación no consulta al servicio de fortificación
+        verifyNoInteractions(fortificationService);
     }
 
     @Test
     void testPerformBotFortify_WithOccupationObjective() {
         // Arrange
         objective.setType(ObjectiveType.OCCUPATION);
-        List<Territory> fortifiable = createMockTerritories();
-        List<Territory> targets = createMockTerritories();
-
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(fortifiable);
-        when(fortificationService.getFortificationTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
+        givenConnectedBoard(createMockTerritories(), createEnemyTerritories());
         when(fortificationService.performFortification(eq(game.getGameCode()), any(FortifyDto.class))).thenReturn(true);
-        when(gameTerritoryService.getAllAvailableTerritories()).thenReturn(createAllTerritories());
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(createEnemyTerritories());
 
         // Act
         executor.performBotFortify(botPlayer, game);
@@ -555,7 +515,7 @@ class ExpertAggressiveExecutorTest {
     @Test
     void testPerformBotFortify_WithException() {
         // Arrange
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong()))
+        when(gameTerritoryService.getAllTerritoriesInGame(anyLong()))
                 .thenThrow(new RuntimeException("Test exception"));
 
         // Act
@@ -608,25 +568,25 @@ class ExpertAggressiveExecutorTest {
     @Test
     void testEvaluateAttackProbability_HighAdvantage() {
         double result = executor.evaluateAttackProbability(botPlayer, 6, 2);
-        assertEquals(0.85, result); // attackerArmies >= 3, defenderArmies == 1
+        assertEquals(0.8898, result, 1e-4);
     }
 
     @Test
     void testEvaluateAttackProbability_ModerateAdvantage() {
         double result = executor.evaluateAttackProbability(botPlayer, 4, 2);
-        assertEquals(0.70, result);
+        assertEquals(0.6560, result, 1e-4);
     }
 
     @Test
     void testEvaluateAttackProbability_LowAdvantage() {
         double result = executor.evaluateAttackProbability(botPlayer, 3, 2);
-        assertEquals(0.55, result);
+        assertEquals(0.3627, result, 1e-4);
     }
 
     @Test
     void testEvaluateAttackProbability_PoorAdvantage() {
         double result = executor.evaluateAttackProbability(botPlayer, 2, 3);
-        assertEquals(0.25, result);
+        assertEquals(0.0184, result, 1e-4);
     }
 
     @Test
@@ -648,10 +608,10 @@ class ExpertAggressiveExecutorTest {
         // Arrange
         objective.setType(ObjectiveType.OCCUPATION);
         objective.setTargetData("Asia,Europa");
-        when(gameTerritoryService.getAllAvailableTerritories()).thenReturn(createAllTerritories());
+        BoardView board = connectedBoard(createAllTerritories());
 
         // Act
-        List<?> result = callPrivateMethodWithReturn("identifyStrategicTargets", game, botPlayer, "OCCUPATION");
+        List<?> result = callPrivateMethodWithReturn("identifyStrategicTargets", board, botPlayer, "OCCUPATION");
 
         // Assert
         assertNotNull(result);
@@ -662,10 +622,10 @@ class ExpertAggressiveExecutorTest {
         // Arrange
         objective.setType(ObjectiveType.DESTRUCTION);
         objective.setTargetData("2");
-        when(gameTerritoryService.getAllAvailableTerritories()).thenReturn(createAllTerritories());
+        BoardView board = connectedBoard(createAllTerritories());
 
         // Act
-        List<?> result = callPrivateMethodWithReturn("identifyStrategicTargets", game, botPlayer, "DESTRUCTION");
+        List<?> result = callPrivateMethodWithReturn("identifyStrategicTargets", board, botPlayer, "DESTRUCTION");
 
         // Assert
         assertNotNull(result);
@@ -674,23 +634,22 @@ class ExpertAggressiveExecutorTest {
     @Test
     void testIdentifyStrategicTargets_WithGeneralObjective() {
         // Arrange
-        when(gameTerritoryService.getAllAvailableTerritories()).thenReturn(createAllTerritories());
+        BoardView board = connectedBoard(createAllTerritories());
 
         // Act
-        List<?> result = callPrivateMethodWithReturn("identifyStrategicTargets", game, botPlayer, "GENERAL");
+        List<?> result = callPrivateMethodWithReturn("identifyStrategicTargets", board, botPlayer, "GENERAL");
 
         // Assert
         assertNotNull(result);
     }
 
     @Test
-    void testIdentifyStrategicTargets_WithException() {
+    void testIdentifyStrategicTargets_WithoutEnemies() {
         // Arrange
-        when(gameTerritoryService.getAllAvailableTerritories())
-                .thenThrow(new RuntimeException("Test exception"));
+        BoardView board = connectedBoard(createMockTerritories());
 
         // Act
-        List<?> result = callPrivateMethodWithReturn("identifyStrategicTargets", game, botPlayer, "OCCUPATION");
+        List<?> result = callPrivateMethodWithReturn("identifyStrategicTargets", board, botPlayer, "OCCUPATION");
 
         // Assert
         assertNotNull(result);
@@ -782,11 +741,11 @@ class ExpertAggressiveExecutorTest {
         // Arrange
         List<Territory> territories = createMockTerritories();
         List<?> strategicTargets = new ArrayList<>();
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(createEnemyTerritories());
+        BoardView board = connectedBoard(territories, createEnemyTerritories());
 
         // Act
         Map<Long, Integer> result = callPrivateMethodWithReturn("planExpertReinforcements",
-                territories, strategicTargets, 5, "DESTRUCTION", game, botPlayer.getId());
+                territories, strategicTargets, 5, "DESTRUCTION", board, botPlayer.getId());
 
         // Assert
         assertNotNull(result);
@@ -798,10 +757,11 @@ class ExpertAggressiveExecutorTest {
         // Arrange
         List<Territory> territories = createMockTerritories();
         List<?> strategicTargets = new ArrayList<>();
+        BoardView board = connectedBoard(territories);
 
         // Act
         Map<Long, Integer> result = callPrivateMethodWithReturn("planExpertReinforcements",
-                territories, strategicTargets, 5, "OCCUPATION", game, botPlayer.getId());
+                territories, strategicTargets, 5, "OCCUPATION", board, botPlayer.getId());
 
         // Assert
         assertNotNull(result);
@@ -813,11 +773,11 @@ class ExpertAggressiveExecutorTest {
         // Arrange
         List<Territory> territories = createMockTerritories();
         List<?> strategicTargets = new ArrayList<>();
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(createEnemyTerritories());
+        BoardView board = connectedBoard(territories, createEnemyTerritories());
 
         // Act
         Map<Long, Integer> result = callPrivateMethodWithReturn("planExpertReinforcements",
-                territories, strategicTargets, 5, "GENERAL", game, botPlayer.getId());
+                territories, strategicTargets, 5, "GENERAL", board, botPlayer.getId());
 
         // Assert
         assertNotNull(result);
@@ -828,10 +788,10 @@ class ExpertAggressiveExecutorTest {
     void testFindBorderTerritories() {
         // Arrange
         List<Territory> territories = createMockTerritories();
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(createEnemyTerritories());
+        BoardView board = connectedBoard(territories, createEnemyTerritories());
 
         // Act
-        List<Territory> result = callPrivateMethodWithReturn("findBorderTerritories", territories, game, botPlayer.getId());
+        List<Territory> result = callPrivateMethodWithReturn("findBorderTerritories", territories, board, botPlayer.getId());
 
         // Assert
         assertNotNull(result);
@@ -841,10 +801,10 @@ class ExpertAggressiveExecutorTest {
     void testFindStrongestBorderTerritory() {
         // Arrange
         List<Territory> territories = createMockTerritories();
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(createEnemyTerritories());
+        BoardView board = connectedBoard(territories, createEnemyTerritories());
 
         // Act
-        Territory result = callPrivateMethodWithReturn("findStrongestBorderTerritory", territories, game, botPlayer.getId());
+        Territory result = callPrivateMethodWithReturn("findStrongestBorderTerritory", territories, board, botPlayer.getId());
 
         // Assert
         assertNotNull(result);
@@ -1079,14 +1039,11 @@ class ExpertAggressiveExecutorTest {
     void testFindBestExpertFortificationMove_Found() {
         // Arrange
         List<Territory> fortifiable = createMockTerritories();
-        when(fortificationService.getFortificationTargetsForTerritory(anyString(), anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong()))
-                .thenReturn(createEnemyTerritories());
+        BoardView board = connectedBoard(fortifiable, createEnemyTerritories());
 
         // Act
         Optional<?> result = callPrivateMethodWithReturn("findBestExpertFortificationMove",
-                fortifiable, game, botPlayer.getId(), "DESTRUCTION");
+                fortifiable, board, game, botPlayer.getId(), "DESTRUCTION");
 
         // Assert
         assertTrue(result.isPresent());
@@ -1096,12 +1053,11 @@ class ExpertAggressiveExecutorTest {
     void testFindBestExpertFortificationMove_NotFound() {
         // Arrange
         List<Territory> fortifiable = createWeakTerritories(); // <= 2 armies
-        when(fortificationService.getFortificationTargetsForTerritory(anyString(), anyLong(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        BoardView board = connectedBoard(fortifiable, createEnemyTerritories());
 
         // Act
         Optional<?> result = callPrivateMethodWithReturn("findBestExpertFortificationMove",
-                fortifiable, game, botPlayer.getId(), "DESTRUCTION");
+                fortifiable, board, game, botPlayer.getId(), "DESTRUCTION");
 
         // Assert
         assertFalse(result.isPresent());
@@ -1110,14 +1066,13 @@ class ExpertAggressiveExecutorTest {
     @Test
     void testShouldFortifyExpert_Destruction_True() {
         // Arrange
-        Territory source = createMockTerritories().get(0);
+        Territory source = createMockTerritories().get(1);
         Territory target = createStrongTerritories().get(0);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong()))
-                .thenReturn(createEnemyTerritories());
+        BoardView board = connectedBoard(List.of(source, target), createEnemyTerritories());
 
         // Act
         boolean result = callPrivateMethodWithReturn("shouldFortifyExpert",
-                source, target, "DESTRUCTION", game, botPlayer.getId());
+                source, target, "DESTRUCTION", board, botPlayer.getId());
 
         // Assert
         assertTrue(result);
@@ -1128,12 +1083,14 @@ class ExpertAggressiveExecutorTest {
         // Arrange
         Territory source = createStrongTerritories().get(0);
         Territory target = createWeakTerritories().get(0);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong()))
-                .thenReturn(Arrays.asList(createMockTerritories().get(0)), createEnemyTerritories()); // source safe, target border
+        target.setId(2L);
+        source.setNeighborIds(Set.of(2L));
+        target.setNeighborIds(Set.of(1L, 10L)); // source safe, target border
+        BoardView board = boardOf(List.of(source, target), createEnemyTerritories());
 
         // Act
         boolean result = callPrivateMethodWithReturn("shouldFortifyExpert",
-                source, target, "OCCUPATION", game, botPlayer.getId());
+                source, target, "OCCUPATION", board, botPlayer.getId());
 
         // Assert
         assertTrue(result);
@@ -1142,14 +1099,14 @@ class ExpertAggressiveExecutorTest {
     @Test
     void testShouldFortifyExpert_False() {
         // Arrange
-        Territory source = createMockTerritories().get(0);
-        Territory target = createMockTerritories().get(1);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories()); // Both territories not border
+        List<Territory> territories = createMockTerritories();
+        Territory source = territories.get(0);
+        Territory target = territories.get(1);
+        BoardView board = connectedBoard(territories); // Both territories not border
 
         // Act
         boolean result = callPrivateMethodWithReturn("shouldFortifyExpert",
-                source, target, "OCCUPATION", game, botPlayer.getId());
+                source, target, "OCCUPATION", board, botPlayer.getId());
 
         // Assert
         assertFalse(result);
@@ -1173,56 +1130,6 @@ class ExpertAggressiveExecutorTest {
         assertEquals(1, result); // Should return at least 1
     }
 
-    @Test
-    void testGetPlayerName_WithUser() {
-        // Arrange
-        Player playerWithUser = createMockPlayerWithUser();
-        when(playerService.findById(anyLong())).thenReturn(Optional.of(playerWithUser));
-
-        // Act
-        String result = callPrivateMethodWithReturn("getPlayerName", 1L);
-
-        // Assert
-        assertEquals("TestUser", result);
-    }
-
-    @Test
-    void testGetPlayerName_WithBot() {
-        // Arrange
-        Player playerWithBot = createMockPlayerWithBot();
-        when(playerService.findById(anyLong())).thenReturn(Optional.of(playerWithBot));
-
-        // Act
-        String result = callPrivateMethodWithReturn("getPlayerName", 1L);
-
-        // Assert
-        assertEquals("TestBot", result);
-    }
-
-    @Test
-    void testGetPlayerName_PlayerNotFound() {
-        // Arrange
-        when(playerService.findById(anyLong())).thenReturn(Optional.empty());
-
-        // Act
-        String result = callPrivateMethodWithReturn("getPlayerName", 1L);
-
-        // Assert
-        assertEquals("Jugador Desconocido", result);
-    }
-
-    @Test
-    void testGetPlayerName_WithException() {
-        // Arrange
-        when(playerService.findById(anyLong())).thenThrow(new RuntimeException("Test exception"));
-
-        // Act
-        String result = callPrivateMethodWithReturn("getPlayerName", 1L);
-
-        // Assert
-        assertEquals("Jugador Desconocido", result);
-    }
-
     // Helper methods for creating test data and calling private methods
     private List<Territory> createMockTerritories() {
         List<Territory> territories = new ArrayList<>();
@@ -1413,24 +1320,6 @@ class ExpertAggressiveExecutorTest {
         return player;
     }
 
-    private Player createMockPlayerWithUser() {
-        Player player = new Player();
-        player.setId(1L);
-        player.setUsername("TestUser");
-        player.setDisplayName("TestUser");
-        player.setIsBot(false);
-        return player;
-    }
-
-    private Player createMockPlayerWithBot() {
-        Player player = new Player();
-        player.setId(1L);
-        player.setDisplayName("TestBot");
-        player.setIsBot(true);
-        player.setBotProfile(botProfile);
-        return player;
-    }
-
     private Game createMockGame() {
         Game game = new Game();
         game.setId(this.game.getId());
@@ -1453,8 +1342,8 @@ class ExpertAggressiveExecutorTest {
                 .build();
     }
 
-    private CombatResultDto createSuccessfulCombatResult() {
-        CombatResultDto result = new CombatResultDto();
+    private BlitzResultDto createSuccessfulBlitzResult() {
+        BlitzResultDto result = new BlitzResultDto();
         result.setAttackerCountryId(1L);
         result.setDefenderCountryId(10L);
         result.setAttackerCountryName("Territory1");
@@ -1474,13 +1363,44 @@ class ExpertAggressiveExecutorTest {
         when(reinforcementService.canPerformReinforcement(any(Game.class), any(Player.class))).thenReturn(true);
         when(reinforcementService.getReinforcementStatus(anyString(), anyLong()))
                 .thenReturn(createReinforcementStatus(5));
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
-        when(gameTerritoryService.getAllAvailableTerritories()).thenReturn(createAllTerritories());
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenConnectedBoard(createMockTerritories());
+    }
+
+    @SafeVarargs
+    private BoardView boardOf(List<Territory>... parts) {
+        List<Territory> territories = new ArrayList<>();
+        for (List<Territory> part : parts) {
+            territories.addAll(part);
+        }
+        TestBoards.stubWorldMap(worldMap, territories);
+        return BoardView.of(worldMap, territories);
+    }
+
+    /**
+     * Tablero donde cada territorio limita con todos los demás.
+     */
+    @SafeVarargs
+    private BoardView connectedBoard(List<Territory>... parts) {
+        return boardOf(connect(parts));
+    }
+
+    @SafeVarargs
+    private void givenConnectedBoard(List<Territory>... parts) {
+        List<Territory> territories = connect(parts);
+        TestBoards.stubWorldMap(worldMap, territories);
+        when(gameTerritoryService.getAllTerritoriesInGame(game.getId())).thenReturn(territories);
+    }
+
+    @SafeVarargs
+    private List<Territory> connect(List<Territory>... parts) {
+        List<Territory> territories = new ArrayList<>();
+        for (List<Territory> part : parts) {
+            territories.addAll(part);
+        }
+        Set<Long> ids = new HashSet<>();
+        territories.forEach(territory -> ids.add(territory.getId()));
+        territories.forEach(territory -> territory.setNeighborIds(ids));
+        return territories;
     }
 
     private void setupMocksForReinforcement() {
@@ -1493,46 +1413,53 @@ class ExpertAggressiveExecutorTest {
     }
 
     private void callPrivateMethod(String methodName, Object... args) {
-        try {
-            Class<?>[] paramTypes = new Class<?>[args.length];
-            for (int i = 0; i < args.length; i++) {
-                paramTypes[i] = args[i].getClass();
-                // Handle primitive types
-                if (paramTypes[i] == Integer.class) paramTypes[i] = int.class;
-                if (paramTypes[i] == Long.class) paramTypes[i] = long.class;
-                // Handle interfaces and common types
-                if (args[i] instanceof List) paramTypes[i] = List.class;
-                if (args[i] instanceof Map) paramTypes[i] = Map.class;
-            }
-
-            var method = ExpertAggressiveExecutor.class.getDeclaredMethod(methodName, paramTypes);
-            method.setAccessible(true);
-            method.invoke(executor, args);
-        } catch (Exception e) {
-            fail("Method invocation failed: " + e.getMessage());
-        }
+        callPrivateMethodWithReturn(methodName, args);
     }
 
     @SuppressWarnings("unchecked")
     private <T> T callPrivateMethodWithReturn(String methodName, Object... args) {
         try {
-            Class<?>[] paramTypes = new Class<?>[args.length];
-            for (int i = 0; i < args.length; i++) {
-                paramTypes[i] = args[i].getClass();
-                // Handle primitive types
-                if (paramTypes[i] == Integer.class) paramTypes[i] = int.class;
-                if (paramTypes[i] == Long.class) paramTypes[i] = long.class;
-                // Handle interfaces and common types
-                if (args[i] instanceof List) paramTypes[i] = List.class;
-                if (args[i] instanceof Map) paramTypes[i] = Map.class;
-            }
-
-            var method = ExpertAggressiveExecutor.class.getDeclaredMethod(methodName, paramTypes);
+            Method method = findPrivateMethod(methodName, args);
             method.setAccessible(true);
             return (T) method.invoke(executor, args);
+        } catch (InvocationTargetException e) {
+            fail("Method invocation failed: " + methodName + " threw " + e.getCause());
         } catch (Exception e) {
             fail("Method invocation failed: " + e.getMessage());
-            return null;
         }
+        return null;
+    }
+
+    // Busca por nombre y compatibilidad de argumentos: getDeclaredMethod exige los tipos exactos
+    // y no distingue Long de long ni una implementación de List de la interfaz
+    private Method findPrivateMethod(String methodName, Object... args) throws NoSuchMethodException {
+        for (Method method : ExpertAggressiveExecutor.class.getDeclaredMethods()) {
+            if (method.getName().equals(methodName) && accepts(method.getParameterTypes(), args)) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException(ExpertAggressiveExecutor.class.getName() + "." + methodName
+                + " accepting " + Arrays.toString(args));
+    }
+
+    private static boolean accepts(Class<?>[] parameterTypes, Object[] args) {
+        if (parameterTypes.length != args.length) {
+            return false;
+        }
+        for (int i = 0; i < args.length; i++) {
+            Class<?> type = parameterTypes[i];
+            if (args[i] == null) {
+                if (type.isPrimitive()) {
+                    return false;
+                }
+            } else if (!wrap(type).isInstance(args[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
     }
 }
@@ -0,0 +1,217 @@
+package ar.edu.utn.frc.tup.piii.FactoryBots;
+
+import ar.edu.utn.frc.tup.piii.FactoryBots.MasterStrategies.MasterAggressiveExecutor;
+import ar.edu.utn.frc.tup.piii.FactoryBots.MasterStrategies.MonteCarloPlanner;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzAttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzResultDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.FortifyDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.ReinforcementStatusDto;
+import ar.edu.utn.frc.tup.piii.engine.DiceOdds;
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
+import ar.edu.utn.frc.tup.piii.entities.BotProfileEntity;
+import ar.edu.utn.frc.tup.piii.entities.GameEntity;
+import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
+import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.Player;
+import ar.edu.utn.frc.tup.piii.model.Territory;
+import ar.edu.utn.frc.tup.piii.model.enums.BotLevel;
+import ar.edu.utn.frc.tup.piii.model.enums.BotStrategy;
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
+import ar.edu.utn.frc.tup.piii.service.interfaces.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MasterAggressiveExecutorTest {
+
+    @Mock
+    private CombatService combatService;
+    @Mock
+    private FortificationService fortificationService;
+    @Mock
+    private ReinforcementService reinforcementService;
+    @Mock
+    private GameTerritoryService gameTerritoryService;
+    @Mock
+    private GameStateService gameStateService;
+    @Mock
+    private InitialPlacementService initialPlacementService;
+    @Mock
+    private PlayerService playerService;
+    @Mock
+    private IGameEventService gameEventService;
+    @Mock
+    private GameMapper gameMapper;
+    @Mock
+    private WorldMap worldMap;
+    @Mock
+    private GameRandom gameRandom;
+
+    @Spy
+    private DiceOdds diceOdds = new DiceOdds();
+
+    @Spy
+    private MonteCarloPlanner planner = new MonteCarloPlanner();
+
+    @InjectMocks
+    private MasterAggressiveExecutor executor;
+
+    private PlayerEntity botPlayer;
+    private GameEntity game;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(planner, "budgetMs", 2_000L);
+        ReflectionTestUtils.setField(planner, "parallelism", 2);
+        ReflectionTestUtils.setField(planner, "maxRollouts", 200);
+        planner.start();
+
+        BotProfileEntity botProfile = new BotProfileEntity();
+        botProfile.setId(1L);
+        botProfile.setBotName("MasterBot");
+        botProfile.setLevel(BotLevel.MASTER);
+        botProfile.setStrategy(BotStrategy.AGGRESSIVE);
+
+        botPlayer = new PlayerEntity();
+        botPlayer.setId(1L);
+        botPlayer.setBotProfile(botProfile);
+
+        game = new GameEntity();
+        game.setId(1L);
+        game.setGameCode("TEST_GAME");
+        game.setStatus(GameState.NORMAL_PLAY);
+        game.setCurrentPhase(TurnPhase.REINFORCEMENT);
+        game.setCurrentTurn(1);
+
+        // Mapa en línea 1-2-3-4; continentes {1, 2} y {3, 4}
+        int[][] neighbors = {{1}, {0, 2}, {1, 3}, {2}};
+        lenient().when(worldMap.size()).thenReturn(4);
+        lenient().when(worldMap.neighborsOf(anyInt())).thenAnswer(invocation -> neighbors[invocation.<Integer>getArgument(0)]);
+        lenient().when(worldMap.continentOf(anyInt())).thenAnswer(invocation -> invocation.<Integer>getArgument(0) / 2);
+        lenient().when(worldMap.continentCount()).thenReturn(2);
+        lenient().when(worldMap.continentBonusAt(anyInt())).thenReturn(2);
+        lenient().when(worldMap.indexOf(anyLong())).thenAnswer(invocation -> (int) (invocation.<Long>getArgument(0) - 1));
+        lenient().when(worldMap.countryIdAt(anyInt())).thenAnswer(invocation -> invocation.<Integer>getArgument(0) + 1L);
+        lenient().when(worldMap.countryNameAt(anyInt())).thenAnswer(invocation -> "Country " + (invocation.<Integer>getArgument(0) + 1));
+        lenient().when(gameRandom.nextInt(anyLong(), eq(GameRandom.Stream.BOTS), anyInt())).thenReturn(42);
+
+        Game gameModel = Game.builder()
+                .id(1L)
+                .gameCode("TEST_GAME")
+                .players(new ArrayList<>(List.of(
+                        Player.builder().id(1L).seatOrder(0).build(),
+                        Player.builder().id(2L).seatOrder(1).build())))
+                .build();
+        lenient().when(gameMapper.toModel(game)).thenReturn(gameModel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        planner.stop();
+    }
+
+    @Test
+    void testGetLevelAndStrategy() {
+        assertEquals(BotLevel.MASTER, executor.getLevel());
+        assertEquals(BotStrategy.AGGRESSIVE, executor.getStrategy());
+    }
+
+    @Test
+    void testExecuteTurn_REINFORCEMENT_5_PlacesAllArmiesOnBorder() {
+        game.setStatus(GameState.REINFORCEMENT_5);
+        givenTerritories(new long[]{1, 1, 2, 2}, new int[]{1, 1, 1, 1});
+
+        executor.executeTurn(botPlayer, game);
+
+        verify(initialPlacementService).placeInitialArmies(eq("TEST_GAME"), eq(1L), argThat(placement ->
+                placement.values().stream().mapToInt(Integer::intValue).sum() == 5
+                        && placement.keySet().equals(Set.of(2L))));
+        verify(gameEventService).recordTurnStart(1L, 1L, 1);
+        verify(gameEventService).recordTurnEnd(1L, 1L, 1);
+    }
+
+    @Test
+    void testExecuteTurn_NORMAL_PLAY_ReinforcesAndAttacksWeakNeighbor() {
+        givenTerritories(new long[]{1, 1, 2, 2}, new int[]{1, 8, 1, 1});
+        when(playerService.findById(1L)).thenReturn(Optional.of(Player.builder().id(1L).build()));
+        when(reinforcementService.canPerformReinforcement(any(Game.class), any(Player.class))).thenReturn(true);
+        when(reinforcementService.getReinforcementStatus("TEST_GAME", 1L))
+                .thenReturn(ReinforcementStatusDto.builder().armiesToPlace(3).build());
+        when(combatService.performBlitz(eq("TEST_GAME"), any(BlitzAttackDto.class))).thenReturn(BlitzResultDto.builder()
+                .attackerCountryId(2L)
+                .attackerCountryName("Country 2")
+                .defenderCountryId(3L)
+                .defenderCountryName("Country 3")
+                .territoryConquered(true)
+                .attackerRemainingArmies(10)
+                .defenderRemainingArmies(1)
+                .build());
+
+        executor.executeTurn(botPlayer, game);
+
+        verify(reinforcementService).placeReinforcementArmies(eq("TEST_GAME"), eq(1L), argThat(placement ->
+                placement.equals(Map.of(2L, 3))));
+        verify(combatService).performBlitz(eq("TEST_GAME"), argThat(blitz ->
+                blitz.getAttackerCountryId().equals(2L) && blitz.getDefenderCountryId().equals(3L)));
+        verify(gameEventService).recordAttack(1L, 1L, "Country 2", "Country 3", 1, true);
+        verify(gameStateService, times(3)).changeTurnPhase(any(), any(TurnPhase.class));
+    }
+
+    @Test
+    void testPerformBotFortify_MovesInteriorArmiesToThreatenedBorder() {
+        givenTerritories(new long[]{1, 1, 2, 2}, new int[]{10, 2, 6, 1});
+        when(fortificationService.performFortification(eq("TEST_GAME"), any(FortifyDto.class))).thenReturn(true);
+
+        executor.performBotFortify(botPlayer, game);
+
+        verify(fortificationService).performFortification(eq("TEST_GAME"), argThat(dto ->
+                dto.getFromCountryId().equals(1L) && dto.getToCountryId().equals(2L) && dto.getArmies() == 9));
+        verify(gameEventService).recordFortification(1L, 1L, "Country 1", "Country 2", 9, 1);
+    }
+
+    @Test
+    void testPerformBotAttack_BlitzFailureStopsAttacks() {
+        givenTerritories(new long[]{1, 1, 2, 2}, new int[]{1, 8, 1, 1});
+        when(combatService.performBlitz(anyString(), any(BlitzAttackDto.class)))
+                .thenThrow(new IllegalArgumentException("Not your turn"));
+
+        assertDoesNotThrow(() -> executor.performBotAttack(botPlayer, game));
+
+        verify(combatService, times(1)).performBlitz(anyString(), any(BlitzAttackDto.class));
+        verify(gameEventService, never()).recordAttack(anyLong(), anyLong(), anyString(), anyString(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    void testEvaluateAttackProbability_UsesDiceOdds() {
+        assertEquals(diceOdds.winProbability(10, 3), executor.evaluateAttackProbability(botPlayer, 10, 3));
+        assertEquals(0.0, executor.evaluateAttackProbability(botPlayer, 0, 3));
+    }
+
+    private void givenTerritories(long[] owners, int[] armies) {
+        List<Territory> territories = new ArrayList<>();
+        for (int i = 0; i < owners.length; i++) {
+            territories.add(Territory.builder().id(i + 1L).ownerId(owners[i]).armies(armies[i]).build());
+        }
+        lenient().when(gameTerritoryService.getAllTerritoriesInGame(1L)).thenReturn(territories);
+    }
+}
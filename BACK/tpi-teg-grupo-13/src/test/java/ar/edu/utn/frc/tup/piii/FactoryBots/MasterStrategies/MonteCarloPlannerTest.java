@@ -0,0 +1,78 @@
+package ar.edu.utn.frc.tup.piii.FactoryBots.MasterStrategies;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MonteCarloPlannerTest {
+
+    private MonteCarloPlanner planner;
+
+    @AfterEach
+    void tearDown() {
+        if (planner != null) {
+            planner.stop();
+        }
+    }
+
+    @Test
+    void candidates_ShouldCombineReinforcementsThresholdsAndFortify() {
+        planner = newPlanner(50, 100);
+        PlanBoard board = PlanBoardTest.lineBoard(new int[]{0, 0, 1, 1}, new int[]{3, 3, 2, 2});
+
+        List<TurnPlan> candidates = planner.candidates(board, 3, true, true);
+
+        // Un solo país de frontera: refuerzo completo ahí; 5 umbrales de ataque; con y sin fortificar
+        assertThat(candidates).hasSize(5 * 2);
+        assertThat(candidates).allSatisfy(plan ->
+                assertThat(plan.reinforcements().values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(3));
+        assertThat(candidates.get(0).attacks()).isTrue();
+    }
+
+    @Test
+    void candidates_WithoutPhases_ShouldReturnSinglePlan() {
+        planner = newPlanner(50, 100);
+        PlanBoard board = PlanBoardTest.lineBoard(new int[]{0, 0, 1, 1}, new int[]{3, 3, 2, 2});
+
+        List<TurnPlan> candidates = planner.candidates(board, 0, false, false);
+
+        assertThat(candidates).containsExactly(new TurnPlan(Map.of(), TurnPlan.NO_ATTACKS, false));
+    }
+
+    @Test
+    void plan_ShouldAttackWeakNeighborThatCompletesContinent() {
+        planner = newPlanner(5_000, 300);
+        PlanBoard board = PlanBoardTest.lineBoard(new int[]{0, 0, 1, 1}, new int[]{1, 12, 1, 1});
+
+        TurnPlan plan = planner.plan(board, 0, true, false, 42L);
+
+        assertThat(plan.attacks()).isTrue();
+    }
+
+    @Test
+    void plan_ShouldReturnWithinBudget() {
+        planner = newPlanner(50, Integer.MAX_VALUE);
+        PlanBoard board = PlanBoardTest.lineBoard(new int[]{0, 0, 1, 1}, new int[]{5, 5, 5, 5});
+
+        long start = System.nanoTime();
+        TurnPlan plan = planner.plan(board, 4, true, true, 7L);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(plan).isNotNull();
+        assertThat(elapsedMs).isLessThan(1_000);
+    }
+
+    private MonteCarloPlanner newPlanner(long budgetMs, int maxRollouts) {
+        MonteCarloPlanner monteCarloPlanner = new MonteCarloPlanner();
+        ReflectionTestUtils.setField(monteCarloPlanner, "budgetMs", budgetMs);
+        ReflectionTestUtils.setField(monteCarloPlanner, "parallelism", 2);
+        ReflectionTestUtils.setField(monteCarloPlanner, "maxRollouts", maxRollouts);
+        monteCarloPlanner.start();
+        return monteCarloPlanner;
+    }
+}
@@ -0,0 +1,103 @@
+package ar.edu.utn.frc.tup.piii.FactoryBots.MasterStrategies;
+
+import ar.edu.utn.frc.tup.piii.engine.DiceOdds;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlanBoardTest {
+
+    private static final DiceOdds DICE_ODDS = new DiceOdds();
+
+    // Mapa en línea 0-1-2-3; continente 0 = {0, 1} (bonus 2), continente 1 = {2, 3} (bonus 3)
+    static PlanBoard lineBoard(int[] owner, int[] armies) {
+        int[][] neighbors = {{1}, {0, 2}, {1, 3}, {2}};
+        int[] continentOf = {0, 0, 1, 1};
+        int[] continentBonus = {2, 3};
+        double[] value = {1.0, 1.0, 1.0, 1.0};
+        return new PlanBoard(neighbors, continentOf, continentBonus, value, DICE_ODDS, 2, 0, PlanBoard.NO_MOVE,
+                owner, armies);
+    }
+
+    @Test
+    void blitz_WithOverwhelmingForce_ShouldConquerAndMoveOneArmy() {
+        PlanBoard board = lineBoard(new int[]{0, 0, 1, 1}, new int[]{1, 40, 1, 1});
+
+        boolean conquered = board.blitz(1, 2, new SplittableRandom(1));
+
+        assertThat(conquered).isTrue();
+        assertThat(board.ownerAt(2)).isZero();
+        assertThat(board.armiesAt(2)).isEqualTo(1);
+        assertThat(board.armiesAt(1)).isBetween(2, 39);
+    }
+
+    @Test
+    void blitz_AgainstLargeDefense_ShouldStopWithOneArmy() {
+        PlanBoard board = lineBoard(new int[]{0, 0, 1, 1}, new int[]{1, 2, 60, 1});
+
+        boolean conquered = board.blitz(1, 2, new SplittableRandom(1));
+
+        assertThat(conquered).isFalse();
+        assertThat(board.ownerAt(2)).isEqualTo(1);
+        assertThat(board.armiesAt(1)).isEqualTo(1);
+        assertThat(board.armiesAt(2)).isBetween(59, 60);
+    }
+
+    @Test
+    void nextAttack_ShouldRespectMinimumProbability() {
+        PlanBoard board = lineBoard(new int[]{0, 0, 1, 1}, new int[]{1, 4, 3, 1});
+
+        assertThat(board.nextAttack(0, 0.99)).isEqualTo(PlanBoard.NO_MOVE);
+        assertThat(board.nextAttack(0, 0.1)).isEqualTo(1 * board.size() + 2);
+    }
+
+    @Test
+    void copy_ShouldNotShareState() {
+        PlanBoard board = lineBoard(new int[]{0, 0, 1, 1}, new int[]{1, 40, 1, 1});
+
+        PlanBoard copy = board.copy();
+        copy.blitz(1, 2, new SplittableRandom(1));
+
+        assertThat(board.ownerAt(2)).isEqualTo(1);
+        assertThat(board.armiesAt(1)).isEqualTo(40);
+    }
+
+    @Test
+    void fortifyMove_ShouldMoveFromInteriorToBorder() {
+        PlanBoard board = lineBoard(new int[]{0, 0, 1, 1}, new int[]{10, 2, 6, 1});
+
+        int move = board.fortifyMove(0);
+        board.fortify(move);
+
+        assertThat(move).isEqualTo(0 * board.size() + 1);
+        assertThat(board.armiesAt(0)).isEqualTo(1);
+        assertThat(board.armiesAt(1)).isEqualTo(11);
+    }
+
+    @Test
+    void fortifyMove_WithoutInteriorCountries_ShouldReturnNoMove() {
+        PlanBoard board = lineBoard(new int[]{0, 1, 0, 1}, new int[]{5, 2, 6, 1});
+
+        assertThat(board.fortifyMove(0)).isEqualTo(PlanBoard.NO_MOVE);
+    }
+
+    @Test
+    void reinforcementsFor_ShouldAddContinentBonus() {
+        PlanBoard board = lineBoard(new int[]{0, 0, 1, 0}, new int[]{1, 1, 1, 1});
+
+        assertThat(board.reinforcementsFor(0)).isEqualTo(3 + 2);
+        assertThat(board.reinforcementsFor(1)).isEqualTo(3);
+    }
+
+    @Test
+    void score_ShouldRewardContinentsAndPunishElimination() {
+        PlanBoard withContinent = lineBoard(new int[]{0, 0, 1, 1}, new int[]{3, 3, 1, 1});
+        PlanBoard withoutContinent = lineBoard(new int[]{0, 1, 0, 1}, new int[]{3, 1, 3, 1});
+        PlanBoard eliminated = lineBoard(new int[]{1, 1, 1, 1}, new int[]{3, 3, 1, 1});
+
+        assertThat(withContinent.score()).isGreaterThan(withoutContinent.score());
+        assertThat(eliminated.score()).isLessThan(withoutContinent.score());
+    }
+}
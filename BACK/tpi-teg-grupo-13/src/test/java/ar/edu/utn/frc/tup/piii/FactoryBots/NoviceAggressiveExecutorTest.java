@@ -1,10 +1,13 @@
 package ar.edu.utn.frc.tup.piii.FactoryBots;
 
 import ar.edu.utn.frc.tup.piii.FactoryBots.NoviceStrategies.NoviceAggressiveExecutor;
-import ar.edu.utn.frc.tup.piii.dtos.game.AttackDto;
-import ar.edu.utn.frc.tup.piii.dtos.game.CombatResultDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzAttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzResultDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.FortifyDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.ReinforcementStatusDto;
+import ar.edu.utn.frc.tup.piii.engine.DiceOdds;
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
 import ar.edu.utn.frc.tup.piii.entities.*;
 import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
 import ar.edu.utn.frc.tup.piii.mappers.PlayerMapper;
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
@@ -40,6 +44,15 @@ class NoviceAggressiveExecutorTest {
     @Mock private GameService gameService;
     @Mock private ReinforcementService reinforcementService;
 
+    @Spy
+    private DiceOdds diceOdds = new DiceOdds();
+
+    @Mock
+    private GameRandom gameRandom;
+
+    @Mock
+    private WorldMap worldMap;
+
     @InjectMocks
     private NoviceAggressiveExecutor executor;
 
@@ -92,8 +105,7 @@ class NoviceAggressiveExecutorTest {
     void testExecuteTurn_REINFORCEMENT_5() {
         // Arrange
         game.setStatus(GameState.REINFORCEMENT_5);
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
+        givenBoard(createMockTerritories());
 
         // Act
         executor.executeTurn(botPlayer, game);
@@ -108,8 +120,7 @@ class NoviceAggressiveExecutorTest {
     void testExecuteTurn_REINFORCEMENT_3() {
         // Arrange
         game.setStatus(GameState.REINFORCEMENT_3);
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
+        givenBoard(createMockTerritories());
 
         // Act
         executor.executeTurn(botPlayer, game);
@@ -123,10 +134,7 @@ class NoviceAggressiveExecutorTest {
     void testExecuteTurn_HOSTILITY_ONLY() {
         // Arrange
         game.setStatus(GameState.HOSTILITY_ONLY);
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenBoard(Collections.emptyList());
 
         // Act
         executor.executeTurn(botPlayer, game);
@@ -147,12 +155,7 @@ class NoviceAggressiveExecutorTest {
         when(reinforcementService.canPerformReinforcement(any(Game.class), any(Player.class))).thenReturn(true);
         when(reinforcementService.getReinforcementStatus(anyString(), anyLong()))
                 .thenReturn(createMockReinforcementStatus());
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(createMockTerritories());
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenBoard(createWeakTerritories());
 
         // Act
         executor.executeTurn(botPlayer, game);
@@ -191,8 +194,7 @@ class NoviceAggressiveExecutorTest {
     @Test
     void testPerformInitialPlacement_WithTerritories() {
         // Arrange
-        List<Territory> territories = createMockTerritories();
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong())).thenReturn(territories);
+        givenBoard(createMockTerritories(), createEnemyTerritories());
 
         // Act - usando reflection para acceder al método privado
         try {
@@ -211,8 +213,7 @@ class NoviceAggressiveExecutorTest {
     @Test
     void testPerformInitialPlacement_EmptyTerritories() {
         // Arrange
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenBoard(createEnemyTerritories());
 
         // Act
         try {
@@ -231,7 +232,7 @@ class NoviceAggressiveExecutorTest {
     @Test
     void testPerformInitialPlacement_WithException() {
         // Arrange
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
+        when(gameTerritoryService.getAllTerritoriesInGame(anyLong()))
                 .thenThrow(new RuntimeException("Test exception"));
 
         // Act
@@ -295,8 +296,7 @@ class NoviceAggressiveExecutorTest {
         when(gameMapper.toModel(game)).thenReturn(gameModel);
         when(reinforcementService.canPerformReinforcement(any(Game.class), any(Player.class))).thenReturn(true);
         when(reinforcementService.getReinforcementStatus(anyString(), anyLong())).thenReturn(status);
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenBoard(createEnemyTerritories());
 
         // Act
         executor.performBotReinforcement(botPlayer, game);
@@ -311,15 +311,12 @@ class NoviceAggressiveExecutorTest {
         Player player = createMockPlayer();
         Game gameModel = createMockGame();
         ReinforcementStatusDto status = createMockReinforcementStatus();
-        List<Territory> territories = createMockTerritories();
-        List<Territory> enemyNeighbors = createEnemyTerritories();
 
         when(playerService.findById(botPlayer.getId())).thenReturn(Optional.of(player));
         when(gameMapper.toModel(game)).thenReturn(gameModel);
         when(reinforcementService.canPerformReinforcement(any(Game.class), any(Player.class))).thenReturn(true);
         when(reinforcementService.getReinforcementStatus(anyString(), anyLong())).thenReturn(status);
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong())).thenReturn(territories);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(enemyNeighbors);
+        givenBoard(createMockTerritories(), createEnemyTerritories());
 
         // Act
         executor.performBotReinforcement(botPlayer, game);
@@ -335,15 +332,12 @@ class NoviceAggressiveExecutorTest {
         Player player = createMockPlayer();
         Game gameModel = createMockGame();
         ReinforcementStatusDto status = createMockReinforcementStatus();
-        List<Territory> territories = createMockTerritories();
 
         when(playerService.findById(botPlayer.getId())).thenReturn(Optional.of(player));
         when(gameMapper.toModel(game)).thenReturn(gameModel);
         when(reinforcementService.canPerformReinforcement(any(Game.class), any(Player.class))).thenReturn(true);
         when(reinforcementService.getReinforcementStatus(anyString(), anyLong())).thenReturn(status);
-        when(gameTerritoryService.getTerritoriesByOwner(anyLong(), anyLong())).thenReturn(territories);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong()))
-                .thenReturn(territories); // All neighbors owned by same player
+        givenBoard(createMockTerritories()); // All neighbors owned by same player
 
         // Act
         executor.performBotReinforcement(botPlayer, game);
@@ -367,49 +361,42 @@ class NoviceAggressiveExecutorTest {
     @Test
     void testPerformBotAttack_NoAttackableTerritories() {
         // Arrange
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenBoard(createWeakTerritories(), createEnemyTerritories());
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
-        // Assert
-        verify(combatService).getAttackableTerritoriesForPlayer(game.getGameCode(), botPlayer.getId());
-        verify(combatService, never()).getTargetsForTerritory(anyString(), anyLong(), anyLong());
+        // Assert - La planificación no consulta al servicio de combate
+        verifyNoInteractions(combatService);
     }
 
     @Test
     void testPerformBotAttack_NoTargets() {
         // Arrange
-        List<Territory> attackers = createMockTerritories();
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(attackers);
-        when(combatService.getTargetsForTerritory(anyString(), anyLong(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenBoard(createMockTerritories());
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
         // Assert
-        verify(combatService, never()).performCombat(anyString(), any(AttackDto.class));
+        verify(combatService, never()).performBlitz(anyString(), any(BlitzAttackDto.class));
     }
 
     @Test
     void testPerformBotAttack_SuccessfulAttack() {
         // Arrange
-        List<Territory> attackers = createMockTerritories();
         List<Territory> targets = createEnemyTerritories();
-        CombatResultDto result = createSuccessfulCombatResult();
+        BlitzResultDto result = createSuccessfulBlitzResult();
 
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(attackers);
-        when(combatService.getTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
-        when(combatService.performCombat(eq(game.getGameCode()), any(AttackDto.class))).thenReturn(result);
+        givenBoard(createMockTerritories(), targets);
+        when(combatService.performBlitz(eq(game.getGameCode()), any(BlitzAttackDto.class))).thenReturn(result);
         when(playerService.findById(targets.get(0).getOwnerId())).thenReturn(Optional.of(createMockPlayer()));
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
         // Assert
-        verify(combatService).performCombat(eq(game.getGameCode()), any(AttackDto.class));
+        verify(combatService).performBlitz(eq(game.getGameCode()), any(BlitzAttackDto.class));
         verify(gameEventService).recordAttack(anyLong(), anyLong(), anyString(), anyString(), anyInt(), anyBoolean());
         verify(gameEventService).recordTerritoryConquest(anyLong(), anyLong(), anyString(), anyString(), anyInt());
     }
@@ -417,13 +404,10 @@ class NoviceAggressiveExecutorTest {
     @Test
     void testPerformBotAttack_FailedAttack() {
         // Arrange
-        List<Territory> attackers = createMockTerritories();
-        List<Territory> targets = createEnemyTerritories();
-        CombatResultDto result = createFailedCombatResult();
+        BlitzResultDto result = createFailedBlitzResult();
 
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(attackers);
-        when(combatService.getTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
-        when(combatService.performCombat(eq(game.getGameCode()), any(AttackDto.class))).thenReturn(result);
+        givenBoard(createMockTerritories(), createEnemyTerritories());
+        when(combatService.performBlitz(eq(game.getGameCode()), any(BlitzAttackDto.class))).thenReturn(result);
 
         // Act
         executor.performBotAttack(botPlayer, game);
@@ -436,107 +420,87 @@ class NoviceAggressiveExecutorTest {
     @Test
     void testPerformBotAttack_MaxAttacksReached() {
         // Arrange
-        List<Territory> attackers = createManyTerritories(5);
-        List<Territory> targets = createEnemyTerritories();
-        CombatResultDto result = createSuccessfulCombatResult();
+        BlitzResultDto result = createSuccessfulBlitzResult();
 
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(attackers);
-        when(combatService.getTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
-        when(combatService.performCombat(eq(game.getGameCode()), any(AttackDto.class))).thenReturn(result);
-        when(playerService.findById(targets.get(0).getOwnerId())).thenReturn(Optional.of(createMockPlayer()));
+        givenBoard(createManyTerritories(5), createEnemiesFor(5));
+        when(combatService.performBlitz(eq(game.getGameCode()), any(BlitzAttackDto.class))).thenReturn(result);
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
         // Assert - Should only attack 3 times (max for NOVICE)
-        verify(combatService, times(3)).performCombat(eq(game.getGameCode()), any(AttackDto.class));
+        verify(combatService, times(3)).performBlitz(eq(game.getGameCode()), any(BlitzAttackDto.class));
     }
 
     @Test
     void testPerformBotAttack_InsufficientArmies() {
         // Arrange
-        List<Territory> attackers = createWeakTerritories();
-        List<Territory> targets = createEnemyTerritories();
-
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(attackers);
-        when(combatService.getTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
+        givenBoard(createWeakTerritories(), createEnemyTerritories());
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
         // Assert - Should not attack with insufficient armies
-        verify(combatService, never()).performCombat(anyString(), any(AttackDto.class));
+        verify(combatService, never()).performBlitz(anyString(), any(BlitzAttackDto.class));
     }
 
     @Test
     void testPerformBotAttack_WithException() {
         // Arrange
-        when(combatService.getAttackableTerritoriesForPlayer(anyString(), anyLong()))
+        when(gameTerritoryService.getAllTerritoriesInGame(anyLong()))
                 .thenThrow(new RuntimeException("Test exception"));
 
         // Act
         executor.performBotAttack(botPlayer, game);
 
         // Assert - Should not throw exception
-        verify(combatService, never()).performCombat(anyString(), any(AttackDto.class));
+        verify(combatService, never()).performBlitz(anyString(), any(BlitzAttackDto.class));
     }
 
     @Test
     void testPerformBotFortify_NoFortifiableTerritories() {
         // Arrange
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenBoard(createWeakTerritories(), createEnemyTerritories());
 
         // Act
         executor.performBotFortify(botPlayer, game);
 
-        // Assert
-        verify(fortificationService, never()).getFortificationTargetsForTerritory(anyString(), anyLong(), anyLong());
+        // Assert - La planificación no consulta al servicio de fortificación
+        verifyNoInteractions(fortificationService);
     }
 
     @Test
     void testPerformBotFortify_NoSafeTerritories() {
         // Arrange
-        List<Territory> fortifiable = createMockTerritories();
-        List<Territory> enemyNeighbors = createEnemyTerritories();
-
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(fortifiable);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(enemyNeighbors);
+        givenBoard(createMockTerritories(), createEnemyTerritories());
 
         // Act
         executor.performBotFortify(botPlayer, game);
 
         // Assert
-        verify(fortificationService, never()).getFortificationTargetsForTerritory(anyString(), anyLong(), anyLong());
+        verify(fortificationService, never()).performFortification(anyString(), any(FortifyDto.class));
     }
 
     @Test
     void testPerformBotFortify_NoTargets() {
         // Arrange
-        List<Territory> fortifiable = createSafeTerritories();
-
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(fortifiable);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(fortifiable);
-        when(fortificationService.getFortificationTargetsForTerritory(anyString(), anyLong(), anyLong()))
-                .thenReturn(Collections.emptyList());
+        givenBoard(createSafeTerritories());
 
         // Act
         executor.performBotFortify(botPlayer, game);
 
         // Assert
-        verify(fortificationService, never()).getMaxMovableArmies(anyString(), anyLong());
+        verify(fortificationService, never()).performFortification(anyString(), any(FortifyDto.class));
     }
 
     @Test
     void testPerformBotFortify_NoMovableArmies() {
         // Arrange
-        List<Territory> fortifiable = createSafeTerritories();
-        List<Territory> targets = createMockTerritories();
+        // El único territorio sin frontera tiene un solo ejército: no hay nada para mover
+        List<Territory> fortifiable = createWeakTerritories();
+        Territory border = createBorderTerritory();
 
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(fortifiable);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(fortifiable);
-        when(fortificationService.getFortificationTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
-        when(fortificationService.getMaxMovableArmies(anyString(), anyLong())).thenReturn(0);
+        givenBoard(fortifiable, List.of(border), createEnemyTerritories());
 
         // Act
         executor.performBotFortify(botPlayer, game);
@@ -548,33 +512,22 @@ class NoviceAggressiveExecutorTest {
     @Test
     void testPerformBotFortify_SuccessfulFortification() {
         // Arrange
-        List<Territory> fortifiable = createSafeTerritories();
-        List<Territory> targets = createMockTerritories();
-
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(fortifiable);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(fortifiable);
-        when(fortificationService.getFortificationTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
-        when(fortificationService.getMaxMovableArmies(anyString(), anyLong())).thenReturn(5);
+        givenBoard(createSafeTerritories(), List.of(createBorderTerritory(), createEnemyTerritories().get(1)));
         when(fortificationService.performFortification(eq(game.getGameCode()), any(FortifyDto.class))).thenReturn(true);
 
         // Act
         executor.performBotFortify(botPlayer, game);
 
-        // Assert
-        verify(fortificationService).performFortification(eq(game.getGameCode()), any(FortifyDto.class));
+        // Assert - Mueve la mitad de lo movible (10 - 1) desde el interior hacia la frontera
+        verify(fortificationService).performFortification(eq(game.getGameCode()), argThat(dto ->
+                dto.getFromCountryId().equals(1L) && dto.getToCountryId().equals(2L) && dto.getArmies() == 4));
         verify(gameEventService).recordFortification(anyLong(), anyLong(), anyString(), anyString(), anyInt(), anyInt());
     }
 
     @Test
     void testPerformBotFortify_FailedFortification() {
         // Arrange
-        List<Territory> fortifiable = createSafeTerritories();
-        List<Territory> targets = createMockTerritories();
-
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong())).thenReturn(fortifiable);
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(fortifiable);
-        when(fortificationService.getFortificationTargetsForTerritory(anyString(), anyLong(), anyLong())).thenReturn(targets);
-        when(fortificationService.getMaxMovableArmies(anyString(), anyLong())).thenReturn(5);
+        givenBoard(createSafeTerritories(), List.of(createBorderTerritory(), createEnemyTerritories().get(1)));
         when(fortificationService.performFortification(eq(game.getGameCode()), any(FortifyDto.class))).thenReturn(false);
 
         // Act
@@ -588,7 +541,7 @@ class NoviceAggressiveExecutorTest {
     @Test
     void testPerformBotFortify_WithException() {
         // Arrange
-        when(fortificationService.getFortifiableTerritoriesForPlayer(anyString(), anyLong()))
+        when(gameTerritoryService.getAllTerritoriesInGame(anyLong()))
                 .thenThrow(new RuntimeException("Test exception"));
 
         // Act
@@ -750,7 +703,7 @@ class NoviceAggressiveExecutorTest {
         // Test all scenarios
         assertEquals(0, executor.evaluateAttackProbability(botPlayer, 1, 5));
         assertEquals(0, executor.evaluateAttackProbability(botPlayer, 0, 5));
-        assertEquals(0, executor.evaluateAttackProbability(botPlayer, 2, 3));
+        assertEquals(0.0184, executor.evaluateAttackProbability(botPlayer, 2, 3), 1e-4);
     }
 
     @Test
@@ -771,16 +724,14 @@ class NoviceAggressiveExecutorTest {
     void testDistributeInitialArmies_BorderTerritories() {
         // Arrange
         List<Territory> territories = createMockTerritories();
-        List<Territory> enemyNeighbors = createEnemyTerritories();
-
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(enemyNeighbors);
+        BoardView board = boardOf(territories, createEnemyTerritories());
 
         // Act
         try {
             var method = NoviceAggressiveExecutor.class.getDeclaredMethod("distributeInitialArmies",
-                    List.class, GameEntity.class, Long.class, int.class);
+                    List.class, BoardView.class, int.class);
             method.setAccessible(true);
-            Map<Long, Integer> result = (Map<Long, Integer>) method.invoke(executor, territories, game, botPlayer.getId(), 5);
+            Map<Long, Integer> result = (Map<Long, Integer>) method.invoke(executor, territories, board, 5);
 
             // Assert
             assertNotNull(result);
@@ -794,15 +745,14 @@ class NoviceAggressiveExecutorTest {
     void testDistributeInitialArmies_NoBorderTerritories() {
         // Arrange
         List<Territory> territories = createMockTerritories();
-
-        when(gameTerritoryService.getNeighborTerritories(anyLong(), anyLong())).thenReturn(territories);
+        BoardView board = boardOf(territories);
 
         // Act
         try {
             var method = NoviceAggressiveExecutor.class.getDeclaredMethod("distributeInitialArmies",
-                    List.class, GameEntity.class, Long.class, int.class);
+                    List.class, BoardView.class, int.class);
             method.setAccessible(true);
-            Map<Long, Integer> result = (Map<Long, Integer>) method.invoke(executor, territories, game, botPlayer.getId(), 5);
+            Map<Long, Integer> result = (Map<Long, Integer>) method.invoke(executor, territories, board, 5);
 
             // Assert
             assertNotNull(result);
@@ -813,6 +763,26 @@ class NoviceAggressiveExecutorTest {
     }
 
     // Helper methods for creating test data
+    @SafeVarargs
+    private BoardView boardOf(List<Territory>... parts) {
+        List<Territory> territories = new ArrayList<>();
+        for (List<Territory> part : parts) {
+            territories.addAll(part);
+        }
+        TestBoards.stubWorldMap(worldMap, territories);
+        return BoardView.of(worldMap, territories);
+    }
+
+    @SafeVarargs
+    private void givenBoard(List<Territory>... parts) {
+        List<Territory> territories = new ArrayList<>();
+        for (List<Territory> part : parts) {
+            territories.addAll(part);
+        }
+        TestBoards.stubWorldMap(worldMap, territories);
+        when(gameTerritoryService.getAllTerritoriesInGame(game.getId())).thenReturn(territories);
+    }
+
     private List<Territory> createMockTerritories() {
         List<Territory> territories = new ArrayList<>();
 
@@ -873,6 +843,29 @@ class NoviceAggressiveExecutorTest {
         return territories;
     }
 
+    private List<Territory> createEnemiesFor(int count) {
+        List<Territory> territories = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Territory t = new Territory();
+            t.setId((long) i + 10);
+            t.setName("EnemyTerritory" + (i + 1));
+            t.setOwnerId(2L);
+            t.setArmies(1);
+            territories.add(t);
+        }
+        return territories;
+    }
+
+    private Territory createBorderTerritory() {
+        Territory border = new Territory();
+        border.setId(2L);
+        border.setName("BorderTerritory");
+        border.setOwnerId(botPlayer.getId());
+        border.setArmies(2);
+        border.setNeighborIds(Set.of(1L, 11L));
+        return border;
+    }
+
     private List<Territory> createWeakTerritories() {
         List<Territory> territories = new ArrayList<>();
 
@@ -951,8 +944,8 @@ class NoviceAggressiveExecutorTest {
                 .build();
     }
 
-    private CombatResultDto createSuccessfulCombatResult() {
-        CombatResultDto result = new CombatResultDto();
+    private BlitzResultDto createSuccessfulBlitzResult() {
+        BlitzResultDto result = new BlitzResultDto();
         result.setAttackerCountryId(1L);
         result.setDefenderCountryId(10L);
         result.setAttackerCountryName("Territory1");
@@ -963,8 +956,8 @@ class NoviceAggressiveExecutorTest {
         return result;
     }
 
-    private CombatResultDto createFailedCombatResult() {
-        CombatResultDto result = new CombatResultDto();
+    private BlitzResultDto createFailedBlitzResult() {
+        BlitzResultDto result = new BlitzResultDto();
         result.setAttackerCountryId(1L);
         result.setDefenderCountryId(10L);
         result.setAttackerCountryName("Territory1");
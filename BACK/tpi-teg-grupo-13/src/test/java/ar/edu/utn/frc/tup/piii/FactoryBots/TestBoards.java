@@ -0,0 +1,59 @@
+package ar.edu.utn.frc.tup.piii.FactoryBots;
+
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
+import ar.edu.utn.frc.tup.piii.model.Territory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * Arma un mapa de prueba para {@link BoardView} a partir de los territorios de cada test.
+ */
+final class TestBoards {
+
+    private TestBoards() {
+    }
+
+    /**
+     * Configura el mock de {@link WorldMap} con los países dados (índices en el orden de la lista)
+     * y fronteras simétricas tomadas de los {@code neighborIds} de cada territorio.
+     */
+    static void stubWorldMap(WorldMap worldMap, Collection<Territory> territories) {
+        Map<Long, Integer> indexes = new LinkedHashMap<>();
+        for (Territory territory : territories) {
+            indexes.putIfAbsent(territory.getId(), indexes.size());
+        }
+        List<TreeSet<Integer>> adjacency = new ArrayList<>();
+        for (int i = 0; i < indexes.size(); i++) {
+            adjacency.add(new TreeSet<>());
+        }
+        for (Territory territory : territories) {
+            if (territory.getNeighborIds() == null) {
+                continue;
+            }
+            int index = indexes.get(territory.getId());
+            for (Long neighborId : territory.getNeighborIds()) {
+                Integer neighbor = indexes.get(neighborId);
+                if (neighbor != null && neighbor != index) {
+                    adjacency.get(index).add(neighbor);
+                    adjacency.get(neighbor).add(index);
+                }
+            }
+        }
+
+        lenient().when(worldMap.size()).thenReturn(indexes.size());
+        lenient().when(worldMap.indexOf(any()))
+                .thenAnswer(inv -> indexes.getOrDefault(inv.<Long>getArgument(0), -1));
+        lenient().when(worldMap.neighborsOf(anyInt()))
+                .thenAnswer(inv -> adjacency.get(inv.<Integer>getArgument(0)).stream()
+                        .mapToInt(Integer::intValue).toArray());
+    }
+}
@@ -17,15 +17,21 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import ar.edu.utn.frc.tup.piii.dtos.game.AttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzAttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzResultDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.CombatResultDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.CombatRollDto;
+import ar.edu.utn.frc.tup.piii.engine.GameCommandExecutor;
 import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.Territory;
+import ar.edu.utn.frc.tup.piii.model.enums.BlitzStopReason;
 import ar.edu.utn.frc.tup.piii.model.enums.GameState;
 import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
 import ar.edu.utn.frc.tup.piii.service.interfaces.CombatService;
@@ -33,6 +39,7 @@ import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameStateService;
 
 @WebMvcTest(CombatController.class)
+@Import(GameCommandExecutor.class)
 public class CombatControllerTest {
     
     @Autowired
@@ -149,6 +156,61 @@ public class CombatControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void testBlitz_Success() throws Exception {
+        BlitzAttackDto blitzDto = BlitzAttackDto.builder()
+                .playerId(1L)
+                .attackerCountryId(1L)
+                .defenderCountryId(2L)
+                .stopAtArmies(2)
+                .build();
+        BlitzResultDto blitzResult = BlitzResultDto.builder()
+                .attackerCountryId(1L)
+                .defenderCountryId(2L)
+                .rolls(List.of(
+                        CombatRollDto.builder().attackerDice(List.of(6, 5, 4)).defenderDice(List.of(3, 2, 1))
+                                .attackerLosses(0).defenderLosses(3).attackerArmies(8).defenderArmies(1).build(),
+                        CombatRollDto.builder().attackerDice(List.of(6, 2, 1)).defenderDice(List.of(4))
+                                .attackerLosses(0).defenderLosses(1).attackerArmies(8).defenderArmies(0).build()))
+                .attackerLosses(0)
+                .defenderLosses(4)
+                .territoryConquered(true)
+                .stopReason(BlitzStopReason.TERRITORY_CONQUERED)
+                .attackerRemainingArmies(7)
+                .defenderRemainingArmies(1)
+                .build();
+        when(gameService.findByGameCode("TEST123")).thenReturn(gameTest);
+        when(gameStateService.isPlayerTurn(gameTest, 1L)).thenReturn(true);
+        when(gameStateService.canPerformAction(gameTest, "attack")).thenReturn(true);
+        when(combatService.performBlitz("TEST123", blitzDto)).thenReturn(blitzResult);
+
+        mockMvc.perform(post("/api/games/TEST123/combat/blitz")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(blitzDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rolls.length()").value(2))
+                .andExpect(jsonPath("$.rolls[0].defenderLosses").value(3))
+                .andExpect(jsonPath("$.territoryConquered").value(true))
+                .andExpect(jsonPath("$.stopReason").value("TERRITORY_CONQUERED"))
+                .andExpect(jsonPath("$.attackerRemainingArmies").value(7));
+    }
+
+    @Test
+    void testBlitz_NotPlayerTurn() throws Exception {
+        BlitzAttackDto blitzDto = BlitzAttackDto.builder()
+                .playerId(1L)
+                .attackerCountryId(1L)
+                .defenderCountryId(2L)
+                .build();
+        when(gameService.findByGameCode("TEST123")).thenReturn(gameTest);
+        when(gameStateService.isPlayerTurn(gameTest, 1L)).thenReturn(false);
+
+        mockMvc.perform(post("/api/games/TEST123/combat/blitz")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(blitzDto)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetAttackableTerritories_Success() throws Exception {
         when(gameService.findByGameCode("TEST123")).thenReturn(gameTest);
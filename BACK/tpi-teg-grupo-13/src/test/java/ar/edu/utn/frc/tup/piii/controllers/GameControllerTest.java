@@ -11,6 +11,7 @@ import ar.edu.utn.frc.tup.piii.model.enums.BotStrategy;
 import ar.edu.utn.frc.tup.piii.model.enums.GameState;
 import ar.edu.utn.frc.tup.piii.service.interfaces.CombatService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStreamService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.InitialPlacementService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +22,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ar.edu.utn.frc.tup.piii.exceptions.ForbiddenException;
 import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
 
@@ -56,6 +58,9 @@ public class GameControllerTest {
     @MockBean
     private GameMapper gameMapper;
 
+    @MockBean
+    private GameStreamService gameStreamService;
+
 
     private ObjectMapper objectMapper;
     private GameResponseDto sampleDto;
@@ -173,6 +178,41 @@ public class GameControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    public void getGameDelta_success() throws Exception {
+        GameDeltaDto delta = GameDeltaDto.builder()
+                .gameCode("TEST123")
+                .fromVersion(5L)
+                .version(7L)
+                .fullState(false)
+                .build();
+        when(gameService.getGameDelta("TEST123", 5L)).thenReturn(delta);
+
+        mockMvc.perform(get("/api/games/TEST123").param("sinceVersion", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(7))
+                .andExpect(jsonPath("$.fullState").value(false))
+                .andExpect(jsonPath("$.territories").doesNotExist());
+    }
+
+    @Test
+    public void streamGame_success() throws Exception {
+        when(gameStreamService.subscribe(eq("TEST123"))).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/games/TEST123/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    public void streamGame_notFound() throws Exception {
+        when(gameStreamService.subscribe(eq("NOT_EXISTS")))
+                .thenThrow(new GameNotFoundException("not found"));
+
+        mockMvc.perform(get("/api/games/NOT_EXISTS/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void joinGame_success() throws Exception {
         JoinGameDto joinDto = new JoinGameDto();
@@ -1,12 +1,25 @@
 package ar.edu.utn.frc.tup.piii.controllers;
 
 import ar.edu.utn.frc.tup.piii.dtos.event.GameEventDto;
+import ar.edu.utn.frc.tup.piii.dtos.event.GameEventFilterDto;
+import ar.edu.utn.frc.tup.piii.dtos.event.GameEventPageDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.GameStateDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.GameStatisticsDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.PlayerStatisticsDto;
+import ar.edu.utn.frc.tup.piii.engine.GameEventWriter;
+import ar.edu.utn.frc.tup.piii.engine.GameReplayer;
 import ar.edu.utn.frc.tup.piii.entities.GameEventEntity;
+import ar.edu.utn.frc.tup.piii.exceptions.GameNotFoundException;
+import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
+import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
+import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.enums.EventType;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStatisticsService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.IGameEventService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -30,6 +43,18 @@ public class GameEventControllerTest {
     @MockBean
     private IGameEventService gameEventService;
 
+    @MockBean
+    private GameReplayer gameReplayer;
+
+    @MockBean
+    private GameStatisticsService gameStatisticsService;
+
+    @MockBean
+    private GameMapper gameMapper;
+
+    @MockBean
+    private GameEventWriter gameEventWriter;
+
     private ObjectMapper objectMapper;
     private GameEventDto sampleEventDto;
     private GameEventEntity sampleEventEntity;
@@ -68,19 +93,54 @@ public class GameEventControllerTest {
 
     @Test
     public void getGameHistory_Success() throws Exception {
-        when(gameEventService.getFormattedGameHistory(1L)).thenReturn(sampleEventDtoList);
+        when(gameEventService.getGameHistoryPage(eq(1L), isNull(), eq(50), any(GameEventFilterDto.class)))
+                .thenReturn(samplePage(1L));
 
         mockMvc.perform(get("/api/games/1/events"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].actorName").value("TestPlayer"))
-                .andExpect(jsonPath("$[0].type").value("ATTACK_PERFORMED"))
-                .andExpect(jsonPath("$[0].description").value("TestPlayer atacó desde Argentina a Brasil"));
+                .andExpect(jsonPath("$.events[0].id").value(1L))
+                .andExpect(jsonPath("$.events[0].actorName").value("TestPlayer"))
+                .andExpect(jsonPath("$.events[0].type").value("ATTACK_PERFORMED"))
+                .andExpect(jsonPath("$.events[0].description").value("TestPlayer atacó desde Argentina a Brasil"))
+                .andExpect(jsonPath("$.nextCursor").value(1L))
+                .andExpect(jsonPath("$.hasMore").value(true));
+
+        // Lo encolado se escribe antes de leer, fuera de la transacción del servicio
+        InOrder inOrder = inOrder(gameEventWriter, gameEventService);
+        inOrder.verify(gameEventWriter).flush();
+        inOrder.verify(gameEventService).getGameHistoryPage(eq(1L), isNull(), eq(50), any(GameEventFilterDto.class));
+    }
+
+    @Test
+    public void getGameHistory_WithCursorAndFilters() throws Exception {
+        GameEventFilterDto filter = GameEventFilterDto.builder()
+                .type(EventType.ATTACK_PERFORMED).actorId(2L).fromTurn(3).toTurn(5).build();
+        when(gameEventService.getGameHistoryPage(1L, 120L, 20, filter)).thenReturn(samplePage(null));
+
+        mockMvc.perform(get("/api/games/1/events")
+                        .param("cursor", "120")
+                        .param("limit", "20")
+                        .param("type", "ATTACK_PERFORMED")
+                        .param("actorId", "2")
+                        .param("fromTurn", "3")
+                        .param("toTurn", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].id").value(1L))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    public void getGameHistory_InvalidLimit() throws Exception {
+        when(gameEventService.getGameHistoryPage(eq(1L), isNull(), eq(0), any(GameEventFilterDto.class)))
+                .thenThrow(new IllegalArgumentException("Limit must be between 1 and 200"));
+
+        mockMvc.perform(get("/api/games/1/events").param("limit", "0"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
     public void getGameHistory_Exception() throws Exception {
-        when(gameEventService.getFormattedGameHistory(1L))
+        when(gameEventService.getGameHistoryPage(eq(1L), isNull(), eq(50), any(GameEventFilterDto.class)))
                 .thenThrow(new RuntimeException("Database error"));
 
         mockMvc.perform(get("/api/games/1/events"))
@@ -89,18 +149,19 @@ public class GameEventControllerTest {
 
     @Test
     public void getPlayerEvents_Success() throws Exception {
-        when(gameEventService.getPlayerEventsInGame(1L, 2L)).thenReturn(sampleEventEntityList);
+        when(gameEventService.getGameHistoryPage(1L, null, 50, GameEventFilterDto.builder().actorId(2L).build()))
+                .thenReturn(samplePage(null));
 
         mockMvc.perform(get("/api/games/1/events/player/2"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].turnNumber").value(1))
-                .andExpect(jsonPath("$[0].type").value("ATTACK_PERFORMED"));
+                .andExpect(jsonPath("$.events[0].id").value(1L))
+                .andExpect(jsonPath("$.events[0].turnNumber").value(1))
+                .andExpect(jsonPath("$.events[0].type").value("ATTACK_PERFORMED"));
     }
 
     @Test
     public void getPlayerEvents_Exception() throws Exception {
-        when(gameEventService.getPlayerEventsInGame(1L, 2L))
+        when(gameEventService.getGameHistoryPage(eq(1L), isNull(), eq(50), any(GameEventFilterDto.class)))
                 .thenThrow(new RuntimeException("Player not found"));
 
         mockMvc.perform(get("/api/games/1/events/player/2"))
@@ -109,18 +170,21 @@ public class GameEventControllerTest {
 
     @Test
     public void getEventsByType_Success() throws Exception {
-        when(gameEventService.getEventsByType(1L, EventType.ATTACK_PERFORMED))
-                .thenReturn(sampleEventEntityList);
+        when(gameEventService.getGameHistoryPage(1L, 7L, 10,
+                GameEventFilterDto.builder().type(EventType.ATTACK_PERFORMED).build()))
+                .thenReturn(samplePage(null));
 
-        mockMvc.perform(get("/api/games/1/events/type/ATTACK_PERFORMED"))
+        mockMvc.perform(get("/api/games/1/events/type/ATTACK_PERFORMED")
+                        .param("cursor", "7")
+                        .param("limit", "10"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].type").value("ATTACK_PERFORMED"));
+                .andExpect(jsonPath("$.events[0].id").value(1L))
+                .andExpect(jsonPath("$.events[0].type").value("ATTACK_PERFORMED"));
     }
 
     @Test
     public void getEventsByType_Exception() throws Exception {
-        when(gameEventService.getEventsByType(1L, EventType.ATTACK_PERFORMED))
+        when(gameEventService.getGameHistoryPage(eq(1L), isNull(), eq(50), any(GameEventFilterDto.class)))
                 .thenThrow(new RuntimeException("Invalid event type"));
 
         mockMvc.perform(get("/api/games/1/events/type/ATTACK_PERFORMED"))
@@ -190,6 +254,68 @@ public class GameEventControllerTest {
                 .andExpect(jsonPath("$.conquestsByPlayer.Player2").value(3));
     }
 
+    @Test
+    public void getGameStatistics_Success() throws Exception {
+        PlayerStatisticsDto player = PlayerStatisticsDto.builder()
+                .playerId(1L).playerName("Player1").attacks(6).conquests(2).build();
+        when(gameStatisticsService.getGameStatistics(1L)).thenReturn(GameStatisticsDto.builder()
+                .totalAttacks(6)
+                .territoriesConquered(2)
+                .mostAggressivePlayer("Player1")
+                .players(List.of(player))
+                .build());
+
+        mockMvc.perform(get("/api/games/1/events/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalAttacks").value(6))
+                .andExpect(jsonPath("$.mostAggressivePlayer").value("Player1"))
+                .andExpect(jsonPath("$.players[0].conquests").value(2));
+        verify(gameEventWriter).flush();
+    }
+
+    @Test
+    public void getTurnStatistics_Success() throws Exception {
+        when(gameStatisticsService.getTurnStatistics(1L, 3)).thenReturn(List.of(PlayerStatisticsDto.builder()
+                .playerId(1L).playerName("Player1").turnNumber(3).attacks(4).build()));
+
+        mockMvc.perform(get("/api/games/1/events/turn/3/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].turnNumber").value(3))
+                .andExpect(jsonPath("$[0].attacks").value(4));
+    }
+
+    @Test
+    public void replayGame_BySequence() throws Exception {
+        Game game = Game.builder().id(1L).currentTurn(3).build();
+        when(gameReplayer.replay(1L, 42L)).thenReturn(game);
+        when(gameMapper.toStateDto(game)).thenReturn(GameStateDto.builder().gameId(1L).currentTurn(3).build());
+
+        mockMvc.perform(get("/api/games/1/events/replay").param("sequence", "42"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.gameId").value(1))
+                .andExpect(jsonPath("$.currentTurn").value(3));
+    }
+
+    @Test
+    public void replayGame_ByTurn() throws Exception {
+        Game game = Game.builder().id(1L).currentTurn(3).build();
+        when(gameReplayer.replayToTurn(1L, 3)).thenReturn(game);
+        when(gameMapper.toStateDto(game)).thenReturn(GameStateDto.builder().gameId(1L).currentTurn(3).build());
+
+        mockMvc.perform(get("/api/games/1/events/replay").param("turn", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentTurn").value(3));
+        verify(gameReplayer, never()).replayLatest(anyLong());
+    }
+
+    @Test
+    public void replayGame_WithoutSnapshot() throws Exception {
+        when(gameReplayer.replayLatest(1L)).thenThrow(new InvalidGameStateException("Game 1 has no snapshot"));
+
+        mockMvc.perform(get("/api/games/1/events/replay"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void getGameEventStats_Exception() throws Exception {
         when(gameEventService.getGameEventStats(1L))
@@ -301,15 +427,29 @@ public class GameEventControllerTest {
         request.setFromPlayer("Player1");
         request.setTurnNumber(5);
 
-        when(gameEventService.recordTerritoryConquest(1L, 2L, "Brasil", "Player1", 5))
-                .thenReturn(sampleEventEntity);
-
         mockMvc.perform(post("/api/games/1/events/territory-conquest")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.id").value(1L))
-                .andExpect(jsonPath("$.type").value("ATTACK_PERFORMED"));
+                .andExpect(status().isAccepted())
+                .andExpect(content().string(""));
+        verify(gameEventService).recordTerritoryConquest(1L, 2L, "Brasil", "Player1", 5);
+    }
+
+    @Test
+    public void recordTerritoryConquest_GameNotFound() throws Exception {
+        GameEventController.TerritoryConquestRequest request = new GameEventController.TerritoryConquestRequest();
+        request.setConquererPlayerId(2L);
+        request.setConqueredTerritory("Brasil");
+        request.setFromPlayer("Player1");
+        request.setTurnNumber(5);
+
+        doThrow(new GameNotFoundException("Game not found with id: 99")).when(gameEventService)
+                .recordTerritoryConquest(99L, 2L, "Brasil", "Player1", 5);
+
+        mockMvc.perform(post("/api/games/99/events/territory-conquest")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
     }
 
     @Test
@@ -320,8 +460,8 @@ public class GameEventControllerTest {
         request.setFromPlayer("Player1");
         request.setTurnNumber(5);
 
-        when(gameEventService.recordTerritoryConquest(1L, 2L, "Brasil", "Player1", 5))
-                .thenThrow(new RuntimeException("Recording error"));
+        doThrow(new RuntimeException("Recording error")).when(gameEventService)
+                .recordTerritoryConquest(1L, 2L, "Brasil", "Player1", 5);
 
         mockMvc.perform(post("/api/games/1/events/territory-conquest")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -338,14 +478,11 @@ public class GameEventControllerTest {
         request.setTurnNumber(3);
         request.setSuccessful(true);
 
-        when(gameEventService.recordAttack(1L, 2L, "Argentina", "Brasil", 3, true))
-                .thenReturn(sampleEventEntity);
-
         mockMvc.perform(post("/api/games/1/events/attack")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.id").value(1L));
+                .andExpect(status().isAccepted());
+        verify(gameEventService).recordAttack(1L, 2L, "Argentina", "Brasil", 3, true);
     }
 
     @Test
@@ -357,8 +494,8 @@ public class GameEventControllerTest {
         request.setTurnNumber(3);
         request.setSuccessful(false);
 
-        when(gameEventService.recordAttack(1L, 2L, "Argentina", "Brasil", 3, false))
-                .thenThrow(new RuntimeException("Attack recording error"));
+        doThrow(new RuntimeException("Attack recording error")).when(gameEventService)
+                .recordAttack(1L, 2L, "Argentina", "Brasil", 3, false);
 
         mockMvc.perform(post("/api/games/1/events/attack")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -372,13 +509,11 @@ public class GameEventControllerTest {
         request.setPlayerId(2L);
         request.setTurnNumber(4);
 
-        when(gameEventService.recordTurnStart(1L, 2L, 4)).thenReturn(sampleEventEntity);
-
         mockMvc.perform(post("/api/games/1/events/turn-start")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.id").value(1L));
+                .andExpect(status().isAccepted());
+        verify(gameEventService).recordTurnStart(1L, 2L, 4);
     }
 
     @Test
@@ -387,8 +522,8 @@ public class GameEventControllerTest {
         request.setPlayerId(2L);
         request.setTurnNumber(4);
 
-        when(gameEventService.recordTurnStart(1L, 2L, 4))
-                .thenThrow(new RuntimeException("Turn start error"));
+        doThrow(new RuntimeException("Turn start error")).when(gameEventService)
+                .recordTurnStart(1L, 2L, 4);
 
         mockMvc.perform(post("/api/games/1/events/turn-start")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -402,13 +537,11 @@ public class GameEventControllerTest {
         request.setPlayerId(2L);
         request.setTurnNumber(4);
 
-        when(gameEventService.recordTurnEnd(1L, 2L, 4)).thenReturn(sampleEventEntity);
-
         mockMvc.perform(post("/api/games/1/events/turn-end")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.id").value(1L));
+                .andExpect(status().isAccepted());
+        verify(gameEventService).recordTurnEnd(1L, 2L, 4);
     }
 
     @Test
@@ -417,8 +550,8 @@ public class GameEventControllerTest {
         request.setPlayerId(2L);
         request.setTurnNumber(4);
 
-        when(gameEventService.recordTurnEnd(1L, 2L, 4))
-                .thenThrow(new RuntimeException("Turn end error"));
+        doThrow(new RuntimeException("Turn end error")).when(gameEventService)
+                .recordTurnEnd(1L, 2L, 4);
 
         mockMvc.perform(post("/api/games/1/events/turn-end")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -434,14 +567,11 @@ public class GameEventControllerTest {
         request.setReinforcements(5);
         request.setTurnNumber(3);
 
-        when(gameEventService.recordReinforcementsPlaced(1L, 2L, "Argentina", 5, 3))
-                .thenReturn(sampleEventEntity);
-
         mockMvc.perform(post("/api/games/1/events/reinforcements")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.id").value(1L));
+                .andExpect(status().isAccepted());
+        verify(gameEventService).recordReinforcementsPlaced(1L, 2L, "Argentina", 5, 3);
     }
 
     @Test
@@ -452,8 +582,8 @@ public class GameEventControllerTest {
         request.setReinforcements(5);
         request.setTurnNumber(3);
 
-        when(gameEventService.recordReinforcementsPlaced(1L, 2L, "Argentina", 5, 3))
-                .thenThrow(new RuntimeException("Reinforcements error"));
+        doThrow(new RuntimeException("Reinforcements error")).when(gameEventService)
+                .recordReinforcementsPlaced(1L, 2L, "Argentina", 5, 3);
 
         mockMvc.perform(post("/api/games/1/events/reinforcements")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -470,14 +600,11 @@ public class GameEventControllerTest {
         request.setArmies(3);
         request.setTurnNumber(5);
 
-        when(gameEventService.recordFortification(1L, 2L, "Argentina", "Brasil", 3, 5))
-                .thenReturn(sampleEventEntity);
-
         mockMvc.perform(post("/api/games/1/events/fortification")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.id").value(1L));
+                .andExpect(status().isAccepted());
+        verify(gameEventService).recordFortification(1L, 2L, "Argentina", "Brasil", 3, 5);
     }
 
     @Test
@@ -489,8 +616,8 @@ public class GameEventControllerTest {
         request.setArmies(3);
         request.setTurnNumber(5);
 
-        when(gameEventService.recordFortification(1L, 2L, "Argentina", "Brasil", 3, 5))
-                .thenThrow(new RuntimeException("Fortification error"));
+        doThrow(new RuntimeException("Fortification error")).when(gameEventService)
+                .recordFortification(1L, 2L, "Argentina", "Brasil", 3, 5);
 
         mockMvc.perform(post("/api/games/1/events/fortification")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -574,4 +701,12 @@ public class GameEventControllerTest {
         assert request.getArmies().equals(3);
         assert request.getTurnNumber().equals(5);
     }
-}
\ No newline at end of file
+
+    private GameEventPageDto samplePage(Long nextCursor) {
+        return GameEventPageDto.builder()
+                .events(sampleEventDtoList)
+                .nextCursor(nextCursor)
+                .hasMore(nextCursor != null)
+                .build();
+    }
+}
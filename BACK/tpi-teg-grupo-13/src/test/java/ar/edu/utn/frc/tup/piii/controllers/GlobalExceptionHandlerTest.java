@@ -1,6 +1,8 @@
 package ar.edu.utn.frc.tup.piii.controllers;
 
+import ar.edu.utn.frc.tup.piii.engine.GameEventWriter;
 import ar.edu.utn.frc.tup.piii.exceptions.*;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStatisticsService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,12 @@ class GlobalExceptionHandlerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private GameStatisticsService gameStatisticsService;
+
+    @MockBean
+    private GameEventWriter gameEventWriter;
+
     @Test
     void handleUserAlreadyExists_ShouldReturn409() throws Exception {
         when(userService.getUserById(1L))
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -32,6 +33,7 @@ import ar.edu.utn.frc.tup.piii.dtos.game.InitialArmyPlacementDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.InitialPlacementSummaryDto;
 import ar.edu.utn.frc.tup.piii.dtos.player.PlayerInitialInfoDto;
 import ar.edu.utn.frc.tup.piii.dtos.player.PlayerTerritoriesDto;
+import ar.edu.utn.frc.tup.piii.engine.GameCommandExecutor;
 import ar.edu.utn.frc.tup.piii.exceptions.GameNotFoundException;
 import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
 import ar.edu.utn.frc.tup.piii.exceptions.PlayerNotFoundException;
@@ -47,6 +49,7 @@ import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameTerritoryService;
 
 @WebMvcTest(InitialPlacementController.class)
+@Import(GameCommandExecutor.class)
 public class InitialPlacementControllerTest {
     
     @Autowired
@@ -193,8 +196,7 @@ public class InitialPlacementControllerTest {
     @Test
     void testPlaceInitialArmies_Success() throws Exception {
         doNothing().when(initialPlacementService).placeInitialArmies("TEST123", 1L, placementDto.getArmiesByCountry());
-        when(gameService.findByGameCode("TEST123")).thenReturn(gameTest);
-        when(gameMapper.toResponseDto(gameTest)).thenReturn(gameResponseDto);
+        when(gameService.getGameByCode("TEST123")).thenReturn(gameResponseDto);
 
         mockMvc.perform(post("/api/games/TEST123/initial-placement/place-armies")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -3,6 +3,7 @@ package ar.edu.utn.frc.tup.piii.controllers;
 import ar.edu.utn.frc.tup.piii.dtos.game.GameResponseDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.ReinforcementRequestDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.ReinforcementStatusDto;
+import ar.edu.utn.frc.tup.piii.engine.GameCommandExecutor;
 import ar.edu.utn.frc.tup.piii.exceptions.GameNotFoundException;
 import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
 import ar.edu.utn.frc.tup.piii.exceptions.PlayerNotFoundException;
@@ -19,8 +20,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -49,6 +52,9 @@ class ReinforcementControllerTest {
     @Mock
     private GameMapper gameMapper;
 
+    @Spy
+    private GameCommandExecutor gameCommandExecutor = new GameCommandExecutor();
+
     @InjectMocks
     private ReinforcementController reinforcementController;
 
@@ -58,6 +64,8 @@ class ReinforcementControllerTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(gameCommandExecutor, "maxQueueDepth", 16);
+        ReflectionTestUtils.setField(gameCommandExecutor, "timeoutMs", 10000L);
         mockMvc = MockMvcBuilders.standaloneSetup(reinforcementController).build();
         objectMapper = new ObjectMapper();
     }
@@ -90,8 +98,7 @@ class ReinforcementControllerTest {
 
         doNothing().when(reinforcementService).placeReinforcementArmies(
                 eq(GAME_CODE), eq(PLAYER_ID), eq(armiesByCountry));
-        when(gameService.findByGameCode(GAME_CODE)).thenReturn(game);
-        when(gameMapper.toResponseDto(game)).thenReturn(responseDto);
+        when(gameService.getGameByCode(GAME_CODE)).thenReturn(responseDto);
 
         // Act & Assert
         mockMvc.perform(post(BASE_URL + "/place-armies", GAME_CODE)
@@ -104,8 +111,8 @@ class ReinforcementControllerTest {
                 .andExpect(jsonPath("$.currentPhase").value("ATTACK"));
 
         verify(reinforcementService).placeReinforcementArmies(GAME_CODE, PLAYER_ID, armiesByCountry);
-        verify(gameService).findByGameCode(GAME_CODE);
-        verify(gameMapper).toResponseDto(game);
+        verify(gameService).getGameByCode(GAME_CODE);
+        verify(gameService, never()).findByGameCode(GAME_CODE);
     }
 
     @Test
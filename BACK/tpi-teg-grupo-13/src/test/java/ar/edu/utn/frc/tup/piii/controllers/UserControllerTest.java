@@ -1,9 +1,12 @@
 package ar.edu.utn.frc.tup.piii.controllers;
 
 import ar.edu.utn.frc.tup.piii.dtos.user.PasswordChangeDto;
+import ar.edu.utn.frc.tup.piii.dtos.user.UserStatsDto;
 import ar.edu.utn.frc.tup.piii.dtos.user.UserUpdateDto;
+import ar.edu.utn.frc.tup.piii.engine.GameEventWriter;
 import ar.edu.utn.frc.tup.piii.exceptions.UserNotFoundException;
 import ar.edu.utn.frc.tup.piii.model.User;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStatisticsService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +24,7 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +38,12 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private GameStatisticsService gameStatisticsService;
+
+    @MockBean
+    private GameEventWriter gameEventWriter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -148,4 +158,20 @@ class UserControllerTest {
                         .content(objectMapper.writeValueAsString(passwordDto)))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getUserStats_Success() throws Exception {
+        when(gameStatisticsService.getUserStats(1L)).thenReturn(UserStatsDto.builder()
+                .userId(1L)
+                .gamesPlayed(4)
+                .gamesWon(1)
+                .winRate(0.25)
+                .build());
+
+        mockMvc.perform(get("/api/user/1/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.gamesPlayed").value(4))
+                .andExpect(jsonPath("$.winRate").value(0.25));
+        verify(gameEventWriter).flush();
+    }
+}
@@ -0,0 +1,202 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.dtos.game.GameResponseDto;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.Player;
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.GameStreamEventType;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
+import ar.edu.utn.frc.tup.piii.service.interfaces.BotService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStreamService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BotTurnSchedulerTest {
+
+    private BotService botService;
+    private GameService gameService;
+    private GameRepository gameRepository;
+    private GameStreamService gameStreamService;
+    private SimpleMeterRegistry meterRegistry;
+    private BotTurnScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        botService = mock(BotService.class);
+        gameService = mock(GameService.class);
+        gameRepository = mock(GameRepository.class);
+        gameStreamService = mock(GameStreamService.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        GameCommandExecutor commandExecutor = new GameCommandExecutor();
+        ReflectionTestUtils.setField(commandExecutor, "maxQueueDepth", 16);
+        ReflectionTestUtils.setField(commandExecutor, "timeoutMs", 5000L);
+
+        scheduler = new BotTurnScheduler();
+        ReflectionTestUtils.setField(scheduler, "botService", botService);
+        ReflectionTestUtils.setField(scheduler, "gameService", gameService);
+        ReflectionTestUtils.setField(scheduler, "gameRepository", gameRepository);
+        ReflectionTestUtils.setField(scheduler, "gameCommandExecutor", commandExecutor);
+        ReflectionTestUtils.setField(scheduler, "gameStreamService", gameStreamService);
+        ReflectionTestUtils.setField(scheduler, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "enabled", true);
+        ReflectionTestUtils.setField(scheduler, "threads", 1);
+        ReflectionTestUtils.setField(scheduler, "queueCapacity", 1);
+        ReflectionTestUtils.setField(scheduler, "pollIntervalMs", 0L);
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    void onTurnAdvanced_WhenBotTurn_ShouldPlayTurnAndPublishResult() throws InterruptedException {
+        givenCurrentPlayer("ABC", 10L, true);
+        GameResponseDto response = new GameResponseDto();
+        when(botService.executeBotTurnComplete("ABC", 10L)).thenReturn(response);
+
+        scheduler.onTurnAdvanced(new TurnAdvancedEvent(1L, "ABC", 10L, true));
+
+        verify(gameStreamService, timeout(2000))
+                .publish(1L, GameStreamEventType.BOT_TURN_COMPLETED, 10L, response);
+        // El tiempo se registra después de publicar, en el hilo del worker
+        long deadline = System.currentTimeMillis() + 2000;
+        while (meterRegistry.find("game.bots.turn.duration").tag("outcome", "ok").timer() == null
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.get("game.bots.turn.duration").tag("outcome", "ok").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void onTurnAdvanced_WhenHumanTurn_ShouldNotSchedule() {
+        scheduler.onTurnAdvanced(new TurnAdvancedEvent(1L, "ABC", 10L, false));
+
+        verify(gameService, never()).findByGameCode(anyString());
+    }
+
+    @Test
+    void playCurrentBotTurn_WhenCurrentPlayerIsHuman_ShouldSkip() {
+        givenCurrentPlayer("ABC", 10L, false);
+
+        assertThat(scheduler.playCurrentBotTurn("ABC")).isFalse();
+
+        verify(botService, never()).executeBotTurnComplete(anyString(), anyLong());
+    }
+
+    @Test
+    void playCurrentBotTurn_WhenGameFinished_ShouldSkip() {
+        Game game = givenCurrentPlayer("ABC", 10L, true);
+        game.setState(GameState.FINISHED);
+
+        assertThat(scheduler.playCurrentBotTurn("ABC")).isFalse();
+
+        verify(botService, never()).executeBotTurnComplete(anyString(), anyLong());
+    }
+
+    @Test
+    void schedule_WhileTurnInProgress_ShouldRunOnceMoreAfterwards() throws Exception {
+        givenCurrentPlayer("ABC", 10L, true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger turns = new AtomicInteger();
+        when(botService.executeBotTurnComplete("ABC", 10L)).thenAnswer(invocation -> {
+            turns.incrementAndGet();
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new GameResponseDto();
+        });
+
+        assertThat(scheduler.schedule("ABC")).isTrue();
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        // Varios avisos durante el turno se juntan en una sola pasada más
+        assertThat(scheduler.schedule("ABC")).isFalse();
+        assertThat(scheduler.schedule("ABC")).isFalse();
+        release.countDown();
+
+        verify(botService, timeout(2000).times(2)).executeBotTurnComplete("ABC", 10L);
+        Thread.sleep(100);
+        assertThat(turns.get()).isEqualTo(2);
+    }
+
+    @Test
+    void schedule_WhenQueueIsFull_ShouldRejectAndCount() throws Exception {
+        givenCurrentPlayer("A", 1L, true);
+        givenCurrentPlayer("B", 2L, true);
+        givenCurrentPlayer("C", 3L, true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(botService.executeBotTurnComplete(eq("A"), anyLong())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new GameResponseDto();
+        });
+
+        assertThat(scheduler.schedule("A")).isTrue();
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(scheduler.schedule("B")).isTrue();
+        assertThat(scheduler.queueDepth()).isEqualTo(1);
+        assertThat(scheduler.schedule("C")).isFalse();
+        release.countDown();
+
+        assertThat(meterRegistry.get("game.bots.turns.rejected").counter().count()).isEqualTo(1.0);
+        verify(botService, timeout(2000)).executeBotTurnComplete("B", 2L);
+        // La partida rechazada no queda marcada: el próximo aviso o barrido la encola
+        assertThat(scheduler.schedule("C")).isTrue();
+        verify(botService, timeout(2000)).executeBotTurnComplete("C", 3L);
+    }
+
+    @Test
+    void poll_ShouldScheduleGamesInProgressWithBots() {
+        givenCurrentPlayer("ABC", 10L, true);
+        when(gameRepository.findGameCodesWithBotsByStatusIn(BotTurnScheduler.PLAYING_STATES)).thenReturn(List.of("ABC"));
+        when(botService.executeBotTurnComplete("ABC", 10L)).thenReturn(new GameResponseDto());
+
+        scheduler.poll();
+
+        verify(botService, timeout(2000)).executeBotTurnComplete("ABC", 10L);
+    }
+
+    @Test
+    void schedule_WhenDisabled_ShouldDoNothing() {
+        ReflectionTestUtils.setField(scheduler, "enabled", false);
+
+        assertThat(scheduler.schedule("ABC")).isFalse();
+
+        verify(gameService, never()).findByGameCode(any());
+    }
+
+    private Game givenCurrentPlayer(String gameCode, Long playerId, boolean bot) {
+        Game game = Game.builder()
+                .id(1L)
+                .gameCode(gameCode)
+                .state(GameState.NORMAL_PLAY)
+                .currentPlayerIndex(0)
+                .players(List.of(Player.builder().id(playerId).seatOrder(0).isBot(bot).build()))
+                .build();
+        when(gameService.findByGameCode(gameCode)).thenReturn(game);
+        return game;
+    }
+}
@@ -0,0 +1,188 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.dtos.chat.ChatMessageResponseDto;
+import ar.edu.utn.frc.tup.piii.repository.ChatMessageRepository;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
+import ar.edu.utn.frc.tup.piii.repository.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatBufferTest {
+
+    private static final String GAME_CODE = "GAME123";
+    private static final Long GAME_ID = 10L;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatMessageWriter chatMessageWriter;
+
+    @Mock
+    private ChatMessageIdAllocator chatMessageIdAllocator;
+
+    private ChatBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ChatBuffer();
+        ReflectionTestUtils.setField(buffer, "gameRepository", gameRepository);
+        ReflectionTestUtils.setField(buffer, "playerRepository", playerRepository);
+        ReflectionTestUtils.setField(buffer, "chatMessageRepository", chatMessageRepository);
+        ReflectionTestUtils.setField(buffer, "chatMessageWriter", chatMessageWriter);
+        ReflectionTestUtils.setField(buffer, "chatMessageIdAllocator", chatMessageIdAllocator);
+        ReflectionTestUtils.setField(buffer, "historyLimit", 3);
+
+        lenient().when(gameRepository.findIdByGameCode(GAME_CODE)).thenReturn(Optional.of(GAME_ID));
+        lenient().when(playerRepository.findChatNamesByGameId(GAME_ID)).thenReturn(rows(
+                new Object[]{1L, "ana", null},
+                new Object[]{2L, null, "Bot Sargento"}));
+        AtomicLong ids = new AtomicLong(40L);
+        lenient().when(chatMessageIdAllocator.nextId()).thenAnswer(invocation -> ids.incrementAndGet());
+    }
+
+    @Test
+    void append_ShouldAssignIncreasingIdsAndQueueMessage() {
+        givenHistory();
+
+        ChatMessageResponseDto first = buffer.append(GAME_CODE, 1L, "hola");
+        ChatMessageResponseDto second = buffer.append(GAME_CODE, 2L, "ataco");
+
+        assertThat(first.getId()).isEqualTo(41L);
+        assertThat(first.getSenderName()).isEqualTo("ana");
+        assertThat(second.getId()).isEqualTo(42L);
+        assertThat(second.getSenderName()).isEqualTo("Bot Sargento");
+        ArgumentCaptor<ChatMessageWriter.PendingMessage> queued = ArgumentCaptor.forClass(ChatMessageWriter.PendingMessage.class);
+        verify(chatMessageWriter, times(2)).append(queued.capture());
+        assertThat(queued.getAllValues()).extracting(ChatMessageWriter.PendingMessage::id).containsExactly(41L, 42L);
+        assertThat(queued.getAllValues()).extracting(ChatMessageWriter.PendingMessage::gameId).containsOnly(GAME_ID);
+    }
+
+    @Test
+    void since_ShouldServeLoadedHistoryAndNewMessagesFromMemory() {
+        givenHistory(row(5L, 1L, "viejo", false));
+        buffer.append(GAME_CODE, 2L, "nuevo");
+
+        assertThat(buffer.since(GAME_CODE, null)).get().asList()
+                .extracting("id").containsExactly(5L, 41L);
+        assertThat(buffer.since(GAME_CODE, 5L)).get().asList()
+                .extracting("content").containsExactly("nuevo");
+        assertThat(buffer.since(GAME_CODE, 41L)).get().asList().isEmpty();
+        // La sala se arma una sola vez
+        verify(chatMessageRepository, times(1)).findRecentRowsByGameId(eq(GAME_ID), any(Pageable.class));
+    }
+
+    @Test
+    void since_ShouldNameSystemMessagesAsSistema() {
+        givenHistory(row(5L, 1L, "Empieza la partida", true));
+
+        assertThat(buffer.since(GAME_CODE, null)).get().asList()
+                .extracting("senderName").containsExactly(ChatBuffer.SYSTEM_SENDER);
+    }
+
+    @Test
+    void since_ShouldFallBackWhenOlderMessagesWereOverwritten() {
+        givenHistory();
+        for (int i = 0; i < 4; i++) {
+            buffer.append(GAME_CODE, 1L, "mensaje " + i);
+        }
+
+        // Quedan 42, 43 y 44: el 41 se pisó
+        assertThat(buffer.since(GAME_CODE, null)).isEmpty();
+        assertThat(buffer.since(GAME_CODE, 40L)).isEmpty();
+        assertThat(buffer.since(GAME_CODE, 42L)).get().asList()
+                .extracting("id").containsExactly(43L, 44L);
+    }
+
+    @Test
+    void since_ShouldFallBackWhenHistoryDoesNotFit() {
+        givenHistory(row(7L, 1L, "c", false), row(6L, 1L, "b", false), row(5L, 1L, "a", false));
+
+        assertThat(buffer.since(GAME_CODE, null)).isEmpty();
+        assertThat(buffer.since(GAME_CODE, 5L)).get().asList()
+                .extracting("id").containsExactly(6L, 7L);
+    }
+
+    @Test
+    void append_ShouldReloadNamesForPlayersThatJoinedLater() {
+        givenHistory();
+        when(playerRepository.findChatNamesByGameId(GAME_ID))
+                .thenReturn(rows(new Object[]{1L, "ana", null}))
+                .thenReturn(rows(new Object[]{1L, "ana", null}, new Object[]{3L, "beto", null}));
+
+        ChatMessageResponseDto message = buffer.append(GAME_CODE, 3L, "llegué");
+
+        assertThat(message.getSenderName()).isEqualTo("beto");
+    }
+
+    @Test
+    void append_ShouldRejectUnknownSender() {
+        givenHistory();
+
+        assertThatThrownBy(() -> buffer.append(GAME_CODE, 99L, "hola"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Sender not found with id: 99");
+        verify(chatMessageWriter, never()).append(any());
+    }
+
+    @Test
+    void append_ShouldRejectUnknownGame() {
+        when(gameRepository.findIdByGameCode("NOPE")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> buffer.append("NOPE", 1L, "hola"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Game not found with code: NOPE");
+    }
+
+    @Test
+    void evict_ShouldFlushAndDropRoom() {
+        givenHistory();
+        buffer.append(GAME_CODE, 1L, "hola");
+
+        buffer.evict(GAME_ID);
+
+        assertThat(buffer.cachedRooms()).isZero();
+        verify(chatMessageWriter, times(2)).flush();
+    }
+
+    private void givenHistory(Object[]... newestFirst) {
+        when(chatMessageRepository.findRecentRowsByGameId(eq(GAME_ID), any(Pageable.class))).thenReturn(rows(newestFirst));
+    }
+
+    private static Object[] row(Long id, Long senderId, String content, boolean systemMessage) {
+        return new Object[]{id, senderId, content, LocalDateTime.now(), systemMessage};
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,60 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageIdAllocatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatMessageIdAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        allocator = new ChatMessageIdAllocator();
+        ReflectionTestUtils.setField(allocator, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(allocator, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(allocator, "blockSize", 3);
+        allocator.start();
+    }
+
+    @Test
+    void nextId_ShouldStartAfterExistingMessagesAndReserveBlocks() {
+        // Sin contador todavía: se crea después del mayor id de chat_messages
+        when(jdbcTemplate.update(ChatMessageIdAllocator.RESERVE_SQL, 3, ChatMessageIdAllocator.CHAT_MESSAGES))
+                .thenReturn(0, 1);
+        when(jdbcTemplate.queryForObject(ChatMessageIdAllocator.MAX_ID_SQL, Long.class)).thenReturn(40L);
+        when(jdbcTemplate.queryForObject(ChatMessageIdAllocator.SELECT_SQL, Long.class,
+                ChatMessageIdAllocator.CHAT_MESSAGES)).thenReturn(44L, 47L);
+
+        List<Long> ids = LongStream.range(0, 5).map(i -> allocator.nextId()).boxed().toList();
+
+        assertThat(ids).containsExactly(41L, 42L, 43L, 44L, 45L);
+        verify(jdbcTemplate).update(ChatMessageIdAllocator.INSERT_SQL, ChatMessageIdAllocator.CHAT_MESSAGES, 44L);
+        verify(jdbcTemplate, times(2)).update(ChatMessageIdAllocator.RESERVE_SQL, 3,
+                ChatMessageIdAllocator.CHAT_MESSAGES);
+    }
+}
@@ -0,0 +1,142 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatMessageWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        writer = new ChatMessageWriter();
+        ReflectionTestUtils.setField(writer, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(writer, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(writer, "bufferCapacity", 4);
+        ReflectionTestUtils.setField(writer, "batchSize", 2);
+        // El hilo de fondo solo escribe al juntar un lote; lo demás sale de flush()
+        ReflectionTestUtils.setField(writer, "flushIntervalMs", 60_000L);
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+    }
+
+    @Test
+    void flush_ShouldWritePendingMessagesInBatchesInOrder() {
+        List<List<ChatMessageWriter.PendingMessage>> batches = captureBatches();
+        writer.append(message(1L));
+        writer.append(message(2L));
+        writer.append(message(3L));
+
+        writer.flush();
+
+        assertThat(writer.pendingMessages()).isZero();
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+        assertThat(written(batches)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void append_ShouldNotLoseMessagesWhenBufferIsFull() {
+        List<List<ChatMessageWriter.PendingMessage>> batches = captureBatches();
+        for (long id = 1; id <= 7; id++) {
+            writer.append(message(id));
+        }
+
+        writer.flush();
+
+        assertThat(written(batches)).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void flush_ShouldWriteOneByOneWhenBatchFails() {
+        when(jdbcTemplate.batchUpdate(eq(ChatMessageWriter.INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate id"));
+        writer.append(message(1L));
+
+        writer.flush();
+
+        assertThat(writer.pendingMessages()).isZero();
+        verify(jdbcTemplate, times(1)).update(eq(ChatMessageWriter.INSERT_SQL), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    void flush_ShouldKeepMessageForNextFlushWhenWriteFailsTemporarily() {
+        when(jdbcTemplate.batchUpdate(eq(ChatMessageWriter.INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new TransientDataAccessResourceException("connection lost"));
+        when(jdbcTemplate.update(eq(ChatMessageWriter.INSERT_SQL), any(PreparedStatementSetter.class)))
+                .thenThrow(new TransientDataAccessResourceException("connection lost"))
+                .thenReturn(1);
+        writer.append(message(1L));
+
+        writer.flush();
+        assertThat(writer.pendingMessages()).isEqualTo(1);
+
+        writer.flush();
+        assertThat(writer.pendingMessages()).isZero();
+        verify(jdbcTemplate, times(2)).update(eq(ChatMessageWriter.INSERT_SQL), any(PreparedStatementSetter.class));
+    }
+
+    private List<List<ChatMessageWriter.PendingMessage>> captureBatches() {
+        List<List<ChatMessageWriter.PendingMessage>> batches = Collections.synchronizedList(new ArrayList<>());
+        lenient().when(jdbcTemplate.batchUpdate(eq(ChatMessageWriter.INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            batches.add(new ArrayList<>(invocation.<Collection<ChatMessageWriter.PendingMessage>>getArgument(1)));
+            return new int[0][];
+        });
+        return batches;
+    }
+
+    private List<Long> written(List<List<ChatMessageWriter.PendingMessage>> batches) {
+        synchronized (batches) {
+            return batches.stream()
+                    .flatMap(List::stream)
+                    .map(ChatMessageWriter.PendingMessage::id)
+                    .toList();
+        }
+    }
+
+    private ChatMessageWriter.PendingMessage message(Long id) {
+        return new ChatMessageWriter.PendingMessage(id, 10L, 1L, "hola " + id, LocalDateTime.now(), false);
+    }
+}
@@ -0,0 +1,104 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DiceOddsTest {
+
+    private final DiceOdds diceOdds = new DiceOdds();
+
+    @Test
+    void rollProbability_ShouldMatchKnownSingleRollOdds() {
+        // 1 contra 1: el atacante gana con 15 de 36 (el empate es del defensor)
+        assertThat(diceOdds.rollProbability(1, 1, 0)).isCloseTo(15.0 / 36, within(1e-12));
+        // 2 contra 1: 125 de 216
+        assertThat(diceOdds.rollProbability(2, 1, 0)).isCloseTo(125.0 / 216, within(1e-12));
+        // 3 contra 2: el defensor pierde 2, cada uno 1, o el atacante pierde 2
+        assertThat(diceOdds.rollProbability(3, 2, 0)).isCloseTo(2890.0 / 7776, within(1e-12));
+        assertThat(diceOdds.rollProbability(3, 2, 1)).isCloseTo(2611.0 / 7776, within(1e-12));
+        assertThat(diceOdds.rollProbability(3, 2, 2)).isCloseTo(2275.0 / 7776, within(1e-12));
+    }
+
+    @Test
+    void rollProbability_ShouldSumToOneForEveryDiceCombination() {
+        for (int attackerDice = 1; attackerDice <= DiceOdds.MAX_DICE; attackerDice++) {
+            for (int defenderDice = 1; defenderDice <= DiceOdds.MAX_DICE; defenderDice++) {
+                double total = 0;
+                for (int losses = 0; losses <= Math.min(attackerDice, defenderDice); losses++) {
+                    total += diceOdds.rollProbability(attackerDice, defenderDice, losses);
+                }
+                assertThat(total).isCloseTo(1.0, within(1e-12));
+            }
+        }
+    }
+
+    @Test
+    void rollProbability_ShouldAgreeWithSimulatedThreeAgainstThree() {
+        Random random = new Random(42);
+        int rolls = 200_000;
+        int[] lossCounts = new int[4];
+        int[] attacker = new int[3];
+        int[] defender = new int[3];
+        for (int r = 0; r < rolls; r++) {
+            for (int i = 0; i < 3; i++) {
+                attacker[i] = random.nextInt(6) + 1;
+                defender[i] = random.nextInt(6) + 1;
+            }
+            DiceOdds.sortDescending(attacker);
+            DiceOdds.sortDescending(defender);
+            int losses = 0;
+            for (int i = 0; i < 3; i++) {
+                if (attacker[i] <= defender[i]) {
+                    losses++;
+                }
+            }
+            lossCounts[losses]++;
+        }
+
+        for (int losses = 0; losses <= 3; losses++) {
+            assertThat((double) lossCounts[losses] / rolls)
+                    .isCloseTo(diceOdds.rollProbability(3, 3, losses), within(0.005));
+        }
+    }
+
+    @Test
+    void winProbability_ShouldFollowBattleRecurrence() {
+        assertThat(diceOdds.winProbability(1, 1)).isZero();
+        assertThat(diceOdds.winProbability(2, 1)).isCloseTo(15.0 / 36, within(1e-12));
+        // 3 contra 1: gana con 2 dados, o pierde uno y sigue como 2 contra 1
+        assertThat(diceOdds.winProbability(3, 1))
+                .isCloseTo(125.0 / 216 + (91.0 / 216) * (15.0 / 36), within(1e-12));
+        assertThat(diceOdds.winProbability(5, 0)).isEqualTo(1.0);
+    }
+
+    @Test
+    void winProbability_ShouldGrowWithAttackerArmies() {
+        double previous = 0;
+        for (int attacker = 2; attacker <= 40; attacker++) {
+            double probability = diceOdds.winProbability(attacker, 10);
+            assertThat(probability).isGreaterThanOrEqualTo(previous);
+            previous = probability;
+        }
+        assertThat(diceOdds.winProbability(40, 10)).isGreaterThan(0.98);
+    }
+
+    @Test
+    void expectedSurvivors_ShouldStayBetweenOneAndAttackerArmies() {
+        assertThat(diceOdds.expectedSurvivors(2, 1)).isCloseTo(1 + 15.0 / 36, within(1e-12));
+        assertThat(diceOdds.expectedSurvivors(30, 5)).isBetween(1.0, 30.0);
+        assertThat(diceOdds.expectedSurvivors(300, 300)).isBetween(1.0, 300.0);
+    }
+
+    @Test
+    void sortDescending_ShouldOrderDice() {
+        int[] dice = {2, 6, 4};
+
+        DiceOdds.sortDescending(dice);
+
+        assertThat(dice).containsExactly(6, 4, 2);
+    }
+}
@@ -0,0 +1,141 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.exceptions.GameBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameCommandExecutorTest {
+
+    private GameCommandExecutor executor;
+    private ExecutorService threads;
+
+    @BeforeEach
+    void setUp() {
+        executor = new GameCommandExecutor();
+        ReflectionTestUtils.setField(executor, "maxQueueDepth", 2);
+        ReflectionTestUtils.setField(executor, "timeoutMs", 5000L);
+        threads = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void execute_ShouldReturnResultAndReleaseQueue() {
+        assertThat(executor.execute("ABC", () -> 42)).isEqualTo(42);
+        assertThat(executor.pendingCommands("ABC")).isZero();
+    }
+
+    @Test
+    void execute_ShouldRunCommandsOfSameGameOneAtATime() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+        Future<?> first = threads.submit(() -> executor.run("ABC", () -> {
+            firstStarted.countDown();
+            await(releaseFirst);
+            order.add("first");
+        }));
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<?> second = threads.submit(() -> executor.run("ABC", () -> order.add("second")));
+        waitUntilPending("ABC", 2);
+        assertThat(order).isEmpty();
+
+        releaseFirst.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(order).containsExactly("first", "second");
+        assertThat(executor.pendingCommands("ABC")).isZero();
+    }
+
+    @Test
+    void execute_ShouldNotBlockOtherGames() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> blocked = threads.submit(() -> executor.run("ABC", () -> {
+            started.countDown();
+            await(release);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<String> other = threads.submit(() -> executor.execute("XYZ", () -> "done"));
+        assertThat(other.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+
+        release.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void execute_ShouldRejectWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> running = threads.submit(() -> executor.run("ABC", () -> {
+            started.countDown();
+            await(release);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<?> waiting = threads.submit(() -> executor.run("ABC", () -> { }));
+        waitUntilPending("ABC", 2);
+
+        assertThatThrownBy(() -> executor.execute("ABC", () -> "rejected"))
+                .isInstanceOf(GameBusyException.class);
+        assertThat(executor.pendingCommands("ABC")).isEqualTo(2);
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        waiting.get(5, TimeUnit.SECONDS);
+        assertThat(executor.pendingCommands("ABC")).isZero();
+    }
+
+    @Test
+    void execute_ShouldRunNestedCommandOfSameGameDirectly() {
+        String result = executor.execute("ABC", () -> executor.execute("ABC", () -> "nested"));
+
+        assertThat(result).isEqualTo("nested");
+        assertThat(executor.pendingCommands("ABC")).isZero();
+    }
+
+    @Test
+    void execute_ShouldReleaseQueueWhenCommandFails() {
+        assertThatThrownBy(() -> executor.run("ABC", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(executor.pendingCommands("ABC")).isZero();
+        assertThat(executor.execute("ABC", () -> "next")).isEqualTo("next");
+    }
+
+    private void waitUntilPending(String gameCode, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (executor.pendingCommands(gameCode) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(executor.pendingCommands(gameCode)).isEqualTo(expected);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.entities.GameLogEntity;
+import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
+import ar.edu.utn.frc.tup.piii.repository.GameLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameEventStoreTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private GameLogRepository gameLogRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<List<GameEventStore.LogRow>> batches = new ArrayList<>();
+    private GameEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new GameEventStore();
+        ReflectionTestUtils.setField(store, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(store, "gameLogRepository", gameLogRepository);
+        ReflectionTestUtils.setField(store, "objectMapper", objectMapper);
+        lenient().when(jdbcTemplate.batchUpdate(eq(GameEventStore.INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            batches.add(new ArrayList<>(invocation.<Collection<GameEventStore.LogRow>>getArgument(1)));
+            return new int[0][];
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(store);
+    }
+
+    @Test
+    void append_ShouldContinueSequenceFromLastStoredChange() {
+        when(gameLogRepository.findMaxSequenceByGameId(1L)).thenReturn(Optional.of(7L));
+
+        long first = store.append(1L, new GameChange.ReinforcementsGranted(10L, 3));
+        long second = store.append(1L, new GameChange.PlayerEliminated(20L));
+
+        assertThat(first).isEqualTo(8);
+        assertThat(second).isEqualTo(9);
+        assertThat(store.currentSequence(1L)).isEqualTo(9);
+        assertThat(batches).hasSize(2);
+    }
+
+    @Test
+    void append_ShouldWriteTransactionChangesInOneBatchBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        store.append(1L, new GameChange.ArmiesMoved(10L, 1L, 2L, 2));
+        store.append(1L, new GameChange.ArmiesMoved(10L, 2L, 3L, 1));
+        assertThat(batches).isEmpty();
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).extracting(GameEventStore.LogRow::sequence).containsExactly(1L, 2L);
+        assertThat(TransactionSynchronizationManager.getResource(store)).isNull();
+    }
+
+    @Test
+    void append_ShouldTagChangesWithTurnOfLastTurnChange() {
+        store.append(1L, new GameChange.TurnChanged(GameState.NORMAL_PLAY, TurnPhase.ATTACK, 5, 2));
+        store.append(1L, new GameChange.AttackResolved(10L, 1L, 2L, List.of(6, 4), List.of(3), 0, 1, false, 0));
+
+        assertThat(batches).flatExtracting(batch -> batch)
+                .extracting(row -> ((GameEventStore.LogRow) row).turnNumber())
+                .containsExactly(5, 5);
+    }
+
+    @Test
+    void read_ShouldDecodeStoredChangesInOrder() throws Exception {
+        GameChange placed = new GameChange.ArmiesPlaced(10L, Map.of(1L, 2, 4L, 1), true);
+        GameChange attack = new GameChange.AttackResolved(10L, 1L, 2L, List.of(6, 5, 1), List.of(5, 2), 1, 1, false, 0);
+        when(gameLogRepository.findRange(1L, 3L, 5L)).thenReturn(List.of(entry(4L, placed), entry(5L, attack)));
+
+        List<GameEventStore.RecordedChange> changes = store.read(1L, 3L, 5L);
+
+        assertThat(changes).extracting(GameEventStore.RecordedChange::sequence).containsExactly(4L, 5L);
+        assertThat(changes).extracting(GameEventStore.RecordedChange::change).containsExactly(placed, attack);
+    }
+
+    @Test
+    void decode_ShouldRejectNewerSchemaVersion() {
+        assertThatThrownBy(() -> store.decode(GameChange.Type.ARMIES_MOVED, GameChange.Type.ARMIES_MOVED.version() + 1, "{}"))
+                .isInstanceOf(InvalidGameStateException.class);
+    }
+
+    private GameLogEntity entry(long sequence, GameChange change) throws Exception {
+        return new GameLogEntity(sequence, null, sequence, 1, change.type(), change.type().version(),
+                objectMapper.writeValueAsString(change), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,230 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.model.enums.EventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GameEventWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private GameStatsProjection gameStatsProjection;
+
+    private GameEventWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        writer = new GameEventWriter();
+        ReflectionTestUtils.setField(writer, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(writer, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(writer, "gameStatsProjection", gameStatsProjection);
+        ReflectionTestUtils.setField(writer, "bufferCapacity", 4);
+        ReflectionTestUtils.setField(writer, "batchSize", 2);
+        // El hilo de fondo solo escribe al juntar un lote; lo demás sale de flush()
+        ReflectionTestUtils.setField(writer, "flushIntervalMs", 60_000L);
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        writer.stop();
+    }
+
+    @Test
+    void flush_ShouldWritePendingEventsInBatchesInOrder() {
+        List<List<GameEventWriter.PendingEvent>> batches = captureBatches();
+        writer.append(event(EventType.TURN_STARTED));
+        writer.append(event(EventType.ATTACK_PERFORMED));
+        writer.append(event(EventType.TERRITORY_CONQUERED));
+
+        writer.flush();
+
+        assertThat(writer.pendingEvents()).isZero();
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+        assertThat(written(batches)).containsExactly(EventType.TURN_STARTED, EventType.ATTACK_PERFORMED,
+                EventType.TERRITORY_CONQUERED);
+    }
+
+    @Test
+    void flush_ShouldApplyEachWrittenBatchToStatistics() {
+        List<List<GameEventWriter.PendingEvent>> batches = captureBatches();
+        List<List<GameEventWriter.PendingEvent>> applied = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> applied.add(new ArrayList<>(invocation.<List<GameEventWriter.PendingEvent>>getArgument(0))))
+                .when(gameStatsProjection).apply(anyList());
+        writer.append(event(EventType.ATTACK_PERFORMED));
+        writer.append(event(EventType.TERRITORY_CONQUERED));
+
+        writer.flush();
+
+        assertThat(applied).isEqualTo(batches);
+    }
+
+    @Test
+    void append_ShouldWaitForCommitInsideTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.append(event(EventType.ATTACK_PERFORMED));
+        assertThat(writer.pendingEvents()).isZero();
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        assertThat(writer.pendingEvents()).isEqualTo(1);
+    }
+
+    @Test
+    void append_ShouldDiscardEventWhenTransactionRollsBack() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.append(event(EventType.ATTACK_PERFORMED));
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        writer.flush();
+
+        assertThat(writer.pendingEvents()).isZero();
+        verify(jdbcTemplate, never()).batchUpdate(eq(GameEventWriter.INSERT_SQL), anyCollection(), anyInt(), any());
+        verify(gameStatsProjection, never()).apply(any());
+    }
+
+    @Test
+    void appendAndFlush_ShouldWriteEverythingPendingBeforeReturning() {
+        List<List<GameEventWriter.PendingEvent>> batches = captureBatches();
+        writer.append(event(EventType.TURN_STARTED));
+
+        writer.appendAndFlush(event(EventType.TURN_ENDED));
+
+        assertThat(writer.pendingEvents()).isZero();
+        assertThat(written(batches)).containsExactly(EventType.TURN_STARTED, EventType.TURN_ENDED);
+    }
+
+    @Test
+    void writeNow_ShouldOnlyInsertTheEventInsideTransaction() {
+        writer.append(event(EventType.ATTACK_PERFORMED));
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.writeNow(event(EventType.TERRITORY_CONQUERED));
+
+        // Ni escribe lo encolado ni toca los contadores en la transacción del juego
+        verify(jdbcTemplate).update(eq(GameEventWriter.INSERT_SQL), any(PreparedStatementSetter.class));
+        verify(jdbcTemplate, never()).batchUpdate(eq(GameEventWriter.INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(gameStatsProjection, never()).apply(any());
+        assertThat(writer.pendingEvents()).isEqualTo(1);
+    }
+
+    @Test
+    void writeNow_ShouldApplyStatisticsInNextBatchAfterCommit() {
+        List<List<GameEventWriter.PendingEvent>> batches = captureBatches();
+        List<List<GameEventWriter.PendingEvent>> applied = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> applied.add(new ArrayList<>(invocation.<List<GameEventWriter.PendingEvent>>getArgument(0))))
+                .when(gameStatsProjection).apply(anyList());
+        writer.append(event(EventType.ATTACK_PERFORMED));
+        GameEventWriter.PendingEvent conquest = event(EventType.TERRITORY_CONQUERED);
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.writeNow(conquest);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        writer.flush();
+
+        // La fila de la conquista no se vuelve a insertar, pero sí cuenta en las estadísticas
+        assertThat(written(batches)).containsExactly(EventType.ATTACK_PERFORMED);
+        assertThat(applied).flatExtracting(batch -> batch).extracting(GameEventWriter.PendingEvent::type)
+                .containsExactly(EventType.ATTACK_PERFORMED, EventType.TERRITORY_CONQUERED);
+        assertThat(writer.pendingEvents()).isZero();
+    }
+
+    @Test
+    void writeNow_ShouldDropStatisticsWhenTransactionRollsBack() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.writeNow(event(EventType.TERRITORY_CONQUERED));
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        writer.flush();
+
+        assertThat(writer.pendingEvents()).isZero();
+        verify(gameStatsProjection, never()).apply(any());
+    }
+
+    @Test
+    void append_ShouldNotLoseEventsWhenBufferIsFull() {
+        List<List<GameEventWriter.PendingEvent>> batches = captureBatches();
+        List<EventType> appended = new ArrayList<>();
+        for (EventType type : List.of(EventType.TURN_STARTED, EventType.REINFORCEMENTS_PLACED,
+                EventType.ATTACK_PERFORMED, EventType.TERRITORY_CONQUERED, EventType.FORTIFICATION_PERFORMED,
+                EventType.TURN_ENDED)) {
+            writer.append(event(type));
+            appended.add(type);
+        }
+
+        writer.flush();
+
+        assertThat(written(batches)).containsExactlyElementsOf(appended);
+    }
+
+    private List<List<GameEventWriter.PendingEvent>> captureBatches() {
+        List<List<GameEventWriter.PendingEvent>> batches = Collections.synchronizedList(new ArrayList<>());
+        lenient().when(jdbcTemplate.batchUpdate(eq(GameEventWriter.INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            batches.add(new ArrayList<>(invocation.<Collection<GameEventWriter.PendingEvent>>getArgument(1)));
+            return new int[0][];
+        });
+        return batches;
+    }
+
+    private List<EventType> written(List<List<GameEventWriter.PendingEvent>> batches) {
+        synchronized (batches) {
+            return batches.stream()
+                    .flatMap(List::stream)
+                    .map(GameEventWriter.PendingEvent::type)
+                    .toList();
+        }
+    }
+
+    private GameEventWriter.PendingEvent event(EventType type) {
+        return new GameEventWriter.PendingEvent(1L, 10L, type, 3, null, LocalDateTime.now());
+    }
+}
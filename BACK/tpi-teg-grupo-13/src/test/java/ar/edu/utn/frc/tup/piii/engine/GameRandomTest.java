@@ -0,0 +1,186 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.entities.GameRandomDrawEntity;
+import ar.edu.utn.frc.tup.piii.repository.GameRandomDrawRepository;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameRandomTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private GameRandomDrawRepository gameRandomDrawRepository;
+
+    private GameRandom gameRandom;
+
+    @BeforeEach
+    void setUp() {
+        gameRandom = newGameRandom(0L);
+    }
+
+    @Test
+    void nextInt_WithSameSeed_ShouldRepeatSequence() {
+        gameRandom.seed(1L, 42L);
+        gameRandom.seed(2L, 42L);
+
+        assertThat(rolls(1L, GameRandom.Stream.DICE, 50)).isEqualTo(rolls(2L, GameRandom.Stream.DICE, 50));
+    }
+
+    @Test
+    void nextInt_ShouldKeepStreamsIndependent() {
+        gameRandom.seed(1L, 42L);
+        gameRandom.seed(2L, 42L);
+
+        // Un uso extra en otro stream no corre los dados
+        gameRandom.nextInt(1L, GameRandom.Stream.BOTS, 10);
+        gameRandom.shuffle(1L, GameRandom.Stream.CARDS, new ArrayList<>(List.of(1, 2, 3, 4)));
+
+        assertThat(rolls(1L, GameRandom.Stream.DICE, 50)).isEqualTo(rolls(2L, GameRandom.Stream.DICE, 50));
+    }
+
+    @Test
+    void nextInt_WhenNotSeeded_ShouldLoadRecordedSeedOnce() {
+        when(gameRepository.findRandomSeedById(7L)).thenReturn(Optional.of(42L));
+        gameRandom.seed(1L, 42L);
+
+        List<Integer> loaded = rolls(7L, GameRandom.Stream.DICE, 20);
+
+        assertThat(loaded).isEqualTo(rolls(1L, GameRandom.Stream.DICE, 20));
+        verify(gameRepository, times(1)).findRandomSeedById(7L);
+    }
+
+    @Test
+    void evict_ShouldContinueFromRecordedDraws() {
+        Map<GameRandom.Stream, GameRandomDrawEntity> saved = recordSavedDraws();
+        when(gameRepository.findRandomSeedById(1L)).thenReturn(Optional.of(42L));
+        gameRandom.seed(1L, 42L);
+        gameRandom.seed(2L, 42L);
+        rolls(1L, GameRandom.Stream.DICE, 20);
+        List<Integer> expected = rolls(2L, GameRandom.Stream.DICE, 40).subList(20, 40);
+
+        // Como después de reiniciar el servidor: la partida se vuelve a cargar desde la base
+        gameRandom.evict(1L);
+        when(gameRandomDrawRepository.findByGameId(1L)).thenReturn(new ArrayList<>(saved.values()));
+
+        assertThat(saved.get(GameRandom.Stream.DICE).getDraws()).isEqualTo(20L);
+        assertThat(rolls(1L, GameRandom.Stream.DICE, 20)).isEqualTo(expected);
+    }
+
+    @Test
+    void nextInt_InsideTransaction_ShouldSaveDrawsOnceBeforeCommit() {
+        gameRandom.seed(1L, 42L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        rolls(1L, GameRandom.Stream.DICE, 5);
+        verify(gameRandomDrawRepository, times(1)).saveAll(anyCollection());
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+        }
+        verify(gameRandomDrawRepository, times(2)).saveAll(anyCollection());
+    }
+
+    @Test
+    void nextInt_WhenTransactionRollsBack_ShouldReloadRecordedDraws() {
+        when(gameRepository.findRandomSeedById(1L)).thenReturn(Optional.of(42L));
+        gameRandom.seed(1L, 42L);
+        gameRandom.seed(2L, 42L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        List<Integer> discarded = rolls(1L, GameRandom.Stream.DICE, 5);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Nada quedó guardado: la partida sigue desde la última extracción confirmada
+        assertThat(rolls(1L, GameRandom.Stream.DICE, 5)).isEqualTo(discarded)
+                .isEqualTo(rolls(2L, GameRandom.Stream.DICE, 5));
+    }
+
+    @Test
+    void newSeed_WithMasterSeed_ShouldRepeatAcrossInstances() {
+        GameRandom first = newGameRandom(99L);
+        GameRandom second = newGameRandom(99L);
+
+        assertThat(List.of(first.newSeed(), first.newSeed()))
+                .isEqualTo(List.of(second.newSeed(), second.newSeed()));
+    }
+
+    @Test
+    void shuffle_ShouldKeepElementsAndRepeatWithSameSeed() {
+        gameRandom.seed(1L, 42L);
+        gameRandom.seed(2L, 42L);
+        List<Integer> first = new ArrayList<>(IntStream.range(0, 50).boxed().toList());
+        List<Integer> second = new ArrayList<>(first);
+
+        gameRandom.shuffle(1L, GameRandom.Stream.SETUP, first);
+        gameRandom.shuffle(2L, GameRandom.Stream.SETUP, second);
+
+        assertThat(first).isEqualTo(second).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 50).boxed().toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private GameRandom newGameRandom(long masterSeed) {
+        GameRandom random = new GameRandom();
+        ReflectionTestUtils.setField(random, "gameRepository", gameRepository);
+        ReflectionTestUtils.setField(random, "gameRandomDrawRepository", gameRandomDrawRepository);
+        ReflectionTestUtils.setField(random, "masterSeed", masterSeed);
+        return random;
+    }
+
+    /**
+     * Guarda en un mapa lo último que se escribió para la partida 1.
+     */
+    private Map<GameRandom.Stream, GameRandomDrawEntity> recordSavedDraws() {
+        Map<GameRandom.Stream, GameRandomDrawEntity> saved = new EnumMap<>(GameRandom.Stream.class);
+        when(gameRandomDrawRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            for (GameRandomDrawEntity row : invocation.<Collection<GameRandomDrawEntity>>getArgument(0)) {
+                if (row.getGameId() == 1L) {
+                    saved.put(row.getStream(), new GameRandomDrawEntity(null, 1L, row.getStream(), row.getDraws()));
+                }
+            }
+            return List.of();
+        });
+        return saved;
+    }
+
+    private List<Integer> rolls(Long gameId, GameRandom.Stream stream, int count) {
+        List<Integer> rolls = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rolls.add(gameRandom.nextInt(gameId, stream, 6) + 1);
+        }
+        return rolls;
+    }
+}
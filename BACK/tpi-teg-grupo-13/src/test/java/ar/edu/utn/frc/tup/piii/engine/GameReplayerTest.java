@@ -0,0 +1,145 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.entities.GameSnapshotEntity;
+import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerColor;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerStatus;
+import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
+import ar.edu.utn.frc.tup.piii.repository.GameSnapshotRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameReplayerTest {
+
+    @Mock
+    private GameSnapshotRepository gameSnapshotRepository;
+
+    @Mock
+    private GameEventStore gameEventStore;
+
+    @Mock
+    private WorldMap worldMap;
+
+    private SnapshotCodec snapshotCodec;
+    private GameReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        snapshotCodec = new SnapshotCodec();
+        ReflectionTestUtils.setField(snapshotCodec, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(snapshotCodec, "worldMap", worldMap);
+        replayer = new GameReplayer();
+        ReflectionTestUtils.setField(replayer, "gameSnapshotRepository", gameSnapshotRepository);
+        ReflectionTestUtils.setField(replayer, "gameEventStore", gameEventStore);
+        ReflectionTestUtils.setField(replayer, "snapshotCodec", snapshotCodec);
+        ReflectionTestUtils.setField(replayer, "worldMap", worldMap);
+    }
+
+    @Test
+    void replay_ShouldApplyChangesAfterNearestSnapshot() {
+        when(gameSnapshotRepository.findNearestSnapshot(1L, 7L)).thenReturn(Optional.of(snapshot(4L)));
+        when(gameEventStore.read(1L, 4L, 7L)).thenReturn(List.of(
+                new GameEventStore.RecordedChange(5L, 1, new GameChange.ArmiesPlaced(10L, Map.of(1L, 3), true)),
+                new GameEventStore.RecordedChange(6L, 1, new GameChange.AttackResolved(10L, 1L, 2L,
+                        List.of(6, 5, 4), List.of(3), 0, 1, true, 1)),
+                new GameEventStore.RecordedChange(7L, 2, new GameChange.TurnChanged(GameState.NORMAL_PLAY,
+                        TurnPhase.REINFORCEMENT, 2, 1))));
+
+        Game game = replayer.replay(1L, 7L);
+
+        assertThat(game.getCurrentTurn()).isEqualTo(2);
+        assertThat(game.getCurrentPlayerIndex()).isEqualTo(1);
+        assertThat(game.getTerritories().get(1L).getArmies()).isEqualTo(7);
+        assertThat(game.getTerritories().get(2L).getOwnerId()).isEqualTo(10L);
+        assertThat(game.getTerritories().get(2L).getArmies()).isEqualTo(1);
+        assertThat(game.getPlayers().get(0).getArmiesToPlace()).isZero();
+        assertThat(game.getPlayers().get(0).getTerritoryIds()).containsExactly(1L, 2L);
+        assertThat(game.getPlayers().get(1).getTerritoryIds()).isEmpty();
+    }
+
+    @Test
+    void replay_ShouldFailWithoutSnapshot() {
+        when(gameSnapshotRepository.findNearestSnapshot(1L, 3L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> replayer.replay(1L, 3L)).isInstanceOf(InvalidGameStateException.class);
+    }
+
+    @Test
+    void replayToTurn_ShouldReplayUpToLastChangeOfTurn() {
+        when(gameEventStore.lastSequenceUpToTurn(1L, 1)).thenReturn(4L);
+        when(gameSnapshotRepository.findNearestSnapshot(1L, 4L)).thenReturn(Optional.of(snapshot(4L)));
+        when(gameEventStore.read(1L, 4L, 4L)).thenReturn(List.of());
+
+        Game game = replayer.replayToTurn(1L, 1);
+
+        assertThat(game.getCurrentTurn()).isEqualTo(1);
+        assertThat(game.getTerritories().get(2L).getOwnerId()).isEqualTo(20L);
+    }
+
+    @Test
+    void replayBoard_ShouldRebuildHandAcrossTrade() {
+        when(gameSnapshotRepository.findNearestSnapshot(1L, 12L)).thenReturn(Optional.of(snapshot(8L)));
+        when(gameEventStore.read(1L, 8L, 12L)).thenReturn(List.of(
+                new GameEventStore.RecordedChange(9L, 1, new GameChange.CardDrawn(10L, 34L)),
+                new GameEventStore.RecordedChange(10L, 2, new GameChange.CardsTraded(10L, List.of(31L, 32L, 33L), 4)),
+                new GameEventStore.RecordedChange(11L, 2, new GameChange.CardDrawn(10L, 35L)),
+                new GameEventStore.RecordedChange(12L, 2, new GameChange.CardDrawn(20L, 31L))));
+
+        BoardState board = replayer.replayBoard(1L, 12L);
+
+        assertThat(board.player(10L).getCardIds()).containsExactly(34L, 35L);
+        assertThat(board.player(10L).getTradeCount()).isEqualTo(1);
+        assertThat(board.player(20L).getCardIds()).containsExactly(31L);
+    }
+
+    @Test
+    void replay_ShouldNotExposeObjectivesOrHands() {
+        when(gameSnapshotRepository.findNearestSnapshot(1L, 4L)).thenReturn(Optional.of(snapshot(4L)));
+        when(gameEventStore.read(1L, 4L, 4L)).thenReturn(List.of());
+
+        Game game = replayer.replay(1L, 4L);
+
+        assertThat(game.getPlayers()).allSatisfy(player -> {
+            assertThat(player.getObjective()).isNull();
+            assertThat(player.getHand()).isNullOrEmpty();
+        });
+    }
+
+    private GameSnapshotEntity snapshot(long sequence) {
+        BoardState board = new BoardState();
+        board.setGameId(1L);
+        board.setGameCode("TEST123");
+        board.setState(GameState.NORMAL_PLAY);
+        board.setPhase(TurnPhase.REINFORCEMENT);
+        board.setTurn(1);
+        board.setCurrentPlayerIndex(0);
+        board.getTerritories().put(1L, new BoardState.TerritoryState(1L, "Argentina", 10L, 5));
+        board.getTerritories().put(2L, new BoardState.TerritoryState(2L, "Brasil", 20L, 1));
+        board.getPlayers().add(new BoardState.PlayerState(10L, "Ana", false, PlayerColor.RED, PlayerStatus.ACTIVE, 0, 3, 0, 5L, new ArrayList<>(List.of(31L, 32L, 33L))));
+        board.getPlayers().add(new BoardState.PlayerState(20L, "Bot #1", true, PlayerColor.BLUE, PlayerStatus.ACTIVE, 1, 0, 0, 6L, new ArrayList<>()));
+
+        GameSnapshotEntity snapshot = new GameSnapshotEntity();
+        snapshot.setId(9L);
+        snapshot.setTurnNumber(1);
+        snapshot.setEventSequence(sequence);
+        snapshot.setSerializedState(snapshotCodec.encode(board));
+        return snapshot;
+    }
+}
@@ -0,0 +1,141 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.model.enums.EventType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameStatsProjectionTest {
+
+    private static final Long GAME_ID = 1L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private GameStatsProjection projection;
+
+    /** Filas que recibió cada sentencia, y las que ya "existen" para los UPDATE */
+    private final Map<String, List<Object[]>> written = new HashMap<>();
+    private boolean rowsExist;
+
+    @BeforeEach
+    void setUp() {
+        projection = new GameStatsProjection();
+        ReflectionTestUtils.setField(projection, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(projection, "objectMapper", new ObjectMapper());
+
+        lenient().when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            written.computeIfAbsent(invocation.getArgument(0), sql -> new ArrayList<>()).addAll(rows);
+            int[] counts = new int[rows.size()];
+            Arrays.fill(counts, rowsExist ? 1 : 0);
+            return counts;
+        });
+    }
+
+    @Test
+    void apply_ShouldInsertCountersThatDoNotExistYet() {
+        projection.apply(List.of(
+                event(10L, EventType.ATTACK_PERFORMED, 3, "{\"from\":\"A\", \"to\":\"B\", \"successful\":true}"),
+                event(10L, EventType.ATTACK_PERFORMED, 3, "{\"from\":\"A\", \"to\":\"C\", \"successful\":false}"),
+                event(10L, EventType.TERRITORY_CONQUERED, 3, "{\"territory\":\"B\", \"fromPlayer\":\"x\"}"),
+                event(10L, EventType.REINFORCEMENTS_PLACED, 3, "{\"territory\":\"A\", \"reinforcements\":4}")));
+
+        assertThat(written.get(GameStatsProjection.INSERT_EVENT_COUNT_SQL))
+                .extracting(row -> row[1] + "=" + row[2])
+                .containsExactly("ATTACK_PERFORMED=2", "TERRITORY_CONQUERED=1", "REINFORCEMENTS_PLACED=1");
+        // attacks, successful, conquests, armies, fortifications, cards, turns, eliminations, player, game
+        assertThat(written.get(GameStatsProjection.INSERT_PLAYER_SQL)).singleElement()
+                .isEqualTo(new Object[]{2, 1, 1, 4, 0, 0, 0, 0, 10L, GAME_ID});
+        assertThat(written.get(GameStatsProjection.INSERT_TURN_SQL)).singleElement()
+                .isEqualTo(new Object[]{2, 1, 1, 4, 0, 0, GAME_ID, 3, 10L});
+    }
+
+    @Test
+    void apply_ShouldOnlyUpdateExistingCounters() {
+        rowsExist = true;
+
+        projection.apply(List.of(event(10L, EventType.TURN_STARTED, 4, null)));
+
+        assertThat(written.get(GameStatsProjection.UPDATE_PLAYER_SQL)).singleElement()
+                .isEqualTo(new Object[]{0, 0, 0, 0, 0, 0, 1, 0, 10L});
+        assertThat(written).doesNotContainKeys(GameStatsProjection.INSERT_PLAYER_SQL,
+                GameStatsProjection.INSERT_EVENT_COUNT_SQL, GameStatsProjection.INSERT_TURN_SQL);
+    }
+
+    @Test
+    void apply_ShouldCountEliminationForEliminatorAndMarkEliminatedPlayer() {
+        rowsExist = true;
+
+        projection.apply(List.of(event(20L, EventType.PLAYER_ELIMINATED, null, "{\"eliminatorId\":10}")));
+
+        assertThat(written.get(GameStatsProjection.UPDATE_PLAYER_SQL))
+                .extracting(row -> row[8] + ":" + row[7])
+                .containsExactly("20:0", "10:1");
+        verify(jdbcTemplate).update(GameStatsProjection.MARK_ELIMINATED_SQL, 20L);
+    }
+
+    @Test
+    void apply_ShouldAddFinishedGameToCareerOfEachUser() throws Exception {
+        ResultSet winner = playerRow(10L, 100L, 5, 3, 2, 1, 7);
+        ResultSet loser = playerRow(20L, 200L, 0, 0, 0, 0, 0);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(winner);
+            handler.processRow(loser);
+            return null;
+        }).when(jdbcTemplate).query(eq(GameStatsProjection.FINISHED_PLAYERS_SQL), any(RowCallbackHandler.class), eq(GAME_ID));
+
+        projection.apply(List.of(event(10L, EventType.GAME_FINISHED, null, "{\"winnerId\":10}")));
+
+        // games_played, games_won, attacks, successful, conquests, eliminations, turns, finished_at, user
+        assertThat(written.get(GameStatsProjection.INSERT_USER_SQL))
+                .extracting(row -> row[8] + ":" + row[0] + "/" + row[1] + "/" + row[2] + "/" + row[6])
+                .containsExactly("100:1/1/5/7", "200:1/0/0/0");
+        // El fin de partida no suma contadores de jugador
+        assertThat(written).doesNotContainKeys(GameStatsProjection.UPDATE_PLAYER_SQL);
+    }
+
+    private ResultSet playerRow(Long playerId, Long userId, int attacks, int successful, int conquests,
+                                int eliminations, int turns) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(playerId);
+        when(rs.getLong(2)).thenReturn(userId);
+        when(rs.getInt(3)).thenReturn(attacks);
+        when(rs.getInt(4)).thenReturn(successful);
+        when(rs.getInt(5)).thenReturn(conquests);
+        when(rs.getInt(6)).thenReturn(eliminations);
+        when(rs.getInt(7)).thenReturn(turns);
+        return rs;
+    }
+
+    private GameEventWriter.PendingEvent event(Long actorId, EventType type, Integer turnNumber, String data) {
+        return new GameEventWriter.PendingEvent(GAME_ID, actorId, type, turnNumber, data, LocalDateTime.now());
+    }
+}
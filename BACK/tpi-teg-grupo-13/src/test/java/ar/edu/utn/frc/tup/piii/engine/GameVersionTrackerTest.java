@@ -0,0 +1,126 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class GameVersionTrackerTest {
+
+    private static final Long GAME_ID = 1L;
+
+    @Mock
+    private WorldMap worldMap;
+
+    @InjectMocks
+    private GameVersionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        // Mapa de 3 países (IDs 1..3 -> índices 0..2)
+        Map<Long, Integer> indexes = Map.of(1L, 0, 2L, 1, 3L, 2);
+        lenient().when(worldMap.wordCount()).thenReturn(1);
+        lenient().when(worldMap.indexOf(anyLong()))
+                .thenAnswer(inv -> indexes.getOrDefault(inv.<Long>getArgument(0), -1));
+        lenient().when(worldMap.countryIdAt(anyInt()))
+                .thenAnswer(inv -> (long) inv.<Integer>getArgument(0) + 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void changesSince_ShouldAccumulateOnlyNewerChanges() {
+        long start = tracker.currentVersion(GAME_ID);
+
+        tracker.territoryChanged(GAME_ID, 1L, 10L);
+        long afterFirst = tracker.currentVersion(GAME_ID);
+        tracker.territoryChanged(GAME_ID, 3L, 20L, 10L);
+
+        GameVersionTracker.Changes all = tracker.changesSince(GAME_ID, start);
+        assertThat(all.getVersion()).isEqualTo(start + 2);
+        assertThat(all.getCountryIds()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(all.isPlayerChanged(10L)).isTrue();
+        assertThat(all.isPlayerChanged(20L)).isTrue();
+        assertThat(all.isGameFieldsChanged()).isFalse();
+
+        GameVersionTracker.Changes latest = tracker.changesSince(GAME_ID, afterFirst);
+        assertThat(latest.getCountryIds()).containsExactly(3L);
+    }
+
+    @Test
+    void changesSince_WhenUpToDate_ShouldBeEmpty() {
+        tracker.gameChanged(GAME_ID);
+        long version = tracker.currentVersion(GAME_ID);
+
+        GameVersionTracker.Changes changes = tracker.changesSince(GAME_ID, version);
+
+        assertThat(changes.isEmpty()).isTrue();
+        assertThat(changes.getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    void changesSince_WhenClientTooFarBehindOrFromAnotherRun_ShouldAskForFullState() {
+        long start = tracker.currentVersion(GAME_ID);
+        for (int i = 0; i <= GameVersionTracker.HISTORY_SIZE; i++) {
+            tracker.territoryChanged(GAME_ID, 2L, 10L);
+        }
+
+        assertThat(tracker.changesSince(GAME_ID, start)).isNull();
+        assertThat(tracker.changesSince(GAME_ID, start + 1)).isNotNull();
+        assertThat(tracker.changesSince(GAME_ID, 5L)).isNull();
+        assertThat(tracker.changesSince(GAME_ID, tracker.currentVersion(GAME_ID) + 1)).isNull();
+    }
+
+    @Test
+    void versionShouldOnlyMoveAfterCommit() {
+        long start = tracker.currentVersion(GAME_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        tracker.territoryChanged(GAME_ID, 1L, 10L);
+        tracker.gameChanged(GAME_ID);
+        assertThat(tracker.currentVersion(GAME_ID)).isEqualTo(start);
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        // Una transacción = una versión, con todo lo que tocó
+        assertThat(tracker.currentVersion(GAME_ID)).isEqualTo(start + 1);
+        GameVersionTracker.Changes changes = tracker.changesSince(GAME_ID, start);
+        assertThat(changes.getCountryIds()).containsExactly(1L);
+        assertThat(changes.isAllPlayersChanged()).isTrue();
+        assertThat(changes.isGameFieldsChanged()).isTrue();
+    }
+
+    @Test
+    void rolledBackChanges_ShouldNotBumpVersion() {
+        long start = tracker.currentVersion(GAME_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        tracker.playerChanged(GAME_ID, 10L);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        assertThat(tracker.currentVersion(GAME_ID)).isEqualTo(start);
+    }
+}
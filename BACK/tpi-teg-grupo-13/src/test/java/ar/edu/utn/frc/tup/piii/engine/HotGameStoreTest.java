@@ -0,0 +1,182 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.entities.CountryEntity;
+import ar.edu.utn.frc.tup.piii.entities.GameTerritoryEntity;
+import ar.edu.utn.frc.tup.piii.repository.GameTerritoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HotGameStoreTest {
+
+    private static final Long GAME_ID = 1L;
+
+    @Mock
+    private WorldMap worldMap;
+
+    @Mock
+    private GameTerritoryRepository gameTerritoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private HotGameStore hotGameStore;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(hotGameStore, "enabled", true);
+
+        // Países 1..3 -> índices 0..2
+        Map<Long, Integer> indexes = Map.of(1L, 0, 2L, 1, 3L, 2);
+        lenient().when(worldMap.size()).thenReturn(3);
+        lenient().when(worldMap.wordCount()).thenReturn(1);
+        lenient().when(worldMap.indexOf(anyLong()))
+                .thenAnswer(inv -> indexes.getOrDefault(inv.<Long>getArgument(0), -1));
+        lenient().when(worldMap.countryIdAt(anyInt())).thenAnswer(inv -> inv.<Integer>getArgument(0) + 1L);
+
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, 10L, 4});
+        rows.add(new Object[]{2L, 20L, 2});
+        rows.add(new Object[]{3L, 20L, 1});
+        lenient().when(gameTerritoryRepository.findTerritoryStateByGameId(GAME_ID)).thenReturn(rows);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_ShouldLoadOnceFromRepository() {
+        HotGame hotGame = hotGameStore.get(GAME_ID);
+
+        assertThat(hotGameStore.get(GAME_ID)).isSameAs(hotGame);
+        assertThat(hotGame.armiesAt(0)).isEqualTo(4);
+        assertThat(hotGame.ownerAt(1)).isEqualTo(20L);
+        assertThat(hotGame.totalArmies(20L)).isEqualTo(3);
+        verify(gameTerritoryRepository, times(1)).findTerritoryStateByGameId(GAME_ID);
+    }
+
+    @Test
+    void get_ShouldReturnNullWhenDisabled() {
+        ReflectionTestUtils.setField(hotGameStore, "enabled", false);
+
+        assertThat(hotGameStore.get(GAME_ID)).isNull();
+        verify(gameTerritoryRepository, never()).findTerritoryStateByGameId(GAME_ID);
+    }
+
+    @Test
+    void flush_ShouldWriteOnlyPendingTerritoriesInOneBatch() {
+        HotGame hotGame = hotGameStore.get(GAME_ID);
+        hotGameStore.addArmies(hotGame, 0, -1);
+        hotGameStore.addArmies(hotGame, 0, -1);
+        hotGameStore.addArmies(hotGame, 2, 3);
+
+        GameTerritoryEntity first = territory(1L, 4);
+        GameTerritoryEntity third = territory(3L, 1);
+        when(gameTerritoryRepository.findByGameIdAndCountryIds(eq(GAME_ID), eq(List.of(1L, 3L))))
+                .thenReturn(List.of(first, third));
+
+        hotGameStore.flush(GAME_ID);
+        hotGameStore.flush(GAME_ID);
+
+        assertThat(first.getArmies()).isEqualTo(2);
+        assertThat(third.getArmies()).isEqualTo(4);
+        verify(gameTerritoryRepository, times(1)).saveAll(List.of(first, third));
+    }
+
+    @Test
+    void addArmies_ShouldBeUndoneWhenTransactionRollsBack() {
+        HotGame hotGame = hotGameStore.get(GAME_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        hotGameStore.addArmies(hotGame, 0, -2);
+        hotGameStore.applyPersisted(GAME_ID, 2L, 10L, 1);
+        assertThat(hotGame.armiesAt(0)).isEqualTo(2);
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        assertThat(hotGame.armiesAt(0)).isEqualTo(4);
+        assertThat(hotGame.ownerAt(1)).isEqualTo(20L);
+        assertThat(hotGame.hasPendingChanges()).isFalse();
+    }
+
+    @Test
+    void rollback_ShouldRestoreOnlyTerritoriesChangedByTheFailedTransaction() throws InterruptedException {
+        HotGame hotGame = hotGameStore.get(GAME_ID);
+        TransactionSynchronizationManager.initSynchronization();
+        hotGameStore.addArmies(hotGame, 0, -2);
+
+        // Otro comando, en otro hilo, cambia un país distinto mientras tanto
+        Thread other = new Thread(() -> hotGameStore.addArmies(hotGame, 1, 5));
+        other.start();
+        other.join();
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        assertThat(hotGame.armiesAt(0)).isEqualTo(4);
+        assertThat(hotGame.armiesAt(1)).isEqualTo(7);
+        assertThat(hotGame.pendingIndexes()).containsExactly(1);
+    }
+
+    @Test
+    void flushAll_ShouldWriteEachGameInsideATransaction() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        HotGame hotGame = hotGameStore.get(GAME_ID);
+        hotGameStore.addArmies(hotGame, 0, 1);
+        GameTerritoryEntity first = territory(1L, 4);
+        when(gameTerritoryRepository.findByGameIdAndCountryIds(eq(GAME_ID), eq(List.of(1L))))
+                .thenReturn(List.of(first));
+
+        hotGameStore.flushAll();
+
+        assertThat(first.getArmies()).isEqualTo(5);
+        InOrder inOrder = inOrder(transactionManager, gameTerritoryRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(gameTerritoryRepository).saveAll(List.of(first));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    private static GameTerritoryEntity territory(Long countryId, int armies) {
+        CountryEntity country = new CountryEntity();
+        country.setId(countryId);
+        GameTerritoryEntity territory = new GameTerritoryEntity();
+        territory.setCountry(country);
+        territory.setArmies(armies);
+        return territory;
+    }
+}
@@ -0,0 +1,192 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.repository.GameTerritoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OwnershipIndexTest {
+
+    private static final Long GAME_ID = 1L;
+    private static final Long PLAYER_A = 10L;
+    private static final Long PLAYER_B = 20L;
+
+    @Mock
+    private WorldMap worldMap;
+
+    @Mock
+    private GameTerritoryRepository gameTerritoryRepository;
+
+    @InjectMocks
+    private OwnershipIndex ownershipIndex;
+
+    @BeforeEach
+    void setUp() {
+        // Mapa de 4 países (IDs 1..4 -> índices 0..3); "Sur" = {1, 2}, "Norte" = {3, 4}
+        Map<Long, Integer> indexes = Map.of(1L, 0, 2L, 1, 3L, 2, 4L, 3);
+        Map<String, Integer> continents = Map.of("Sur", 0, "Norte", 1);
+
+        lenient().when(worldMap.size()).thenReturn(4);
+        lenient().when(worldMap.wordCount()).thenReturn(1);
+        lenient().when(worldMap.indexOf(anyLong()))
+                .thenAnswer(inv -> indexes.getOrDefault(inv.<Long>getArgument(0), -1));
+        lenient().when(worldMap.continentIndexOf(anyString()))
+                .thenAnswer(inv -> continents.getOrDefault(inv.<String>getArgument(0), -1));
+        lenient().when(worldMap.continentSize(anyInt())).thenReturn(2);
+        lenient().when(worldMap.continentMask(anyInt()))
+                .thenAnswer(inv -> new long[]{inv.<Integer>getArgument(0) == 0 ? 0b0011L : 0b1100L});
+        lenient().when(worldMap.maskOf(anyCollection())).thenAnswer(inv -> {
+            long[] mask = new long[1];
+            for (Object id : inv.<Collection<?>>getArgument(0)) {
+                BitSets.set(mask, indexes.get((Long) id));
+            }
+            return mask;
+        });
+
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, PLAYER_A});
+        rows.add(new Object[]{2L, PLAYER_A});
+        rows.add(new Object[]{3L, PLAYER_B});
+        rows.add(new Object[]{4L, null});
+        when(gameTerritoryRepository.findOwnershipByGameId(GAME_ID)).thenReturn(rows);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void load_ShouldBuildIndexFromRepository() {
+        assertThat(ownershipIndex.countTerritories(GAME_ID, PLAYER_A)).isEqualTo(2);
+        assertThat(ownershipIndex.countTerritories(GAME_ID, PLAYER_B)).isEqualTo(1);
+        assertThat(ownershipIndex.getOwner(GAME_ID, 4L)).isNull();
+        assertThat(ownershipIndex.controlsContinent(GAME_ID, PLAYER_A, "Sur")).isTrue();
+        assertThat(ownershipIndex.controlsContinent(GAME_ID, PLAYER_B, "Norte")).isFalse();
+        assertThat(ownershipIndex.controlsContinent(GAME_ID, PLAYER_A, "Atlántida")).isFalse();
+    }
+
+    @Test
+    void setOwner_ShouldMoveCountryBetweenPlayers() {
+        ownershipIndex.setOwner(GAME_ID, 2L, PLAYER_B);
+        ownershipIndex.setOwner(GAME_ID, 4L, PLAYER_B);
+
+        assertThat(ownershipIndex.getOwner(GAME_ID, 2L)).isEqualTo(PLAYER_B);
+        assertThat(ownershipIndex.countTerritories(GAME_ID, PLAYER_A)).isEqualTo(1);
+        assertThat(ownershipIndex.countTerritories(GAME_ID, PLAYER_B)).isEqualTo(3);
+        assertThat(ownershipIndex.controlsContinent(GAME_ID, PLAYER_A, "Sur")).isFalse();
+        assertThat(ownershipIndex.controlsContinent(GAME_ID, PLAYER_B, "Norte")).isTrue();
+        assertThat(ownershipIndex.countInContinent(GAME_ID, PLAYER_B, "Sur")).isEqualTo(1);
+    }
+
+    @Test
+    void ownsAll_ShouldRequireEveryCountry() {
+        assertThat(ownershipIndex.ownsAll(GAME_ID, PLAYER_A, List.of(1L, 2L))).isTrue();
+        assertThat(ownershipIndex.ownsAll(GAME_ID, PLAYER_A, List.of(1L, 3L))).isFalse();
+        assertThat(ownershipIndex.ownsAll(GAME_ID, PLAYER_A, List.of(1L, 99L))).isFalse();
+    }
+
+    @Test
+    void setOwner_ShouldNotifyListenersOnlyWhenOwnerChanges() {
+        OwnershipIndex.Listener listener = mock(OwnershipIndex.Listener.class);
+        ownershipIndex.addListener(listener);
+
+        ownershipIndex.setOwner(GAME_ID, 2L, PLAYER_B);
+        ownershipIndex.setOwner(GAME_ID, 2L, PLAYER_B);
+        ownershipIndex.evict(GAME_ID);
+
+        verify(listener, times(1)).ownerChanged(GAME_ID, 1, PLAYER_A, PLAYER_B);
+        verify(listener).ownershipEvicted(GAME_ID);
+    }
+
+    @Test
+    void evict_ShouldRebuildOnNextQuery() {
+        ownershipIndex.countTerritories(GAME_ID, PLAYER_A);
+        ownershipIndex.countTerritories(GAME_ID, PLAYER_B);
+        ownershipIndex.evict(GAME_ID);
+        ownershipIndex.countTerritories(GAME_ID, PLAYER_A);
+
+        verify(gameTerritoryRepository, times(2)).findOwnershipByGameId(GAME_ID);
+    }
+
+    @Test
+    void setOwner_InsideTransaction_ShouldApplyToIndexOnlyAfterCommit() {
+        assertThat(ownershipIndex.isIndexed(GAME_ID)).isFalse();
+        ownershipIndex.countTerritories(GAME_ID, PLAYER_A);
+        TransactionSynchronizationManager.initSynchronization();
+
+        ownershipIndex.setOwner(GAME_ID, 2L, PLAYER_B);
+
+        // La transacción ve su cambio; otro hilo sigue viendo lo confirmado
+        assertThat(ownershipIndex.getOwner(GAME_ID, 2L)).isEqualTo(PLAYER_B);
+        assertThat(ownershipIndex.countTerritories(GAME_ID, PLAYER_B)).isEqualTo(2);
+        assertThat(ownerFromOtherThread(2L)).isEqualTo(PLAYER_A);
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(ownerFromOtherThread(2L)).isEqualTo(PLAYER_B);
+        assertThat(ownershipIndex.countTerritories(GAME_ID, PLAYER_A)).isEqualTo(1);
+        assertThat(ownershipIndex.isIndexed(GAME_ID)).isTrue();
+        verify(gameTerritoryRepository, times(1)).findOwnershipByGameId(GAME_ID);
+    }
+
+    @Test
+    void setOwner_WhenTransactionRollsBack_ShouldKeepIndexAndNotifyEviction() {
+        OwnershipIndex.Listener listener = mock(OwnershipIndex.Listener.class);
+        ownershipIndex.addListener(listener);
+        TransactionSynchronizationManager.initSynchronization();
+
+        ownershipIndex.setOwner(GAME_ID, 2L, PLAYER_B);
+        // Los listeners se enteran en la misma transacción
+        verify(listener).ownerChanged(GAME_ID, 1, PLAYER_A, PLAYER_B);
+        verify(listener, never()).ownershipEvicted(GAME_ID);
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(listener).ownershipEvicted(GAME_ID);
+        assertThat(ownershipIndex.getOwner(GAME_ID, 2L)).isEqualTo(PLAYER_A);
+        assertThat(ownershipIndex.countTerritories(GAME_ID, PLAYER_A)).isEqualTo(2);
+    }
+
+    private Long ownerFromOtherThread(Long countryId) {
+        return CompletableFuture.supplyAsync(() -> ownershipIndex.getOwner(GAME_ID, countryId)).join();
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+}
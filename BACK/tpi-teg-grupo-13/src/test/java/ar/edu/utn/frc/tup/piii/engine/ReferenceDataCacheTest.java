@@ -0,0 +1,233 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.entities.BotProfileEntity;
+import ar.edu.utn.frc.tup.piii.entities.ContinentEntity;
+import ar.edu.utn.frc.tup.piii.entities.CountryEntity;
+import ar.edu.utn.frc.tup.piii.entities.ObjectiveEntity;
+import ar.edu.utn.frc.tup.piii.model.enums.BotLevel;
+import ar.edu.utn.frc.tup.piii.model.enums.BotStrategy;
+import ar.edu.utn.frc.tup.piii.model.enums.ObjectiveType;
+import ar.edu.utn.frc.tup.piii.repository.BotProfileRepository;
+import ar.edu.utn.frc.tup.piii.repository.ContinentRepository;
+import ar.edu.utn.frc.tup.piii.repository.CountryRepository;
+import ar.edu.utn.frc.tup.piii.repository.ObjectiveRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheTest {
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Mock
+    private ContinentRepository continentRepository;
+
+    @Mock
+    private ObjectiveRepository objectiveRepository;
+
+    @Mock
+    private BotProfileRepository botProfileRepository;
+
+    private ReferenceDataCache cache;
+    private ContinentEntity southAmerica;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ReferenceDataCache();
+        ReflectionTestUtils.setField(cache, "countryRepository", countryRepository);
+        ReflectionTestUtils.setField(cache, "continentRepository", continentRepository);
+        ReflectionTestUtils.setField(cache, "objectiveRepository", objectiveRepository);
+        ReflectionTestUtils.setField(cache, "botProfileRepository", botProfileRepository);
+        ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+        cache.start();
+
+        southAmerica = new ContinentEntity();
+        southAmerica.setId(1L);
+        southAmerica.setName("América del Sur");
+        southAmerica.setBonusArmies(3);
+        lenient().when(continentRepository.findAll()).thenReturn(List.of(southAmerica));
+        lenient().when(countryRepository.findAll()).thenReturn(new ArrayList<>(List.of(
+                country(2L, "Brasil"), country(1L, "Argentina"))));
+        lenient().when(objectiveRepository.findAll()).thenReturn(List.of(
+                objective(1L, ObjectiveType.COMMON), objective(2L, ObjectiveType.OCCUPATION)));
+        lenient().when(botProfileRepository.findAll()).thenReturn(List.of(
+                botProfile(1L, BotLevel.NOVICE, BotStrategy.AGGRESSIVE),
+                botProfile(2L, BotLevel.EXPERT, BotStrategy.DEFENSIVE)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void warmUp_ShouldServeLookupsWithoutQueries() {
+        cache.warmUp();
+
+        assertThat(cache.country(1L)).get().extracting(CountryEntity::getName).isEqualTo("Argentina");
+        assertThat(cache.countryByName("Brasil")).get()
+                .satisfies(country -> assertThat(country.getContinent().getName()).isEqualTo("América del Sur"));
+        assertThat(cache.countries()).extracting(CountryEntity::getId).containsExactly(1L, 2L);
+        assertThat(cache.objectivesByType(ObjectiveType.OCCUPATION)).extracting(ObjectiveEntity::getId)
+                .containsExactly(2L);
+        assertThat(cache.botProfile(BotLevel.EXPERT, BotStrategy.DEFENSIVE)).get()
+                .extracting(BotProfileEntity::getId).isEqualTo(2L);
+
+        verify(countryRepository, times(1)).findAll();
+        verify(objectiveRepository, times(1)).findAll();
+        verify(botProfileRepository, times(1)).findAll();
+        assertThat(cache.hitCount(ReferenceDataCache.COUNTRIES)).isEqualTo(3);
+        assertThat(cache.missCount(ReferenceDataCache.COUNTRIES)).isZero();
+    }
+
+    @Test
+    void lookups_ShouldReturnCopies() {
+        cache.country(1L).ifPresent(country -> {
+            country.setName("Otro");
+            country.getContinent().setBonusArmies(99);
+        });
+        cache.objective(1L).ifPresent(objective -> objective.setDescription("cambiado"));
+
+        assertThat(cache.country(1L)).get()
+                .satisfies(country -> {
+                    assertThat(country.getName()).isEqualTo("Argentina");
+                    assertThat(country.getContinent().getBonusArmies()).isEqualTo(3);
+                });
+        assertThat(cache.objective(1L)).get()
+                .extracting(ObjectiveEntity::getDescription).isEqualTo("Objetivo 1");
+    }
+
+    @Test
+    void firstLookup_ShouldReadThroughAndCountMiss() {
+        assertThat(cache.country(2L)).get().extracting(CountryEntity::getName).isEqualTo("Brasil");
+        assertThat(cache.country(2L)).isPresent();
+
+        assertThat(cache.missCount(ReferenceDataCache.COUNTRIES)).isEqualTo(1);
+        assertThat(cache.hitCount(ReferenceDataCache.COUNTRIES)).isEqualTo(1);
+        verify(countryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void unknownCountry_ShouldCheckDatabaseOnceWithoutReloading() {
+        cache.warmUp();
+        when(countryRepository.findById(99L)).thenReturn(Optional.empty());
+        when(countryRepository.findByName("Atlántida")).thenReturn(Optional.empty());
+
+        assertThat(cache.country(99L)).isEmpty();
+        assertThat(cache.country(99L)).isEmpty();
+        assertThat(cache.countryByName("Atlántida")).isEmpty();
+        assertThat(cache.countryByName("Atlántida")).isEmpty();
+
+        verify(countryRepository, times(1)).findById(99L);
+        verify(countryRepository, times(1)).findByName("Atlántida");
+        assertThat(cache.missCount(ReferenceDataCache.COUNTRIES)).isEqualTo(2);
+        assertThat(cache.hitCount(ReferenceDataCache.COUNTRIES)).isEqualTo(2);
+        verify(countryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void unknownCountry_ShouldBeLookedUpAgainAfterReload() {
+        cache.warmUp();
+        CountryEntity chile = country(3L, "Chile");
+        when(countryRepository.findById(3L)).thenReturn(Optional.empty());
+        when(countryRepository.findByName("Chile")).thenReturn(Optional.of(chile));
+        assertThat(cache.country(3L)).isEmpty();
+
+        // Otro país nuevo obliga a recargar y se olvidan los IDs que no existían
+        when(countryRepository.findAll()).thenReturn(List.of(country(1L, "Argentina"), chile));
+        assertThat(cache.countryByName("Chile")).isPresent();
+
+        assertThat(cache.country(3L)).isPresent();
+        verify(countryRepository, times(1)).findById(3L);
+    }
+
+    @Test
+    void countryAddedLater_ShouldReloadRegion() {
+        cache.warmUp();
+        CountryEntity chile = country(3L, "Chile");
+        when(countryRepository.findByName("Chile")).thenReturn(Optional.of(chile));
+        when(countryRepository.findAll()).thenReturn(List.of(country(1L, "Argentina"), chile));
+
+        assertThat(cache.countryByName("Chile")).get().extracting(CountryEntity::getId).isEqualTo(3L);
+        assertThat(cache.country(3L)).isPresent();
+
+        verify(countryRepository, times(2)).findAll();
+    }
+
+    @Test
+    void emptyTables_ShouldNotBeCached() {
+        when(botProfileRepository.findAll()).thenReturn(List.of());
+
+        assertThat(cache.botProfiles()).isEmpty();
+        assertThat(cache.botProfiles()).isEmpty();
+
+        verify(botProfileRepository, times(2)).findAll();
+    }
+
+    @Test
+    void evictBotProfiles_ShouldReloadOnNextLookup() {
+        cache.warmUp();
+
+        cache.evictBotProfiles();
+        cache.botProfilesByLevel(BotLevel.NOVICE);
+
+        verify(botProfileRepository, times(2)).findAll();
+        verify(objectiveRepository, times(1)).findAll();
+    }
+
+    @Test
+    void evictObjectives_ShouldEvictAgainAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.warmUp();
+
+        cache.evictObjectives();
+        // Una lectura antes del commit vuelve a cargar lo que había
+        cache.objectives();
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        cache.objectives();
+
+        verify(objectiveRepository, times(3)).findAll();
+    }
+
+    private CountryEntity country(Long id, String name) {
+        // Como lo devuelve Hibernate: el continente es una referencia de la que solo se usa el ID
+        ContinentEntity continent = new ContinentEntity();
+        continent.setId(southAmerica.getId());
+        CountryEntity country = new CountryEntity();
+        country.setId(id);
+        country.setName(name);
+        country.setContinent(continent);
+        return country;
+    }
+
+    private static ObjectiveEntity objective(Long id, ObjectiveType type) {
+        return new ObjectiveEntity(id, type, "Objetivo " + id, null, type == ObjectiveType.COMMON);
+    }
+
+    private static BotProfileEntity botProfile(Long id, BotLevel level, BotStrategy strategy) {
+        return new BotProfileEntity(id, level, strategy, "Bot " + id);
+    }
+}
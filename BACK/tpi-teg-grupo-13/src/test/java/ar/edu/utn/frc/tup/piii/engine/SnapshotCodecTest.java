@@ -0,0 +1,114 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerColor;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerStatus;
+import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotCodecTest {
+
+    @Mock
+    private WorldMap worldMap;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SnapshotCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = new SnapshotCodec();
+        ReflectionTestUtils.setField(codec, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(codec, "worldMap", worldMap);
+        lenient().when(worldMap.indexOf(anyLong())).thenAnswer(invocation -> (int) (invocation.<Long>getArgument(0) - 1));
+        lenient().when(worldMap.countryNameAt(anyInt()))
+                .thenAnswer(invocation -> "Country " + (invocation.<Integer>getArgument(0) + 1));
+    }
+
+    @Test
+    void encode_ShouldRoundTripFullBoard() {
+        BoardState board = fullBoard();
+        board.getTerritories().put(60L, new BoardState.TerritoryState(60L, "Country 60", 99L, 2));
+
+        BoardState decoded = codec.decode(codec.encode(board));
+
+        assertThat(decoded).isEqualTo(board);
+        assertThat(decoded.player(16L).getCardIds()).containsExactly(101L, 105L, 140L);
+        assertThat(decoded.territory(60L).getOwnerId()).isEqualTo(99L);
+    }
+
+    @Test
+    void encode_ShouldKeepSixPlayerBoardUnderFewHundredBytes() {
+        byte[] bytes = codec.toBytes(fullBoard());
+
+        assertThat(bytes.length).isLessThan(400);
+    }
+
+    @Test
+    void decode_ShouldReadLegacyJsonSnapshots() throws Exception {
+        BoardState board = fullBoard();
+
+        BoardState decoded = codec.decode(objectMapper.writeValueAsString(board));
+
+        assertThat(decoded).isEqualTo(board);
+    }
+
+    @Test
+    void decode_ShouldRejectNewerFormatVersion() {
+        byte[] bytes = codec.toBytes(fullBoard());
+        bytes[0] = (byte) (SnapshotCodec.FORMAT_VERSION + 1);
+
+        assertThatThrownBy(() -> codec.decode(Base64.getEncoder().encodeToString(bytes)))
+                .isInstanceOf(InvalidGameStateException.class)
+                .hasMessageContaining("format version");
+    }
+
+    @Test
+    void decode_ShouldRejectTruncatedSnapshot() {
+        byte[] bytes = codec.toBytes(fullBoard());
+        String truncated = Base64.getEncoder().encodeToString(Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThatThrownBy(() -> codec.decode(truncated)).isInstanceOf(InvalidGameStateException.class);
+    }
+
+    private BoardState fullBoard() {
+        BoardState board = new BoardState();
+        board.setGameId(1234L);
+        board.setGameCode("ABC123");
+        board.setState(GameState.NORMAL_PLAY);
+        board.setPhase(TurnPhase.ATTACK);
+        board.setTurn(17);
+        board.setCurrentPlayerIndex(3);
+        PlayerColor[] colors = PlayerColor.values();
+        for (int i = 0; i < 6; i++) {
+            List<Long> cards = i == 5 ? new ArrayList<>(List.of(101L, 105L, 140L)) : new ArrayList<>();
+            board.getPlayers().add(new BoardState.PlayerState(11L + i, "Bot #" + (i + 1), i > 0,
+                    colors[i % colors.length], i == 2 ? PlayerStatus.ELIMINATED : PlayerStatus.ACTIVE,
+                    i, i == 3 ? 8 : 0, i % 3, 20L + i, cards));
+        }
+        for (long countryId = 1; countryId <= 50; countryId++) {
+            long owner = 11L + (countryId % 6 == 2 ? 0 : countryId % 6);
+            board.getTerritories().put(countryId, new BoardState.TerritoryState(countryId, "Country " + countryId,
+                    owner, (int) (1 + countryId % 9)));
+        }
+        return board;
+    }
+}
@@ -0,0 +1,96 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.repository.GameEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TurnConquestStoreTest {
+
+    private static final Long GAME_ID = 1L;
+
+    @Mock
+    private GameEventRepository gameEventRepository;
+
+    @InjectMocks
+    private TurnConquestStore turnConquestStore;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void registerConquest_ShouldCountConquestsPerPlayerInTurn() {
+        when(gameEventRepository.countConquestsByActorInTurn(GAME_ID, 3)).thenReturn(List.of());
+
+        turnConquestStore.registerConquest(GAME_ID, 3, 10L);
+        turnConquestStore.registerConquest(GAME_ID, 3, 10L);
+
+        assertThat(turnConquestStore.conqueredCount(GAME_ID, 3, 10L)).isEqualTo(2);
+        assertThat(turnConquestStore.hasConquered(GAME_ID, 3, 20L)).isFalse();
+        verify(gameEventRepository, times(1)).countConquestsByActorInTurn(GAME_ID, 3);
+    }
+
+    @Test
+    void conqueredCount_ShouldRebuildFromConquestEvents() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{10L, 2L});
+        when(gameEventRepository.countConquestsByActorInTurn(GAME_ID, 5)).thenReturn(rows);
+
+        assertThat(turnConquestStore.conqueredCount(GAME_ID, 5, 10L)).isEqualTo(2);
+        assertThat(turnConquestStore.hasConquered(GAME_ID, 5, 10L)).isTrue();
+        verify(gameEventRepository, times(1)).countConquestsByActorInTurn(GAME_ID, 5);
+    }
+
+    @Test
+    void conqueredCount_ShouldStartFromZeroInNextTurn() {
+        when(gameEventRepository.countConquestsByActorInTurn(GAME_ID, 3)).thenReturn(List.of());
+        turnConquestStore.registerConquest(GAME_ID, 3, 10L);
+
+        assertThat(turnConquestStore.conqueredCount(GAME_ID, 4, 10L)).isZero();
+        // Un pedido atrasado del turno anterior no vuelve a abrirlo
+        assertThat(turnConquestStore.conqueredCount(GAME_ID, 3, 10L)).isZero();
+    }
+
+    @Test
+    void evict_ShouldReloadFromEventsOnNextQuery() {
+        when(gameEventRepository.countConquestsByActorInTurn(GAME_ID, 3)).thenReturn(List.of());
+        turnConquestStore.registerConquest(GAME_ID, 3, 10L);
+
+        turnConquestStore.evict(GAME_ID);
+
+        assertThat(turnConquestStore.conqueredCount(GAME_ID, 3, 10L)).isZero();
+        verify(gameEventRepository, times(2)).countConquestsByActorInTurn(GAME_ID, 3);
+    }
+
+    @Test
+    void registerConquest_ShouldBeDiscardedWhenTransactionRollsBack() {
+        when(gameEventRepository.countConquestsByActorInTurn(GAME_ID, 3)).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+
+        turnConquestStore.registerConquest(GAME_ID, 3, 10L);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(turnConquestStore.conqueredCount(GAME_ID, 3, 10L)).isZero();
+    }
+}
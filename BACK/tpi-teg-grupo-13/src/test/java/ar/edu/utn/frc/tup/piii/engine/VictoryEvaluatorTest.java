@@ -0,0 +1,190 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.model.enums.ObjectiveType;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerColor;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerStatus;
+import ar.edu.utn.frc.tup.piii.repository.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VictoryEvaluatorTest {
+
+    private static final Long GAME_ID = 1L;
+    private static final Long PLAYER_A = 10L;
+    private static final Long PLAYER_B = 20L;
+    private static final Long PLAYER_C = 30L;
+
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
+    @Mock
+    private WorldMap worldMap;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    private VictoryEvaluator evaluator;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = new VictoryEvaluator();
+        ReflectionTestUtils.setField(evaluator, "ownershipIndex", ownershipIndex);
+        ReflectionTestUtils.setField(evaluator, "worldMap", worldMap);
+        ReflectionTestUtils.setField(evaluator, "playerRepository", playerRepository);
+
+        // Mapa de 4 países (índices 0..3); "Sur" = {0, 1}, "Norte" = {2, 3}
+        Map<String, Integer> continents = Map.of("Sur", 0, "Norte", 1);
+        lenient().when(worldMap.continentCount()).thenReturn(2);
+        lenient().when(worldMap.continentSize(anyInt())).thenReturn(2);
+        lenient().when(worldMap.continentIndexOf(anyString()))
+                .thenAnswer(inv -> continents.getOrDefault(inv.<String>getArgument(0), -1));
+        lenient().when(worldMap.continentMask(anyInt()))
+                .thenAnswer(inv -> new long[]{inv.<Integer>getArgument(0) == 0 ? 0b0011L : 0b1100L});
+        lenient().when(worldMap.continentOf(anyInt())).thenAnswer(inv -> inv.<Integer>getArgument(0) / 2);
+
+        // A tiene {0}, B tiene {1, 2}, C tiene {3}
+        lenient().when(ownershipIndex.ownedMask(GAME_ID, PLAYER_A)).thenReturn(new long[]{0b0001L});
+        lenient().when(ownershipIndex.ownedMask(GAME_ID, PLAYER_B)).thenReturn(new long[]{0b0110L});
+        lenient().when(ownershipIndex.ownedMask(GAME_ID, PLAYER_C)).thenReturn(new long[]{0b1000L});
+    }
+
+    @Test
+    void register_ShouldListenToOwnershipIndex() {
+        evaluator.register();
+
+        verify(ownershipIndex).addListener(evaluator);
+    }
+
+    @Test
+    void progress_ShouldComputeRemainingFromOwnership() {
+        givenPlayers(
+                row(PLAYER_A, PlayerColor.RED, ObjectiveType.OCCUPATION, "Sur"),
+                row(PLAYER_B, PlayerColor.BLUE, ObjectiveType.COMMON, null),
+                row(PLAYER_C, PlayerColor.GREEN, ObjectiveType.DESTRUCTION, "BLUE"));
+
+        assertThat(evaluator.progress(GAME_ID, PLAYER_A)).get()
+                .satisfies(progress -> {
+                    assertThat(progress.remaining()).isEqualTo(1);
+                    assertThat(progress.description()).isEqualTo("Continents controlled: 0/1");
+                });
+        assertThat(evaluator.progress(GAME_ID, PLAYER_B)).get()
+                .satisfies(progress -> {
+                    assertThat(progress.remaining()).isEqualTo(VictoryEvaluator.COMMON_OBJECTIVE_TERRITORIES - 2);
+                    assertThat(progress.description()).isEqualTo("Territories: 2/30");
+                });
+        assertThat(evaluator.progress(GAME_ID, PLAYER_C)).get()
+                .satisfies(progress -> {
+                    assertThat(progress.remaining()).isEqualTo(1);
+                    assertThat(progress.description()).isEqualTo("Target still active");
+                });
+        assertThat(evaluator.winner(GAME_ID)).isEmpty();
+    }
+
+    @Test
+    void ownerChanged_ShouldDeclareWinnerWhenContinentIsCompleted() {
+        givenPlayers(
+                row(PLAYER_A, PlayerColor.RED, ObjectiveType.OCCUPATION, "Sur"),
+                row(PLAYER_B, PlayerColor.BLUE, ObjectiveType.COMMON, null));
+        evaluator.winner(GAME_ID);
+
+        evaluator.ownerChanged(GAME_ID, 1, PLAYER_B, PLAYER_A);
+
+        assertThat(evaluator.winner(GAME_ID)).contains(PLAYER_A);
+        assertThat(evaluator.progress(GAME_ID, PLAYER_A)).get()
+                .satisfies(progress -> assertThat(progress.achieved()).isTrue());
+        assertThat(evaluator.progress(GAME_ID, PLAYER_B)).get()
+                .satisfies(progress -> assertThat(progress.description()).isEqualTo("Territories: 1/30"));
+    }
+
+    @Test
+    void playerEliminated_ShouldCompleteDestructionObjective() {
+        givenPlayers(
+                row(PLAYER_A, PlayerColor.RED, ObjectiveType.OCCUPATION, "Norte"),
+                row(PLAYER_B, PlayerColor.BLUE, ObjectiveType.COMMON, null),
+                row(PLAYER_C, PlayerColor.GREEN, ObjectiveType.DESTRUCTION, "BLUE"));
+        evaluator.winner(GAME_ID);
+
+        evaluator.playerEliminated(GAME_ID, PLAYER_B);
+
+        assertThat(evaluator.winner(GAME_ID)).contains(PLAYER_C);
+        assertThat(evaluator.progress(GAME_ID, PLAYER_C)).get()
+                .satisfies(progress -> assertThat(progress.description()).isEqualTo("Target eliminated!"));
+    }
+
+    @Test
+    void eliminatedPlayer_ShouldNotWin() {
+        Object[] eliminated = row(PLAYER_A, PlayerColor.RED, ObjectiveType.OCCUPATION, "Sur");
+        eliminated[1] = PlayerStatus.ELIMINATED;
+        givenPlayers(eliminated, row(PLAYER_B, PlayerColor.BLUE, ObjectiveType.COMMON, null));
+        evaluator.winner(GAME_ID);
+
+        evaluator.ownerChanged(GAME_ID, 1, PLAYER_B, PLAYER_A);
+
+        assertThat(evaluator.winner(GAME_ID)).isEmpty();
+        assertThat(evaluator.progress(GAME_ID, PLAYER_A)).get()
+                .satisfies(progress -> assertThat(progress.achieved()).isFalse());
+    }
+
+    @Test
+    void load_ShouldFallBackToCommonWhenTargetColorIsNotPlaying() {
+        givenPlayers(
+                row(PLAYER_A, PlayerColor.RED, ObjectiveType.DESTRUCTION, "BLACK"),
+                row(PLAYER_B, PlayerColor.BLUE, ObjectiveType.DESTRUCTION, "BLUE"));
+
+        assertThat(evaluator.progress(GAME_ID, PLAYER_A)).get()
+                .satisfies(progress -> {
+                    assertThat(progress.type()).isEqualTo(ObjectiveType.COMMON);
+                    assertThat(progress.description()).isEqualTo("Territories: 1/30");
+                });
+        assertThat(evaluator.progress(GAME_ID, PLAYER_B)).get()
+                .satisfies(progress -> assertThat(progress.type()).isEqualTo(ObjectiveType.COMMON));
+        assertThat(evaluator.winner(GAME_ID)).isEmpty();
+    }
+
+    @Test
+    void unknownContinent_ShouldNeverWin() {
+        givenPlayers(row(PLAYER_A, PlayerColor.RED, ObjectiveType.OCCUPATION, "Sur, Atlántida"));
+        evaluator.winner(GAME_ID);
+
+        evaluator.ownerChanged(GAME_ID, 1, PLAYER_B, PLAYER_A);
+
+        assertThat(evaluator.winner(GAME_ID)).isEmpty();
+    }
+
+    @Test
+    void ownershipEvicted_ShouldReloadOnNextQuery() {
+        givenPlayers(row(PLAYER_A, PlayerColor.RED, ObjectiveType.COMMON, null));
+        evaluator.winner(GAME_ID);
+
+        evaluator.ownershipEvicted(GAME_ID);
+        assertThat(evaluator.cachedGames()).isZero();
+        evaluator.winner(GAME_ID);
+
+        verify(playerRepository, times(2)).findObjectiveRowsByGameId(GAME_ID);
+    }
+
+    private void givenPlayers(Object[]... rows) {
+        lenient().when(playerRepository.findObjectiveRowsByGameId(GAME_ID)).thenReturn(new ArrayList<>(List.of(rows)));
+    }
+
+    private static Object[] row(Long playerId, PlayerColor color, ObjectiveType type, String targetData) {
+        return new Object[]{playerId, PlayerStatus.ACTIVE, color, type, targetData};
+    }
+}
@@ -0,0 +1,134 @@
+package ar.edu.utn.frc.tup.piii.engine;
+
+import ar.edu.utn.frc.tup.piii.entities.ContinentEntity;
+import ar.edu.utn.frc.tup.piii.entities.CountryEntity;
+import ar.edu.utn.frc.tup.piii.repository.ContinentRepository;
+import ar.edu.utn.frc.tup.piii.repository.CountryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WorldMapTest {
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Mock
+    private ContinentRepository continentRepository;
+
+    @InjectMocks
+    private WorldMap worldMap;
+
+    @BeforeEach
+    void setUp() {
+        ContinentEntity america = continent(1L, "América del Sur", 3);
+        ContinentEntity africa = continent(2L, "África", 3);
+
+        // Se devuelven desordenados a propósito: el índice denso debe seguir el orden de ID
+        List<CountryEntity> countries = List.of(
+                country(3L, "CHILE", america),
+                country(1L, "ARGENTINA", america),
+                country(2L, "BRASIL", america),
+                country(4L, "SAHARA", africa),
+                country(5L, "EGIPTO", africa));
+
+        // Fronteras cargadas en un solo sentido, como en data.sql
+        List<Object[]> pairs = new ArrayList<>();
+        pairs.add(new Object[]{1L, 2L});
+        pairs.add(new Object[]{1L, 3L});
+        pairs.add(new Object[]{2L, 4L});
+        pairs.add(new Object[]{5L, 4L});
+
+        when(countryRepository.findAll()).thenReturn(countries);
+        when(continentRepository.findAll()).thenReturn(List.of(africa, america));
+        when(countryRepository.findAllNeighborPairs()).thenReturn(pairs);
+    }
+
+    @Test
+    void indexOf_ShouldAssignDenseIndexesOrderedById() {
+        assertThat(worldMap.size()).isEqualTo(5);
+        assertThat(worldMap.indexOf(1L)).isZero();
+        assertThat(worldMap.indexOf(5L)).isEqualTo(4);
+        assertThat(worldMap.countryIdAt(2)).isEqualTo(3L);
+        assertThat(worldMap.countryNameAt(0)).isEqualTo("ARGENTINA");
+        assertThat(worldMap.indexOf(99L)).isEqualTo(-1);
+        assertThat(worldMap.indexOf(null)).isEqualTo(-1);
+    }
+
+    @Test
+    void areNeighbors_ShouldBeSymmetric() {
+        assertThat(worldMap.areNeighbors(1L, 2L)).isTrue();
+        assertThat(worldMap.areNeighbors(2L, 1L)).isTrue();
+        assertThat(worldMap.areNeighbors(4L, 5L)).isTrue();
+        assertThat(worldMap.areNeighbors(1L, 4L)).isFalse();
+        assertThat(worldMap.areNeighbors(1L, 99L)).isFalse();
+    }
+
+    @Test
+    void neighborIdsOf_ShouldIncludeDirectAndInverseNeighbors() {
+        assertThat(worldMap.neighborIdsOf(2L)).containsExactlyInAnyOrder(1L, 4L);
+        assertThat(worldMap.neighborIdsOf(4L)).containsExactlyInAnyOrder(2L, 5L);
+        assertThat(worldMap.neighborIdsOf(99L)).isEmpty();
+    }
+
+    @Test
+    void continents_ShouldExposeMembershipAndBonus() {
+        int america = worldMap.continentIndexOf("América del Sur");
+        int africa = worldMap.continentIndexOf("África");
+
+        assertThat(worldMap.continentCount()).isEqualTo(2);
+        assertThat(worldMap.continentOf(worldMap.indexOf(3L))).isEqualTo(america);
+        assertThat(worldMap.continentOf(worldMap.indexOf(5L))).isEqualTo(africa);
+        assertThat(worldMap.continentSize(america)).isEqualTo(3);
+        assertThat(worldMap.continentBonusAt(africa)).isEqualTo(3);
+        assertThat(BitSets.cardinality(worldMap.continentMask(africa))).isEqualTo(2);
+        assertThat(worldMap.continentIndexOf("Atlántida")).isEqualTo(-1);
+    }
+
+    @Test
+    void isConnectedThrough_ShouldOnlyWalkAllowedCountries() {
+        assertThat(worldMap.isConnectedThrough(3L, 5L, Set.of(1L, 2L, 3L, 4L, 5L))).isTrue();
+        assertThat(worldMap.isConnectedThrough(3L, 5L, Set.of(1L, 3L, 4L, 5L))).isFalse();
+        assertThat(worldMap.isConnectedThrough(3L, 5L, Set.of(1L, 2L, 3L, 4L))).isFalse();
+        assertThat(worldMap.isConnectedThrough(3L, 3L, Set.of(3L))).isTrue();
+    }
+
+    @Test
+    void graph_ShouldBeLoadedOnlyOnce() {
+        worldMap.warmUp();
+        worldMap.areNeighbors(1L, 2L);
+        worldMap.neighborIdsOf(3L);
+
+        verify(countryRepository, times(1)).findAll();
+        verify(countryRepository, times(1)).findAllNeighborPairs();
+    }
+
+    private static ContinentEntity continent(Long id, String name, int bonus) {
+        ContinentEntity continent = new ContinentEntity();
+        continent.setId(id);
+        continent.setName(name);
+        continent.setBonusArmies(bonus);
+        return continent;
+    }
+
+    private static CountryEntity country(Long id, String name, ContinentEntity continent) {
+        CountryEntity country = new CountryEntity();
+        country.setId(id);
+        country.setName(name);
+        country.setContinent(continent);
+        return country;
+    }
+}
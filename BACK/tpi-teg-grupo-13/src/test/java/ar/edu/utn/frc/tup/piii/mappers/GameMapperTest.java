@@ -1,5 +1,10 @@
 package ar.edu.utn.frc.tup.piii.mappers;
 
+import ar.edu.utn.frc.tup.piii.dtos.country.CountryResponseDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.GameStateDto;
+import ar.edu.utn.frc.tup.piii.dtos.player.PlayerResponseDto;
+import ar.edu.utn.frc.tup.piii.engine.HotGameStore;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
 import ar.edu.utn.frc.tup.piii.entities.*;
 import ar.edu.utn.frc.tup.piii.model.*;
 import ar.edu.utn.frc.tup.piii.model.enums.*;
@@ -14,9 +19,11 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +41,15 @@ class GameMapperTest {
     @Mock
     private ChatMessageMapper chatMessageMapper;
 
+    @Mock
+    private TerritoryMapper territoryMapper;
+
+    @Mock
+    private HotGameStore hotGameStore;
+
+    @Mock
+    private WorldMap worldMap;
+
     @InjectMocks
     private GameMapper gameMapper;
 
@@ -188,4 +204,69 @@ class GameMapperTest {
         assertThat(result.getChatMessages()).isEmpty();
     }
 
-}
\ No newline at end of file
+    @Test
+    void toModel_WithBoardPlan_ShouldSkipDeckEventsAndChat() {
+        // Given
+        when(worldMap.neighborIdsOf(1L)).thenReturn(Set.of(2L, 3L));
+
+        // When
+        Game result = gameMapper.toModel(gameEntity, GameFetchPlan.BOARD);
+
+        // Then
+        assertThat(result.getTerritories()).containsOnlyKeys(1L);
+        assertThat(result.getTerritories().get(1L).getNeighborIds()).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(result.getDeck()).isEmpty();
+        assertThat(result.getEvents()).isEmpty();
+        assertThat(result.getChatMessages()).isEmpty();
+        verifyNoInteractions(cardMapper, gameEventMapper, chatMessageMapper);
+    }
+
+    @Test
+    void toModel_WithLobbyPlan_ShouldOnlyMapPlayers() {
+        // Given
+        Player player = Player.builder().id(1L).build();
+        when(playerMapper.toModel(playerEntity)).thenReturn(player);
+
+        // When
+        Game result = gameMapper.toModel(gameEntity, GameFetchPlan.LOBBY);
+
+        // Then
+        assertThat(result.getPlayers()).containsExactly(player);
+        assertThat(result.getTerritories()).isEmpty();
+        verifyNoInteractions(worldMap, hotGameStore);
+    }
+
+    @Test
+    void toStateDto_ShouldMapBoardAndCurrentPlayer() {
+        // Given
+        Player ana = Player.builder().id(10L).displayName("Ana").build();
+        Player bot = Player.builder().id(20L).displayName("Bot #1").build();
+        Territory argentina = Territory.builder().id(1L).name("Argentina").ownerId(20L).armies(4).build();
+        Game replayed = Game.builder()
+                .id(1L)
+                .state(GameState.NORMAL_PLAY)
+                .currentPhase(TurnPhase.ATTACK)
+                .currentTurn(5)
+                .currentPlayerIndex(1)
+                .players(Arrays.asList(ana, bot))
+                .territories(Map.of(1L, argentina))
+                .build();
+        PlayerResponseDto botDto = PlayerResponseDto.builder().id(20L).build();
+        when(playerMapper.toResponseDto(ana)).thenReturn(PlayerResponseDto.builder().id(10L).build());
+        when(playerMapper.toResponseDto(bot)).thenReturn(botDto);
+        CountryResponseDto argentinaDto = new CountryResponseDto();
+        when(territoryMapper.toResponseDto(argentina)).thenReturn(argentinaDto);
+
+        // When
+        GameStateDto result = gameMapper.toStateDto(replayed);
+
+        // Then
+        assertThat(result.getGameId()).isEqualTo(1L);
+        assertThat(result.getCurrentTurn()).isEqualTo(5);
+        assertThat(result.getCurrentPlayerId()).isEqualTo(20L);
+        assertThat(result.getCurrentPlayerName()).isEqualTo("Bot #1");
+        assertThat(result.getPlayers()).hasSize(2).contains(botDto);
+        assertThat(result.getTerritories()).containsEntry(1L, argentinaDto);
+        assertThat(result.getIsGameOver()).isFalse();
+    }
+}
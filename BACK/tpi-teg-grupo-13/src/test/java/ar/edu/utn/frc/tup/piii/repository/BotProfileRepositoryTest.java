@@ -102,39 +102,8 @@ public class BotProfileRepositoryTest {
         assertThat(found).isEmpty();
     }
 
-    @Test
-    void findRandomBotsByLevel_ShouldReturnBotsOfSpecificLevel() {
-        List<BotProfileEntity> randomNoviceBots = botProfileRepository.findRandomBotsByLevel(BotLevel.NOVICE);
 
-        assertThat(randomNoviceBots).hasSize(2);
-        assertThat(randomNoviceBots).allMatch(bot -> bot.getLevel() == BotLevel.NOVICE);
-        // El orden puede variar por RAND(), pero el contenido debe ser el mismo
-        assertThat(randomNoviceBots).extracting(BotProfileEntity::getBotName)
-                .containsExactlyInAnyOrder("Bot Novato Agresivo", "Bot Novato Defensivo");
-    }
 
-    @Test
-    void findAllRandomOrder_ShouldReturnAllBotsInRandomOrder() {
-        List<BotProfileEntity> allRandomBots = botProfileRepository.findAllRandomOrder();
-
-        assertThat(allRandomBots).hasSize(4);
-        assertThat(allRandomBots).extracting(BotProfileEntity::getBotName)
-                .containsExactlyInAnyOrder(
-                        "Bot Novato Agresivo",
-                        "Bot Novato Defensivo",
-                        "Bot Equilibrado Agresivo",
-                        "Bot Experto Equilibrado"
-                );
-    }
-
-    @Test
-    void findRandomBotsByLevel_WhenNoBotsOfLevel_ShouldReturnEmpty() {
-        // No hay bots EXPERT con AGGRESSIVE, solo BALANCED
-        List<BotProfileEntity> randomExpertBots = botProfileRepository.findRandomBotsByLevel(BotLevel.EXPERT);
-
-        assertThat(randomExpertBots).hasSize(1);
-        assertThat(randomExpertBots.get(0).getLevel()).isEqualTo(BotLevel.EXPERT);
-    }
 
     @Test
     void findByLevel_WhenNoBotsOfLevel_ShouldReturnEmpty() {
@@ -174,15 +174,6 @@ public class CardRepositoryTest {
         assertThat(player1InfantryCards.get(0).getOwner().getId()).isEqualTo(player1.getId());
     }
 
-    @Test
-    void findAvailableCardsRandomOrder_ShouldReturnShuffledDeckCards() {
-        List<CardEntity> availableCards = cardRepository.findAvailableCardsRandomOrder(game);
-
-        assertThat(availableCards).hasSize(2);
-        assertThat(availableCards).allMatch(CardEntity::getIsInDeck);
-        assertThat(availableCards).allMatch(card -> card.getGame().getId().equals(game.getId()));
-    }
-
     @Test
     void countCardsByPlayer_ShouldReturnNumberOfCardsOwnedByPlayer() {
         Long player1CardCount = cardRepository.countCardsByPlayer(player1);
@@ -1,5 +1,6 @@
 package ar.edu.utn.frc.tup.piii.repository;
 
+import ar.edu.utn.frc.tup.piii.engine.ChatMessageIdAllocator;
 import ar.edu.utn.frc.tup.piii.entities.ChatMessageEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -21,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(ChatMessageIdAllocator.class)
 public class ChatMessageRepositoryTest {
 
     @Autowired
@@ -29,6 +32,9 @@ public class ChatMessageRepositoryTest {
     @Autowired
     private ChatMessageRepository chatMessageRepository;
 
+    @Autowired
+    private ChatMessageIdAllocator chatMessageIdAllocator;
+
     private UserEntity user1;
     private UserEntity user2;
     private GameEntity game1;
@@ -233,4 +239,20 @@ public class ChatMessageRepositoryTest {
         assertThat(game1Messages).hasSize(4);
         assertThat(game1Messages).allMatch(msg -> msg.getGame().getId().equals(game1.getId()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void chatMessageIdAllocator_ShouldShareCounterWithPersistedMessages() {
+        long allocated = chatMessageIdAllocator.nextId();
+
+        ChatMessageEntity later = new ChatMessageEntity();
+        later.setSender(player2);
+        later.setGame(game1);
+        later.setContent("Después del bloque");
+        later.setSentAt(LocalDateTime.now());
+        later.setIsSystemMessage(false);
+        later = entityManager.persistAndFlush(later);
+
+        assertThat(allocated).isGreaterThan(Math.max(userMessage2.getId(), oldMessage.getId()));
+        assertThat(later.getId()).isGreaterThan(allocated);
+    }
+}
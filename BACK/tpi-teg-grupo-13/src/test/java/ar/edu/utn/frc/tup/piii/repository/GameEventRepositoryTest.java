@@ -0,0 +1,142 @@
+package ar.edu.utn.frc.tup.piii.repository;
+
+import ar.edu.utn.frc.tup.piii.entities.GameEntity;
+import ar.edu.utn.frc.tup.piii.entities.GameEventEntity;
+import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
+import ar.edu.utn.frc.tup.piii.entities.UserEntity;
+import ar.edu.utn.frc.tup.piii.model.enums.EventType;
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerColor;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+public class GameEventRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private GameEventRepository gameEventRepository;
+
+    private GameEntity game;
+    private PlayerEntity player1;
+    private PlayerEntity player2;
+    private final List<GameEventEntity> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        UserEntity user1 = user("user1");
+        UserEntity user2 = user("user2");
+
+        game = new GameEntity();
+        game.setGameCode("GAME001");
+        game.setCreatedBy(user1);
+        game.setStatus(GameState.NORMAL_PLAY);
+        game.setMaxPlayers(4);
+        game.setCreatedAt(LocalDateTime.now());
+        game.setLastModified(LocalDateTime.now());
+        game = entityManager.persistAndFlush(game);
+
+        GameEntity otherGame = new GameEntity();
+        otherGame.setGameCode("GAME002");
+        otherGame.setCreatedBy(user2);
+        otherGame.setStatus(GameState.NORMAL_PLAY);
+        otherGame.setMaxPlayers(4);
+        otherGame.setCreatedAt(LocalDateTime.now());
+        otherGame.setLastModified(LocalDateTime.now());
+        otherGame = entityManager.persistAndFlush(otherGame);
+
+        player1 = player(game, user1, PlayerColor.RED, 1);
+        player2 = player(game, user2, PlayerColor.BLUE, 2);
+
+        // Turnos 1..3, cada uno con un ataque de player1 y una conquista de player2
+        for (int turn = 1; turn <= 3; turn++) {
+            events.add(event(game, player1, EventType.ATTACK_PERFORMED, turn));
+            events.add(event(game, player2, EventType.TERRITORY_CONQUERED, turn));
+        }
+        event(otherGame, null, EventType.GAME_STARTED, 1);
+        entityManager.clear();
+    }
+
+    @Test
+    void findPage_ShouldWalkHistoryNewestFirstByCursor() {
+        List<GameEventEntity> first = gameEventRepository.findPage(game.getId(), null, null, null, null, null,
+                PageRequest.of(0, 4));
+        List<GameEventEntity> second = gameEventRepository.findPage(game.getId(), first.get(3).getId(),
+                null, null, null, null, PageRequest.of(0, 4));
+
+        assertThat(first).extracting(GameEventEntity::getId).containsExactly(
+                events.get(5).getId(), events.get(4).getId(), events.get(3).getId(), events.get(2).getId());
+        assertThat(second).extracting(GameEventEntity::getId).containsExactly(
+                events.get(1).getId(), events.get(0).getId());
+        // El actor viene con su usuario, sin consultas extra al armar el nombre
+        assertThat(first.get(0).getActor().getUser().getUsername()).isEqualTo("user2");
+    }
+
+    @Test
+    void findPage_ShouldFilterByTypeActorAndTurnRange() {
+        List<GameEventEntity> attacks = gameEventRepository.findPage(game.getId(), null,
+                EventType.ATTACK_PERFORMED, null, null, null, PageRequest.of(0, 10));
+        List<GameEventEntity> byActor = gameEventRepository.findPage(game.getId(), null, null,
+                player2.getId(), null, null, PageRequest.of(0, 10));
+        List<GameEventEntity> byTurns = gameEventRepository.findPage(game.getId(), null, null, null,
+                2, 3, PageRequest.of(0, 10));
+
+        assertThat(attacks).hasSize(3).allMatch(e -> e.getType() == EventType.ATTACK_PERFORMED);
+        assertThat(byActor).hasSize(3).allMatch(e -> e.getActor().getId().equals(player2.getId()));
+        assertThat(byTurns).extracting(GameEventEntity::getTurnNumber).containsExactly(3, 3, 2, 2);
+    }
+
+    @Test
+    void findByGameIdAndActorId_ShouldOnlyReturnEventsOfThatGame() {
+        List<GameEventEntity> result = gameEventRepository.findByGameIdAndActorIdOrderByIdDesc(
+                game.getId(), player1.getId());
+
+        assertThat(result).extracting(GameEventEntity::getId).containsExactly(
+                events.get(4).getId(), events.get(2).getId(), events.get(0).getId());
+    }
+
+    private UserEntity user(String username) {
+        UserEntity user = new UserEntity();
+        user.setUsername(username);
+        user.setEmail(username + "@test.com");
+        user.setPasswordHash("hash");
+        user.setIsActive(true);
+        return entityManager.persistAndFlush(user);
+    }
+
+    private PlayerEntity player(GameEntity game, UserEntity user, PlayerColor color, int seatOrder) {
+        PlayerEntity player = new PlayerEntity();
+        player.setGame(game);
+        player.setUser(user);
+        player.setColor(color);
+        player.setStatus(PlayerStatus.ACTIVE);
+        player.setSeatOrder(seatOrder);
+        player.setJoinedAt(LocalDateTime.now());
+        return entityManager.persistAndFlush(player);
+    }
+
+    private GameEventEntity event(GameEntity game, PlayerEntity actor, EventType type, int turn) {
+        GameEventEntity event = new GameEventEntity();
+        event.setGame(game);
+        event.setActor(actor);
+        event.setType(type);
+        event.setTurnNumber(turn);
+        event.setTimestamp(LocalDateTime.now());
+        return entityManager.persistAndFlush(event);
+    }
+}
@@ -3,9 +3,11 @@ package ar.edu.utn.frc.tup.piii.repository;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
 import ar.edu.utn.frc.tup.piii.entities.UserEntity;
+import ar.edu.utn.frc.tup.piii.model.enums.GameFetchPlan;
 import ar.edu.utn.frc.tup.piii.model.enums.GameState;
 import ar.edu.utn.frc.tup.piii.model.enums.PlayerColor;
 import ar.edu.utn.frc.tup.piii.model.enums.PlayerStatus;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -168,4 +170,27 @@ public class GameRepositoryTest {
         assertThat(user1Games).extracting(GameEntity::getGameCode)
                 .containsExactly("PAUS001", "WAIT001"); // Orden descendente por fecha
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByGameCodeWithPlan_ShouldInitializeOnlyThePlannedCollections() {
+        entityManager.clear();
+
+        GameEntity board = gameRepository.findByGameCode("ACTV001", GameFetchPlan.BOARD).orElseThrow();
+
+        assertThat(Hibernate.isInitialized(board.getPlayers())).isTrue();
+        assertThat(board.getPlayers()).hasSize(6);
+        assertThat(board.getPlayers()).allMatch(p -> Hibernate.isInitialized(p.getHand())
+                && Hibernate.isInitialized(p.getTerritories())
+                && Hibernate.isInitialized(p.getUser()));
+        assertThat(Hibernate.isInitialized(board.getTerritories())).isTrue();
+        assertThat(Hibernate.isInitialized(board.getDeck())).isFalse();
+        assertThat(Hibernate.isInitialized(board.getEvents())).isFalse();
+
+        entityManager.clear();
+        GameEntity full = gameRepository.findByGameCode("ACTV001", GameFetchPlan.FULL).orElseThrow();
+
+        assertThat(Hibernate.isInitialized(full.getDeck())).isTrue();
+        assertThat(Hibernate.isInitialized(full.getEvents())).isTrue();
+        assertThat(Hibernate.isInitialized(full.getChatMessages())).isTrue();
+    }
+}
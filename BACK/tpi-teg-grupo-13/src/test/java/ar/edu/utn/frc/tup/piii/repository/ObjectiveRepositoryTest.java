@@ -119,45 +119,8 @@ public class ObjectiveRepositoryTest {
         assertThat(secretObjectives).allMatch(obj -> !obj.getIsCommon());
     }
 
-    @Test
-    void findRandomOccupationObjectives_ShouldReturnOccupationObjectivesInRandomOrder() {
-        List<ObjectiveEntity> randomOccupation = objectiveRepository.findRandomOccupationObjectives();
-
-        assertThat(randomOccupation).hasSize(2);
-        assertThat(randomOccupation).allMatch(obj -> obj.getType() == ObjectiveType.OCCUPATION);
-        // El orden puede variar por RAND(), pero el contenido debe ser el mismo
-        assertThat(randomOccupation).extracting(ObjectiveEntity::getDescription)
-                .containsExactlyInAnyOrder(
-                        "Ocupar África y 5 países de América del Norte",
-                        "Ocupar América del Sur y 7 países de Europa"
-                );
-    }
 
-    @Test
-    void findRandomDestructionObjectives_ShouldReturnDestructionObjectivesInRandomOrder() {
-        List<ObjectiveEntity> randomDestruction = objectiveRepository.findRandomDestructionObjectives();
 
-        assertThat(randomDestruction).hasSize(2);
-        assertThat(randomDestruction).allMatch(obj -> obj.getType() == ObjectiveType.DESTRUCTION);
-        assertThat(randomDestruction).extracting(ObjectiveEntity::getDescription)
-                .containsExactlyInAnyOrder(
-                        "Destruir el ejército azul",
-                        "Destruir el ejército rojo"
-                );
-    }
-
-    @Test
-    void findRandomSecretObjectives_ShouldReturnNonCommonObjectivesInRandomOrder() {
-        List<ObjectiveEntity> randomSecret = objectiveRepository.findRandomSecretObjectives();
-
-        assertThat(randomSecret).hasSize(4);
-        assertThat(randomSecret).allMatch(obj -> !obj.getIsCommon());
-        assertThat(randomSecret).extracting(ObjectiveEntity::getType)
-                .containsExactlyInAnyOrder(
-                        ObjectiveType.OCCUPATION, ObjectiveType.OCCUPATION,
-                        ObjectiveType.DESTRUCTION, ObjectiveType.DESTRUCTION
-                );
-    }
 
     @Test
     void findByType_WhenNoObjectivesOfType_ShouldReturnEmpty() {
@@ -168,28 +131,4 @@ public class ObjectiveRepositoryTest {
         assertThat(commonTypeNonCommon).hasSize(1);
         assertThat(commonTypeNonCommon.get(0).getIsCommon()).isTrue();
     }
-
-    @Test
-    void findRandomOccupationObjectives_WhenNoOccupationObjectives_ShouldReturnEmpty() {
-        // Eliminar objetivos de ocupación para probar caso vacío
-        objectiveRepository.delete(occupationObjective1);
-        objectiveRepository.delete(occupationObjective2);
-        entityManager.flush();
-
-        List<ObjectiveEntity> randomOccupation = objectiveRepository.findRandomOccupationObjectives();
-
-        assertThat(randomOccupation).isEmpty();
-    }
-
-    @Test
-    void findRandomDestructionObjectives_WhenNoDestructionObjectives_ShouldReturnEmpty() {
-        // Eliminar objetivos de destrucción para probar caso vacío
-        objectiveRepository.delete(destructionObjective1);
-        objectiveRepository.delete(destructionObjective2);
-        entityManager.flush();
-
-        List<ObjectiveEntity> randomDestruction = objectiveRepository.findRandomDestructionObjectives();
-
-        assertThat(randomDestruction).isEmpty();
-    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package ar.edu.utn.frc.tup.piii.service.impl;
 import ar.edu.utn.frc.tup.piii.FactoryBots.BotStrategyExecutor;
 import ar.edu.utn.frc.tup.piii.FactoryBots.BotStrategyFactory;
 import ar.edu.utn.frc.tup.piii.dtos.game.GameResponseDto;
+import ar.edu.utn.frc.tup.piii.engine.ReferenceDataCache;
 import ar.edu.utn.frc.tup.piii.entities.BotProfileEntity;
 import ar.edu.utn.frc.tup.piii.entities.CountryEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
@@ -13,8 +14,10 @@ import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.Player;
 import ar.edu.utn.frc.tup.piii.model.enums.BotLevel;
 import ar.edu.utn.frc.tup.piii.model.enums.BotStrategy;
+import ar.edu.utn.frc.tup.piii.model.enums.GameFetchPlan;
 import ar.edu.utn.frc.tup.piii.model.enums.GameState;
 import ar.edu.utn.frc.tup.piii.repository.BotProfileRepository;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameStateService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.PlayerService;
@@ -44,6 +47,9 @@ class BotServiceImplTest {
     @Mock
     private BotProfileRepository botProfileRepository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @Mock
     private PlayerService playerService;
 
@@ -59,6 +65,9 @@ class BotServiceImplTest {
     @Mock
     private PlayerMapper playerMapper;
 
+    @Mock
+    private GameRepository gameRepository;
+
     @InjectMocks
     private BotServiceImpl botService;
 
@@ -147,12 +156,13 @@ class BotServiceImplTest {
 
         assertEquals(botProfile, result);
         verify(botProfileRepository, times(1)).save(botProfile);
+        verify(referenceDataCache).evictBotProfiles();
     }
 
     @Test
     void testFindById() {
         BotProfileEntity botProfile = new BotProfileEntity();
-        when(botProfileRepository.findById(1L)).thenReturn(Optional.of(botProfile));
+        when(referenceDataCache.botProfile(1L)).thenReturn(Optional.of(botProfile));
 
         Optional<BotProfileEntity> result = botService.findById(1L);
 
@@ -164,13 +174,14 @@ class BotServiceImplTest {
     void testDeleteById() {
         botService.deleteById(10L);
         verify(botProfileRepository).deleteById(10L);
+        verify(referenceDataCache).evictBotProfiles();
     }
 
     @Test
     void testFindByLevel() {
         BotLevel level = BotLevel.BALANCED;
         List<BotProfileEntity> expectedList = List.of(new BotProfileEntity());
-        when(botProfileRepository.findByLevel(level)).thenReturn(expectedList);
+        when(referenceDataCache.botProfilesByLevel(level)).thenReturn(expectedList);
 
         List<BotProfileEntity> result = botService.findByLevel(level);
 
@@ -269,17 +280,17 @@ class BotServiceImplTest {
     @Test
     void testFindAll() {
         List<BotProfileEntity> expectedList = Arrays.asList(new BotProfileEntity(), new BotProfileEntity());
-        when(botProfileRepository.findAll()).thenReturn(expectedList);
+        when(referenceDataCache.botProfiles()).thenReturn(expectedList);
 
         List<BotProfileEntity> result = botService.findAll();
 
         assertEquals(2, result.size());
-        verify(botProfileRepository).findAll();
+        verify(referenceDataCache).botProfiles();
     }
 
     @Test
     void testFindById_NotFound() {
-        when(botProfileRepository.findById(999L)).thenReturn(Optional.empty());
+        when(referenceDataCache.botProfile(999L)).thenReturn(Optional.empty());
 
         Optional<BotProfileEntity> result = botService.findById(999L);
 
@@ -460,7 +471,7 @@ class BotServiceImplTest {
         when(gameService.findByGameCode(gameCode)).thenReturn(gameModel);
         when(gameStateService.isPlayerTurn(gameModel, botId)).thenReturn(true);
         when(playerMapper.toEntity(validBotPlayer)).thenReturn(botPlayer);
-        when(gameMapper.toEntity(gameModel)).thenReturn(game);
+        when(gameRepository.findByGameCode(gameCode, GameFetchPlan.FULL)).thenReturn(Optional.of(game));
         when(botStrategyFactory.getExecutor(any())).thenReturn(botStrategyExecutor);
         when(gameService.save(gameModel)).thenReturn(gameModel);
         when(gameMapper.toResponseDto(gameModel)).thenReturn(gameResponseDto);
@@ -2,6 +2,9 @@ package ar.edu.utn.frc.tup.piii.service.impl;
 
 import ar.edu.utn.frc.tup.piii.dtos.card.CardResponseDto;
 import ar.edu.utn.frc.tup.piii.dtos.card.CardTradeDto;
+import ar.edu.utn.frc.tup.piii.engine.GameChange;
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
 import ar.edu.utn.frc.tup.piii.entities.CardEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
@@ -59,6 +62,12 @@ class CardServiceImplTest {
     @Mock
     private PlayerMapper playerMapper;
 
+    @Mock
+    private GameEventStore gameEventStore;
+
+    @Mock
+    private GameRandom gameRandom;
+
     @InjectMocks
     private CardServiceImpl cardService;
 
@@ -105,6 +114,7 @@ class CardServiceImplTest {
         gameEntity = new GameEntity();
         gameEntity.setId(1L);
         gameEntity.setGameCode("TEST123");
+        cardEntity.setGame(gameEntity);
 
         cardResponseDto = CardResponseDto.builder()
                 .id(1L)
@@ -270,6 +280,7 @@ class CardServiceImplTest {
         availableCardEntity.setId(2L);
         availableCardEntity.setType(CardType.CAVALRY);
         availableCardEntity.setIsInDeck(true);
+        availableCardEntity.setGame(gameEntity);
 
         when(gameMapper.toEntity(game)).thenReturn(gameEntity);
         when(cardRepository.findByGameAndIsInDeckTrue(gameEntity)).thenReturn(Arrays.asList(availableCardEntity));
@@ -304,6 +315,7 @@ class CardServiceImplTest {
         verify(cardRepository).save(cardEntity);
         assertThat(cardEntity.getOwner()).isEqualTo(playerEntity);
         assertThat(cardEntity.getIsInDeck()).isFalse();
+        verify(gameEventStore).append(1L, new GameChange.CardDrawn(1L, 1L));
     }
 
     @Test
@@ -332,6 +344,7 @@ class CardServiceImplTest {
         assertThat(tradeValue).isEqualTo(4); // Primera trade: 1 * 3 + 1 = 4
         verify(playerRepository).save(playerEntity);
         assertThat(playerEntity.getTradeCount()).isEqualTo(1);
+        verify(gameEventStore).append(1L, new GameChange.CardsTraded(1L, List.of(1L, 2L, 3L), 4));
     }
 
     @Test
@@ -535,7 +548,7 @@ class CardServiceImplTest {
                 .build();
 
         when(gameMapper.toEntity(game)).thenReturn(gameEntity);
-        when(cardRepository.findAvailableCardsRandomOrder(gameEntity))
+        when(cardRepository.findByGameAndIsInDeckTrue(gameEntity))
                 .thenReturn(Arrays.asList(randomCardEntity));
         when(cardMapper.toModel(randomCardEntity)).thenReturn(randomCard);
 
@@ -548,7 +561,7 @@ class CardServiceImplTest {
     @Test
     void testGetRandomCardNoAvailableCards() {
         when(gameMapper.toEntity(game)).thenReturn(gameEntity);
-        when(cardRepository.findAvailableCardsRandomOrder(gameEntity))
+        when(cardRepository.findByGameAndIsInDeckTrue(gameEntity))
                 .thenReturn(Collections.emptyList());
 
         assertThatThrownBy(() -> cardService.getRandomCard(game))
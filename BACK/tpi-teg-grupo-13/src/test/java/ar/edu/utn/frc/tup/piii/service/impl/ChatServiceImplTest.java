@@ -2,19 +2,17 @@ package ar.edu.utn.frc.tup.piii.service.impl;
 
 import ar.edu.utn.frc.tup.piii.dtos.chat.ChatMessageDto;
 import ar.edu.utn.frc.tup.piii.dtos.chat.ChatMessageResponseDto;
+import ar.edu.utn.frc.tup.piii.engine.ChatBuffer;
+import ar.edu.utn.frc.tup.piii.engine.ChatMessageWriter;
 import ar.edu.utn.frc.tup.piii.entities.ChatMessageEntity;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
 import ar.edu.utn.frc.tup.piii.entities.UserEntity;
 import ar.edu.utn.frc.tup.piii.mappers.ChatMessageMapper;
-import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
-import ar.edu.utn.frc.tup.piii.mappers.PlayerMapper;
 import ar.edu.utn.frc.tup.piii.model.ChatMessage;
-import ar.edu.utn.frc.tup.piii.model.Game;
-import ar.edu.utn.frc.tup.piii.model.Player;
-import ar.edu.utn.frc.tup.piii.model.User;
+import ar.edu.utn.frc.tup.piii.model.enums.GameStreamEventType;
 import ar.edu.utn.frc.tup.piii.repository.ChatMessageRepository;
-import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStreamService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +28,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -40,16 +39,13 @@ class ChatServiceImplTest {
     private ChatMessageRepository chatMessageRepository;
 
     @Mock
-    private PlayerServiceImpl playerService;
+    private ChatBuffer chatBuffer;
 
     @Mock
-    private GameService gameService;
+    private ChatMessageWriter chatMessageWriter;
 
     @Mock
-    private PlayerMapper playerMapper;
-
-    @Mock
-    private GameMapper gameMapper;
+    private GameStreamService gameStreamService;
 
     @Mock
     private ChatMessageMapper chatMessageMapper;
@@ -59,12 +55,6 @@ class ChatServiceImplTest {
 
     private String gameCode;
     private ChatMessageDto messageDto;
-    private Game game;
-    private GameEntity gameEntity;
-    private Player player;
-    private PlayerEntity playerEntity;
-    private User user;
-    private UserEntity userEntity;
     private ChatMessage chatMessage;
     private ChatMessageEntity chatMessageEntity;
     private ChatMessageResponseDto responseDto;
@@ -77,35 +67,17 @@ class ChatServiceImplTest {
         messageDto.setSenderId(1L);
         messageDto.setContent("Test message");
 
-        game = new Game();
-        game.setId(1L);
-        game.setGameCode(gameCode);
-
-        gameEntity = new GameEntity();
+        GameEntity gameEntity = new GameEntity();
         gameEntity.setId(1L);
         gameEntity.setGameCode(gameCode);
-        gameEntity.setChatMessages(new ArrayList<>());
-
-        user = new User();
-        user.setId(1L);
-        user.setEmail("as@gmail.com");
-        user.setUsername("Test Player");
-        user.setPasswordHash("password");
 
-        userEntity = new UserEntity();
+        UserEntity userEntity = new UserEntity();
         userEntity.setId(1L);
-        userEntity.setUsername(user.getUsername());
-        userEntity.setEmail(user.getEmail());
-        userEntity.setPasswordHash(user.getPasswordHash());
+        userEntity.setUsername("TestPlayer");
 
-        player = new Player();
-        player.setId(1L);
-        player.setUsername("TestPlayer");
-
-        playerEntity = new PlayerEntity();
+        PlayerEntity playerEntity = new PlayerEntity();
         playerEntity.setId(1L);
         playerEntity.setUser(userEntity);
-        playerEntity.getUser().setUsername("TestPlayer");
 
         chatMessage = new ChatMessage();
         chatMessage.setId(1L);
@@ -130,13 +102,8 @@ class ChatServiceImplTest {
     @Test
     void sendMessage_Success() {
         // Given
-        when(gameService.findByGameCode(gameCode)).thenReturn(game);
-        when(gameMapper.toEntity(game)).thenReturn(gameEntity);
-        when(playerService.findById(1L)).thenReturn(Optional.of(player));
-        when(playerMapper.toEntity(player)).thenReturn(playerEntity);
-        when(chatMessageMapper.toModel(any(ChatMessageEntity.class))).thenReturn(chatMessage);
-        when(chatMessageMapper.toResponseDto(chatMessage)).thenReturn(responseDto);
-        when(chatMessageRepository.save(any(ChatMessageEntity.class))).thenReturn(chatMessageEntity);
+        when(chatBuffer.append(gameCode, 1L, "Test message")).thenReturn(responseDto);
+        when(chatBuffer.gameId(gameCode)).thenReturn(1L);
 
         // When
         ChatMessageResponseDto result = chatService.sendMessage(gameCode, messageDto);
@@ -144,16 +111,15 @@ class ChatServiceImplTest {
         // Then
         assertNotNull(result);
         assertEquals("Test message", result.getContent());
-        verify(chatMessageRepository).save(any(ChatMessageEntity.class));
-        verify(gameService).findByGameCode(gameCode);
-        verify(playerService).findById(1L);
+        verify(gameStreamService).publish(1L, GameStreamEventType.CHAT_MESSAGE, 1L, responseDto);
+        verifyNoInteractions(chatMessageRepository);
     }
 
     @Test
     void sendMessage_GameNotFound_ThrowsException() {
         // Given
-        when(gameService.findByGameCode(gameCode)).thenReturn(game);
-        when(gameMapper.toEntity(game)).thenReturn(null);
+        when(chatBuffer.append(gameCode, 1L, "Test message"))
+                .thenThrow(new IllegalArgumentException("Game not found with code: " + gameCode));
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
@@ -161,14 +127,14 @@ class ChatServiceImplTest {
                 () -> chatService.sendMessage(gameCode, messageDto)
         );
         assertEquals("Game not found with code: " + gameCode, exception.getMessage());
+        verifyNoInteractions(gameStreamService);
     }
 
     @Test
     void sendMessage_PlayerNotFound_ThrowsException() {
         // Given
-        when(gameService.findByGameCode(gameCode)).thenReturn(game);
-        when(gameMapper.toEntity(game)).thenReturn(gameEntity);
-        when(playerService.findById(1L)).thenReturn(Optional.empty());
+        when(chatBuffer.append(gameCode, 1L, "Test message"))
+                .thenThrow(new IllegalArgumentException("Sender not found with id: " + messageDto.getSenderId()));
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
@@ -176,14 +142,43 @@ class ChatServiceImplTest {
                 () -> chatService.sendMessage(gameCode, messageDto)
         );
         assertEquals("Sender not found with id: " + messageDto.getSenderId(), exception.getMessage());
+        verifyNoInteractions(gameStreamService);
+    }
+
+    @Test
+    void getNewMessages_FromBuffer_DoesNotQueryRepository() {
+        // Given
+        when(chatBuffer.since(gameCode, null)).thenReturn(Optional.of(List.of(responseDto)));
+
+        // When
+        List<ChatMessageResponseDto> result = chatService.getNewMessages(gameCode, null);
+
+        // Then
+        assertEquals(List.of(responseDto), result);
+        verifyNoInteractions(chatMessageRepository, chatMessageWriter);
+    }
+
+    @Test
+    void getNewMessages_WithSinceId_ReturnsNewMessages() {
+        // Given
+        when(chatBuffer.since(gameCode, 5L)).thenReturn(Optional.of(List.of(responseDto)));
+
+        // When
+        List<ChatMessageResponseDto> result = chatService.getNewMessages(gameCode, "5");
+
+        // Then
+        assertNotNull(result);
+        assertEquals(1, result.size());
+        verifyNoInteractions(chatMessageRepository);
     }
 
     @Test
     void getNewMessages_FirstCall_ReturnsAllMessages() {
         // Given
         List<ChatMessageEntity> entities = Arrays.asList(chatMessageEntity);
-        when(gameService.findByGameCode(gameCode)).thenReturn(game);
-        when(chatMessageRepository.findByGameIdOrderBySentAtAsc(game.getId())).thenReturn(entities);
+        when(chatBuffer.since(gameCode, null)).thenReturn(Optional.empty());
+        when(chatBuffer.gameId(gameCode)).thenReturn(1L);
+        when(chatMessageRepository.findByGameIdOrderBySentAtAsc(1L)).thenReturn(entities);
         when(chatMessageMapper.toModel(chatMessageEntity)).thenReturn(chatMessage);
         when(chatMessageMapper.toResponseDto(chatMessage)).thenReturn(responseDto);
 
@@ -194,33 +189,36 @@ class ChatServiceImplTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("Test message", result.get(0).getContent());
-        verify(chatMessageRepository).findByGameIdOrderBySentAtAsc(game.getId());
+        // Lo encolado se escribe antes de leer la base
+        var order = inOrder(chatMessageWriter, chatMessageRepository);
+        order.verify(chatMessageWriter).flush();
+        order.verify(chatMessageRepository).findByGameIdOrderBySentAtAsc(1L);
     }
 
     @Test
-    void getNewMessages_WithSinceId_ReturnsNewMessages() {
+    void getNewMessages_WithSinceIdOutsideBuffer_QueriesRepository() {
         // Given
-        String sinceId = "5";
         List<ChatMessageEntity> entities = Arrays.asList(chatMessageEntity);
-        when(gameService.findByGameCode(gameCode)).thenReturn(game);
-        when(chatMessageRepository.findByGameIdAndIdGreaterThanOrderBySentAtAsc(game.getId(), 5L))
-                .thenReturn(entities);
+        when(chatBuffer.since(gameCode, 5L)).thenReturn(Optional.empty());
+        when(chatBuffer.gameId(gameCode)).thenReturn(1L);
+        when(chatMessageRepository.findByGameIdAndIdGreaterThanOrderBySentAtAsc(1L, 5L)).thenReturn(entities);
         when(chatMessageMapper.toModel(chatMessageEntity)).thenReturn(chatMessage);
         when(chatMessageMapper.toResponseDto(chatMessage)).thenReturn(responseDto);
 
         // When
-        List<ChatMessageResponseDto> result = chatService.getNewMessages(gameCode, sinceId);
+        List<ChatMessageResponseDto> result = chatService.getNewMessages(gameCode, "5");
 
         // Then
-        assertNotNull(result);
         assertEquals(1, result.size());
-        verify(chatMessageRepository).findByGameIdAndIdGreaterThanOrderBySentAtAsc(game.getId(), 5L);
+        verify(chatMessageWriter).flush();
+        verify(chatMessageRepository).findByGameIdAndIdGreaterThanOrderBySentAtAsc(1L, 5L);
     }
 
     @Test
     void getNewMessages_GameNotFound_ThrowsException() {
         // Given
-        when(gameService.findByGameCode(gameCode)).thenReturn(null);
+        when(chatBuffer.since(gameCode, null))
+                .thenThrow(new IllegalArgumentException("Game not found with code: " + gameCode));
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
@@ -230,12 +228,18 @@ class ChatServiceImplTest {
         assertEquals("Game not found with code: " + gameCode, exception.getMessage());
     }
 
+    @Test
+    void getNewMessages_InvalidSinceId_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> chatService.getNewMessages(gameCode, "abc"));
+        verifyNoInteractions(chatBuffer);
+    }
+
     @Test
     void getNewMessages_EmptyResult_ReturnsEmptyList() {
         // Given
-        when(gameService.findByGameCode(gameCode)).thenReturn(game);
-        when(chatMessageRepository.findByGameIdOrderBySentAtAsc(game.getId()))
-                .thenReturn(new ArrayList<>());
+        when(chatBuffer.since(gameCode, null)).thenReturn(Optional.empty());
+        when(chatBuffer.gameId(gameCode)).thenReturn(1L);
+        when(chatMessageRepository.findByGameIdOrderBySentAtAsc(1L)).thenReturn(new ArrayList<>());
 
         // When
         List<ChatMessageResponseDto> result = chatService.getNewMessages(gameCode, null);
@@ -243,6 +247,6 @@ class ChatServiceImplTest {
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
+        verify(chatMessageRepository, never()).findByGameIdAndIdGreaterThanOrderBySentAtAsc(anyLong(), any());
     }
 }
-
@@ -1,15 +1,23 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
 import ar.edu.utn.frc.tup.piii.dtos.game.AttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzAttackDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.BlitzResultDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.CombatResultDto;
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
+import ar.edu.utn.frc.tup.piii.engine.VictoryEvaluator;
 import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
 import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.Territory;
+import ar.edu.utn.frc.tup.piii.model.enums.BlitzStopReason;
 import ar.edu.utn.frc.tup.piii.model.enums.GameState;
 import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameStateService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameTerritoryService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStreamService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.IGameEventService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,8 +29,7 @@ import org.mockito.quality.Strictness;
 
 import java.util.Arrays;
 import java.util.List;
-import java.lang.reflect.Field;
-import java.util.Random;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -40,6 +47,21 @@ class CombatServiceImplTest {
     @Mock
     private GameStateService gameStateService;
 
+    @Mock
+    private GameStreamService gameStreamService;
+
+    @Mock
+    private IGameEventService gameEventService;
+
+    @Mock
+    private GameEventStore gameEventStore;
+
+    @Mock
+    private GameRandom gameRandom;
+
+    @Mock
+    private VictoryEvaluator victoryEvaluator;
+
     @Spy
     @InjectMocks
     private CombatServiceImpl combatService;
@@ -316,7 +338,7 @@ class CombatServiceImplTest {
     }
 
     @Test
-    void testPerformCombat_TerritoryConquered() throws Exception {
+    void testPerformCombat_TerritoryConquered() {
         // Arrange
         defenderTerritory.setArmies(1); // Will be conquered with one loss
         when(gameService.findByGameCode("TEST123")).thenReturn(testGame);
@@ -336,14 +358,9 @@ class CombatServiceImplTest {
             .thenReturn(conqueredDefender); // Second call: after losses, 0 armies
         when(gameTerritoryService.areTerritoriesNeighbors(1L, 2L)).thenReturn(true);
         
-        // Mock the Random field to control dice rolls
-        Field randomField = CombatServiceImpl.class.getDeclaredField("random");
-        randomField.setAccessible(true);
-        Random mockRandom = org.mockito.Mockito.mock(Random.class);
         // Make attacker always roll high (6,5,4) and defender always roll low (1)
         // nextInt(6) returns 0-5, so we add 1 to get 1-6
-        org.mockito.Mockito.when(mockRandom.nextInt(6)).thenReturn(5, 4, 3, 0, 0, 0); // 6,5,4,1,1,1
-        randomField.set(combatService, mockRandom);
+        setRandom(5, 4, 3, 0, 0, 0); // 6,5,4,1,1,1
 
         // Act
         CombatResultDto result = combatService.performCombat("TEST123", attackDto);
@@ -358,6 +375,7 @@ class CombatServiceImplTest {
         System.out.println("Defender losses: " + result.getDefenderLosses());
         assertTrue(result.getTerritoryConquered());
         verify(gameTerritoryService).transferTerritoryOwnership(eq(1L), eq(2L), eq(1L), anyInt());
+        verify(gameEventService).recordTerritoryConquest(eq(1L), eq(1L), any(), any(), any());
     }
 
     @Test
@@ -376,4 +394,99 @@ class CombatServiceImplTest {
         assertNotNull(result);
         verify(gameService).findByGameCode("TEST123");
     }
+
+    @Test
+    void testPerformBlitz_ConquersAndWritesTerritoriesOnce() {
+        attackerTerritory.setArmies(10);
+        defenderTerritory.setArmies(4);
+        when(gameService.findByGameCode("TEST123")).thenReturn(testGame);
+        when(gameTerritoryService.getTerritoryByGameAndCountry(1L, 1L)).thenReturn(attackerTerritory);
+        when(gameTerritoryService.getTerritoryByGameAndCountry(1L, 2L)).thenReturn(defenderTerritory);
+        when(gameTerritoryService.areTerritoriesNeighbors(1L, 2L)).thenReturn(true);
+        // Primera tirada 3 contra 3 (6,5,4 vs 1,1,1), segunda 3 contra 1 (6,5,4 vs 1)
+        setRandom(5, 4, 3, 0, 0, 0, 5, 4, 3, 0);
+
+        BlitzResultDto result = combatService.performBlitz("TEST123", BlitzAttackDto.builder()
+                .playerId(1L).attackerCountryId(1L).defenderCountryId(2L).build());
+
+        assertTrue(result.getTerritoryConquered());
+        assertEquals(BlitzStopReason.TERRITORY_CONQUERED, result.getStopReason());
+        assertEquals(2, result.getRolls().size());
+        assertEquals(Arrays.asList(6, 5, 4), result.getRolls().get(0).getAttackerDice());
+        assertEquals(1, result.getRolls().get(1).getDefenderDice().size());
+        assertEquals(0, result.getAttackerLosses());
+        assertEquals(4, result.getDefenderLosses());
+        assertEquals(9, result.getAttackerRemainingArmies());
+        assertEquals(1, result.getDefenderRemainingArmies());
+        // Los territorios se leen y se escriben una sola vez, sin importar cuántas tiradas haya
+        verify(gameTerritoryService, times(1)).getTerritoryByGameAndCountry(1L, 1L);
+        verify(gameTerritoryService, times(1)).getTerritoryByGameAndCountry(1L, 2L);
+        verify(gameTerritoryService).addArmiesToTerritory(1L, 1L, -1);
+        verify(gameTerritoryService).transferTerritoryOwnership(1L, 2L, 1L, 1);
+        verify(gameEventStore, times(2)).append(eq(1L), any());
+        verify(gameEventService).recordTerritoryConquest(eq(1L), eq(1L), any(), any(), any());
+    }
+
+    @Test
+    void testPerformBlitz_FinishesGameWhenObjectiveCompleted() {
+        attackerTerritory.setArmies(10);
+        defenderTerritory.setArmies(1);
+        when(gameService.findByGameCode("TEST123")).thenReturn(testGame);
+        when(gameTerritoryService.getTerritoryByGameAndCountry(1L, 1L)).thenReturn(attackerTerritory);
+        when(gameTerritoryService.getTerritoryByGameAndCountry(1L, 2L)).thenReturn(defenderTerritory);
+        when(gameTerritoryService.areTerritoriesNeighbors(1L, 2L)).thenReturn(true);
+        when(victoryEvaluator.winner(1L)).thenReturn(Optional.of(1L));
+        when(gameStateService.finishGame(testGame)).thenReturn(true);
+        setRandom(5, 4, 3, 0);
+
+        BlitzResultDto result = combatService.performBlitz("TEST123", BlitzAttackDto.builder()
+                .playerId(1L).attackerCountryId(1L).defenderCountryId(2L).build());
+
+        assertTrue(result.getTerritoryConquered());
+        verify(gameStateService).finishGame(testGame);
+        verify(gameService).save(testGame);
+    }
+
+    @Test
+    void testPerformBlitz_StopsAtThreshold() {
+        attackerTerritory.setArmies(6);
+        defenderTerritory.setArmies(5);
+        when(gameService.findByGameCode("TEST123")).thenReturn(testGame);
+        when(gameTerritoryService.getTerritoryByGameAndCountry(1L, 1L)).thenReturn(attackerTerritory);
+        when(gameTerritoryService.getTerritoryByGameAndCountry(1L, 2L)).thenReturn(defenderTerritory);
+        when(gameTerritoryService.areTerritoriesNeighbors(1L, 2L)).thenReturn(true);
+        // El defensor saca todo 6: el atacante pierde 3 por tirada
+        setRandom(0, 0, 0, 5, 5, 5);
+
+        BlitzResultDto result = combatService.performBlitz("TEST123", BlitzAttackDto.builder()
+                .playerId(1L).attackerCountryId(1L).defenderCountryId(2L).stopAtArmies(4).build());
+
+        assertFalse(result.getTerritoryConquered());
+        assertEquals(BlitzStopReason.STOP_THRESHOLD_REACHED, result.getStopReason());
+        assertEquals(1, result.getRolls().size());
+        assertEquals(3, result.getAttackerRemainingArmies());
+        assertEquals(5, result.getDefenderRemainingArmies());
+        verify(gameTerritoryService).addArmiesToTerritory(1L, 1L, -3);
+        verify(gameTerritoryService, never()).addArmiesToTerritory(eq(1L), eq(2L), anyInt());
+        verify(gameTerritoryService, never()).transferTerritoryOwnership(anyLong(), anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void testPerformBlitz_AttackerAlreadyAtThreshold() {
+        when(gameService.findByGameCode("TEST123")).thenReturn(testGame);
+        when(gameTerritoryService.getTerritoryByGameAndCountry(1L, 1L)).thenReturn(attackerTerritory);
+        when(gameTerritoryService.getTerritoryByGameAndCountry(1L, 2L)).thenReturn(defenderTerritory);
+        when(gameTerritoryService.areTerritoriesNeighbors(1L, 2L)).thenReturn(true);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                combatService.performBlitz("TEST123", BlitzAttackDto.builder()
+                        .playerId(1L).attackerCountryId(1L).defenderCountryId(2L).stopAtArmies(5).build()));
+        assertTrue(exception.getMessage().contains("stop threshold"));
+        verify(gameTerritoryService, never()).addArmiesToTerritory(anyLong(), anyLong(), anyInt());
+    }
+
+    private void setRandom(Integer first, Integer... rest) {
+        // nextInt(6) devuelve 0-5, el dado es ese valor + 1
+        when(gameRandom.nextInt(anyLong(), eq(GameRandom.Stream.DICE), eq(6))).thenReturn(first, rest);
+    }
 }
@@ -1,6 +1,9 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
 import ar.edu.utn.frc.tup.piii.dtos.game.FortifyDto;
+import ar.edu.utn.frc.tup.piii.engine.GameChange;
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
 import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.Territory;
 import ar.edu.utn.frc.tup.piii.model.enums.GameState;
@@ -25,6 +28,10 @@ public class FortificationServiceImplTest {
     private GameService gameService;
     @Mock
     private GameTerritoryService gameTerritoryService;
+    @Mock
+    private WorldMap worldMap;
+    @Mock
+    private GameEventStore gameEventStore;
     @InjectMocks
     private FortificationServiceImpl fortificationService;
 
@@ -48,13 +55,13 @@ public class FortificationServiceImplTest {
         when(gameTerritoryService.getTerritoryByGameAndCountry(eq(1L), eq(1L))).thenReturn(t1);
         when(gameTerritoryService.getTerritoryByGameAndCountry(eq(1L), eq(2L))).thenReturn(t2);
         when(gameTerritoryService.getTerritoriesByOwner(eq(1L), eq(10L))).thenReturn(Arrays.asList(t1, t2));
-        when(gameTerritoryService.getNeighborTerritories(eq(1L), eq(1L))).thenReturn(Arrays.asList(t2));
-        when(gameTerritoryService.getNeighborTerritories(eq(1L), eq(2L))).thenReturn(Arrays.asList(t1));
+        when(worldMap.isConnectedThrough(eq(1L), eq(2L), anyCollection())).thenReturn(true);
         doNothing().when(gameTerritoryService).addArmiesToTerritory(anyLong(), anyLong(), anyInt());
         
         boolean result = fortificationService.performFortification("CODE", fortifyDto);
         assertTrue(result);
         verify(gameTerritoryService, times(2)).addArmiesToTerritory(anyLong(), anyLong(), anyInt());
+        verify(gameEventStore).append(eq(1L), any(GameChange.ArmiesMoved.class));
     }
 
     @Test
@@ -86,8 +93,7 @@ public class FortificationServiceImplTest {
         when(gameTerritoryService.getTerritoryByGameAndCountry(eq(1L), eq(1L))).thenReturn(t1);
         when(gameTerritoryService.getTerritoryByGameAndCountry(eq(1L), eq(2L))).thenReturn(t2);
         when(gameTerritoryService.getTerritoriesByOwner(eq(1L), eq(10L))).thenReturn(Arrays.asList(t1, t2));
-        when(gameTerritoryService.getNeighborTerritories(eq(1L), eq(1L))).thenReturn(Arrays.asList(t2));
-        when(gameTerritoryService.getNeighborTerritories(eq(1L), eq(2L))).thenReturn(Arrays.asList(t1));
+        when(worldMap.isConnectedThrough(eq(1L), eq(2L), anyCollection())).thenReturn(true);
         
         boolean valid = fortificationService.isValidFortification("CODE", fortifyDto);
         assertTrue(valid);
@@ -174,8 +180,7 @@ public class FortificationServiceImplTest {
         when(gameService.findByGameCode(anyString())).thenReturn(game);
         when(gameTerritoryService.getTerritoryByGameAndCountry(eq(1L), eq(1L))).thenReturn(t1);
         when(gameTerritoryService.getTerritoriesByOwner(eq(1L), eq(10L))).thenReturn(Arrays.asList(t1, t2));
-        when(gameTerritoryService.getNeighborTerritories(eq(1L), eq(1L))).thenReturn(Arrays.asList(t2));
-        when(gameTerritoryService.getNeighborTerritories(eq(1L), eq(2L))).thenReturn(Arrays.asList(t1));
+        when(worldMap.isConnectedThrough(eq(1L), eq(2L), anyCollection())).thenReturn(true);
         
         List<Territory> result = fortificationService.getFortificationTargetsForTerritory("CODE", 1L, 10L);
         assertEquals(1, result.size());
@@ -1,7 +1,12 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
 import ar.edu.utn.frc.tup.piii.dtos.event.GameEventDto;
+import ar.edu.utn.frc.tup.piii.dtos.event.GameEventFilterDto;
+import ar.edu.utn.frc.tup.piii.dtos.event.GameEventPageDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.PlayerStatisticsDto;
+import ar.edu.utn.frc.tup.piii.engine.GameEventWriter;
 import ar.edu.utn.frc.tup.piii.entities.*;
+import ar.edu.utn.frc.tup.piii.exceptions.GameNotFoundException;
 import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
 import ar.edu.utn.frc.tup.piii.mappers.PlayerMapper;
 import ar.edu.utn.frc.tup.piii.model.Game;
@@ -9,13 +14,16 @@ import ar.edu.utn.frc.tup.piii.model.Player;
 import ar.edu.utn.frc.tup.piii.model.enums.EventType;
 import ar.edu.utn.frc.tup.piii.repository.GameEventRepository;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStatisticsService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.PlayerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -42,6 +50,12 @@ class GameEventServiceImplTest {
     @Mock
     private PlayerMapper playerMapper;
 
+    @Mock
+    private GameEventWriter gameEventWriter;
+
+    @Mock
+    private GameStatisticsService gameStatisticsService;
+
     @InjectMocks
     private GameEventServiceImpl gameEventService;
 
@@ -92,6 +106,10 @@ class GameEventServiceImplTest {
         testEventEntity.setTimestamp(LocalDateTime.now());
         testEventEntity.setTurnNumber(1);
         testEventEntity.setData("test data");
+
+        // Los eventos se validan antes de encolarse
+        lenient().when(gameService.existsById(1L)).thenReturn(true);
+        lenient().when(playerService.belongsToGame(anyLong(), eq(1L))).thenReturn(true);
     }
 
     @Test
@@ -103,20 +121,29 @@ class GameEventServiceImplTest {
         Integer turnNumber = 1;
         String eventData = "test data";
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(playerService.findById(actorId)).thenReturn(Optional.of(testPlayer));
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerMapper.toEntity(testPlayer)).thenReturn(testPlayerEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordEvent(gameId, actorId, eventType, turnNumber, eventData);
+        gameEventService.recordEvent(gameId, actorId, eventType, turnNumber, eventData);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
-        verify(gameService).findById(gameId);
-        verify(playerService).findById(actorId);
+        GameEventWriter.PendingEvent event = appendedEvent();
+        assertEquals(gameId, event.gameId());
+        assertEquals(actorId, event.actorId());
+        assertEquals(eventType, event.type());
+        assertEquals(turnNumber, event.turnNumber());
+        assertEquals(eventData, event.data());
+        verify(gameService).existsById(gameId);
+        verify(playerService).belongsToGame(actorId, gameId);
+    }
+
+    @Test
+    void recordEvent_WithUnknownGame_ShouldThrowWithoutQueuing() {
+        // Arrange
+        when(gameService.existsById(99L)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(GameNotFoundException.class,
+                () -> gameEventService.recordEvent(99L, 1L, EventType.ATTACK_PERFORMED, 1, null));
+        verifyNoInteractions(gameEventWriter);
     }
 
     @Test
@@ -126,17 +153,12 @@ class GameEventServiceImplTest {
         Long actorId = null;
         EventType eventType = EventType.GAME_STARTED;
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordEvent(gameId, actorId, eventType, null, null);
+        gameEventService.recordEvent(gameId, actorId, eventType, null, null);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
-        verify(playerService, never()).findById(any());
+        assertNull(appendedEvent().actorId());
+        verify(playerService, never()).belongsToGame(any(), any());
     }
 
     @Test
@@ -145,18 +167,15 @@ class GameEventServiceImplTest {
         Long gameId = 1L;
         Long actorId = 999L;
         EventType eventType = EventType.GAME_STARTED;
-
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(playerService.findById(actorId)).thenReturn(Optional.empty());
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
+        when(playerService.belongsToGame(actorId, gameId)).thenReturn(false);
 
         // Act
-        GameEventEntity result = gameEventService.recordEvent(gameId, actorId, eventType, null, null);
+        gameEventService.recordEvent(gameId, actorId, eventType, null, null);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        GameEventWriter.PendingEvent event = appendedEvent();
+        assertEquals(gameId, event.gameId());
+        assertNull(event.actorId());
     }
 
     @Test
@@ -168,19 +187,17 @@ class GameEventServiceImplTest {
         String fromPlayer = "enemy";
         Integer turnNumber = 1;
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(playerService.findById(conquererPlayerId)).thenReturn(Optional.of(testPlayer));
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerMapper.toEntity(testPlayer)).thenReturn(testPlayerEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordTerritoryConquest(
+        gameEventService.recordTerritoryConquest(
                 gameId, conquererPlayerId, conqueredTerritory, fromPlayer, turnNumber);
 
-        // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        // Assert: la conquista se escribe en la transacción actual, no se encola
+        ArgumentCaptor<GameEventWriter.PendingEvent> captor = ArgumentCaptor.forClass(GameEventWriter.PendingEvent.class);
+        verify(gameEventWriter).writeNow(captor.capture());
+        verify(gameEventWriter, never()).append(any());
+        assertEquals(EventType.TERRITORY_CONQUERED, captor.getValue().type());
+        assertEquals(conquererPlayerId, captor.getValue().actorId());
+        assertEquals("{\"territory\":\"Argentina\", \"fromPlayer\":\"enemy\"}", captor.getValue().data());
     }
 
     @Test
@@ -193,19 +210,12 @@ class GameEventServiceImplTest {
         Integer turnNumber = 1;
         boolean successful = true;
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(playerService.findById(attackerPlayerId)).thenReturn(Optional.of(testPlayer));
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerMapper.toEntity(testPlayer)).thenReturn(testPlayerEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordAttack(
+        gameEventService.recordAttack(
                 gameId, attackerPlayerId, fromTerritory, toTerritory, turnNumber, successful);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        verify(gameEventWriter).append(any(GameEventWriter.PendingEvent.class));
     }
 
     @Test
@@ -215,18 +225,11 @@ class GameEventServiceImplTest {
         Long playerId = 1L;
         Integer turnNumber = 1;
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(playerService.findById(playerId)).thenReturn(Optional.of(testPlayer));
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerMapper.toEntity(testPlayer)).thenReturn(testPlayerEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordTurnStart(gameId, playerId, turnNumber);
+        gameEventService.recordTurnStart(gameId, playerId, turnNumber);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        verify(gameEventWriter).append(any(GameEventWriter.PendingEvent.class));
     }
 
     @Test
@@ -236,18 +239,11 @@ class GameEventServiceImplTest {
         Long playerId = 1L;
         Integer turnNumber = 1;
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(playerService.findById(playerId)).thenReturn(Optional.of(testPlayer));
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerMapper.toEntity(testPlayer)).thenReturn(testPlayerEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordTurnEnd(gameId, playerId, turnNumber);
+        gameEventService.recordTurnEnd(gameId, playerId, turnNumber);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        verify(gameEventWriter).appendAndFlush(any(GameEventWriter.PendingEvent.class));
     }
 
     @Test
@@ -255,16 +251,11 @@ class GameEventServiceImplTest {
         // Arrange
         Long gameId = 1L;
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordGameStart(gameId);
+        gameEventService.recordGameStart(gameId);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        verify(gameEventWriter).append(any(GameEventWriter.PendingEvent.class));
     }
 
     @Test
@@ -273,18 +264,11 @@ class GameEventServiceImplTest {
         Long gameId = 1L;
         Long winnerPlayerId = 1L;
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(playerService.findById(winnerPlayerId)).thenReturn(Optional.of(testPlayer));
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerMapper.toEntity(testPlayer)).thenReturn(testPlayerEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordGameFinish(gameId, winnerPlayerId);
+        gameEventService.recordGameFinish(gameId, winnerPlayerId);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        verify(gameEventWriter).append(any(GameEventWriter.PendingEvent.class));
     }
 
     @Test
@@ -293,16 +277,11 @@ class GameEventServiceImplTest {
         Long gameId = 1L;
         Long winnerPlayerId = null;
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordGameFinish(gameId, winnerPlayerId);
+        gameEventService.recordGameFinish(gameId, winnerPlayerId);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        verify(gameEventWriter).append(any(GameEventWriter.PendingEvent.class));
     }
 
     @Test
@@ -311,18 +290,11 @@ class GameEventServiceImplTest {
         Long gameId = 1L;
         Long playerId = 1L;
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(playerService.findById(playerId)).thenReturn(Optional.of(testPlayer));
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerMapper.toEntity(testPlayer)).thenReturn(testPlayerEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordPlayerJoined(gameId, playerId);
+        gameEventService.recordPlayerJoined(gameId, playerId);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        verify(gameEventWriter).append(any(GameEventWriter.PendingEvent.class));
     }
 
     @Test
@@ -331,18 +303,11 @@ class GameEventServiceImplTest {
         Long gameId = 1L;
         Long playerId = 1L;
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(playerService.findById(playerId)).thenReturn(Optional.of(testPlayer));
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerMapper.toEntity(testPlayer)).thenReturn(testPlayerEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordPlayerLeft(gameId, playerId);
+        gameEventService.recordPlayerLeft(gameId, playerId);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        verify(gameEventWriter).append(any(GameEventWriter.PendingEvent.class));
     }
 
     @Test
@@ -352,18 +317,11 @@ class GameEventServiceImplTest {
         Long eliminatedPlayerId = 1L;
         Long eliminatorPlayerId = 2L;
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(playerService.findById(eliminatedPlayerId)).thenReturn(Optional.of(testPlayer));
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerMapper.toEntity(testPlayer)).thenReturn(testPlayerEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordPlayerEliminated(gameId, eliminatedPlayerId, eliminatorPlayerId);
+        gameEventService.recordPlayerEliminated(gameId, eliminatedPlayerId, eliminatorPlayerId);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        verify(gameEventWriter).append(any(GameEventWriter.PendingEvent.class));
     }
 
     @Test
@@ -373,18 +331,11 @@ class GameEventServiceImplTest {
         Long eliminatedPlayerId = 1L;
         Long eliminatorPlayerId = null;
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(playerService.findById(eliminatedPlayerId)).thenReturn(Optional.of(testPlayer));
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerMapper.toEntity(testPlayer)).thenReturn(testPlayerEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordPlayerEliminated(gameId, eliminatedPlayerId, eliminatorPlayerId);
+        gameEventService.recordPlayerEliminated(gameId, eliminatedPlayerId, eliminatorPlayerId);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        verify(gameEventWriter).append(any(GameEventWriter.PendingEvent.class));
     }
 
     @Test
@@ -395,18 +346,11 @@ class GameEventServiceImplTest {
         Integer turnNumber = 1;
         String cardsData = "card data";
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(playerService.findById(playerId)).thenReturn(Optional.of(testPlayer));
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerMapper.toEntity(testPlayer)).thenReturn(testPlayerEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordCardsTraded(gameId, playerId, turnNumber, cardsData);
+        gameEventService.recordCardsTraded(gameId, playerId, turnNumber, cardsData);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        verify(gameEventWriter).append(any(GameEventWriter.PendingEvent.class));
     }
 
     @Test
@@ -418,19 +362,12 @@ class GameEventServiceImplTest {
         Integer reinforcements = 5;
         Integer turnNumber = 1;
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(playerService.findById(playerId)).thenReturn(Optional.of(testPlayer));
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerMapper.toEntity(testPlayer)).thenReturn(testPlayerEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordReinforcementsPlaced(
+        gameEventService.recordReinforcementsPlaced(
                 gameId, playerId, territory, reinforcements, turnNumber);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        verify(gameEventWriter).append(any(GameEventWriter.PendingEvent.class));
     }
 
     @Test
@@ -443,19 +380,12 @@ class GameEventServiceImplTest {
         Integer armies = 3;
         Integer turnNumber = 1;
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(playerService.findById(playerId)).thenReturn(Optional.of(testPlayer));
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerMapper.toEntity(testPlayer)).thenReturn(testPlayerEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordFortification(
+        gameEventService.recordFortification(
                 gameId, playerId, fromTerritory, toTerritory, armies, turnNumber);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        verify(gameEventWriter).append(any(GameEventWriter.PendingEvent.class));
     }
 
     @Test
@@ -465,18 +395,11 @@ class GameEventServiceImplTest {
         Long playerId = 1L;
         String objectiveData = "objective data";
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(playerService.findById(playerId)).thenReturn(Optional.of(testPlayer));
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerMapper.toEntity(testPlayer)).thenReturn(testPlayerEntity);
-        when(gameEventRepository.save(any(GameEventEntity.class))).thenReturn(testEventEntity);
-
         // Act
-        GameEventEntity result = gameEventService.recordObjectiveCompleted(gameId, playerId, objectiveData);
+        gameEventService.recordObjectiveCompleted(gameId, playerId, objectiveData);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).save(any(GameEventEntity.class));
+        verify(gameEventWriter).append(any(GameEventWriter.PendingEvent.class));
     }
 
     @Test
@@ -499,23 +422,21 @@ class GameEventServiceImplTest {
     }
 
     @Test
-    void getPlayerEventsInGame_WithExistingPlayer_ShouldReturnPlayerEvents() {
+    void getPlayerEventsInGame_ShouldQueryByGameAndActor() {
         // Arrange
         Long gameId = 1L;
         Long playerId = 1L;
         List<GameEventEntity> events = Arrays.asList(testEventEntity);
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerService.findById(playerId)).thenReturn(Optional.of(testPlayer));
-        when(gameEventRepository.findByGame(testGameEntity)).thenReturn(events);
+        when(gameEventRepository.findByGameIdAndActorIdOrderByIdDesc(gameId, playerId)).thenReturn(events);
 
         // Act
         List<GameEventEntity> result = gameEventService.getPlayerEventsInGame(gameId, playerId);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).findByGame(testGameEntity);
+        assertEquals(events, result);
+        verify(gameEventWriter, never()).flush();
+        verify(gameEventRepository, never()).findByGame(any());
     }
 
     @Test
@@ -524,9 +445,7 @@ class GameEventServiceImplTest {
         Long gameId = 1L;
         Long playerId = 999L;
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(playerService.findById(playerId)).thenReturn(Optional.empty());
+        when(gameEventRepository.findByGameIdAndActorIdOrderByIdDesc(gameId, playerId)).thenReturn(new ArrayList<>());
 
         // Act
         List<GameEventEntity> result = gameEventService.getPlayerEventsInGame(gameId, playerId);
@@ -536,6 +455,52 @@ class GameEventServiceImplTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void getGameHistoryPage_ShouldReturnCursorWhenThereAreMoreEvents() {
+        // Arrange
+        GameEventFilterDto filter = GameEventFilterDto.builder().type(EventType.GAME_STARTED).fromTurn(1).build();
+        List<GameEventEntity> events = Arrays.asList(event(30L), event(20L), event(10L));
+        when(gameEventRepository.findPage(1L, 40L, EventType.GAME_STARTED, null, 1, null, PageRequest.of(0, 3)))
+                .thenReturn(events);
+
+        // Act
+        GameEventPageDto page = gameEventService.getGameHistoryPage(1L, 40L, 2, filter);
+
+        // Assert
+        assertEquals(Arrays.asList(30L, 20L), page.getEvents().stream().map(GameEventDto::getId).toList());
+        assertEquals("La partida ha comenzado", page.getEvents().get(0).getDescription());
+        assertEquals(20L, page.getNextCursor());
+        assertTrue(page.isHasMore());
+        verify(gameEventWriter, never()).flush();
+    }
+
+    @Test
+    void getGameHistoryPage_LastPage_ShouldNotReturnCursor() {
+        // Arrange
+        when(gameEventRepository.findPage(1L, null, null, null, null, null, PageRequest.of(0, 51)))
+                .thenReturn(Arrays.asList(event(10L)));
+
+        // Act
+        GameEventPageDto page = gameEventService.getGameHistoryPage(1L, null, 50, null);
+
+        // Assert
+        assertEquals(1, page.getEvents().size());
+        assertNull(page.getNextCursor());
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    void getGameHistoryPage_InvalidArguments_ShouldThrow() {
+        GameEventFilterDto invertedTurns = GameEventFilterDto.builder().fromTurn(5).toTurn(2).build();
+
+        assertThrows(IllegalArgumentException.class, () -> gameEventService.getGameHistoryPage(1L, null, 0, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> gameEventService.getGameHistoryPage(1L, null, GameEventServiceImpl.MAX_PAGE_SIZE + 1, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> gameEventService.getGameHistoryPage(1L, null, 10, invertedTurns));
+        verifyNoInteractions(gameEventRepository);
+    }
+
     @Test
     void getRecentGameEvents_ShouldReturnRecentEvents() {
         // Arrange
@@ -561,22 +526,25 @@ class GameEventServiceImplTest {
     void getGameEventStats_ShouldReturnEventStatistics() {
         // Arrange
         Long gameId = 1L;
-        List<GameEventEntity> events = Arrays.asList(testEventEntity);
+        Map<EventType, Long> counts = new EnumMap<>(EventType.class);
+        counts.put(EventType.ATTACK_PERFORMED, 5L);
+        counts.put(EventType.TERRITORY_CONQUERED, 3L);
+        counts.put(EventType.TURN_STARTED, 2L);
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(gameEventRepository.countAttacksByGame(testGameEntity)).thenReturn(5L);
-        when(gameEventRepository.findByGame(testGameEntity)).thenReturn(events);
+        when(gameStatisticsService.getEventCounts(gameId)).thenReturn(counts);
+        when(gameStatisticsService.getPlayerStatistics(gameId)).thenReturn(Arrays.asList(
+                PlayerStatisticsDto.builder().playerId(1L).playerName("testUser").conquests(3).build(),
+                PlayerStatisticsDto.builder().playerId(2L).playerName("TestBot").conquests(0).build()));
 
         // Act
         Map<String, Object> result = gameEventService.getGameEventStats(gameId);
 
         // Assert
-        assertNotNull(result);
-        assertTrue(result.containsKey("totalAttacks"));
-        assertTrue(result.containsKey("conquestsByPlayer"));
-        assertTrue(result.containsKey("totalEvents"));
-        verify(gameEventRepository).countAttacksByGame(testGameEntity);
+        assertEquals(5L, result.get("totalAttacks"));
+        assertEquals(Map.of("testUser", 3L), result.get("conquestsByPlayer"));
+        assertEquals(10, result.get("totalEvents"));
+        // Sale de los contadores, sin leer el historial
+        verifyNoInteractions(gameEventRepository, gameService);
     }
 
     @Test
@@ -605,16 +573,15 @@ class GameEventServiceImplTest {
         EventType eventType = EventType.ATTACK_PERFORMED;
         List<GameEventEntity> events = Arrays.asList(testEventEntity);
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(gameEventRepository.findByGame(testGameEntity)).thenReturn(events);
+        when(gameEventRepository.findByGameIdAndTypeOrderByTimestampDesc(gameId, eventType)).thenReturn(events);
 
         // Act
         List<GameEventEntity> result = gameEventService.getEventsByType(gameId, eventType);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).findByGame(testGameEntity);
+        assertEquals(events, result);
+        verify(gameEventWriter, never()).flush();
+        verify(gameEventRepository, never()).findByGame(any());
     }
 
     @Test
@@ -642,11 +609,9 @@ class GameEventServiceImplTest {
         // Arrange
         Long gameId = 1L;
         EventType eventType = EventType.ATTACK_PERFORMED;
-        List<GameEventEntity> events = Collections.emptyList();
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(gameEventRepository.findByGame(testGameEntity)).thenReturn(events);
+        when(gameEventRepository.findFirstByGameIdAndTypeOrderByTimestampDesc(gameId, eventType))
+                .thenReturn(Optional.empty());
 
         // Act
         Optional<GameEventEntity> result = gameEventService.getLastEventByType(gameId, eventType);
@@ -660,18 +625,15 @@ class GameEventServiceImplTest {
         // Arrange
         Long gameId = 1L;
         EventType eventType = EventType.ATTACK_PERFORMED;
-        List<GameEventEntity> events = Arrays.asList(testEventEntity);
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(gameEventRepository.findByGame(testGameEntity)).thenReturn(events);
+        when(gameStatisticsService.countEventsByType(gameId, eventType)).thenReturn(4L);
 
         // Act
         Long result = gameEventService.countEventsByType(gameId, eventType);
 
         // Assert
-        assertNotNull(result);
-        verify(gameEventRepository).findByGame(testGameEntity);
+        assertEquals(4L, result);
+        verifyNoInteractions(gameEventRepository);
     }
 
     @Test
@@ -1261,12 +1223,9 @@ class GameEventServiceImplTest {
     void getGameEventStats_WithEmptyConquests_ShouldHandleCorrectly() {
         // Arrange
         Long gameId = 1L;
-        List<GameEventEntity> events = Collections.emptyList();
 
-        when(gameService.findById(gameId)).thenReturn(testGame);
-        when(gameMapper.toEntity(testGame)).thenReturn(testGameEntity);
-        when(gameEventRepository.countAttacksByGame(testGameEntity)).thenReturn(0L);
-        when(gameEventRepository.findByGame(testGameEntity)).thenReturn(events);
+        when(gameStatisticsService.getEventCounts(gameId)).thenReturn(new EnumMap<>(EventType.class));
+        when(gameStatisticsService.getPlayerStatistics(gameId)).thenReturn(Collections.emptyList());
 
         // Act
         Map<String, Object> result = gameEventService.getGameEventStats(gameId);
@@ -1301,4 +1260,20 @@ class GameEventServiceImplTest {
         GameEventDto dto = result.get(0);
         assertEquals("Jugador Desconocido", dto.getActorName());
     }
-}
\ No newline at end of file
+
+    private GameEventEntity event(Long id) {
+        GameEventEntity event = new GameEventEntity();
+        event.setId(id);
+        event.setGame(testGameEntity);
+        event.setType(EventType.GAME_STARTED);
+        event.setTurnNumber(1);
+        event.setTimestamp(LocalDateTime.now());
+        return event;
+    }
+
+    private GameEventWriter.PendingEvent appendedEvent() {
+        ArgumentCaptor<GameEventWriter.PendingEvent> captor = ArgumentCaptor.forClass(GameEventWriter.PendingEvent.class);
+        verify(gameEventWriter).append(captor.capture());
+        return captor.getValue();
+    }
+}
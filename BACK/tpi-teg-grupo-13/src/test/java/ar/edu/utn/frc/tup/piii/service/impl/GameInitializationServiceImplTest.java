@@ -1,5 +1,6 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
 import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
@@ -49,6 +50,9 @@ class GameInitializationServiceImplTest {
     @Mock
     private GameMapper gameMapper;
 
+    @Mock
+    private GameRandom gameRandom;
+
     @InjectMocks
     private GameInitializationServiceImpl gameInitializationService;
 
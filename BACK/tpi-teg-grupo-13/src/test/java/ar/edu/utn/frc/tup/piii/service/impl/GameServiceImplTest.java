@@ -1,19 +1,33 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
 import ar.edu.utn.frc.tup.piii.dtos.bot.AddBotsDto;
+import ar.edu.utn.frc.tup.piii.dtos.country.CountryResponseDto;
 import ar.edu.utn.frc.tup.piii.dtos.game.*;
+import ar.edu.utn.frc.tup.piii.dtos.player.PlayerResponseDto;
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
+import ar.edu.utn.frc.tup.piii.engine.ChatBuffer;
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
+import ar.edu.utn.frc.tup.piii.engine.GameVersionTracker;
+import ar.edu.utn.frc.tup.piii.engine.TurnConquestStore;
+import ar.edu.utn.frc.tup.piii.engine.HotGameStore;
+import ar.edu.utn.frc.tup.piii.engine.OwnershipIndex;
+import ar.edu.utn.frc.tup.piii.engine.ReferenceDataCache;
+import ar.edu.utn.frc.tup.piii.engine.VictoryEvaluator;
 import ar.edu.utn.frc.tup.piii.entities.*;
 import ar.edu.utn.frc.tup.piii.exceptions.*;
 import ar.edu.utn.frc.tup.piii.mappers.GameMapper;
 import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.enums.*;
 import ar.edu.utn.frc.tup.piii.repository.*;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameSnapshotService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStreamService;
 import ar.edu.utn.frc.tup.piii.service.interfaces.UserService;
 import ar.edu.utn.frc.tup.piii.utils.CodeGenerator;
 import ar.edu.utn.frc.tup.piii.utils.ColorManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,6 +38,7 @@ import java.util.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +62,36 @@ class GameServiceImplTest {
     private GameInitializationServiceImpl gameInitializationService;
     @Mock
     private UserService userService;
+    @Mock
+    private OwnershipIndex ownershipIndex;
+    @Mock
+    private HotGameStore hotGameStore;
+
+    @Mock
+    private GameStreamService gameStreamService;
+    @Mock
+    private GameVersionTracker gameVersionTracker;
+
+    @Mock
+    private TurnConquestStore turnConquestStore;
+
+    @Mock
+    private VictoryEvaluator victoryEvaluator;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private GameEventStore gameEventStore;
+
+    @Mock
+    private GameSnapshotService gameSnapshotService;
+
+    @Mock
+    private GameRandom gameRandom;
+
+    @Mock
+    private ChatBuffer chatBuffer;
 
     @InjectMocks
     private GameServiceImpl gameService;
@@ -100,8 +145,8 @@ class GameServiceImplTest {
     @Test
     void findById_WhenGameExists_ShouldReturnGame() {
         // Given
-        when(gameRepository.findById(1L)).thenReturn(Optional.of(gameEntity));
-        when(gameMapper.toModel(gameEntity)).thenReturn(game);
+        when(gameRepository.findById(1L, GameFetchPlan.BOARD)).thenReturn(Optional.of(gameEntity));
+        when(gameMapper.toModel(gameEntity, GameFetchPlan.BOARD)).thenReturn(game);
 
         // When
         Game result = gameService.findById(1L);
@@ -109,13 +154,13 @@ class GameServiceImplTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
-        verify(gameRepository).findById(1L);
+        verify(gameRepository).findById(1L, GameFetchPlan.BOARD);
     }
 
     @Test
     void findById_WhenGameNotExists_ShouldThrowException() {
         // Given
-        when(gameRepository.findById(999L)).thenReturn(Optional.empty());
+        when(gameRepository.findById(999L, GameFetchPlan.BOARD)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> gameService.findById(999L))
@@ -126,8 +171,8 @@ class GameServiceImplTest {
     @Test
     void findByIdOptional_WhenGameExists_ShouldReturnOptionalWithGame() {
         // Given
-        when(gameRepository.findById(1L)).thenReturn(Optional.of(gameEntity));
-        when(gameMapper.toModel(gameEntity)).thenReturn(game);
+        when(gameRepository.findById(1L, GameFetchPlan.BOARD)).thenReturn(Optional.of(gameEntity));
+        when(gameMapper.toModel(gameEntity, GameFetchPlan.BOARD)).thenReturn(game);
 
         // When
         Optional<Game> result = gameService.findByIdOptional(1L);
@@ -140,7 +185,7 @@ class GameServiceImplTest {
     @Test
     void findByIdOptional_WhenGameNotExists_ShouldReturnEmpty() {
         // Given
-        when(gameRepository.findById(999L)).thenReturn(Optional.empty());
+        when(gameRepository.findById(999L, GameFetchPlan.BOARD)).thenReturn(Optional.empty());
 
         // When
         Optional<Game> result = gameService.findByIdOptional(999L);
@@ -152,8 +197,8 @@ class GameServiceImplTest {
     @Test
     void findByGameCode_WhenGameExists_ShouldReturnGame() {
         // Given
-        when(gameRepository.findByGameCode("TEST123")).thenReturn(Optional.of(gameEntity));
-        when(gameMapper.toModel(gameEntity)).thenReturn(game);
+        when(gameRepository.findByGameCode("TEST123", GameFetchPlan.BOARD)).thenReturn(Optional.of(gameEntity));
+        when(gameMapper.toModel(gameEntity, GameFetchPlan.BOARD)).thenReturn(game);
 
         // When
         Game result = gameService.findByGameCode("TEST123");
@@ -166,7 +211,7 @@ class GameServiceImplTest {
     @Test
     void findByGameCode_WhenGameNotExists_ShouldThrowException() {
         // Given
-        when(gameRepository.findByGameCode("INVALID")).thenReturn(Optional.empty());
+        when(gameRepository.findByGameCode("INVALID", GameFetchPlan.BOARD)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> gameService.findByGameCode("INVALID"))
@@ -250,7 +295,9 @@ class GameServiceImplTest {
     void getGameByCode_WhenGameExists_ShouldReturnResponseDto() {
         // Given
         GameResponseDto responseDto = new GameResponseDto();
-        when(gameRepository.findByGameCode("TEST123")).thenReturn(Optional.of(gameEntity));
+        when(gameRepository.findIdByGameCode("TEST123")).thenReturn(Optional.of(gameEntity.getId()));
+        when(gameVersionTracker.currentVersion(gameEntity.getId())).thenReturn(7L);
+        when(gameRepository.findByGameCode("TEST123", GameFetchPlan.FULL)).thenReturn(Optional.of(gameEntity));
         when(gameMapper.toResponseDto(gameEntity)).thenReturn(responseDto);
 
         // When
@@ -258,13 +305,17 @@ class GameServiceImplTest {
 
         // Then
         assertThat(result).isNotNull();
-        verify(gameRepository).findByGameCode("TEST123");
+        assertThat(result.getVersion()).isEqualTo(7L);
+        // La versión se lee antes de cargar la partida
+        InOrder inOrder = inOrder(gameVersionTracker, gameRepository);
+        inOrder.verify(gameVersionTracker).currentVersion(gameEntity.getId());
+        inOrder.verify(gameRepository).findByGameCode("TEST123", GameFetchPlan.FULL);
     }
 
     @Test
     void getGameByCode_WhenGameNotExists_ShouldThrowException() {
         // Given
-        when(gameRepository.findByGameCode("INVALID")).thenReturn(Optional.empty());
+        when(gameRepository.findIdByGameCode("INVALID")).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> gameService.getGameByCode("INVALID"))
@@ -272,6 +323,83 @@ class GameServiceImplTest {
                 .hasMessage("Game not found with code: INVALID");
     }
 
+    @Test
+    void getGameDelta_ShouldReturnOnlyChangedTerritoriesAndPlayers() {
+        // Given
+        CountryResponseDto changed = CountryResponseDto.builder().id(1L).build();
+        CountryResponseDto untouched = CountryResponseDto.builder().id(2L).build();
+        PlayerResponseDto attacker = PlayerResponseDto.builder().id(10L).build();
+        PlayerResponseDto other = PlayerResponseDto.builder().id(20L).build();
+        GameResponseDto full = GameResponseDto.builder()
+                .territories(Map.of(1L, changed, 2L, untouched))
+                .players(List.of(attacker, other))
+                .build();
+
+        GameVersionTracker.Changes changes = mock(GameVersionTracker.Changes.class);
+        when(changes.getVersion()).thenReturn(42L);
+        when(changes.getCountryIds()).thenReturn(Set.of(1L));
+        when(changes.getPlayerIds()).thenReturn(Set.of(10L, 30L));
+        when(changes.isPlayerChanged(anyLong())).thenAnswer(inv -> Set.of(10L, 30L).contains(inv.<Long>getArgument(0)));
+
+        when(gameRepository.findIdByGameCode("TEST123")).thenReturn(Optional.of(gameEntity.getId()));
+        when(gameRepository.findByGameCode("TEST123", GameFetchPlan.BOARD)).thenReturn(Optional.of(gameEntity));
+        when(gameVersionTracker.changesSince(gameEntity.getId(), 40L)).thenReturn(changes);
+        when(gameMapper.toModel(gameEntity, GameFetchPlan.BOARD)).thenReturn(game);
+        when(gameMapper.toResponseDto(game)).thenReturn(full);
+
+        // When
+        GameDeltaDto delta = gameService.getGameDelta("TEST123", 40L);
+
+        // Then
+        assertThat(delta.getFullState()).isFalse();
+        assertThat(delta.getVersion()).isEqualTo(42L);
+        assertThat(delta.getTerritories()).containsOnlyKeys(1L);
+        assertThat(delta.getPlayers()).containsExactly(attacker);
+        assertThat(delta.getPlayersComplete()).isFalse();
+        assertThat(delta.getRemovedPlayerIds()).containsExactly(30L);
+        InOrder inOrder = inOrder(gameVersionTracker, gameRepository);
+        inOrder.verify(gameVersionTracker).changesSince(gameEntity.getId(), 40L);
+        inOrder.verify(gameRepository).findByGameCode("TEST123", GameFetchPlan.BOARD);
+    }
+
+    @Test
+    void getGameDelta_WhenNothingChanged_ShouldNotMapTheGame() {
+        // Given
+        GameVersionTracker.Changes changes = mock(GameVersionTracker.Changes.class);
+        when(changes.getVersion()).thenReturn(42L);
+        when(changes.isEmpty()).thenReturn(true);
+        when(gameRepository.findIdByGameCode("TEST123")).thenReturn(Optional.of(gameEntity.getId()));
+        when(gameRepository.findByGameCode("TEST123", GameFetchPlan.BOARD)).thenReturn(Optional.of(gameEntity));
+        when(gameVersionTracker.changesSince(gameEntity.getId(), 42L)).thenReturn(changes);
+
+        // When
+        GameDeltaDto delta = gameService.getGameDelta("TEST123", 42L);
+
+        // Then
+        assertThat(delta.getVersion()).isEqualTo(42L);
+        assertThat(delta.getTerritories()).isNull();
+        verify(gameMapper, never()).toModel(any(GameEntity.class), any());
+    }
+
+    @Test
+    void getGameDelta_WhenClientTooFarBehind_ShouldReturnFullState() {
+        // Given
+        GameResponseDto full = new GameResponseDto();
+        when(gameRepository.findIdByGameCode("TEST123")).thenReturn(Optional.of(gameEntity.getId()));
+        when(gameRepository.findByGameCode("TEST123", GameFetchPlan.FULL)).thenReturn(Optional.of(gameEntity));
+        when(gameVersionTracker.changesSince(gameEntity.getId(), 1L)).thenReturn(null);
+        when(gameVersionTracker.currentVersion(gameEntity.getId())).thenReturn(99L);
+        when(gameMapper.toResponseDto(gameEntity)).thenReturn(full);
+
+        // When
+        GameDeltaDto delta = gameService.getGameDelta("TEST123", 1L);
+
+        // Then
+        assertThat(delta.getFullState()).isTrue();
+        assertThat(delta.getVersion()).isEqualTo(99L);
+        assertThat(delta.getGame()).isSameAs(full);
+    }
+
     @Test
     void findGamesByHost_ShouldReturnGamesList() {
         // Given
@@ -306,7 +434,7 @@ class GameServiceImplTest {
         when(userRepository.findById(2L)).thenReturn(Optional.of(newUser));
         when(colorManager.getAvailableRandomColor(gameEntity)).thenReturn(PlayerColor.BLUE);
         when(playerRepository.save(any(PlayerEntity.class))).thenReturn(new PlayerEntity());
-        when(gameMapper.toModel(gameEntity)).thenReturn(game);
+        when(gameMapper.toModel(gameEntity, GameFetchPlan.LOBBY)).thenReturn(game);
 
         // When
         Game result = gameService.joinGame(joinDto);
@@ -358,6 +486,7 @@ class GameServiceImplTest {
         addBotsDto.setBotStrategy(BotStrategy.AGGRESSIVE);
 
         BotProfileEntity botProfile = new BotProfileEntity();
+        botProfile.setId(3L);
         botProfile.setLevel(BotLevel.BALANCED);
         botProfile.setStrategy(BotStrategy.AGGRESSIVE);
 
@@ -365,8 +494,9 @@ class GameServiceImplTest {
         gameEntity.setMaxPlayers(6);
 
         when(gameRepository.findByGameCode("TEST123")).thenReturn(Optional.of(gameEntity));
-        when(botProfileRepository.findByLevelAndStrategy(BotLevel.BALANCED, BotStrategy.AGGRESSIVE))
+        when(referenceDataCache.botProfile(BotLevel.BALANCED, BotStrategy.AGGRESSIVE))
                 .thenReturn(Optional.of(botProfile));
+        when(botProfileRepository.getReferenceById(3L)).thenReturn(botProfile);
         when(gameRepository.findById(gameEntity.getId())).thenReturn(Optional.of(gameEntity));
         when(colorManager.getAvailableRandomColor(any())).thenReturn(PlayerColor.BLUE, PlayerColor.GREEN);
         when(playerRepository.save(any(PlayerEntity.class))).thenAnswer(invocation -> {
@@ -374,7 +504,7 @@ class GameServiceImplTest {
             saved.setId(System.currentTimeMillis());
             return saved;
         });
-        when(gameMapper.toModel(gameEntity)).thenReturn(game);
+        when(gameMapper.toModel(gameEntity, GameFetchPlan.LOBBY)).thenReturn(game);
 
         Game result = gameService.addBotsToGame(addBotsDto);
 
@@ -391,7 +521,7 @@ class GameServiceImplTest {
         addBotsDto.setBotStrategy(BotStrategy.DEFENSIVE);
 
         when(gameRepository.findByGameCode("TEST123")).thenReturn(Optional.of(gameEntity));
-        when(botProfileRepository.findByLevelAndStrategy(BotLevel.EXPERT, BotStrategy.DEFENSIVE))
+        when(referenceDataCache.botProfile(BotLevel.EXPERT, BotStrategy.DEFENSIVE))
                 .thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> gameService.addBotsToGame(addBotsDto))
@@ -458,6 +588,8 @@ class GameServiceImplTest {
 
         game.setCreatedByUserId(hostUserId);
 
+        when(gameRepository.findByGameCode(gameCode, GameFetchPlan.BOARD)).thenReturn(Optional.of(gameEntity));
+        when(gameMapper.toModel(gameEntity, GameFetchPlan.BOARD)).thenReturn(game);
         when(gameRepository.findByGameCode(gameCode)).thenReturn(Optional.of(gameEntity));
         when(gameMapper.toModel(gameEntity)).thenReturn(game);
         doNothing().when(gameInitializationService).initializeGame(gameEntity);
@@ -476,8 +608,8 @@ class GameServiceImplTest {
 
         game.setCreatedByUserId(1L);
 
-        when(gameRepository.findByGameCode(gameCode)).thenReturn(Optional.of(gameEntity));
-        when(gameMapper.toModel(gameEntity)).thenReturn(game);
+        when(gameRepository.findByGameCode(gameCode, GameFetchPlan.BOARD)).thenReturn(Optional.of(gameEntity));
+        when(gameMapper.toModel(gameEntity, GameFetchPlan.BOARD)).thenReturn(game);
 
         assertThatThrownBy(() -> gameService.startGameByHost(gameCode, notHostUserId))
                 .isInstanceOf(ForbiddenException.class)
@@ -590,7 +722,7 @@ class GameServiceImplTest {
 
         when(gameRepository.findByGameCode("TEST123")).thenReturn(Optional.of(gameEntity));
         when(playerRepository.findById(2L)).thenReturn(Optional.of(playerToKick));
-        when(gameMapper.toModel(gameEntity)).thenReturn(game);
+        when(gameMapper.toModel(gameEntity, GameFetchPlan.FULL)).thenReturn(game);
 
         Game result = gameService.kickPlayer(kickDto);
 
@@ -677,7 +809,7 @@ class GameServiceImplTest {
         gameEntity.getPlayers().add(leavingPlayer);
 
         when(gameRepository.findByGameCode("TEST123")).thenReturn(Optional.of(gameEntity));
-        when(gameMapper.toModel(gameEntity)).thenReturn(game);
+        when(gameMapper.toModel(gameEntity, GameFetchPlan.FULL)).thenReturn(game);
 
         Game result = gameService.leaveGame(leaveDto);
 
@@ -739,6 +871,7 @@ class GameServiceImplTest {
         gameService.cancelGameByUsername(gameCode, hostUsername);
 
         verify(gameRepository).delete(gameEntity);
+        verify(chatBuffer).evict(gameEntity.getId());
     }
 
     @Test
@@ -786,7 +919,7 @@ class GameServiceImplTest {
 
         when(gameRepository.findByGameCode(gameCode)).thenReturn(Optional.of(gameEntity));
         when(playerRepository.save(playerEntity)).thenReturn(playerEntity);
-        when(gameMapper.toModel(gameEntity)).thenReturn(game);
+        when(gameMapper.toModel(gameEntity, GameFetchPlan.LOBBY)).thenReturn(game);
 
         Game result = gameService.joinGameLobby(gameCode, playerId);
 
@@ -835,7 +968,7 @@ class GameServiceImplTest {
 
         when(gameRepository.findByGameCode(gameCode)).thenReturn(Optional.of(gameEntity));
         when(playerRepository.save(playerEntity)).thenReturn(playerEntity);
-        when(gameMapper.toModel(gameEntity)).thenReturn(game);
+        when(gameMapper.toModel(gameEntity, GameFetchPlan.LOBBY)).thenReturn(game);
 
         Game result = gameService.togglePlayerReady(gameCode, playerId);
 
@@ -852,7 +985,7 @@ class GameServiceImplTest {
         gameEntity.getPlayers().add(playerEntity);
 
         when(gameRepository.findByGameCode(gameCode)).thenReturn(Optional.of(gameEntity));
-        when(gameMapper.toModel(gameEntity)).thenReturn(game);
+        when(gameMapper.toModel(gameEntity, GameFetchPlan.LOBBY)).thenReturn(game);
 
         Game result = gameService.getGameLobbyStatus(gameCode, playerId);
 
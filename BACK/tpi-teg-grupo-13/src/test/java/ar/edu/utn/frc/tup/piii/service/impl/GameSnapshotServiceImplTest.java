@@ -0,0 +1,249 @@
+package ar.edu.utn.frc.tup.piii.service.impl;
+
+import ar.edu.utn.frc.tup.piii.engine.BoardState;
+import ar.edu.utn.frc.tup.piii.engine.GameChange;
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
+import ar.edu.utn.frc.tup.piii.engine.GameVersionTracker;
+import ar.edu.utn.frc.tup.piii.engine.SnapshotCodec;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
+import ar.edu.utn.frc.tup.piii.entities.CardEntity;
+import ar.edu.utn.frc.tup.piii.entities.GameEntity;
+import ar.edu.utn.frc.tup.piii.entities.GameSnapshotEntity;
+import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
+import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
+import ar.edu.utn.frc.tup.piii.mappers.PlayerMapper;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.Player;
+import ar.edu.utn.frc.tup.piii.model.Territory;
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerColor;
+import ar.edu.utn.frc.tup.piii.model.enums.PlayerStatus;
+import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
+import ar.edu.utn.frc.tup.piii.repository.CardRepository;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
+import ar.edu.utn.frc.tup.piii.repository.GameSnapshotRepository;
+import ar.edu.utn.frc.tup.piii.repository.PlayerRepository;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameTerritoryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameSnapshotServiceImplTest {
+
+    @Mock
+    private GameSnapshotRepository gameSnapshotRepository;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private PlayerMapper playerMapper;
+
+    @Mock
+    private GameTerritoryService gameTerritoryService;
+
+    @Mock
+    private GameEventStore gameEventStore;
+
+    @Mock
+    private GameVersionTracker gameVersionTracker;
+
+    @Mock
+    private WorldMap worldMap;
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private GameSnapshotServiceImpl gameSnapshotService;
+
+    private SnapshotCodec snapshotCodec;
+    private GameEntity gameEntity;
+    private PlayerEntity playerEntity;
+
+    @BeforeEach
+    void setUp() {
+        snapshotCodec = new SnapshotCodec();
+        ReflectionTestUtils.setField(snapshotCodec, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(snapshotCodec, "worldMap", worldMap);
+        ReflectionTestUtils.setField(gameSnapshotService, "snapshotCodec", snapshotCodec);
+        ReflectionTestUtils.setField(gameSnapshotService, "turnInterval", 2);
+        ReflectionTestUtils.setField(gameSnapshotService, "retentionMinutes", 60L);
+        ReflectionTestUtils.setField(gameSnapshotService, "pruneIntervalMinutes", 5L);
+
+        playerEntity = new PlayerEntity();
+        playerEntity.setId(10L);
+        gameEntity = new GameEntity();
+        gameEntity.setId(1L);
+        gameEntity.setGameCode("TEST123");
+        gameEntity.setStatus(GameState.NORMAL_PLAY);
+        gameEntity.setCurrentPhase(TurnPhase.ATTACK);
+        gameEntity.setCurrentTurn(3);
+        lenient().when(gameRepository.findById(1L)).thenReturn(Optional.of(gameEntity));
+        lenient().when(gameSnapshotRepository.save(any(GameSnapshotEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void createSnapshot_ShouldCaptureCurrentStateAndSequence() {
+        when(gameEventStore.currentSequence(1L)).thenReturn(12L);
+        when(playerRepository.findByGame(gameEntity)).thenReturn(List.of(playerEntity));
+        when(playerRepository.findArmiesToPlaceByGameId(1L)).thenReturn(List.<Object[]>of(new Object[]{10L, 4}));
+        when(playerMapper.toModel(playerEntity)).thenReturn(Player.builder().id(10L).displayName("Ana")
+                .color(PlayerColor.RED).status(PlayerStatus.ACTIVE).seatOrder(0).armiesToPlace(0).build());
+        when(gameTerritoryService.getAllTerritoriesInGame(1L)).thenReturn(List.of(
+                Territory.builder().id(1L).name("Argentina").ownerId(10L).armies(6).build()));
+
+        GameSnapshotEntity snapshot = gameSnapshotService.createSnapshot(Game.builder().id(1L).build());
+
+        assertThat(snapshot.getEventSequence()).isEqualTo(12L);
+        assertThat(snapshot.getTurnNumber()).isEqualTo(3);
+        assertThat(snapshot.getCreatedBySystem()).isFalse();
+        BoardState board = snapshotCodec.decode(snapshot.getSerializedState());
+        assertThat(board.getPhase()).isEqualTo(TurnPhase.ATTACK);
+        assertThat(board.territory(1L).getArmies()).isEqualTo(6);
+        assertThat(board.player(10L).getArmiesToPlace()).isEqualTo(4);
+    }
+
+    @Test
+    void autoSaveSnapshot_ShouldWaitForTurnInterval() {
+        GameSnapshotEntity last = new GameSnapshotEntity();
+        last.setTurnNumber(2);
+        when(gameSnapshotRepository.findLatestSnapshotByGame(gameEntity)).thenReturn(Optional.of(last));
+
+        gameSnapshotService.autoSaveSnapshot(Game.builder().id(1L).currentTurn(3).build());
+
+        verify(gameSnapshotRepository, never()).save(any());
+    }
+
+    @Test
+    void autoSaveSnapshot_ShouldSnapshotOnlyWhenGameBecomesPaused() {
+        GameSnapshotEntity last = new GameSnapshotEntity();
+        last.setTurnNumber(3);
+        when(gameSnapshotRepository.findLatestSnapshotByGame(gameEntity)).thenReturn(Optional.of(last));
+        when(gameEventStore.currentSequence(1L)).thenReturn(30L);
+        when(gameSnapshotRepository.findOldAutoSnapshots(any())).thenReturn(List.of());
+
+        gameSnapshotService.autoSaveSnapshot(Game.builder().id(1L).currentTurn(3).state(GameState.NORMAL_PLAY).build());
+        gameSnapshotService.autoSaveSnapshot(Game.builder().id(1L).currentTurn(3).state(GameState.PAUSED).build());
+        gameSnapshotService.autoSaveSnapshot(Game.builder().id(1L).currentTurn(3).state(GameState.PAUSED).build());
+
+        ArgumentCaptor<GameSnapshotEntity> saved = ArgumentCaptor.forClass(GameSnapshotEntity.class);
+        verify(gameSnapshotRepository, times(1)).save(saved.capture());
+        assertThat(saved.getValue().getEventSequence()).isEqualTo(30L);
+        assertThat(saved.getValue().getCreatedBySystem()).isTrue();
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void pruneOldAutoSnapshots_ShouldKeepFirstAndLastOfEachGame() {
+        GameSnapshotEntity base = snapshotAt(1L, 0L);
+        GameSnapshotEntity middle = snapshotAt(2L, 40L);
+        GameSnapshotEntity latest = snapshotAt(3L, 80L);
+        when(gameSnapshotRepository.findOldAutoSnapshots(any())).thenReturn(List.of(base, middle, latest));
+        when(gameSnapshotRepository.findByGame(gameEntity)).thenReturn(List.of(base, middle, latest));
+
+        gameSnapshotService.pruneOldAutoSnapshots();
+        gameSnapshotService.pruneOldAutoSnapshots();
+
+        verify(gameSnapshotRepository).deleteAll(List.of(middle));
+        verify(gameSnapshotRepository, times(1)).findOldAutoSnapshots(any());
+    }
+
+    @Test
+    void autoSaveSnapshot_ShouldSkipGamesWithoutBaseSnapshot() {
+        when(gameSnapshotRepository.findLatestSnapshotByGame(gameEntity)).thenReturn(Optional.empty());
+
+        gameSnapshotService.autoSaveSnapshot(Game.builder().id(1L).currentTurn(8).build());
+
+        verify(gameSnapshotRepository, never()).save(any());
+    }
+
+    @Test
+    void restoreFromSnapshot_ShouldWriteStateAndRecordRestore() {
+        BoardState board = new BoardState();
+        board.setGameId(1L);
+        board.setState(GameState.NORMAL_PLAY);
+        board.setPhase(TurnPhase.REINFORCEMENT);
+        board.setTurn(2);
+        board.setCurrentPlayerIndex(0);
+        board.getTerritories().put(1L, new BoardState.TerritoryState(1L, "Argentina", 10L, 3));
+        board.getPlayers().add(new BoardState.PlayerState(10L, "Ana", false, PlayerColor.RED, PlayerStatus.ACTIVE, 0, 5, 1, 3L, new ArrayList<>(List.of(31L))));
+        GameSnapshotEntity stored = new GameSnapshotEntity();
+        stored.setId(7L);
+        stored.setGame(gameEntity);
+        stored.setSerializedState(snapshotCodec.encode(board));
+        when(gameSnapshotRepository.findById(7L)).thenReturn(Optional.of(stored));
+        when(playerRepository.findById(10L)).thenReturn(Optional.of(playerEntity));
+        CardEntity kept = new CardEntity();
+        kept.setId(31L);
+        CardEntity drawnLater = new CardEntity();
+        drawnLater.setId(32L);
+        drawnLater.setOwner(playerEntity);
+        drawnLater.setIsInDeck(false);
+        when(cardRepository.findByOwner(playerEntity)).thenReturn(List.of(drawnLater));
+        when(cardRepository.findAllById(Set.of(31L))).thenReturn(List.of(kept));
+        when(gameEventStore.append(anyLong(), any(GameChange.class))).thenReturn(20L);
+
+        gameSnapshotService.restoreFromSnapshot(1L, 7L);
+
+        verify(gameTerritoryService).assignTerritoryToPlayer(1L, 1L, 10L, 3);
+        assertThat(playerEntity.getArmiesToPlace()).isEqualTo(5);
+        assertThat(kept.getOwner()).isSameAs(playerEntity);
+        assertThat(kept.getIsInDeck()).isFalse();
+        assertThat(drawnLater.getOwner()).isNull();
+        assertThat(drawnLater.getIsInDeck()).isTrue();
+        assertThat(gameEntity.getCurrentTurn()).isEqualTo(2);
+        assertThat(gameEntity.getCurrentPhase()).isEqualTo(TurnPhase.REINFORCEMENT);
+        verify(gameEventStore).append(1L, new GameChange.StateRestored(7L, 2));
+        ArgumentCaptor<GameSnapshotEntity> saved = ArgumentCaptor.forClass(GameSnapshotEntity.class);
+        verify(gameSnapshotRepository).save(saved.capture());
+        assertThat(saved.getValue().getEventSequence()).isEqualTo(20L);
+    }
+
+    private GameSnapshotEntity snapshotAt(Long id, long sequence) {
+        GameSnapshotEntity snapshot = new GameSnapshotEntity();
+        snapshot.setId(id);
+        snapshot.setGame(gameEntity);
+        snapshot.setEventSequence(sequence);
+        return snapshot;
+    }
+
+    @Test
+    void restoreFromSnapshot_ShouldRejectSnapshotOfOtherGame() {
+        GameEntity otherGame = new GameEntity();
+        otherGame.setId(2L);
+        GameSnapshotEntity stored = new GameSnapshotEntity();
+        stored.setGame(otherGame);
+        stored.setSerializedState("{}");
+        when(gameSnapshotRepository.findById(7L)).thenReturn(Optional.of(stored));
+
+        assertThatThrownBy(() -> gameSnapshotService.restoreFromSnapshot(1L, 7L))
+                .isInstanceOf(InvalidGameStateException.class);
+        verifyNoInteractions(gameTerritoryService);
+    }
+}
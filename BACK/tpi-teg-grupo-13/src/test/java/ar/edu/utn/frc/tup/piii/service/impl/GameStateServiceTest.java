@@ -1,19 +1,28 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
+import ar.edu.utn.frc.tup.piii.engine.ChatBuffer;
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
+import ar.edu.utn.frc.tup.piii.engine.TurnAdvancedEvent;
+import ar.edu.utn.frc.tup.piii.engine.TurnConquestStore;
+import ar.edu.utn.frc.tup.piii.engine.VictoryEvaluator;
 import ar.edu.utn.frc.tup.piii.model.Game;
 import ar.edu.utn.frc.tup.piii.model.Player;
 import ar.edu.utn.frc.tup.piii.model.enums.GameState;
 import ar.edu.utn.frc.tup.piii.model.enums.PlayerStatus;
 import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
 import ar.edu.utn.frc.tup.piii.service.interfaces.GameService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStreamService;
+import ar.edu.utn.frc.tup.piii.service.interfaces.IGameEventService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -25,6 +34,27 @@ class GameStateServiceTest {
     @Mock
     private GameService gameService;
 
+    @Mock
+    private GameStreamService gameStreamService;
+
+    @Mock
+    private TurnConquestStore turnConquestStore;
+
+    @Mock
+    private GameRandom gameRandom;
+
+    @Mock
+    private ChatBuffer chatBuffer;
+
+    @Mock
+    private IGameEventService gameEventService;
+
+    @Mock
+    private VictoryEvaluator victoryEvaluator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private GameStateServiceImpl gameStateService;
 
@@ -140,6 +170,38 @@ class GameStateServiceTest {
         // Then
         assertThat(result).isTrue();
         assertThat(game.getState()).isEqualTo(GameState.FINISHED);
+        verify(chatBuffer).evict(game.getId());
+        // Con dos jugadores en pie no hay ganador
+        verify(gameEventService).recordGameFinish(game.getId(), null);
+    }
+
+    @Test
+    void finishGame_WithOnePlayerLeft_ShouldRecordWinner() {
+        // Given
+        game.setState(GameState.NORMAL_PLAY);
+        player1.setStatus(PlayerStatus.ELIMINATED);
+
+        // When
+        gameStateService.finishGame(game);
+
+        // Then
+        verify(gameEventService).recordGameFinish(game.getId(), player2.getId());
+    }
+
+    @Test
+    void finishGame_WithObjectiveCompleted_ShouldRecordObjectiveWinner() {
+        // Given
+        game.setState(GameState.HOSTILITY_ONLY);
+        when(victoryEvaluator.winner(game.getId())).thenReturn(Optional.of(player1.getId()));
+
+        // When
+        boolean result = gameStateService.finishGame(game);
+
+        // Then
+        assertThat(result).isTrue();
+        assertThat(game.getState()).isEqualTo(GameState.FINISHED);
+        verify(gameEventService).recordGameFinish(game.getId(), player1.getId());
+        verify(victoryEvaluator).evict(game.getId());
     }
 
     @Test
@@ -370,6 +432,7 @@ class GameStateServiceTest {
         // Then
         assertThat(result).isTrue();
         assertThat(game.getState()).isEqualTo(GameState.FINISHED);
+        verify(turnConquestStore).evict(game.getId());
     }
 
     @Test
@@ -387,6 +450,20 @@ class GameStateServiceTest {
         assertThat(game.getCurrentPhase()).isEqualTo(TurnPhase.REINFORCEMENT);
     }
 
+    @Test
+    void nextTurn_WhenNextPlayerIsBot_ShouldPublishBotTurnEvent() {
+        // Given
+        game.setState(GameState.NORMAL_PLAY);
+        game.setCurrentPlayerIndex(0);
+        player2.setIsBot(true);
+
+        // When
+        gameStateService.nextTurn(game);
+
+        // Then
+        verify(eventPublisher).publishEvent(new TurnAdvancedEvent(1L, "TEST123", 2L, true));
+    }
+
     @Test
     void nextTurn_WhenLastPlayer_ShouldWrapToFirstAndIncrementTurn() {
         // Given
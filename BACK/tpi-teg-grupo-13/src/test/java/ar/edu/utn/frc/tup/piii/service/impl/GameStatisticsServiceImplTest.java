@@ -0,0 +1,191 @@
+package ar.edu.utn.frc.tup.piii.service.impl;
+
+import ar.edu.utn.frc.tup.piii.dtos.game.GameStatisticsDto;
+import ar.edu.utn.frc.tup.piii.dtos.game.PlayerStatisticsDto;
+import ar.edu.utn.frc.tup.piii.dtos.user.UserStatsDto;
+import ar.edu.utn.frc.tup.piii.entities.GameEventCountEntity;
+import ar.edu.utn.frc.tup.piii.entities.PlayerGameStatsEntity;
+import ar.edu.utn.frc.tup.piii.entities.TurnStatsEntity;
+import ar.edu.utn.frc.tup.piii.entities.UserStatsEntity;
+import ar.edu.utn.frc.tup.piii.model.enums.EventType;
+import ar.edu.utn.frc.tup.piii.repository.GameEventCountRepository;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
+import ar.edu.utn.frc.tup.piii.repository.GameTerritoryRepository;
+import ar.edu.utn.frc.tup.piii.repository.PlayerGameStatsRepository;
+import ar.edu.utn.frc.tup.piii.repository.PlayerRepository;
+import ar.edu.utn.frc.tup.piii.repository.TurnStatsRepository;
+import ar.edu.utn.frc.tup.piii.repository.UserStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameStatisticsServiceImplTest {
+
+    private static final Long GAME_ID = 1L;
+
+    @Mock
+    private GameEventCountRepository gameEventCountRepository;
+
+    @Mock
+    private PlayerGameStatsRepository playerGameStatsRepository;
+
+    @Mock
+    private TurnStatsRepository turnStatsRepository;
+
+    @Mock
+    private UserStatsRepository userStatsRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private GameTerritoryRepository gameTerritoryRepository;
+
+    @InjectMocks
+    private GameStatisticsServiceImpl gameStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(playerRepository.findChatNamesByGameId(GAME_ID)).thenReturn(rows(
+                new Object[]{1L, "ana", null},
+                new Object[]{2L, null, "Bot Sargento"}));
+    }
+
+    @Test
+    void getGameStatistics_ShouldReadCountersWithoutScanningEvents() {
+        LocalDateTime startedAt = LocalDateTime.of(2025, 6, 30, 12, 0);
+        when(gameRepository.findTimelineById(GAME_ID))
+                .thenReturn(rows(new Object[]{7, startedAt, startedAt.plusMinutes(45)}));
+        when(gameTerritoryRepository.countTerritoriesAndArmiesByOwner(GAME_ID)).thenReturn(rows(
+                new Object[]{1L, 30L, 70L},
+                new Object[]{2L, 20L, 41L}));
+        when(gameEventCountRepository.findByGameId(GAME_ID)).thenReturn(List.of(
+                count(EventType.ATTACK_PERFORMED, 9L),
+                count(EventType.TERRITORY_CONQUERED, 4L)));
+        when(playerGameStatsRepository.findByGameId(GAME_ID)).thenReturn(List.of(
+                playerStats(2L, 7, 1),
+                playerStats(1L, 2, 3)));
+
+        GameStatisticsDto result = gameStatisticsService.getGameStatistics(GAME_ID);
+
+        assertThat(result.getTotalTurns()).isEqualTo(7);
+        assertThat(result.getGameDuration()).isEqualTo(Duration.ofMinutes(45));
+        assertThat(result.getTotalAttacks()).isEqualTo(9);
+        assertThat(result.getTerritoriesConquered()).isEqualTo(4);
+        assertThat(result.getPlayerTerritories()).containsEntry("ana", 30).containsEntry("Bot Sargento", 20);
+        assertThat(result.getPlayerArmies()).containsEntry("ana", 70).containsEntry("Bot Sargento", 41);
+        assertThat(result.getMostAggressivePlayer()).isEqualTo("Bot Sargento");
+        assertThat(result.getMostDefensivePlayer()).isEqualTo("ana");
+        assertThat(result.getPlayers()).extracting(PlayerStatisticsDto::getPlayerId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void getGameStatistics_WithoutActivity_ShouldHaveNoLeaders() {
+        when(gameRepository.findTimelineById(GAME_ID)).thenReturn(rows());
+        when(gameTerritoryRepository.countTerritoriesAndArmiesByOwner(GAME_ID)).thenReturn(rows());
+        when(gameEventCountRepository.findByGameId(GAME_ID)).thenReturn(List.of());
+        when(playerGameStatsRepository.findByGameId(GAME_ID)).thenReturn(List.of(playerStats(1L, 0, 0)));
+
+        GameStatisticsDto result = gameStatisticsService.getGameStatistics(GAME_ID);
+
+        assertThat(result.getTotalAttacks()).isZero();
+        assertThat(result.getMostAggressivePlayer()).isNull();
+        assertThat(result.getMostDefensivePlayer()).isNull();
+        assertThat(result.getGameDuration()).isNull();
+    }
+
+    @Test
+    void getTurnStatistics_ShouldReturnCountersOfTheTurn() {
+        TurnStatsEntity turn = new TurnStatsEntity();
+        turn.setGameId(GAME_ID);
+        turn.setTurnNumber(3);
+        turn.setPlayerId(1L);
+        turn.setAttacks(5);
+        turn.setConquests(2);
+        when(turnStatsRepository.findByGameIdAndTurnNumber(GAME_ID, 3)).thenReturn(List.of(turn));
+
+        List<PlayerStatisticsDto> result = gameStatisticsService.getTurnStatistics(GAME_ID, 3);
+
+        assertThat(result).singleElement().satisfies(player -> {
+            assertThat(player.getPlayerName()).isEqualTo("ana");
+            assertThat(player.getTurnNumber()).isEqualTo(3);
+            assertThat(player.getAttacks()).isEqualTo(5);
+            assertThat(player.getConquests()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void countEventsByType_ShouldReadCounterRow() {
+        when(gameEventCountRepository.findByGameIdAndEventType(GAME_ID, EventType.CARDS_TRADED))
+                .thenReturn(Optional.of(count(EventType.CARDS_TRADED, 3L)));
+        when(gameEventCountRepository.findByGameIdAndEventType(GAME_ID, EventType.PLAYER_LEFT))
+                .thenReturn(Optional.empty());
+
+        assertThat(gameStatisticsService.countEventsByType(GAME_ID, EventType.CARDS_TRADED)).isEqualTo(3L);
+        assertThat(gameStatisticsService.countEventsByType(GAME_ID, EventType.PLAYER_LEFT)).isZero();
+    }
+
+    @Test
+    void getUserStats_ShouldComputeWinRate() {
+        UserStatsEntity stats = new UserStatsEntity();
+        stats.setUserId(5L);
+        stats.setGamesPlayed(4);
+        stats.setGamesWon(1);
+        stats.setConquests(12);
+        when(userStatsRepository.findById(5L)).thenReturn(Optional.of(stats));
+
+        UserStatsDto result = gameStatisticsService.getUserStats(5L);
+
+        assertThat(result.getGamesPlayed()).isEqualTo(4);
+        assertThat(result.getWinRate()).isEqualTo(0.25);
+        assertThat(result.getConquests()).isEqualTo(12);
+    }
+
+    @Test
+    void getUserStats_WithoutFinishedGames_ShouldReturnZeros() {
+        when(userStatsRepository.findById(5L)).thenReturn(Optional.empty());
+
+        UserStatsDto result = gameStatisticsService.getUserStats(5L);
+
+        assertThat(result.getUserId()).isEqualTo(5L);
+        assertThat(result.getGamesPlayed()).isZero();
+        assertThat(result.getWinRate()).isZero();
+    }
+
+    private static GameEventCountEntity count(EventType type, Long value) {
+        GameEventCountEntity count = new GameEventCountEntity();
+        count.setGameId(GAME_ID);
+        count.setEventType(type);
+        count.setEventCount(value);
+        return count;
+    }
+
+    private static PlayerGameStatsEntity playerStats(Long playerId, int attacks, int fortifications) {
+        PlayerGameStatsEntity stats = new PlayerGameStatsEntity();
+        stats.setPlayerId(playerId);
+        stats.setGameId(GAME_ID);
+        stats.setAttacks(attacks);
+        stats.setFortifications(fortifications);
+        return stats;
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
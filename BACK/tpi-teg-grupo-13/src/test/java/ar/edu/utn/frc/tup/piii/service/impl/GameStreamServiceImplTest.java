@@ -0,0 +1,88 @@
+package ar.edu.utn.frc.tup.piii.service.impl;
+
+import ar.edu.utn.frc.tup.piii.exceptions.GameNotFoundException;
+import ar.edu.utn.frc.tup.piii.model.Game;
+import ar.edu.utn.frc.tup.piii.model.enums.GameState;
+import ar.edu.utn.frc.tup.piii.model.enums.GameStreamEventType;
+import ar.edu.utn.frc.tup.piii.model.enums.TurnPhase;
+import ar.edu.utn.frc.tup.piii.repository.GameRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameStreamServiceImplTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @InjectMocks
+    private GameStreamServiceImpl gameStreamService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void subscribe_ShouldRegisterEmitterForGame() {
+        when(gameRepository.findIdByGameCode("ABC123")).thenReturn(Optional.of(1L));
+
+        SseEmitter first = gameStreamService.subscribe("ABC123");
+        SseEmitter second = gameStreamService.subscribe("ABC123");
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(gameStreamService.getSubscriberCount(1L)).isEqualTo(2);
+        assertThat(gameStreamService.getSubscriberCount(2L)).isZero();
+    }
+
+    @Test
+    void subscribe_ShouldThrowWhenGameDoesNotExist() {
+        when(gameRepository.findIdByGameCode("NOPE")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> gameStreamService.subscribe("NOPE"))
+                .isInstanceOf(GameNotFoundException.class);
+    }
+
+    @Test
+    void publish_ShouldWaitForCommitWhenTransactionIsActive() {
+        when(gameRepository.findIdByGameCode("ABC123")).thenReturn(Optional.of(1L));
+        gameStreamService.subscribe("ABC123");
+        TransactionSynchronizationManager.initSynchronization();
+
+        gameStreamService.publish(game(), GameStreamEventType.PHASE_CHANGED, null, null);
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+    }
+
+    @Test
+    void publish_ShouldSkipGamesWithoutSubscribers() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        gameStreamService.publish(game(), GameStreamEventType.COMBAT_RESULT, 10L, null);
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    private static Game game() {
+        return Game.builder()
+                .id(1L)
+                .state(GameState.NORMAL_PLAY)
+                .currentPhase(TurnPhase.ATTACK)
+                .currentTurn(3)
+                .build();
+    }
+}
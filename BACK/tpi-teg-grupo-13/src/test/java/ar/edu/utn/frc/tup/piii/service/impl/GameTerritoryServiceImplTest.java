@@ -1,5 +1,12 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
+import ar.edu.utn.frc.tup.piii.engine.GameVersionTracker;
+import ar.edu.utn.frc.tup.piii.engine.TurnConquestStore;
+import ar.edu.utn.frc.tup.piii.engine.HotGame;
+import ar.edu.utn.frc.tup.piii.engine.HotGameStore;
+import ar.edu.utn.frc.tup.piii.engine.OwnershipIndex;
+import ar.edu.utn.frc.tup.piii.engine.ReferenceDataCache;
+import ar.edu.utn.frc.tup.piii.engine.WorldMap;
 import ar.edu.utn.frc.tup.piii.entities.*;
 import ar.edu.utn.frc.tup.piii.exceptions.GameNotFoundException;
 import ar.edu.utn.frc.tup.piii.exceptions.PlayerNotFoundException;
@@ -12,7 +19,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.MockedStatic;
 
 import java.util.*;
 
@@ -27,9 +33,15 @@ class GameTerritoryServiceImplTest {
 
     @Mock private GameTerritoryRepository gameTerritoryRepository;
     @Mock private CountryRepository countryRepository;
+    @Mock private ReferenceDataCache referenceDataCache;
     @Mock private GameRepository gameRepository;
     @Mock private PlayerRepository playerRepository;
     @Mock private PlayerMapper playerMapper;
+    @Mock private WorldMap worldMap;
+    @Mock private OwnershipIndex ownershipIndex;
+    @Mock private HotGameStore hotGameStore;
+    @Mock private GameVersionTracker gameVersionTracker;
+    @Mock private TurnConquestStore turnConquestStore;
 
     private GameEntity game;
     private PlayerEntity player;
@@ -95,7 +107,7 @@ class GameTerritoryServiceImplTest {
     @Test
     void assignTerritoryToPlayer_updatesExisting() {
         when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(countryRepository.findById(100L)).thenReturn(Optional.of(country));
+        when(referenceDataCache.country(100L)).thenReturn(Optional.of(country));
         when(playerRepository.findById(10L)).thenReturn(Optional.of(player));
         when(gameTerritoryRepository.findByGameAndCountry(game, country))
                 .thenReturn(Optional.of(territory));
@@ -103,16 +115,46 @@ class GameTerritoryServiceImplTest {
         service.assignTerritoryToPlayer(1L, 100L, 10L, 7);
 
         verify(gameTerritoryRepository).save(territory);
+        verify(ownershipIndex).setOwner(1L, 100L, 10L);
         assertEquals(7, territory.getArmies());
     }
 
+    @Test
+    void doesPlayerControlContinent_usesOwnershipIndex() {
+        when(ownershipIndex.isIndexed(1L)).thenReturn(true);
+        when(ownershipIndex.controlsContinent(1L, 10L, "Asia")).thenReturn(true);
+
+        assertTrue(service.doesPlayerControlContinent(1L, 10L, "Asia"));
+        verifyNoInteractions(gameTerritoryRepository);
+    }
+
+    @Test
+    void doesPlayerControlContinent_throwsGameNotFound() {
+        when(ownershipIndex.isIndexed(99L)).thenReturn(false);
+        when(gameRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(GameNotFoundException.class,
+                () -> service.doesPlayerControlContinent(99L, 10L, "Asia"));
+        verify(ownershipIndex, never()).controlsContinent(any(), any(), any());
+    }
+
+    @Test
+    void countTerritoriesByOwner_usesOwnershipIndex() {
+        when(ownershipIndex.countTerritories(1L, 10L)).thenReturn(12);
+
+        assertEquals(12, service.countTerritoriesByOwner(1L, 10L));
+    }
+
     @Test
     void assignTerritoryToPlayer_createsNew_whenMissing() {
         when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(countryRepository.findById(100L)).thenReturn(Optional.of(country));
+        when(referenceDataCache.country(100L)).thenReturn(Optional.of(country));
         when(playerRepository.findById(10L)).thenReturn(Optional.of(player));
         when(gameTerritoryRepository.findByGameAndCountry(game, country))
                 .thenReturn(Optional.empty());
+        CountryEntity countryReference = new CountryEntity();
+        countryReference.setId(100L);
+        when(countryRepository.getReferenceById(100L)).thenReturn(countryReference);
 
         service.assignTerritoryToPlayer(1L, 100L, 10L, 2);
 
@@ -122,6 +164,7 @@ class GameTerritoryServiceImplTest {
         var saved = cap.getValue();
         assertEquals(2, saved.getArmies());
         assertEquals(player, saved.getOwner());
+        assertSame(countryReference, saved.getCountry());
     }
 
     @Test
@@ -134,7 +177,7 @@ class GameTerritoryServiceImplTest {
     @Test
     void assignTerritoryToPlayer_throwsCountryNotFound() {
         when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(countryRepository.findById(100L)).thenReturn(Optional.empty());
+        when(referenceDataCache.country(100L)).thenReturn(Optional.empty());
         assertThrows(IllegalArgumentException.class,
                 () -> service.assignTerritoryToPlayer(1L,100L,10L,1));
     }
@@ -142,7 +185,7 @@ class GameTerritoryServiceImplTest {
     @Test
     void assignTerritoryToPlayer_throwsPlayerNotFound() {
         when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(countryRepository.findById(100L)).thenReturn(Optional.of(country));
+        when(referenceDataCache.country(100L)).thenReturn(Optional.of(country));
         when(playerRepository.findById(10L)).thenReturn(Optional.empty());
         assertThrows(PlayerNotFoundException.class,
                 () -> service.assignTerritoryToPlayer(1L,100L,10L,1));
@@ -150,12 +193,12 @@ class GameTerritoryServiceImplTest {
 
     @Test
     void getTerritoryByGameAndCountry_mapsCorrectly() {
-        country.getNeighbors().add(neighCountry);
+        when(worldMap.neighborIdsOf(100L)).thenReturn(Set.of(neighCountry.getId()));
         territory.setArmies(4);
         territory.setOwner(player);
 
         when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(countryRepository.findById(100L)).thenReturn(Optional.of(country));
+        when(referenceDataCache.country(100L)).thenReturn(Optional.of(country));
         when(gameTerritoryRepository.findByGameAndCountry(game, country))
                 .thenReturn(Optional.of(territory));
         Player mapped = new Player();
@@ -170,7 +213,7 @@ class GameTerritoryServiceImplTest {
     @Test
     void getTerritoryByGameAndCountry_returnsNullIfMissing() {
         when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(countryRepository.findById(100L)).thenReturn(Optional.of(country));
+        when(referenceDataCache.country(100L)).thenReturn(Optional.of(country));
         when(gameTerritoryRepository.findByGameAndCountry(game, country))
                 .thenReturn(Optional.empty());
         assertNull(service.getTerritoryByGameAndCountry(1L,100L));
@@ -186,7 +229,7 @@ class GameTerritoryServiceImplTest {
     @Test
     void getTerritoryByGameAndCountry_throwsCountryNotFound() {
         when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(countryRepository.findById(100L)).thenReturn(Optional.empty());
+        when(referenceDataCache.country(100L)).thenReturn(Optional.empty());
         assertThrows(IllegalArgumentException.class,
                 () -> service.getTerritoryByGameAndCountry(1L,100L));
     }
@@ -195,7 +238,7 @@ class GameTerritoryServiceImplTest {
     void addArmiesToTerritory_happyPath() {
         territory.setArmies(2);
         when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(countryRepository.findById(100L)).thenReturn(Optional.of(country));
+        when(referenceDataCache.country(100L)).thenReturn(Optional.of(country));
         when(gameTerritoryRepository.findByGameAndCountry(game, country))
                 .thenReturn(Optional.of(territory));
         service.addArmiesToTerritory(1L,100L,3);
@@ -203,6 +246,42 @@ class GameTerritoryServiceImplTest {
         assertEquals(5, territory.getArmies());
     }
 
+    @Test
+    void addArmiesToTerritory_hotGame_keepsChangeInMemory() {
+        HotGame hotGame = mock(HotGame.class);
+        when(hotGameStore.get(1L)).thenReturn(hotGame);
+        when(worldMap.indexOf(100L)).thenReturn(7);
+        when(hotGame.contains(7)).thenReturn(true);
+
+        service.addArmiesToTerritory(1L, 100L, 3);
+
+        verify(hotGameStore).addArmies(hotGame, 7, 3);
+        verifyNoInteractions(gameTerritoryRepository, gameRepository);
+    }
+
+    @Test
+    void getTerritoryByGameAndCountry_hotGame_readsFromMemory() {
+        HotGame hotGame = mock(HotGame.class);
+        when(hotGameStore.get(1L)).thenReturn(hotGame);
+        when(worldMap.indexOf(100L)).thenReturn(7);
+        when(hotGame.contains(7)).thenReturn(true);
+        when(worldMap.countryIdAt(7)).thenReturn(100L);
+        when(worldMap.countryNameAt(7)).thenReturn("India");
+        when(worldMap.continentOf(7)).thenReturn(2);
+        when(worldMap.continentNameAt(2)).thenReturn("Asia");
+        when(hotGame.ownerAt(7)).thenReturn(10L);
+        when(hotGame.ownerName(eq(10L), any())).thenReturn("player10");
+        when(hotGame.armiesAt(7)).thenReturn(9);
+
+        Territory t = service.getTerritoryByGameAndCountry(1L, 100L);
+
+        assertEquals("India", t.getName());
+        assertEquals("Asia", t.getContinentName());
+        assertEquals("player10", t.getOwnerName());
+        assertEquals(9, t.getArmies());
+        verifyNoInteractions(gameTerritoryRepository, gameRepository);
+    }
+
     @Test
     void addArmiesToTerritory_throwsGameNotFound() {
         when(gameRepository.findById(1L)).thenReturn(Optional.empty());
@@ -213,7 +292,7 @@ class GameTerritoryServiceImplTest {
     @Test
     void addArmiesToTerritory_throwsCountryNotFound() {
         when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(countryRepository.findById(100L)).thenReturn(Optional.empty());
+        when(referenceDataCache.country(100L)).thenReturn(Optional.empty());
         assertThrows(IllegalArgumentException.class,
                 () -> service.addArmiesToTerritory(1L,100L,1));
     }
@@ -221,7 +300,7 @@ class GameTerritoryServiceImplTest {
     @Test
     void addArmiesToTerritory_throwsTerritoryMissing() {
         when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(countryRepository.findById(100L)).thenReturn(Optional.of(country));
+        when(referenceDataCache.country(100L)).thenReturn(Optional.of(country));
         when(gameTerritoryRepository.findByGameAndCountry(game, country))
                 .thenReturn(Optional.empty());
         assertThrows(IllegalArgumentException.class,
@@ -301,18 +380,15 @@ class GameTerritoryServiceImplTest {
     }
 
     @Test
-    void transferTerritoryOwnership_invokesStaticAndSaves() {
+    void transferTerritoryOwnership_registersConquestAndSaves() {
         when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(countryRepository.findById(100L)).thenReturn(Optional.of(country));
+        when(referenceDataCache.country(100L)).thenReturn(Optional.of(country));
         when(playerRepository.findById(10L)).thenReturn(Optional.of(player));
         when(gameTerritoryRepository.findByGameAndCountry(game, country))
                 .thenReturn(Optional.of(territory));
 
-        try (MockedStatic<GameStateServiceImpl> ms =
-                     mockStatic(GameStateServiceImpl.class)) {
-            service.transferTerritoryOwnership(1L,100L,10L,9);
-            ms.verify(() -> GameStateServiceImpl.registerConquest(1L,10L));
-        }
+        service.transferTerritoryOwnership(1L,100L,10L,9);
+        verify(turnConquestStore).registerConquest(1L, 0, 10L);
         verify(gameTerritoryRepository).save(territory);
 
         when(gameRepository.findById(1L)).thenReturn(Optional.empty());
@@ -320,11 +396,11 @@ class GameTerritoryServiceImplTest {
                 () -> service.transferTerritoryOwnership(1L,100L,10L,1));
 
         when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(countryRepository.findById(100L)).thenReturn(Optional.empty());
+        when(referenceDataCache.country(100L)).thenReturn(Optional.empty());
         assertThrows(IllegalArgumentException.class,
                 () -> service.transferTerritoryOwnership(1L,100L,10L,1));
 
-        when(countryRepository.findById(100L)).thenReturn(Optional.of(country));
+        when(referenceDataCache.country(100L)).thenReturn(Optional.of(country));
         when(playerRepository.findById(10L)).thenReturn(Optional.empty());
         assertThrows(PlayerNotFoundException.class,
                 () -> service.transferTerritoryOwnership(1L,100L,10L,1));
@@ -337,25 +413,23 @@ class GameTerritoryServiceImplTest {
     }
 
     @Test
-    void areTerritoriesNeighbors_passThroughRepo() {
-        when(countryRepository.areCountriesNeighbors(1L,2L)).thenReturn(true);
+    void areTerritoriesNeighbors_usesWorldMap() {
+        when(worldMap.areNeighbors(1L,2L)).thenReturn(true);
         assertTrue(service.areTerritoriesNeighbors(1L,2L));
-        when(countryRepository.areCountriesNeighbors(1L,2L)).thenReturn(false);
+        when(worldMap.areNeighbors(1L,2L)).thenReturn(false);
         assertFalse(service.areTerritoriesNeighbors(1L,2L));
+        verifyNoInteractions(referenceDataCache);
     }
 
     @Test
     void getNeighborTerritories_emptyIfCountryMissing() {
-        when(countryRepository.findById(100L)).thenReturn(Optional.empty());
+        when(worldMap.neighborIdsOf(100L)).thenReturn(Set.of());
         assertTrue(service.getNeighborTerritories(1L,100L).isEmpty());
     }
 
     @Test
     void getNeighborTerritories_directAndInverse() {
-        country.getNeighbors().add(neighCountry);
-        when(countryRepository.findById(100L)).thenReturn(Optional.of(country));
-        when(countryRepository.findCountriesThatHaveAsNeighbor(100L))
-                .thenReturn(List.of(neighCountry));
+        when(worldMap.neighborIdsOf(100L)).thenReturn(Set.of(200L));
 
         doReturn(Territory.builder().id(200L).build())
                 .when(service).getTerritoryByGameAndCountry(1L,200L);
@@ -368,7 +442,7 @@ class GameTerritoryServiceImplTest {
     @Test
     void getTerritoryByGameAndCountryName_various() {
         when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(countryRepository.findByName("India")).thenReturn(Optional.of(country));
+        when(referenceDataCache.countryByName("India")).thenReturn(Optional.of(country));
         when(gameTerritoryRepository.findByGameAndCountry(game,country))
                 .thenReturn(Optional.of(territory));
         when(playerMapper.toModel(player)).thenReturn(new Player());
@@ -383,17 +457,15 @@ class GameTerritoryServiceImplTest {
                 () -> service.getTerritoryByGameAndCountryName(1L,"India"));
 
         when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(countryRepository.findByName("India")).thenReturn(Optional.empty());
+        when(referenceDataCache.countryByName("India")).thenReturn(Optional.empty());
         assertThrows(IllegalArgumentException.class,
                 () -> service.getTerritoryByGameAndCountryName(1L,"India"));
     }
 
     @Test
     void getAllAvailableTerritories_buildsDefaultTerritory() {
-        country.getNeighbors().add(neighCountry);
-        when(countryRepository.findAll()).thenReturn(List.of(country));
-        when(countryRepository.findCountriesThatHaveAsNeighbor(100L))
-                .thenReturn(List.of());
+        when(referenceDataCache.countries()).thenReturn(List.of(country));
+        when(worldMap.neighborIdsOf(100L)).thenReturn(Set.of(200L));
 
         var list = service.getAllAvailableTerritories();
         assertEquals(1, list.size());
@@ -1,5 +1,6 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
 import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
 import ar.edu.utn.frc.tup.piii.exceptions.PlayerNotFoundException;
 import ar.edu.utn.frc.tup.piii.model.Game;
@@ -36,6 +37,9 @@ class InitialPlacementServiceImplTest {
     @Mock
     private GameStateService gameStateService;
 
+    @Mock
+    private GameEventStore gameEventStore;
+
     @InjectMocks
     private InitialPlacementServiceImpl initialPlacementService;
 
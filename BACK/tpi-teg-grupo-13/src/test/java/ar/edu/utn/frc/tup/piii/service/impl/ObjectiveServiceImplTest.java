@@ -1,5 +1,8 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
+import ar.edu.utn.frc.tup.piii.engine.GameRandom;
+import ar.edu.utn.frc.tup.piii.engine.ReferenceDataCache;
+import ar.edu.utn.frc.tup.piii.engine.VictoryEvaluator;
 import ar.edu.utn.frc.tup.piii.entities.GameTerritoryEntity;
 import ar.edu.utn.frc.tup.piii.entities.ObjectiveEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
@@ -43,6 +46,15 @@ class ObjectiveServiceImplTest {
     @Mock
     private GameTerritoryService gameTerritoryService;
 
+    @Mock
+    private GameRandom gameRandom;
+
+    @Mock
+    private VictoryEvaluator victoryEvaluator;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private ObjectiveServiceImpl objectiveService;
 
@@ -98,11 +110,12 @@ class ObjectiveServiceImplTest {
         assertThat(saved).isNotNull();
         assertThat(saved.getType()).isEqualTo(ObjectiveType.COMMON);
         verify(objectiveRepository).save(objectiveEntity);
+        verify(referenceDataCache).evictObjectives();
     }
 
     @Test
     void testFindByIdExists() {
-        when(objectiveRepository.findById(1L)).thenReturn(Optional.of(objectiveEntity));
+        when(referenceDataCache.objective(1L)).thenReturn(Optional.of(objectiveEntity));
         when(objectiveMapper.toModel(objectiveEntity)).thenReturn(objective);
 
         Optional<Objective> result = objectiveService.findById(1L);
@@ -113,7 +126,7 @@ class ObjectiveServiceImplTest {
 
     @Test
     void testFindByIdNotExists() {
-        when(objectiveRepository.findById(99L)).thenReturn(Optional.empty());
+        when(referenceDataCache.objective(99L)).thenReturn(Optional.empty());
 
         Optional<Objective> result = objectiveService.findById(99L);
 
@@ -123,14 +136,14 @@ class ObjectiveServiceImplTest {
     @Test
     void testFindByType() {
         List<ObjectiveEntity> entityList = Arrays.asList(objectiveEntity);
-        when(objectiveRepository.findByType(ObjectiveType.COMMON)).thenReturn(entityList);
+        when(referenceDataCache.objectivesByType(ObjectiveType.COMMON)).thenReturn(entityList);
         when(objectiveMapper.toModel(objectiveEntity)).thenReturn(objective);
 
         List<Objective> result = objectiveService.findByType(ObjectiveType.COMMON);
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getType()).isEqualTo(ObjectiveType.COMMON);
-        verify(objectiveRepository).findByType(ObjectiveType.COMMON);
+        verify(referenceDataCache).objectivesByType(ObjectiveType.COMMON);
     }
 
     @Test
@@ -212,49 +225,49 @@ class ObjectiveServiceImplTest {
     @Test
     void testGetCommonObjectives() {
         List<ObjectiveEntity> entities = Arrays.asList(objectiveEntity);
-        when(objectiveRepository.findByType(ObjectiveType.COMMON)).thenReturn(entities);
+        when(referenceDataCache.objectivesByType(ObjectiveType.COMMON)).thenReturn(entities);
         when(objectiveMapper.toModel(objectiveEntity)).thenReturn(objective);
 
         List<Objective> result = objectiveService.getCommonObjectives();
 
         assertThat(result).hasSize(1);
-        verify(objectiveRepository).findByType(ObjectiveType.COMMON);
+        verify(referenceDataCache).objectivesByType(ObjectiveType.COMMON);
     }
 
     @Test
     void testGetOccupationObjectives() {
         List<ObjectiveEntity> entities = Arrays.asList(objectiveEntity);
-        when(objectiveRepository.findByType(ObjectiveType.OCCUPATION)).thenReturn(entities);
+        when(referenceDataCache.objectivesByType(ObjectiveType.OCCUPATION)).thenReturn(entities);
         when(objectiveMapper.toModel(objectiveEntity)).thenReturn(objective);
 
         List<Objective> result = objectiveService.getOccupationObjectives();
 
         assertThat(result).hasSize(1);
-        verify(objectiveRepository).findByType(ObjectiveType.OCCUPATION);
+        verify(referenceDataCache).objectivesByType(ObjectiveType.OCCUPATION);
     }
 
     @Test
     void testGetDestructionObjectives() {
         List<ObjectiveEntity> entities = Arrays.asList(objectiveEntity);
-        when(objectiveRepository.findByType(ObjectiveType.DESTRUCTION)).thenReturn(entities);
+        when(referenceDataCache.objectivesByType(ObjectiveType.DESTRUCTION)).thenReturn(entities);
         when(objectiveMapper.toModel(objectiveEntity)).thenReturn(objective);
 
         List<Objective> result = objectiveService.getDestructionObjectives();
 
         assertThat(result).hasSize(1);
-        verify(objectiveRepository).findByType(ObjectiveType.DESTRUCTION);
+        verify(referenceDataCache).objectivesByType(ObjectiveType.DESTRUCTION);
     }
 
     @Test
     void testFindAll() {
         List<ObjectiveEntity> entities = Arrays.asList(objectiveEntity);
-        when(objectiveRepository.findAll()).thenReturn(entities);
+        when(referenceDataCache.objectives()).thenReturn(entities);
         when(objectiveMapper.toModel(objectiveEntity)).thenReturn(objective);
 
         List<Objective> result = objectiveService.findAll();
 
         assertThat(result).hasSize(1);
-        verify(objectiveRepository).findAll();
+        verify(referenceDataCache).objectives();
     }
 
     @Test
@@ -262,12 +275,13 @@ class ObjectiveServiceImplTest {
         objectiveService.deleteById(1L);
 
         verify(objectiveRepository).deleteById(1L);
+        verify(referenceDataCache).evictObjectives();
     }
 
     @Test
     void testCreateObjectivesForGame() {
         List<ObjectiveEntity> entities = Arrays.asList(objectiveEntity);
-        when(objectiveRepository.findAll()).thenReturn(entities);
+        when(referenceDataCache.objectives()).thenReturn(entities);
         when(objectiveMapper.toModel(objectiveEntity)).thenReturn(objective);
 
         List<Objective> result = objectiveService.createObjectivesForGame(game);
@@ -277,7 +291,7 @@ class ObjectiveServiceImplTest {
 
     @Test
     void testIsObjectiveAchieved() {
-        when(objectiveRepository.findById(1L)).thenReturn(Optional.of(objectiveEntity));
+        when(referenceDataCache.objective(1L)).thenReturn(Optional.of(objectiveEntity));
         when(objectiveMapper.toModel(objectiveEntity)).thenReturn(objective);
         when(playerMapper.toEntity(player)).thenReturn(playerEntity);
         when(gameTerritoryService.countWithMinArmies(playerEntity, 2)).thenReturn(20L);
@@ -289,7 +303,7 @@ class ObjectiveServiceImplTest {
 
     @Test
     void testIsObjectiveAchieved_ObjectiveNotFound() {
-        when(objectiveRepository.findById(999L)).thenReturn(Optional.empty());
+        when(referenceDataCache.objective(999L)).thenReturn(Optional.empty());
 
         boolean result = objectiveService.isObjectiveAchieved(999L, game, player);
 
@@ -300,15 +314,16 @@ class ObjectiveServiceImplTest {
     void testFindWinner() {
         Player playerWithObjective = Player.builder()
                 .id(1L)
+                .status(PlayerStatus.ACTIVE)
                 .objective(objective)
                 .build();
 
         Game gameWithWinner = Game.builder()
+                .id(1L)
                 .players(Arrays.asList(playerWithObjective))
                 .build();
 
-        when(playerMapper.toEntity(playerWithObjective)).thenReturn(playerEntity);
-        when(gameTerritoryService.countWithMinArmies(playerEntity, 2)).thenReturn(20L);
+        when(victoryEvaluator.winner(1L)).thenReturn(Optional.of(1L));
 
         Optional<Player> winner = objectiveService.findWinner(gameWithWinner);
 
@@ -324,25 +339,59 @@ class ObjectiveServiceImplTest {
                 .build();
 
         Game gameWithoutWinner = Game.builder()
+                .id(1L)
                 .players(Arrays.asList(playerWithoutObjective))
                 .build();
 
+        when(victoryEvaluator.winner(1L)).thenReturn(Optional.empty());
+
         Optional<Player> winner = objectiveService.findWinner(gameWithoutWinner);
 
         assertThat(winner).isEmpty();
     }
 
+    @Test
+    void testFindWinner_EliminatedPlayerIsNotWinner() {
+        Player eliminated = Player.builder()
+                .id(1L)
+                .status(PlayerStatus.ELIMINATED)
+                .build();
+
+        Game finishedGame = Game.builder()
+                .id(1L)
+                .players(Arrays.asList(eliminated))
+                .build();
+
+        when(victoryEvaluator.winner(1L)).thenReturn(Optional.of(1L));
+
+        assertThat(objectiveService.findWinner(finishedGame)).isEmpty();
+    }
+
     @Test
     void testGetObjectiveProgress() {
+        player.setObjective(objective);
+        when(victoryEvaluator.progress(1L, 1L)).thenReturn(Optional.of(new VictoryEvaluator.ObjectiveProgress(
+                1L, ObjectiveType.COMMON, 3, false, "Territories: 27/30")));
+
         String progress = objectiveService.getObjectiveProgress(1L, game, player);
 
-        assertThat(progress).isEqualTo("Progress tracking not implemented yet");
+        assertThat(progress).isEqualTo("Territories: 27/30");
+        verifyNoInteractions(referenceDataCache, gameTerritoryService);
+    }
+
+    @Test
+    void testGetObjectiveProgress_NotAssignedObjective() {
+        when(referenceDataCache.objective(2L)).thenReturn(Optional.empty());
+
+        String progress = objectiveService.getObjectiveProgress(2L, game, player);
+
+        assertThat(progress).isEqualTo("Objective not found");
     }
 
     @Test
     void testAssignObjectivesToPlayers() {
         List<ObjectiveEntity> entities = Arrays.asList(objectiveEntity);
-        when(objectiveRepository.findAll()).thenReturn(entities);
+        when(referenceDataCache.objectives()).thenReturn(entities);
         when(objectiveMapper.toModel(objectiveEntity)).thenReturn(objective);
 
         objectiveService.assignObjectivesToPlayers(game);
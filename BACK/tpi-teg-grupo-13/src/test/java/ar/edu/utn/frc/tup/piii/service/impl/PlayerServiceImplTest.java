@@ -1,5 +1,8 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
+import ar.edu.utn.frc.tup.piii.engine.GameVersionTracker;
+import ar.edu.utn.frc.tup.piii.engine.VictoryEvaluator;
 import ar.edu.utn.frc.tup.piii.entities.GameEntity;
 import ar.edu.utn.frc.tup.piii.entities.ObjectiveEntity;
 import ar.edu.utn.frc.tup.piii.entities.PlayerEntity;
@@ -12,6 +15,7 @@ import ar.edu.utn.frc.tup.piii.mappers.UserMapper;
 import ar.edu.utn.frc.tup.piii.model.*;
 import ar.edu.utn.frc.tup.piii.model.enums.*;
 import ar.edu.utn.frc.tup.piii.repository.PlayerRepository;
+import ar.edu.utn.frc.tup.piii.service.interfaces.GameStreamService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,6 +51,18 @@ class PlayerServiceImplTest {
     @Mock
     private ObjectiveMapper objectiveMapper;
 
+    @Mock
+    private GameStreamService gameStreamService;
+
+    @Mock
+    private GameVersionTracker gameVersionTracker;
+
+    @Mock
+    private GameEventStore gameEventStore;
+
+    @Mock
+    private VictoryEvaluator victoryEvaluator;
+
     @InjectMocks
     private PlayerServiceImpl playerService;
 
@@ -328,6 +344,25 @@ class PlayerServiceImplTest {
         assertThat(playerToUpdate.getStatus()).isEqualTo(PlayerStatus.ELIMINATED);
     }
 
+    @Test
+    void eliminatePlayer_ShouldNotifyVictoryEvaluator() {
+        // Given
+        GameEntity game = new GameEntity();
+        game.setId(5L);
+        PlayerEntity playerToUpdate = new PlayerEntity();
+        playerToUpdate.setId(1L);
+        playerToUpdate.setStatus(PlayerStatus.ACTIVE);
+        playerToUpdate.setGame(game);
+
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(playerToUpdate));
+
+        // When
+        playerService.eliminatePlayer(1L);
+
+        // Then
+        verify(victoryEvaluator).playerEliminated(5L, 1L);
+    }
+
     @Test
     void activatePlayer_ShouldUpdatePlayerStatus() {
         // Given
@@ -525,13 +560,7 @@ class PlayerServiceImplTest {
     @Test
     void getArmiesToPlace_WhenPlayerExists_ShouldReturnArmies() {
         // Given
-        PlayerEntity playerWithArmies = new PlayerEntity();
-        playerWithArmies.setArmiesToPlace(7);
-
-        when(playerRepository.findById(1L)).thenReturn(Optional.of(playerWithArmies));
-        when(playerMapper.toModel(playerWithArmies)).thenReturn(
-                Player.builder().armiesToPlace(7).build()
-        );
+        when(playerRepository.findArmiesToPlaceById(1L)).thenReturn(Optional.of(7));
 
         // When
         int result = playerService.getArmiesToPlace(1L);
@@ -543,7 +572,7 @@ class PlayerServiceImplTest {
     @Test
     void getArmiesToPlace_WhenPlayerNotExists_ShouldReturnZero() {
         // Given
-        when(playerRepository.findById(999L)).thenReturn(Optional.empty());
+        when(playerRepository.findArmiesToPlaceById(999L)).thenReturn(Optional.empty());
 
         // When
         int result = playerService.getArmiesToPlace(999L);
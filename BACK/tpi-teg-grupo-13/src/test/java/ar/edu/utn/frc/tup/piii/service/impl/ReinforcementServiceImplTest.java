@@ -1,6 +1,8 @@
 package ar.edu.utn.frc.tup.piii.service.impl;
 
 import ar.edu.utn.frc.tup.piii.dtos.game.ReinforcementStatusDto;
+import ar.edu.utn.frc.tup.piii.engine.GameEventStore;
+import ar.edu.utn.frc.tup.piii.engine.GameVersionTracker;
 import ar.edu.utn.frc.tup.piii.exceptions.InvalidGameStateException;
 import ar.edu.utn.frc.tup.piii.exceptions.PlayerNotFoundException;
 import ar.edu.utn.frc.tup.piii.mappers.CountryMapper;
@@ -41,6 +43,15 @@ class ReinforcementServiceImplTest {
     @Mock
     private CountryMapper countryMapper;
 
+    @Mock
+    private GameStreamService gameStreamService;
+
+    @Mock
+    private GameVersionTracker gameVersionTracker;
+
+    @Mock
+    private GameEventStore gameEventStore;
+
     @InjectMocks
     private ReinforcementServiceImpl reinforcementService;
 
@@ -86,15 +86,15 @@ export class ChatPanelComponent implements OnInit, OnDestroy, AfterViewChecked {
       }
     );
 
-    // Iniciar polling
-    this.chatService.startChatPolling(this.gameCode);
+    // Iniciar el stream del chat
+    this.chatService.startChatStream(this.gameCode);
   }
 
   private cleanupChat() {
     if (this.chatSubscription) {
       this.chatSubscription.unsubscribe();
     }
-    this.chatService.stopChatPolling();
+    this.chatService.stopChatStream();
   }
 
   onSendMessage(messageText: string) {
@@ -1,6 +1,6 @@
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import { Observable, BehaviorSubject, interval, switchMap, takeWhile, catchError, of } from 'rxjs';
+import { Observable, BehaviorSubject } from 'rxjs';
 import { environment } from '../../../../environments/environment';
 import { AuthService } from '../../../core/services/auth.service';
 
@@ -28,7 +28,8 @@ export interface ChatMessageResponseDto {
 export class ChatService {
   private readonly API_URL = `${environment.apiUrl}/games`;
   private messagesSubject = new BehaviorSubject<ChatMessageResponseDto[]>([]);
-  private isPollingActive = false;
+  private chatStream: EventSource | null = null;
+  private lastMessageId: string | null = null;
 
   public messages$ = this.messagesSubject.asObservable();
 
@@ -60,36 +61,50 @@ export class ChatService {
   }
 
   /**
-   * Iniciar polling para mensajes
+   * Iniciar el chat: trae el historial una vez y después recibe los mensajes nuevos
+   * como eventos CHAT_MESSAGE del stream SSE de la partida (sin polling)
    */
-  startChatPolling(gameCode: string): void {
-    if (this.isPollingActive) return;
-
-    this.isPollingActive = true;
-    let lastMessageId: string | null = null;
-
-    interval(2000).pipe( // Polling cada 2 segundos
-      takeWhile(() => this.isPollingActive),
-      switchMap(() => this.getNewMessages(gameCode, lastMessageId || undefined)),
-      catchError(error => {
-        console.error('Error en polling de chat:', error);
-        return of([]);
-      })
-    ).subscribe(newMessages => {
-      if (newMessages.length > 0) {
-        const currentMessages = this.messagesSubject.value;
-        const updatedMessages = [...currentMessages, ...newMessages];
-        this.messagesSubject.next(updatedMessages);
-        lastMessageId = newMessages[newMessages.length - 1].id;
-      }
+  startChatStream(gameCode: string): void {
+    if (this.chatStream) return;
+
+    this.lastMessageId = null;
+    const source = new EventSource(`${this.API_URL}/${gameCode}/stream`);
+    this.chatStream = source;
+
+    source.addEventListener('CHAT_MESSAGE', (event: MessageEvent) => {
+      const message: ChatMessageResponseDto = JSON.parse(event.data).payload;
+      this.appendMessages([message]);
     });
+    // Al abrir (y al reconectarse) se piden los mensajes que se hayan perdido mientras tanto
+    source.onopen = () => this.fetchMissedMessages(gameCode);
   }
 
   /**
-   * Detener polling
+   * Detener el stream del chat
    */
-  stopChatPolling(): void {
-    this.isPollingActive = false;
+  stopChatStream(): void {
+    this.chatStream?.close();
+    this.chatStream = null;
+  }
+
+  private fetchMissedMessages(gameCode: string): void {
+    this.getNewMessages(gameCode, this.lastMessageId || undefined).subscribe({
+      next: messages => this.appendMessages(messages),
+      error: error => console.error('Error al obtener mensajes de chat:', error)
+    });
+  }
+
+  // Un mensaje puede llegar por el stream y por la consulta de reconexión: se descartan repetidos
+  private appendMessages(messages: ChatMessageResponseDto[]): void {
+    const currentMessages = this.messagesSubject.value;
+    const knownIds = new Set(currentMessages.map(message => String(message.id)));
+    const newMessages = messages.filter(message => !knownIds.has(String(message.id)));
+    if (newMessages.length === 0) return;
+
+    const updatedMessages = [...currentMessages, ...newMessages]
+      .sort((a, b) => Number(a.id) - Number(b.id));
+    this.messagesSubject.next(updatedMessages);
+    this.lastMessageId = String(updatedMessages[updatedMessages.length - 1].id);
   }
 
   /**
@@ -12,12 +12,12 @@ import {PlayerColor} from '../../../../core/enums/player-color';
 import {GameMapComponent} from '../game-map/game-map.component';
 import {ChatPanelComponent} from '../../../chat/components/chat-panel/chat-panel.component';
 import {GamePlayService, GameResponseDto, GameState, PlayerResponseDto} from '../../services/game.play.service';
-import {firstValueFrom, interval, Subscription} from 'rxjs';
+import {firstValueFrom, interval, merge, Subscription} from 'rxjs';
 import {InitialPlacementModalComponent} from '../initial-placement-modal/initial-placement-modal.component';
 import {AttackModalComponent} from '../attack-modal/attack-modal.component';
 import {Territory} from '../../../../core/models/interfaces/map';
 import {FortifyFormComponent} from '../fortify-form/fortify-form.component';
-import {switchMap} from 'rxjs/operators';
+import {debounceTime, switchMap} from 'rxjs/operators';
 import {TurnPhase} from '../../../../core/enums/turn-phase';
 import { PlayerCardsPanelComponent } from '../cards/player-cards-panel/player-cards-panel.component';
 
@@ -240,36 +240,62 @@ export class GameScreenComponent implements OnInit , OnDestroy {
   ) {
   }
 
-  private startPolling() {
-    const pollSub = interval(5000) // Actualizar cada 5 segundos
+  /**
+   * Escucha el stream SSE de la partida y recarga el estado solo cuando hay cambios.
+   * Se mantiene un refresco lento como respaldo, y si el stream se cae se vuelve al polling de 5 s.
+   */
+  private startGameStream() {
+    const streamSub = merge(
+      this.gamePlayService.streamGameEvents(this.currentGameCode),
+      interval(30000)
+    )
       .pipe(
+        debounceTime(150), // agrupar ráfagas (ej: combate + conquista + cambio de fase)
         switchMap(() => this.gamePlayService.getGameState(this.currentGameCode))
       )
-      .subscribe(gameState => {
-        if (gameState) {
-          this.gamePlayService.updateGame(gameState);
-          this.updateCurrentPlayerAndGameProperties();
-          console.log('Estos son las propiedades del jugador y maquina de estado actuales:', {
-            'currentPlayerIndex': this.currentPlayerIndex,
-            'currentPlayer': this.currentPlayer,
-            'playerId': this.currentPlayer?.id,
-            'playerName': this.playerName,
-            'currentGameState': this.currentGameState,
-            'currentGamePhase': this.currentGamePhase,
-            'es turno del jugador?' : this.isPlayerTurn()
-          });
-          this.updateInitialPlacementVisibility();
+      .subscribe({
+        next: gameState => this.applyPolledGameState(gameState),
+        error: () => {
+          console.warn('Stream de la partida no disponible, se vuelve al polling');
+          this.startPolling();
         }
       });
 
+    this.subscriptions.add(streamSub);
+  }
+
+  private startPolling() {
+    const pollSub = interval(5000) // Actualizar cada 5 segundos
+      .pipe(
+        switchMap(() => this.gamePlayService.getGameState(this.currentGameCode))
+      )
+      .subscribe(gameState => this.applyPolledGameState(gameState));
+
     this.subscriptions.add(pollSub);
   }
 
+  private applyPolledGameState(gameState: GameResponseDto) {
+    if (gameState) {
+      this.gamePlayService.updateGame(gameState);
+      this.updateCurrentPlayerAndGameProperties();
+      console.log('Estos son las propiedades del jugador y maquina de estado actuales:', {
+        'currentPlayerIndex': this.currentPlayerIndex,
+        'currentPlayer': this.currentPlayer,
+        'playerId': this.currentPlayer?.id,
+        'playerName': this.playerName,
+        'currentGameState': this.currentGameState,
+        'currentGamePhase': this.currentGamePhase,
+        'es turno del jugador?' : this.isPlayerTurn()
+      });
+      this.updateInitialPlacementVisibility();
+    }
+  }
+
   ngOnInit() {
     this.initializeGameCode();
     this.loadUserDataAndObjective();
     this.loadInitialGameState();  // 1ª carga
-    this.startPolling();          // refrescar cada X segundos
+    this.startGameStream();       // refrescar cuando el servidor avisa cambios
     this.initializeBotSystem();
 
     this.gamePlayService.gameState$.subscribe(gs => {
@@ -1,7 +1,7 @@
 // game.play.service.ts - Versión Corregida y Simplificada
 import {Injectable, OnDestroy} from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import {BehaviorSubject, Observable, Subscription, map, switchMap} from 'rxjs';
+import {BehaviorSubject, Observable, Subscription, filter, map, switchMap, take, timeout, timer} from 'rxjs';
 import {ChatMessageResponseDto} from '../../chat/services/chat.service';
 import {EventType} from '../../../core/enums/event-type';
 import {CardType} from '../../../core/enums/card-type';
@@ -198,7 +198,10 @@ export class BotManagementService implements OnDestroy {
   // API URLs
   private readonly API_URL = `${environment.apiUrl}/games`;
   private readonly COMBAT_API_URL = `${environment.apiUrl}/games/{gameCode}/combat`;
-  private readonly BOT_API_URL = `${environment.apiUrl}/bots/games`;
+
+  // Seguimiento de turnos de bot (los juega el servidor)
+  private readonly BOT_TURN_POLL_MS = 1500;
+  private readonly BOT_TURN_WATCH_TIMEOUT_MS = 120000;
 
   // State Management - SIMPLIFICADO
   private gameStateSubject = new BehaviorSubject<GameResponseDto | null>(null);
@@ -290,13 +293,10 @@ export class BotManagementService implements OnDestroy {
     this.lastProcessedPlayerIndex = gameState.currentPlayerIndex;
     this.lastProcessedTurn = gameState.currentTurn;
 
-    // Si es bot y estado válido, ejecutar
+    // Si es bot y estado válido, esperar a que el servidor juegue su turno
     if (currentPlayer.isBot && this.isValidStateForBotExecution(gameState.state)) {
-      console.log('🚀 ¡Ejecutando turno de bot!');
-      // Pequeño delay para evitar race conditions
-      setTimeout(() => {
-        this.executeBotTurn(currentPlayer.id, gameState.gameCode);
-      }, 100);
+      console.log('🤖 Turno de bot: lo juega el servidor');
+      this.watchBotTurn(currentPlayer.id, gameState.gameCode);
     } else {
       console.log('👤 Es turno de jugador humano o estado no válido');
     }
@@ -321,109 +321,15 @@ export class BotManagementService implements OnDestroy {
   // ==============================================
 
   /**
-<<<<<<< HEAD
-   * Método principal para manejar turnos de bots
+   * Seguir el turno de un bot. El servidor juega los turnos de bots por su cuenta
+   * (BotTurnScheduler), así que acá no se dispara nada: solo se consulta el estado
+   * hasta que el turno pasa a otro jugador y después se animan los cambios.
    */
-  public handleBotTurnIfNeeded(gameCode: string): void {
-    console.log('🤖 ================================');
-    console.log('🤖 VERIFICANDO TURNO DE BOT');
-    console.log('🤖 ================================');
-    console.log('🤖 GameCode recibido:', gameCode);
-
-    let currentGame: any = null;
-    this.getGameState(gameCode).subscribe({
-      next: (gamaState) =>{
-          currentGame = gamaState;
-      }
-    })
-    console.log('🎮 Estado del juego completo:', currentGame);
-
-    if (!currentGame) {
-      console.log('❌ SALIDA: No hay estado del juego disponible');
-      return;
-    }
-
-    console.log('🎮 Detalles del estado del juego:');
-    console.log('   - gameCode:', currentGame.gameCode);
-    console.log('   - state:', currentGame.state);
-    console.log('   - phase:', currentGame.currentPhase);
-    console.log('   - currentPlayerIndex:', currentGame.currentPlayerIndex);
-    console.log('   - isGameOver:', currentGame.isGameOver);
-    console.log('   - players count:', currentGame.players?.length);
-
-    // if (currentGame.isGameOver) {
-    //   console.log('🏁 SALIDA: El juego ha terminado');
-    //
-    // }
-
-    const currentPlayer = currentGame.players[currentGame.currentPlayerIndex];
-    console.log('👤 Jugador actual completo:', currentPlayer);
-
-    if (!currentPlayer) {
-      console.error('❌ SALIDA: No se encontró el jugador actual');
-      console.error('   - Players array:', currentGame.players);
-      console.error('   - Current index:', currentGame.currentPlayerIndex);
-      return;
-    }
-
-    console.log('👤 Detalles del jugador actual:');
-    console.log('   - id:', currentPlayer.id);
-    console.log('   - displayName:', currentPlayer.displayName);
-    console.log('   - username:', currentPlayer.username);
-    console.log('   - isBot:', currentPlayer.isBot);
-    console.log('   - tipo de isBot:', typeof currentPlayer.isBot);
-
-    console.log('🔍 Verificando validez para ejecución...');
-    console.log('   - Estado del juego:', currentGame.state);
-    console.log('   - Es bot:', currentPlayer.isBot);
-    console.log('   - isProcessingBotTurn:', this.isProcessingBotTurn);
-
-    // Llamar al método de validación
-    const isValidForExecution = this.isValidStateForBotExecution(currentGame.state);
-    console.log('✅ Resultado de validación:', isValidForExecution);
-
-    if (!isValidForExecution) {
-      console.log(`⏸️ SALIDA: No es válido para ejecución`);
-      console.log(`   - Estado: ${currentGame.state}`);
-      console.log(`   - Jugador: ${currentPlayer.displayName}`);
-      console.log(`   - Es bot: ${currentPlayer.isBot}`);
-      return;
-    }
-
-    console.log('🎯 Verificando condiciones finales:');
-    console.log('   - currentPlayer.isBot:', currentPlayer.isBot);
-    console.log('   - !this.isProcessingBotTurn:', !this.isProcessingBotTurn);
-    console.log('   - Ambas condiciones:', currentPlayer.isBot && !this.isProcessingBotTurn);
-
-    if (currentPlayer.isBot && !this.isProcessingBotTurn) {
-      console.log('🚀 ¡¡¡EJECUTANDO TURNO DEL BOT!!!');
-      console.log(`   - Bot ID: ${currentPlayer.id}`);
-      console.log(`   - Bot Name: ${currentPlayer.displayName}`);
-      console.log(`   - Game Code: ${gameCode}`);
-      this.executeBotTurn(currentPlayer.id, gameCode);
-    } else if (!currentPlayer.isBot) {
-      console.log('👤 SALIDA: Es turno de un jugador humano');
-    } else {
-      console.log('⏳ SALIDA: Ya hay un turno de bot procesándose');
-      console.log('   - isProcessingBotTurn:', this.isProcessingBotTurn);
-    }
-
-    console.log('🤖 ================================');
-    console.log('🤖 FIN VERIFICACIÓN');
-    console.log('🤖 ================================');
-  }
-
-  /**
-   * Ejecutar turno del bot
-=======
-   * Ejecutar turno del bot - VERSIÓN MEJORADA
->>>>>>> 11fd8f172274f1c3c1ed3a505e451aa73374e31b
-   */
-  public executeBotTurn(botId: number, gameCode: string): void {
-    console.log('🚀 Ejecutando turno de bot:', { botId, gameCode });
+  public watchBotTurn(botId: number, gameCode: string): void {
+    console.log('👀 Esperando el turno del bot:', { botId, gameCode });
 
     if (this.isProcessingBotTurn) {
-      console.log('⏳ Ya hay un turno de bot en proceso');
+      console.log('⏳ Ya se está siguiendo un turno de bot');
       return;
     }
 
@@ -434,38 +340,39 @@ export class BotManagementService implements OnDestroy {
       this.botTurnSubscription.unsubscribe();
     }
 
-    const url = `${this.BOT_API_URL}/${gameCode}/${botId}/execute-turn`;
-    console.log('📡 Llamando a:', url);
+    const previousState = this.gameStateSubject.value;
+    const botName = previousState?.players.find(p => p.id === botId)?.displayName ?? 'Bot';
+    const startTurn = previousState?.currentTurn ?? null;
 
-    this.botTurnSubscription = this.http.post<GameResponseDto>(url, {}).subscribe({
+    this.botTurnSubscription = timer(this.BOT_TURN_POLL_MS, this.BOT_TURN_POLL_MS).pipe(
+      switchMap(() => this.getGameState(gameCode)),
+      filter(gameResponse => this.isBotTurnOver(gameResponse, botId, startTurn)),
+      take(1),
+      timeout({ first: this.BOT_TURN_WATCH_TIMEOUT_MS })
+    ).subscribe({
       next: async (gameResponse) => {
-        console.log('✅ Turno de bot ejecutado exitosamente');
+        console.log('✅ El bot terminó su turno');
 
         try {
           // Animar cambios si hay estado previo
-          const previousState = this.gameStateSubject.value;
           if (previousState) {
             await this.animateGameChanges(previousState, gameResponse);
           }
 
-          // Mostrar notificación
           this.notificationService.showNotification(
             "success",
-            `Turno de ${gameResponse.players[gameResponse.currentPlayerIndex].displayName} Finalizado`,
+            `Turno de ${botName} Finalizado`,
             "El bot ha ejecutado su turno exitosamente."
           );
-
-          // Actualizar estado con datos frescos del servidor
-          this.refreshGameState(gameCode);
-
         } catch (error) {
           console.error('❌ Error en post-procesamiento:', error);
         } finally {
           this.isProcessingBotTurn = false;
+          this.updateGameState(gameResponse);
         }
       },
       error: (error) => {
-        console.error('❌ Error ejecutando turno del bot:', error);
+        console.error('❌ Error siguiendo el turno del bot:', error);
         this.isProcessingBotTurn = false;
 
         // Intentar recuperar estado
@@ -474,6 +381,17 @@ export class BotManagementService implements OnDestroy {
     });
   }
 
+  /**
+   * El turno del bot terminó si la partida ya no está en juego o el turno pasó a otro jugador
+   */
+  private isBotTurnOver(gameState: GameResponseDto, botId: number, startTurn: number | null): boolean {
+    if (gameState.isGameOver || !this.isValidStateForBotExecution(gameState.state)) {
+      return true;
+    }
+    const currentPlayer = gameState.players[gameState.currentPlayerIndex];
+    return currentPlayer?.id !== botId || (startTurn !== null && gameState.currentTurn !== startTurn);
+  }
+
   /**
    * NUEVA FUNCIÓN para refrescar estado desde servidor
    */
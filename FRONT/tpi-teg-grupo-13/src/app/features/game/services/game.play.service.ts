@@ -106,6 +106,22 @@ export interface ContinentResponseDto {
   controlledCountries: number;
 }
 
+export type GameStreamEventType =
+  'PHASE_CHANGED' | 'COMBAT_RESULT' | 'REINFORCEMENT_PLACED' |
+  'TERRITORY_CONQUERED' | 'PLAYER_ELIMINATED' | 'TURN_ADVANCED';
+
+export interface GameStreamEvent {
+  type: GameStreamEventType;
+  gameId: number;
+  playerId?: number;
+  state?: GameState;
+  phase?: TurnPhase;
+  currentTurn?: number;
+  currentPlayerIndex?: number;
+  payload?: any;
+  timestamp: string;
+}
+
 interface GameEventDto {
   id: number;
   turnNumber: number;
@@ -178,6 +194,29 @@ export class GamePlayService {
     return this.http.get<GameResponseDto>(`${this.API_URL}/${gameCode}`);
   }
 
+  //Stream SSE con los cambios de la partida (reemplaza el polling periódico)
+  public streamGameEvents(gameCode: string): Observable<GameStreamEvent> {
+    return new Observable<GameStreamEvent>(observer => {
+      const source = new EventSource(`${this.API_URL}/${gameCode}/stream`);
+      const eventTypes: GameStreamEventType[] = [
+        'PHASE_CHANGED', 'COMBAT_RESULT', 'REINFORCEMENT_PLACED',
+        'TERRITORY_CONQUERED', 'PLAYER_ELIMINATED', 'TURN_ADVANCED'
+      ];
+
+      eventTypes.forEach(type =>
+        source.addEventListener(type, (event: MessageEvent) => observer.next(JSON.parse(event.data)))
+      );
+      // EventSource reintenta solo; si el servidor cierra la conexión definitivamente se avisa el error
+      source.onerror = () => {
+        if (source.readyState === EventSource.CLOSED) {
+          observer.error(new Error('Game stream closed'));
+        }
+      };
+
+      return () => source.close();
+    });
+  }
+
   // // Ejecutar turno del bot
   // private executeBotTurn(botId: number, gameCode: string): Observable<void> {
   //   this.isProcessingBotTurn = true;